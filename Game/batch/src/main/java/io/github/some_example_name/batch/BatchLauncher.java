@@ -0,0 +1,48 @@
+package io.github.some_example_name.batch;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import io.github.some_example_name.BatchRunner;
+import io.github.some_example_name.Score;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Plays a batch of headless games and writes one line per run to a results file.
+ *
+ * <p>Usage: <code>BatchLauncher [runs] [seconds per run] [seed] [output file] [threads] [bot]</code>.
+ * Every argument is optional; the bot is <code>WANDER</code>, <code>BUS</code> or <code>ALL_EVENTS</code>. Run from the assets folder, which <code>gradlew batch:run</code> does.</p>
+ */
+public class BatchLauncher {
+
+    /**
+     * Run the batch.
+     * @param args Runs, seconds per run, seed, output file, threads and bot, all optional.
+     * @throws IOException If the results file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        float seconds = args.length > 1 ? Float.parseFloat(args[1]) : Score.GAME_LENGTH_SECONDS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        String output = args.length > 3 ? args[3] : "batch-results.csv";
+
+        // Only files are needed: the games load no textures, sounds or fonts.
+        Gdx.files = new HeadlessFiles();
+
+        BatchRunner runner = new BatchRunner(runs, seconds, seed);
+        if (args.length > 4) {
+            runner.setThreads(Integer.parseInt(args[4]));
+        }
+        if (args.length > 5) {
+            runner.setBot(BatchRunner.Bot.valueOf(args[5]));
+        }
+        try (Writer out = Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+            BatchRunner.Summary summary = runner.run(out);
+            System.out.println(summary + " -> " + output);
+        }
+    }
+}
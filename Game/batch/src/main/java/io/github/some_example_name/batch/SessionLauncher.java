@@ -0,0 +1,82 @@
+package io.github.some_example_name.batch;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.Array;
+import io.github.some_example_name.BatchRunner;
+import io.github.some_example_name.GameSession;
+import io.github.some_example_name.HeadlessMapLoader;
+import io.github.some_example_name.SessionHost;
+import io.github.some_example_name.Simulation;
+
+import java.io.File;
+
+/**
+ * Hosts many wandering headless games at once in this JVM, printing how many ticks a
+ * second the host keeps up across all of them. Every game runs in full, events, quiz,
+ * ticket and timer included, until its time is up or the seconds given run out.
+ *
+ * <p>Usage: <code>SessionLauncher [sessions] [seconds per session] [seed] [threads]</code>.
+ * Every argument is optional. Run from the assets folder, which <code>gradlew batch:sessions</code> does.
+ * No libGDX application is started; the map is read straight from disk.</p>
+ */
+public class SessionLauncher {
+    private static final int[] KEYS = {Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D};
+    // Ticks every session plays between steps, one second of game time.
+    private static final int STEP_TICKS = 60;
+
+    /**
+     * Run the sessions.
+     * @param args Sessions, seconds per session, seed and threads, all optional.
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        float seconds = args.length > 1 ? Float.parseFloat(args[1]) : 60f;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        int ticksPerSession = Math.round(seconds / Simulation.DEFAULT_STEP);
+
+        SessionHost host = SessionHost.createHeadless(HeadlessMapLoader.inFolder(new File(".")), threads);
+        // Each player wanders, turning every half second, until its time is up.
+        SessionHost.Controller wander = session -> {
+            long tick = session.getTickCount();
+            if (tick >= ticksPerSession) {
+                return false;
+            }
+            if (tick % BatchRunner.DIRECTION_TICKS == 0) {
+                session.getInput().releaseAll();
+                session.getInput().press(KEYS[session.getRandom().nextInt(KEYS.length)]);
+            }
+            return true;
+        };
+        for (int i = 0; i < count; i++) {
+            host.open(BatchRunner.seedFor(seed, i), wander);
+        }
+
+        long start = System.nanoTime();
+        long ticks = 0;
+        int caught = 0;
+        int timeUp = 0;
+        Array<SessionHost.Session> closed = new Array<>();
+        while (host.getSessionCount() > 0) {
+            host.step(STEP_TICKS);
+            closed.clear();
+            host.closeFinished(closed);
+            for (SessionHost.Session session : closed) {
+                ticks += session.getTickCount();
+                GameSession game = session.getGame();
+                caught += game.getTimesCaughtByDean() + game.getTimesCaughtByPatrol();
+                if (game.getOutcome() == GameSession.Outcome.TIME_UP) {
+                    timeUp++;
+                }
+                if (session.getFailure() != null) {
+                    System.err.println("Session " + session.getId() + " (seed " + session.getSeed() + ") failed: " + session.getFailure());
+                }
+            }
+        }
+        double wall = (System.nanoTime() - start) / 1e9;
+        host.dispose();
+        host.getMap().dispose();
+        System.out.printf("%d sessions on %d threads: %d ticks in %.2f s (%.0f ticks/s, %.1fx real time each), %d catches, %d out of time%n",
+            count, threads, ticks, wall, ticks / wall, ticks * Simulation.DEFAULT_STEP / wall / count, caught, timeUp);
+    }
+}
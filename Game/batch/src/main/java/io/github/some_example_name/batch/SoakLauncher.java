@@ -0,0 +1,32 @@
+package io.github.some_example_name.batch;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import io.github.some_example_name.SoakRunner;
+
+/**
+ * Plays headless games with the autopilot for hours, printing tick time percentiles
+ * and heap growth as it goes.
+ *
+ * <p>Usage: <code>SoakLauncher [hours] [seconds between reports] [seed] [all events]</code>.
+ * Every argument is optional. Run from the assets folder, which <code>gradlew batch:soak</code> does.</p>
+ */
+public class SoakLauncher {
+
+    /**
+     * Run the soak test.
+     * @param args Hours, seconds between reports, seed and whether to visit every event, all optional.
+     */
+    public static void main(String[] args) {
+        double hours = args.length > 0 ? Double.parseDouble(args[0]) : 1.0;
+        double reportSeconds = args.length > 1 ? Double.parseDouble(args[1]) : 60.0;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        boolean allEvents = args.length <= 3 || Boolean.parseBoolean(args[3]);
+
+        // Only files are needed: the simulation loads no textures, sounds or fonts.
+        Gdx.files = new HeadlessFiles();
+
+        System.out.println("Soak test for " + hours + " h, seed " + seed + (allEvents ? ", every event" : ", straight to the bus"));
+        new SoakRunner(seed, allEvents).run(hours * 3600.0, reportSeconds, System.out);
+    }
+}
@@ -0,0 +1,433 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * NEW
+ *
+ * <code>Autopilot</code> plays the game on its own, for soak and performance tests
+ * that have to run for hours without anyone at the keyboard. It walks the player
+ * through a route of waypoints, such as every map event, then the bus ticket, then
+ * the bus, pressing keys on arrival to interact.
+ *
+ * <p>Routes are planned with a {@link DStarLitePlanner} over a grid of where the
+ * player can stand, so walls, water barriers and map bounds are walked around. Each
+ * waypoint is the set of positions from which the player touches it, and the
+ * autopilot heads for the nearest such position it can actually reach, or as close
+ * as the walls allow. The player is steered one axis at a time along the path, which
+ * keeps it off wall corners. A waypoint that takes too long, for example because a
+ * dean keeps catching the player, is skipped.</p>
+ *
+ * <p>As the {@link InputSource} of a {@link Simulation} the autopilot attaches to it
+ * and steers once per tick by itself. The windowed game lays it over the keys of its
+ * {@link GameSession}, which start its ticks the same way.</p>
+ */
+public class Autopilot implements InputSource {
+    /** Distance from a path cell, in pixels, at which the player counts as on it. */
+    public static final float ARRIVE_DISTANCE = 1.5f;
+    /** Game seconds allowed to reach one waypoint before it is skipped. */
+    public static final float WAYPOINT_TIMEOUT = 60f;
+
+    // Every key the autopilot ever presses.
+    private static final int[] BOT_KEYS = {
+        Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D, Input.Keys.E, Input.Keys.C
+    };
+
+    /** A place to walk to and the keys to press once there. */
+    private static final class Waypoint {
+        // Name of a rectangle on the "Events" layer to find the place from, or null.
+        final String object;
+        // Player positions that count as being there.
+        final Rectangle positions = new Rectangle();
+        final int[] keys;
+
+        Waypoint(String object, int[] keys) {
+            this.object = object;
+            this.keys = keys;
+        }
+    }
+
+    private final ScriptedInput keys = new ScriptedInput();
+    private final Array<Waypoint> plan = new Array<>();
+    private final Array<Waypoint> route = new Array<>();
+    private final IntArray path = new IntArray();
+    private final IntArray queue = new IntArray();
+    private final Vector2 lastPosition = new Vector2();
+    private Simulation simulation;
+    private NavigationGrid grid;
+    private DStarLitePlanner planner;
+    // Which connected region of the grid each cell is in, or -1 if blocked.
+    private int[] regions;
+
+    private int current;
+    private int target = -1;
+    private int pathStep;
+    private int plannedFrom = -1;
+    private int interactStep = -1;
+    private float waypointTime;
+    private int reached;
+    private int skipped;
+
+    /** Constructor for an <code>Autopilot</code> with an empty route. */
+    public Autopilot() {
+    }
+
+    /**
+     * Build an autopilot that plays a whole game: optionally every event first, then
+     * the bus ticket, then the bus.
+     *
+     * @param allEvents True to visit every event on the way, including the water.
+     * @return Autopilot with its route set.
+     */
+    public static Autopilot playGame(boolean allEvents) {
+        Autopilot autopilot = new Autopilot();
+        if (allEvents) {
+            // Events that are not map objects, at the spots they are spawned.
+            for (EventDefinition event : EventDefinition.ALL) {
+                autopilot.addWaypoint(event.getSpawnX(), event.getSpawnY(), Input.Keys.E);
+            }
+            // E opens the quiz and C is the right answer, which freezes the deans.
+            autopilot.addMapWaypoint("Questionnaire", Input.Keys.E, Input.Keys.C);
+            autopilot.addMapWaypoint("Materials", Input.Keys.E);
+            autopilot.addMapWaypoint("Water1");
+        }
+        autopilot.addMapWaypoint("BusTicket", Input.Keys.E);
+        autopilot.addMapWaypoint("Bus", Input.Keys.E);
+        return autopilot;
+    }
+
+    /**
+     * Add a point to the end of the route. The player counts as there within half a
+     * tile of it, which is close enough for every event the game spawns at a point.
+     * @param x World x position to walk to.
+     * @param y World y position to walk to.
+     * @param interactKeys Keys to press one after another on arrival.
+     */
+    public void addWaypoint(float x, float y, int... interactKeys) {
+        Waypoint waypoint = new Waypoint(null, interactKeys);
+        setPoint(waypoint, x, y);
+        plan.add(waypoint);
+    }
+
+    /**
+     * Add an object on the map's "Events" layer to the route, found when the autopilot
+     * attaches to a simulation. The player counts as there once touching a rectangle, or
+     * within half a tile of a point. Objects missing from the map are left out, so older
+     * maps still work.
+     * @param name Name of the object.
+     * @param interactKeys Keys to press one after another on arrival.
+     */
+    public void addMapWaypoint(String name, int... interactKeys) {
+        plan.add(new Waypoint(name, interactKeys));
+    }
+
+    /**
+     * Start steering the player of a simulation from the beginning of the route. Works
+     * out where the player can stand, so it costs a pass over the map.
+     * @param simulation World whose player to steer.
+     */
+    public void attach(Simulation simulation) {
+        this.simulation = simulation;
+        grid = walkableGrid(simulation);
+        planner = new DStarLitePlanner(grid);
+        regions = findRegions(grid, queue);
+
+        route.clear();
+        MapLayer events = simulation.getTiledMap().getLayers().get("Events");
+        for (Waypoint waypoint : plan) {
+            if (waypoint.object == null) {
+                route.add(waypoint);
+                continue;
+            }
+            MapObject object = events == null ? null : events.getObjects().get(waypoint.object);
+            if (object instanceof RectangleMapObject) {
+                Rectangle area = ((RectangleMapObject) object).getRectangle();
+                if (area.width > 0 && area.height > 0) {
+                    // Any position where the player's square overlaps the area, kept a little inside.
+                    waypoint.positions.set(area.x - Player.SIZE + 2, area.y - Player.SIZE + 2,
+                        area.width + Player.SIZE - 4, area.height + Player.SIZE - 4);
+                } else {
+                    setPoint(waypoint, area.x, area.y);
+                }
+                route.add(waypoint);
+            }
+        }
+
+        current = 0;
+        reached = 0;
+        skipped = 0;
+        startWaypoint();
+        lastPosition.set(simulation.getPlayer().getPosition());
+    }
+
+    /** @return True once every waypoint has been reached or skipped. */
+    public boolean isRouteFinished() {
+        return simulation != null && current >= route.size;
+    }
+
+    /** @return Number of waypoints reached. */
+    public int getReachedCount() {
+        return reached;
+    }
+
+    /** @return Number of waypoints given up on. */
+    public int getSkippedCount() {
+        return skipped;
+    }
+
+    /** @return Number of waypoints on the route, once attached. */
+    public int getWaypointCount() {
+        return route.size;
+    }
+
+    /**
+     * Decide which key to hold for the next tick or frame. A key that stays down from
+     * one update to the next is held rather than pressed again. Does nothing until attached.
+     * @param delta Game seconds since the last update.
+     */
+    public void update(float delta) {
+        int hold = chooseKey(delta);
+        for (int key : BOT_KEYS) {
+            if (key != hold) keys.release(key);
+        }
+        if (hold >= 0) keys.press(hold);
+    }
+
+    @Override
+    public void beginTick(Simulation simulation) {
+        if (simulation != this.simulation) {
+            attach(simulation);
+        }
+        update(Simulation.DEFAULT_STEP);
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        return keys.isKeyPressed(key);
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        return keys.isKeyJustPressed(key);
+    }
+
+    @Override
+    public void endTick() {
+        keys.endTick();
+    }
+
+    /** @return The key to hold now, or -1 for none. */
+    private int chooseKey(float delta) {
+        if (simulation == null || isRouteFinished()) return -1;
+        if (interactStep >= 0) {
+            return interact();
+        }
+
+        waypointTime += delta;
+        if (waypointTime > WAYPOINT_TIMEOUT) {
+            skipped++;
+            nextWaypoint();
+            return -1;
+        }
+
+        Waypoint waypoint = route.get(current);
+        Vector2 position = simulation.getPlayer().getPosition();
+        boolean moved = position.dst2(lastPosition) > NavigationGrid.TILE_SIZE * NavigationGrid.TILE_SIZE;
+        boolean wasThere = waypoint.positions.contains(lastPosition);
+        lastPosition.set(position);
+        if (moved && wasThere) {
+            // Sent away from the waypoint itself, such as by drowning, so whatever is there has gone off.
+            reached++;
+            nextWaypoint();
+            return -1;
+        }
+        if (waypoint.positions.contains(position)) {
+            reached++;
+            interactStep = 0;
+            return interact();
+        }
+
+        // Plan again after being caught or teleported, or at the start of a waypoint.
+        int cell = cellNear(position);
+        if (moved || plannedFrom < 0) {
+            plan(waypoint, cell);
+        }
+        while (pathStep < path.size && isOn(position, path.get(pathStep))) {
+            pathStep++;
+        }
+        if (pathStep < path.size) {
+            int next = path.get(pathStep);
+            return steerTowards(position, grid.worldX(next), grid.worldY(next));
+        }
+        if (target >= 0 && isOn(position, target)) {
+            // As close as the walls allow.
+            reached++;
+            interactStep = 0;
+            return interact();
+        }
+        if (plannedFrom != cell) {
+            plan(waypoint, cell);
+        }
+        return -1;
+    }
+
+    /** Press the waypoint's keys one per update, letting go for an update after each. */
+    private int interact() {
+        int[] interactKeys = route.get(current).keys;
+        int index = interactStep / 2;
+        if (index >= interactKeys.length) {
+            nextWaypoint();
+            return -1;
+        }
+        return interactStep++ % 2 == 0 ? interactKeys[index] : -1;
+    }
+
+    private void nextWaypoint() {
+        current++;
+        startWaypoint();
+    }
+
+    private void startWaypoint() {
+        interactStep = -1;
+        waypointTime = 0f;
+        plannedFrom = -1;
+        target = -1;
+        path.clear();
+    }
+
+    private void plan(Waypoint waypoint, int cell) {
+        plannedFrom = cell;
+        pathStep = 0;
+        path.clear();
+        target = cell < 0 ? -1 : closestReachable(waypoint.positions, cell);
+        if (target < 0) {
+            return;
+        }
+        planner.setAgent(cell);
+        planner.setTarget(target);
+        planner.replan();
+        planner.extractPath(path, grid.getCellCount());
+    }
+
+    /**
+     * Pick the cell in the same region as <code>from</code> that is nearest the waypoint,
+     * breaking ties by how near it is to <code>from</code>.
+     */
+    private int closestReachable(Rectangle positions, int from) {
+        int region = regions[from];
+        float fromX = grid.worldX(from);
+        float fromY = grid.worldY(from);
+        int best = -1;
+        float bestGap = Float.MAX_VALUE;
+        float bestDistance = Float.MAX_VALUE;
+        for (int cell = 0; cell < regions.length; cell++) {
+            if (regions[cell] != region) continue;
+            float x = grid.worldX(cell);
+            float y = grid.worldY(cell);
+            float gapX = Math.max(0, Math.max(positions.x - x, x - (positions.x + positions.width)));
+            float gapY = Math.max(0, Math.max(positions.y - y, y - (positions.y + positions.height)));
+            float gap = gapX * gapX + gapY * gapY;
+            float distance = Vector2.dst2(x, y, fromX, fromY);
+            if (gap < bestGap || (gap == bestGap && distance < bestDistance)) {
+                best = cell;
+                bestGap = gap;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /** The walkable cell the player is standing in, or a walkable one it overlaps. */
+    private int cellNear(Vector2 position) {
+        int cell = grid.cellAt(position.x, position.y);
+        if (cell >= 0 && !grid.isBlocked(cell)) return cell;
+        int x = (int) Math.floor(position.x / NavigationGrid.TILE_SIZE);
+        int y = (int) Math.floor(position.y / NavigationGrid.TILE_SIZE);
+        for (int dy = 0; dy <= 1; dy++) {
+            for (int dx = 0; dx <= 1; dx++) {
+                if (grid.inBounds(x + dx, y + dy) && !grid.isBlocked(x + dx, y + dy)) {
+                    return grid.index(x + dx, y + dy);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int steerTowards(Vector2 position, float x, float y) {
+        float dx = x - position.x;
+        float dy = y - position.y;
+        // One axis at a time, straightening up before turning a corner.
+        if (Math.abs(dx) > ARRIVE_DISTANCE && Math.abs(dx) >= Math.abs(dy)) {
+            return dx > 0 ? Input.Keys.D : Input.Keys.A;
+        } else if (Math.abs(dy) > ARRIVE_DISTANCE) {
+            return dy > 0 ? Input.Keys.W : Input.Keys.S;
+        } else if (Math.abs(dx) > ARRIVE_DISTANCE) {
+            return dx > 0 ? Input.Keys.D : Input.Keys.A;
+        }
+        return -1;
+    }
+
+    private boolean isOn(Vector2 position, int cell) {
+        return Math.abs(grid.worldX(cell) - position.x) <= ARRIVE_DISTANCE
+            && Math.abs(grid.worldY(cell) - position.y) <= ARRIVE_DISTANCE;
+    }
+
+    private static void setPoint(Waypoint waypoint, float x, float y) {
+        float half = NavigationGrid.TILE_SIZE / 2f;
+        waypoint.positions.set(x - half, y - half, 2 * half, 2 * half);
+    }
+
+    /** Grid of the cells the player can stand on exactly, by the world's own collision checks. */
+    private static NavigationGrid walkableGrid(Simulation simulation) {
+        NavigationGrid deanGrid = simulation.getNavigationGrid();
+        int width = deanGrid.getWidth();
+        int height = deanGrid.getHeight();
+        boolean[] blocked = new boolean[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                float worldX = x * NavigationGrid.TILE_SIZE;
+                float worldY = y * NavigationGrid.TILE_SIZE;
+                blocked[y * width + x] = simulation.isCellBlocked(worldX, worldY) || simulation.isBounds(worldX, worldY);
+            }
+        }
+        return new NavigationGrid(width, height, blocked);
+    }
+
+    /** Flood fill the grid's open cells into regions that can reach each other. */
+    private static int[] findRegions(NavigationGrid grid, IntArray queue) {
+        int[] regions = new int[grid.getCellCount()];
+        java.util.Arrays.fill(regions, -1);
+        int region = 0;
+        for (int start = 0; start < regions.length; start++) {
+            if (regions[start] >= 0 || grid.isBlocked(start)) continue;
+            queue.clear();
+            queue.add(start);
+            regions[start] = region;
+            for (int head = 0; head < queue.size; head++) {
+                int cell = queue.get(head);
+                int x = grid.cellX(cell);
+                int y = grid.cellY(cell);
+                visit(grid, regions, queue, x + 1, y, region);
+                visit(grid, regions, queue, x - 1, y, region);
+                visit(grid, regions, queue, x, y + 1, region);
+                visit(grid, regions, queue, x, y - 1, region);
+            }
+            region++;
+        }
+        return regions;
+    }
+
+    private static void visit(NavigationGrid grid, int[] regions, IntArray queue, int x, int y, int region) {
+        if (grid.inBounds(x, y) && !grid.isBlocked(x, y) && regions[grid.index(x, y)] < 0) {
+            regions[grid.index(x, y)] = region;
+            queue.add(grid.index(x, y));
+        }
+    }
+}
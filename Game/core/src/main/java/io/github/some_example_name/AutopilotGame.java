@@ -0,0 +1,116 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
+
+/**
+ * NEW
+ *
+ * <code>AutopilotGame</code> is the full windowed game with nobody at the keyboard.
+ * It goes round every screen in a loop, pressing SPACE to get through the menus and
+ * letting an {@link Autopilot} play each game, and logs frame time percentiles and
+ * heap growth every {@link #REPORT_SECONDS}, so it can be left running for hours.
+ *
+ * <p>The menu keys are laid over the real keyboard in the game's
+ * {@link #getMenuInput() menu input}, so the menus read them exactly as they would a
+ * person's. In a game the autopilot is laid
+ * over the session's {@link InputActions} instead, so it steers once every tick the
+ * same way it does headless. The name screen can only be typed into with the
+ * mouse, so the bot names itself and starts the game directly.</p>
+ */
+public class AutopilotGame extends MyGame {
+    /** Seconds between report lines in the log. */
+    public static final float REPORT_SECONDS = 60f;
+    /** Frames each menu screen stays up before the bot moves on. */
+    public static final int MENU_FRAMES = 60;
+
+    private final boolean allEvents;
+    private final SoakStats stats = new SoakStats();
+    private final ScriptedInput menuKeys = new ScriptedInput();
+    // The bot's menu keys on top of the real keyboard.
+    private final InputSource menuInput = new InputSource() {
+        @Override
+        public boolean isKeyPressed(int key) {
+            return menuKeys.isKeyPressed(key) || InputSource.GDX.isKeyPressed(key);
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int key) {
+            return menuKeys.isKeyJustPressed(key) || InputSource.GDX.isKeyJustPressed(key);
+        }
+    };
+    private final Autopilot autopilot;
+
+    private Screen drivenScreen;
+    private int screenFrames;
+    private int gamesStarted;
+    private float runSeconds;
+    private float sinceReport;
+
+    /**
+     * Constructor for <code>AutopilotGame</code>.
+     * @param allEvents True for the autopilot to visit every event before the bus.
+     */
+    public AutopilotGame(boolean allEvents) {
+        this.allEvents = allEvents;
+        this.autopilot = Autopilot.playGame(allEvents);
+        setMenuInput(menuInput);
+    }
+
+    @Override
+    public void render() {
+        float delta = Gdx.graphics.getDeltaTime();
+        drive(getScreen());
+
+        long start = System.nanoTime();
+        super.render();
+        stats.recordTime(System.nanoTime() - start);
+        menuKeys.endTick();
+
+        runSeconds += delta;
+        sinceReport += delta;
+        if (sinceReport >= REPORT_SECONDS) {
+            sinceReport = 0f;
+            stats.sampleHeap(runSeconds);
+            Gdx.app.log("Autopilot", String.format("%.0f s: %d games; frames %s", runSeconds, gamesStarted, stats));
+        }
+    }
+
+    /** Decide what the bot presses on the current screen this frame. */
+    private void drive(Screen screen) {
+        if (screen != drivenScreen) {
+            drivenScreen = screen;
+            screenFrames = 0;
+            if (screen instanceof GameScreen) {
+                gamesStarted++;
+                autopilot.attach(((GameScreen) screen).getSimulation());
+                ((GameScreen) screen).getActions().setOverlay(autopilot);
+            }
+        }
+        screenFrames++;
+        menuKeys.releaseAll();
+
+        if (screen instanceof GameScreen) {
+            // Go round the route again if the game has not ended by the end of it.
+            if (autopilot.isRouteFinished()) {
+                autopilot.attach(((GameScreen) screen).getSimulation());
+            }
+        } else if (screen instanceof NameScreen) {
+            setPlayerName("Autopilot", "");
+            setScreen(new GameScreen(this));
+        } else if (screen != null && screenFrames % MENU_FRAMES == 0) {
+            menuKeys.press(Input.Keys.SPACE);
+        }
+    }
+
+    /** @return Frame times and heap readings so far. */
+    public SoakStats getStats() {
+        return stats;
+    }
+
+    /** @return True if the autopilot visits every event before the bus. */
+    public boolean isAllEvents() {
+        return allEvents;
+    }
+}
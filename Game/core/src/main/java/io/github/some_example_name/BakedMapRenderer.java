@@ -0,0 +1,134 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+
+import java.nio.IntBuffer;
+
+/**
+ * NEW
+ *
+ * <code>BakedMapRenderer</code> draws a map whose tiles hardly ever change, such as the
+ * maze with its twenty-odd locked layers, without going over every cell of every layer
+ * each frame. Every run of static tile layers is drawn into one {@link FrameBuffer}
+ * texture per chunk the first time the chunk is on screen, and after that a frame is a
+ * single quad for each chunk on screen. Chunks are baked again as described in
+ * {@link ChunkedMapRenderer}.
+ *
+ * <p>Every baked chunk keeps a texture the size of its part of the map, so on a large
+ * map {@link CachedMapRenderer}, which keeps only the tiles' corners, needs far less
+ * memory on the GPU.</p>
+ *
+ * <p>Chunks are baked inside {@link #render()}, which puts back whatever frame buffer
+ * and viewport were bound, so it can draw into another frame buffer such as the paused
+ * frame.</p>
+ */
+public class BakedMapRenderer extends ChunkedMapRenderer {
+    // Baked chunks of each run of layers, made the first time each is baked.
+    private final FrameBuffer[][] chunks;
+    private final Matrix4 bakeProjection = new Matrix4();
+    private final IntBuffer saved = BufferUtils.newIntBuffer(16);
+
+    /**
+     * Constructor for <code>BakedMapRenderer</code>, with chunks of {@link #DEFAULT_CHUNK_TILES} tiles.
+     * @param map Map to draw. It is not disposed by the renderer.
+     */
+    public BakedMapRenderer(TiledMap map) {
+        this(map, DEFAULT_CHUNK_TILES);
+    }
+
+    /**
+     * Constructor for <code>BakedMapRenderer</code>. Nothing is drawn or made on the
+     * GPU until the first {@link #render()}.
+     * @param map Map to draw. It is not disposed by the renderer.
+     * @param chunkTiles Width and height of a chunk in tiles, at least 1.
+     */
+    public BakedMapRenderer(TiledMap map, int chunkTiles) {
+        super(map, chunkTiles);
+        this.chunks = new FrameBuffer[getChunkedPassCount() + getLivePassCount()][chunkColumns * chunkRows];
+    }
+
+    @Override
+    protected void beginBuilding() {
+        // Put back whatever was being drawn into once the chunks are done.
+        saved.clear();
+        Gdx.gl.glGetIntegerv(GL20.GL_FRAMEBUFFER_BINDING, saved);
+        saved.position(4);
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, saved);
+    }
+
+    @Override
+    protected void buildChunk(int pass, int[] layers, int chunk, int column, int row) {
+        int left = chunkLeft(column);
+        int bottom = chunkBottom(row);
+        int width = chunkWidth(column);
+        int height = chunkHeight(row);
+        if (chunks[pass][chunk] == null) {
+            chunks[pass][chunk] = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            chunks[pass][chunk].getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        }
+        chunks[pass][chunk].begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        OrthogonalTiledMapRenderer tiles = getTiles();
+        bakeProjection.setToOrtho2D(left, bottom, width, height);
+        tiles.setView(bakeProjection, left, bottom, width, height);
+        // Keep the chunk's alpha as coverage, so it blends over the layers under it later.
+        tiles.getBatch().setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+            GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        tiles.render(layers);
+        tiles.getBatch().setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    @Override
+    protected void endBuilding() {
+        Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, saved.get(0));
+        Gdx.gl.glViewport(saved.get(4), saved.get(5), saved.get(6), saved.get(7));
+    }
+
+    @Override
+    protected void beginDrawing() {
+        Batch batch = getTiles().getBatch();
+        // Baked chunks hold colours already multiplied by their alpha.
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+    }
+
+    @Override
+    protected void drawChunk(int pass, int chunk, int column, int row) {
+        FrameBuffer baked = chunks[pass][chunk];
+        // Frame buffer textures are upside down, so flip them back.
+        getTiles().getBatch().draw(baked.getColorBufferTexture(), chunkLeft(column), chunkBottom(row),
+            baked.getWidth(), baked.getHeight(), 0, 0, baked.getWidth(), baked.getHeight(), false, true);
+    }
+
+    @Override
+    protected void endDrawing() {
+        Batch batch = getTiles().getBatch();
+        batch.end();
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /** Free every baked chunk. The map is left to its owner. */
+    @Override
+    public void dispose() {
+        for (FrameBuffer[] pass : chunks) {
+            for (int i = 0; i < pass.length; i++) {
+                if (pass[i] != null) {
+                    pass[i].dispose();
+                    pass[i] = null;
+                }
+            }
+        }
+        super.dispose();
+    }
+}
@@ -0,0 +1,318 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NEW
+ *
+ * <code>BatchRunner</code> plays many independent headless {@link GameSession}s in
+ * parallel to answer balance questions, such as how the score is spread or how often
+ * the deans catch the player, without anyone having to play.
+ *
+ * <p>Runs are shared out over a {@link ForkJoinPool}, so idle threads steal runs from
+ * busy ones. Each thread loads the map once and reuses it, since libGDX maps are not
+ * safe to read from several threads. Each run is seeded from the batch seed and its
+ * own number, so a run gives the same result whichever thread plays it.</p>
+ *
+ * <p>Each run is a whole game, with the map events, the quiz, the materials, the
+ * ticket, the bus and the game timer, played by a {@link Bot}: a wandering player that
+ * picks a new direction from its run's generator every {@link #DIRECTION_TICKS} ticks,
+ * or an {@link Autopilot} heading for the bus. A run ends when its game is won or runs
+ * out of time, or after the run time given, as though the player reached the bus then.
+ * It is scored the way the win screen scores it: the time left less the penalties,
+ * then the bonus of every achievement the game earned.</p>
+ *
+ * <p>Results are written as one comma separated line per run as soon as the run
+ * finishes, so lines arrive in whatever order runs finish.</p>
+ */
+public class BatchRunner {
+    /** Header of the results file, naming the columns of {@link Result#toLine()}. */
+    public static final String HEADER =
+        "run,seed,outcome,timeLeft,score,totalScore,penalty,caughtByDean,caughtByPatrol,drowned,eventsFound,achievements";
+    /** Ticks the wandering player keeps to one direction. */
+    public static final int DIRECTION_TICKS = 30;
+    /** Random stream of each run's world that the wandering player's directions come from. */
+    public static final String WANDER_STREAM = "wander";
+
+    private static final int[][] DIRECTIONS = {
+        {Input.Keys.W}, {Input.Keys.S}, {Input.Keys.A}, {Input.Keys.D},
+        {Input.Keys.W, Input.Keys.A}, {Input.Keys.W, Input.Keys.D},
+        {Input.Keys.S, Input.Keys.A}, {Input.Keys.S, Input.Keys.D}
+    };
+
+    /** Who plays each run. */
+    public enum Bot {
+        /** Walks about at random and never heads for the bus. */
+        WANDER,
+        /** Goes straight for the ticket and then the bus. */
+        BUS,
+        /** Visits every event, then the ticket and the bus. */
+        ALL_EVENTS
+    }
+
+    /** Outcome of one run. */
+    public static final class Result {
+        /** Number of the run in its batch. */
+        public final int run;
+        /** Seed the run was played with. */
+        public final long seed;
+        /** How the game stood when the run ended. */
+        public final GameSession.Outcome outcome;
+        /** Whole seconds left on the game timer. */
+        public final int timeLeft;
+        /** Score before achievements. */
+        public final int score;
+        /** Score with the achievements, as on the win screen. */
+        public final int totalScore;
+        /** Points lost to catches and drownings. */
+        public final int penalty;
+        /** Times the chasing dean caught the player. */
+        public final int caughtByDean;
+        /** Times a patrolling dean caught the player. */
+        public final int caughtByPatrol;
+        /** Times the player drowned. */
+        public final int drowned;
+        /** Events of every category the player found. */
+        public final int eventsFound;
+        /** Achievements earned by the run. */
+        public final Array<Achievement> achievements;
+
+        Result(int run, long seed, GameSession.Outcome outcome, int timeLeft, int score, int totalScore, int penalty,
+               int caughtByDean, int caughtByPatrol, int drowned, int eventsFound, Array<Achievement> achievements) {
+            this.run = run;
+            this.seed = seed;
+            this.outcome = outcome;
+            this.timeLeft = timeLeft;
+            this.score = score;
+            this.totalScore = totalScore;
+            this.penalty = penalty;
+            this.caughtByDean = caughtByDean;
+            this.caughtByPatrol = caughtByPatrol;
+            this.drowned = drowned;
+            this.eventsFound = eventsFound;
+            this.achievements = achievements;
+        }
+
+        /** @return The result as a line of the results file, without a line break. */
+        public String toLine() {
+            StringBuilder line = new StringBuilder(96);
+            line.append(run).append(',').append(seed).append(',').append(outcome).append(',')
+                .append(timeLeft).append(',').append(score).append(',').append(totalScore).append(',')
+                .append(penalty).append(',').append(caughtByDean).append(',')
+                .append(caughtByPatrol).append(',').append(drowned).append(',')
+                .append(eventsFound).append(',');
+            for (int i = 0; i < achievements.size; i++) {
+                if (i > 0) line.append(';');
+                line.append(achievements.get(i).name);
+            }
+            return line.toString();
+        }
+    }
+
+    /** Totals for a whole batch. */
+    public static final class Summary {
+        /** Number of runs played. */
+        public final int runs;
+        /** Wall clock time the batch took, in seconds. */
+        public final double seconds;
+        /** Mean score with achievements. */
+        public final double meanScore;
+        /** Share of runs in which any dean caught the player at least once. */
+        public final double caughtShare;
+        /** Share of runs that boarded the bus. */
+        public final double wonShare;
+
+        Summary(int runs, double seconds, double meanScore, double caughtShare, double wonShare) {
+            this.runs = runs;
+            this.seconds = seconds;
+            this.meanScore = meanScore;
+            this.caughtShare = caughtShare;
+            this.wonShare = wonShare;
+        }
+
+        /** @return Runs finished per second of wall clock time. */
+        public double getRunsPerSecond() {
+            return seconds > 0 ? runs / seconds : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d runs in %.2f s (%.1f runs/s), mean score %.1f, caught in %.1f%% of runs, won %.1f%%",
+                runs, seconds, getRunsPerSecond(), meanScore, caughtShare * 100, wonShare * 100);
+        }
+    }
+
+    private final int runs;
+    private final int ticksPerRun;
+    private final long seed;
+    private Bot bot = Bot.WANDER;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private final ThreadLocal<TiledMap> maps =
+        ThreadLocal.withInitial(() -> new HeadlessMapLoader().load(Simulation.MAP_PATH));
+
+    /**
+     * Constructor for <code>BatchRunner</code>.
+     * @param runs Number of runs to play.
+     * @param runSeconds Most game time each run lasts before it is scored, up to {@link Score#GAME_LENGTH_SECONDS}.
+     * @param seed Seed of the batch; every run's seed is worked out from it.
+     */
+    public BatchRunner(int runs, float runSeconds, long seed) {
+        if (runs < 0 || !(runSeconds >= 0f) || runSeconds > Score.GAME_LENGTH_SECONDS) {
+            throw new IllegalArgumentException("Runs must not be negative and run time must fit in a game");
+        }
+        this.runs = runs;
+        this.ticksPerRun = Math.round(runSeconds / Simulation.DEFAULT_STEP);
+        this.seed = seed;
+    }
+
+    /**
+     * Set how many threads play runs at once. Defaults to one per processor.
+     * @param threads Number of threads, at least 1.
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Set who plays each run. Defaults to {@link Bot#WANDER}.
+     * @param bot Player of every run.
+     */
+    public void setBot(Bot bot) {
+        this.bot = bot;
+    }
+
+    /**
+     * Work out the seed of one run, spreading neighbouring run numbers far apart.
+     * @param batchSeed Seed of the batch.
+     * @param run Number of the run.
+     * @return Seed of the run.
+     */
+    public static long seedFor(long batchSeed, int run) {
+        return RandomStreams.seedFor(batchSeed, run);
+    }
+
+    /**
+     * Play every run and write each result to <code>out</code> as it finishes, after
+     * the {@link #HEADER} line. The writer is not closed.
+     *
+     * @param out Where to write the results.
+     * @return Totals for the batch.
+     * @throws IOException If writing fails.
+     */
+    public Summary run(Writer out) throws IOException {
+        out.write(HEADER);
+        out.write('\n');
+        AtomicLong scoreTotal = new AtomicLong();
+        AtomicLong caughtRuns = new AtomicLong();
+        AtomicLong wonRuns = new AtomicLong();
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new RunRange(0, runs, result -> {
+                scoreTotal.addAndGet(result.totalScore);
+                if (result.caughtByDean + result.caughtByPatrol > 0) caughtRuns.incrementAndGet();
+                if (result.outcome == GameSession.Outcome.WON) wonRuns.incrementAndGet();
+                String line = result.toLine();
+                synchronized (out) {
+                    try {
+                        out.write(line);
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        out.flush();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        return new Summary(runs, seconds,
+            runs > 0 ? (double) scoreTotal.get() / runs : 0,
+            runs > 0 ? (double) caughtRuns.get() / runs : 0,
+            runs > 0 ? (double) wonRuns.get() / runs : 0);
+    }
+
+    /**
+     * Play a single run of the batch on the calling thread.
+     * @param run Number of the run.
+     * @return How the run went.
+     */
+    public Result runOne(int run) {
+        long runSeed = seedFor(seed, run);
+        ScriptedInput wanderKeys = new ScriptedInput();
+        InputSource input = bot == Bot.WANDER ? wanderKeys : Autopilot.playGame(bot == Bot.ALL_EVENTS);
+        GameSession game = new GameSession(maps.get(), input, runSeed, false);
+        RandomXS128 wander = game.getRandomStreams().stream(WANDER_STREAM);
+
+        for (int tick = 0; tick < ticksPerRun && game.getOutcome() == GameSession.Outcome.PLAYING; tick++) {
+            if (bot == Bot.WANDER && tick % DIRECTION_TICKS == 0) {
+                wanderKeys.releaseAll();
+                for (int key : DIRECTIONS[wander.nextInt(DIRECTIONS.length)]) {
+                    wanderKeys.press(key);
+                }
+            }
+            game.tick(Simulation.DEFAULT_STEP);
+        }
+
+        Array<Achievement> achievements = game.calculateAchievements();
+        int eventsFound = 0;
+        for (EventCategory category : EventCategory.values()) {
+            eventsFound += game.getChecklist().getCount(category);
+        }
+        Result result = new Result(run, runSeed, game.getOutcome(), (int) game.getTimer().getTimeLeft(),
+            game.calculateFinalScore(), game.calculateTotalScore(achievements), game.calculateTotalPenalty(),
+            game.getTimesCaughtByDean(), game.getTimesCaughtByPatrol(), game.getTimesDrowned(), eventsFound, achievements);
+        game.dispose();
+        return result;
+    }
+
+    /** Receives each result as its run finishes, on the thread that played it. */
+    private interface ResultSink {
+        void accept(Result result);
+    }
+
+    /** Plays a range of runs, splitting it in half until each task is a single run. */
+    private class RunRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final ResultSink sink;
+
+        RunRange(int from, int to, ResultSink sink) {
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    sink.accept(runOne(from));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RunRange(from, middle, sink), new RunRange(middle, to, sink));
+        }
+    }
+}
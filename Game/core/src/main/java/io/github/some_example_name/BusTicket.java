@@ -1,22 +1,29 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 
+import java.nio.ByteBuffer;
+
 /**
- * UNCHANGED
+ * EXTENDED
  *
  * <code> BusTicket </code> represents the ticket used to allow player to board
  * bus and win the game, containing both the actual sprite the user can interact
  * with, and UI elements to represent if the ticket has been picked up or not.
+ *
+ * <p>The ticket is an Ashley entity with a position and a {@link TicketComponent},
+ * found and picked up by {@link TicketSystem}. This class builds the entity and keeps
+ * its sprite.</p>
  */
 public class    BusTicket {
-	private Vector2 position;
+	private final Entity entity = new Entity();
+	private final Vector2 position;
+	private final TicketComponent ticket = new TicketComponent(); // Also controls when it becomes visible
 	private Texture texture;
-	private boolean isCollected;
-	private boolean isDiscovered; // To control when it becomes visible
 
 	/**
      * UNCHANGED
@@ -27,26 +34,48 @@ public class    BusTicket {
 	 * @param y Vertical position in world for ticket sprite.
 	 */
 	public BusTicket(float x, float y) {
-		this.position = new Vector2(x, y);
-		this.texture = new Texture("bus-ticket.png");
-		this.isCollected = false;
-		this.isDiscovered = false;
+		this(x, y, true);
 	}
 
 	/**
-     * UNCHANGED
-	 * Render ticket sprite within given sprite batch.
+     * NEW
+	 * Constructor for <code> BusTicket </code> that can skip loading its sprite, for
+	 * games run without a GPU. A ticket without its sprite draws nothing.
+	 * @param x Horizontal position in world for ticket sprite.
+	 * @param y Vertical position in world for ticket sprite.
+	 * @param withTexture False to skip loading the sprite.
+	 */
+	public BusTicket(float x, float y, boolean withTexture) {
+		PositionComponent positionComponent = new PositionComponent();
+		positionComponent.position.set(x, y);
+		this.position = positionComponent.position;
+		entity.add(positionComponent).add(ticket);
+		this.texture = withTexture ? new Texture("bus-ticket.png") : null;
+	}
+
+	/**
+     * NEW
+	 * Return the ticket's entity, for adding to the engine that runs {@link TicketSystem}.
+	 * @return Entity holding the ticket's position and whether it has been found.
+	 */
+	public Entity getEntity() {
+		return entity;
+	}
+
+	/**
+     * EXTENDED
+	 * Render ticket sprite within given sprite batch, if it has one.
 	 * @param batch SpriteBatch to render world sprite in.
 	 * @see com.badlogic.gdx.graphics.g2d.SpriteBatch SpriteBatch.
 	 */
 	public void render(SpriteBatch batch) {
-		if (isDiscovered && !isCollected) {
+		if (ticket.discovered && !ticket.collected && texture != null) {
 		    batch.draw(texture, position.x, position.y, 16, 16);
 		}
 	}
 
 	/**
-     * UNCHANGED
+     * EXTENDED
 	 * Render ticket collected UI element, to signify the ticket is in user
 	 * inventory.
 	 * @param batch SpriteBatch to render UI sprite in.
@@ -55,7 +84,7 @@ public class    BusTicket {
 	 * @see com.badlogic.gdx.graphics.OrthographicCamera OrthographicCamera
 	 */
 	public void renderAsIcon(SpriteBatch batch, OrthographicCamera camera) {
-		if (isCollected) {
+		if (ticket.collected && texture != null) {
 		    float iconSize = 32f;
 		    float padding = 20f;
 
@@ -87,7 +116,17 @@ public class    BusTicket {
 	 * @return True/False value corresponding to if ticket is collected.
 	 */
 	public boolean isCollected() {
-		return isCollected;
+		return ticket.collected;
+	}
+
+	/**
+     * NEW
+	 * Return whether the player is close enough to pick the ticket up, as of the
+	 * last update of {@link TicketSystem}.
+	 * @return True while the ticket can be picked up.
+	 */
+	public boolean isInReach() {
+		return ticket.inReach;
 	}
 
 	/**
@@ -95,7 +134,8 @@ public class    BusTicket {
 	 * Set ticket collection to true.
 	 */
 	public void collect() {
-		this.isCollected = true;
+		ticket.collected = true;
+		ticket.inReach = false;
 	}
 
 	/**
@@ -103,15 +143,41 @@ public class    BusTicket {
 	 * Set ticket being discovered by player to true.
 	 */
 	public void discover() {
-		this.isDiscovered = true;
+		ticket.discovered = true;
 	}
 
 	/**
-     * UNCHANGED
+     * NEW
+     *
+	 * Write whether the ticket has been found, is in reach and has been picked up to a snapshot.
+	 * @param out Buffer to write to.
+	 */
+	public void writeState(ByteBuffer out) {
+		GameSnapshot.putBoolean(out, ticket.discovered);
+		GameSnapshot.putBoolean(out, ticket.inReach);
+		GameSnapshot.putBoolean(out, ticket.collected);
+	}
+
+	/**
+     * NEW
+     *
+	 * Read back state written by {@link #writeState(ByteBuffer)}.
+	 * @param in Buffer to read from.
+	 */
+	public void readState(ByteBuffer in) {
+		ticket.discovered = GameSnapshot.getBoolean(in);
+		ticket.inReach = GameSnapshot.getBoolean(in);
+		ticket.collected = GameSnapshot.getBoolean(in);
+	}
+
+	/**
+     * EXTENDED
 	 * Dispose ticket sprite texture.Use as part of
 	 * Application dispose method.
 	 */
 	public void dispose() {
-		texture.dispose();
+		if (texture != null) {
+			texture.dispose();
+		}
 	}
 }
@@ -0,0 +1,296 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>CachedMapRenderer</code> draws the static layers of a map from tile corners
+ * kept on the GPU, instead of working every tile out again each frame the way
+ * {@link com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer} does. The
+ * first time a chunk is on screen, the corners of every tile in each run of static
+ * layers are worked out once, the same as that renderer would, and uploaded into a
+ * {@link SpriteCache}. After that a frame is one cached draw call per tileset in each
+ * chunk on screen, and nothing is built on the CPU. Chunks are built again as described
+ * in {@link ChunkedMapRenderer}.
+ *
+ * <p>Unlike {@link BakedMapRenderer} nothing is kept the size of the map, only six
+ * corners for each tile, the two triangles it is drawn as, so memory stays in step with
+ * the number of tiles however large the map is. Four corners and an index buffer would
+ * be smaller, but a cache with indices holds at most 8191 tiles.</p>
+ *
+ * <p>A chunk built again goes on the end of the cache, since a cache cannot be made any
+ * larger where it is. The cache has room for every static tile of the map and a quarter
+ * more, and once that is used up it is made again with only the chunks in use.</p>
+ */
+public class CachedMapRenderer extends ChunkedMapRenderer {
+    // Floats for each corner: position, colour and texture coordinates.
+    private static final int CORNER = 5;
+    private static final int TILE = 4 * CORNER;
+    private static final int SPRITE = 6 * CORNER;
+    // Corners of the two triangles a tile is drawn as, since the cache has no index buffer.
+    private static final int[] TRIANGLES = {0, 1, 2, 2, 3, 0};
+
+    private SpriteCache cache;
+    private int capacity;
+    private int used;
+    // Cache of each run of layers' chunks, or -1, and the layers each run was built from.
+    private final int[][] cacheIds;
+    private final int[][] passLayers;
+    private final float[] corners = new float[TILE];
+    private final float[] vertices = new float[SPRITE];
+
+    /**
+     * Constructor for <code>CachedMapRenderer</code>, with chunks of {@link #DEFAULT_CHUNK_TILES} tiles.
+     * @param map Map to draw. It is not disposed by the renderer.
+     */
+    public CachedMapRenderer(TiledMap map) {
+        this(map, DEFAULT_CHUNK_TILES);
+    }
+
+    /**
+     * Constructor for <code>CachedMapRenderer</code>. Nothing is made on the GPU until
+     * the first {@link #render()}.
+     * @param map Map to draw. It is not disposed by the renderer.
+     * @param chunkTiles Width and height of a chunk in tiles, at least 1.
+     */
+    public CachedMapRenderer(TiledMap map, int chunkTiles) {
+        super(map, chunkTiles);
+        int passes = getChunkedPassCount() + getLivePassCount();
+        this.cacheIds = new int[passes][chunkColumns * chunkRows];
+        this.passLayers = new int[passes][];
+        for (int[] ids : cacheIds) {
+            Arrays.fill(ids, -1);
+        }
+    }
+
+    @Override
+    protected void buildChunk(int pass, int[] layers, int chunk, int column, int row) {
+        passLayers[pass] = layers;
+        int tiles = countTiles(layers, column, row);
+        if (cache == null || used + tiles > capacity) {
+            // Full, so start again with only the chunks still in use.
+            cacheIds[pass][chunk] = -1;
+            remake(tiles);
+        }
+        cacheIds[pass][chunk] = upload(layers, column, row);
+        used += tiles;
+    }
+
+    // Make a larger cache and put every built chunk back into it.
+    private void remake(int extra) {
+        int needed = extra;
+        for (int pass = 0; pass < cacheIds.length; pass++) {
+            for (int chunk = 0; chunk < cacheIds[pass].length; chunk++) {
+                if (cacheIds[pass][chunk] >= 0) {
+                    needed += countTiles(passLayers[pass], chunk % chunkColumns, chunk / chunkColumns);
+                }
+            }
+        }
+        // Always room for the whole map, so a map that never changes is only made once.
+        needed = Math.max(needed, countAllTiles());
+        if (cache != null) {
+            cache.dispose();
+        }
+        capacity = Math.max(64, needed + needed / 4);
+        cache = new SpriteCache(capacity, false);
+        used = 0;
+        for (int pass = 0; pass < cacheIds.length; pass++) {
+            for (int chunk = 0; chunk < cacheIds[pass].length; chunk++) {
+                if (cacheIds[pass][chunk] >= 0) {
+                    int column = chunk % chunkColumns;
+                    int row = chunk / chunkColumns;
+                    cacheIds[pass][chunk] = upload(passLayers[pass], column, row);
+                    used += countTiles(passLayers[pass], column, row);
+                }
+            }
+        }
+    }
+
+    private int countAllTiles() {
+        int count = 0;
+        for (int i = 0; i < map.getLayers().getCount(); i++) {
+            MapLayer mapLayer = map.getLayers().get(i);
+            if (mapLayer instanceof TiledMapTileLayer && isStatic(mapLayer)) {
+                TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+                for (int y = 0; y < layer.getHeight(); y++) {
+                    for (int x = 0; x < layer.getWidth(); x++) {
+                        if (isDrawn(layer.getCell(x, y))) {
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    // Tiles a chunk of a run of layers draws, so hidden layers take no room.
+    private int countTiles(int[] layers, int column, int row) {
+        int count = 0;
+        for (int index : layers) {
+            MapLayer mapLayer = map.getLayers().get(index);
+            if (!(mapLayer instanceof TiledMapTileLayer) || !mapLayer.isVisible()) {
+                continue;
+            }
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+            int right = Math.min(layer.getWidth(), (column + 1) * chunkTiles);
+            int top = Math.min(layer.getHeight(), (row + 1) * chunkTiles);
+            for (int y = row * chunkTiles; y < top; y++) {
+                for (int x = column * chunkTiles; x < right; x++) {
+                    if (isDrawn(layer.getCell(x, y))) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean isDrawn(TiledMapTileLayer.Cell cell) {
+        return cell != null && cell.getTile() != null;
+    }
+
+    // Work out the corners of a chunk's tiles, as OrthogonalTiledMapRenderer does, into a new cache.
+    private int upload(int[] layers, int column, int row) {
+        cache.beginCache();
+        for (int index : layers) {
+            MapLayer mapLayer = map.getLayers().get(index);
+            if (!(mapLayer instanceof TiledMapTileLayer) || !mapLayer.isVisible()) {
+                continue;
+            }
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+            Color tint = layer.getCombinedTintColor();
+            float color = Color.toFloatBits(tint.r, tint.g, tint.b, tint.a * layer.getOpacity());
+            float layerOffsetX = layer.getRenderOffsetX();
+            float layerOffsetY = -layer.getRenderOffsetY();
+            int right = Math.min(layer.getWidth(), (column + 1) * chunkTiles);
+            int top = Math.min(layer.getHeight(), (row + 1) * chunkTiles);
+            for (int y = row * chunkTiles; y < top; y++) {
+                for (int x = column * chunkTiles; x < right; x++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                    if (isDrawn(cell)) {
+                        addTile(cell, x * layer.getTileWidth() + layerOffsetX, y * layer.getTileHeight() + layerOffsetY, color);
+                    }
+                }
+            }
+        }
+        return cache.endCache();
+    }
+
+    private void addTile(TiledMapTileLayer.Cell cell, float x, float y, float color) {
+        tileCorners(cell, x, y, color, corners);
+        for (int i = 0; i < TRIANGLES.length; i++) {
+            System.arraycopy(corners, TRIANGLES[i] * CORNER, vertices, i * CORNER, CORNER);
+        }
+        cache.add(cell.getTile().getTextureRegion().getTexture(), vertices, 0, SPRITE);
+    }
+
+    /**
+     * Work out the corners of a tile the way
+     * {@link com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer} does,
+     * flipped and turned as its cell says.
+     * @param cell Cell holding the tile.
+     * @param x Left of the cell in world units, with the layer's offset.
+     * @param y Bottom of the cell in world units, with the layer's offset.
+     * @param color Packed colour of the layer.
+     * @param out Filled with the bottom left, top left, top right and bottom right
+     * corners, each as position, colour and texture coordinates.
+     */
+    static void tileCorners(TiledMapTileLayer.Cell cell, float x, float y, float color, float[] out) {
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+        float x1 = x + tile.getOffsetX();
+        float y1 = y + tile.getOffsetY();
+        float x2 = x1 + region.getRegionWidth();
+        float y2 = y1 + region.getRegionHeight();
+        setCorner(out, 0, x1, y1, color, region.getU(), region.getV2());
+        setCorner(out, 1, x1, y2, color, region.getU(), region.getV());
+        setCorner(out, 2, x2, y2, color, region.getU2(), region.getV());
+        setCorner(out, 3, x2, y1, color, region.getU2(), region.getV2());
+
+        if (cell.getFlipHorizontally()) {
+            swap(out, 0, 2, 3);
+            swap(out, 1, 3, 3);
+        }
+        if (cell.getFlipVertically()) {
+            swap(out, 0, 2, 4);
+            swap(out, 1, 3, 4);
+        }
+        for (int turn = 0; turn < cell.getRotation(); turn++) {
+            // A quarter turn moves each corner's texture coordinates on to the one before it.
+            for (int coordinate = 3; coordinate <= 4; coordinate++) {
+                float first = out[coordinate];
+                for (int i = 0; i < 3; i++) {
+                    out[i * CORNER + coordinate] = out[(i + 1) * CORNER + coordinate];
+                }
+                out[3 * CORNER + coordinate] = first;
+            }
+        }
+    }
+
+    private static void setCorner(float[] out, int corner, float x, float y, float color, float u, float v) {
+        int i = corner * CORNER;
+        out[i] = x;
+        out[i + 1] = y;
+        out[i + 2] = color;
+        out[i + 3] = u;
+        out[i + 4] = v;
+    }
+
+    // Swap one of the texture coordinates of two corners.
+    private static void swap(float[] out, int a, int b, int coordinate) {
+        float value = out[a * CORNER + coordinate];
+        out[a * CORNER + coordinate] = out[b * CORNER + coordinate];
+        out[b * CORNER + coordinate] = value;
+    }
+
+    @Override
+    protected void beginDrawing() {
+        // Unlike a batch, a sprite cache leaves blending as it finds it.
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+    }
+
+    @Override
+    protected void drawChunk(int pass, int chunk, int column, int row) {
+        cache.draw(cacheIds[pass][chunk]);
+    }
+
+    @Override
+    protected void endDrawing() {
+        cache.end();
+    }
+
+    /** @return Number of tiles the cache has room for, or 0 before anything is built. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** @return Number of tiles in the cache, including those of chunks since built again. */
+    public int getUsed() {
+        return used;
+    }
+
+    /** Free the cache. The map is left to its owner. */
+    @Override
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+        super.dispose();
+    }
+}
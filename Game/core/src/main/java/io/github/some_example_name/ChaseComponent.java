@@ -0,0 +1,37 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>ChaseComponent</code> sends an entity after the player, along a planned path
+ * while it has one and straight at them otherwise.
+ */
+public class ChaseComponent implements Component, Pool.Poolable {
+    /** Player being chased. */
+    public Player target;
+    /** Where the entity goes back to after a catch. */
+    public final Vector2 startPosition = new Vector2();
+    /** Cells of the planned path, one per time step, from {@link CooperativePathfinder}. */
+    public final IntArray path = new IntArray();
+    /** Grid the path's cells belong to. */
+    public NavigationGrid grid;
+    /** Next cell of the path to walk to; the path is finished once it reaches its size. */
+    public int pathIndex;
+    /** How far into waiting on a repeated cell the entity is, in pixels. */
+    public float waitProgress;
+
+    @Override
+    public void reset() {
+        target = null;
+        startPosition.setZero();
+        path.clear();
+        grid = null;
+        pathIndex = 0;
+        waitProgress = 0;
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * NEW
+ *
+ * <code>ChaseSystem</code> moves every entity with a {@link ChaseComponent} after the
+ * player each tick. An entity with a planned path walks along it one cell per time
+ * step; once the path runs out, or the map blocks it, the entity heads straight for
+ * the player and slides along walls it runs into. How far it goes is its
+ * {@link MotionComponent#speed} scaled by the chasing deans' time scale, so freezes
+ * and slows from {@link StatusEffects} apply without changing the speed itself.
+ */
+public class ChaseSystem extends IteratingSystem {
+    /** Priority of the system; the chasing deans move before the patrolling ones. */
+    public static final int PRIORITY = 0;
+
+    private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<MotionComponent> motions = ComponentMapper.getFor(MotionComponent.class);
+    private final ComponentMapper<ChaseComponent> chases = ComponentMapper.getFor(ChaseComponent.class);
+
+    private final GameWorld world;
+    // Reused every update, so moving an entity allocates nothing.
+    private final Vector2 heading = new Vector2();
+
+    /**
+     * Constructor for <code>ChaseSystem</code>.
+     * @param world World the chasers move in, for blocked tiles and status effects.
+     */
+    public ChaseSystem(GameWorld world) {
+        super(Family.all(PositionComponent.class, MotionComponent.class, ChaseComponent.class).get(), PRIORITY);
+        this.world = world;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        chase(positions.get(entity).position, motions.get(entity), chases.get(entity), world, heading);
+    }
+
+    /**
+     * Move one chaser by a tick.
+     * @param position Chaser's position, moved in place.
+     * @param motion Chaser's speed.
+     * @param chase Who the chaser is after and the path it is walking.
+     * @param world World the chaser moves in.
+     * @param heading Vector to work the heading out in, overwritten.
+     */
+    static void chase(Vector2 position, MotionComponent motion, ChaseComponent chase, GameWorld world, Vector2 heading) {
+        float step = step(motion, world);
+        if (followPath(position, chase, world, step)) {
+            return;
+        }
+
+        Vector2 direction = heading.set(chase.target.getPosition()).sub(position);
+        direction.nor();
+
+        float newX = position.x + direction.x * step;
+        float newY = position.y + direction.y * step;
+        if (!world.isCellBlockedForDean(newX, newY)) {
+            position.set(newX, newY);
+        }
+
+        tryMoveDiagonally(position, direction, world, step);
+    }
+
+    /**
+     * Return how far a chaser moves this tick.
+     * @param motion Chaser's speed.
+     * @param world World whose status effects scale it.
+     * @return Distance to move this tick.
+     */
+    static float step(MotionComponent motion, GameWorld world) {
+        StatusEffects effects = world.getStatusEffects();
+        return effects == null ? motion.speed : motion.speed * effects.getTimeScale(StatusEffects.Group.CHASING_DEANS);
+    }
+
+    /**
+     * Drop a chaser's path, so it heads straight for the player until it is given a new one.
+     * @param chase Chaser to drop the path of.
+     */
+    static void clearPath(ChaseComponent chase) {
+        chase.path.clear();
+        chase.pathIndex = 0;
+        chase.waitProgress = 0f;
+    }
+
+    // Slide along whichever axis is free when the straight move was blocked.
+    private static void tryMoveDiagonally(Vector2 position, Vector2 direction, GameWorld world, float step) {
+        float newX = position.x + direction.x * step;
+        if (!world.isCellBlockedForDean(newX, position.y)) {
+            position.x = newX;
+            return;
+        }
+
+        float newY = position.y + direction.y * step;
+        if (!world.isCellBlockedForDean(position.x, newY)) {
+            position.y = newY;
+        }
+    }
+
+    // Move along the planned path by up to one step. False if there is no path left to follow.
+    private static boolean followPath(Vector2 position, ChaseComponent chase, GameWorld world, float step) {
+        while (chase.pathIndex < chase.path.size) {
+            int cell = chase.path.get(chase.pathIndex);
+            float targetX = chase.grid.worldX(cell);
+            float targetY = chase.grid.worldY(cell);
+            float distance = position.dst(targetX, targetY);
+
+            if (distance == 0f) {
+                // Same cell as the previous step: wait roughly as long as crossing a tile takes.
+                if (chase.pathIndex > 0 && chase.path.get(chase.pathIndex - 1) == cell) {
+                    chase.waitProgress += step;
+                    if (chase.waitProgress < NavigationGrid.TILE_SIZE) {
+                        return true;
+                    }
+                    chase.waitProgress = 0f;
+                }
+                chase.pathIndex++;
+                continue;
+            }
+
+            if (distance <= step) {
+                position.set(targetX, targetY);
+                chase.pathIndex++;
+                return true;
+            }
+
+            float newX = position.x + (targetX - position.x) / distance * step;
+            float newY = position.y + (targetY - position.y) / distance * step;
+            if (world.isCellBlockedForDean(newX, newY)) {
+                // The map changed under the path, so wait for the next plan.
+                clearPath(chase);
+                return false;
+            }
+            position.set(newX, newY);
+            return true;
+        }
+        return false;
+    }
+}
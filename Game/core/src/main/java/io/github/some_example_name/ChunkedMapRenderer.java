@@ -0,0 +1,449 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.MapRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * NEW
+ *
+ * <code>ChunkedMapRenderer</code> is the part of {@link BakedMapRenderer} and
+ * {@link CachedMapRenderer} that decides what to draw. The map is cut into square
+ * chunks, and each run of static layers next to each other in the map's order is
+ * built once per chunk, the first time the chunk is on screen. After that a frame only
+ * draws what was built for the chunks on screen. How a chunk is built and drawn is up
+ * to the renderer extending this.
+ *
+ * <p>A chunk is only built again when its tiles change: through
+ * {@link #setCell(TiledMapTileLayer, int, int, TiledMapTileLayer.Cell)}, by
+ * {@link #markDirty(MapLayer, int, int)} after changing a cell directly, or when one of
+ * its layers is shown, hidden or faded. Layers that cannot be built once, such as tile
+ * layers with animated tiles and image layers, are drawn live in between, in their
+ * place in the map's order, the same way {@link OrthogonalTiledMapRenderer} draws them.</p>
+ */
+public abstract class ChunkedMapRenderer implements MapRenderer, Disposable {
+    /** Width and height of a chunk in tiles, unless another size is asked for. */
+    public static final int DEFAULT_CHUNK_TILES = 16;
+
+    // A run of layers next to each other in the map's order, drawn together.
+    private static final class Pass {
+        final int[] layers;
+        final boolean chunked;
+        final boolean[] built;
+        final boolean[] dirty;
+        final boolean[] visible;
+        final float[] opacity;
+
+        Pass(int[] layers, boolean chunked, int chunkCount) {
+            this.layers = layers;
+            this.chunked = chunked;
+            this.built = chunked ? new boolean[chunkCount] : null;
+            this.dirty = chunked ? new boolean[chunkCount] : null;
+            this.visible = new boolean[layers.length];
+            this.opacity = new float[layers.length];
+        }
+    }
+
+    protected final TiledMap map;
+    protected final int tileWidth;
+    protected final int tileHeight;
+    protected final int mapColumns;
+    protected final int mapRows;
+    protected final int chunkTiles;
+    protected final int chunkColumns;
+    protected final int chunkRows;
+    private final Pass[] passes;
+
+    // Draws the layers drawn live, made the first time one is drawn.
+    private OrthogonalTiledMapRenderer tiles;
+    protected final Matrix4 projection = new Matrix4();
+    protected final Rectangle viewBounds = new Rectangle();
+    private final int[] single = new int[1];
+    private int firstVisibleColumn;
+    private int lastVisibleColumn = -1;
+    private int firstVisibleRow;
+    private int lastVisibleRow = -1;
+    private int drawnChunkCount;
+    private int buildCount;
+
+    /**
+     * Constructor for <code>ChunkedMapRenderer</code>. Nothing is drawn or made on the
+     * GPU until the first {@link #render()}.
+     * @param map Map to draw. It is not disposed by the renderer.
+     * @param chunkTiles Width and height of a chunk in tiles, at least 1.
+     */
+    protected ChunkedMapRenderer(TiledMap map, int chunkTiles) {
+        if (chunkTiles < 1) {
+            throw new IllegalArgumentException("Chunks must be at least one tile across");
+        }
+        this.map = map;
+        this.chunkTiles = chunkTiles;
+
+        int width = 0, height = 0, columns = 0, rows = 0;
+        MapLayers layers = map.getLayers();
+        for (int i = 0; i < layers.getCount(); i++) {
+            if (layers.get(i) instanceof TiledMapTileLayer) {
+                TiledMapTileLayer layer = (TiledMapTileLayer) layers.get(i);
+                if (width == 0) {
+                    width = layer.getTileWidth();
+                    height = layer.getTileHeight();
+                }
+                columns = Math.max(columns, layer.getWidth());
+                rows = Math.max(rows, layer.getHeight());
+            }
+        }
+        this.tileWidth = Math.max(width, 1);
+        this.tileHeight = Math.max(height, 1);
+        this.mapColumns = columns;
+        this.mapRows = rows;
+        this.chunkColumns = (columns + chunkTiles - 1) / chunkTiles;
+        this.chunkRows = (rows + chunkTiles - 1) / chunkTiles;
+        this.passes = splitIntoPasses(layers, chunkColumns * chunkRows);
+    }
+
+    // Runs of static layers are drawn by chunk, everything else is drawn live.
+    private static Pass[] splitIntoPasses(MapLayers layers, int chunkCount) {
+        Array<Pass> passes = new Array<>(Pass.class);
+        int start = 0;
+        while (start < layers.getCount()) {
+            boolean chunked = isStatic(layers.get(start));
+            int end = start + 1;
+            while (end < layers.getCount() && isStatic(layers.get(end)) == chunked) {
+                end++;
+            }
+            int[] indices = new int[end - start];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = start + i;
+            }
+            passes.add(new Pass(indices, chunked, chunkCount));
+            start = end;
+        }
+        return passes.toArray();
+    }
+
+    /**
+     * @param layer Any layer of a map.
+     * @return True if the layer looks the same every frame until a cell is changed: a
+     * tile layer with no animated tiles, or an object layer, which draws nothing.
+     */
+    public static boolean isStatic(MapLayer layer) {
+        if (layer.getClass() == MapLayer.class) {
+            return true;
+        }
+        if (!(layer instanceof TiledMapTileLayer)) {
+            return false;
+        }
+        TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+        for (int y = 0; y < tileLayer.getHeight(); y++) {
+            for (int x = 0; x < tileLayer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = tileLayer.getCell(x, y);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Look at the map through a camera, as {@link OrthogonalTiledMapRenderer} does.
+     * @param camera Camera the map is drawn with.
+     */
+    @Override
+    public void setView(OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        // A rotated camera sees more of the map, so take the box around what it sees.
+        float w = width * Math.abs(camera.up.y) + height * Math.abs(camera.up.x);
+        float h = height * Math.abs(camera.up.y) + width * Math.abs(camera.up.x);
+        setView(camera.combined, camera.position.x - w / 2, camera.position.y - h / 2, w, h);
+    }
+
+    /**
+     * Look at part of the map.
+     * @param projectionMatrix Projection the map is drawn with.
+     * @param x Left of the part of the map on screen, in world units.
+     * @param y Bottom of the part of the map on screen.
+     * @param width Width of the part of the map on screen.
+     * @param height Height of the part of the map on screen.
+     */
+    @Override
+    public void setView(Matrix4 projectionMatrix, float x, float y, float width, float height) {
+        projection.set(projectionMatrix);
+        viewBounds.set(x, y, width, height);
+        int chunkWidth = chunkTiles * tileWidth;
+        int chunkHeight = chunkTiles * tileHeight;
+        firstVisibleColumn = Math.max(0, (int) Math.floor(x / chunkWidth));
+        lastVisibleColumn = Math.min(chunkColumns - 1, (int) Math.floor((x + width) / chunkWidth));
+        firstVisibleRow = Math.max(0, (int) Math.floor(y / chunkHeight));
+        lastVisibleRow = Math.min(chunkRows - 1, (int) Math.floor((y + height) / chunkHeight));
+    }
+
+    /** Draw every visible layer, building the chunks on screen that are new or have changed first. */
+    @Override
+    public void render() {
+        for (int i = 0; i < passes.length; i++) {
+            drawPass(i, passes[i].layers);
+        }
+    }
+
+    /**
+     * Draw some of the map's layers. Static layers are drawn along with every other
+     * layer built into the same chunks.
+     * @param layers Indices of the layers to draw, in the order to draw them.
+     */
+    @Override
+    public void render(int[] layers) {
+        for (int i = 0; i < passes.length; i++) {
+            Pass pass = passes[i];
+            for (int layer : layers) {
+                if (layer >= pass.layers[0] && layer <= pass.layers[pass.layers.length - 1]) {
+                    if (pass.chunked) {
+                        drawPass(i, pass.layers);
+                        break;
+                    }
+                    single[0] = layer;
+                    drawPass(i, single);
+                }
+            }
+        }
+    }
+
+    private void drawPass(int index, int[] layers) {
+        Pass pass = passes[index];
+        if (!pass.chunked) {
+            OrthogonalTiledMapRenderer live = getTiles();
+            live.setView(projection, viewBounds.x, viewBounds.y, viewBounds.width, viewBounds.height);
+            live.render(layers);
+            return;
+        }
+        checkLayers(pass);
+
+        boolean building = false;
+        for (int row = firstVisibleRow; row <= lastVisibleRow; row++) {
+            for (int column = firstVisibleColumn; column <= lastVisibleColumn; column++) {
+                int chunk = row * chunkColumns + column;
+                if (pass.built[chunk] && !pass.dirty[chunk]) {
+                    continue;
+                }
+                if (!building) {
+                    beginBuilding();
+                    building = true;
+                }
+                buildChunk(index, pass.layers, chunk, column, row);
+                pass.built[chunk] = true;
+                pass.dirty[chunk] = false;
+                buildCount++;
+            }
+        }
+        if (building) {
+            endBuilding();
+        }
+
+        beginDrawing();
+        for (int row = firstVisibleRow; row <= lastVisibleRow; row++) {
+            for (int column = firstVisibleColumn; column <= lastVisibleColumn; column++) {
+                drawChunk(index, row * chunkColumns + column, column, row);
+                drawnChunkCount++;
+            }
+        }
+        endDrawing();
+    }
+
+    // A layer shown, hidden or faded changes every chunk it is built into.
+    private void checkLayers(Pass pass) {
+        for (int i = 0; i < pass.layers.length; i++) {
+            MapLayer layer = map.getLayers().get(pass.layers[i]);
+            if (layer.isVisible() != pass.visible[i] || layer.getOpacity() != pass.opacity[i]) {
+                pass.visible[i] = layer.isVisible();
+                pass.opacity[i] = layer.getOpacity();
+                markAllDirty(pass);
+            }
+        }
+    }
+
+    /**
+     * @return The renderer drawing the layers that are drawn live, made the first time
+     * it is asked for.
+     */
+    protected OrthogonalTiledMapRenderer getTiles() {
+        if (tiles == null) {
+            tiles = new OrthogonalTiledMapRenderer(map);
+        }
+        return tiles;
+    }
+
+    /** Called before the first chunk built in a frame's run of layers. */
+    protected void beginBuilding() {
+    }
+
+    /**
+     * Build a chunk of a run of static layers, replacing what was built for it before.
+     * @param pass Number of the run of layers, counting from the bottom of the map.
+     * @param layers Indices of the layers in the run, in the order to draw them.
+     * @param chunk Index of the chunk, its row times {@link #getChunkColumns()} plus its column.
+     * @param column Column of the chunk.
+     * @param row Row of the chunk.
+     */
+    protected abstract void buildChunk(int pass, int[] layers, int chunk, int column, int row);
+
+    /** Called after the last chunk built in a frame's run of layers. */
+    protected void endBuilding() {
+    }
+
+    /** Called before a run of layers' chunks on screen are drawn. */
+    protected abstract void beginDrawing();
+
+    /**
+     * Draw what was built for a chunk on screen.
+     * @param pass Number of the run of layers.
+     * @param chunk Index of the chunk.
+     * @param column Column of the chunk.
+     * @param row Row of the chunk.
+     */
+    protected abstract void drawChunk(int pass, int chunk, int column, int row);
+
+    /** Called after a run of layers' chunks on screen are drawn. */
+    protected abstract void endDrawing();
+
+    /** @return Left of a chunk column in world units. */
+    protected int chunkLeft(int column) {
+        return column * chunkTiles * tileWidth;
+    }
+
+    /** @return Bottom of a chunk row in world units. */
+    protected int chunkBottom(int row) {
+        return row * chunkTiles * tileHeight;
+    }
+
+    /** @return Width of a chunk column in world units, less at the right edge of the map. */
+    protected int chunkWidth(int column) {
+        return Math.min(chunkTiles, mapColumns - column * chunkTiles) * tileWidth;
+    }
+
+    /** @return Height of a chunk row in world units, less at the top edge of the map. */
+    protected int chunkHeight(int row) {
+        return Math.min(chunkTiles, mapRows - row * chunkTiles) * tileHeight;
+    }
+
+    /**
+     * Change a cell of a layer and build its chunk again the next time it is on screen.
+     * @param layer Layer of the map being drawn.
+     * @param x Column of the cell.
+     * @param y Row of the cell, counting up from the bottom.
+     * @param cell New cell, or null to empty it.
+     */
+    public void setCell(TiledMapTileLayer layer, int x, int y, TiledMapTileLayer.Cell cell) {
+        layer.setCell(x, y, cell);
+        markDirty(layer, x, y);
+    }
+
+    /**
+     * Build the chunk holding a cell again, after the cell was changed on the layer itself.
+     * @param layer Layer the cell is on.
+     * @param x Column of the cell.
+     * @param y Row of the cell, counting up from the bottom.
+     */
+    public void markDirty(MapLayer layer, int x, int y) {
+        if (x < 0 || y < 0 || x >= mapColumns || y >= mapRows) {
+            return;
+        }
+        int index = map.getLayers().getIndex(layer);
+        int chunk = (y / chunkTiles) * chunkColumns + x / chunkTiles;
+        for (Pass pass : passes) {
+            if (pass.chunked && index >= pass.layers[0] && index <= pass.layers[pass.layers.length - 1]) {
+                pass.dirty[chunk] = true;
+            }
+        }
+    }
+
+    /** Build every chunk again the next time it is on screen, such as after the GPU lost them. */
+    public void markAllDirty() {
+        for (Pass pass : passes) {
+            if (pass.chunked) {
+                markAllDirty(pass);
+            }
+        }
+    }
+
+    private void markAllDirty(Pass pass) {
+        for (int i = 0; i < pass.dirty.length; i++) {
+            pass.dirty[i] = true;
+        }
+    }
+
+    /**
+     * @param column Column of the chunk, counting from the left.
+     * @param row Row of the chunk, counting up from the bottom.
+     * @return True if any layer built into the chunk has changed since it was last
+     * built, or it has never been built.
+     */
+    public boolean isDirty(int column, int row) {
+        int index = row * chunkColumns + column;
+        for (Pass pass : passes) {
+            if (pass.chunked && (pass.dirty[index] || !pass.built[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return Number of chunk columns the map is cut into. */
+    public int getChunkColumns() {
+        return chunkColumns;
+    }
+
+    /** @return Number of chunk rows the map is cut into. */
+    public int getChunkRows() {
+        return chunkRows;
+    }
+
+    /** @return Number of chunks the current view touches. */
+    public int getVisibleChunkCount() {
+        return Math.max(0, lastVisibleColumn - firstVisibleColumn + 1) * Math.max(0, lastVisibleRow - firstVisibleRow + 1);
+    }
+
+    /** @return Number of runs of layers built by chunk. */
+    public int getChunkedPassCount() {
+        int count = 0;
+        for (Pass pass : passes) {
+            if (pass.chunked) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** @return Number of runs of layers drawn live every frame. */
+    public int getLivePassCount() {
+        return passes.length - getChunkedPassCount();
+    }
+
+    /** @return Number of times a run of layers' chunk has been drawn since the renderer was made. */
+    public int getDrawnChunkCount() {
+        return drawnChunkCount;
+    }
+
+    /** @return Number of times a run of layers' chunk has been built since the renderer was made. */
+    public int getBuildCount() {
+        return buildCount;
+    }
+
+    /** Free the renderer drawing live layers. The map is left to its owner. */
+    @Override
+    public void dispose() {
+        if (tiles != null) {
+            tiles.dispose();
+            tiles = null;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>CooperativePathfinder</code> implements windowed hierarchical cooperative A*
+ * (WHCA*) over a {@link NavigationGrid}. Agents are planned one after another, and
+ * each finished path is written into a shared {@link ReservationTable} so the agents
+ * planned later route around it instead of walking into the same corridor tile.
+ *
+ * <p>Each agent only searches <code>window</code> time steps ahead. Past the window
+ * the search falls back to the walking distance to the goal, so agents still head the
+ * right way through the maze while the cost of a plan stays bounded by the window.
+ * With a {@link NavMesh} set that distance comes from a search over the mesh's
+ * rectangles, which are far fewer than the cells; without one it is the true distance
+ * from a reverse breadth-first search over every cell, cached per goal cell.</p>
+ *
+ * <p>Time steps are measured in "one cell moved or waited". Every action, including
+ * waiting, costs one step.</p>
+ */
+public class CooperativePathfinder {
+    /** Window used by the game when none is given. */
+    public static final int DEFAULT_WINDOW = 16;
+    /** Largest window accepted, keeping the space-time arrays a sensible size. */
+    public static final int MAX_WINDOW = 64;
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE / 4;
+    private static final int DISTANCE_CACHE_SIZE = 4;
+
+    // Wait in place, then the four grid neighbours.
+    private static final int[] STEP_X = {0, 1, -1, 0, 0};
+    private static final int[] STEP_Y = {0, 0, 0, 1, -1};
+
+    private NavigationGrid grid;
+    private final ReservationTable reservations = new ReservationTable();
+    private int window;
+
+    // Space-time search state, indexed by time * cellCount + cell.
+    private int[] gScore;
+    private int[] parent;
+    private int[] visited;
+    private int searchId;
+
+    private int[] heap = new int[256];
+    private long[] heapKeys = new long[256];
+    private int heapSize;
+
+    private final int[][] distanceFields = new int[DISTANCE_CACHE_SIZE][];
+    private final int[] distanceGoals = new int[DISTANCE_CACHE_SIZE];
+    private int nextDistanceSlot;
+    private int[] searchQueue;
+    private NavMesh navMesh;
+
+    private int lastExpandedNodes;
+
+    /**
+     * Constructor for <code>CooperativePathfinder</code>.
+     * @param grid Walkable grid to search over.
+     * @param window Number of time steps each agent plans ahead, between 1 and {@value #MAX_WINDOW}.
+     */
+    public CooperativePathfinder(NavigationGrid grid, int window) {
+        this.grid = grid;
+        setWindow(window);
+    }
+
+    /**
+     * Change how many time steps each agent plans ahead. Smaller windows are cheaper
+     * but let agents see each other later.
+     *
+     * @param window Window length in steps, between 1 and {@value #MAX_WINDOW}.
+     */
+    public void setWindow(int window) {
+        if (window < 1 || window > MAX_WINDOW) {
+            throw new IllegalArgumentException("Window must be between 1 and " + MAX_WINDOW + " but was " + window);
+        }
+        this.window = window;
+        allocateSearchState();
+    }
+
+    /** @return Number of time steps each agent plans ahead. */
+    public int getWindow() {
+        return window;
+    }
+
+    /**
+     * Swap in a new grid snapshot, for example after a door opens. Cached goal
+     * distances are thrown away because they may no longer be correct.
+     *
+     * @param grid New walkable grid, which must have the same size as the old one.
+     */
+    public void setGrid(NavigationGrid grid) {
+        boolean resized = grid.getCellCount() != this.grid.getCellCount();
+        this.grid = grid;
+        Arrays.fill(distanceGoals, -1);
+        if (resized) {
+            Arrays.fill(distanceFields, null);
+            searchQueue = null;
+            allocateSearchState();
+        }
+    }
+
+    /**
+     * Take distances to the goal from a navigation mesh instead of searching every
+     * cell. Mesh distances follow the portals between rectangles, so they can be a
+     * step or two longer than the shortest walk, and plans may be that much longer too.
+     *
+     * @param navMesh Mesh over the same grid, which the caller keeps up to date with
+     * {@link #setGrid}, or null to search the cells again.
+     */
+    public void setNavMesh(NavMesh navMesh) {
+        this.navMesh = navMesh;
+    }
+
+    /** @return Grid the pathfinder currently searches. */
+    public NavigationGrid getGrid() {
+        return grid;
+    }
+
+    /** @return Reservations made in the current planning round. */
+    public ReservationTable getReservations() {
+        return reservations;
+    }
+
+    /** @return Number of space-time nodes expanded by the most recent {@link #plan} call. */
+    public int getLastExpandedNodes() {
+        return lastExpandedNodes;
+    }
+
+    /**
+     * Plan a full round: clear every reservation, then plan the agents in array order.
+     * Earlier agents have priority and later ones plan around them.
+     *
+     * @param starts Start cell index of each agent.
+     * @param goals Goal cell index of each agent.
+     * @param paths Output path for each agent; see {@link #plan}.
+     * @param agentCount Number of agents to plan, from the start of the arrays.
+     */
+    public void planAll(int[] starts, int[] goals, IntArray[] paths, int agentCount) {
+        beginRound();
+        for (int agent = 0; agent < agentCount; agent++) {
+            plan(agent, starts[agent], goals[agent], paths[agent]);
+        }
+    }
+
+    /** Start a new planning round by clearing every reservation. */
+    public void beginRound() {
+        reservations.clear();
+    }
+
+    /**
+     * Reserve a path that was planned somewhere else, so agents planned after it this
+     * round route around it. The path uses the same one-cell-per-step layout as
+     * {@link #plan} and is cut off at the window.
+     *
+     * @param agent Id of the agent that owns the path.
+     * @param path Cell indices, starting with the agent's current cell.
+     */
+    public void reserve(int agent, IntArray path) {
+        if (path.size == 0) return;
+        if (path.size > window + 1) {
+            path.truncate(window + 1);
+        }
+        reservePath(agent, path);
+    }
+
+    /**
+     * Plan one agent against the reservations already made this round, then reserve
+     * the resulting path for it.
+     *
+     * <p>The path lists one cell per time step, starting with the start cell, and ends
+     * either at the goal or after {@link #getWindow()} steps. Repeated cells mean the
+     * agent should wait.</p>
+     *
+     * @param agent Id of the agent, used as the owner of its reservations.
+     * @param start Cell the agent is standing on.
+     * @param goal Cell the agent wants to reach.
+     * @param path Output list, cleared and filled with cell indices.
+     * @return True if a path was found, false if the goal cannot be reached, in which case
+     * the path only holds the start cell and the agent keeps its cell reserved.
+     */
+    public boolean plan(int agent, int start, int goal, IntArray path) {
+        path.clear();
+        lastExpandedNodes = 0;
+        int cellCount = grid.getCellCount();
+        if (start < 0 || start >= cellCount || goal < 0 || goal >= cellCount) {
+            return false;
+        }
+
+        int[] distance = null;
+        if (navMesh != null) {
+            navMesh.searchFrom(goal);
+        } else {
+            distance = distanceField(goal);
+        }
+        int startEstimate = estimate(distance, start);
+        if (startEstimate >= UNREACHABLE) {
+            holdCell(agent, start, path);
+            return false;
+        }
+
+        searchId++;
+        heapSize = 0;
+        gScore[start] = 0;
+        parent[start] = -1;
+        visited[start] = searchId;
+        push(start, startEstimate, 0);
+
+        int width = grid.getWidth();
+        int found = -1;
+        while (heapSize > 0) {
+            long key = heapKeys[0];
+            int node = pop();
+            int cell = node % cellCount;
+            int time = node / cellCount;
+            int g = gScore[node];
+            if ((int) (key >>> 32) != g + estimate(distance, cell)) {
+                continue; // stale heap entry, a cheaper route to this node was found later
+            }
+            lastExpandedNodes++;
+
+            if (cell == goal || time == window) {
+                found = node;
+                break;
+            }
+
+            int x = cell % width;
+            int y = cell / width;
+            for (int action = 0; action < STEP_X.length; action++) {
+                int nx = x + STEP_X[action];
+                int ny = y + STEP_Y[action];
+                if (action > 0 && grid.isBlocked(nx, ny)) continue;
+
+                int nextCell = grid.index(nx, ny);
+                int nextEstimate = estimate(distance, nextCell);
+                if (nextEstimate >= UNREACHABLE) continue;
+                if (reservations.isReservedByOther(nextCell, time + 1, agent)) continue;
+                if (action > 0 && reservations.isSwapConflict(cell, nextCell, time, agent)) continue;
+
+                int nextNode = (time + 1) * cellCount + nextCell;
+                int nextG = g + 1;
+                if (visited[nextNode] != searchId || nextG < gScore[nextNode]) {
+                    visited[nextNode] = searchId;
+                    gScore[nextNode] = nextG;
+                    parent[nextNode] = node;
+                    push(nextNode, nextG + nextEstimate, nextG);
+                }
+            }
+        }
+
+        if (found < 0) {
+            holdCell(agent, start, path);
+            return false;
+        }
+
+        for (int node = found; node >= 0; node = parent[node]) {
+            path.add(node % cellCount);
+        }
+        path.reverse();
+        reservePath(agent, path);
+        return true;
+    }
+
+    /**
+     * Return the walking distance from a cell to a goal ignoring other agents, in steps.
+     * @param cell Cell index to measure from.
+     * @param goal Goal cell index.
+     * @return Number of steps, or {@link Integer#MAX_VALUE} if the goal cannot be reached.
+     */
+    public int distanceToGoal(int cell, int goal) {
+        int distance = distanceField(goal)[cell];
+        return distance >= UNREACHABLE ? Integer.MAX_VALUE : distance;
+    }
+
+    /** Distance left to the goal from a cell: from the mesh when set, otherwise from the cell search. */
+    private int estimate(int[] distance, int cell) {
+        if (distance != null) {
+            return distance[cell];
+        }
+        int meshDistance = navMesh.distanceToGoal(cell);
+        return meshDistance == Integer.MAX_VALUE ? UNREACHABLE : meshDistance;
+    }
+
+    private void holdCell(int agent, int cell, IntArray path) {
+        path.add(cell);
+        for (int time = 0; time <= window; time++) {
+            reservations.reserve(cell, time, agent);
+        }
+    }
+
+    private void reservePath(int agent, IntArray path) {
+        for (int time = 0; time < path.size; time++) {
+            reservations.reserve(path.get(time), time, agent);
+        }
+        // Once at the goal the agent stays there for the rest of the window.
+        int last = path.peek();
+        for (int time = path.size; time <= window; time++) {
+            reservations.reserve(last, time, agent);
+        }
+    }
+
+    /**
+     * Return the cached reverse breadth-first distances to a goal, computing them into
+     * the least recently filled slot when the goal is new.
+     */
+    private int[] distanceField(int goal) {
+        for (int i = 0; i < DISTANCE_CACHE_SIZE; i++) {
+            if (distanceGoals[i] == goal && distanceFields[i] != null) {
+                return distanceFields[i];
+            }
+        }
+
+        int cellCount = grid.getCellCount();
+        int slot = nextDistanceSlot;
+        nextDistanceSlot = (nextDistanceSlot + 1) % DISTANCE_CACHE_SIZE;
+        if (distanceFields[slot] == null) {
+            distanceFields[slot] = new int[cellCount];
+        }
+        if (searchQueue == null) {
+            searchQueue = new int[cellCount];
+        }
+
+        int[] distance = distanceFields[slot];
+        Arrays.fill(distance, UNREACHABLE);
+        distanceGoals[slot] = goal;
+
+        int width = grid.getWidth();
+        int head = 0;
+        int tail = 0;
+        distance[goal] = 0;
+        searchQueue[tail++] = goal;
+        while (head < tail) {
+            int cell = searchQueue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            for (int action = 1; action < STEP_X.length; action++) {
+                int nx = x + STEP_X[action];
+                int ny = y + STEP_Y[action];
+                if (grid.isBlocked(nx, ny)) continue;
+                int next = grid.index(nx, ny);
+                if (distance[next] == UNREACHABLE) {
+                    distance[next] = distance[cell] + 1;
+                    searchQueue[tail++] = next;
+                }
+            }
+        }
+        return distance;
+    }
+
+    private void allocateSearchState() {
+        int nodes = (window + 1) * grid.getCellCount();
+        gScore = new int[nodes];
+        parent = new int[nodes];
+        visited = new int[nodes];
+        searchId = 0;
+    }
+
+    /**
+     * Push a node with its f score. Ties on f are broken towards the larger g so the
+     * search dives along one promising route rather than widening.
+     */
+    private void push(int node, int f, int g) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+        }
+        long key = ((long) f << 32) | (Integer.MAX_VALUE - g);
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) >>> 1;
+            if (heapKeys[up] <= key) break;
+            heap[i] = heap[up];
+            heapKeys[i] = heapKeys[up];
+            i = up;
+        }
+        heap[i] = node;
+        heapKeys[i] = key;
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int lastNode = heap[--heapSize];
+        long lastKey = heapKeys[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) child++;
+            if (heapKeys[child] >= lastKey) break;
+            heap[i] = heap[child];
+            heapKeys[i] = heapKeys[child];
+            i = child;
+        }
+        heap[i] = lastNode;
+        heapKeys[i] = lastKey;
+        return top;
+    }
+}
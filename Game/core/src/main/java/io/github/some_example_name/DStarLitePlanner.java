@@ -0,0 +1,489 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>DStarLitePlanner</code> is an incremental single-agent planner based on
+ * D* Lite (Koenig and Likhachev). It keeps its search between calls and only repairs
+ * the part that changed, so following a moving player does not mean searching the
+ * whole maze again every time.
+ *
+ * <p>D* Lite grows its search tree out from one end and lets the other end move almost
+ * for free. The player changes cell more often than a dean does, so the tree is rooted
+ * at the dean and the player is the cheap end: a target move only shifts queue
+ * priorities and usually expands a handful of nodes. The dean's cell is joined to an
+ * extra virtual root node by a single zero-cost edge, so when the dean moves only that
+ * edge moves, and D* Lite repairs it like any other edge cost change. Blocking or
+ * unblocking a cell is handled the same way.</p>
+ *
+ * <p>The planner counts how many nodes each {@link #replan()} expanded, and how many
+ * of those had already been expanded by an earlier replan, so the cost of following
+ * the player can be measured.</p>
+ */
+public class DStarLitePlanner {
+    private static final int INF = Integer.MAX_VALUE / 4;
+
+    private static final int[] STEP_X = {1, -1, 0, 0};
+    private static final int[] STEP_Y = {0, 0, 1, -1};
+
+    private NavigationGrid grid;
+    private final int virtualRoot;
+
+    private final int[] g;
+    private final int[] rhs;
+
+    // Indexed binary heap of inconsistent nodes, ordered by their two-part key.
+    private final int[] heap;
+    private final long[] heapKeys;
+    private final int[] heapIndex;
+    private int heapSize;
+
+    private int target = -1;
+    private int lastTarget = -1;
+    private int agent = -1;
+    private int keyModifier;
+
+    private final int[] expandedInReplan;
+    private int replanCount;
+    private int lastExpanded;
+    private int lastReexpanded;
+    private long totalExpanded;
+
+    /**
+     * Constructor for <code>DStarLitePlanner</code>. The agent and target must be set
+     * before the first {@link #replan()}.
+     *
+     * @param grid Walkable grid to plan over.
+     */
+    public DStarLitePlanner(NavigationGrid grid) {
+        this.grid = grid;
+        int nodeCount = grid.getCellCount() + 1;
+        virtualRoot = nodeCount - 1;
+
+        g = new int[nodeCount];
+        rhs = new int[nodeCount];
+        heap = new int[nodeCount];
+        heapKeys = new long[nodeCount];
+        heapIndex = new int[nodeCount];
+        expandedInReplan = new int[nodeCount];
+        reset();
+    }
+
+    /**
+     * Throw the whole search away and start again from nothing. The agent and target
+     * are kept.
+     */
+    public void reset() {
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        Arrays.fill(heapIndex, -1);
+        Arrays.fill(expandedInReplan, 0);
+        heapSize = 0;
+        keyModifier = 0;
+        lastTarget = target;
+
+        rhs[virtualRoot] = 0;
+        insert(virtualRoot, calculateKey(virtualRoot));
+        if (agent >= 0) {
+            updateRhs(agent);
+            updateVertex(agent);
+        }
+    }
+
+    /**
+     * Set the cell the agent is standing on. The search tree is rooted here, so only
+     * the old and new cells are touched now; the next {@link #replan()} repairs
+     * whatever depended on them.
+     *
+     * @param cell Cell index of the agent.
+     */
+    public void setAgent(int cell) {
+        if (cell == agent) return;
+        int oldAgent = agent;
+        agent = cell;
+        if (oldAgent >= 0) {
+            updateRhs(oldAgent);
+            updateVertex(oldAgent);
+        }
+        if (agent >= 0) {
+            updateRhs(agent);
+            updateVertex(agent);
+        }
+    }
+
+    /** @return Cell index of the agent, or -1 if not set yet. */
+    public int getAgent() {
+        return agent;
+    }
+
+    /**
+     * Set the cell the agent is heading for. Moving the target only shifts the
+     * priorities of queued nodes and does not throw any search work away.
+     *
+     * @param cell Cell index of the target.
+     */
+    public void setTarget(int cell) {
+        if (cell == target) return;
+        target = cell;
+        if (lastTarget >= 0 && target >= 0) {
+            keyModifier += heuristic(lastTarget, target);
+        }
+        lastTarget = target;
+    }
+
+    /** @return Cell index of the target, or -1 if not set yet. */
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Change whether a cell is blocked, for example when a door opens. Only the cell
+     * and its neighbours are touched here.
+     *
+     * @param x Horizontal cell coordinate.
+     * @param y Vertical cell coordinate.
+     * @param blocked New blocked state of the cell.
+     */
+    public void setCellBlocked(int x, int y, boolean blocked) {
+        if (!grid.inBounds(x, y) || grid.isBlocked(x, y) == blocked) return;
+        grid = grid.withCell(x, y, blocked);
+
+        int cell = grid.index(x, y);
+        updateRhs(cell);
+        updateVertex(cell);
+        for (int i = 0; i < STEP_X.length; i++) {
+            int nx = x + STEP_X[i];
+            int ny = y + STEP_Y[i];
+            if (grid.inBounds(nx, ny)) {
+                int neighbour = grid.index(nx, ny);
+                updateRhs(neighbour);
+                updateVertex(neighbour);
+            }
+        }
+    }
+
+    /** @return Grid the planner currently plans over. */
+    public NavigationGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Repair the search after the agent, target or map changed, until the distance
+     * between them is known again.
+     *
+     * @return True if the target can be reached by the agent.
+     */
+    public boolean replan() {
+        if (target < 0 || agent < 0) {
+            return false;
+        }
+        replanCount++;
+        lastExpanded = 0;
+        lastReexpanded = 0;
+
+        while (heapSize > 0 && (heapKeys[0] < calculateKey(target) || rhs[target] != g[target])) {
+            int u = heap[0];
+            long oldKey = heapKeys[0];
+            long newKey = calculateKey(u);
+
+            if (oldKey < newKey) {
+                updateKey(u, newKey);
+                continue;
+            }
+
+            countExpansion(u);
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                remove(u);
+                for (int p = firstPredecessor(u); p != -1; p = nextPredecessor(u, p)) {
+                    int through = add(cost(p, u), g[u]);
+                    if (through < rhs[p]) {
+                        rhs[p] = through;
+                        updateVertex(p);
+                    }
+                }
+            } else {
+                int oldG = g[u];
+                g[u] = INF;
+                updateRhs(u);
+                updateVertex(u);
+                for (int p = firstPredecessor(u); p != -1; p = nextPredecessor(u, p)) {
+                    if (rhs[p] == add(cost(p, u), oldG)) {
+                        updateRhs(p);
+                        updateVertex(p);
+                    }
+                }
+            }
+        }
+        totalExpanded += lastExpanded;
+        return g[target] < INF;
+    }
+
+    /**
+     * @return Walking distance between the agent and the target found by the last
+     * {@link #replan()}, or {@link Integer#MAX_VALUE} if the target cannot be reached.
+     */
+    public int getDistance() {
+        return target < 0 || g[target] >= INF ? Integer.MAX_VALUE : g[target];
+    }
+
+    /**
+     * Write the agent's route to the target. The route is traced back from the target
+     * down the search tree, then reversed and cut to the first <code>maxSteps</code> moves.
+     *
+     * @param path Output list, cleared and filled with cell indices starting with the agent's cell.
+     * @param maxSteps Largest number of moves to keep.
+     * @return True if the whole route to the target fitted within <code>maxSteps</code>.
+     */
+    public boolean extractPath(IntArray path, int maxSteps) {
+        path.clear();
+        if (target < 0 || agent < 0) {
+            return false;
+        }
+        if (g[target] >= INF) {
+            path.add(agent);
+            return false;
+        }
+
+        int cell = target;
+        int width = grid.getWidth();
+        path.add(cell);
+        while (cell != agent) {
+            int best = -1;
+            int bestCost = INF;
+            int x = cell % width;
+            int y = cell / width;
+            for (int i = 0; i < STEP_X.length; i++) {
+                int nx = x + STEP_X[i];
+                int ny = y + STEP_Y[i];
+                if (!grid.inBounds(nx, ny)) continue;
+                int next = grid.index(nx, ny);
+                int through = add(cost(cell, next), g[next]);
+                if (through < bestCost) {
+                    bestCost = through;
+                    best = next;
+                }
+            }
+            if (best < 0 || path.size > grid.getCellCount()) {
+                path.clear();
+                path.add(agent);
+                return false;
+            }
+            cell = best;
+            path.add(cell);
+        }
+
+        path.reverse();
+        boolean complete = path.size <= maxSteps + 1;
+        if (!complete) {
+            path.truncate(maxSteps + 1);
+        }
+        return complete;
+    }
+
+    /** @return Number of nodes expanded by the most recent replan. */
+    public int getLastExpandedNodes() {
+        return lastExpanded;
+    }
+
+    /**
+     * @return Number of nodes expanded by the most recent replan that an earlier replan
+     * had already expanded, which is the work spent repairing the old search.
+     */
+    public int getLastReexpandedNodes() {
+        return lastReexpanded;
+    }
+
+    /** @return Number of nodes expanded across all replans since creation. */
+    public long getTotalExpandedNodes() {
+        return totalExpanded;
+    }
+
+    /** @return Number of replans since creation. */
+    public int getReplanCount() {
+        return replanCount;
+    }
+
+    private void countExpansion(int node) {
+        lastExpanded++;
+        int previous = expandedInReplan[node];
+        if (previous != 0 && previous != replanCount) {
+            lastReexpanded++;
+        }
+        expandedInReplan[node] = replanCount;
+    }
+
+    /** Recompute a node's one-step lookahead value from its successors. */
+    private void updateRhs(int node) {
+        if (node == virtualRoot) return;
+        int best = add(cost(node, virtualRoot), g[virtualRoot]);
+        int width = grid.getWidth();
+        int x = node % width;
+        int y = node / width;
+        for (int i = 0; i < STEP_X.length; i++) {
+            int nx = x + STEP_X[i];
+            int ny = y + STEP_Y[i];
+            if (!grid.inBounds(nx, ny)) continue;
+            int next = grid.index(nx, ny);
+            best = Math.min(best, add(cost(node, next), g[next]));
+        }
+        rhs[node] = best;
+    }
+
+    private void updateVertex(int node) {
+        boolean inconsistent = g[node] != rhs[node];
+        boolean queued = heapIndex[node] >= 0;
+        if (inconsistent && queued) {
+            updateKey(node, calculateKey(node));
+        } else if (inconsistent) {
+            insert(node, calculateKey(node));
+        } else if (queued) {
+            remove(node);
+        }
+    }
+
+    /** Cost of moving between two neighbouring cells, or from the agent's cell onto the virtual root. */
+    private int cost(int from, int to) {
+        if (to == virtualRoot) {
+            return from == agent && !grid.isBlocked(from) ? 0 : INF;
+        }
+        return grid.isBlocked(from) || grid.isBlocked(to) ? INF : 1;
+    }
+
+    /**
+     * Predecessors are iterated without allocating: the four grid neighbours of a cell
+     * in order, or just the agent's cell for the virtual root. Out of bounds neighbours are
+     * skipped, and -1 ends the iteration.
+     */
+    private int firstPredecessor(int node) {
+        if (node == virtualRoot) {
+            return agent;
+        }
+        return neighbourFrom(node, 0);
+    }
+
+    private int nextPredecessor(int node, int previous) {
+        if (node == virtualRoot) {
+            return -1;
+        }
+        int width = grid.getWidth();
+        int dx = previous % width - node % width;
+        int dy = previous / width - node / width;
+        for (int i = 0; i < STEP_X.length; i++) {
+            if (STEP_X[i] == dx && STEP_Y[i] == dy) {
+                return neighbourFrom(node, i + 1);
+            }
+        }
+        return -1;
+    }
+
+    private int neighbourFrom(int node, int firstStep) {
+        int width = grid.getWidth();
+        int x = node % width;
+        int y = node / width;
+        for (int i = firstStep; i < STEP_X.length; i++) {
+            int nx = x + STEP_X[i];
+            int ny = y + STEP_Y[i];
+            if (grid.inBounds(nx, ny)) {
+                return grid.index(nx, ny);
+            }
+        }
+        return -1;
+    }
+
+    private int heuristic(int from, int to) {
+        if (from < 0) return 0;
+        if (to == virtualRoot) {
+            to = agent;
+            if (to < 0) return 0;
+        }
+        return Math.abs(grid.cellX(from) - grid.cellX(to)) + Math.abs(grid.cellY(from) - grid.cellY(to));
+    }
+
+    /** Two-part D* Lite key packed into a long so keys compare with a single subtraction. */
+    private long calculateKey(int node) {
+        int best = Math.min(g[node], rhs[node]);
+        long primary = (long) best + heuristic(target, node) + keyModifier;
+        return (primary << 32) | best;
+    }
+
+    private static int add(int cost, int distance) {
+        return cost >= INF || distance >= INF ? INF : cost + distance;
+    }
+
+    private void insert(int node, long key) {
+        int i = heapSize++;
+        heap[i] = node;
+        heapKeys[i] = key;
+        heapIndex[node] = i;
+        siftUp(i);
+    }
+
+    private void updateKey(int node, long key) {
+        int i = heapIndex[node];
+        long old = heapKeys[i];
+        heapKeys[i] = key;
+        if (key < old) {
+            siftUp(i);
+        } else {
+            siftDown(i);
+        }
+    }
+
+    private void remove(int node) {
+        int i = heapIndex[node];
+        if (i < 0) return;
+        heapIndex[node] = -1;
+        heapSize--;
+        if (i == heapSize) return;
+
+        int moved = heap[heapSize];
+        heap[i] = moved;
+        heapKeys[i] = heapKeys[heapSize];
+        heapIndex[moved] = i;
+        siftUp(i);
+        if (heapIndex[moved] == i) {
+            siftDown(i);
+        }
+    }
+
+    private void siftUp(int i) {
+        int node = heap[i];
+        long key = heapKeys[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapKeys[parent] <= key) break;
+            moveTo(parent, i);
+            i = parent;
+        }
+        heap[i] = node;
+        heapKeys[i] = key;
+        heapIndex[node] = i;
+    }
+
+    private void siftDown(int i) {
+        int node = heap[i];
+        long key = heapKeys[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) child++;
+            if (heapKeys[child] >= key) break;
+            moveTo(child, i);
+            i = child;
+        }
+        heap[i] = node;
+        heapKeys[i] = key;
+        heapIndex[node] = i;
+    }
+
+    private void moveTo(int from, int to) {
+        heap[to] = heap[from];
+        heapKeys[to] = heapKeys[from];
+        heapIndex[heap[to]] = to;
+    }
+}
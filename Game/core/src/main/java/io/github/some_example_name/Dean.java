@@ -1,43 +1,83 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
 
 /**
  * EXTENDED
  *
  * <code> Dean </code> is the main enemy of the game, which chases the player's
  * character to attempt to attack them, resetting them to the start of the game.
+ *
+ * <p>The dean is an Ashley entity with a position, a {@link MotionComponent} and a
+ * {@link ChaseComponent}, moved by {@link ChaseSystem} along with anything else that
+ * chases the player. This class builds the entity and keeps its sprite.</p>
  */
 
-public class Dean {
-	private Vector2 position;
-	private Vector2 startPosition;
-	private Vector2 velocity;
+public class Dean implements EntityRegistry.Member {
+	private final Entity entity = new Entity();
+	private final Vector2 position;
+	private final MotionComponent motion = new MotionComponent();
+	private final ChaseComponent chase = new ChaseComponent();
+	private final Vector2 renderPosition = new Vector2();
+	// Reused every update, so moving the dean allocates nothing.
+	private final Vector2 heading = new Vector2();
+	private final Rectangle bounds = new Rectangle();
 	private Texture texture;
-	private Player player;
-	private GameScreen gameScreen;
-	private float speed = 0.7f;
+	private GameWorld world;
 
 	/**
-     * UNCHANGED
+     * EXTENDED
 	 * Constructor for <code> Dean </code>, with a set of coordinates.
 	 * @param x Horizontal position for dean to spawn in.
 	 * @param y Vertical position for dean to spawn in.
 	 * @param player Player class to follow.
-	 * @param gameScreen Screen rendering the game.
+	 * @param world World the dean moves in, usually the screen rendering the game.
 	 */
-	public Dean(float x, float y, Player player, GameScreen gameScreen){
-		this.position = new Vector2(x, y);
-		this.startPosition = new Vector2(x,y); //store the starting position of the dean
-		this.texture = new Texture("Dean-front.png");
-		this.player = player;
-		this.gameScreen = gameScreen;
-		this.velocity = new Vector2();
+	public Dean(float x, float y, Player player, GameWorld world){
+		this(x, y, player, world, true);
 	}
 
+    /**
+     * NEW
+     *
+     * Constructor for <code> Dean </code> that can skip loading its sprite, for
+     * running the game without a GPU.
+     * @param x Horizontal position for dean to spawn in.
+     * @param y Vertical position for dean to spawn in.
+     * @param player Player class to follow.
+     * @param world World the dean moves in.
+     * @param withTexture False to skip loading the sprite.
+     */
+    public Dean(float x, float y, Player player, GameWorld world, boolean withTexture) {
+        PositionComponent positionComponent = new PositionComponent();
+        positionComponent.position.set(x, y);
+        this.position = positionComponent.position;
+        motion.previousPosition.set(x, y);
+        motion.speed = 0.7f;
+        chase.target = player;
+        chase.startPosition.set(x, y); //store the starting position of the dean
+        entity.add(positionComponent).add(motion).add(chase);
+        this.texture = withTexture ? new Texture("Dean-front.png") : null;
+        this.world = world;
+    }
+
+    /**
+     * NEW
+     *
+     * Return the dean's entity, for adding to the engine that runs {@link ChaseSystem}.
+     * @return Entity holding the dean's position, motion and chase.
+     */
+    public Entity getEntity() {
+        return entity;
+    }
+
     /**
      * NEW
      *
@@ -45,7 +85,7 @@ public class Dean {
      * @param newSpeed New speed value for the dean.
      */
     public void setSpeed(float newSpeed) {
-        this.speed = newSpeed;
+        motion.speed = newSpeed;
     }
 
     /**
@@ -54,60 +94,90 @@ public class Dean {
      * @return Current speed value.
      */
     public float getSpeed() {
-        return speed;
+        return motion.speed;
+    }
+
+    /**
+     * NEW
+     *
+     * Return how far the dean moves this frame: its speed scaled by the chasing deans'
+     * time scale, so freezes and slows from {@link StatusEffects} apply without
+     * changing the speed itself.
+     * @return Distance to move this frame.
+     */
+    public float getStep() {
+        return ChaseSystem.step(motion, world);
     }
 
 	/**
      * EXTENDED
-	 * Update position of dean to get closer to player's new position.
+	 * Update position of dean to get closer to player's new position. If a planned
+	 * path has been given with {@link #setPath(IntArray, NavigationGrid)} the dean walks
+	 * along it, otherwise it heads straight for the player. In a game the dean is moved
+	 * by {@link ChaseSystem} instead, which does the same.
 	 * @param delta Time elapsed since last update.
 	 */
 	public void update(float delta) {
-		Vector2 direction = new Vector2(player.getPosition()).sub(position);
-		direction.nor(); //normalise
-
-		float newX = position.x + direction.x * speed;
-		float newY = position.y + direction.y * speed;
+		ChaseSystem.chase(position, motion, chase, world, heading);
+	}
 
-		if(!gameScreen.isCellBlockedForDean(newX, newY)) {
-		    position.set(newX, newY);
-		}
+    /**
+     * NEW
+     *
+     * Give the dean a planned path to walk, one cell per time step as produced by
+     * {@link CooperativePathfinder}. Repeated cells make the dean wait for as long as
+     * it would take to cross one tile. The cells are copied.
+     *
+     * @param cells Cell indices to visit, starting with the cell the dean is on.
+     * @param grid Grid the cell indices belong to.
+     */
+    public void setPath(IntArray cells, NavigationGrid grid) {
+        chase.path.clear();
+        chase.path.addAll(cells);
+        chase.grid = grid;
+        chase.pathIndex = 0;
+        chase.waitProgress = 0f;
 
-		tryMoveDiagonally(delta, direction);
-	}
+        // Already on the way to the second cell, so don't step back to the first one.
+        IntArray path = chase.path;
+        if (path.size > 1 && position.dst(grid.worldX(path.get(1)), grid.worldY(path.get(1))) <= NavigationGrid.TILE_SIZE) {
+            chase.pathIndex = 1;
+        }
+    }
 
-	/**
-     * EXTENDED
-	 * Attempt to move dean diagonally towards player if moving
-	 * in a straight line is not possible.
-	 * @param delta Time elapsed since last update.
-	 * @param direction 2D Vector for position of player.
-	 */
-	private void tryMoveDiagonally(float delta, Vector2 direction){
-		float newX = position.x + direction.x * speed;
-		if(!gameScreen.isCellBlockedForDean(newX, position.y)) {
-		    position.x = newX;
-		    return;
-		}
+    /**
+     * NEW
+     *
+     * Drop the current path so the dean goes back to heading straight for the player
+     * until a new path is given.
+     */
+    public void clearPath() {
+        ChaseSystem.clearPath(chase);
+    }
 
-		float newY = position.y + direction.y * speed;
-		 if(!gameScreen.isCellBlockedForDean(position.x, newY)) {
-		    position.y = newY;
-		    return;
-		}
-	}
+    /**
+     * NEW
+     *
+     * Return whether the dean still has path cells left to walk.
+     * @return True while following a planned path.
+     */
+    public boolean hasPath() {
+        return chase.pathIndex < chase.path.size;
+    }
 
     /**
-     * EXTENDED JAVADOC
+     * EXTENDED
      * Reset the dean to its starting position when the player is caught,
-     * or move it to an alternative position to avoid spawn camping.
+     * or move it to an alternative position to avoid spawn camping. Any planned
+     * path is dropped because it started from the old position.
      *
      * @param caughtNumber Number of times the player has been caught by the dean.
      */
 	public void resetToStart(int caughtNumber) {
+		clearPath();
 		if (caughtNumber % 2 == 0){
 			//if the number of times caught by the dean is even send them to a new positon than their starting, otherwise send them to the start
-			position.set(startPosition);
+			position.set(chase.startPosition);
 		}else{
 			position.set(690, 560);
 		}
@@ -129,6 +199,70 @@ public class Dean {
 		batch.draw(texture, position.x, position.y, 16, 16);
 	}
 
+    /**
+     * NEW
+     *
+     * Draw the dean part way between its last two simulation ticks.
+     * @param batch SpriteBatch used by application to render all sprites.
+     * @param alpha Fraction of a tick since the last one, from {@link FixedTimestep#getAlpha()}.
+     */
+    public void render(SpriteBatch batch, float alpha) {
+        Vector2 drawAt = FixedTimestep.interpolate(motion.previousPosition, position, alpha, FixedTimestep.SNAP_DISTANCE, renderPosition);
+        batch.draw(texture, drawAt.x, drawAt.y, 16, 16);
+    }
+
+    /**
+     * NEW
+     *
+     * Remember the current position as the start of the next tick's movement.
+     */
+    public void storePreviousPosition() {
+        motion.previousPosition.set(position);
+    }
+
+    /**
+     * NEW
+     *
+     * Write the dean's position, speed and planned path, with how far along it the
+     * dean is, to a snapshot.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putFloat(position.x).putFloat(position.y);
+        out.putFloat(motion.previousPosition.x).putFloat(motion.previousPosition.y);
+        out.putFloat(motion.speed);
+        IntArray path = chase.path;
+        out.putChar((char) path.size);
+        for (int i = 0; i < path.size; i++) {
+            out.putChar((char) path.get(i));
+        }
+        out.putChar((char) chase.pathIndex);
+        out.putFloat(chase.waitProgress);
+    }
+
+    /**
+     * NEW
+     *
+     * Read back state written by {@link #writeState(ByteBuffer)}, carrying on along the
+     * planned path from where the dean was.
+     * @param in Buffer to read from.
+     * @param grid Grid the planned path's cells belong to.
+     */
+    public void readState(ByteBuffer in, NavigationGrid grid) {
+        position.set(in.getFloat(), in.getFloat());
+        motion.previousPosition.set(in.getFloat(), in.getFloat());
+        motion.speed = in.getFloat();
+        IntArray path = chase.path;
+        path.clear();
+        int length = in.getChar();
+        for (int i = 0; i < length; i++) {
+            path.add(in.getChar());
+        }
+        chase.grid = length > 0 ? grid : null;
+        chase.pathIndex = in.getChar();
+        chase.waitProgress = in.getFloat();
+    }
+
 	/**
      * UNCHANGED
 	 * Return 2D coordinates of dean.
@@ -137,11 +271,12 @@ public class Dean {
 	public Vector2 getPosition() {return position; }
 
 	/**
-     * UNCHANGED
+     * EXTENDED
 	 * Return rectangle representing collision bounds of dean.
+	 * The same rectangle is returned every time, so copy it to keep it.
 	 * @return Rectangle collision box.
 	 */
-	public Rectangle getBounds() { return new Rectangle(position.x, position.y, 16,16); }
+	public Rectangle getBounds() { return bounds.set(position.x, position.y, 16,16); }
 
 	/**
      * UNCHANGED
@@ -150,6 +285,6 @@ public class Dean {
 	  @see com.badlogic.gdx.Screen#dispose Screen.dispose().
 	 */
 	public void dispose() {
-		texture.dispose();
+		if (texture != null) texture.dispose();
 	}
 }
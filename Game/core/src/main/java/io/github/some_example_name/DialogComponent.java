@@ -0,0 +1,23 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>DialogComponent</code> lets the player talk to an entity: each trigger shows
+ * one of its lines at random, until the player walks away.
+ */
+public class DialogComponent implements Component, Pool.Poolable {
+    /** Lines the entity can say. */
+    public String[] lines;
+    /** Distance past which the line being shown is hidden. */
+    public float hideRange;
+
+    @Override
+    public void reset() {
+        lines = null;
+        hideRange = 0;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * NEW
+ *
+ * <code>DialogSystem</code> picks a line for an entity with a {@link DialogComponent}
+ * each time it is triggered, and hides the line once the player walks away.
+ */
+public class DialogSystem extends IteratingSystem {
+    private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<TriggerComponent> triggers = ComponentMapper.getFor(TriggerComponent.class);
+    private final ComponentMapper<DialogComponent> dialogs = ComponentMapper.getFor(DialogComponent.class);
+    private final ComponentMapper<MessageComponent> messages = ComponentMapper.getFor(MessageComponent.class);
+
+    private final Player player;
+    private final RandomXS128 random;
+
+    /**
+     * Constructor for <code>DialogSystem</code>.
+     * @param player Player being talked to.
+     * @param random Seeded generator to pick lines with, such as the world's {@link RandomStreams#DIALOG} stream.
+     */
+    public DialogSystem(Player player, RandomXS128 random) {
+        super(Family.all(PositionComponent.class, TriggerComponent.class, DialogComponent.class, MessageComponent.class).get(),
+            TriggerSystem.PRIORITY + 1);
+        this.player = player;
+        this.random = random;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        DialogComponent dialog = dialogs.get(entity);
+        MessageComponent message = messages.get(entity);
+        if (triggers.get(entity).fired) {
+            int index = random.nextInt(dialog.lines.length);
+            message.text = dialog.lines[index];
+        } else if (message.showing && player.getPosition().dst(positions.get(entity).position) > dialog.hideRange) {
+            message.showing = false;
+        }
+    }
+}
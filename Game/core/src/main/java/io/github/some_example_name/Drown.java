@@ -23,6 +23,15 @@ public class Drown {
     /** Position the player is reset to after drowning */
     private Vector2 respawnPosition;
 
+    /** Index the water is found through once attached, and its volumes in it */
+    private TriggerVolumes volumes;
+    private int waterVolume1 = -1;
+    private int waterVolume2 = -1;
+    private final Rectangle playerRect = new Rectangle();
+
+    /** True while a replay places the player, so drowning only reports it */
+    private boolean replaying;
+
     /**
      * Constructor for <code>Drown</code>, loading the water hazard
      * from a specified object layer in a Tiled map.
@@ -47,32 +56,58 @@ public class Drown {
         }
     }
 
+    /**
+     * Add the water to an index of trigger areas. From then on {@link #update(Player)}
+     * asks the index whether the player is in the water, which must be updated with the
+     * player's position first, instead of testing the areas itself.
+     *
+     * @param volumes Index of trigger areas around the player
+     */
+    public void attach(TriggerVolumes volumes) {
+        this.volumes = volumes;
+        if (waterArea1 != null) {
+            waterVolume1 = volumes.add(waterArea1, false, volume -> {});
+        }
+        if (waterArea2 != null) {
+            waterVolume2 = volumes.add(waterArea2, false, volume -> {});
+        }
+    }
+
+    /**
+     * Leave respawning the player to a replay, which moves them where the recorded game did.
+     *
+     * @param replaying True while a recorded game is played back
+     */
+    public void setReplaying(boolean replaying) {
+        this.replaying = replaying;
+    }
+
     /**
      * Check if the player has entered the water hazard and reset their position if so.
+     * During a replay the player is left where they are for the replay to move.
      *
      * @param player Player character to test for collision
      * @return True if the player drowned and was respawned, false otherwise
      */
     public boolean update(Player player) {
-
-        Rectangle playerRect = new Rectangle(
-            player.getPosition().x,
-            player.getPosition().y,
-            16,
-            16
-        );
-
-        if (playerRect.overlaps(waterArea1)) {
-            player.getPosition().set(respawnPosition);
+        if (isInWater(player)) {
+            if (!replaying) {
+                player.getPosition().set(respawnPosition);
+            }
             return true; // drowned
         }
+        return false;
+    }
 
-        if (playerRect.overlaps(waterArea2)) {
-            player.getPosition().set(respawnPosition);
-            return true; // drowned
+    private boolean isInWater(Player player) {
+        if (volumes != null) {
+            return (waterVolume1 >= 0 && volumes.isInside(waterVolume1))
+                || (waterVolume2 >= 0 && volumes.isInside(waterVolume2));
         }
 
-        return false;
+        playerRect.set(player.getPosition().x, player.getPosition().y, Player.SIZE, Player.SIZE);
+        return (waterArea1 != null && playerRect.overlaps(waterArea1))
+            || (waterArea2 != null && playerRect.overlaps(waterArea2));
     }
 
 }
@@ -0,0 +1,229 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+/**
+ * NEW
+ *
+ * <code>EntityRegistry</code> is the one list of the world's moving entities. Each
+ * entity is added once, saying which {@link Phase}s of a tick it takes part in and which
+ * {@link Layer} it is drawn on, and the registry then updates, draws and disposes every
+ * entity exactly once wherever the game used to keep separate hand-written lists.
+ *
+ * <p>Entities can be added and removed while a phase or layer is running, for example
+ * when a penalty dean spawns mid-tick. An entity added part way through waits for the
+ * next pass, and one removed part way through is skipped from then on. With assertions
+ * on, as they are in tests, every pass also checks that no entity runs twice.</p>
+ */
+public class EntityRegistry implements Disposable {
+    /** Something the registry can update, draw and dispose. */
+    public interface Member extends Disposable {
+        /** Remember the current position as the start of the next tick's movement. */
+        default void storePreviousPosition() {
+        }
+
+        /**
+         * Move one tick.
+         * @param step Length of the tick in seconds.
+         */
+        default void update(float step) {
+        }
+
+        /**
+         * Draw part way between the last two ticks.
+         * @param batch SpriteBatch to draw with.
+         * @param alpha Fraction of a tick since the last one.
+         */
+        default void render(SpriteBatch batch, float alpha) {
+        }
+    }
+
+    /** Parts of a tick, run in this order by the simulation. */
+    public enum Phase {
+        /** Before anything moves, so drawing can interpolate from here. */
+        STORE_POSITION,
+        /** After the player has moved and the chasing deans have planned. */
+        UPDATE
+    }
+
+    /** Layers entities are drawn on, from the bottom up. */
+    public enum Layer {
+        /** Not drawn, for entities that only take part in the tick. */
+        NONE,
+        /** The chasing and patrolling deans, above the map events. */
+        DEANS,
+        /** The player's character, above everything else in the world. */
+        PLAYER
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final Layer[] LAYERS = Layer.values();
+
+    private static class Entry {
+        final Member member;
+        final Layer layer;
+        final int phaseMask;
+        final int[] lastPass = new int[PHASES.length];
+        int lastDraw;
+        boolean removed;
+
+        Entry(Member member, Layer layer, int phaseMask) {
+            this.member = member;
+            this.layer = layer;
+            this.phaseMask = phaseMask;
+        }
+    }
+
+    private final SnapshotArray<Entry> entries = new SnapshotArray<>(false, 8, Entry.class);
+    private final int[] passes = new int[PHASES.length];
+    private final int[] phaseCounts = new int[PHASES.length];
+    private final int[] layerCounts = new int[LAYERS.length];
+    private int draws;
+
+    /**
+     * Add an entity. It takes part from the next pass of each phase and layer.
+     * @param member Entity to add, not already in the registry.
+     * @param layer Layer to draw it on, or {@link Layer#NONE}.
+     * @param phases Phases of the tick to run it in.
+     * @throws IllegalArgumentException If the entity is already in the registry.
+     */
+    public void add(Member member, Layer layer, Phase... phases) {
+        if (indexOf(member) >= 0) {
+            throw new IllegalArgumentException("Entity is already registered: " + member);
+        }
+        int phaseMask = 0;
+        for (Phase phase : phases) {
+            phaseMask |= 1 << phase.ordinal();
+        }
+        entries.add(new Entry(member, layer, phaseMask));
+    }
+
+    /**
+     * Remove an entity without disposing it. If a pass is running it is skipped for
+     * the rest of it.
+     * @param member Entity to remove.
+     * @return True if it was in the registry.
+     */
+    public boolean remove(Member member) {
+        int index = indexOf(member);
+        if (index < 0) {
+            return false;
+        }
+        entries.get(index).removed = true;
+        entries.removeIndex(index);
+        return true;
+    }
+
+    /**
+     * Run one phase of a tick on every entity that takes part in it, in the order they
+     * were added.
+     * @param phase Phase to run.
+     * @param step Length of the tick in seconds.
+     */
+    public void runPhase(Phase phase, float step) {
+        int p = phase.ordinal();
+        int pass = ++passes[p];
+        int count = 0;
+        Entry[] items = entries.begin();
+        for (int i = 0, n = entries.size; i < n; i++) {
+            Entry entry = items[i];
+            if (entry.removed || (entry.phaseMask & (1 << p)) == 0) {
+                continue;
+            }
+            assert entry.lastPass[p] != pass : entry.member + " ran twice in " + phase;
+            entry.lastPass[p] = pass;
+            if (phase == Phase.STORE_POSITION) {
+                entry.member.storePreviousPosition();
+            } else {
+                entry.member.update(step);
+            }
+            count++;
+        }
+        entries.end();
+        phaseCounts[p] = count;
+    }
+
+    /**
+     * Draw every entity on a layer, in the order they were added.
+     * @param batch SpriteBatch to draw with, between begin and end.
+     * @param alpha Fraction of a tick since the last one.
+     * @param layer Layer to draw.
+     */
+    public void render(SpriteBatch batch, float alpha, Layer layer) {
+        int draw = ++draws;
+        int count = 0;
+        Entry[] items = entries.begin();
+        for (int i = 0, n = entries.size; i < n; i++) {
+            Entry entry = items[i];
+            if (entry.removed || entry.layer != layer) {
+                continue;
+            }
+            assert entry.lastDraw != draw : entry.member + " drawn twice on " + layer;
+            entry.lastDraw = draw;
+            entry.member.render(batch, alpha);
+            count++;
+        }
+        entries.end();
+        layerCounts[layer.ordinal()] = count;
+    }
+
+    /**
+     * @param phase Phase of the tick.
+     * @return Number of entities run the last time the phase ran.
+     */
+    public int getCount(Phase phase) {
+        return phaseCounts[phase.ordinal()];
+    }
+
+    /**
+     * @param layer Layer of entities.
+     * @return Number of entities drawn the last time the layer was drawn.
+     */
+    public int getCount(Layer layer) {
+        return layerCounts[layer.ordinal()];
+    }
+
+    /**
+     * @param phase Phase of the tick.
+     * @return Number of times the phase has run.
+     */
+    public int getPasses(Phase phase) {
+        return passes[phase.ordinal()];
+    }
+
+    /**
+     * @param member Entity to look for.
+     * @return True if the entity is in the registry.
+     */
+    public boolean contains(Member member) {
+        return indexOf(member) >= 0;
+    }
+
+    /** @return Number of entities in the registry. */
+    public int size() {
+        return entries.size;
+    }
+
+    private int indexOf(Member member) {
+        for (int i = 0; i < entries.size; i++) {
+            if (entries.get(i).member == member) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Dispose every entity once and empty the registry. */
+    @Override
+    public void dispose() {
+        Entry[] items = entries.begin();
+        for (int i = 0, n = entries.size; i < n; i++) {
+            items[i].removed = true;
+            items[i].member.dispose();
+        }
+        entries.end();
+        entries.clear();
+    }
+}
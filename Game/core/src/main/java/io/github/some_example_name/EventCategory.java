@@ -0,0 +1,18 @@
+package io.github.some_example_name;
+
+/**
+ * NEW
+ *
+ * <code>EventCategory</code> lists the groups of events counted on the HUD checklists
+ * and rewarded by the achievements.
+ */
+public enum EventCategory {
+    /** Events that help the player. */
+    POSITIVE,
+    /** Events that hinder the player. */
+    NEGATIVE,
+    /** Events the player has to go looking for. */
+    HIDDEN,
+    /** Entities that are not counted as events, such as the friend to talk to. */
+    NONE
+}
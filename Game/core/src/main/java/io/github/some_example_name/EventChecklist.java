@@ -0,0 +1,224 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.ObjectSet;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>EventChecklist</code> keeps the HUD checklists of positive, negative and
+ * hidden events encountered, from the {@link GameEvents} posted during a game.
+ *
+ * <p>Each kind of event is ticked off the first time it happens. The counts, and the
+ * lines of HUD text showing them, only change when an event is posted, so drawing
+ * the checklists each frame costs nothing but drawing them. Every line a checklist
+ * can show is built once its total is known, so ticking an event off allocates
+ * nothing either. The achievements read whether a checklist is complete from here
+ * as well.</p>
+ */
+public class EventChecklist implements GameEvents.Listener {
+    private static final EventCategory[] CATEGORIES = {EventCategory.POSITIVE, EventCategory.NEGATIVE, EventCategory.HIDDEN};
+    private static final String[] LABELS = {
+        "Positive Events Encountered = ",
+        "Negative Events Encountered = ",
+        "Hidden Events Encountered = "
+    };
+
+    private final int[] counts = new int[CATEGORIES.length];
+    private final int[] totals = new int[CATEGORIES.length];
+    private final String[] lines = new String[CATEGORIES.length];
+    // Every line each checklist can show, by count.
+    private final String[][] allLines = new String[CATEGORIES.length][];
+    private final boolean[] typeSeen = new boolean[GameEvent.Type.values().length];
+    private final ObjectSet<EventDefinition> mapEventsSeen = new ObjectSet<>();
+    private boolean hitObstacle;
+
+    /**
+     * Constructor for <code>EventChecklist</code>, with each checklist holding the
+     * event types counted on it and nothing ticked off yet.
+     */
+    public EventChecklist() {
+        for (GameEvent.Type type : GameEvent.Type.values()) {
+            int index = indexOf(type.getCategory());
+            if (index >= 0) {
+                totals[index]++;
+            }
+        }
+        for (int i = 0; i < lines.length; i++) {
+            buildLines(i);
+        }
+    }
+
+    /**
+     * Add the events spawned on the map to the checklists' totals.
+     * @param mapEvents Events spawned on the map.
+     */
+    public void addMapEvents(MapEvents mapEvents) {
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            totals[i] += mapEvents.countSpawned(CATEGORIES[i]);
+            buildLines(i);
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event.type == GameEvent.Type.DROWNED
+            || (event.type == GameEvent.Type.MAP_EVENT && event.getCategory() == EventCategory.NEGATIVE)) {
+            hitObstacle = true;
+        }
+
+        boolean first = event.type == GameEvent.Type.MAP_EVENT
+            ? mapEventsSeen.add(event.definition)
+            : !typeSeen[event.type.ordinal()];
+        typeSeen[event.type.ordinal()] = true;
+
+        int index = indexOf(event.getCategory());
+        if (first && index >= 0) {
+            counts[index]++;
+            updateLine(index);
+        }
+    }
+
+    /**
+     * Write which events have happened to a snapshot.
+     * @param out Buffer to write to.
+     * @throws IllegalArgumentException If a map event seen is not one of {@link EventDefinition#ALL}.
+     */
+    public void writeState(ByteBuffer out) {
+        int mask = 0;
+        for (int i = 0; i < typeSeen.length; i++) {
+            if (typeSeen[i]) {
+                mask |= 1 << i;
+            }
+        }
+        out.putInt(mask);
+        GameSnapshot.putBoolean(out, hitObstacle);
+        out.put((byte) mapEventsSeen.size);
+        for (EventDefinition definition : mapEventsSeen) {
+            out.put((byte) EventDefinition.indexOf(definition));
+        }
+    }
+
+    /**
+     * Read back state written by {@link #writeState(ByteBuffer)}, working the counts
+     * and HUD lines out again from it. Totals are left as they are.
+     * @param in Buffer to read from.
+     */
+    public void readState(ByteBuffer in) {
+        int mask = in.getInt();
+        hitObstacle = GameSnapshot.getBoolean(in);
+        mapEventsSeen.clear();
+        int seen = in.get();
+        for (int i = 0; i < seen; i++) {
+            mapEventsSeen.add(EventDefinition.ALL[in.get()]);
+        }
+
+        Arrays.fill(counts, 0);
+        GameEvent.Type[] types = GameEvent.Type.values();
+        for (int i = 0; i < typeSeen.length; i++) {
+            typeSeen[i] = (mask & (1 << i)) != 0;
+            int index = indexOf(types[i].getCategory());
+            if (typeSeen[i] && index >= 0) {
+                counts[index]++;
+            }
+        }
+        for (EventDefinition definition : mapEventsSeen) {
+            int index = indexOf(definition.getCategory());
+            if (index >= 0) {
+                counts[index]++;
+            }
+        }
+        for (int i = 0; i < lines.length; i++) {
+            updateLine(i);
+        }
+    }
+
+    /**
+     * Return how many of a checklist's events have happened.
+     * @param category Checklist to count.
+     * @return Number of its events that have happened at least once.
+     */
+    public int getCount(EventCategory category) {
+        int index = indexOf(category);
+        return index < 0 ? 0 : counts[index];
+    }
+
+    /**
+     * Return how many events are on a checklist.
+     * @param category Checklist to count.
+     * @return Number of events on it.
+     */
+    public int getTotal(EventCategory category) {
+        int index = indexOf(category);
+        return index < 0 ? 0 : totals[index];
+    }
+
+    /**
+     * Return whether every event on a checklist has happened.
+     * @param category Checklist to check.
+     * @return True if the checklist is complete.
+     */
+    public boolean isComplete(EventCategory category) {
+        int index = indexOf(category);
+        return index >= 0 && counts[index] == totals[index];
+    }
+
+    /**
+     * Return whether a type of event has happened at least once.
+     * @param type Type of event, other than {@link GameEvent.Type#MAP_EVENT}.
+     * @return True if it has been posted.
+     */
+    public boolean hasHappened(GameEvent.Type type) {
+        return typeSeen[type.ordinal()];
+    }
+
+    /** @return Whether the player has drowned or walked into a negative map event. */
+    public boolean hasHitObstacle() {
+        return hitObstacle;
+    }
+
+    /**
+     * Return the HUD line for a checklist, built when its count last changed.
+     * @param category Checklist to show.
+     * @return Text such as "Positive Events Encountered = 1/3".
+     */
+    public String getLine(EventCategory category) {
+        return lines[indexOf(category)];
+    }
+
+    private void buildLines(int index) {
+        allLines[index] = new String[totals[index] + 1];
+        for (int count = 0; count <= totals[index]; count++) {
+            allLines[index][count] = lineFor(index, count);
+        }
+        updateLine(index);
+    }
+
+    private void updateLine(int index) {
+        int count = counts[index];
+        // Map events that were never added to the totals can still be counted.
+        lines[index] = count < allLines[index].length ? allLines[index][count] : lineFor(index, count);
+    }
+
+    private String lineFor(int index, int count) {
+        return LABELS[index] + count + "/" + totals[index];
+    }
+
+    private static int indexOf(EventCategory category) {
+        if (category == null) {
+            return -1;
+        }
+        switch (category) {
+            case POSITIVE:
+                return 0;
+            case NEGATIVE:
+                return 1;
+            case HIDDEN:
+                return 2;
+            default:
+                return -1;
+        }
+    }
+}
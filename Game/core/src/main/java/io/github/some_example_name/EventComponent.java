@@ -0,0 +1,20 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>EventComponent</code> marks an entity as a map event, and links it to the
+ * {@link EventDefinition} it was spawned from so it can be counted on the HUD.
+ */
+public class EventComponent implements Component, Pool.Poolable {
+    /** Definition the event was spawned from. */
+    public EventDefinition definition;
+
+    @Override
+    public void reset() {
+        definition = null;
+    }
+}
@@ -0,0 +1,271 @@
+package io.github.some_example_name;
+
+/**
+ * NEW
+ *
+ * <code>EventDefinition</code> describes one kind of map event as data: how it looks,
+ * how it is triggered and what it does. {@link MapEvents} turns a definition into an
+ * entity with a component for each part of it, so a new event is another definition
+ * here rather than another class.
+ *
+ * <p>Definitions are built by chaining the setters below onto the constructor, and
+ * {@link #ALL} lists the events spawned on the main map. Every definition gives its
+ * {@link #region}, even when it is the whole texture, so events can be sized and
+ * triggered without loading any textures; only {@link MapEventAssets} loads them.</p>
+ */
+public class EventDefinition {
+    /** Places the lab equipment can teleport the player to, as x, y pairs. */
+    public static final float[] SAFE_SPOTS = {
+        560, 180,
+        300, 300,
+        150, 400,
+        450, 100,
+        360, 250,
+        50, 200
+    };
+
+    /** Locker with a sweet treat inside, doubling the player's speed. */
+    public static final EventDefinition LOCKER = new EventDefinition("Locker", EventCategory.POSITIVE, "locker.png", 495, 895)
+        .region(0, 0, 17, 33)
+        .interact(50f)
+        .speed(2f, 10f)
+        .message("You found a sweet treat,\n enjoy the sugar induced speed boost!", -100, 40, 5f);
+
+    /** Bush the player falls into, halving their speed. */
+    public static final EventDefinition BUSH = new EventDefinition("Bush", EventCategory.NEGATIVE, "objects.png", 770, 545)
+        .region(96, 113, 32, 30)
+        .speed(0.5f, 20f)
+        .message("You fell in a bush,\n you have poison damage :(", -100, 40, 5f);
+
+    /** Tree the player walks into, taking time off the clock. */
+    public static final EventDefinition TREE = new EventDefinition("Tree", EventCategory.NEGATIVE, "objects.png", 270, 9)
+        .region(160, 115, 28, 28)
+        .scale(2f)
+        .time(-30)
+        .message("You hit a tree, a rogue squirrel \nremoved some of your time xD", -100, 40, 5f);
+
+    /** Person who gives the player extra time, then leaves. */
+    public static final EventDefinition EXTRA_TIME = new EventDefinition("Extra time", EventCategory.POSITIVE, "NPC.png", 300, 120)
+        .region(0, 0, 19, 25)
+        .offset(20, 10)
+        .time(30)
+        .hideWhenTriggered()
+        .message("You found extra time!\n+30 seconds", -40, 20, 5f);
+
+    /** Lab equipment that teleports the player somewhere random after a countdown. */
+    public static final EventDefinition LAB_EQUIPMENT = new EventDefinition("Lab equipment", EventCategory.HIDDEN, "locker.png", 750, 610)
+        .region(0, 0, 17, 33)
+        .teleport(3.6f, SAFE_SPOTS)
+        .message(null, 0, 20, 4.4f);
+
+    /** Friend who gives the player hints when talked to. */
+    public static final EventDefinition FRIEND = new EventDefinition("Friend", EventCategory.NONE, "NPC.png", 560, 600)
+        .region(0, 0, 19, 25)
+        .interact(50f)
+        .repeat()
+        .dialog(60f,
+            "Hey friend!\nDon't forget your bus ticket...\nyou always manage to drop it in a bush",
+            "I wonder what would happen \nif u searched the material in the clearing...",
+            "Have you visited my twin??",
+            "How are you in 2 places at once!!!\nMaybe check the deans office?")
+        .message(null, -100, 40, MessageComponent.UNTIL_HIDDEN);
+
+    /** Every event spawned on the main map. */
+    public static final EventDefinition[] ALL = {LOCKER, BUSH, TREE, LAB_EQUIPMENT, EXTRA_TIME, FRIEND};
+
+    final String name;
+    final EventCategory category;
+    final String texture;
+    final float spawnX;
+    final float spawnY;
+
+    int regionX, regionY, regionWidth, regionHeight;
+    float scale = 1f;
+    float offsetX, offsetY;
+    boolean interact;
+    float range;
+    boolean once = true;
+    boolean hideWhenTriggered;
+    float speedMultiplier = 1f;
+    float speedDuration;
+    float timeChange;
+    float teleportDelay = -1f;
+    float[] teleportDestinations;
+    String message;
+    float messageOffsetX, messageOffsetY;
+    float messageDuration;
+    boolean hasMessage;
+    String[] dialogLines;
+    float dialogHideRange;
+
+    /**
+     * Constructor for <code>EventDefinition</code>, for an event triggered by walking
+     * into it. Its size is set with {@link #region}.
+     * @param name Name of the event.
+     * @param category Checklist the event is counted on.
+     * @param texture Internal path of the event's texture.
+     * @param spawnX Horizontal position the event is spawned at on the main map.
+     * @param spawnY Vertical position the event is spawned at on the main map.
+     */
+    public EventDefinition(String name, EventCategory category, String texture, float spawnX, float spawnY) {
+        this.name = name;
+        this.category = category;
+        this.texture = texture;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+    }
+
+    /**
+     * Set the part of the texture drawn, in texture pixels from its top left corner,
+     * which is also the event's size before {@link #scale}.
+     * @return This definition.
+     */
+    public EventDefinition region(int x, int y, int width, int height) {
+        regionX = x;
+        regionY = y;
+        regionWidth = width;
+        regionHeight = height;
+        return this;
+    }
+
+    /**
+     * Draw the event, and size its trigger area, at a multiple of its texture size.
+     * @return This definition.
+     */
+    public EventDefinition scale(float scale) {
+        this.scale = scale;
+        return this;
+    }
+
+    /**
+     * Place the event this far from the position it is spawned at.
+     * @return This definition.
+     */
+    public EventDefinition offset(float x, float y) {
+        offsetX = x;
+        offsetY = y;
+        return this;
+    }
+
+    /**
+     * Trigger the event by pressing E within a distance of it, instead of by touch.
+     * @return This definition.
+     */
+    public EventDefinition interact(float range) {
+        interact = true;
+        this.range = range;
+        return this;
+    }
+
+    /**
+     * Let the event be triggered again after the first time.
+     * @return This definition.
+     */
+    public EventDefinition repeat() {
+        once = false;
+        return this;
+    }
+
+    /**
+     * Stop drawing the event once it has been triggered.
+     * @return This definition.
+     */
+    public EventDefinition hideWhenTriggered() {
+        hideWhenTriggered = true;
+        return this;
+    }
+
+    /**
+     * Multiply the player's speed for a while when triggered.
+     * @return This definition.
+     */
+    public EventDefinition speed(float multiplier, float seconds) {
+        speedMultiplier = multiplier;
+        speedDuration = seconds;
+        return this;
+    }
+
+    /**
+     * Add seconds to the game timer when triggered, or take them off if negative.
+     * @return This definition.
+     */
+    public EventDefinition time(float seconds) {
+        timeChange = seconds;
+        return this;
+    }
+
+    /**
+     * Teleport the player to one of the given places, a while after being triggered.
+     * @param delay Seconds of countdown before the teleport.
+     * @param destinations Places to land, as x, y pairs.
+     * @return This definition.
+     */
+    public EventDefinition teleport(float delay, float[] destinations) {
+        teleportDelay = delay;
+        teleportDestinations = destinations;
+        return this;
+    }
+
+    /**
+     * Show a message above the event when triggered.
+     * @param text Text shown, or null when another part of the event sets it.
+     * @param offsetX Horizontal position of the text from the event.
+     * @param offsetY Height of the text above the top of the event.
+     * @param seconds How long the message shows, or {@link MessageComponent#UNTIL_HIDDEN}.
+     * @return This definition.
+     */
+    public EventDefinition message(String text, float offsetX, float offsetY, float seconds) {
+        hasMessage = true;
+        message = text;
+        messageOffsetX = offsetX;
+        messageOffsetY = offsetY;
+        messageDuration = seconds;
+        return this;
+    }
+
+    /**
+     * Say one of these lines at random each time the event is triggered, until the
+     * player is further away than the given distance. Needs a {@link #message}.
+     * @return This definition.
+     */
+    public EventDefinition dialog(float hideRange, String... lines) {
+        dialogHideRange = hideRange;
+        dialogLines = lines;
+        return this;
+    }
+
+    /**
+     * Find where a definition is in {@link #ALL}, to save a reference to it compactly.
+     * @param definition Definition to look for.
+     * @return Index in {@link #ALL}.
+     * @throws IllegalArgumentException If the definition is not one of the main map's events.
+     */
+    public static int indexOf(EventDefinition definition) {
+        for (int i = 0; i < ALL.length; i++) {
+            if (ALL[i] == definition) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Not a main map event: " + definition.name);
+    }
+
+    /** @return Name of the event. */
+    public String getName() {
+        return name;
+    }
+
+    /** @return Checklist the event is counted on. */
+    public EventCategory getCategory() {
+        return category;
+    }
+
+    /** @return Horizontal position the event is spawned at on the main map. */
+    public float getSpawnX() {
+        return spawnX;
+    }
+
+    /** @return Vertical position the event is spawned at on the main map. */
+    public float getSpawnY() {
+        return spawnY;
+    }
+}
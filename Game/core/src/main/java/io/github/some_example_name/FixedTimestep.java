@@ -0,0 +1,131 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * NEW
+ *
+ * <code>FixedTimestep</code> turns the variable time between rendered frames into a
+ * whole number of fixed-length simulation ticks, so the game moves at the same speed
+ * whatever the monitor's refresh rate.
+ *
+ * <p>Each frame's time goes into an accumulator and {@link #advance(float)} returns how
+ * many ticks fit in it. Whatever is left over is kept for the next frame and exposed as
+ * {@link #getAlpha()}, the fraction of a tick the renderer is ahead of the simulation,
+ * which is used to draw moving things part way between their last two tick positions.
+ * A long frame, such as a window drag, only catches up a few ticks and drops the rest
+ * rather than running the game forward in one jump.</p>
+ */
+public class FixedTimestep {
+    /** Simulation rate the game's per-tick speeds were tuned for. */
+    public static final float DEFAULT_TICKS_PER_SECOND = 60f;
+    /** Most ticks run for a single frame before the remaining time is dropped. */
+    public static final int DEFAULT_MAX_TICKS_PER_FRAME = 5;
+
+    /** Longest move between two ticks that is drawn smoothly; see {@link #interpolate}. */
+    public static final float SNAP_DISTANCE = 2 * NavigationGrid.TILE_SIZE;
+
+    private float ticksPerSecond;
+    private float stepSeconds;
+    private final int maxTicksPerFrame;
+    private float accumulator;
+    private long tickCount;
+
+    /** Constructor for <code>FixedTimestep</code> at 60 ticks per second. */
+    public FixedTimestep() {
+        this(DEFAULT_TICKS_PER_SECOND, DEFAULT_MAX_TICKS_PER_FRAME);
+    }
+
+    /**
+     * Constructor for <code>FixedTimestep</code>.
+     * @param ticksPerSecond Simulation rate.
+     * @param maxTicksPerFrame Most ticks a single frame may run, at least 1.
+     */
+    public FixedTimestep(float ticksPerSecond, int maxTicksPerFrame) {
+        if (maxTicksPerFrame < 1) {
+            throw new IllegalArgumentException("At least one tick per frame is needed");
+        }
+        this.maxTicksPerFrame = maxTicksPerFrame;
+        setTicksPerSecond(ticksPerSecond);
+    }
+
+    /**
+     * Change the simulation rate. Time already accumulated is kept.
+     * @param ticksPerSecond New rate, above zero.
+     */
+    public void setTicksPerSecond(float ticksPerSecond) {
+        if (!(ticksPerSecond > 0f) || Float.isInfinite(ticksPerSecond)) {
+            throw new IllegalArgumentException("Tick rate must be positive");
+        }
+        this.ticksPerSecond = ticksPerSecond;
+        this.stepSeconds = 1f / ticksPerSecond;
+    }
+
+    /** @return Simulation ticks per second. */
+    public float getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /** @return Length of one tick in seconds. */
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Add a frame's time and work out how many ticks to run for it.
+     * @param frameDelta Seconds since the last frame. Negative or invalid times are ignored.
+     * @return Number of ticks the caller should run now, between 0 and the per-frame maximum.
+     */
+    public int advance(float frameDelta) {
+        if (frameDelta > 0f && !Float.isInfinite(frameDelta)) {
+            accumulator += frameDelta;
+        }
+        int ticks = (int) (accumulator / stepSeconds);
+        if (ticks > maxTicksPerFrame) {
+            // Too far behind to catch up: run what we can and forget the rest.
+            ticks = maxTicksPerFrame;
+            accumulator = 0f;
+        } else {
+            accumulator -= ticks * stepSeconds;
+        }
+        tickCount += ticks;
+        return ticks;
+    }
+
+    /**
+     * @return How far the renderer is between the last tick and the next one, from 0 to 1.
+     */
+    public float getAlpha() {
+        return Math.min(1f, accumulator / stepSeconds);
+    }
+
+    /** @return Number of ticks run since creation or the last {@link #reset()}. */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /** Drop any accumulated time and restart the tick count. */
+    public void reset() {
+        accumulator = 0f;
+        tickCount = 0;
+    }
+
+    /**
+     * Find where to draw something between its last two tick positions. Moves longer
+     * than <code>snapDistance</code>, such as a teleport or a reset, are drawn at the new
+     * position straight away instead of sliding across the map.
+     *
+     * @param previous Position at the previous tick.
+     * @param current Position at the latest tick.
+     * @param alpha Value of {@link #getAlpha()}.
+     * @param snapDistance Longest move that is smoothed.
+     * @param out Vector to write the result to.
+     * @return <code>out</code>, for chaining.
+     */
+    public static Vector2 interpolate(Vector2 previous, Vector2 current, float alpha, float snapDistance, Vector2 out) {
+        if (previous.dst2(current) > snapDistance * snapDistance) {
+            return out.set(current);
+        }
+        return out.set(previous).lerp(current, alpha);
+    }
+}
@@ -1,13 +1,13 @@
 package io.github.some_example_name;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.math.Rectangle;
 
+import java.nio.ByteBuffer;
+
 /**
  * NEW
  *
@@ -20,11 +20,18 @@ import com.badlogic.gdx.math.Rectangle;
  * it cannot be used again.</p>
  */
 public class Freeze_Dean {
+    /** How long the deans stay frozen, in seconds. */
+    public static final float FREEZE_DURATION = 30f;
+
     private Rectangle materialsArea;
     private boolean discovered = false;
     private boolean usedMaterials = false;
-    private boolean freezeActive = false;
-    private float freezeTimer = 0f;
+    private StatusEffects statusEffects;
+    private int freezeHandle = StatusEffects.NO_EFFECT;
+    private TriggerVolumes volumes;
+    private int materialsVolume = -1;
+    private final Rectangle playerRect = new Rectangle();
+    private InputActions actions = InputActions.GDX;
 
     /**
      * Constructor for <code> Freeze_Dean </code>, locating the "Materials" rectangle
@@ -42,6 +49,31 @@ public class Freeze_Dean {
         }
     }
 
+    /**
+     * Add the materials area to an index of trigger areas. From then on
+     * {@link #update(Player, GameSession)} asks the index whether the player is in the
+     * area, which must be updated with the player's position first, and the area is put
+     * to sleep once the materials are used.
+     *
+     * @param volumes Index of trigger areas around the player.
+     */
+    public void attach(TriggerVolumes volumes) {
+        if (materialsArea == null) {
+            return;
+        }
+        this.volumes = volumes;
+        materialsVolume = volumes.add(materialsArea, false, volume -> {});
+    }
+
+    /**
+     * Read the interact key from the screen's actions, so the materials are only used
+     * when they are the nearest thing in reach.
+     * @param actions Actions of the current frame.
+     */
+    public void setActions(InputActions actions) {
+        this.actions = actions;
+    }
+
     /**
      * Update the freeze event state each frame. If the player is overlapping with the
      * materials area, the event becomes discoverable and will activate when the
@@ -51,32 +83,20 @@ public class Freeze_Dean {
      * automatically when the timer expires.</p>
      *
      * @param player Player character used for overlap checks.
-     * @param gameScreen Game screen used to freeze/unfreeze all deans.
+     * @param session Game used to freeze/unfreeze all deans.
      */
-    public void update(Player player, GameScreen gameScreen) {
+    public void update(Player player, GameSession session) {
         // Check that the event was already used or missing from map
         if (materialsArea == null || usedMaterials) {
             return;
         }
 
-        Rectangle playerRect = new Rectangle(player.getPosition().x, player.getPosition().y, 16, 16);
-
         // Check's whether the materials have been discovered when player enters the area
-        if (playerRect.overlaps(materialsArea)) {
+        if (isPlayerInArea(player)) {
             discovered = true;
             // Activates the freeze
-            if (Gdx.input.isKeyJustPressed(Input.Keys.E)) {
-                useFreeze(gameScreen);
-            }
-        }
-
-        // Freeze countdown
-        if (freezeActive) {
-            freezeTimer -= Gdx.graphics.getDeltaTime();
-            // Unfreezes when the timer is finished
-            if (freezeTimer <= 0) {
-                freezeActive = false;
-                gameScreen.unfreezeDeans();
+            if (actions.interact(this, distanceTo(player))) {
+                useFreeze(session);
             }
         }
     }
@@ -85,13 +105,34 @@ public class Freeze_Dean {
      * Activates the freeze by freezing all deans for 30 seconds and marking
      * this event as used as it's a one time event.
      *
-     * @param gameScreen The game screen used to freeze all deans.
+     * @param session The game used to freeze all deans.
      */
-    private void useFreeze(GameScreen gameScreen) {
-        gameScreen.freezeAllDeans();
-        freezeActive = true;
-        freezeTimer = 30f;
+    private boolean isPlayerInArea(Player player) {
+        if (volumes != null) {
+            return volumes.isInside(materialsVolume);
+        }
+        playerRect.set(player.getPosition().x, player.getPosition().y, Player.SIZE, Player.SIZE);
+        return playerRect.overlaps(materialsArea);
+    }
+
+    // From the middle of the player to the middle of the materials area.
+    private float distanceTo(Player player) {
+        float dx = player.getPosition().x + Player.SIZE / 2f - (materialsArea.x + materialsArea.width / 2f);
+        float dy = player.getPosition().y + Player.SIZE / 2f - (materialsArea.y + materialsArea.height / 2f);
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private void useFreeze(GameSession session) {
+        freezeHandle = session.freezeAllDeans(FREEZE_DURATION);
+        statusEffects = session.getStatusEffects();
         usedMaterials = true;
+        GameEvents gameEvents = session.getGameEvents();
+        if (gameEvents != null) {
+            gameEvents.post(GameEvent.Type.FREEZE_USED);
+        }
+        if (volumes != null) {
+            volumes.sleep(materialsVolume);
+        }
     }
 
     /**
@@ -106,11 +147,36 @@ public class Freeze_Dean {
         if (discovered && !usedMaterials) {
             font.draw(batch, "[E] Freeze Dean (30s)", materialsArea.x - 80, materialsArea.y + 40);
         }
-        if (freezeActive) {
+        if (statusEffects != null && statusEffects.isActive(freezeHandle)) {
             font.draw(batch, "Deans Frozen for 30 seconds", materialsArea.x, materialsArea.y);
         }
     }
 
+    /**
+     * Write whether the materials have been found and used, and the freeze they
+     * started, to a snapshot.
+     *
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        GameSnapshot.putBoolean(out, discovered);
+        GameSnapshot.putBoolean(out, usedMaterials);
+        out.putInt(freezeHandle);
+    }
+
+    /**
+     * Read back state written by {@link #writeState(ByteBuffer)}.
+     *
+     * @param in Buffer to read from.
+     * @param effects Status effects the freeze was read back into.
+     */
+    public void readState(ByteBuffer in, StatusEffects effects) {
+        discovered = GameSnapshot.getBoolean(in);
+        usedMaterials = GameSnapshot.getBoolean(in);
+        freezeHandle = in.getInt();
+        statusEffects = usedMaterials ? effects : null;
+    }
+
     /**
      * Returns whether the freeze event has been used already.
      *
@@ -0,0 +1,65 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>GameEvent</code> is something that happened during a game, posted on the
+ * {@link GameEvents} bus for the HUD checklists, score and achievements to count.
+ * Events are pooled by the bus, so listeners must not keep them after they return.
+ */
+public class GameEvent implements Pool.Poolable {
+    /** Kinds of event, with the HUD checklist each one is counted on. */
+    public enum Type {
+        /** The chasing dean caught the player. */
+        CAUGHT_BY_DEAN(EventCategory.NEGATIVE),
+        /** A patrolling dean caught the player. */
+        CAUGHT_BY_PATROL(EventCategory.NEGATIVE),
+        /** The player walked into the water and was sent back. */
+        DROWNED(EventCategory.NEGATIVE),
+        /** The player used the materials to freeze the deans. */
+        FREEZE_USED(EventCategory.POSITIVE),
+        /** The player picked up the bus ticket. */
+        TICKET_COLLECTED(EventCategory.HIDDEN),
+        /** The player answered the quiz, rightly or wrongly. */
+        QUIZ_ANSWERED(EventCategory.HIDDEN),
+        /** A map event went off for the first time; its definition gives the checklist. */
+        MAP_EVENT(null),
+        /** The lab equipment moved the player. */
+        TELEPORT_HAPPENED(EventCategory.NONE);
+
+        private final EventCategory category;
+
+        Type(EventCategory category) {
+            this.category = category;
+        }
+
+        /** @return Checklist events of this type are counted on, or null when it depends on the event. */
+        public EventCategory getCategory() {
+            return category;
+        }
+    }
+
+    /** Kind of event. */
+    public Type type;
+    /** Definition of the map event that went off, for {@link Type#MAP_EVENT}. */
+    public EventDefinition definition;
+    /** Whether the quiz was answered correctly, for {@link Type#QUIZ_ANSWERED}. */
+    public boolean success;
+
+    /** @return Checklist the event is counted on. */
+    public EventCategory getCategory() {
+        if (type == Type.MAP_EVENT) {
+            return definition == null ? EventCategory.NONE : definition.getCategory();
+        }
+        return type.getCategory();
+    }
+
+    @Override
+    public void reset() {
+        type = null;
+        definition = null;
+        success = false;
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>GameEvents</code> is the gameplay event bus. Whatever makes something happen,
+ * such as a dean catching the player or the ticket being picked up, posts a
+ * {@link GameEvent} here, and the counters, HUD text and achievements listening for
+ * it update then, instead of asking every event whether it has happened each frame.
+ *
+ * <p>Listeners are kept in an array of arrays indexed by the event type's ordinal, and events
+ * come from a pool and go back to it once every listener has been told, so posting
+ * neither looks anything up by name nor allocates.</p>
+ */
+public class GameEvents {
+    /** Told about the events it subscribed to. */
+    public interface Listener {
+        /**
+         * Called as soon as the event is posted.
+         * @param event Event posted; only valid until this returns.
+         */
+        void onEvent(GameEvent event);
+    }
+
+    private static final GameEvent.Type[] TYPES = GameEvent.Type.values();
+
+    private final Array<Array<Listener>> listeners = new Array<>(true, TYPES.length);
+    private final Pool<GameEvent> pool = new Pool<GameEvent>() {
+        @Override
+        protected GameEvent newObject() {
+            return new GameEvent();
+        }
+    };
+
+    /** Constructor for <code>GameEvents</code>, with nobody listening. */
+    public GameEvents() {
+        for (int i = 0; i < TYPES.length; i++) {
+            listeners.add(new Array<>(false, 4));
+        }
+    }
+
+    /**
+     * Listen for one type of event.
+     * @param type Type of event to be told about.
+     * @param listener Listener to call.
+     */
+    public void subscribe(GameEvent.Type type, Listener listener) {
+        listeners.get(type.ordinal()).add(listener);
+    }
+
+    /**
+     * Listen for every type of event.
+     * @param listener Listener to call.
+     */
+    public void subscribeAll(Listener listener) {
+        for (GameEvent.Type type : TYPES) {
+            subscribe(type, listener);
+        }
+    }
+
+    /**
+     * Stop listening for every type of event.
+     * @param listener Listener to stop calling.
+     */
+    public void unsubscribe(Listener listener) {
+        for (int i = 0; i < listeners.size; i++) {
+            listeners.get(i).removeValue(listener, true);
+        }
+    }
+
+    /**
+     * Take an event from the pool to fill in and {@link #post(GameEvent)}.
+     * @param type Type of event.
+     * @return Cleared event of that type.
+     */
+    public GameEvent obtain(GameEvent.Type type) {
+        GameEvent event = pool.obtain();
+        event.type = type;
+        return event;
+    }
+
+    /**
+     * Tell every listener for its type about an event, then return it to the pool.
+     * @param event Event from {@link #obtain(GameEvent.Type)}.
+     */
+    public void post(GameEvent event) {
+        Array<Listener> typeListeners = listeners.get(event.type.ordinal());
+        for (int i = 0; i < typeListeners.size; i++) {
+            typeListeners.get(i).onEvent(event);
+        }
+        pool.free(event);
+    }
+
+    /**
+     * Post an event that carries nothing but its type.
+     * @param type Type of event.
+     */
+    public void post(GameEvent.Type type) {
+        post(obtain(type));
+    }
+
+    /** @return Number of pooled events ready to be reused. */
+    public int getFreeEvents() {
+        return pool.getFree();
+    }
+}
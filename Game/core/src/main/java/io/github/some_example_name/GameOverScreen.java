@@ -9,7 +9,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 /**
- * UNCHANGED
+ * EXTENDED
  *
  * <code> GameOverScreen </code> implements a screen that appears when the timer runs out
  * @see com.badlogic.gdx.Screen Screen
@@ -58,7 +58,7 @@ public class GameOverScreen implements Screen {
         font.draw(batch, "Press SPACE to continue", 135, 250);
         batch.end();
 
-        if(Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if(game.getMenuInput().isKeyJustPressed(Input.Keys.SPACE)) {
             game.setScreen(new MenuScreen(game));
         }
     }
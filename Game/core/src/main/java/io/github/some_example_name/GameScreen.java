@@ -1,51 +1,77 @@
 package io.github.some_example_name;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.MapObjects;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.maps.MapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 
 /**
  * EXTENDED
  *
- * <code> GameScreen </code> implements the main gameplay logic and rendering as one class,
- * to process user input, and redraw the frames and update the game asset states as
- * the game progresses.
+ * <code> GameScreen </code> plays a {@link GameSession} in real time and draws it,
+ * passing the keyboard on to it and redrawing the frames as the game progresses.
  *
  * <p>This screen is responsible for:</p>
  * <ul>
  * <li>Loading and rendering the main Tiled map.</li>
- * <li>Updating the player, enemies, and events.</li>
- * <li>Tracking the timer, score penalties, and achievement conditions.</li>
- * <li>Switching to win/lose/menu screens based on game state.</li>
+ * <li>Running the game's fixed ticks as real time passes, and drawing between them.</li>
+ * <li>Pausing, scrubbing back through the last few seconds, and suspending the game.</li>
+ * <li>Switching to win/lose/menu screens once the game is over.</li>
  * </ul>
  *
+ * <p>Everything that decides how the game goes, from the player and deans to the
+ * events, the ticket, the bus and the timer, is in the session, so a game plays the
+ * same on this screen as it does headless.</p>
+ *
  * @see com.badlogic.gdx.Screen Screen.
  */
 
-public class GameScreen implements Screen {
+public class GameScreen implements Screen, GameWorld {
+    /**
+     * NEW
+     *
+     * How the map's tiles are drawn.
+     */
+    public enum MapRendering {
+        /** Every cell of every layer, every frame, with {@link OrthogonalTiledMapRenderer}. */
+        LIVE,
+        /** Static layers baked into chunk textures once, with {@link BakedMapRenderer}. */
+        BAKED,
+        /** Corners of static layers' tiles uploaded once, with {@link CachedMapRenderer}. */
+        CACHED
+    }
+
+    private static MapRendering mapRendering = MapRendering.BAKED;
+
     private final MyGame game;
     private boolean isPaused = false;
 
     TiledMap tiledMap;
-    OrthogonalTiledMapRenderer mapRenderer;
+    MapRenderer mapRenderer;
     OrthographicCamera camera;
     FitViewport viewport;
 
@@ -55,39 +81,61 @@ public class GameScreen implements Screen {
     private final Stage uiStage;
     private final Table uiTable;
     private final Skin uiSkin;
-    private final GameTimer gameTimer;
-
-    private BusTicket busTicket;
-    private Drown drown;
-    private Locker locker;
-    private Slow_Down bush;
-    private Decrease_Time tree;
-    private Extra_Time extraTime;
-    private Teleport labEquipment;
-    private BitmapFont font;
-    private boolean canPickUpTicket = false;
-    private boolean hasDrowned = false;
-    private int timesDrowned = 0;
 
-    private Rectangle busInteractionArea;
-    private boolean canEndGame = false;
+    // The whole game: world, events, ticket, bus, timer and score, all run in fixed ticks.
+    private GameSession session;
+    // What the map events are drawn with, which only the screen loads.
+    private MapEventAssets eventAssets;
+    private BitmapFont font;
 
     private final int MAP_WIDTH = 640;
     private final int MAP_HEIGHT = 640;
 
-    private Dean dean;
-    private Patrol_Dean patrolDean1;
-    private Patrol_Dean patrolDean2;
-    private Patrol_Dean patrolDean3;
-    private Patrol_Dean extraDean;
-
-    private Questionnaire questionnaire;
+    // Game logic runs in fixed ticks; rendering draws between the last two of them.
+    private final FixedTimestep timestep = new FixedTimestep();
+    // Where the last game's recording is saved, relative to the local storage folder.
+    public static final String REPLAY_PATH = "replays/last-game.efr";
+    // Recording of this game, or the replay driving it when watching one back.
+    private InputRecording recording;
+    // Where a game left without finishing is suspended to, relative to the local storage folder.
+    public static final String SNAPSHOT_PATH = "saves/suspended-game.efs";
+    // Reused for every snapshot of this game.
+    private final GameSnapshot snapshot = new GameSnapshot();
+    // The last 10 seconds at 60 ticks a second, scrubbed through with the arrow keys while
+    // paused. Memory is fixed here, so it stays on in every build. The deans' memory of
+    // the maze changes a little every tick, so a frame takes a few hundred bytes.
+    public static final int REWIND_FRAMES = 600;
+    public static final int REWIND_BYTES = 512 * 1024;
+    private final RewindBuffer rewind = new RewindBuffer(REWIND_FRAMES, REWIND_BYTES);
+    // The world as it was when paused, drawn instead of the world until play carries on.
+    private FrameBuffer pauseFrame;
+    private boolean pauseFrameStale = true;
+    private final Matrix4 pauseProjection = new Matrix4();
+
+    // The screen's own keys, pausing, leaving and scrubbing, gathered once at the start of each frame.
+    private final InputActions actions = new InputActions();
+    // Key events go to the screen's keys and, unless a replay is playing, to the session's keys.
+    private final InputAdapter keys = new InputAdapter() {
+        @Override
+        public boolean keyDown(int keycode) {
+            boolean used = actions.keyDown(keycode);
+            // Keys pressed while paused would otherwise be acted on by the first tick after it.
+            if (session.getReplayer() == null && !isPaused) {
+                used |= session.getActions().keyDown(keycode);
+            }
+            return used;
+        }
 
-    private Freeze_Dean freezeDean;
+        @Override
+        public boolean keyUp(int keycode) {
+            boolean used = actions.keyUp(keycode);
+            if (session.getReplayer() == null) {
+                used |= session.getActions().keyUp(keycode);
+            }
+            return used;
+        }
+    };
 
-    private NPC friend;
-    private int timesCaughtByDean = 0;
-    private int timesCaughtByPatrol = 0;
     private BitmapFont catchCounterFont;
 
     /**
@@ -95,9 +143,63 @@ public class GameScreen implements Screen {
      *
      * Constructor for <code> GameScreen </code>, using the game creator
      * in <code> MyGame </code> to create all main game and UI assets.
+     * The game is recorded and saved to {@link #REPLAY_PATH} when the screen is left.
      * @param game Game creator.
      */
     public GameScreen(MyGame game) {
+        this(game, (InputRecording) null);
+    }
+
+    /**
+     * NEW
+     *
+     * Constructor for <code> GameScreen </code> that plays back a recorded game in
+     * real time instead of reading the keyboard for movement.
+     * @param game Game creator.
+     * @param replay Recording to play back, or null to play a new, recorded game.
+     * @throws IllegalArgumentException If the recording was made on a different map.
+     */
+    public GameScreen(MyGame game, InputRecording replay) {
+        this(game, replay, null);
+    }
+
+    /**
+     * NEW
+     *
+     * Constructor for <code> GameScreen </code> that carries on a suspended game from
+     * a snapshot. The map events come back from the snapshot as they were, instead of
+     * being spawned afresh. The rest of the game is not recorded, since a recording has
+     * to start from the beginning of a game.
+     * @param game Game creator.
+     * @param resume Snapshot written by {@link #writeSnapshot(GameSnapshot)}.
+     * @throws IllegalArgumentException If the snapshot is of another version or does not fit this map.
+     */
+    public GameScreen(MyGame game, GameSnapshot resume) {
+        this(game, null, resume);
+    }
+
+    /**
+     * NEW
+     *
+     * Constructor for a <code>GameScreen</code> that runs a session without drawing it,
+     * for running the game's side of its frames and its lifecycle without a GPU. It
+     * loads nothing, so it can be ticked with {@link #tickWorld(float)}, shown, resized,
+     * paused and hidden, but not rendered or disposed of. The session's recording, if it has
+     * one, is saved like a new game's.
+     * @param game Game creator, or null.
+     * @param session Game to run.
+     */
+    GameScreen(MyGame game, GameSession session) {
+        this.game = game;
+        this.session = session;
+        player = session.getPlayer();
+        recording = session.getSimulation().getRecording();
+        uiStage = null;
+        uiTable = null;
+        uiSkin = null;
+    }
+
+    private GameScreen(MyGame game, InputRecording replay, GameSnapshot resume) {
         this.game = game;
 
         camera = new OrthographicCamera();
@@ -106,62 +208,50 @@ public class GameScreen implements Screen {
         camera.update();
 
         // Load the TMX map created in Tiled.
-        tiledMap = new TmxMapLoader().load("Tile Maps/Final Game Map - Maze.tmx");
-
-        drown = new Drown(
-            tiledMap,
-            "Events", // same object layer as Bus & BusTicket
-            560,      // respawn X (same as dean reset)
-            180       // respawn Y
-        );
-
-        questionnaire = new Questionnaire(
-            tiledMap,
-            "Events" // same object layer as Bus & BusTicket and Drown
-        );
-
-        freezeDean = new Freeze_Dean(
-            tiledMap,
-            "Events" // same object layer as Bus & BusTicket & Drown & questionnaire
-        );
-
-
-        mapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+        tiledMap = new TmxMapLoader().load(Simulation.MAP_PATH);
+
+        switch (mapRendering) {
+            case BAKED:
+                mapRenderer = new BakedMapRenderer(tiledMap);
+                break;
+            case CACHED:
+                mapRenderer = new CachedMapRenderer(tiledMap);
+                break;
+            default:
+                mapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+                break;
+        }
         viewport = new FitViewport(MAP_WIDTH, MAP_HEIGHT, camera);
 
         batch = new SpriteBatch();
-        // Spawn entities/events at fixed world coordinates.
-        player = new Player(560, 180);
-        locker = new Locker(495, 895);
-        bush = new Slow_Down(770, 545);
-        tree = new Decrease_Time(270, 9);
-        labEquipment = new Teleport(750,610, this);
-        extraTime = new Extra_Time(300, 120);
-        dean = new Dean(300, 310,     player, this);
-        patrolDean1 = new Patrol_Dean(140, 190, 90, 260, this);
-        patrolDean2 = new Patrol_Dean(170, 130, 90, 260, this);
-        patrolDean3 = new Patrol_Dean(200, 100, 90, 260, this);
-        friend = new NPC(560, 600);
+        // The game lives in the session, which this screen ticks and draws.
+        int mapHash = InputRecording.hashMap(Gdx.files.internal(Simulation.MAP_PATH));
+        ByteBuffer saved = resume == null ? null : resume.startReading();
+        if (saved != null) {
+            session = new GameSession(tiledMap, saved, true);
+            readScreenState(saved);
+            session.getSimulation().getPursuitPlanner().setBackgroundPlanning(Runtime.getRuntime().availableProcessors() > 1);
+            session.getSimulation().getPursuitPlanner().setLockstep(true);
+        } else if (replay == null) {
+            long seed = System.nanoTime();
+            session = new GameSession(tiledMap, null, seed, true);
+            // Keep path searches off the render thread whenever there is a spare core for them,
+            // delivering them on a fixed tick so the recording replays exactly.
+            boolean background = Runtime.getRuntime().availableProcessors() > 1;
+            session.getSimulation().getPursuitPlanner().setBackgroundPlanning(background);
+            session.getSimulation().getPursuitPlanner().setLockstep(true);
+            recording = new InputRecording(seed, mapHash, background ? InputRecording.FLAG_BACKGROUND_PLANNING : 0);
+            session.getSimulation().startRecording(recording);
+        } else {
+            InputReplayer.checkMap(replay, mapHash);
+            session = new GameSession(tiledMap, replay, true);
+        }
+        player = session.getPlayer();
 
         catchCounterFont = new BitmapFont();
         catchCounterFont.getData().setScale(1.5f);
         font = new BitmapFont();
-
-        // Pull the named objects from the Tiled "Events" layer.
-        MapObjects eventObjects = tiledMap.getLayers().get("Events").getObjects();
-
-        // Create the ticket using the rectangle named "BusTicket".
-        MapObject ticketObject = eventObjects.get("BusTicket");
-        if (ticketObject != null && ticketObject instanceof RectangleMapObject) {
-            RectangleMapObject rect = (RectangleMapObject) ticketObject;
-            busTicket = new BusTicket(rect.getRectangle().x, rect.getRectangle().y);
-        }
-
-        // Store the bus interaction zone rectangle named "Bus".
-        MapObject busObject = eventObjects.get("Bus");
-        if (busObject != null && busObject instanceof RectangleMapObject) {
-            this.busInteractionArea = ((RectangleMapObject) busObject).getRectangle();
-        }
+        eventAssets = new MapEventAssets();
 
         // Scene2D UI setup for the timer HUD.
         uiSkin = new Skin(Gdx.files.internal("ui/uiskin.json"));
@@ -169,15 +259,66 @@ public class GameScreen implements Screen {
         uiTable = new Table();
         uiTable.setFillParent(true);
         uiStage.addActor(uiTable);
-        gameTimer = new GameTimer(uiSkin, uiTable);
+        session.getTimer().show(uiSkin, uiTable);
         uiTable.top().right().pad(10,0,0,10);
     }
 
+    /**
+     * NEW
+     *
+     * Write everything needed to carry this game on later to a snapshot: the session,
+     * then who is playing and how the screen was running it.
+     * @param out Snapshot to fill; its buffer is reused.
+     */
+    public void writeSnapshot(GameSnapshot out) {
+        ByteBuffer buffer = out.startWriting();
+        session.writeState(buffer);
+        GameSnapshot.putString(buffer, game == null ? "" : game.getPlayerFirstName());
+        GameSnapshot.putString(buffer, game == null ? "" : game.getPlayerLastName());
+        GameSnapshot.putBoolean(buffer, isPaused);
+        buffer.putFloat(timestep.getTicksPerSecond());
+        out.finishWriting();
+    }
+
+    /**
+     * NEW
+     *
+     * Run the game's ticks for the time since the last frame, and keep every frame that
+     * moved the world to scrub back through when paused. This is all of a frame that
+     * touches the game, everything else in {@link #render(float)} draws it.
+     * @param delta Time in seconds since last frame finished rendering.
+     * @return Number of ticks run.
+     */
+    int tickWorld(float delta) {
+        // Run the whole game in fixed ticks so it plays the same at any frame rate.
+        int ticks = timestep.advance(delta);
+        for (int i = 0; i < ticks; i++) {
+            session.tick(timestep.getStepSeconds());
+        }
+        // A finished game or replay leaves the screen, so there is nothing to rewind to.
+        if (ticks > 0 && session.getReplayer() == null && session.getOutcome() == GameSession.Outcome.PLAYING) {
+            writeSnapshot(snapshot);
+            rewind.record(snapshot);
+        }
+        return ticks;
+    }
+
+    // The screen's part of a snapshot, after the session's.
+    private void readScreenState(ByteBuffer in) {
+        String firstName = GameSnapshot.getString(in);
+        String lastName = GameSnapshot.getString(in);
+        if (game != null) {
+            game.setPlayerName(firstName, lastName);
+        }
+        isPaused = GameSnapshot.getBoolean(in);
+        timestep.setTicksPerSecond(in.getFloat());
+    }
+
     /**
      * EXTENDED
      *
-     * Update game state from last frame, and render a new frame for the Screen
-     * using updated assets.
+     * Run the game's ticks for the time since the last frame, and render a new frame
+     * for the Screen between the last two of them.
      * @param delta Time in seconds since last frame finished rendering.
      * @see com.badlogic.gdx.Screen#render Screen.render().
      */
@@ -186,118 +327,43 @@ public class GameScreen implements Screen {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Read the screen's keys once for the whole frame, letting through only what the game is doing now.
+        if (isPaused) {
+            actions.setContext(InputActions.Context.PAUSED);
+        } else if (session.getQuestionnaire().isPlayerFrozen()) {
+            actions.setContext(InputActions.Context.QUIZ);
+        } else {
+            actions.setContext(InputActions.Context.PLAY);
+        }
+        actions.update();
         handleInput();
 
-        // If paused, render a frozen frame and return early
+        // If paused, draw the frame captured when pausing and return early
         if (isPaused) {
-            // Render the current frame
-            camera.update();
-            mapRenderer.setView(camera);
-            mapRenderer.render();
-
-            batch.setProjectionMatrix(camera.combined);
-            batch.begin();
-
-            // Render the "Game Paused" message
-            font.draw(batch, "Game Paused", camera.position.x - 50, camera.position.y + 50);
-
-            // Render the player and other static elements
-            player.render(batch);
-            if (busTicket != null && busTicket.isCollected()) {
-                busTicket.renderAsIcon(batch, camera);
-            }
-
-            batch.end();
-
-            // Render the UI stage
-            uiStage.act(delta);
-            uiStage.draw();
-
+            renderPaused(delta);
             return; // Skip the rest of the game logic
         }
 
-        // Update entities that depend on player position.
-        friend.update(player);
-        // Update all deans.
-        dean.update(delta);
-        patrolDean1.update(delta);
-        patrolDean2.update(delta);
-        patrolDean3.update(delta);
-        dean.update(delta);
-        // Extra dean (spawned as a penalty) behaves like a patrol dean.
-        if (extraDean != null) {
-            extraDean.update(delta);
-            if (player.getPosition().dst(extraDean.getPosition()) < 16f) {
-                player.getPosition().set(560, 180);
-                timesCaughtByPatrol++;
-            }
-        }
-
-        // Collision check for main chasing dean.
-        if (player.getPosition().dst(dean.getPosition()) < 16f) {
-            player.getPosition().set(560, 180);
-            timesCaughtByDean++;
-            dean.resetToStart(timesCaughtByDean); //send the dean back to his starting position or other side of the map to ensure he can't spawn camp the player
-        }
-
-        // Collision check for patrol deans.
-        if (player.getPosition().dst(patrolDean1.getPosition()) < 16f ||
-            player.getPosition().dst(patrolDean2.getPosition()) < 16f ||
-            player.getPosition().dst(patrolDean3.getPosition()) < 16f) {
-
-            player.getPosition().set(560, 180);
-            timesCaughtByPatrol++;
-        }
-
-        // Drown Check
-        if (drown.update(player)) {
-            hasDrowned = true;
-            timesDrowned++;
+        tickWorld(delta);
+        if (session.getReplayer() != null && session.getReplayer().isFinished()) {
+            game.setScreen(new MenuScreen(game));
+            return;
         }
-
-
-        // Update map events
-        locker.update(player, delta);
-        bush.update(player, delta);
-        tree.update(player, gameTimer, delta);
-        extraTime.update(player, gameTimer, delta);
-        labEquipment.update(player, delta);
-
-        // Hidden quiz event
-        if (questionnaire != null) {
-            questionnaire.update(player, this);
+        if (session.getOutcome() == GameSession.Outcome.WON) {
+            finishWon();
+            return;
         }
-
-        // Freeze event
-        freezeDean.update(player, this);
-
-        // The logic behind the ticket pick up and the end game bus
-        if (busTicket != null) {
-            if (!busTicket.isCollected()) {
-                if (player.getPosition().dst(busTicket.getPosition()) < 16) {
-                    busTicket.discover();
-                    canPickUpTicket = true;
-                } else {
-                    canPickUpTicket = false;
-                }
-            } else {
-                Rectangle playerRect = new Rectangle(
-                    player.getPosition().x,
-                    player.getPosition().y,
-                    16,
-                    16
-                );
-
-                if (busInteractionArea != null && playerRect.overlaps(busInteractionArea)) {
-                    canEndGame = true;
-                } else {
-                    canEndGame = false;
-                }
-            }
+        if (session.getOutcome() == GameSession.Outcome.TIME_UP) {
+            // Time-up to the game over screen
+            session.getTimer().onTimeUp();
+            leaveGame(new GameOverScreen(game));
+            return;
         }
+        float alpha = timestep.getAlpha();
 
-        // Camera follows the player
-        camera.position.set(player.getPosition().x, player.getPosition().y, 0);
+        // Camera follows the player, drawn between the last two ticks
+        Vector2 playerDrawPosition = player.getRenderPosition(alpha);
+        camera.position.set(playerDrawPosition.x, playerDrawPosition.y, 0);
         camera.update();
 
         mapRenderer.setView(camera);
@@ -311,42 +377,24 @@ public class GameScreen implements Screen {
         batch.setProjectionMatrix(uiStage.getCamera().combined);
 
         //draw the three events encountered checklists in the top left hand corner of the screen
-        //events get updates using a ternary operator which is like a condensed if/else statement -> it is set out like: (condition ? value_if_true : value_if_false)
-
-        int positiveEvents = 0;
-        if (locker.lockerSearched()) positiveEvents++;
-        if (extraTime.gainedTime()) positiveEvents++;
-        if (freezeDean.isUsed()) positiveEvents++;
-
-        font.draw(batch, "Positive Events Encountered = " + positiveEvents + "/3", 35, 630);//this means if the locker boost is active (the bus ticket has been picked up) display that the event 1/1 has been encountered otherwise 0/1
-
-        int negativeEvents = 0;
-        if (timesCaughtByDean > 0) negativeEvents++;
-        if (timesCaughtByPatrol > 0) negativeEvents ++;
-        if (hasDrowned) negativeEvents++;
-        if (bush.bushFall()) negativeEvents++;
-        if (tree.hitTree()) negativeEvents++;
-
-        font.draw(batch, "Negative Events Encountered = " + negativeEvents + "/5" , 35, 610);
-
-        int hiddenEvents = 0;
-        if (busTicket.isCollected()) hiddenEvents++;
-        if (labEquipment.teleportHappened()) hiddenEvents++;
-        if (questionnaire.isAnswered()) hiddenEvents++;
-
-        font.draw(batch, "Hidden Events Encountered = " + hiddenEvents + "/3", 35, 590);
+        //the checklist rebuilds each line only when one of its events is posted, so this is just drawing
+        EventChecklist checklist = session.getChecklist();
+        font.draw(batch, checklist.getLine(EventCategory.POSITIVE), 35, 630);
+        font.draw(batch, checklist.getLine(EventCategory.NEGATIVE), 35, 610);
+        font.draw(batch, checklist.getLine(EventCategory.HIDDEN), 35, 590);
 
 
 
         //switch back to the game coordinates for game objects
         batch.setProjectionMatrix(camera.combined);
 
+        BusTicket busTicket = session.getBusTicket();
         if (busTicket != null) {
             busTicket.render(batch);
         }
 
         // Interaction prompt for ticket pickup.
-        if (canPickUpTicket) {
+        if (session.canPickUpTicket()) {
             font.draw(
                 batch,
                 "Press E to pick up",
@@ -356,7 +404,7 @@ public class GameScreen implements Screen {
         }
 
         // Interaction prompt for using ticket at the bus.
-        if (canEndGame) {
+        if (session.canEndGame()) {
             font.draw(
                 batch,
                 "Press E to use ticket",
@@ -366,30 +414,15 @@ public class GameScreen implements Screen {
         }
 
         // The messages will appear on top by rendering player last.
-        locker.render(batch);
-        bush.render(batch);
-        tree.render(batch);
-        extraTime.render(batch);
-        labEquipment.render(batch);
-        dean.render(batch);
-        friend.render(batch);
-        patrolDean1.render(batch);
-        patrolDean2.render(batch);
-        patrolDean3.render(batch);
-        dean.render(batch);
-        friend.render(batch);
-        if (extraDean != null) {
-            extraDean.render(batch);
-        }
+        session.getMapEvents().render(batch, eventAssets);
+        session.getSimulation().render(batch, alpha, EntityRegistry.Layer.DEANS);
 
-        if (questionnaire != null) {
-            questionnaire.render(batch, font);
-        }
+        session.getQuestionnaire().render(batch, font);
 
-        freezeDean.render(batch, font);
+        session.getFreezeDean().render(batch, font);
 
 
-        player.render(batch);
+        session.getSimulation().render(batch, alpha, EntityRegistry.Layer.PLAYER);
 
         if (busTicket != null && busTicket.isCollected()) {
             busTicket.renderAsIcon(batch, camera);
@@ -397,31 +430,31 @@ public class GameScreen implements Screen {
 
         batch.end();
 
-        // Decrement the timer only if the game is not paused
-        if (!isPaused) {
-            gameTimer.decrementTimer(delta);
-        }
-
-        // When time runs out, trigger time-up behaviour.
-        if (gameTimer.getTimeLeft() == 0) {
-            gameTimer.onTimeUp();
-            game.setScreen(new MenuScreen(game));
-        }
-
         // Escape key returns to menu.
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            game.setScreen(new MenuScreen(game));
+        if (actions.isPressed(InputActions.Action.BACK)) {
+            leaveGame(new MenuScreen(game));
         }
 
-        // Time-up to the game over screen
-        if (gameTimer.getTimeLeft() == 0) {
-            gameTimer.onTimeUp();
-            game.setScreen(new GameOverScreen(game));
-        }
         uiStage.act(delta);
         uiStage.draw();
     }
 
+    /**
+     * NEW
+     *
+     * Change how many simulation ticks run per second, independently of the frame
+     * rate. Movement speeds are per tick, so every group's base time scale is adjusted
+     * to keep the game running at the same speed in real time.
+     * @param ticksPerSecond New simulation rate.
+     */
+    public void setSimulationRate(float ticksPerSecond) {
+        timestep.setTicksPerSecond(ticksPerSecond);
+        float scale = FixedTimestep.DEFAULT_TICKS_PER_SECOND / ticksPerSecond;
+        for (StatusEffects.Group group : StatusEffects.Group.values()) {
+            session.getStatusEffects().setBaseTimeScale(group, scale);
+        }
+    }
+
     /**
      * NEW
      *
@@ -431,56 +464,10 @@ public class GameScreen implements Screen {
      * negative bonus score.</p>
      *
      * @return Array of achievements earned during this run.
+     * @see GameSession#calculateAchievements()
      */
     public Array<Achievement> calculateAchievements() {
-        Array<Achievement> earnedAchievement = new Array<>();
-
-        // Hidden events hunter --> Collected ticket and used teleporter
-        if (busTicket != null && busTicket.isCollected() &&
-            labEquipment != null && labEquipment.teleportHappened() &&
-            questionnaire != null && questionnaire.isAnswered()) {
-            earnedAchievement.add(new Achievement("Secret Hunter", "Found all hidden events", 100));
-        }
-
-        // All Positive Events
-        if (locker.lockerSearched() && extraTime.gainedTime() && freezeDean.isUsed()) {
-            earnedAchievement.add(new Achievement("Positive Master", "Found all positive events", 80));
-        }
-
-        // All Negative Events
-        if (timesCaughtByDean > 0 && timesCaughtByPatrol > 0 && hasDrowned && bush.bushFall() && tree.hitTree()) {
-            earnedAchievement.add(new Achievement("Masochist", "Found all negative events", -30));
-        }
-
-        // All Events
-        if (locker.lockerSearched() && extraTime.gainedTime() && freezeDean.isUsed() &&
-            timesCaughtByDean > 0 && timesCaughtByPatrol > 0 && hasDrowned &&
-            bush.bushFall() && tree.hitTree() && busTicket.isCollected() &&
-            labEquipment.teleportHappened() && questionnaire.isAnswered()) {
-            earnedAchievement.add(new Achievement("Completionist", "Found all Events!", 200));
-        }
-
-        // Speedster --> Never caught by any Dean
-        if (timesCaughtByDean == 0 && timesCaughtByPatrol == 0) {
-            earnedAchievement.add(new Achievement("Speedster", "Never caught by a Dean", 150));
-        }
-
-        // Class Clown -->  more than 3 times
-        if (timesCaughtByDean + timesCaughtByPatrol >= 3) {
-            earnedAchievement.add(new Achievement("Class Clown", "Caught 3+ times", -50));
-        }
-
-        // Quiz Taker --> Attempted the Quiz (Pass or Fail)
-        if (questionnaire != null && questionnaire.isAnswered()) {
-            earnedAchievement.add(new Achievement("Quiz Taker", "Attempted the Technical Quiz", 50));
-        }
-
-        // Natural Barrier Victim --> Natural Barrier Victim  Drowned or hit obstacles
-        if (hasDrowned || (bush != null && bush.bushFall()) || (tree != null && tree.hitTree())) {
-            earnedAchievement.add(new Achievement("Natural Barrier Victim", "Hit an natural obstacle", -20));
-        }
-
-        return earnedAchievement;
+        return session.calculateAchievements();
     }
 
 
@@ -488,140 +475,200 @@ public class GameScreen implements Screen {
     /**
      * EXTENDED
      *
-     * Move the player and interacting with the world and menus every frame when
-     * the corresponding keys are pressed:
+     * Handle the screen's keys once every frame:
      * <ul>
-     * <li> WASD - Move Character Up/Left/Down/Right.</li>
-     * <li> E - Interact with items.</li>
      * <li> P - Pause Game.</li>
      * </ul>
+     * Everything else, from movement to picking up the ticket and boarding the bus, is
+     * read by the {@link GameSession} on every tick instead.
      */
     private void handleInput() {
-        if (questionnaire != null && questionnaire.isPlayerFrozen()){
-            return; // freeze the character during the quiz
+        // The quiz lets no pause through, so the player cannot pause out of it
+        // Change pause functionality to use the P key, include this in docstrings
+        if (actions.isPressed(InputActions.Action.PAUSE)) {
+            if (isPaused && rewind.getPosition() > 0 && recording != null) {
+                // Carrying on from an earlier point is not what the recording holds.
+                session.getSimulation().stopRecording();
+                recording = null;
+            }
+            isPaused = !isPaused; // Toggle pause state
+            if (!isPaused) {
+                Gdx.graphics.setContinuousRendering(true);
+            }
+            pauseFrameStale = true; // Capture the world as it is now when pausing
         }
+    }
 
-        float moveSpeed = 1f;
-        if (locker != null && locker.isBoostActive()) {
-            moveSpeed = 2f;
-        }
-        if (bush != null && bush.isBoostActive()) {
-            moveSpeed = 0.5f;
-        }
+    // The player boarded the bus with the ticket, so score the game with its achievements.
+    private void finishWon() {
+        int totalPenalty = calculateTotalPenalty();
+        int timeRemaining = (int) session.getTimer().getTimeLeft();
 
-        float newX = player.getPosition().x;
-        float newY = player.getPosition().y;
+        Array<Achievement> achievements = calculateAchievements();
+        int finalScore = session.calculateTotalScore(achievements);
 
-        // independent key checks
-        if (Gdx.input.isKeyPressed(Input.Keys.W)) {
-            newY += moveSpeed;
-            player.setDirection(Player.Direction.UP);
-        }
+        String playerName = game.getPlayerFullName(); // get the full player name for the leaderboard
+        Save_Leaderboard leaderboard = new Save_Leaderboard();
+        leaderboard.addScore(playerName, finalScore); // add score to the leaderboard if it is in the top scores
+        leaveGame(new WinScreen(game, finalScore, timeRemaining, totalPenalty, achievements));
+    }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.S)) {
-            newY -= moveSpeed;
-            player.setDirection(Player.Direction.DOWN);
+    // The game was won, lost or left on purpose, so a suspended copy of it has nothing to carry on.
+    private void leaveGame(Screen next) {
+        if (session.getReplayer() == null) {
+            Gdx.files.local(SNAPSHOT_PATH).delete();
         }
+        game.setScreen(next);
+    }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
-            newX -= moveSpeed;
-            player.setDirection(Player.Direction.LEFT);
+    /**
+     * NEW
+     *
+     * Scrub through the last few seconds of the game while it is paused, one frame for
+     * every frame either key is held:
+     * <ul>
+     * <li> LEFT - Step back.</li>
+     * <li> RIGHT - Step forward again.</li>
+     * </ul>
+     * Unpausing carries the game on from the frame scrubbed to.
+     * @return True if a different frame was scrubbed to.
+     */
+    private boolean scrubRewind() {
+        boolean moved = false;
+        if (actions.isHeld(InputActions.Action.SCRUB_BACK)) {
+            moved = rewind.stepBack();
+        } else if (actions.isHeld(InputActions.Action.SCRUB_FORWARD)) {
+            moved = rewind.stepForward();
         }
-
-        if (Gdx.input.isKeyPressed(Input.Keys.D)) {
-            newX += moveSpeed;
-            player.setDirection(Player.Direction.RIGHT);
+        if (!moved) {
+            return false;
         }
+        rewind.read(snapshot);
+        ByteBuffer in = snapshot.startReading();
+        session.rewindState(in);
+        readScreenState(in);
+        isPaused = true; // The frames were recorded while playing.
+        camera.position.set(player.getPosition().x, player.getPosition().y, 0);
+        return true;
+    }
 
-        // Ticket pickup event
-        else if (canPickUpTicket && Gdx.input.isKeyJustPressed(Input.Keys.E)) {
-            busTicket.collect();
-            canPickUpTicket = false;
+    /**
+     * NEW
+     *
+     * Draw the paused game. The world is drawn once into {@link #pauseFrame} when the
+     * game is paused or scrubbed, and after that only the captured frame and the
+     * "Game Paused" overlay are drawn. Rendering also switches to on demand, so a
+     * paused game only draws again when a key is pressed or the window changes.
+     * @param delta Time in seconds since last frame finished rendering.
+     */
+    private void renderPaused(float delta) {
+        if (Gdx.graphics.isContinuousRendering()) {
+            Gdx.graphics.setContinuousRendering(false);
         }
-
-        // Change pause functionality to use the P key, include this in docstrings
-        if (Gdx.input.isKeyJustPressed(Input.Keys.P)) {
-            isPaused = !isPaused; // Toggle pause state
-            return; // Skip other input handling when toggling pause
+        if (scrubRewind()) {
+            pauseFrameStale = true;
         }
-
-        if (isPaused) {
-            return; // Do not process input if the game is paused
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if (pauseFrame == null || pauseFrame.getWidth() != width || pauseFrame.getHeight() != height) {
+            if (pauseFrame != null) {
+                pauseFrame.dispose();
+            }
+            pauseFrame = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            pauseFrameStale = true;
+        }
+        if (pauseFrameStale) {
+            capturePauseFrame(delta);
+            pauseFrameStale = false;
         }
 
-        // End game (win condition) interaction when standing in the bus zone with the ticket, calculating the score with the achievement.
-        else if (canEndGame && Gdx.input.isKeyJustPressed(Input.Keys.E)) {
-            int baseScore = calculateFinalScore();
-            int totalPenalty = calculateTotalPenalty();
-            int timeRemaining = (int) gameTimer.getTimeLeft();
-            int timesCaught = getTimesCaughtByDean();
-
-            Array<Achievement> achievements = calculateAchievements();
-
-            int totalAchievementScore = 0;
-            for (Achievement currentAchievement : achievements) {
-                // Add the specific bonus score (positive or negative) of the current achievement to our total
-                totalAchievementScore = totalAchievementScore + currentAchievement.bonusScore;
-            }
+        // The captured frame covers the whole window, letterboxing and all.
+        Gdx.gl.glViewport(0, 0, width, height);
+        pauseProjection.setToOrtho2D(0, 0, width, height);
+        batch.setProjectionMatrix(pauseProjection);
+        batch.begin();
+        batch.draw(pauseFrame.getColorBufferTexture(), 0, 0, width, height, 0, 0, width, height, false, true);
+        batch.end();
 
-            int finalScore = Math.max(0, baseScore + totalAchievementScore);
+        // Render the "Game Paused" message
+        viewport.apply();
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        font.draw(batch, "Game Paused", camera.position.x - 50, camera.position.y + 50);
+        if (rewind.getPosition() > 0) {
+            font.draw(batch, rewindLabel(), camera.position.x - 50, camera.position.y + 30);
+        }
+        batch.end();
 
-            String playerName = game.getPlayerFullName(); // get the full player name for the leaderboard
-            Save_Leaderboard leaderboard = new Save_Leaderboard();
-            leaderboard.addScore(playerName, finalScore); // add score to the leaderboard if it is in the top scores
-            game.setScreen(new WinScreen(game, finalScore, timeRemaining, totalPenalty, achievements));
+        // Keep scrubbing while an arrow key is held, not just when it repeats.
+        if (actions.isHeld(InputActions.Action.SCRUB_BACK) || actions.isHeld(InputActions.Action.SCRUB_FORWARD)) {
+            Gdx.graphics.requestRendering();
         }
+    }
 
-        float oldX = player.getPosition().x;
-        float oldY = player.getPosition().y;
+    // Draws the world as it stands, without the pause overlay, into the paused frame.
+    private void capturePauseFrame(float delta) {
+        pauseFrame.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        viewport.apply();
+        camera.update();
+        mapRenderer.setView(camera);
+        mapRenderer.render();
 
-        if (!isCellBlocked(newX, newY) && !isBounds(newX, newY)) {
-            player.getPosition().set(newX, newY);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        // Render the events, deans and player where they are, scrubbed or not
+        session.getMapEvents().render(batch, eventAssets);
+        session.getSimulation().render(batch, 1f, EntityRegistry.Layer.DEANS);
+        player.render(batch);
+        BusTicket busTicket = session.getBusTicket();
+        if (busTicket != null && busTicket.isCollected()) {
+            busTicket.renderAsIcon(batch, camera);
         }
+        batch.end();
 
-        else if (!isCellBlocked(newX, oldY) && !isBounds(newX, oldY)) {
-            player.getPosition().set(newX, oldY);
-        }
+        // Render the UI stage
+        uiStage.getViewport().apply();
+        uiStage.act(delta);
+        uiStage.draw();
+        pauseFrame.end();
+    }
 
-        else if (!isCellBlocked(oldX, newY) && !isBounds(oldX, newY)) {
-            player.getPosition().set(oldX, newY);
-        }
+    private String rewindLabel() {
+        return "Rewound " + rewind.getPosition() + " frames (LEFT/RIGHT)";
+    }
 
+    /**
+     * NEW
+     *
+     * Return the last few seconds of this game, for scrubbing through.
+     * @return Rewind buffer recorded every frame that ran a tick.
+     */
+    public RewindBuffer getRewind() {
+        return rewind;
     }
 
     /**
-     * EXTENDED JAVADOC
+     * EXTENDED
      * Returns if the cell at a given coordinate in the world allows an entity
      * to move onto it. Useful for checking collisions when moving player or another
      * entity.
      *
      * <p>This method checks tile properties (and/or layer properties) for a
-     * <code>collidable</code> flag.</p>
+     * <code>collidable</code> flag, using the same rules as the simulation.</p>
      *
      * @param x Horizontal position of cell in the world.
      * @param y Vertical position of cell in the world.
      * @return True if cell blocks entities to move onto it, False if entities can move onto it.
      */
+    @Override
     public boolean isCellBlocked(float x, float y) {
-        for (int i = 0; i < tiledMap.getLayers().getCount(); i++) {
-            if (tiledMap.getLayers().get(i) instanceof TiledMapTileLayer) {
-                TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(i);
-                int tileX = (int) ((x + 8) / layer.getTileWidth());
-                int tileY = (int) ((y + 8) / layer.getTileHeight());
-                TiledMapTileLayer.Cell cell = layer.getCell(tileX, tileY);
-
-                if (cell != null && cell.getTile() != null) {
-                    if (cell.getTile().getProperties().containsKey("collidable") || layer.getProperties().containsKey("collidable")) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return session.isCellBlocked(x, y);
     }
 
     /**
-     * NEW
+     * EXTENDED
      *
      * Return whether a cell blocks movement for the dean.
      *
@@ -632,28 +679,13 @@ public class GameScreen implements Screen {
      * @param y The vertical position of cell in the world.
      * @return True if the cell blocks dean movement, false otherwise.
      */
+    @Override
     public boolean isCellBlockedForDean(float x, float y) {
-        for (int i = 0; i < tiledMap.getLayers().getCount(); i++) {
-            if (tiledMap.getLayers().get(i) instanceof TiledMapTileLayer) {
-                TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(i);
-                int tileX = (int) ((x + 8) / layer.getTileWidth());
-                int tileY = (int) ((y + 8) / layer.getTileHeight());
-                TiledMapTileLayer.Cell cell = layer.getCell(tileX, tileY);
-
-                if (cell != null && cell.getTile() != null) {
-                    if (layer.getProperties().containsKey("collidable") ||
-                        layer.getProperties().containsKey("door")) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return session.isCellBlockedForDean(x, y);
     }
 
-
     /**
-     * NEW
+     * EXTENDED
      *
      * Checks if the player's future position overlaps with the "Bounds" object layer of the Tiled map.
      * @param x The future x-coordinate of the player.
@@ -661,27 +693,7 @@ public class GameScreen implements Screen {
      * @return {@code true} if a collision is detected (movement blocked), {@code false} otherwise.
      */
     public boolean isBounds(float x, float y) {
-        // Get the bounds layer unless it does not exist (then return false which is no collision)
-        if (tiledMap.getLayers().get("Bounds") == null) {
-            return false;
-        }
-
-        // Get the player width and height to create a temporary collision object
-        float playerWidth = player.currentFrame.getRegionWidth();
-        float playerHeight = player.currentFrame.getRegionHeight();
-        Rectangle playerFutureRect = new Rectangle(x, y, playerWidth, playerHeight);
-
-        // Check all the objects in the Bounds layer
-        MapObjects wallBounds = tiledMap.getLayers().get("Bounds").getObjects();
-        for (RectangleMapObject wallObject : wallBounds.getByType(RectangleMapObject.class)) {
-            Rectangle wallHitbox = wallObject.getRectangle();
-
-            // Register if the player hit the wall
-            if (playerFutureRect.overlaps(wallHitbox)) {
-                return true;
-            }
-        }
-        return false;
+        return session.getSimulation().isBounds(x, y);
     }
 
     /**
@@ -695,17 +707,7 @@ public class GameScreen implements Screen {
      * @return Base score after penalties
      */
     public int calculateFinalScore() {
-        //convert the time remaining into seconds to have as the player's score
-        int timeRemainingSeconds = (int) gameTimer.getTimeLeft();
-
-        int minutes = timeRemainingSeconds / 60;
-        int seconds = timeRemainingSeconds % 60;
-        int timeScore = (minutes * 100) + seconds; //this means 3:24 left on the clock gives a score of 324 before penalties are taken into account
-
-        int totalPenalty = calculateTotalPenalty();
-
-        //make sure the score can't go below 0 which could happen if the dean catches you enough times
-        return Math.max(0, timeScore - totalPenalty);
+        return session.calculateFinalScore();
     }
 
     /**
@@ -723,26 +725,28 @@ public class GameScreen implements Screen {
      * @return Total penalty score to subtract from the base time score.
      */
     public int calculateTotalPenalty() {
-        int deanPenalty = timesCaughtByDean * 5;
-        int drownedPenalty = timesDrowned * 10;
-        int patrolDeanPenalty = timesCaughtByPatrol * 5;
-        return deanPenalty + drownedPenalty + patrolDeanPenalty;
+        return session.calculateTotalPenalty();
     }
 
 
     /**
-     * UNCHANGED
+     * EXTENDED
      * Resize UI and game map viewports when the window size is changed.
+     * A paused game captures its frame again at the new size.
      * @param width Current width of window.
      * @param height Current height of window.
      * @see com.badlogic.gdx.Screen#resize Screen.resize().
      */
     @Override
     public void resize(int width, int height) {
+        if (viewport == null) {
+            return; // Running without drawing, so there is nothing to fit.
+        }
         uiStage.getViewport().update(width, height, true);
         uiStage.getViewport().apply();
         viewport.update(width, height);
         viewport.apply();
+        pauseFrameStale = true;
     }
 
     /**
@@ -752,7 +756,7 @@ public class GameScreen implements Screen {
      * @return Number of times caught by the dean
      */
     public int getTimesCaughtByDean() {
-        return timesCaughtByDean;
+        return session.getTimesCaughtByDean();
     }
 
     /**
@@ -765,53 +769,95 @@ public class GameScreen implements Screen {
     @Override
     public void dispose() {
         tiledMap.dispose();
-        mapRenderer.dispose();
+        ((Disposable) mapRenderer).dispose();
         batch.dispose();
-        player.dispose();
-        locker.dispose();
-        bush.dispose();
-        labEquipment.dispose();
+        eventAssets.dispose();
         font.dispose();
         uiStage.dispose();
-        dean.dispose();
-        patrolDean1.dispose();
-        patrolDean2.dispose();
-        patrolDean3.dispose();
-        dean.dispose();
         catchCounterFont.dispose();
-        friend.dispose();
-        extraTime.dispose();
-        if (busTicket != null) { busTicket.dispose(); }
+        if (pauseFrame != null) { pauseFrame.dispose(); }
+        // Removes the events, frees the player, dean and ticket sprites and stops the planning thread.
+        session.dispose();
     }
 
     /**
-     * NEW
+     * EXTENDED
      *
-     * Freeze all dean enemies by setting their movement speed to zero.
+     * Freeze all dean enemies until {@link #unfreezeDeans()} is called.
      *
-     * <p>Used by the freeze event and potentially other mechanics.</p>
+     * <p>Used by the questionnaire and potentially other mechanics.</p>
      */
     public void freezeAllDeans() {
-        if (dean != null) dean.setSpeed(0f);
-        if (patrolDean1 != null) patrolDean1.setSpeed(0f);
-        if (patrolDean2 != null) patrolDean2.setSpeed(0f);
-        if (patrolDean3 != null) patrolDean3.setSpeed(0f);
-        if (extraDean != null) {
-            extraDean.setSpeed(0f);
-        }
+        freezeAllDeans(StatusEffects.PERMANENT);
     }
 
     /**
      * NEW
      *
-     * Restore dean movement speeds after a freeze effect ends.
+     * Freeze every chasing and patrolling dean for a while. The freeze is a
+     * {@link StatusEffects} effect, so it wears off by itself and stacks with any other
+     * effect on the deans, and deans spawned during it are frozen too.
+     *
+     * @param seconds How long the deans stay frozen, or {@link StatusEffects#PERMANENT}.
+     * @return Handle of the freeze on the chasing deans, for checking whether it is still active.
+     */
+    public int freezeAllDeans(float seconds) {
+        return session.freezeAllDeans(seconds); // a replay already holds the game's freezes
+    }
+
+    /**
+     * EXTENDED
+     *
+     * End every freeze on the deans early. Each dean goes back to its own speed, and
+     * any slow or haste on them is left in place.
      */
     public void unfreezeDeans() {
-        dean.setSpeed(0.7f);
-        patrolDean1.setSpeed(0.7f);
-        patrolDean2.setSpeed(0.7f);
-        patrolDean3.setSpeed(0.7f);
-        if (extraDean != null) extraDean.setSpeed(0.7f);
+        session.unfreezeDeans();
+    }
+
+    /**
+     * NEW
+     *
+     * Return the gameplay event bus, for events to post on when they happen.
+     * @return Event bus the HUD checklists and score counters listen to.
+     */
+    public GameEvents getGameEvents() {
+        return session.getGameEvents();
+    }
+
+    /**
+     * NEW
+     *
+     * Return the time scales and timed effects of the player and deans.
+     * @return Status effect store shared by every entity on this screen.
+     */
+    @Override
+    public StatusEffects getStatusEffects() {
+        return session.getStatusEffects();
+    }
+
+    /**
+     * NEW
+     *
+     * Return the seeded random number generator of the simulation, so random events
+     * replay the same way when the seed is fixed.
+     * @return Random number generator shared by the world.
+     */
+    @Override
+    public RandomXS128 getRandom() {
+        return session.getRandom();
+    }
+
+    /**
+     * NEW
+     *
+     * Return the named random streams of the simulation, which the map events take
+     * their own streams from and which are kept in every snapshot.
+     * @return Random streams of the world.
+     */
+    @Override
+    public RandomStreams getRandomStreams() {
+        return session.getRandomStreams();
     }
 
     /**
@@ -822,23 +868,158 @@ public class GameScreen implements Screen {
      * <p>This is used by the questionnaire fail outcome.</p>
      */
     public void spawnSecondDean() {
-        // Extra dean spawns in top-right area
-        extraDean = new Patrol_Dean(780, 800, 700, 800, this);
+        // Extra dean spawns in top-right area, unless the replay spawns it when the recorded game did
+        session.spawnSecondDean();
     }
 
-    /** Unimplemented */
+    /**
+     * EXTENDED
+     *
+     * Start taking key events for the screen's and the game's {@link InputActions}.
+     * @see com.badlogic.gdx.Screen#show Screen.show().
+     */
     @Override
-    public void show() {}
+    public void show() {
+        Gdx.input.setInputProcessor(keys);
+    }
 
-    /** Unimplemented */
+    /**
+     * NEW
+     *
+     * Suspend the game to {@link #SNAPSHOT_PATH} whenever the window loses focus or
+     * the application closes, so an interrupted game can be carried on from the menu.
+     * @see com.badlogic.gdx.Screen#pause Screen.pause().
+     */
     @Override
-    public void pause() {}
+    public void pause() {
+        // Keys let go while the window is in the background never come back up.
+        actions.releaseAll();
+        session.getActions().releaseAll();
+        saveSnapshot();
+    }
 
-    /** Unimplemented */
+    /**
+     * EXTENDED
+     *
+     * Build the map's chunks again when the game comes back, in case the GPU dropped
+     * them while it was in the background. Both the baked and the cached renderer keep
+     * their chunks on the GPU.
+     * @see com.badlogic.gdx.Screen#resume Screen.resume().
+     */
     @Override
-    public void resume() {}
+    public void resume() {
+        if (mapRenderer instanceof ChunkedMapRenderer) {
+            ((ChunkedMapRenderer) mapRenderer).markAllDirty();
+        }
+    }
 
-    /** Unimplemented */
+    /**
+     * EXTENDED
+     *
+     * Save the recording of this game when the screen is left, so the last game can
+     * always be watched again or used to reproduce a problem. Drawing on demand while
+     * paused is turned off again, and key events stop coming here.
+     *
+     * <p>The snapshot suspended by {@link #pause()} is kept, because closing the window
+     * hides the screen too. It is only deleted when the game is won, lost or left for
+     * the menu.</p>
+     * @see com.badlogic.gdx.Screen#hide Screen.hide().
+     */
     @Override
-    public void hide() {}
+    public void hide() {
+        // Leaving while paused must not leave the next screen drawing on demand.
+        Gdx.graphics.setContinuousRendering(true);
+        if (Gdx.input.getInputProcessor() == keys) {
+            Gdx.input.setInputProcessor(null);
+        }
+        actions.releaseAll();
+        session.getActions().releaseAll();
+        saveRecording();
+    }
+
+    /**
+     * NEW
+     *
+     * Write a snapshot of this game to {@link #SNAPSHOT_PATH}. Does nothing while
+     * watching a replay. A failed write is logged rather than thrown, like the recording.
+     */
+    public void saveSnapshot() {
+        if (session.getReplayer() != null) {
+            return;
+        }
+        writeSnapshot(snapshot);
+        try (OutputStream out = Gdx.files.local(SNAPSHOT_PATH).write(false)) {
+            snapshot.write(out);
+        } catch (IOException | GdxRuntimeException error) {
+            Gdx.app.error("GameScreen", "Could not suspend the game", error);
+        }
+    }
+
+    /**
+     * NEW
+     *
+     * Write this game's recording to {@link #REPLAY_PATH}. Does nothing while watching
+     * a replay or before the first tick. A failed write is logged rather than thrown,
+     * since losing a recording should never stop the game.
+     */
+    public void saveRecording() {
+        if (recording == null || recording.getTickCount() == 0) {
+            return;
+        }
+        try (OutputStream out = Gdx.files.local(REPLAY_PATH).write(false)) {
+            recording.write(out);
+        } catch (IOException | GdxRuntimeException error) {
+            Gdx.app.error("GameScreen", "Could not save the game recording", error);
+        }
+    }
+
+    /**
+     * NEW
+     * @return The recording of this game, or null while watching a replay.
+     */
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * NEW
+     * @return The world this screen plays, for tools such as the {@link Autopilot} that drive it.
+     */
+    public Simulation getSimulation() {
+        return session.getSimulation();
+    }
+
+    /**
+     * NEW
+     * @return The whole game this screen plays and draws.
+     */
+    public GameSession getSession() {
+        return session;
+    }
+
+    /**
+     * NEW
+     * @return The keys of every tick, for tools such as the {@link Autopilot} to lay their own over.
+     */
+    public InputActions getActions() {
+        return session.getActions();
+    }
+
+    /**
+     * NEW
+     *
+     * Choose how the map is drawn by game screens made from now on.
+     * @param rendering How the map's tiles are drawn, {@link MapRendering#BAKED} unless changed.
+     */
+    public static void setMapRendering(MapRendering rendering) {
+        mapRendering = rendering;
+    }
+
+    /**
+     * NEW
+     * @return How game screens made from now on draw the map.
+     */
+    public static MapRendering getMapRendering() {
+        return mapRendering;
+    }
 }
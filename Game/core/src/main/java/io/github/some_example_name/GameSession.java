@@ -0,0 +1,535 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * NEW
+ *
+ * <code>GameSession</code> is one whole game without a screen: the {@link Simulation}
+ * with its player and deans, the map events, the water, the quiz and the materials,
+ * the bus ticket and the bus, the game timer, and the counters and checklists the
+ * score and achievements come from. {@link GameScreen} plays one and draws it, and
+ * {@link SessionHost} and {@link BatchRunner} play many at once with no window at all.
+ *
+ * <p>Everything moves on in fixed ticks of {@link #tick(float)}, so a game plays the
+ * same at any frame rate and the same with or without a screen. Each tick the
+ * simulation starts a new frame of the session's {@link InputActions} and moves the
+ * player and deans, then the events and the ticket, the water, the quiz, the
+ * materials and the bus react to where the player ended up, and the clock runs down. The game
+ * is over once the player boards the bus or the time runs out; see {@link #getOutcome()}.</p>
+ *
+ * <p>Keys come from whatever is laid over the actions, such as a bot, a script or a
+ * replay, and from key events sent to them on screen. While a replay plays, the
+ * freezes, spawns and speed changes it recorded stand in for the live ones.</p>
+ */
+public class GameSession implements GameWorld, Disposable {
+    /** How a game stands. */
+    public enum Outcome {
+        /** Still being played. */
+        PLAYING,
+        /** The player boarded the bus with the ticket. */
+        WON,
+        /** The clock ran out. */
+        TIME_UP
+    }
+
+    /** Where the player is put back to after drowning, the same as the dean reset. */
+    public static final float DROWN_RESPAWN_X = 560;
+    /** Where the player is put back to after drowning, the same as the dean reset. */
+    public static final float DROWN_RESPAWN_Y = 180;
+    /** How close the player has to be to the ticket to see it and pick it up. */
+    public static final float TICKET_REACH = 16f;
+
+    private final Simulation simulation;
+    private final Player player;
+    // Keys of every tick, started by the simulation at the start of the tick.
+    private final InputActions actions = new InputActions();
+    private final InputReplayer replayer;
+    private final GameTimer timer = new GameTimer(Score.GAME_LENGTH_SECONDS);
+    private final MapEvents mapEvents;
+    private final Drown drown;
+    private final Questionnaire questionnaire;
+    private final Freeze_Dean freezeDean;
+    private BusTicket busTicket;
+    private Rectangle busInteractionArea;
+    private int busVolume = -1;
+
+    // Gameplay events, and the checklists and counters kept up to date from them.
+    private final GameEvents gameEvents = new GameEvents();
+    private final EventChecklist checklist = new EventChecklist();
+    private int timesCaughtByDean = 0;
+    private int timesCaughtByPatrol = 0;
+    private int timesDrowned = 0;
+    private boolean canEndGame = false;
+    private Outcome outcome = Outcome.PLAYING;
+
+    /**
+     * Constructor for <code>GameSession</code>, starting a new game.
+     * @param tiledMap Map to play on, with its collision layers and "Events" objects.
+     * @param input Keys laid over the session's actions, such as a bot, or null for
+     *              only the key events sent to {@link #getActions()}.
+     * @param seed Seed of the world's random numbers.
+     * @param withTextures False to skip loading sprites, for running without a GPU.
+     */
+    public GameSession(TiledMap tiledMap, InputSource input, long seed, boolean withTextures) {
+        this(tiledMap, input, seed, null, null, withTextures);
+    }
+
+    /**
+     * Constructor for <code>GameSession</code> that plays back a recorded game. The
+     * recording's keys are laid over the session's actions, so every part of the game
+     * reads them, and its commands stand in for the live freezes, spawns and speed changes.
+     * @param tiledMap Map the recording was made on.
+     * @param replay Recording to play back.
+     * @param withTextures False to skip loading sprites, for running without a GPU.
+     */
+    public GameSession(TiledMap tiledMap, InputRecording replay, boolean withTextures) {
+        this(tiledMap, null, replay.getSeed(), new InputReplayer(replay), null, withTextures);
+    }
+
+    /**
+     * Constructor for <code>GameSession</code> that carries on a game from a snapshot.
+     * The map events come back from the snapshot as they were, instead of being spawned afresh.
+     * @param tiledMap Map the snapshot was taken on.
+     * @param resume Snapshot written by {@link #writeState(ByteBuffer)}, read from its position.
+     * @param withTextures False to skip loading sprites, for running without a GPU.
+     */
+    public GameSession(TiledMap tiledMap, ByteBuffer resume, boolean withTextures) {
+        // The generator's state comes from the snapshot, so the seed is never used.
+        this(tiledMap, null, 0L, null, resume, withTextures);
+    }
+
+    private GameSession(TiledMap tiledMap, InputSource input, long seed, InputReplayer replayer,
+                        ByteBuffer resume, boolean withTextures) {
+        this.replayer = replayer;
+        actions.setOverlay(replayer != null ? replayer : input);
+        simulation = new Simulation(tiledMap, actions, seed, withTextures);
+        if (replayer != null) {
+            replayer.configure(simulation);
+        }
+        player = simulation.getPlayer();
+        simulation.setListener(new Simulation.Listener() {
+            @Override
+            public void caughtByDean() {
+                gameEvents.post(GameEvent.Type.CAUGHT_BY_DEAN);
+            }
+
+            @Override
+            public void caughtByPatrol() {
+                gameEvents.post(GameEvent.Type.CAUGHT_BY_PATROL);
+            }
+        });
+        gameEvents.subscribe(GameEvent.Type.CAUGHT_BY_DEAN, event -> timesCaughtByDean++);
+        gameEvents.subscribe(GameEvent.Type.CAUGHT_BY_PATROL, event -> timesCaughtByPatrol++);
+        gameEvents.subscribe(GameEvent.Type.DROWNED, event -> timesDrowned++);
+        gameEvents.subscribeAll(checklist);
+
+        drown = new Drown(tiledMap, "Events", DROWN_RESPAWN_X, DROWN_RESPAWN_Y);
+        questionnaire = new Questionnaire(tiledMap, "Events");
+        freezeDean = new Freeze_Dean(tiledMap, "Events");
+
+        // Pull the ticket and the bus zone from the Tiled "Events" layer.
+        MapLayer eventLayer = tiledMap.getLayers().get("Events");
+        MapObject ticketObject = eventLayer.getObjects().get("BusTicket");
+        if (ticketObject instanceof RectangleMapObject) {
+            Rectangle rect = ((RectangleMapObject) ticketObject).getRectangle();
+            busTicket = new BusTicket(rect.x, rect.y, withTextures);
+        }
+        MapObject busObject = eventLayer.getObjects().get("Bus");
+        if (busObject instanceof RectangleMapObject) {
+            busInteractionArea = ((RectangleMapObject) busObject).getRectangle();
+        }
+
+        // Spawn events at their fixed world coordinates. Their timers run on the simulation's clock.
+        mapEvents = new MapEvents(player, timer, simulation.getRandomStreams(), simulation.getTimers());
+        mapEvents.setGameEvents(gameEvents);
+        mapEvents.setActions(actions);
+        // A replay moves the player where the recorded teleports and drownings did.
+        mapEvents.setReplaying(replayer != null);
+        drown.setReplaying(replayer != null);
+        if (resume != null) {
+            mapEvents.readState(resume);
+        } else {
+            mapEvents.spawnAll();
+        }
+        checklist.addMapEvents(mapEvents);
+        // The ticket is found and picked up alongside the events.
+        if (busTicket != null) {
+            TicketSystem ticketSystem = new TicketSystem(player, TICKET_REACH);
+            ticketSystem.setGameEvents(gameEvents);
+            ticketSystem.setActions(actions);
+            mapEvents.getEngine().addSystem(ticketSystem);
+            mapEvents.getEngine().addEntity(busTicket.getEntity());
+        }
+        // The map object events find the player through the same index as the spawned ones.
+        drown.attach(mapEvents.getTriggerVolumes());
+        questionnaire.attach(mapEvents.getTriggerVolumes());
+        questionnaire.setTimers(simulation.getTimers());
+        questionnaire.setActions(actions);
+        freezeDean.attach(mapEvents.getTriggerVolumes());
+        freezeDean.setActions(actions);
+        if (busInteractionArea != null) {
+            busVolume = mapEvents.getTriggerVolumes().add(busInteractionArea, false, volume -> {});
+        }
+        if (resume != null) {
+            readState(resume);
+        }
+    }
+
+    /**
+     * Build a new game on the game's map that loads no textures at all. Needs only
+     * <code>Gdx.files</code>, so it runs under the headless backend.
+     * @param input Keys laid over the session's actions, such as a bot.
+     * @param seed Seed of the world's random numbers.
+     * @return New session at the start of a game.
+     */
+    public static GameSession createHeadless(InputSource input, long seed) {
+        return new GameSession(new HeadlessMapLoader().load(Simulation.MAP_PATH), input, seed, false);
+    }
+
+    /**
+     * Advance the whole game by one tick. Does nothing once the game is over.
+     * @param step Length of the tick in seconds.
+     */
+    public void tick(float step) {
+        if (outcome != Outcome.PLAYING) {
+            return;
+        }
+        boolean inQuiz = questionnaire.isPlayerFrozen();
+        actions.setContext(inQuiz ? InputActions.Context.QUIZ : InputActions.Context.PLAY);
+        // A replay brings its own speed changes and freezes with it.
+        if (replayer == null) {
+            simulation.setPlayerSpeed(mapEvents.getPlayerSpeed());
+            simulation.setPlayerFrozen(inQuiz);
+        }
+        simulation.tick(step);
+
+        // Move the player through the trigger volumes every event below reads.
+        mapEvents.update(step);
+        questionnaire.update(player, this);
+        freezeDean.update(player, this);
+        updateBus();
+        // Last of what reads the player's position, as a replay only respawns them at the start of the next tick.
+        if (drown.update(player)) {
+            gameEvents.post(GameEvent.Type.DROWNED);
+        }
+
+        timer.decrementTimer(step);
+        if (outcome == Outcome.PLAYING && timer.getTimeLeft() == 0) {
+            outcome = Outcome.TIME_UP;
+        }
+    }
+
+    /**
+     * Run ticks of {@link Simulation#DEFAULT_STEP} back to back, as fast as possible,
+     * stopping early if the game ends.
+     * @param ticks Most ticks to run.
+     */
+    public void run(int ticks) {
+        for (int i = 0; i < ticks && outcome == Outcome.PLAYING; i++) {
+            tick(Simulation.DEFAULT_STEP);
+        }
+    }
+
+    // Once the ticket is held, which the events' TicketSystem sees to, the bus takes the player home.
+    private void updateBus() {
+        if (busTicket == null || !busTicket.isCollected()) {
+            return;
+        }
+        canEndGame = busVolume >= 0 && mapEvents.getTriggerVolumes().isInside(busVolume);
+        if (canEndGame && actions.interact(busInteractionArea, distanceToBus())) {
+            outcome = Outcome.WON;
+        }
+    }
+
+    // From the middle of the player to the middle of the bus zone.
+    private float distanceToBus() {
+        float dx = player.getPosition().x + Player.SIZE / 2f - (busInteractionArea.x + busInteractionArea.width / 2f);
+        float dy = player.getPosition().y + Player.SIZE / 2f - (busInteractionArea.y + busInteractionArea.height / 2f);
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Write everything needed to carry this game on later. The map events go first,
+     * since a resumed game spawns them before anything else is set up.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        mapEvents.writeState(out);
+        out.putShort((short) timesCaughtByDean);
+        out.putShort((short) timesCaughtByPatrol);
+        out.putShort((short) timesDrowned);
+        GameSnapshot.putBoolean(out, canEndGame);
+        out.put((byte) outcome.ordinal());
+        simulation.writeState(out);
+        timer.writeState(out);
+        if (busTicket != null) {
+            busTicket.writeState(out);
+        }
+        questionnaire.writeState(out);
+        freezeDean.writeState(out);
+        mapEvents.getTriggerVolumes().writeState(out);
+        checklist.writeState(out);
+    }
+
+    /**
+     * Put this game back to the state written by {@link #writeState(ByteBuffer)}
+     * earlier in the same game, such as when scrubbing back through it.
+     * @param in Buffer to read from.
+     * @throws IllegalArgumentException If the snapshot holds different events from the ones spawned.
+     */
+    public void rewindState(ByteBuffer in) {
+        mapEvents.rewindState(in);
+        readState(in);
+    }
+
+    private void readState(ByteBuffer in) {
+        timesCaughtByDean = in.getShort();
+        timesCaughtByPatrol = in.getShort();
+        timesDrowned = in.getShort();
+        canEndGame = GameSnapshot.getBoolean(in);
+        outcome = Outcome.values()[in.get()];
+        simulation.readState(in);
+        timer.readState(in);
+        if (busTicket != null) {
+            busTicket.readState(in);
+        }
+        questionnaire.readState(in);
+        freezeDean.readState(in, simulation.getStatusEffects());
+        mapEvents.getTriggerVolumes().readState(in);
+        checklist.readState(in);
+    }
+
+    /**
+     * Calculate the achievements earned by the player based on gameplay state.
+     * @return Array of achievements earned during this run.
+     */
+    public Array<Achievement> calculateAchievements() {
+        Array<Achievement> earnedAchievement = new Array<>();
+
+        // Hidden events hunter --> Collected ticket, used teleporter and answered the quiz
+        boolean allHidden = checklist.isComplete(EventCategory.HIDDEN);
+        if (allHidden) {
+            earnedAchievement.add(new Achievement("Secret Hunter", "Found all hidden events", 100));
+        }
+
+        // All Positive Events
+        boolean allPositive = checklist.isComplete(EventCategory.POSITIVE);
+        if (allPositive) {
+            earnedAchievement.add(new Achievement("Positive Master", "Found all positive events", 80));
+        }
+
+        // All Negative Events
+        boolean allNegative = checklist.isComplete(EventCategory.NEGATIVE);
+        if (allNegative) {
+            earnedAchievement.add(new Achievement("Masochist", "Found all negative events", -30));
+        }
+
+        // All Events
+        if (allPositive && allNegative && allHidden) {
+            earnedAchievement.add(new Achievement("Completionist", "Found all Events!", 200));
+        }
+
+        Score.addCatchAchievements(earnedAchievement, timesCaughtByDean, timesCaughtByPatrol);
+
+        // Quiz Taker --> Attempted the Quiz (Pass or Fail)
+        if (checklist.hasHappened(GameEvent.Type.QUIZ_ANSWERED)) {
+            earnedAchievement.add(new Achievement("Quiz Taker", "Attempted the Technical Quiz", 50));
+        }
+
+        Score.addObstacleAchievement(earnedAchievement, checklist.hasHitObstacle());
+
+        return earnedAchievement;
+    }
+
+    /**
+     * Calculate the player's base score: the time left less the penalties, never below 0.
+     * @return Base score after penalties.
+     */
+    public int calculateFinalScore() {
+        return Score.finalScore(timer.getTimeLeft(), calculateTotalPenalty());
+    }
+
+    /**
+     * Calculate the score the game ends with: the base score and the bonus of every
+     * achievement, never below 0.
+     * @param achievements Value of {@link #calculateAchievements()}.
+     * @return Score to put on the leaderboard.
+     */
+    public int calculateTotalScore(Array<Achievement> achievements) {
+        return Math.max(0, calculateFinalScore() + Score.achievementBonus(achievements));
+    }
+
+    /**
+     * Calculate the total score penalty from being caught and drowning.
+     * @return Total penalty score to subtract from the base time score.
+     */
+    public int calculateTotalPenalty() {
+        return Score.totalPenalty(timesCaughtByDean, timesDrowned, timesCaughtByPatrol);
+    }
+
+    /**
+     * Freeze all dean enemies until {@link #unfreezeDeans()} is called.
+     */
+    public void freezeAllDeans() {
+        freezeAllDeans(StatusEffects.PERMANENT);
+    }
+
+    /**
+     * Freeze every chasing and patrolling dean for a while, unless a replay is playing,
+     * which holds the game's freezes already.
+     * @param seconds How long the deans stay frozen, or {@link StatusEffects#PERMANENT}.
+     * @return Handle of the freeze on the chasing deans, or {@link StatusEffects#NO_EFFECT} during a replay.
+     */
+    public int freezeAllDeans(float seconds) {
+        if (replayer != null) {
+            return StatusEffects.NO_EFFECT;
+        }
+        return simulation.freezeAllDeans(seconds);
+    }
+
+    /** End every freeze on the deans early, unless a replay is playing. */
+    public void unfreezeDeans() {
+        if (replayer != null) {
+            return;
+        }
+        simulation.unfreezeDeans();
+    }
+
+    /** Spawn a second (extra) dean as a difficulty penalty, unless a replay is playing, which spawns it when the recorded game did. */
+    public void spawnSecondDean() {
+        if (replayer != null) {
+            return;
+        }
+        simulation.spawnSecondDean();
+    }
+
+    /** @return How the game stands: still playing, won at the bus, or out of time. */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /** @return The moving world: player, deans, their planning and status effects. */
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    /** @return The player. */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /** @return Keys of every tick, for key events and bots to be sent to. */
+    public InputActions getActions() {
+        return actions;
+    }
+
+    /** @return The replay driving this game, or null if it is being played. */
+    public InputReplayer getReplayer() {
+        return replayer;
+    }
+
+    /** @return The game's clock, with no label until it is shown. */
+    public GameTimer getTimer() {
+        return timer;
+    }
+
+    /** @return Locker, bush, tree, lab equipment and the rest, as entities spawned from data. */
+    public MapEvents getMapEvents() {
+        return mapEvents;
+    }
+
+    /** @return The quiz area. */
+    public Questionnaire getQuestionnaire() {
+        return questionnaire;
+    }
+
+    /** @return The materials that freeze the deans. */
+    public Freeze_Dean getFreezeDean() {
+        return freezeDean;
+    }
+
+    /** @return The bus ticket, or null if the map has none. */
+    public BusTicket getBusTicket() {
+        return busTicket;
+    }
+
+    /** @return True while the player is close enough to the ticket to pick it up. */
+    public boolean canPickUpTicket() {
+        return busTicket != null && busTicket.isInReach();
+    }
+
+    /** @return True while the player holds the ticket and stands at the bus. */
+    public boolean canEndGame() {
+        return canEndGame;
+    }
+
+    /** @return Event bus the checklists and score counters listen to. */
+    public GameEvents getGameEvents() {
+        return gameEvents;
+    }
+
+    /** @return Events found so far, for the HUD checklists and the achievements. */
+    public EventChecklist getChecklist() {
+        return checklist;
+    }
+
+    /** @return Number of times the chasing dean caught the player. */
+    public int getTimesCaughtByDean() {
+        return timesCaughtByDean;
+    }
+
+    /** @return Number of times a patrolling dean caught the player. */
+    public int getTimesCaughtByPatrol() {
+        return timesCaughtByPatrol;
+    }
+
+    /** @return Number of times the player drowned. */
+    public int getTimesDrowned() {
+        return timesDrowned;
+    }
+
+    @Override
+    public boolean isCellBlocked(float x, float y) {
+        return simulation.isCellBlocked(x, y);
+    }
+
+    @Override
+    public boolean isCellBlockedForDean(float x, float y) {
+        return simulation.isCellBlockedForDean(x, y);
+    }
+
+    @Override
+    public StatusEffects getStatusEffects() {
+        return simulation.getStatusEffects();
+    }
+
+    @Override
+    public RandomXS128 getRandom() {
+        return simulation.getRandom();
+    }
+
+    @Override
+    public RandomStreams getRandomStreams() {
+        return simulation.getRandomStreams();
+    }
+
+    /** Remove the events, free the ticket's sprite, and free the world and stop its planning thread. */
+    @Override
+    public void dispose() {
+        mapEvents.dispose();
+        if (busTicket != null) {
+            busTicket.dispose();
+        }
+        simulation.dispose();
+    }
+}
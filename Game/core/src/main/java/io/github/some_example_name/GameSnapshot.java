@@ -0,0 +1,172 @@
+package io.github.some_example_name;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NEW
+ *
+ * <code>GameSnapshot</code> is the whole state of a game in progress, packed into one
+ * reusable {@link ByteBuffer} so a run can be suspended and picked up again exactly
+ * where it was: the player and deans, the timer, the catch counters, every map event's
+ * flags and timers, and the questionnaire.
+ *
+ * <p>Each class that holds gameplay state writes its own fields to the buffer with a
+ * <code>writeState</code> method and reads them back in the same order with
+ * <code>readState</code>, so the format is just those fields one after another behind
+ * a short header. The header carries a version, and snapshots of any other version are
+ * refused rather than read wrongly. A game takes a few hundred bytes besides the
+ * deans' memory of the maze, which is written whole, and since the buffer is kept
+ * between snapshots taking one allocates nothing.</p>
+ */
+public class GameSnapshot {
+    /** Largest snapshot that fits, with room to spare around the deans' memory of the maze. */
+    public static final int CAPACITY = 65536;
+
+    private static final int MAGIC = 0x45465553; // "EFUS"
+    private static final int VERSION = 6;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(CAPACITY);
+
+    /**
+     * Start a new snapshot, dropping whatever the buffer held.
+     * @return Buffer to write the game's state to, just after the header.
+     */
+    public ByteBuffer startWriting() {
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putShort((short) VERSION);
+        return buffer;
+    }
+
+    /**
+     * Finish a snapshot once everything has been written, ready to be read or saved.
+     */
+    public void finishWriting() {
+        buffer.flip();
+    }
+
+    /**
+     * Go back to the start of a finished snapshot to read it.
+     * @return Buffer to read the game's state from, just after the header.
+     * @throws IllegalArgumentException If the buffer does not hold a snapshot of this version.
+     */
+    public ByteBuffer startReading() {
+        buffer.rewind();
+        if (buffer.remaining() < 6 || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        int version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + version);
+        }
+        return buffer;
+    }
+
+    /**
+     * Return the buffer itself, for copying finished snapshots in and out whole, as the
+     * {@link RewindBuffer} does. Holds the snapshot from 0 up to its limit.
+     * @return The snapshot's buffer.
+     */
+    public ByteBuffer getData() {
+        return buffer;
+    }
+
+    /** @return Number of bytes in the finished snapshot. */
+    public int size() {
+        return buffer.limit();
+    }
+
+    /**
+     * Save a finished snapshot.
+     * @param out Stream to write to; not closed.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        out.write(buffer.array(), 0, buffer.limit());
+    }
+
+    /**
+     * Load a snapshot saved by {@link #write(OutputStream)}.
+     * @param in Stream to read the whole of; not closed.
+     * @return Snapshot ready for {@link #startReading()}.
+     * @throws IOException If the stream cannot be read, or holds more than {@link #CAPACITY} bytes.
+     */
+    public static GameSnapshot read(InputStream in) throws IOException {
+        GameSnapshot snapshot = new GameSnapshot();
+        byte[] bytes = snapshot.buffer.array();
+        int size = 0;
+        int read;
+        while (size < bytes.length && (read = in.read(bytes, size, bytes.length - size)) > 0) {
+            size += read;
+        }
+        if (size == bytes.length && in.read() >= 0) {
+            throw new IOException("Snapshot is larger than " + CAPACITY + " bytes");
+        }
+        if (size == 0) {
+            throw new EOFException("Snapshot is empty");
+        }
+        snapshot.buffer.clear();
+        snapshot.buffer.limit(size);
+        return snapshot;
+    }
+
+    /**
+     * Write a flag as one byte.
+     * @param out Buffer to write to.
+     * @param value Flag to write.
+     */
+    public static void putBoolean(ByteBuffer out, boolean value) {
+        out.put((byte) (value ? 1 : 0));
+    }
+
+    /**
+     * Read a flag written by {@link #putBoolean(ByteBuffer, boolean)}.
+     * @param in Buffer to read from.
+     * @return The flag.
+     */
+    public static boolean getBoolean(ByteBuffer in) {
+        return in.get() != 0;
+    }
+
+    /**
+     * Write a short piece of text as its length and UTF-8 bytes. The text is encoded
+     * straight into the buffer, so writing it allocates nothing.
+     * @param out Buffer to write to.
+     * @param text Text to write.
+     */
+    public static void putString(ByteBuffer out, String text) {
+        int start = out.position();
+        out.putShort((short) 0);
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int code = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | code >> 18)).put((byte) (0x80 | code >> 12 & 0x3F))
+                    .put((byte) (0x80 | code >> 6 & 0x3F)).put((byte) (0x80 | code & 0x3F));
+            } else {
+                out.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+        out.putShort(start, (short) (out.position() - start - 2));
+    }
+
+    /**
+     * Read text written by {@link #putString(ByteBuffer, String)}.
+     * @param in Buffer to read from.
+     * @return The text.
+     */
+    public static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
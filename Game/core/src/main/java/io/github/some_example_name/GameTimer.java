@@ -5,6 +5,9 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.StringBuilder;
+
+import java.nio.ByteBuffer;
 
 /**
  * EXTENDED
@@ -12,14 +15,18 @@ import com.badlogic.gdx.audio.Sound;
  * <code>GameTimer</code> implements a timer that ticks down during gameplay, and emits
  * a sound when it reaches 0.
  * It contains a sprite that can be rendered to display to the user graphically
- * how much time is left.
+ * how much time is left. A timer made with {@link #GameTimer(float)} has neither the
+ * label nor the sound until {@link #show(Skin, Table)}, so it runs headless.
  *
  * @since 2025-11-04 19:28:26
  */
 public class GameTimer {
 
-	private Float timeLeft;
+	private float timeLeft;
 	private Label timerLabel;
+	// The label only changes once a second, and is built without allocating.
+	private final StringBuilder timerText = new StringBuilder(7);
+	private int shownSeconds = -1;
 	private Sound timerDingSFX;
 
 	/**
@@ -53,6 +60,33 @@ public class GameTimer {
 		instantiateLabel(skin,table);
 	}
 
+	/**
+     * NEW
+	 * Constructor for <code>GameTimer</code> with no label or sound, for games run
+	 * without a window.
+	 * @param seconds Time in seconds to be counted by timer.
+	 */
+	public GameTimer(float seconds) {
+		this.timeLeft = seconds;
+	}
+
+	/**
+     * NEW
+	 * Give a timer made with {@link #GameTimer(float)} its label and finishing sound,
+	 * for when it is shown on screen.
+	 * @param skin Skin containing style for the timer label.
+	 * @param table Table displaying timer widget.
+	 */
+	public void show(Skin skin, Table table) {
+		if (this.timerDingSFX == null) {
+			this.timerDingSFX = Gdx.audio.newSound(Gdx.files.internal("ding.wav"));
+		}
+		if (this.timerLabel == null) {
+			instantiateLabel(skin, table);
+			updateLabel();
+		}
+	}
+
 
 	/**
      * UNCHANGED
@@ -74,7 +108,7 @@ public class GameTimer {
 	 */
 	public void decrementTimer(float decrementation) {
 		this.timeLeft = Math.max(0, timeLeft - decrementation);
-		this.timerLabel.setText(this.toString());
+		updateLabel();
 	}
 
     /**
@@ -85,20 +119,43 @@ public class GameTimer {
      */
     public void addTime(float amount) {
         this.timeLeft = Math.max(0, this.timeLeft + amount);
-        this.timerLabel.setText(this.toString());
+        updateLabel();
 
         if (this.timeLeft == 0) {
             onTimeUp();
         }
     }
 
+    /**
+     * NEW
+     *
+     * Write the time left to a snapshot.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putFloat(timeLeft);
+    }
+
+    /**
+     * NEW
+     *
+     * Read back the time left written by {@link #writeState(ByteBuffer)}.
+     * @param in Buffer to read from.
+     */
+    public void readState(ByteBuffer in) {
+        this.timeLeft = in.getFloat();
+        updateLabel();
+    }
+
 	/**
      * UNCHANGED
 	 * Called when the time reaches 0, to play finishing sound and
 	 * change to game over screen.
 	 */
 	public void onTimeUp() {
-		this.timerDingSFX.play(3f);
+		if (this.timerDingSFX != null) {
+			this.timerDingSFX.play(3f);
+		}
 	}
 
 	/**
@@ -119,6 +176,34 @@ public class GameTimer {
 		return this.timerLabel;
 	}
 
+	/**
+     * NEW
+	 * Show the time left on the label in the same mm:ss form as {@link #toString()},
+	 * doing nothing until the whole seconds change or while there is no label.
+	 */
+	private void updateLabel() {
+		if (this.timerLabel == null) {
+			return;
+		}
+		int whole = (int) Math.floor(this.timeLeft);
+		if (whole == shownSeconds) {
+			return;
+		}
+		shownSeconds = whole;
+		int minutes = whole / 60;
+		int seconds = whole - minutes * 60;
+		timerText.setLength(0);
+		if (minutes < 10) {
+			timerText.append('0');
+		}
+		timerText.append(minutes).append(" : ");
+		if (seconds < 10) {
+			timerText.append('0');
+		}
+		timerText.append(seconds);
+		this.timerLabel.setText(timerText);
+	}
+
 	/**
      * UNCHANGED
  	 * Helper method to create and add the label to given table.
@@ -0,0 +1,36 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * NEW
+ *
+ * <code>GameWorld</code> is what the moving entities need to know about the world they
+ * move in: which cells block them, what effects are slowing or freezing them, and where
+ * to get random numbers from. Both the on-screen game and the headless
+ * {@link Simulation} provide it, so the same entity code runs in either.
+ */
+public interface GameWorld {
+    /**
+     * @param x Horizontal position in the world.
+     * @param y Vertical position in the world.
+     * @return True if the player and patrol deans cannot move onto the cell there.
+     */
+    boolean isCellBlocked(float x, float y);
+
+    /**
+     * @param x Horizontal position in the world.
+     * @param y Vertical position in the world.
+     * @return True if the chasing deans cannot move onto the cell there, which includes doors.
+     */
+    boolean isCellBlockedForDean(float x, float y);
+
+    /** @return Time scales and timed effects of every entity group. */
+    StatusEffects getStatusEffects();
+
+    /** @return Seeded random number generator for anything random in the world, its {@link RandomStreams#WORLD} stream. */
+    RandomXS128 getRandom();
+
+    /** @return Every named random stream of the world, for systems to take one of their own from. */
+    RandomStreams getRandomStreams();
+}
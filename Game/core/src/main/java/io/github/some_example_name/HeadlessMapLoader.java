@@ -0,0 +1,92 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader;
+
+import java.io.File;
+
+/**
+ * NEW
+ *
+ * <code>HeadlessMapLoader</code> loads a Tiled map's layers, tiles, properties and
+ * objects without loading any of its tileset images, for running the game without a
+ * window or GPU. Every tile has an empty texture region, so the map can be collided
+ * with and searched but not drawn.
+ *
+ * <p>Files are found through a {@link FileHandleResolver}. By default that is
+ * <code>Gdx.files</code>, but {@link #inFolder(File)} reads straight from disk, so a
+ * map can be loaded without any libGDX application running.</p>
+ */
+public class HeadlessMapLoader extends TmxMapLoader {
+    private static final ImageResolver NO_IMAGES = name -> null;
+
+    /** Constructor for <code>HeadlessMapLoader</code>, finding files in the internal assets through <code>Gdx.files</code>. */
+    public HeadlessMapLoader() {
+        this(new InternalFileHandleResolver());
+    }
+
+    /**
+     * Constructor for <code>HeadlessMapLoader</code>.
+     * @param resolver Finds the map and its tilesets by name.
+     */
+    public HeadlessMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    /**
+     * @param folder Folder the map names are relative to, such as the assets folder.
+     * @return Resolver that reads files from the folder directly, without <code>Gdx.files</code>.
+     */
+    public static FileHandleResolver inFolder(File folder) {
+        return name -> new FileHandle(new File(folder, name));
+    }
+
+    @Override
+    public TiledMap load(String fileName) {
+        return load(fileName, new Parameters());
+    }
+
+    @Override
+    public TiledMap load(String fileName, Parameters parameter) {
+        FileHandle tmxFile = resolve(fileName);
+        root = xml.parse(tmxFile);
+        return loadTiledMap(tmxFile, parameter, NO_IMAGES);
+    }
+
+    @Override
+    protected void addStaticTiles(FileHandle tmxFile, ImageResolver imageResolver, TiledMapTileSet tileSet,
+                                  XmlReader.Element element, Array<XmlReader.Element> tileElements, String name,
+                                  int firstgid, int tilewidth, int tileheight, int spacing, int margin, String source,
+                                  int offsetX, int offsetY, String imageSource, int imageWidth, int imageHeight,
+                                  FileHandle image) {
+        if (image != null) {
+            // One image cut into a grid of tiles.
+            int count = element.getIntAttribute("tilecount", 0);
+            for (int i = 0; i < count; i++) {
+                addTile(tileSet, firstgid + i, offsetX, offsetY);
+            }
+        } else {
+            // A collection of separate images, one per listed tile.
+            for (XmlReader.Element tileElement : tileElements) {
+                addTile(tileSet, firstgid + tileElement.getIntAttribute("id", 0), offsetX, offsetY);
+            }
+        }
+    }
+
+    private void addTile(TiledMapTileSet tileSet, int id, int offsetX, int offsetY) {
+        StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion());
+        tile.setId(id);
+        tile.setOffsetX(offsetX);
+        tile.setOffsetY(flipY ? -offsetY : offsetY);
+        tileSet.putTile(id, tile);
+    }
+}
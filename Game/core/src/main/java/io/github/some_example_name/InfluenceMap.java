@@ -0,0 +1,302 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>InfluenceMap</code> gives the deans a memory of the maze as a few float layers
+ * over a {@link NavigationGrid}: where the player was last seen, where deans have
+ * already been, and where the player will not go.
+ *
+ * <p>Values are deposited on single cells and then spread to walkable neighbours and
+ * fade a little every {@link #update()}. A layer fades as a whole: each one keeps the
+ * factor it has faded by, and cells hold their values before it, so fading costs
+ * nothing per cell. Since a cell and the neighbours it raised fade together, a cell
+ * only needs to spread again when its value was raised, so each layer keeps a list of
+ * the cells raised since the last update and only those are touched. Every so often
+ * the factor is folded back into the cells, and cells that have faded away are cleared.</p>
+ *
+ * <p>{@link #findMostPromising(int, int)} scores the cells around a point with a
+ * weighted sum of the layers, so every dean can pick somewhere to search without
+ * running a search of its own.</p>
+ */
+public class InfluenceMap {
+    /** Layers of the map. */
+    public enum Layer {
+        /** Where the player was seen recently. Worth searching. */
+        LAST_SEEN,
+        /** Where deans have walked recently. Already searched. */
+        PATROL_COVERAGE,
+        /** Where the player cannot safely be, such as water. Not worth searching. */
+        DANGER
+    }
+
+    /** Values below this are treated as zero and are not spread. */
+    public static final float MIN_VALUE = 0.01f;
+    // Once a layer has faded by this much, the fade is folded back into its cells.
+    private static final float FOLD_BELOW = 1e-3f;
+
+    private static final int[] STEP_X = {1, -1, 0, 0};
+    private static final int[] STEP_Y = {0, 0, 1, -1};
+
+    private final NavigationGrid grid;
+    private final int layerCount = Layer.values().length;
+    // Values of each cell before its layer's fade, which is kept in scale.
+    private final float[][] values;
+    private final float[] scale = new float[layerCount];
+    private final float[] decay = new float[layerCount];
+    private final float[] spread = new float[layerCount];
+    private final float[] weight = new float[layerCount];
+
+    // Cells raised since the last update, which spread on the next one.
+    private final IntArray[] active = new IntArray[layerCount];
+    private final boolean[][] isActive;
+    private final IntArray spreading = new IntArray();
+
+    /**
+     * Constructor for <code>InfluenceMap</code> with the default fade, spread and weight
+     * of each layer.
+     * @param grid Walkable grid the layers cover. Values never spread into blocked cells.
+     */
+    public InfluenceMap(NavigationGrid grid) {
+        this.grid = grid;
+        int cells = grid.getCellCount();
+        values = new float[layerCount][cells];
+        isActive = new boolean[layerCount][cells];
+        Arrays.fill(scale, 1f);
+        for (int i = 0; i < layerCount; i++) {
+            active[i] = new IntArray();
+        }
+
+        configure(Layer.LAST_SEEN, 0.995f, 0.8f, 1f);
+        configure(Layer.PATROL_COVERAGE, 0.99f, 0.5f, -0.6f);
+        configure(Layer.DANGER, 1f, 0.5f, -1f);
+    }
+
+    /**
+     * Set how a layer behaves.
+     *
+     * @param layer Layer to change.
+     * @param decayPerTick Factor every value is multiplied by each tick, between 0 and 1. 1 never fades.
+     * @param spreadPerCell Share of a value passed to each neighbour, between 0 and 1. 0 never spreads.
+     * @param queryWeight Weight of the layer in {@link #score(int)}; negative layers count against a cell.
+     */
+    public void configure(Layer layer, float decayPerTick, float spreadPerCell, float queryWeight) {
+        if (decayPerTick < 0f || decayPerTick > 1f || spreadPerCell < 0f || spreadPerCell >= 1f) {
+            throw new IllegalArgumentException("Decay must be in [0, 1] and spread in [0, 1)");
+        }
+        decay[layer.ordinal()] = decayPerTick;
+        spread[layer.ordinal()] = spreadPerCell;
+        weight[layer.ordinal()] = queryWeight;
+    }
+
+    /**
+     * Raise a cell's value on a layer to at least <code>amount</code>.
+     * @param layer Layer to write to.
+     * @param cell Cell index; blocked or out of range cells are ignored.
+     * @param amount New value for the cell, if higher than the current one.
+     */
+    public void deposit(Layer layer, int cell, float amount) {
+        if (grid.isBlocked(cell) || amount < MIN_VALUE) return;
+        int l = layer.ordinal();
+        if (amount > values[l][cell] * scale[l]) {
+            values[l][cell] = amount / scale[l];
+            activate(l, cell);
+        }
+    }
+
+    /**
+     * @param layer Layer to read.
+     * @param cell Cell index.
+     * @return Value of the cell on that layer.
+     */
+    public float get(Layer layer, int cell) {
+        return cell < 0 || cell >= grid.getCellCount() ? 0f : value(layer.ordinal(), cell);
+    }
+
+    /**
+     * @param layer Layer to inspect.
+     * @return Number of cells the next {@link #update()} will spread from on that layer.
+     */
+    public int getActiveCellCount(Layer layer) {
+        return active[layer.ordinal()].size;
+    }
+
+    /** Advance every layer by one tick: fade every cell and spread the raised ones one cell further. */
+    public void update() {
+        for (int l = 0; l < layerCount; l++) {
+            updateLayer(l);
+        }
+    }
+
+    /**
+     * Combine the layers for one cell using their query weights.
+     * @param cell Cell index.
+     * @return Weighted sum of the layers; higher is more worth searching.
+     */
+    public float score(int cell) {
+        float total = 0f;
+        for (int l = 0; l < layerCount; l++) {
+            total += weight[l] * value(l, cell);
+        }
+        return total;
+    }
+
+    /**
+     * Find the walkable cell with the highest score within a square around a cell.
+     * Ties go to the cell nearer the centre.
+     *
+     * @param centre Cell index to search around.
+     * @param radius Largest horizontal or vertical distance from the centre, in cells.
+     * @return Best cell index, or -1 if no cell in range scores above zero.
+     */
+    public int findMostPromising(int centre, int radius) {
+        if (centre < 0 || centre >= grid.getCellCount()) return -1;
+        int cx = grid.cellX(centre);
+        int cy = grid.cellY(centre);
+        int minX = Math.max(0, cx - radius), maxX = Math.min(grid.getWidth() - 1, cx + radius);
+        int minY = Math.max(0, cy - radius), maxY = Math.min(grid.getHeight() - 1, cy + radius);
+
+        int best = -1;
+        float bestScore = 0f;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                if (grid.isBlocked(x, y)) continue;
+                int cell = grid.index(x, y);
+                float cellScore = score(cell);
+                int distance = Math.abs(x - cx) + Math.abs(y - cy);
+                if (cellScore > bestScore || (cellScore == bestScore && best >= 0 && distance < bestDistance)) {
+                    best = cell;
+                    bestScore = cellScore;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    /** Reset every layer to zero. */
+    public void clear() {
+        for (int l = 0; l < layerCount; l++) {
+            IntArray cells = active[l];
+            for (int i = 0; i < cells.size; i++) {
+                isActive[l][cells.get(i)] = false;
+            }
+            cells.clear();
+            Arrays.fill(values[l], 0f);
+            scale[l] = 1f;
+        }
+    }
+
+    /**
+     * Write every layer to a snapshot: each cell's value, how far the layer has faded,
+     * and the cells waiting to spread in the order they were raised. Every cell is
+     * written, so a cell changing from one tick to the next changes only its own bytes
+     * and {@link RewindBuffer} deltas stay small. Cells waiting to spread are written in
+     * 16 bits, which covers grids of up to 65536 cells.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        for (int l = 0; l < layerCount; l++) {
+            float[] layer = values[l];
+            for (int cell = 0; cell < layer.length; cell++) {
+                out.putFloat(layer[cell]);
+            }
+        }
+        // The lists that change length go after the cells, so they never shift them.
+        for (int l = 0; l < layerCount; l++) {
+            out.putFloat(scale[l]);
+            IntArray cells = active[l];
+            out.putChar((char) cells.size);
+            for (int i = 0; i < cells.size; i++) {
+                out.putChar((char) cells.get(i));
+            }
+        }
+    }
+
+    /**
+     * Put every layer back to the state written by {@link #writeState(ByteBuffer)}.
+     * @param in Buffer to read from.
+     */
+    public void readState(ByteBuffer in) {
+        clear();
+        for (int l = 0; l < layerCount; l++) {
+            float[] layer = values[l];
+            for (int cell = 0; cell < layer.length; cell++) {
+                layer[cell] = in.getFloat();
+            }
+        }
+        for (int l = 0; l < layerCount; l++) {
+            scale[l] = in.getFloat();
+            int count = in.getChar();
+            for (int i = 0; i < count; i++) {
+                activate(l, in.getChar());
+            }
+        }
+    }
+
+    // Value of a cell after its layer's fade, with anything faded away read as zero.
+    private float value(int l, int cell) {
+        float value = values[l][cell] * scale[l];
+        return value < MIN_VALUE ? 0f : value;
+    }
+
+    private void updateLayer(int l) {
+        scale[l] *= decay[l];
+        if (scale[l] < FOLD_BELOW) {
+            fold(l);
+        }
+
+        // Cells raised during this tick wait for the next one.
+        IntArray cells = active[l];
+        spreading.clear();
+        spreading.addAll(cells);
+        for (int i = 0; i < cells.size; i++) {
+            isActive[l][cells.get(i)] = false;
+        }
+        cells.clear();
+
+        float[] layer = values[l];
+        float layerScale = scale[l];
+        int width = grid.getWidth();
+        for (int i = 0; i < spreading.size; i++) {
+            int cell = spreading.get(i);
+            float passed = layer[cell] * layerScale * spread[l];
+            if (passed < MIN_VALUE) continue;
+            int x = cell % width;
+            int y = cell / width;
+            for (int s = 0; s < STEP_X.length; s++) {
+                int nx = x + STEP_X[s];
+                int ny = y + STEP_Y[s];
+                if (grid.isBlocked(nx, ny)) continue;
+                int next = grid.index(nx, ny);
+                if (passed > layer[next] * layerScale) {
+                    layer[next] = passed / layerScale;
+                    activate(l, next);
+                }
+            }
+        }
+    }
+
+    // Put a layer's fade back into its cells, clearing those that have faded away.
+    private void fold(int l) {
+        float[] layer = values[l];
+        for (int cell = 0; cell < layer.length; cell++) {
+            float value = layer[cell] * scale[l];
+            layer[cell] = value < MIN_VALUE ? 0f : value;
+        }
+        scale[l] = 1f;
+    }
+
+    private void activate(int l, int cell) {
+        if (!isActive[l][cell]) {
+            isActive[l][cell] = true;
+            active[l].add(cell);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+
+/**
+ * NEW
+ *
+ * <code>InputActions</code> turns the keyboard into one frame of game actions at a
+ * time, so every part of the game screen reads the same keys in the same way instead
+ * of each polling <code>Gdx.input</code> for itself.
+ *
+ * <p>Key events arrive through the {@link com.badlogic.gdx.InputProcessor} methods
+ * between frames and are only gathered up. {@link #update()}, called once at the start
+ * of every frame, turns them into a frame of actions: a bitmask of those held, and
+ * the ones pressed and let go since the last frame, so a tap shorter than a frame is
+ * never lost. Only the actions of the current {@link Context} get through, so the
+ * quiz takes A to D as answers rather than movement, and nothing moves while paused.</p>
+ *
+ * <p>Several things on the map can be in reach at once, so <code>E</code> goes only to
+ * the nearest of them: each asks through {@link #interact(Object, float)} every frame
+ * it is in reach, and the one that was nearest last frame is the one that gets the
+ * press.</p>
+ *
+ * <p>As an {@link InputSource} it reports the keys of the actions in the current
+ * frame, so the {@link Simulation} and its recordings see exactly what the rest of the
+ * game saw, and a bot's keys or a replay laid over it with
+ * {@link #setOverlay(InputSource)} drive the game the same way a person's do. Given to
+ * a simulation, every tick is a frame: {@link #beginTick(Simulation)} starts it, so a
+ * press is read by exactly one tick however many ticks a rendered frame runs.</p>
+ */
+public class InputActions extends InputAdapter implements InputSource {
+    /** Everything the keys can do in a game, with the key each is on. */
+    public enum Action {
+        UP(Input.Keys.W),
+        DOWN(Input.Keys.S),
+        LEFT(Input.Keys.A),
+        RIGHT(Input.Keys.D),
+        INTERACT(Input.Keys.E),
+        PAUSE(Input.Keys.P),
+        BACK(Input.Keys.ESCAPE),
+        ANSWER_A(Input.Keys.A),
+        ANSWER_B(Input.Keys.B),
+        ANSWER_C(Input.Keys.C),
+        ANSWER_D(Input.Keys.D),
+        SCRUB_BACK(Input.Keys.LEFT),
+        SCRUB_FORWARD(Input.Keys.RIGHT);
+
+        /** Key code from {@link Input.Keys} the action is on. */
+        public final int key;
+        /** Bit of the action in a frame's masks. */
+        public final int bit;
+
+        Action(int key) {
+            this.key = key;
+            this.bit = 1 << ordinal();
+        }
+    }
+
+    /** What the screen is doing, deciding which actions get through. */
+    public enum Context {
+        /** Walking round the map. */
+        PLAY(Action.UP, Action.DOWN, Action.LEFT, Action.RIGHT, Action.INTERACT, Action.PAUSE, Action.BACK),
+        /** Answering the quiz, which takes A to D for itself. */
+        QUIZ(Action.ANSWER_A, Action.ANSWER_B, Action.ANSWER_C, Action.ANSWER_D, Action.BACK),
+        /** Paused, scrubbing back through the last few seconds. */
+        PAUSED(Action.PAUSE, Action.BACK, Action.SCRUB_BACK, Action.SCRUB_FORWARD);
+
+        /** Bits of the actions that get through. */
+        public final int mask;
+
+        Context(Action... actions) {
+            int bits = 0;
+            for (Action action : actions) {
+                bits |= action.bit;
+            }
+            this.mask = bits;
+        }
+    }
+
+    /**
+     * Actions read straight from <code>Gdx.input</code> whenever asked, for parts of
+     * the game used without a screen feeding them events, such as in tests. Every
+     * action gets through and anything asking to be interacted with gets the press.
+     */
+    public static final InputActions GDX = new InputActions(true);
+
+    private static final Action[] ACTIONS = Action.values();
+
+    private final boolean direct;
+    private Context context = Context.PLAY;
+    private InputSource overlay;
+
+    // Gathered from events since the last frame.
+    private int down;
+    private int pressedSince;
+    private int releasedSince;
+
+    // The current frame.
+    private int held;
+    private int pressed;
+    private int released;
+
+    // Whatever asked to be interacted with: the nearest last frame, and the nearest so far this frame.
+    private Object focus;
+    private Object nearest;
+    private float nearestDistance = Float.MAX_VALUE;
+
+    /** Constructor for <code>InputActions</code> fed by key events. */
+    public InputActions() {
+        this(false);
+    }
+
+    private InputActions(boolean direct) {
+        this.direct = direct;
+    }
+
+    /**
+     * Set which actions get through from the next frame on.
+     * @param context What the screen is doing.
+     */
+    public void setContext(Context context) {
+        this.context = context;
+    }
+
+    /** @return What the screen is doing. */
+    public Context getContext() {
+        return context;
+    }
+
+    /**
+     * Lay keys held by something other than the keyboard, such as a bot, over it. They
+     * are read once each frame by {@link #update()}.
+     * @param overlay Keys to add, or null for none.
+     */
+    public void setOverlay(InputSource overlay) {
+        this.overlay = overlay;
+    }
+
+    /**
+     * Start a new frame from the key events since the last one. Called once at the
+     * start of every frame, before anything reads the actions.
+     */
+    public void update() {
+        int nowHeld = down;
+        int nowPressed = pressedSince;
+        if (overlay != null) {
+            for (Action action : ACTIONS) {
+                if (overlay.isKeyPressed(action.key)) {
+                    nowHeld |= action.bit;
+                }
+                if (overlay.isKeyJustPressed(action.key)) {
+                    nowPressed |= action.bit;
+                }
+            }
+        }
+        held = nowHeld & context.mask;
+        pressed = nowPressed & context.mask;
+        released = releasedSince & context.mask;
+        pressedSince = 0;
+        releasedSince = 0;
+
+        focus = nearest;
+        nearest = null;
+        nearestDistance = Float.MAX_VALUE;
+    }
+
+    /**
+     * @param action Action to check.
+     * @return True while the action is held this frame.
+     */
+    public boolean isHeld(Action action) {
+        if (direct) {
+            return Gdx.input.isKeyPressed(action.key);
+        }
+        return (held & action.bit) != 0;
+    }
+
+    /**
+     * @param action Action to check.
+     * @return True if the action was pressed since the last frame, even if it was let
+     *         go again before this one.
+     */
+    public boolean isPressed(Action action) {
+        if (direct) {
+            return Gdx.input.isKeyJustPressed(action.key);
+        }
+        return (pressed & action.bit) != 0;
+    }
+
+    /**
+     * @param action Action to check.
+     * @return True if the action was let go since the last frame.
+     */
+    public boolean isReleased(Action action) {
+        return !direct && (released & action.bit) != 0;
+    }
+
+    /** @return Bits of the actions held this frame. */
+    public int getHeldMask() {
+        return held;
+    }
+
+    /** @return Bits of the actions pressed since the last frame. */
+    public int getPressedMask() {
+        return pressed;
+    }
+
+    /**
+     * Ask to be interacted with, for something the player is in reach of. Called every
+     * frame it is in reach, whether or not anything was pressed, so the nearest can be
+     * picked for the next frame.
+     *
+     * <p>The press goes to whatever was nearest last frame. When nothing was in reach
+     * last frame, such as on the frame the player arrives, the first to ask gets it.
+     * Once given out, the press is used up for the rest of the frame.</p>
+     * @param owner Thing to interact with.
+     * @param distance How far the player is from it.
+     * @return True if the interact action was pressed and goes to this owner.
+     */
+    public boolean interact(Object owner, float distance) {
+        if (direct) {
+            return Gdx.input.isKeyJustPressed(Action.INTERACT.key);
+        }
+        if (distance < nearestDistance) {
+            nearest = owner;
+            nearestDistance = distance;
+        }
+        if ((pressed & Action.INTERACT.bit) == 0 || (focus != null && focus != owner)) {
+            return false;
+        }
+        pressed &= ~Action.INTERACT.bit;
+        return true;
+    }
+
+    /** @return Whatever was nearest of the things asking to be interacted with last frame, or null. */
+    public Object getFocus() {
+        return focus;
+    }
+
+    /** Let every action go, such as when the window loses focus mid-press. */
+    public void releaseAll() {
+        down = 0;
+        pressedSince = 0;
+        releasedSince = 0;
+        held = 0;
+        pressed = 0;
+        released = 0;
+    }
+
+    /**
+     * Start the tick's frame of actions, once the overlay has started its own tick, so
+     * a bot decides or a replay moves on before its keys are read.
+     * @param simulation Simulation about to tick.
+     */
+    @Override
+    public void beginTick(Simulation simulation) {
+        if (overlay != null) {
+            overlay.beginTick(simulation);
+        }
+        update();
+    }
+
+    /** End the overlay's tick as well. */
+    @Override
+    public void endTick() {
+        if (overlay != null) {
+            overlay.endTick();
+        }
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        boolean used = false;
+        for (Action action : ACTIONS) {
+            if (action.key == keycode) {
+                down |= action.bit;
+                pressedSince |= action.bit;
+                used = true;
+            }
+        }
+        return used;
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        boolean used = false;
+        for (Action action : ACTIONS) {
+            if (action.key == keycode) {
+                down &= ~action.bit;
+                releasedSince |= action.bit;
+                used = true;
+            }
+        }
+        return used;
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        if (direct) {
+            return Gdx.input.isKeyPressed(key);
+        }
+        return (held & bitsOf(key)) != 0;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        if (direct) {
+            return Gdx.input.isKeyJustPressed(key);
+        }
+        return (pressed & bitsOf(key)) != 0;
+    }
+
+    private static int bitsOf(int key) {
+        int bits = 0;
+        for (Action action : ACTIONS) {
+            if (action.key == key) {
+                bits |= action.bit;
+            }
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,365 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * NEW
+ *
+ * <code>InputRecording</code> is everything a {@link Simulation} took from outside
+ * during a run, stored compactly enough to keep every game: the seed, a hash of the
+ * map, the keys held on each tick, and the few commands the screen sent the world
+ * between ticks, such as speed changes, freezes and teleports. Feeding it back
+ * through an {@link InputReplayer} plays the run again exactly.
+ *
+ * <p>Keys are stored as one bitmask of {@link #KEYS} per tick, and consecutive ticks
+ * with the same mask are merged into a single run of a mask byte and a varint length,
+ * so holding a direction costs a couple of bytes however long it is held. Commands
+ * are stored with the varint number of ticks since the previous command. A typical
+ * game takes a few bytes per second of play.</p>
+ */
+public class InputRecording {
+    /** Keys recorded each tick, in bit order of the mask: moving, interacting, pausing and every quiz answer. */
+    public static final int[] KEYS = {
+        Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D, Input.Keys.E, Input.Keys.P, Input.Keys.B, Input.Keys.C
+    };
+
+    /** Command: the player's speed changed to the first argument. */
+    public static final int SET_SPEED = 1;
+    /** Command: the player was frozen (argument 1) or unfrozen (argument 0). */
+    public static final int SET_FROZEN = 2;
+    /** Command: the deans were frozen for the first argument in seconds. */
+    public static final int FREEZE_DEANS = 3;
+    /** Command: the deans were unfrozen. */
+    public static final int UNFREEZE_DEANS = 4;
+    /** Command: a second dean was spawned. */
+    public static final int SPAWN_DEAN = 5;
+    /** Command: the player was moved to the two arguments between ticks, such as by a teleport. */
+    public static final int PLACE_PLAYER = 6;
+
+    /** Flag: the run planned on a background thread in lockstep. */
+    public static final int FLAG_BACKGROUND_PLANNING = 1;
+
+    private static final int MAGIC = 0x45465552; // "EFUR"
+    private static final int VERSION = 2;
+    private static final int[] ARGUMENTS = {0, 1, 1, 1, 0, 0, 2};
+
+    private final long seed;
+    private final int mapHash;
+    private final int flags;
+    private int tickCount;
+
+    // Room for a run on every tick of a whole game, so recording never grows an array mid-game.
+    private static final int GAME_TICKS = (int) (Score.GAME_LENGTH_SECONDS * FixedTimestep.DEFAULT_TICKS_PER_SECOND);
+    private static final int COMMANDS = 64;
+
+    // Runs of identical key masks.
+    private final ByteArray runMasks = new ByteArray(GAME_TICKS);
+    private final IntArray runLengths = new IntArray(GAME_TICKS);
+
+    // Commands, each at a tick with room for two arguments.
+    private final IntArray commandTicks = new IntArray(COMMANDS);
+    private final ByteArray commandTypes = new ByteArray(COMMANDS);
+    private final FloatArray commandArguments = new FloatArray(COMMANDS * 2);
+
+    /**
+     * Constructor for an empty <code>InputRecording</code>.
+     * @param seed Seed the simulation was created with.
+     * @param mapHash Value of {@link #hashMap(FileHandle)} for the map played on.
+     * @param flags Flags such as {@link #FLAG_BACKGROUND_PLANNING}.
+     */
+    public InputRecording(long seed, int mapHash, int flags) {
+        this.seed = seed;
+        this.mapHash = mapHash;
+        this.flags = flags;
+    }
+
+    /**
+     * Hash a map file, so a replay can refuse to run on a different map.
+     * @param mapFile The TMX file.
+     * @return CRC-32 of the file's contents.
+     */
+    public static int hashMap(FileHandle mapFile) {
+        CRC32 crc = new CRC32();
+        crc.update(mapFile.readBytes());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Read which of the {@link #KEYS} are down.
+     * @param input Keyboard to read.
+     * @return Bitmask with bit <i>i</i> set while <code>KEYS[i]</code> is held or was just pressed.
+     */
+    public static int maskOf(InputSource input) {
+        int mask = 0;
+        for (int i = 0; i < KEYS.length; i++) {
+            if (input.isKeyPressed(KEYS[i]) || input.isKeyJustPressed(KEYS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Add the next tick.
+     * @param mask Keys held during the tick, from {@link #maskOf(InputSource)}.
+     */
+    public void recordTick(int mask) {
+        int last = runMasks.size - 1;
+        if (last >= 0 && runMasks.get(last) == (byte) mask) {
+            runLengths.incr(last, 1);
+        } else {
+            runMasks.add((byte) mask);
+            runLengths.add(1);
+        }
+        tickCount++;
+    }
+
+    /**
+     * Add a command with no arguments sent to the world before the next tick.
+     * @param type Command, such as {@link #SPAWN_DEAN}.
+     */
+    public void recordCommand(int type) {
+        recordCommand(type, 0, 0f, 0f);
+    }
+
+    /**
+     * Add a command with one argument sent to the world before the next tick.
+     * @param type Command, such as {@link #SET_SPEED}.
+     * @param argument The command's argument; ignored if it takes none.
+     */
+    public void recordCommand(int type, float argument) {
+        recordCommand(type, 1, argument, 0f);
+    }
+
+    /**
+     * Add a command sent to the world before the next tick. Each number of arguments has
+     * its own method rather than taking an array, so recording allocates nothing.
+     * @param type Command, such as {@link #PLACE_PLAYER}.
+     * @param first The command's first argument; ignored if it takes none.
+     * @param second The command's second argument; ignored if it takes fewer.
+     */
+    public void recordCommand(int type, float first, float second) {
+        recordCommand(type, 2, first, second);
+    }
+
+    private void recordCommand(int type, int given, float first, float second) {
+        if (type <= 0 || type >= ARGUMENTS.length) {
+            throw new IllegalArgumentException("Unknown command " + type);
+        }
+        int needed = ARGUMENTS[type];
+        if (given < needed) {
+            throw new IllegalArgumentException("Command " + type + " needs " + needed + " arguments");
+        }
+        commandTicks.add(tickCount);
+        commandTypes.add((byte) type);
+        commandArguments.add(needed > 0 ? first : 0f, needed > 1 ? second : 0f);
+    }
+
+    /** @return Seed the simulation was created with. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** @return Hash of the map played on. */
+    public int getMapHash() {
+        return mapHash;
+    }
+
+    /** @return Flags of the run. */
+    public int getFlags() {
+        return flags;
+    }
+
+    /** @return Number of ticks recorded. */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /** @return Number of runs of identical key masks. */
+    public int getRunCount() {
+        return runMasks.size;
+    }
+
+    /**
+     * @param run Index of a run.
+     * @return Key mask of the run.
+     */
+    public int getRunMask(int run) {
+        return runMasks.get(run) & 0xFF;
+    }
+
+    /**
+     * @param run Index of a run.
+     * @return Number of ticks in the run.
+     */
+    public int getRunLength(int run) {
+        return runLengths.get(run);
+    }
+
+    /** @return Number of commands recorded. */
+    public int getCommandCount() {
+        return commandTypes.size;
+    }
+
+    /**
+     * @param command Index of a command.
+     * @return Tick the command was sent before.
+     */
+    public int getCommandTick(int command) {
+        return commandTicks.get(command);
+    }
+
+    /**
+     * @param command Index of a command.
+     * @return Type of the command, such as {@link #SET_SPEED}.
+     */
+    public int getCommandType(int command) {
+        return commandTypes.get(command);
+    }
+
+    /**
+     * Copy a command's arguments.
+     * @param command Index of a command.
+     * @param out Array of at least two floats to copy the arguments to.
+     */
+    public void getCommandArguments(int command, float[] out) {
+        out[0] = commandArguments.get(command * 2);
+        out[1] = commandArguments.get(command * 2 + 1);
+    }
+
+    /**
+     * Write the recording in its binary form.
+     * @param stream Stream to write to. It is not closed.
+     * @throws IOException If writing fails.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(flags);
+        out.writeLong(seed);
+        out.writeInt(mapHash);
+
+        writeVarint(out, runMasks.size);
+        for (int i = 0; i < runMasks.size; i++) {
+            out.writeByte(runMasks.get(i));
+            writeVarint(out, runLengths.get(i));
+        }
+
+        writeVarint(out, commandTypes.size);
+        int previousTick = 0;
+        for (int i = 0; i < commandTypes.size; i++) {
+            writeVarint(out, commandTicks.get(i) - previousTick);
+            previousTick = commandTicks.get(i);
+            out.writeByte(commandTypes.get(i));
+            for (int a = 0; a < ARGUMENTS[commandTypes.get(i)]; a++) {
+                out.writeFloat(commandArguments.get(i * 2 + a));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Read a recording written by {@link #write(OutputStream)}.
+     * @param stream Stream to read from. It is not closed.
+     * @return The recording.
+     * @throws IOException If reading fails or the data is not a recording.
+     */
+    public static InputRecording read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input recording version " + version);
+        }
+        int flags = in.readUnsignedByte();
+        InputRecording recording = new InputRecording(in.readLong(), in.readInt(), flags);
+
+        int runs = readVarint(in);
+        for (int i = 0; i < runs; i++) {
+            byte mask = in.readByte();
+            int length = readVarint(in);
+            if (length <= 0) {
+                throw new IOException("Empty run in input recording");
+            }
+            recording.runMasks.add(mask);
+            recording.runLengths.add(length);
+            recording.tickCount += length;
+        }
+
+        int commands = readVarint(in);
+        int tick = 0;
+        for (int i = 0; i < commands; i++) {
+            tick += readVarint(in);
+            int type = in.readUnsignedByte();
+            if (type <= 0 || type >= ARGUMENTS.length) {
+                throw new IOException("Unknown command " + type + " in input recording");
+            }
+            recording.commandTicks.add(tick);
+            recording.commandTypes.add((byte) type);
+            float first = ARGUMENTS[type] > 0 ? in.readFloat() : 0f;
+            float second = ARGUMENTS[type] > 1 ? in.readFloat() : 0f;
+            recording.commandArguments.add(first, second);
+        }
+        return recording;
+    }
+
+    /** @return The recording in its binary form. */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            write(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to memory failed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param bytes A recording in its binary form.
+     * @return The recording.
+     * @throws IOException If the data is not a recording.
+     */
+    public static InputRecording fromBytes(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Input recording ends inside a number");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in input recording");
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.some_example_name;
+
+/**
+ * NEW
+ *
+ * <code>InputReplayer</code> plays an {@link InputRecording} back into a
+ * {@link Simulation}. As the simulation's {@link InputSource} it reports the recorded
+ * keys for each tick, and at the start of each tick it sends the world the commands
+ * recorded before that tick, so the run plays out exactly as it was recorded.
+ *
+ * <p>Keys count as just pressed on the first tick their bit is set. Once the
+ * recording runs out every key is up and {@link #isFinished()} returns true.</p>
+ */
+public class InputReplayer implements InputSource {
+    private final InputRecording recording;
+    private final float[] arguments = new float[2];
+
+    private int run;
+    private int ticksLeftInRun;
+    private int mask;
+    private int previousMask;
+    private int nextCommand;
+    private int tick;
+
+    /**
+     * Constructor for <code>InputReplayer</code>, starting at the first tick.
+     * @param recording Recording to play back.
+     */
+    public InputReplayer(InputRecording recording) {
+        this.recording = recording;
+        loadRun();
+    }
+
+    /**
+     * Build a headless simulation of the recorded game and play the whole recording
+     * through it as fast as possible.
+     *
+     * @param recording Recording to play back.
+     * @param mapHash Hash of the map about to be played on, from {@link InputRecording#hashMap}.
+     * @return The simulation after the last recorded tick, for inspection.
+     * @throws IllegalArgumentException If the recording was made on a different map.
+     */
+    public static Simulation replayHeadless(InputRecording recording, int mapHash) {
+        checkMap(recording, mapHash);
+        InputReplayer replayer = new InputReplayer(recording);
+        Simulation simulation = Simulation.createHeadless(replayer, recording.getSeed());
+        replayer.configure(simulation);
+        while (!replayer.isFinished()) {
+            simulation.tick(Simulation.DEFAULT_STEP);
+        }
+        return simulation;
+    }
+
+    /**
+     * Refuse to play a recording on a map other than the one it was made on.
+     * @param recording Recording to check.
+     * @param mapHash Hash of the map about to be played on.
+     * @throws IllegalArgumentException If the hashes differ.
+     */
+    public static void checkMap(InputRecording recording, int mapHash) {
+        if (recording.getMapHash() != mapHash) {
+            throw new IllegalArgumentException("Recording was made on a different map");
+        }
+    }
+
+    /**
+     * Set up a simulation to plan the way the recorded one did, which the deans'
+     * movement depends on. Call once before the first tick.
+     * @param simulation Simulation the recording will be played into.
+     */
+    public void configure(Simulation simulation) {
+        boolean background = (recording.getFlags() & InputRecording.FLAG_BACKGROUND_PLANNING) != 0;
+        simulation.getPursuitPlanner().setBackgroundPlanning(background);
+        simulation.getPursuitPlanner().setLockstep(true);
+    }
+
+    /** @return True once every recorded tick has been played. */
+    public boolean isFinished() {
+        return tick >= recording.getTickCount();
+    }
+
+    /** @return Number of ticks played so far. */
+    public int getTick() {
+        return tick;
+    }
+
+    @Override
+    public void beginTick(Simulation simulation) {
+        while (nextCommand < recording.getCommandCount() && recording.getCommandTick(nextCommand) <= tick) {
+            recording.getCommandArguments(nextCommand, arguments);
+            apply(simulation, recording.getCommandType(nextCommand));
+            nextCommand++;
+        }
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        int bit = bitOf(key);
+        return bit >= 0 && (mask & (1 << bit)) != 0;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        int bit = bitOf(key);
+        return bit >= 0 && (mask & (1 << bit)) != 0 && (previousMask & (1 << bit)) == 0;
+    }
+
+    @Override
+    public void endTick() {
+        if (isFinished()) return;
+        tick++;
+        previousMask = mask;
+        ticksLeftInRun--;
+        if (ticksLeftInRun == 0) {
+            run++;
+            loadRun();
+        }
+    }
+
+    private void apply(Simulation simulation, int type) {
+        switch (type) {
+            case InputRecording.SET_SPEED:
+                simulation.setPlayerSpeed(arguments[0]);
+                break;
+            case InputRecording.SET_FROZEN:
+                simulation.setPlayerFrozen(arguments[0] != 0f);
+                break;
+            case InputRecording.FREEZE_DEANS:
+                simulation.freezeAllDeans(arguments[0]);
+                break;
+            case InputRecording.UNFREEZE_DEANS:
+                simulation.unfreezeDeans();
+                break;
+            case InputRecording.SPAWN_DEAN:
+                simulation.spawnSecondDean();
+                break;
+            case InputRecording.PLACE_PLAYER:
+                simulation.getPlayer().getPosition().set(arguments[0], arguments[1]);
+                break;
+            default:
+                throw new IllegalStateException("Unknown command " + type);
+        }
+    }
+
+    private void loadRun() {
+        if (run < recording.getRunCount()) {
+            mask = recording.getRunMask(run);
+            ticksLeftInRun = recording.getRunLength(run);
+        } else {
+            mask = 0;
+            ticksLeftInRun = 0;
+        }
+    }
+
+    private static int bitOf(int key) {
+        for (int i = 0; i < InputRecording.KEYS.length; i++) {
+            if (InputRecording.KEYS[i] == key) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * NEW
+ *
+ * <code>InputSource</code> is where the simulation reads the keyboard from. The game
+ * uses {@link #GDX}, the real keyboard, while tests and headless runs drive the world
+ * with a {@link ScriptedInput} instead.
+ */
+public interface InputSource {
+    /** Keyboard of the running libGDX application. */
+    InputSource GDX = new InputSource() {
+        @Override
+        public boolean isKeyPressed(int key) {
+            return Gdx.input.isKeyPressed(key);
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int key) {
+            return Gdx.input.isKeyJustPressed(key);
+        }
+    };
+
+    /**
+     * @param key Key code from {@link com.badlogic.gdx.Input.Keys}.
+     * @return True while the key is held down.
+     */
+    boolean isKeyPressed(int key);
+
+    /**
+     * @param key Key code from {@link com.badlogic.gdx.Input.Keys}.
+     * @return True only on the tick the key went down.
+     */
+    boolean isKeyJustPressed(int key);
+
+    /**
+     * Called by the simulation at the start of every tick, before anything moves.
+     * Does nothing by default.
+     * @param simulation Simulation about to tick.
+     */
+    default void beginTick(Simulation simulation) {
+    }
+
+    /** Called by the simulation at the end of every tick. Does nothing by default. */
+    default void endTick() {
+    }
+}
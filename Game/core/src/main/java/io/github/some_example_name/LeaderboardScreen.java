@@ -71,9 +71,9 @@ public class LeaderboardScreen implements Screen {
 
         batch.end();
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
+        if (game.getMenuInput().isKeyJustPressed(Input.Keys.SPACE) || game.getMenuInput().isKeyJustPressed(Input.Keys.ENTER)) {
             game.setScreen(new MenuScreen(game));
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        } else if (game.getMenuInput().isKeyJustPressed(Input.Keys.ESCAPE)) {
             Gdx.app.exit();
         }
     }
@@ -0,0 +1,71 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * NEW
+ *
+ * <code>MapEventAssets</code> holds what {@link MapEvents} are drawn with: one texture
+ * for each file the definitions use, a region of it for each definition, and the font
+ * of their messages. The events themselves only know their sizes, so they run without
+ * a GPU; only the screen that draws them makes one of these.
+ */
+public class MapEventAssets implements Disposable {
+    private final ObjectMap<String, Texture> textures = new ObjectMap<>();
+    private final ObjectMap<EventDefinition, TextureRegion> regions = new ObjectMap<>();
+    private final BitmapFont font;
+
+    /** Constructor for <code>MapEventAssets</code>, loading the pictures of {@link EventDefinition#ALL}. */
+    public MapEventAssets() {
+        this(EventDefinition.ALL);
+    }
+
+    /**
+     * Constructor for <code>MapEventAssets</code>, loading each texture once however
+     * many of the definitions are drawn from it.
+     * @param definitions Definitions of the events to be drawn.
+     */
+    public MapEventAssets(EventDefinition... definitions) {
+        for (EventDefinition definition : definitions) {
+            Texture texture = textures.get(definition.texture);
+            if (texture == null) {
+                texture = new Texture(definition.texture);
+                textures.put(definition.texture, texture);
+            }
+            regions.put(definition, new TextureRegion(texture,
+                definition.regionX, definition.regionY, definition.regionWidth, definition.regionHeight));
+        }
+        font = new BitmapFont();
+    }
+
+    /**
+     * @param definition Definition an event was spawned from.
+     * @return Region the event is drawn with, or null if its definition was not loaded.
+     */
+    public TextureRegion getRegion(EventDefinition definition) {
+        return regions.get(definition);
+    }
+
+    /** @return Font the events' messages are drawn with. */
+    public BitmapFont getFont() {
+        return font;
+    }
+
+    /**
+     * Dispose of every texture and the font.
+     * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
+     */
+    @Override
+    public void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+        regions.clear();
+        font.dispose();
+    }
+}
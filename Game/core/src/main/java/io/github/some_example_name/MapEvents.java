@@ -0,0 +1,496 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * NEW
+ *
+ * <code>MapEvents</code> runs the events placed around the map, such as the locker,
+ * the bush and the lab equipment, as entities in an Ashley {@link PooledEngine}.
+ *
+ * <p>Each event is spawned from an {@link EventDefinition} as an entity made of pooled
+ * components, one for each part of the definition it uses. Systems then update every
+ * entity with the same components together: {@link TriggerSystem} first, followed by
+ * the speed, time, teleport, dialog and message systems that react to it. Nothing
+ * here loads a texture or font, so events run headless as well as on screen; the
+ * screen draws them with a {@link MapEventAssets} of its own.</p>
+ *
+ * <p>Triggers are found through a {@link TriggerVolumes} index, which events read from
+ * map objects, such as the water, can be attached to as well, so the cost of events
+ * each frame depends on what is around the player rather than on the whole map.</p>
+ *
+ * <p>Speed effects, messages and teleport countdowns end on timers scheduled on a
+ * {@link TimerWheel}. In a game this is the simulation's, so they stop and replay with
+ * it; otherwise the events keep a wheel of their own, moved on by {@link #update(float)}.</p>
+ */
+public class MapEvents implements Disposable {
+    private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<SpriteComponent> sprites = ComponentMapper.getFor(SpriteComponent.class);
+    private final ComponentMapper<MessageComponent> messages = ComponentMapper.getFor(MessageComponent.class);
+    private final ComponentMapper<EventComponent> events = ComponentMapper.getFor(EventComponent.class);
+    private final ComponentMapper<TriggerComponent> triggers = ComponentMapper.getFor(TriggerComponent.class);
+    private final ComponentMapper<SpeedEffectComponent> speeds = ComponentMapper.getFor(SpeedEffectComponent.class);
+    private final ComponentMapper<TeleportComponent> teleports = ComponentMapper.getFor(TeleportComponent.class);
+
+    private final PooledEngine engine = new PooledEngine();
+    private final TriggerVolumes volumes = new TriggerVolumes();
+    private final TimerWheel timers;
+    private final boolean ownsTimers;
+    private final SpeedEffectSystem speedEffects;
+    private final TriggerSystem triggerSystem;
+    private final TeleportSystem teleportSystem;
+    private final MessageSystem messageSystem;
+    private final ImmutableArray<Entity> drawn;
+    private final ImmutableArray<Entity> eventEntities;
+
+    /**
+     * Constructor for <code>MapEvents</code>, with no events spawned yet and a clock of
+     * their own, moved on by {@link #update(float)}.
+     * @param player Player who triggers the events.
+     * @param timer Game timer the events add time to and take time from.
+     * @param random World's random streams, which the events take theirs from, or null
+     *               for streams of their own seeded with 0.
+     */
+    public MapEvents(Player player, GameTimer timer, RandomStreams random) {
+        this(player, timer, random, new TimerWheel(), true);
+    }
+
+    /**
+     * Constructor for <code>MapEvents</code>, with no events spawned yet.
+     * @param player Player who triggers the events.
+     * @param timer Game timer the events add time to and take time from.
+     * @param random World's random streams, which the events take theirs from, or null
+     *               for streams of their own seeded with 0.
+     * @param timers Clock the events' timers run on, moved on by whoever owns it.
+     */
+    public MapEvents(Player player, GameTimer timer, RandomStreams random, TimerWheel timers) {
+        this(player, timer, random, timers, false);
+    }
+
+    private MapEvents(Player player, GameTimer timer, RandomStreams random, TimerWheel timers, boolean ownsTimers) {
+        this.timers = timers;
+        this.ownsTimers = ownsTimers;
+        if (random == null) {
+            random = new RandomStreams(0L);
+        }
+        triggerSystem = new TriggerSystem(player, volumes);
+        speedEffects = new SpeedEffectSystem(timers);
+        teleportSystem = new TeleportSystem(player, random.stream(RandomStreams.TELEPORT), timers);
+        messageSystem = new MessageSystem(timers);
+        engine.addSystem(triggerSystem);
+        engine.addSystem(speedEffects);
+        engine.addSystem(new TimeEffectSystem(timer));
+        engine.addSystem(teleportSystem);
+        engine.addSystem(new DialogSystem(player, random.stream(RandomStreams.DIALOG)));
+        engine.addSystem(messageSystem);
+        drawn = engine.getEntitiesFor(Family.all(EventComponent.class, PositionComponent.class, SpriteComponent.class).get());
+        eventEntities = engine.getEntitiesFor(Family.all(EventComponent.class, TriggerComponent.class).get());
+    }
+
+    /**
+     * Post on a gameplay event bus whenever an event first goes off or the player is teleported.
+     * @param gameEvents Bus to post on, or null to post nothing.
+     */
+    public void setGameEvents(GameEvents gameEvents) {
+        triggerSystem.setGameEvents(gameEvents);
+        teleportSystem.setGameEvents(gameEvents);
+    }
+
+    /**
+     * Read the interact key from a screen's actions rather than straight from the keyboard.
+     * @param actions Actions of the current frame.
+     */
+    public void setActions(InputActions actions) {
+        triggerSystem.setActions(actions);
+    }
+
+    /**
+     * Leave teleporting the player to a replay, which places them itself.
+     * @param replaying True while a recorded game is played back.
+     */
+    public void setReplaying(boolean replaying) {
+        teleportSystem.setReplaying(replaying);
+    }
+
+    /** Spawn every event in {@link EventDefinition#ALL} where it belongs on the main map. */
+    public void spawnAll() {
+        for (EventDefinition definition : EventDefinition.ALL) {
+            spawn(definition, definition.getSpawnX(), definition.getSpawnY());
+        }
+    }
+
+    /**
+     * Spawn an event from its definition.
+     * @param definition What the event looks like and does.
+     * @param x Horizontal position to spawn the event at.
+     * @param y Vertical position to spawn the event at.
+     * @return The event's entity.
+     * @throws IllegalArgumentException If the definition has no {@link EventDefinition#region} to size it by.
+     */
+    public Entity spawn(EventDefinition definition, float x, float y) {
+        return spawnAt(definition, x + definition.offsetX, y + definition.offsetY);
+    }
+
+    private Entity spawnAt(EventDefinition definition, float x, float y) {
+        if (definition.regionWidth <= 0 || definition.regionHeight <= 0) {
+            throw new IllegalArgumentException(definition.name + " has no region to size it by");
+        }
+        Entity entity = engine.createEntity();
+
+        EventComponent event = engine.createComponent(EventComponent.class);
+        event.definition = definition;
+        entity.add(event);
+
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.position.set(x, y);
+        entity.add(position);
+
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.width = definition.regionWidth * definition.scale;
+        sprite.height = definition.regionHeight * definition.scale;
+        entity.add(sprite);
+
+        TriggerComponent trigger = engine.createComponent(TriggerComponent.class);
+        trigger.bounds.set(position.position.x, position.position.y, sprite.width, sprite.height);
+        trigger.interact = definition.interact;
+        trigger.range = definition.range;
+        trigger.once = definition.once;
+        trigger.hideWhenTriggered = definition.hideWhenTriggered;
+        entity.add(trigger);
+
+        if (definition.speedDuration > 0) {
+            SpeedEffectComponent speed = engine.createComponent(SpeedEffectComponent.class);
+            speed.multiplier = definition.speedMultiplier;
+            speed.duration = definition.speedDuration;
+            entity.add(speed);
+        }
+        if (definition.timeChange != 0) {
+            TimeEffectComponent time = engine.createComponent(TimeEffectComponent.class);
+            time.seconds = definition.timeChange;
+            entity.add(time);
+        }
+        if (definition.teleportDelay >= 0) {
+            TeleportComponent teleport = engine.createComponent(TeleportComponent.class);
+            teleport.delay = definition.teleportDelay;
+            teleport.destinations = definition.teleportDestinations;
+            entity.add(teleport);
+        }
+        if (definition.dialogLines != null) {
+            DialogComponent dialog = engine.createComponent(DialogComponent.class);
+            dialog.lines = definition.dialogLines;
+            dialog.hideRange = definition.dialogHideRange;
+            entity.add(dialog);
+        }
+        if (definition.hasMessage) {
+            MessageComponent message = engine.createComponent(MessageComponent.class);
+            message.text = definition.message;
+            message.offsetX = definition.messageOffsetX;
+            message.offsetY = definition.messageOffsetY;
+            message.duration = definition.messageDuration;
+            entity.add(message);
+        }
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    /**
+     * Update every event for the time passed since the last frame. If the events have a
+     * clock of their own, it is moved on too.
+     * @param delta Time elapsed since last frame.
+     */
+    public void update(float delta) {
+        engine.update(delta);
+        if (ownsTimers) {
+            timers.advance(delta);
+        }
+    }
+
+    /**
+     * Draw every visible event, then the messages above them.
+     * @param batch SpriteBatch used by application to render all sprites.
+     * @param assets Pictures of the events and the font of their messages.
+     */
+    public void render(SpriteBatch batch, MapEventAssets assets) {
+        for (int i = 0; i < drawn.size(); i++) {
+            Entity entity = drawn.get(i);
+            SpriteComponent sprite = sprites.get(entity);
+            TextureRegion region = assets.getRegion(events.get(entity).definition);
+            if (sprite.visible && region != null) {
+                PositionComponent position = positions.get(entity);
+                batch.draw(region, position.position.x, position.position.y, sprite.width, sprite.height);
+            }
+        }
+        BitmapFont font = assets.getFont();
+        for (int i = 0; i < drawn.size(); i++) {
+            Entity entity = drawn.get(i);
+            MessageComponent message = messages.get(entity);
+            if (message != null && message.showing && message.text != null) {
+                PositionComponent position = positions.get(entity);
+                font.draw(batch, message.text,
+                    position.position.x + message.offsetX,
+                    position.position.y + sprites.get(entity).height + message.offsetY);
+            }
+        }
+    }
+
+    /**
+     * Return the player's speed from the speed effects running, such as the locker
+     * boost doubling it and the bush halving it.
+     * @return Pixels per tick at {@link FixedTimestep#DEFAULT_TICKS_PER_SECOND}.
+     */
+    public float getPlayerSpeed() {
+        return speedEffects.getSpeedMultiplier();
+    }
+
+    /**
+     * Return whether an event spawned from a definition has been triggered.
+     * @param definition Definition the event was spawned from.
+     * @return True if any event spawned from it has gone off.
+     */
+    public boolean isTriggered(EventDefinition definition) {
+        for (int i = 0; i < eventEntities.size(); i++) {
+            Entity entity = eventEntities.get(i);
+            if (events.get(entity).definition == definition && triggers.get(entity).triggered) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Count the events of a category that have been triggered, for the HUD checklists.
+     * @param category Checklist to count.
+     * @return Number of triggered events in the category.
+     */
+    public int countTriggered(EventCategory category) {
+        int count = 0;
+        for (int i = 0; i < eventEntities.size(); i++) {
+            Entity entity = eventEntities.get(i);
+            if (events.get(entity).definition.category == category && triggers.get(entity).triggered) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the events of a category that have been spawned.
+     * @param category Checklist to count.
+     * @return Number of events in the category.
+     */
+    public int countSpawned(EventCategory category) {
+        int count = 0;
+        for (int i = 0; i < eventEntities.size(); i++) {
+            if (events.get(eventEntities.get(i)).definition.category == category) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Return whether every event of a category has been triggered.
+     * @param category Checklist to check.
+     * @return True if all of the category's events have gone off.
+     */
+    public boolean allTriggered(EventCategory category) {
+        return countTriggered(category) == countSpawned(category);
+    }
+
+    /**
+     * Write every event to a snapshot: which definition it was spawned from, where it
+     * is, and its flags and timers.
+     * @param out Buffer to write to.
+     * @throws IllegalArgumentException If an event was not spawned from one of {@link EventDefinition#ALL}.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putShort((short) eventEntities.size());
+        for (int i = 0; i < eventEntities.size(); i++) {
+            Entity entity = eventEntities.get(i);
+            EventDefinition definition = events.get(entity).definition;
+            out.put((byte) EventDefinition.indexOf(definition));
+            Vector2 position = positions.get(entity).position;
+            out.putFloat(position.x).putFloat(position.y);
+            GameSnapshot.putBoolean(out, triggers.get(entity).triggered);
+            SpriteComponent sprite = sprites.get(entity);
+            GameSnapshot.putBoolean(out, sprite != null && sprite.visible);
+
+            SpeedEffectComponent speed = speeds.get(entity);
+            if (speed != null) {
+                out.putFloat(timers.getRemaining(speed.timer));
+            }
+            TeleportComponent teleport = teleports.get(entity);
+            if (teleport != null) {
+                out.put((byte) teleport.stage);
+                out.putFloat(timers.getRemaining(teleport.timer));
+                GameSnapshot.putBoolean(out, teleport.happened);
+            }
+            MessageComponent message = messages.get(entity);
+            if (message != null) {
+                writeText(out, message.text, definition);
+                out.putFloat(timers.getRemaining(message.timer));
+                GameSnapshot.putBoolean(out, message.showing);
+            }
+        }
+    }
+
+    /**
+     * Spawn the events written by {@link #writeState(ByteBuffer)}, each where it was
+     * and with its flags and timers, instead of spawning them afresh.
+     * @param in Buffer to read from.
+     * @throws IllegalStateException If events have already been spawned.
+     */
+    public void readState(ByteBuffer in) {
+        if (eventEntities.size() > 0) {
+            throw new IllegalStateException("Events have already been spawned");
+        }
+        int count = in.getShort();
+        for (int i = 0; i < count; i++) {
+            EventDefinition definition = EventDefinition.ALL[in.get()];
+            readEvent(spawnAt(definition, in.getFloat(), in.getFloat()), definition, in);
+        }
+    }
+
+    /**
+     * Put the events already spawned back to the state written by
+     * {@link #writeState(ByteBuffer)}, for going back to an earlier point of the same
+     * game. Unlike {@link #readState(ByteBuffer)} nothing is spawned, so the trigger
+     * volumes keep their handles.
+     * @param in Buffer to read from.
+     * @throws IllegalArgumentException If the snapshot holds different events from the ones spawned.
+     */
+    public void rewindState(ByteBuffer in) {
+        int count = in.getShort();
+        if (count != eventEntities.size()) {
+            throw new IllegalArgumentException("Snapshot has " + count + " events, not " + eventEntities.size());
+        }
+        for (int i = 0; i < count; i++) {
+            Entity entity = eventEntities.get(i);
+            EventDefinition definition = EventDefinition.ALL[in.get()];
+            if (events.get(entity).definition != definition) {
+                throw new IllegalArgumentException("Snapshot has " + definition.name + " where " + events.get(entity).definition.name + " was spawned");
+            }
+            Vector2 position = positions.get(entity).position;
+            position.set(in.getFloat(), in.getFloat());
+            readEvent(entity, definition, in);
+        }
+    }
+
+    // Timers running when the snapshot was taken are scheduled again for the time they had left.
+    private void readEvent(Entity entity, EventDefinition definition, ByteBuffer in) {
+        triggers.get(entity).triggered = GameSnapshot.getBoolean(in);
+        sprites.get(entity).visible = GameSnapshot.getBoolean(in);
+
+        SpeedEffectComponent speed = speeds.get(entity);
+        if (speed != null) {
+            timers.cancel(speed.timer);
+            speed.timer = reschedule(in.getFloat(), speedEffects, speed);
+        }
+        TeleportComponent teleport = teleports.get(entity);
+        if (teleport != null) {
+            teleport.stage = in.get();
+            timers.cancel(teleport.timer);
+            teleport.timer = reschedule(in.getFloat(), teleportSystem, entity);
+            teleport.happened = GameSnapshot.getBoolean(in);
+        }
+        MessageComponent message = messages.get(entity);
+        if (message != null) {
+            message.text = readText(in, definition);
+            timers.cancel(message.timer);
+            message.timer = reschedule(in.getFloat(), messageSystem, message);
+            message.showing = GameSnapshot.getBoolean(in);
+        }
+    }
+
+    private int reschedule(float seconds, TimerWheel.Listener listener, Object subject) {
+        return seconds > 0f ? timers.schedule(seconds, listener, subject) : TimerWheel.NO_TIMER;
+    }
+
+    // Messages are usually the definition's own text or one of its dialog lines, so
+    // those are saved as a reference and only other text, such as a countdown, in full.
+    private static void writeText(ByteBuffer out, String text, EventDefinition definition) {
+        if (text == null) {
+            out.put((byte) 0);
+            return;
+        }
+        if (text.equals(definition.message)) {
+            out.put((byte) 1);
+            return;
+        }
+        if (definition.dialogLines != null) {
+            for (int i = 0; i < definition.dialogLines.length; i++) {
+                if (text.equals(definition.dialogLines[i])) {
+                    out.put((byte) 2).put((byte) i);
+                    return;
+                }
+            }
+        }
+        out.put((byte) 3);
+        GameSnapshot.putString(out, text);
+    }
+
+    private static String readText(ByteBuffer in, EventDefinition definition) {
+        switch (in.get()) {
+            case 0:
+                return null;
+            case 1:
+                return definition.message;
+            case 2:
+                return definition.dialogLines[in.get()];
+            default:
+                return GameSnapshot.getString(in);
+        }
+    }
+
+    /**
+     * Return the index of trigger areas, which is moved through with the player's box
+     * at the start of every {@link #update(float)}.
+     * @return Trigger volumes shared by every event.
+     */
+    public TriggerVolumes getTriggerVolumes() {
+        return volumes;
+    }
+
+    /** @return Engine the events live in. */
+    public PooledEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Remove every event and take their timers off the clock.
+     * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
+     */
+    @Override
+    public void dispose() {
+        // A shared wheel outlives the events, so their timers are taken off it.
+        for (int i = 0; i < eventEntities.size(); i++) {
+            Entity entity = eventEntities.get(i);
+            SpeedEffectComponent speed = speeds.get(entity);
+            if (speed != null) {
+                timers.cancel(speed.timer);
+            }
+            TeleportComponent teleport = teleports.get(entity);
+            if (teleport != null) {
+                timers.cancel(teleport.timer);
+            }
+            MessageComponent message = messages.get(entity);
+            if (message != null) {
+                timers.cancel(message.timer);
+            }
+        }
+        engine.removeAllEntities();
+        volumes.clear();
+    }
+}
@@ -7,8 +7,13 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+
 /**
  * EXTENDED
  *
@@ -23,13 +28,15 @@ public class MenuScreen implements Screen {
     private SpriteBatch batch;
     private BitmapFont font;
     private FitViewport viewport;
+    private boolean replayAvailable;
+    private boolean suspendedGameAvailable;
 
     private final int MENU_WIDTH = 640;
     private final int MENU_HEIGHT = 480;
 
 
     /**
-     * UNCHANGED
+     * EXTENDED
      * Constructor for <code> MenuScreen </code>, using the game creator in
      * <code> MyGame </code> to create menu screen.
      * @param game Game creator.
@@ -45,6 +52,39 @@ public class MenuScreen implements Screen {
         font.getData().setScale(2f); //this makes the text bigger
 
         viewport = new FitViewport(MENU_WIDTH, MENU_HEIGHT, camera);
+        replayAvailable = Gdx.files.local(GameScreen.REPLAY_PATH).exists();
+        suspendedGameAvailable = Gdx.files.local(GameScreen.SNAPSHOT_PATH).exists();
+    }
+
+    /**
+     * NEW
+     *
+     * Carry on the game that was interrupted, from the snapshot it was suspended to.
+     * A snapshot that cannot be read, or is from another version of the game, is skipped.
+     */
+    private void continueSuspendedGame() {
+        try (InputStream in = Gdx.files.local(GameScreen.SNAPSHOT_PATH).read()) {
+            game.setScreen(new GameScreen(game, GameSnapshot.read(in)));
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException
+                 | BufferUnderflowException | GdxRuntimeException error) {
+            Gdx.app.error("MenuScreen", "Could not continue the suspended game", error);
+            suspendedGameAvailable = false;
+        }
+    }
+
+    /**
+     * NEW
+     *
+     * Watch the last game played back in real time. A recording that cannot be read,
+     * or was made on another version of the map, is skipped.
+     */
+    private void watchLastGame() {
+        try (InputStream in = Gdx.files.local(GameScreen.REPLAY_PATH).read()) {
+            game.setScreen(new GameScreen(game, InputRecording.read(in)));
+        } catch (IOException | IllegalArgumentException | GdxRuntimeException error) {
+            Gdx.app.error("MenuScreen", "Could not play the last game", error);
+            replayAvailable = false;
+        }
     }
 
     /**
@@ -55,7 +95,7 @@ public class MenuScreen implements Screen {
     public void show() {}
 
     /**
-     * UNCHANGED
+     * EXTENDED
      * Process input then render new frame for the main menu.
      * @param delta Time in seconds since last frame finished rendering.
      * @see com.badlogic.gdx.Screen#render Screen.render().
@@ -72,11 +112,21 @@ public class MenuScreen implements Screen {
         font.draw(batch, "Escape from University", 170, 350);
         font.draw(batch, "Press SPACE to Start", 175, 250);
         font.draw(batch, "Press ESC to Exit", 198, 200);
+        if (replayAvailable) {
+            font.draw(batch, "Press R to Watch Last Game", 140, 150);
+        }
+        if (suspendedGameAvailable) {
+            font.draw(batch, "Press C to Continue Game", 155, 100);
+        }
         batch.end();
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (game.getMenuInput().isKeyJustPressed(Input.Keys.SPACE)) {
             game.setScreen(new TutorialScreen(game));
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        } else if (replayAvailable && game.getMenuInput().isKeyJustPressed(Input.Keys.R)) {
+            watchLastGame();
+        } else if (suspendedGameAvailable && game.getMenuInput().isKeyJustPressed(Input.Keys.C)) {
+            continueSuspendedGame();
+        } else if (game.getMenuInput().isKeyJustPressed(Input.Keys.ESCAPE)) {
             Gdx.app.exit();
         }
     }
@@ -0,0 +1,37 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>MessageComponent</code> shows a line of text above the entity for a while
+ * after it is triggered.
+ */
+public class MessageComponent implements Component, Pool.Poolable {
+    /** Duration of a message that stays until another system hides it. */
+    public static final float UNTIL_HIDDEN = Float.POSITIVE_INFINITY;
+
+    /** Text shown. */
+    public String text;
+    /** Where the text is drawn, from the entity's position and the top of its sprite. */
+    public float offsetX;
+    public float offsetY;
+    /** How long the message shows for, in seconds. */
+    public float duration;
+    /** Timer hiding the message, or {@link TimerWheel#NO_TIMER} if none is running. */
+    public int timer;
+    /** Whether the message is showing. */
+    public boolean showing;
+
+    @Override
+    public void reset() {
+        text = null;
+        offsetX = 0;
+        offsetY = 0;
+        duration = 0;
+        timer = TimerWheel.NO_TIMER;
+        showing = false;
+    }
+}
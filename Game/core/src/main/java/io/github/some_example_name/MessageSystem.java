@@ -0,0 +1,50 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * NEW
+ *
+ * <code>MessageSystem</code> shows an entity's message when it is triggered, and
+ * hides it again with a timer on a {@link TimerWheel} once it has shown for its
+ * duration. It runs after the other effect systems, so the text they set is the one shown.
+ */
+public class MessageSystem extends IteratingSystem implements TimerWheel.Listener {
+    private final ComponentMapper<TriggerComponent> triggers = ComponentMapper.getFor(TriggerComponent.class);
+    private final ComponentMapper<MessageComponent> messages = ComponentMapper.getFor(MessageComponent.class);
+
+    private final TimerWheel timers;
+
+    /**
+     * Constructor for <code>MessageSystem</code>.
+     * @param timers Clock messages are hidden on.
+     */
+    public MessageSystem(TimerWheel timers) {
+        super(Family.all(TriggerComponent.class, MessageComponent.class).get(), TriggerSystem.PRIORITY + 2);
+        this.timers = timers;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (triggers.get(entity).fired) {
+            MessageComponent message = messages.get(entity);
+            message.showing = true;
+            timers.cancel(message.timer);
+            message.timer = message.duration == MessageComponent.UNTIL_HIDDEN
+                ? TimerWheel.NO_TIMER
+                : timers.schedule(message.duration, this, message);
+        }
+    }
+
+    @Override
+    public void expired(int timer, Object subject) {
+        MessageComponent message = (MessageComponent) subject;
+        if (message.timer == timer) {
+            message.timer = TimerWheel.NO_TIMER;
+            message.showing = false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>MotionComponent</code> moves an entity a set distance each tick, and keeps
+ * where it was at the start of the tick so it can be drawn between ticks.
+ */
+public class MotionComponent implements Component, Pool.Poolable {
+    /** Position at the start of the current tick, in pixels. */
+    public final Vector2 previousPosition = new Vector2();
+    /** Distance moved each tick before any status effects, in pixels. */
+    public float speed;
+
+    @Override
+    public void reset() {
+        previousPosition.setZero();
+        speed = 0;
+    }
+}
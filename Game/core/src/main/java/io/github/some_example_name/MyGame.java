@@ -18,6 +18,7 @@ public class MyGame extends Game {
      */
     private String PlayerFirstName = "";
     private String PlayerLastName = "";
+    private InputSource menuInput = InputSource.GDX;
 
     @Override
     public void create() {
@@ -77,4 +78,27 @@ public class MyGame extends Game {
             return PlayerFirstName + " " + PlayerLastName;
         }
     }
+
+    /**
+     * NEW
+     *
+     * Return the keys the menu screens read, the real keyboard unless something else
+     * has been set.
+     *
+     * @return Keys for the menus
+     */
+    public InputSource getMenuInput() {
+        return menuInput;
+    }
+
+    /**
+     * NEW
+     *
+     * Set the keys the menu screens read, for example to let a bot press them too.
+     *
+     * @param menuInput Keys for the menus
+     */
+    public void setMenuInput(InputSource menuInput) {
+        this.menuInput = menuInput;
+    }
 }
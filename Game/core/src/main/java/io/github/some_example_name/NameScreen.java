@@ -173,17 +173,17 @@ public class NameScreen implements Screen {
         }
 
         // Keyboard shortcuts
-        if (Gdx.input.isKeyJustPressed(Input.Keys.TAB)) {
+        if (game.getMenuInput().isKeyJustPressed(Input.Keys.TAB)) {
             typingFirstName = !typingFirstName;
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) && firstName.length() > 0) {
+        if (game.getMenuInput().isKeyJustPressed(Input.Keys.SPACE) && firstName.length() > 0) {
             game.setPlayerName(firstName, lastName);
             game.setScreen(new GameScreen(game));
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        if (game.getMenuInput().isKeyJustPressed(Input.Keys.ESCAPE)) {
             game.setScreen(new TutorialScreen(game));
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.DEL) || Gdx.input.isKeyJustPressed(Input.Keys.BACKSPACE)) {
+        if (game.getMenuInput().isKeyJustPressed(Input.Keys.DEL) || game.getMenuInput().isKeyJustPressed(Input.Keys.BACKSPACE)) {
             if (typingFirstName && !firstName.isEmpty()) {
                 firstName = firstName.substring(0, firstName.length() - 1);
             } else if (!typingFirstName && !lastName.isEmpty()) {
@@ -0,0 +1,429 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>NavMesh</code> is a coarse navigation graph built by greedily merging the
+ * walkable cells of a {@link NavigationGrid} into rectangles. Each rectangle is one
+ * node, and two rectangles are linked when they share an edge, which is their portal.
+ *
+ * <p>Open areas such as the grass and the building floors collapse into a handful of
+ * rectangles, so searches over the mesh visit far fewer nodes than searches over the
+ * cells. Inside a rectangle the walking distance between two cells is exactly their
+ * Manhattan distance, which keeps the distances honest.</p>
+ *
+ * <p>{@link #searchFrom(int)} works out how far every rectangle is from a goal, and
+ * {@link #distanceToGoal(int)} then gives the walking distance from any cell. The
+ * {@link CooperativePathfinder} steers by it past the end of its window, so it never
+ * has to search every cell of the map for a new goal. Whether two cells are joined at
+ * all is cached too, see {@link #isConnected(int, int)}.</p>
+ *
+ * <p>When a cell changes only the rectangles around it are rebuilt, see
+ * {@link #setCellBlocked(int, int, boolean)}.</p>
+ */
+public class NavMesh {
+    private NavigationGrid grid;
+    private final int[] cellRegion;
+
+    // Rectangle of each region in cell coordinates; dead regions have a width of 0.
+    private final IntArray rectX = new IntArray();
+    private final IntArray rectY = new IntArray();
+    private final IntArray rectW = new IntArray();
+    private final IntArray rectH = new IntArray();
+    private final Array<IntArray> neighbours = new Array<>();
+    private final IntArray freeRegions = new IntArray();
+    private int regionCount;
+
+    private final int[] component;
+    private boolean componentsDirty = true;
+    // Regions removed and created by the latest rebuild, and regions still to label.
+    private final IntArray scratch = new IntArray();
+    private final IntArray createdRegions = new IntArray();
+    private final IntArray componentStack = new IntArray();
+
+    // Search from the goal, indexed by region and stamped with the search id instead of cleared.
+    private int[] bestCost = new int[0];
+    private int[] entryCell = new int[0];
+    private int[] seen = new int[0];
+    private int[] closed = new int[0];
+    private int searchId;
+    private int searchedGoal = -1;
+    private final IntArray open = new IntArray();
+    private final int[] crossing = new int[2];
+    private int lastExpandedRegions;
+
+    /**
+     * Constructor for <code>NavMesh</code>, decomposing the whole grid straight away.
+     * @param grid Walkable grid to build the mesh over.
+     */
+    public NavMesh(NavigationGrid grid) {
+        this.grid = grid;
+        cellRegion = new int[grid.getCellCount()];
+        component = new int[grid.getCellCount()];
+        Arrays.fill(cellRegion, -1);
+        decompose(0, 0, grid.getWidth(), grid.getHeight(), scratch);
+        linkRegions(scratch);
+    }
+
+    /** @return Grid the mesh currently describes. */
+    public NavigationGrid getGrid() {
+        return grid;
+    }
+
+    /** @return Number of live rectangles in the mesh. */
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    /**
+     * @param cell Cell index.
+     * @return Id of the rectangle covering the cell, or -1 if the cell is blocked.
+     */
+    public int regionOf(int cell) {
+        return cell < 0 || cell >= cellRegion.length ? -1 : cellRegion[cell];
+    }
+
+    /**
+     * Fill <code>out</code> with the rectangle of a region as x, y, width, height in cells.
+     * @param region Region id.
+     * @param out Array of at least four ints.
+     */
+    public void getRect(int region, int[] out) {
+        out[0] = rectX.get(region);
+        out[1] = rectY.get(region);
+        out[2] = rectW.get(region);
+        out[3] = rectH.get(region);
+    }
+
+    /**
+     * @param region Region id.
+     * @return Ids of the regions sharing a portal with it. Do not modify.
+     */
+    public IntArray getNeighbours(int region) {
+        return neighbours.get(region);
+    }
+
+    /** @return Number of regions the most recent {@link #searchFrom(int)} expanded. */
+    public int getLastExpandedRegions() {
+        return lastExpandedRegions;
+    }
+
+    /**
+     * Return whether one cell can be reached from another at all, without searching.
+     * Connected groups of regions are worked out once and reused until the mesh changes.
+     *
+     * @param fromCell Cell index to walk from.
+     * @param toCell Cell index to walk to.
+     * @return True if both cells are walkable and joined by some route.
+     */
+    public boolean isConnected(int fromCell, int toCell) {
+        int from = regionOf(fromCell);
+        int to = regionOf(toCell);
+        if (from < 0 || to < 0) return false;
+        if (componentsDirty) {
+            labelComponents();
+        }
+        return component[from] == component[to];
+    }
+
+    /**
+     * Change whether a cell is blocked and rebuild the rectangles around it. Only the
+     * rectangles touching the cell are split up and merged again, so the cost depends
+     * on their size rather than on the size of the map.
+     *
+     * @param x Horizontal cell coordinate.
+     * @param y Vertical cell coordinate.
+     * @param blocked New blocked state of the cell.
+     */
+    public void setCellBlocked(int x, int y, boolean blocked) {
+        if (!grid.inBounds(x, y) || grid.isBlocked(x, y) == blocked) return;
+        grid = grid.withCell(x, y, blocked);
+
+        // Remove the region on the cell and the regions beside it, then merge their cells again.
+        int minX = x, minY = y, maxX = x, maxY = y;
+        IntArray removed = scratch;
+        removed.clear();
+        collectRegion(grid.index(x, y), removed);
+        if (x > 0) collectRegion(grid.index(x - 1, y), removed);
+        if (y > 0) collectRegion(grid.index(x, y - 1), removed);
+        if (x < grid.getWidth() - 1) collectRegion(grid.index(x + 1, y), removed);
+        if (y < grid.getHeight() - 1) collectRegion(grid.index(x, y + 1), removed);
+
+        for (int i = 0; i < removed.size; i++) {
+            int region = removed.get(i);
+            minX = Math.min(minX, rectX.get(region));
+            minY = Math.min(minY, rectY.get(region));
+            maxX = Math.max(maxX, rectX.get(region) + rectW.get(region) - 1);
+            maxY = Math.max(maxY, rectY.get(region) + rectH.get(region) - 1);
+            removeRegion(region);
+        }
+
+        decompose(minX, minY, maxX + 1, maxY + 1, createdRegions);
+        linkRegions(createdRegions);
+        componentsDirty = true;
+        searchedGoal = -1;
+    }
+
+    /**
+     * Work out how far every rectangle is from a goal by searching outward from it over
+     * the portals, for {@link #distanceToGoal(int)}. The last goal is remembered, so
+     * searching from it again costs nothing until the mesh changes.
+     *
+     * <p>Each rectangle is entered at one cell, and a portal is crossed at the portal
+     * cell closest to where the rectangle was entered. Distances are therefore close to
+     * the shortest walk but can be a little longer.</p>
+     *
+     * @param goalCell Cell index to measure distances to.
+     */
+    public void searchFrom(int goalCell) {
+        if (goalCell == searchedGoal) {
+            lastExpandedRegions = 0;
+            return;
+        }
+        ensureSearchCapacity();
+        searchId++;
+        searchedGoal = goalCell;
+        lastExpandedRegions = 0;
+        open.clear();
+        int goalRegion = regionOf(goalCell);
+        if (goalRegion < 0) return;
+
+        bestCost[goalRegion] = 0;
+        entryCell[goalRegion] = goalCell;
+        seen[goalRegion] = searchId;
+        open.add(goalRegion);
+        while (open.size > 0) {
+            int region = popCheapest();
+            closed[region] = searchId;
+            lastExpandedRegions++;
+
+            int entry = entryCell[region];
+            IntArray links = neighbours.get(region);
+            for (int i = 0; i < links.size; i++) {
+                int next = links.get(i);
+                if (closed[next] == searchId) continue;
+                portalCrossing(region, next, entry, crossing);
+                int cost = bestCost[region] + manhattan(entry, crossing[0]) + 1;
+                if (seen[next] != searchId || cost < bestCost[next]) {
+                    if (seen[next] != searchId) open.add(next);
+                    seen[next] = searchId;
+                    bestCost[next] = cost;
+                    entryCell[next] = crossing[1];
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the walking distance from a cell to the goal of the latest
+     * {@link #searchFrom(int)}: straight across its rectangle to where the route from
+     * the goal came in, then the rest of that route.
+     * @param cell Cell index to measure from.
+     * @return Number of steps, or {@link Integer#MAX_VALUE} if the goal cannot be reached.
+     */
+    public int distanceToGoal(int cell) {
+        int region = regionOf(cell);
+        if (region < 0 || searchedGoal < 0 || closed[region] != searchId) {
+            return Integer.MAX_VALUE;
+        }
+        return bestCost[region] + manhattan(cell, entryCell[region]);
+    }
+
+    /** Take the open region closest to the goal. */
+    private int popCheapest() {
+        int bestIndex = 0;
+        int bestScore = Integer.MAX_VALUE;
+        for (int i = 0; i < open.size; i++) {
+            int score = bestCost[open.get(i)];
+            if (score < bestScore) {
+                bestScore = score;
+                bestIndex = i;
+            }
+        }
+        return open.removeIndex(bestIndex);
+    }
+
+    /**
+     * Work out where to cross from one region into a neighbour: the portal cell on the
+     * <code>from</code> side closest to <code>entry</code>, and the cell beside it on the
+     * other side.
+     */
+    private void portalCrossing(int from, int to, int entry, int[] out) {
+        int fx = rectX.get(from), fy = rectY.get(from), fw = rectW.get(from), fh = rectH.get(from);
+        int tx = rectX.get(to), ty = rectY.get(to), tw = rectW.get(to), th = rectH.get(to);
+        int ex = grid.cellX(entry);
+        int ey = grid.cellY(entry);
+
+        if (fx + fw == tx || tx + tw == fx) {
+            // Side by side: the portal is a vertical run of cells.
+            int low = Math.max(fy, ty);
+            int high = Math.min(fy + fh, ty + th) - 1;
+            int y = Math.max(low, Math.min(high, ey));
+            int x = fx + fw == tx ? fx + fw - 1 : fx;
+            int step = fx + fw == tx ? 1 : -1;
+            out[0] = grid.index(x, y);
+            out[1] = grid.index(x + step, y);
+        } else {
+            // Stacked: the portal is a horizontal run of cells.
+            int low = Math.max(fx, tx);
+            int high = Math.min(fx + fw, tx + tw) - 1;
+            int x = Math.max(low, Math.min(high, ex));
+            int y = fy + fh == ty ? fy + fh - 1 : fy;
+            int step = fy + fh == ty ? 1 : -1;
+            out[0] = grid.index(x, y);
+            out[1] = grid.index(x, y + step);
+        }
+    }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(grid.cellX(a) - grid.cellX(b)) + Math.abs(grid.cellY(a) - grid.cellY(b));
+    }
+
+    /**
+     * Greedily cover the free walkable cells inside a box with rectangles: grow right as
+     * far as possible, then grow upwards while the whole row still fits.
+     */
+    private void decompose(int minX, int minY, int maxX, int maxY, IntArray created) {
+        created.clear();
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                if (!isFree(x, y)) continue;
+
+                int width = 1;
+                while (x + width < maxX && isFree(x + width, y)) width++;
+
+                int height = 1;
+                while (y + height < maxY && rowFree(x, y + height, width)) height++;
+
+                created.add(addRegion(x, y, width, height));
+            }
+        }
+    }
+
+    private boolean isFree(int x, int y) {
+        return !grid.isBlocked(x, y) && cellRegion[grid.index(x, y)] < 0;
+    }
+
+    private boolean rowFree(int x, int y, int width) {
+        for (int i = 0; i < width; i++) {
+            if (!isFree(x + i, y)) return false;
+        }
+        return true;
+    }
+
+    private int addRegion(int x, int y, int width, int height) {
+        int region;
+        if (freeRegions.size > 0) {
+            region = freeRegions.pop();
+            rectX.set(region, x);
+            rectY.set(region, y);
+            rectW.set(region, width);
+            rectH.set(region, height);
+            neighbours.get(region).clear();
+        } else {
+            region = rectX.size;
+            rectX.add(x);
+            rectY.add(y);
+            rectW.add(width);
+            rectH.add(height);
+            neighbours.add(new IntArray(4));
+        }
+        for (int cy = y; cy < y + height; cy++) {
+            for (int cx = x; cx < x + width; cx++) {
+                cellRegion[grid.index(cx, cy)] = region;
+            }
+        }
+        regionCount++;
+        return region;
+    }
+
+    private void removeRegion(int region) {
+        int x = rectX.get(region), y = rectY.get(region);
+        for (int cy = y; cy < y + rectH.get(region); cy++) {
+            for (int cx = x; cx < x + rectW.get(region); cx++) {
+                cellRegion[grid.index(cx, cy)] = -1;
+            }
+        }
+        IntArray links = neighbours.get(region);
+        for (int i = 0; i < links.size; i++) {
+            neighbours.get(links.get(i)).removeValue(region);
+        }
+        links.clear();
+        rectW.set(region, 0);
+        rectH.set(region, 0);
+        freeRegions.add(region);
+        regionCount--;
+    }
+
+    private void collectRegion(int cell, IntArray regions) {
+        int region = cellRegion[cell];
+        if (region >= 0 && !regions.contains(region)) {
+            regions.add(region);
+        }
+    }
+
+    /** Link each new region to every region across its edges, in both directions. */
+    private void linkRegions(IntArray created) {
+        for (int i = 0; i < created.size; i++) {
+            int region = created.get(i);
+            int x = rectX.get(region), y = rectY.get(region);
+            int w = rectW.get(region), h = rectH.get(region);
+            for (int cx = x; cx < x + w; cx++) {
+                link(region, cx, y - 1);
+                link(region, cx, y + h);
+            }
+            for (int cy = y; cy < y + h; cy++) {
+                link(region, x - 1, cy);
+                link(region, x + w, cy);
+            }
+        }
+    }
+
+    private void link(int region, int x, int y) {
+        if (!grid.inBounds(x, y)) return;
+        int other = cellRegion[grid.index(x, y)];
+        if (other < 0 || other == region) return;
+        if (!neighbours.get(region).contains(other)) {
+            neighbours.get(region).add(other);
+            neighbours.get(other).add(region);
+        }
+    }
+
+    private void labelComponents() {
+        Arrays.fill(component, 0, rectX.size, -1);
+        IntArray stack = componentStack;
+        stack.clear();
+        int label = 0;
+        for (int start = 0; start < rectX.size; start++) {
+            if (rectW.get(start) == 0 || component[start] >= 0) continue;
+            component[start] = label;
+            stack.add(start);
+            while (stack.size > 0) {
+                IntArray links = neighbours.get(stack.pop());
+                for (int i = 0; i < links.size; i++) {
+                    int next = links.get(i);
+                    if (component[next] < 0) {
+                        component[next] = label;
+                        stack.add(next);
+                    }
+                }
+            }
+            label++;
+        }
+        componentsDirty = false;
+    }
+
+    private void ensureSearchCapacity() {
+        int needed = rectX.size;
+        if (bestCost.length >= needed) return;
+        bestCost = Arrays.copyOf(bestCost, needed);
+        entryCell = Arrays.copyOf(entryCell, needed);
+        seen = Arrays.copyOf(seen, needed);
+        closed = Arrays.copyOf(closed, needed);
+    }
+}
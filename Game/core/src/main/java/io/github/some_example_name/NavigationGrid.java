@@ -0,0 +1,220 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+/**
+ * NEW
+ *
+ * <code>NavigationGrid</code> is an immutable snapshot of which map tiles the deans
+ * can walk on. Pathfinders search over this grid instead of querying the Tiled map
+ * layers for every cell they visit.
+ *
+ * <p>Cells are addressed either by tile coordinates or by a single index
+ * (<code>y * width + x</code>). Anything outside the grid counts as blocked.</p>
+ */
+public class NavigationGrid {
+    /** Width and height of a tile in world units, matching the maze map. */
+    public static final int TILE_SIZE = 16;
+
+    private final int width;
+    private final int height;
+    private final boolean[] blocked;
+
+    /**
+     * Constructor for <code>NavigationGrid</code> from a blocked flag per cell.
+     * The array is copied so later changes to it do not leak into the snapshot.
+     *
+     * @param width Number of cells horizontally.
+     * @param height Number of cells vertically.
+     * @param blocked Blocked flags indexed by <code>y * width + x</code>.
+     */
+    public NavigationGrid(int width, int height, boolean[] blocked) {
+        if (blocked.length != width * height) {
+            throw new IllegalArgumentException("Expected " + (width * height) + " cells but got " + blocked.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.blocked = blocked.clone();
+    }
+
+    /**
+     * Build a grid from a Tiled map using the same rule as
+     * {@link GameScreen#isCellBlockedForDean(float, float)}: a cell is blocked if any
+     * tile layer marked <code>collidable</code> or <code>door</code> has a tile there.
+     *
+     * @param tiledMap Map to read the tile layers from.
+     * @return Grid sized to the largest tile layer in the map.
+     */
+    public static NavigationGrid fromTiledMap(TiledMap tiledMap) {
+        int width = 0;
+        int height = 0;
+        for (MapLayer layer : tiledMap.getLayers()) {
+            if (layer instanceof TiledMapTileLayer) {
+                width = Math.max(width, ((TiledMapTileLayer) layer).getWidth());
+                height = Math.max(height, ((TiledMapTileLayer) layer).getHeight());
+            }
+        }
+
+        boolean[] blocked = new boolean[width * height];
+        for (MapLayer layer : tiledMap.getLayers()) {
+            if (!(layer instanceof TiledMapTileLayer)) continue;
+            if (!layer.getProperties().containsKey("collidable") && !layer.getProperties().containsKey("door")) continue;
+
+            TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+            for (int y = 0; y < tileLayer.getHeight(); y++) {
+                for (int x = 0; x < tileLayer.getWidth(); x++) {
+                    TiledMapTileLayer.Cell cell = tileLayer.getCell(x, y);
+                    if (cell != null && cell.getTile() != null) {
+                        blocked[y * width + x] = true;
+                    }
+                }
+            }
+        }
+        return new NavigationGrid(width, height, blocked);
+    }
+
+    /**
+     * Return a copy of this grid with a single cell changed, leaving this grid untouched.
+     *
+     * @param x Horizontal cell coordinate.
+     * @param y Vertical cell coordinate.
+     * @param isBlocked New blocked state of the cell.
+     * @return New grid with the change applied.
+     */
+    public NavigationGrid withCell(int x, int y, boolean isBlocked) {
+        boolean[] copy = blocked.clone();
+        copy[index(x, y)] = isBlocked;
+        return new NavigationGrid(width, height, copy);
+    }
+
+    /** @return Number of cells horizontally. */
+    public int getWidth() { return width; }
+
+    /** @return Number of cells vertically. */
+    public int getHeight() { return height; }
+
+    /** @return Total number of cells in the grid. */
+    public int getCellCount() { return width * height; }
+
+    /**
+     * Return whether the given tile coordinates are inside the grid.
+     * @param x Horizontal cell coordinate.
+     * @param y Vertical cell coordinate.
+     * @return True if inside the grid.
+     */
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Return whether a cell blocks movement. Cells outside the grid are blocked.
+     * @param x Horizontal cell coordinate.
+     * @param y Vertical cell coordinate.
+     * @return True if the cell cannot be walked on.
+     */
+    public boolean isBlocked(int x, int y) {
+        return !inBounds(x, y) || blocked[y * width + x];
+    }
+
+    /**
+     * Return whether the cell with the given index blocks movement.
+     * @param index Cell index.
+     * @return True if the cell cannot be walked on.
+     */
+    public boolean isBlocked(int index) {
+        return index < 0 || index >= blocked.length || blocked[index];
+    }
+
+    /**
+     * Return whether a straight line between the centres of two cells stays clear of
+     * blocked cells and is no longer than a range. The line is stepped one cell at a
+     * time with Bresenham's algorithm.
+     *
+     * @param from Cell index looking.
+     * @param to Cell index looked at.
+     * @param range Longest distance that can be seen, in cells.
+     * @return True if <code>to</code> can be seen from <code>from</code>.
+     */
+    public boolean hasLineOfSight(int from, int to, int range) {
+        if (isBlocked(from) || isBlocked(to)) return false;
+        int x = cellX(from), y = cellY(from);
+        int toX = cellX(to), toY = cellY(to);
+        int dx = Math.abs(toX - x), dy = Math.abs(toY - y);
+        if (dx * dx + dy * dy > range * range) return false;
+
+        int stepX = Integer.signum(toX - x);
+        int stepY = Integer.signum(toY - y);
+        int error = dx - dy;
+        while (x != toX || y != toY) {
+            int doubled = 2 * error;
+            if (doubled > -dy) {
+                error -= dy;
+                x += stepX;
+            }
+            if (doubled < dx) {
+                error += dx;
+                y += stepY;
+            }
+            if (blocked[y * width + x]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Convert tile coordinates to a cell index.
+     * @param x Horizontal cell coordinate.
+     * @param y Vertical cell coordinate.
+     * @return Cell index.
+     */
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * @param index Cell index.
+     * @return Horizontal cell coordinate of the index.
+     */
+    public int cellX(int index) {
+        return index % width;
+    }
+
+    /**
+     * @param index Cell index.
+     * @return Vertical cell coordinate of the index.
+     */
+    public int cellY(int index) {
+        return index / width;
+    }
+
+    /**
+     * Return the cell index an entity at the given world position stands on, using
+     * the same centre offset as the collision checks in {@link GameScreen}.
+     *
+     * @param worldX Horizontal world position of the entity.
+     * @param worldY Vertical world position of the entity.
+     * @return Cell index, or -1 if the position is outside the grid.
+     */
+    public int cellAt(float worldX, float worldY) {
+        int x = (int) ((worldX + TILE_SIZE / 2f) / TILE_SIZE);
+        int y = (int) ((worldY + TILE_SIZE / 2f) / TILE_SIZE);
+        return inBounds(x, y) ? index(x, y) : -1;
+    }
+
+    /**
+     * @param index Cell index.
+     * @return World x position that places a 16x16 sprite exactly on the cell.
+     */
+    public float worldX(int index) {
+        return cellX(index) * TILE_SIZE;
+    }
+
+    /**
+     * @param index Cell index.
+     * @return World y position that places a 16x16 sprite exactly on the cell.
+     */
+    public float worldY(int index) {
+        return cellY(index) * TILE_SIZE;
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * NEW
+ *
+ * <code>PathWorker</code> runs path planning jobs on a dedicated background thread so
+ * the render thread never has to search the maze itself.
+ *
+ * <p>Jobs go to the worker and come back through two fixed rings of slots, each with
+ * one thread filling it and the other emptying it, so handing a job over allocates
+ * nothing. The game thread submits a job, carries on with the frame, and picks up
+ * finished jobs with {@link #pollCompleted()} once per tick. A job belongs to the worker
+ * from {@link #submit} until it comes back out of {@link #pollCompleted()}, so the caller
+ * must not touch it in between. Each slot is written and read as a volatile, which makes
+ * everything the worker wrote visible to the game thread once the job is polled.</p>
+ *
+ * <p>At most {@link #CAPACITY} jobs can be out at once. {@link #submit} and
+ * {@link #pollCompleted()} must be called from the same thread.</p>
+ *
+ * <p>The thread is a daemon, so a worker that is never disposed cannot keep the game
+ * running after the window closes.</p>
+ *
+ * @param <T> Type of job, which does its work in {@link Runnable#run()}.
+ */
+public class PathWorker<T extends Runnable> implements Disposable {
+    /** Most jobs that can be submitted and not yet polled back. A power of two. */
+    public static final int CAPACITY = 16;
+
+    private final AtomicReferenceArray<T> submitted = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicReferenceArray<T> completed = new AtomicReferenceArray<>(CAPACITY);
+    // Each index belongs to the one thread that moves it.
+    private int submitNext;
+    private int pollNext;
+    private int inFlight;
+    private int workNext;
+    private int completeNext;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile Throwable failure;
+
+    /**
+     * Constructor for <code>PathWorker</code>, starting its thread straight away.
+     * @param name Name of the worker thread, shown in profilers and stack dumps.
+     */
+    public PathWorker(String name) {
+        thread = new Thread(this::work, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Hand a job to the worker thread.
+     * @param job Job to run; owned by the worker until it is returned by {@link #pollCompleted()}.
+     * @throws IllegalStateException if the worker has been disposed, or already has
+     * {@link #CAPACITY} jobs out.
+     */
+    public void submit(T job) {
+        if (!running) {
+            throw new IllegalStateException("Path worker has been disposed");
+        }
+        if (inFlight == CAPACITY) {
+            throw new IllegalStateException("Path worker already has " + CAPACITY + " jobs out");
+        }
+        inFlight++;
+        submitted.set(submitNext, job);
+        submitNext = (submitNext + 1) & (CAPACITY - 1);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Take the next finished job, if any. Never blocks.
+     * @return A finished job, or null if none are ready.
+     * @throws IllegalStateException if a job threw on the worker thread.
+     */
+    public T pollCompleted() {
+        if (failure != null) {
+            throw new IllegalStateException("Path job failed on the worker thread", failure);
+        }
+        T job = completed.get(pollNext);
+        if (job != null) {
+            completed.set(pollNext, null);
+            pollNext = (pollNext + 1) & (CAPACITY - 1);
+            inFlight--;
+        }
+        return job;
+    }
+
+    /**
+     * Wait for the next finished job. Used when the caller needs a job back on a
+     * particular tick, so results do not depend on how fast the worker thread ran.
+     * @return The next finished job.
+     * @throws IllegalStateException if a job threw on the worker thread, or the worker
+     * stopped while the caller was waiting.
+     */
+    public T awaitCompleted() {
+        while (true) {
+            T job = pollCompleted();
+            if (job != null) {
+                return job;
+            }
+            if (!running) {
+                throw new IllegalStateException("Path worker stopped before the job finished");
+            }
+            // Planning rounds take microseconds, so a short sleep is plenty.
+            LockSupport.parkNanos(this, 20_000L);
+        }
+    }
+
+    /** @return True until the worker has been disposed. */
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        while (running) {
+            T job = submitted.get(workNext);
+            if (job == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            submitted.set(workNext, null);
+            workNext = (workNext + 1) & (CAPACITY - 1);
+            try {
+                job.run();
+            } catch (Throwable t) {
+                failure = t;
+                running = false;
+                return;
+            }
+            // The slot is free: at most CAPACITY jobs are out, and this one left its slot in submitted.
+            completed.set(completeNext, job);
+            completeNext = (completeNext + 1) & (CAPACITY - 1);
+        }
+    }
+
+    /**
+     * Stop the worker thread, waiting for a job in progress to finish. Once this
+     * returns nothing runs on the worker thread any more, so the caller may use the
+     * objects its jobs worked on straight away.
+     */
+    @Override
+    public void dispose() {
+        running = false;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                // Keep waiting; returning early would let the job race the caller.
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>PatrolComponent</code> walks an entity up and down between two heights,
+ * turning back at either end or when something blocks it.
+ */
+public class PatrolComponent implements Component, Pool.Poolable {
+    /** Lowest the entity walks to, in pixels. */
+    public float minY;
+    /** Highest the entity walks to, in pixels. */
+    public float maxY;
+    /** +1 while walking up, -1 while walking down. */
+    public int direction = 1;
+
+    @Override
+    public void reset() {
+        minY = 0;
+        maxY = 0;
+        direction = 1;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * NEW
+ *
+ * <code>PatrolSystem</code> walks every entity with a {@link PatrolComponent} up and
+ * down each tick, turning back at the ends of its patrol or when the next step is
+ * blocked. How far it goes is its {@link MotionComponent#speed} scaled by the patrol
+ * deans' time scale from {@link StatusEffects}.
+ */
+public class PatrolSystem extends IteratingSystem {
+    /** Priority of the system, after {@link ChaseSystem}. */
+    public static final int PRIORITY = ChaseSystem.PRIORITY + 1;
+
+    private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<MotionComponent> motions = ComponentMapper.getFor(MotionComponent.class);
+    private final ComponentMapper<PatrolComponent> patrols = ComponentMapper.getFor(PatrolComponent.class);
+
+    private final GameWorld world;
+
+    /**
+     * Constructor for <code>PatrolSystem</code>.
+     * @param world World the patrols move in, for blocked tiles and status effects.
+     */
+    public PatrolSystem(GameWorld world) {
+        super(Family.all(PositionComponent.class, MotionComponent.class, PatrolComponent.class).get(), PRIORITY);
+        this.world = world;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        patrol(positions.get(entity).position, motions.get(entity), patrols.get(entity), world);
+    }
+
+    /**
+     * Move one patrol by a tick.
+     * @param position Patrol's position, moved in place.
+     * @param motion Patrol's speed.
+     * @param patrol Ends of the patrol and which way it is walking.
+     * @param world World the patrol moves in.
+     */
+    static void patrol(Vector2 position, MotionComponent motion, PatrolComponent patrol, GameWorld world) {
+        float newY = position.y + patrol.direction * step(motion, world);
+
+        // Bounce off the ends.
+        if (newY > patrol.maxY) {
+            newY = patrol.maxY;
+            patrol.direction = -1;
+        } else if (newY < patrol.minY) {
+            newY = patrol.minY;
+            patrol.direction = 1;
+        }
+
+        // Only vertical movement is checked. When blocked, turn back so it doesn't get stuck forever.
+        if (!world.isCellBlocked(position.x, newY)) {
+            position.y = newY;
+        } else {
+            patrol.direction *= -1;
+        }
+    }
+
+    /**
+     * Return how far a patrol moves this tick.
+     * @param motion Patrol's speed.
+     * @param world World whose status effects scale it.
+     * @return Distance to move this tick.
+     */
+    static float step(MotionComponent motion, GameWorld world) {
+        StatusEffects effects = world.getStatusEffects();
+        return effects == null ? motion.speed : motion.speed * effects.getTimeScale(StatusEffects.Group.PATROL_DEANS);
+    }
+}
@@ -1,31 +1,34 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
+import java.nio.ByteBuffer;
+
 /**
  * NEW
  *
  * <code>Patrol_Dean</code> represents a Dean enemy that patrols vertically
  * between two Y axis bounds. The dean reverses direction when reaching
  * its limits or when colliding with a blocked tile.
+ *
+ * <p>The dean is an Ashley entity with a position, a {@link MotionComponent} and a
+ * {@link PatrolComponent}, moved by {@link PatrolSystem} with the other patrols. This
+ * class builds the entity and keeps its sprite.</p>
  */
-public class Patrol_Dean {
+public class Patrol_Dean implements EntityRegistry.Member {
 
+    private final Entity entity = new Entity();
     private final Vector2 position;
+    private final MotionComponent motion = new MotionComponent();
+    private final PatrolComponent patrol = new PatrolComponent();
+    private final Vector2 renderPosition = new Vector2();
+    private final Rectangle bounds = new Rectangle();
     private final Texture texture;
-    private final GameScreen gameScreen;
-
-    private float speed = 3f;
-
-    // limits
-    private final float minY;
-    private final float maxY;
-
-    // +1 = moving up, -1 = moving down
-    private int direction = 1;
+    private final GameWorld world;
 
     /**
      * Create a dean at a fixed X, starting Y, that moves between minY and maxY.
@@ -34,15 +37,43 @@ public class Patrol_Dean {
      * @param startY Initial vertical position
      * @param minY Minimum Y boundary for patrol
      * @param maxY Maximum Y boundary for patrol
-     * @param gameScreen Game screen used for collision checks
+     * @param world World used for collision checks, usually the game screen
+     *
+     */
+    public Patrol_Dean(float startX, float startY, float minY, float maxY, GameWorld world) {
+        this(startX, startY, minY, maxY, world, true);
+    }
+
+    /**
+     * Create a patrol dean that can skip loading its sprite, for running the game
+     * without a GPU.
      *
+     * @param startX Initial horizontal position
+     * @param startY Initial vertical position
+     * @param minY Minimum Y boundary for patrol
+     * @param maxY Maximum Y boundary for patrol
+     * @param world World used for collision checks
+     * @param withTexture False to skip loading the sprite
+     */
+    public Patrol_Dean(float startX, float startY, float minY, float maxY, GameWorld world, boolean withTexture) {
+        PositionComponent positionComponent = new PositionComponent();
+        positionComponent.position.set(startX, startY);
+        this.position = positionComponent.position;
+        motion.previousPosition.set(startX, startY);
+        motion.speed = 3f;
+        patrol.minY = minY;
+        patrol.maxY = maxY;
+        entity.add(positionComponent).add(motion).add(patrol);
+        this.world = world;
+        this.texture = withTexture ? new Texture("Dean-front.png") : null; // reuse same sprite
+    }
+
+    /**
+     * Return the patrol dean's entity, for adding to the engine that runs {@link PatrolSystem}.
+     * @return Entity holding the dean's position, motion and patrol
      */
-    public Patrol_Dean(float startX, float startY, float minY, float maxY, GameScreen gameScreen) {
-        this.position = new Vector2(startX, startY);
-        this.minY = minY;
-        this.maxY = maxY;
-        this.gameScreen = gameScreen;
-        this.texture = new Texture("Dean-front.png"); // reuse same sprite
+    public Entity getEntity() {
+        return entity;
     }
 
     /**
@@ -50,7 +81,7 @@ public class Patrol_Dean {
      * @param newSpeed New speed value
      */
     public void setSpeed(float newSpeed) {
-        this.speed = newSpeed;
+        motion.speed = newSpeed;
     }
 
     /**
@@ -58,32 +89,25 @@ public class Patrol_Dean {
      * @return Current speed value
      */
     public float getSpeed() {
-        return speed;
+        return motion.speed;
     }
 
     /**
-     * Move up/down each frame, bouncing at minY/maxY.
+     * Return how far the patrol dean moves this frame: its speed scaled by the patrol
+     * deans' time scale from {@link StatusEffects}.
+     * @return Distance to move this frame.
+     */
+    public float getStep() {
+        return PatrolSystem.step(motion, world);
+    }
+
+    /**
+     * Move up/down each frame, bouncing at minY/maxY. In a game the patrol dean is
+     * moved by {@link PatrolSystem} instead, which does the same.
      * @param delta Time elapsed since the last frame
      */
     public void update(float delta) {
-        float newY = position.y + (direction * speed);
-
-        // bounce off limits
-        if (newY > maxY) {
-            newY = maxY;
-            direction = -1;
-        } else if (newY < minY) {
-            newY = minY;
-            direction = 1;
-        }
-
-        // collision check (only vertical movement)
-        if (!gameScreen.isCellBlocked(position.x, newY)) {
-            position.y = newY;
-        } else {
-            // if blocked, flip direction so it doesn't get stuck forever
-            direction *= -1;
-        }
+        PatrolSystem.patrol(position, motion, patrol, world);
     }
 
     /**
@@ -94,6 +118,45 @@ public class Patrol_Dean {
         batch.draw(texture, position.x, position.y, 16, 16);
     }
 
+    /**
+     * Render the patrol dean part way between its last two simulation ticks.
+     * @param batch SpriteBatch used to draw the sprite
+     * @param alpha Fraction of a tick since the last one
+     */
+    public void render(SpriteBatch batch, float alpha) {
+        Vector2 drawAt = FixedTimestep.interpolate(motion.previousPosition, position, alpha, FixedTimestep.SNAP_DISTANCE, renderPosition);
+        batch.draw(texture, drawAt.x, drawAt.y, 16, 16);
+    }
+
+    /**
+     * Remember the current position as the start of the next tick's movement.
+     */
+    public void storePreviousPosition() {
+        motion.previousPosition.set(position);
+    }
+
+    /**
+     * Write the patrol dean's position, heading and speed to a snapshot.
+     * @param out Buffer to write to
+     */
+    public void writeState(ByteBuffer out) {
+        out.putFloat(position.x).putFloat(position.y);
+        out.putFloat(motion.previousPosition.x).putFloat(motion.previousPosition.y);
+        out.put((byte) patrol.direction);
+        out.putFloat(motion.speed);
+    }
+
+    /**
+     * Read back state written by {@link #writeState(ByteBuffer)}.
+     * @param in Buffer to read from
+     */
+    public void readState(ByteBuffer in) {
+        position.set(in.getFloat(), in.getFloat());
+        motion.previousPosition.set(in.getFloat(), in.getFloat());
+        patrol.direction = in.get();
+        motion.speed = in.getFloat();
+    }
+
     /**
      * Return the current position of the patrol dean.
      * @return 2D vector representing the dean's position
@@ -102,14 +165,15 @@ public class Patrol_Dean {
 
     /**
      * Return the collision bounds of the patrol dean.
+     * The same rectangle is returned every time, so copy it to keep it.
      * @return Rectangle representing the collision area
      */
-    public Rectangle getBounds() { return new Rectangle(position.x, position.y, 16, 16); }
+    public Rectangle getBounds() { return bounds.set(position.x, position.y, 16, 16); }
 
     /**
      * Dispose of the patrol dean's texture when no longer needed.
      */
     public void dispose() {
-        texture.dispose();
+        if (texture != null) texture.dispose();
     }
 }
@@ -4,12 +4,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 
+import java.nio.ByteBuffer;
+
 /**
  * EXTENDED
  *
  * <code> Player </code> is the main character of the game, handling rendering and direction of the character sprite.
  */
-public class Player
+public class Player implements EntityRegistry.Member
 {
 	/**
      * EXTENDED
@@ -29,7 +31,12 @@ public class Player
 		RIGHT
 	}
 
+    /** Width and height of the player's sprite and collision box, in pixels. */
+	public static final int SIZE = 16;
+
 	private Vector2 position;
+	private final Vector2 previousPosition;
+	private final Vector2 renderPosition = new Vector2();
 	private Texture frontTexture;
 	private Texture backTexture;
 	private Texture sideTexture;
@@ -40,22 +47,44 @@ public class Player
 	public TextureRegion currentFrame;
 
 	/**
-     * UNCHANGED
+     * EXTENDED
 	 * Constructor for <code> Player </code>, with a set of coordinates.
 	 * @param x Horizontal position for player to spawn in.
 	 * @param y Vertical position for player to spawn in.
 	 */
 	public Player(float x, float y)
+	{
+		this(x, y, true);
+	}
+
+	/**
+     * NEW
+     *
+	 * Constructor for <code> Player </code> that can skip loading its sprites, for
+	 * running the game without a GPU. Without textures the frames are empty regions,
+	 * so the player can still turn but draws nothing.
+	 * @param x Horizontal position for player to spawn in.
+	 * @param y Vertical position for player to spawn in.
+	 * @param withTextures False to skip loading the sprites.
+	 */
+	public Player(float x, float y, boolean withTextures)
 	{
 		position = new Vector2(x, y);
+		previousPosition = new Vector2(x, y);
 
-		frontTexture = new Texture("Player-front.png");
-		backTexture = new Texture("Player-back.png");
-		sideTexture= new Texture ("Player-side.png");
+		if (withTextures) {
+			frontTexture = new Texture("Player-front.png");
+			backTexture = new Texture("Player-back.png");
+			sideTexture= new Texture ("Player-side.png");
 
-		frontFrame = new TextureRegion(frontTexture);
-		backFrame = new TextureRegion(backTexture);
-		sideFrame = new TextureRegion(sideTexture);
+			frontFrame = new TextureRegion(frontTexture);
+			backFrame = new TextureRegion(backTexture);
+			sideFrame = new TextureRegion(sideTexture);
+		} else {
+			frontFrame = new TextureRegion();
+			backFrame = new TextureRegion();
+			sideFrame = new TextureRegion();
+		}
 
 		currentFrame = frontFrame;
 	}
@@ -107,6 +136,86 @@ public class Player
 		batch.draw(currentFrame, position.x, position.y);
 	}
 
+	/**
+     * NEW
+     *
+	 * Draw the player part way between its last two simulation ticks, so movement
+	 * looks smooth when the screen refreshes faster than the game ticks.
+	 * @param batch SpriteBatch used by application to render all sprites.
+	 * @param alpha Fraction of a tick since the last one, from {@link FixedTimestep#getAlpha()}.
+	 */
+	public void render(SpriteBatch batch, float alpha)
+	{
+		Vector2 drawAt = getRenderPosition(alpha);
+		batch.draw(currentFrame, drawAt.x, drawAt.y);
+	}
+
+	/**
+     * NEW
+     *
+	 * Remember the current position as the start of the next tick's movement. Called
+	 * once at the start of every simulation tick.
+	 */
+	public void storePreviousPosition()
+	{
+		previousPosition.set(position);
+	}
+
+	/**
+     * NEW
+     *
+	 * Write the player's position and facing to a snapshot.
+	 * @param out Buffer to write to.
+	 */
+	public void writeState(ByteBuffer out)
+	{
+		out.putFloat(position.x).putFloat(position.y);
+		out.putFloat(previousPosition.x).putFloat(previousPosition.y);
+		out.put((byte) getDirection().ordinal());
+	}
+
+	/**
+     * NEW
+     *
+	 * Read back state written by {@link #writeState(ByteBuffer)}.
+	 * @param in Buffer to read from.
+	 */
+	public void readState(ByteBuffer in)
+	{
+		position.set(in.getFloat(), in.getFloat());
+		previousPosition.set(in.getFloat(), in.getFloat());
+		setDirection(Direction.values()[in.get()]);
+	}
+
+	/**
+     * NEW
+     *
+	 * Get the direction the player is facing, from the sprite frame being drawn.
+	 * @return Direction last set with {@link #setDirection(Direction)}.
+	 */
+	public Direction getDirection()
+	{
+		if (currentFrame == backFrame) {
+			return Direction.UP;
+		}
+		if (currentFrame == sideFrame) {
+			return sideFrame.isFlipX() ? Direction.RIGHT : Direction.LEFT;
+		}
+		return Direction.DOWN;
+	}
+
+	/**
+     * NEW
+     *
+	 * Get where the player should be drawn between the last two ticks.
+	 * @param alpha Fraction of a tick since the last one.
+	 * @return Interpolated position; reused, so copy it to keep it.
+	 */
+	public Vector2 getRenderPosition(float alpha)
+	{
+		return FixedTimestep.interpolate(previousPosition, position, alpha, FixedTimestep.SNAP_DISTANCE, renderPosition);
+	}
+
 	/**
      * UNCHANGED
 	 * Get the player's position in world.
@@ -125,8 +234,10 @@ public class Player
 	 */
 	public void dispose()
 	{
-		frontTexture.dispose();
-		backTexture.dispose();
-		sideTexture.dispose();
+		if (frontTexture != null) {
+			frontTexture.dispose();
+			backTexture.dispose();
+			sideTexture.dispose();
+		}
 	}
 }
@@ -0,0 +1,21 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>PositionComponent</code> places an entity in the world, at the bottom left
+ * corner of its sprite.
+ */
+public class PositionComponent implements Component, Pool.Poolable {
+    /** World position, in pixels. */
+    public final Vector2 position = new Vector2();
+
+    @Override
+    public void reset() {
+        position.setZero();
+    }
+}
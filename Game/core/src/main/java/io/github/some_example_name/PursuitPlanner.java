@@ -0,0 +1,439 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+
+/**
+ * NEW
+ *
+ * <code>PursuitPlanner</code> plans the paths of every chasing dean together using a
+ * {@link CooperativePathfinder}, and hands each dean its part of the plan.
+ *
+ * <p>Because the chasers share one reservation table they route around each other in
+ * the one-tile maze corridors, so the game screen never has to push overlapping deans
+ * apart. Plans are refreshed every few ticks, or straight away when the target moves
+ * to a different cell.</p>
+ *
+ * <p>The first chaser has nobody to give way to, so its route comes from a
+ * {@link DStarLitePlanner} that repairs its previous search when the player or the
+ * map changes instead of starting again. The other chasers then plan around it.</p>
+ *
+ * <p>A {@link NavMesh} of the same grid answers whether the player can be reached at
+ * all before any search starts, so a player shut in behind doors costs nothing to
+ * chase. The other chasers also steer by the mesh past the end of their window, which
+ * costs a search over its rectangles rather than over every cell of the map each time
+ * the player changes cell.</p>
+ *
+ * <p>With background planning on, each round of planning runs on a {@link PathWorker}
+ * thread and the game thread only copies finished paths to the deans. Deans keep
+ * following their old path until the new one arrives, and only one round is in flight
+ * at a time. In lockstep the new path always arrives on the following tick, so runs
+ * can be replayed exactly.</p>
+ *
+ * <p>A snapshot keeps the planner's schedule and any round still in flight, and the
+ * deans keep their own paths, so a game read back from one plans on exactly as it
+ * would have.</p>
+ */
+public class PursuitPlanner implements Disposable {
+    /** Number of ticks between plans when the target stays on the same cell. */
+    public static final int DEFAULT_REPLAN_INTERVAL = 8;
+
+    private final NavigationGrid grid;
+    private final CooperativePathfinder pathfinder;
+    private final DStarLitePlanner leadPlanner;
+    private final NavMesh navMesh;
+    private final Array<Dean> chasers = new Array<>();
+    private final PlanRound round = new PlanRound();
+    private final IntArray pendingCellChanges = new IntArray();
+    private PathWorker<PlanRound> worker;
+    private boolean roundInFlight;
+    private boolean lockstep;
+
+    private int replanInterval = DEFAULT_REPLAN_INTERVAL;
+    private int ticksSinceReplan;
+    private int lastTargetCell = -1;
+    private boolean planStale = true;
+    private int chaserGeneration;
+
+    /**
+     * Constructor for <code>PursuitPlanner</code>. Planning starts on the calling
+     * thread; see {@link #setBackgroundPlanning(boolean)}.
+     * @param grid Walkable grid for the deans.
+     * @param window Number of steps each dean plans ahead.
+     */
+    public PursuitPlanner(NavigationGrid grid, int window) {
+        this.grid = grid;
+        this.pathfinder = new CooperativePathfinder(grid, window);
+        this.leadPlanner = new DStarLitePlanner(grid);
+        this.navMesh = new NavMesh(grid);
+        pathfinder.setNavMesh(navMesh);
+    }
+
+    /**
+     * Add a dean to the group of chasers. Deans added first get priority when two
+     * of them want the same cell.
+     * @param dean Dean to plan for.
+     */
+    public void addChaser(Dean dean) {
+        if (!chasers.contains(dean, true)) {
+            chasers.add(dean);
+            chasersChanged();
+        }
+    }
+
+    /**
+     * Remove a dean from the group of chasers and drop its path.
+     * @param dean Dean to stop planning for.
+     */
+    public void removeChaser(Dean dean) {
+        if (chasers.removeValue(dean, true)) {
+            dean.clearPath();
+            chasersChanged();
+        }
+    }
+
+    /** @return Number of deans being planned for. */
+    public int getChaserCount() {
+        return chasers.size;
+    }
+
+    /**
+     * Set how many ticks may pass between plans while the target stays on one cell.
+     * @param ticks Ticks between plans, at least 1.
+     */
+    public void setReplanInterval(int ticks) {
+        this.replanInterval = Math.max(1, ticks);
+    }
+
+    /**
+     * Move planning onto a background worker thread, or back onto the calling thread.
+     * Turning it off waits for a round still running on the worker to finish, then drops
+     * it and plans again on the next update.
+     *
+     * @param enabled True to plan on a worker thread.
+     */
+    public void setBackgroundPlanning(boolean enabled) {
+        if (enabled == isBackgroundPlanning()) return;
+        if (enabled) {
+            worker = new PathWorker<>("pursuit-planner");
+        } else {
+            worker.dispose();
+            worker = null;
+            if (roundInFlight) {
+                // The round may not have run, so keep its map changes for the next one.
+                pendingCellChanges.addAll(round.cellChanges);
+                roundInFlight = false;
+            }
+            planStale = true;
+        }
+    }
+
+    /**
+     * With lockstep on, a round started on the worker is always handed to the deans on
+     * the next update, waiting for it if needed, instead of whenever it happens to
+     * finish. Deans then behave the same on every run, which replays rely on, at the
+     * cost of the game thread occasionally waiting for a slow round. Has no effect
+     * while planning on the calling thread.
+     *
+     * @param lockstep True to deliver background rounds on a fixed tick.
+     */
+    public void setLockstep(boolean lockstep) {
+        this.lockstep = lockstep;
+    }
+
+    /** @return True if background rounds are delivered on a fixed tick. */
+    public boolean isLockstep() {
+        return lockstep;
+    }
+
+    /** @return True if planning runs on a background worker thread. */
+    public boolean isBackgroundPlanning() {
+        return worker != null;
+    }
+
+    /** @return True while a round of planning is running on the worker thread. */
+    public boolean isRoundInFlight() {
+        return roundInFlight;
+    }
+
+    /**
+     * @return The pathfinder used for planning, so callers can change its window.
+     * Only safe to use while no round is in flight.
+     */
+    public CooperativePathfinder getPathfinder() {
+        return pathfinder;
+    }
+
+    /**
+     * @return The incremental planner used for the first chaser, for reading its counters.
+     * Only safe to use while no round is in flight.
+     */
+    public DStarLitePlanner getLeadPlanner() {
+        return leadPlanner;
+    }
+
+    /**
+     * @return The rectangle mesh used to rule out unreachable targets.
+     * Only safe to use while no round is in flight.
+     */
+    public NavMesh getNavMesh() {
+        return navMesh;
+    }
+
+    /**
+     * Change whether a cell is blocked, for example when a door opens or closes. The
+     * change is passed to the planners with the next round, where the lead planner
+     * repairs its search around the cell, and that round is started on the next update.
+     *
+     * @param x Horizontal cell coordinate.
+     * @param y Vertical cell coordinate.
+     * @param blocked New blocked state of the cell.
+     */
+    public void setCellBlocked(int x, int y, boolean blocked) {
+        if (!grid.inBounds(x, y)) return;
+        pendingCellChanges.add(grid.index(x, y) * 2 + (blocked ? 1 : 0));
+        planStale = true;
+    }
+
+    /**
+     * Advance one tick: hand out any paths the worker has finished, then start a new
+     * round of planning if one is due.
+     * @param target World position the deans are chasing.
+     * @return True if new paths were handed to the deans this tick.
+     */
+    public boolean update(Vector2 target) {
+        boolean delivered = false;
+        if (roundInFlight) {
+            PlanRound finished = lockstep ? worker.awaitCompleted() : worker.pollCompleted();
+            if (finished != null) {
+                roundInFlight = false;
+                delivered = deliver(finished);
+            }
+        }
+
+        int targetCell = grid.cellAt(target.x, target.y);
+        ticksSinceReplan++;
+
+        boolean due = planStale || targetCell != lastTargetCell || ticksSinceReplan >= replanInterval;
+        if (!due || roundInFlight || chasers.size == 0 || targetCell < 0) {
+            return delivered;
+        }
+
+        round.prepare(targetCell);
+        lastTargetCell = targetCell;
+        ticksSinceReplan = 0;
+        planStale = false;
+
+        if (worker != null) {
+            roundInFlight = true;
+            worker.submit(round);
+            return delivered;
+        }
+        round.run();
+        return deliver(round);
+    }
+
+    /**
+     * Write the planner's schedule to a snapshot: the cell it last planned for, the
+     * ticks since, and map changes waiting for the next round. A round still running
+     * on the worker is written as what it was asked to plan, so it can be planned
+     * again when the snapshot is read. The paths already handed out are written by
+     * the deans.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putInt(lastTargetCell);
+        out.putInt(ticksSinceReplan);
+        GameSnapshot.putBoolean(out, planStale);
+        writeCells(out, pendingCellChanges);
+        GameSnapshot.putBoolean(out, roundInFlight);
+        if (roundInFlight) {
+            // The worker only reads these, so they are safe to read here too.
+            GameSnapshot.putBoolean(out, round.generation == chaserGeneration);
+            out.putInt(round.targetCell);
+            out.putShort((short) round.agentCount);
+            for (int i = 0; i < round.agentCount; i++) {
+                out.putInt(round.starts[i]);
+            }
+            writeCells(out, round.cellChanges);
+        }
+    }
+
+    /**
+     * Put the planner back to the schedule written by {@link #writeState(ByteBuffer)}.
+     * A round that was in flight is planned again, on the worker if there is one, so
+     * its paths reach the deans on the same tick as they would have. The lead planner's
+     * search only saves work, so it is started again from nothing.
+     * @param in Buffer to read from.
+     */
+    public void readState(ByteBuffer in) {
+        if (roundInFlight) {
+            // Let the worker finish with the round before it is filled in again.
+            worker.awaitCompleted();
+            roundInFlight = false;
+        }
+        lastTargetCell = in.getInt();
+        ticksSinceReplan = in.getInt();
+        planStale = GameSnapshot.getBoolean(in);
+        readCells(in, pendingCellChanges);
+        leadPlanner.reset();
+        if (!GameSnapshot.getBoolean(in)) {
+            return;
+        }
+        // A round planned for other chasers is still read, so that it is dropped on delivery.
+        round.generation = GameSnapshot.getBoolean(in) ? chaserGeneration : chaserGeneration - 1;
+        round.targetCell = in.getInt();
+        int agentCount = in.getShort();
+        round.ensureCapacity(agentCount);
+        round.agentCount = agentCount;
+        for (int i = 0; i < agentCount; i++) {
+            round.starts[i] = in.getInt();
+        }
+        readCells(in, round.cellChanges);
+        if (worker != null) {
+            roundInFlight = true;
+            worker.submit(round);
+        } else {
+            // Without a worker the paths would have been handed out at the next update, before anything moved.
+            round.run();
+            deliver(round);
+        }
+    }
+
+    private static void writeCells(ByteBuffer out, IntArray cells) {
+        out.putShort((short) cells.size);
+        for (int i = 0; i < cells.size; i++) {
+            out.putInt(cells.get(i));
+        }
+    }
+
+    private static void readCells(ByteBuffer in, IntArray cells) {
+        cells.clear();
+        int count = in.getShort();
+        for (int i = 0; i < count; i++) {
+            cells.add(in.getInt());
+        }
+    }
+
+    /** Stop the background worker, if there is one. */
+    @Override
+    public void dispose() {
+        setBackgroundPlanning(false);
+    }
+
+    private void chasersChanged() {
+        chaserGeneration++;
+        planStale = true;
+    }
+
+    /**
+     * Copy a finished round's paths to the deans. Rounds planned for a different set
+     * of chasers are dropped, since the paths would go to the wrong deans.
+     */
+    private boolean deliver(PlanRound finished) {
+        if (finished.generation != chaserGeneration) {
+            planStale = true;
+            return false;
+        }
+        for (int i = 0; i < finished.agentCount; i++) {
+            if (finished.paths[i].size > 1) {
+                chasers.get(i).setPath(finished.paths[i], grid);
+            } else {
+                // No route (or already there), so let the dean head straight for the target.
+                chasers.get(i).clearPath();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One round of planning for every chaser. The game thread fills it in with
+     * {@link #prepare(int)}, then it runs either inline or on the worker thread. All
+     * search work happens in {@link #run()}, which only touches the planners and this
+     * round's own arrays.
+     */
+    private class PlanRound implements Runnable {
+        private IntArray[] paths = new IntArray[0];
+        private int[] starts = new int[0];
+        private final IntArray cellChanges = new IntArray();
+        private int agentCount;
+        private int targetCell;
+        private int generation;
+
+        private void prepare(int targetCell) {
+            ensureCapacity(chasers.size);
+            agentCount = chasers.size;
+            this.targetCell = targetCell;
+            generation = chaserGeneration;
+            for (int i = 0; i < agentCount; i++) {
+                Vector2 position = chasers.get(i).getPosition();
+                starts[i] = grid.cellAt(position.x, position.y);
+            }
+            cellChanges.clear();
+            cellChanges.addAll(pendingCellChanges);
+            pendingCellChanges.clear();
+        }
+
+        @Override
+        public void run() {
+            applyCellChanges();
+            pathfinder.beginRound();
+            for (int i = 0; i < agentCount; i++) {
+                if (!navMesh.isConnected(starts[i], targetCell)) {
+                    holdStart(i);
+                } else if (i == 0) {
+                    planLead();
+                } else {
+                    pathfinder.plan(i, starts[i], targetCell, paths[i]);
+                }
+            }
+        }
+
+        /** Keep a chaser that cannot reach the target on its cell, so others route around it. */
+        private void holdStart(int agent) {
+            paths[agent].clear();
+            if (starts[agent] >= 0) {
+                paths[agent].add(starts[agent]);
+                pathfinder.reserve(agent, paths[agent]);
+            }
+        }
+
+        private void applyCellChanges() {
+            if (cellChanges.size == 0) return;
+            for (int i = 0; i < cellChanges.size; i++) {
+                int cell = cellChanges.get(i) / 2;
+                boolean blocked = cellChanges.get(i) % 2 == 1;
+                leadPlanner.setCellBlocked(grid.cellX(cell), grid.cellY(cell), blocked);
+                navMesh.setCellBlocked(grid.cellX(cell), grid.cellY(cell), blocked);
+            }
+            if (leadPlanner.getGrid() != pathfinder.getGrid()) {
+                pathfinder.setGrid(leadPlanner.getGrid());
+            }
+        }
+
+        private void planLead() {
+            IntArray path = paths[0];
+            leadPlanner.setAgent(starts[0]);
+            leadPlanner.setTarget(targetCell);
+            leadPlanner.replan();
+            // An unreachable target leaves just the start cell, which reserves it for the window.
+            leadPlanner.extractPath(path, pathfinder.getWindow());
+            pathfinder.reserve(0, path);
+        }
+
+        private void ensureCapacity(int count) {
+            if (paths.length >= count) return;
+            IntArray[] grown = new IntArray[count];
+            System.arraycopy(paths, 0, grown, 0, paths.length);
+            for (int i = paths.length; i < count; i++) {
+                grown[i] = new IntArray();
+            }
+            paths = grown;
+            starts = new int[count];
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.g2d.*;
 
+import java.nio.ByteBuffer;
+
 
 /**
  * NEW
@@ -17,7 +19,10 @@ import com.badlogic.gdx.graphics.g2d.*;
  * A correct answer rewards the player by freezing all deans, while an incorrect answer
  * spawns an additional dean as a penalty.
  */
-public class Questionnaire {
+public class Questionnaire implements TimerWheel.Listener {
+    /** How long the result of the quiz shows for, in seconds. */
+    public static final float RESULT_SECONDS = 3f;
+
     private Rectangle quizArea;
     private boolean discovered = false;
     private boolean answered = false;
@@ -25,7 +30,13 @@ public class Questionnaire {
     private boolean playerFrozen = false;
     private boolean questionSuccess = false;
     private String resultText = "";
-    private float resultTimer = 0f;
+    private boolean showResult = false;
+    private TimerWheel timers;
+    private int resultTimer = TimerWheel.NO_TIMER;
+    private TriggerVolumes volumes;
+    private int quizVolume = -1;
+    private final Rectangle playerRect = new Rectangle();
+    private InputActions actions = InputActions.GDX;
 
     /**
      * Constructor for <code>Questionnaire</code>, loading the questionnaire area rectangle
@@ -44,55 +55,80 @@ public class Questionnaire {
     }
 
     /**
-     * Update the quiz event each frame. Handles:
+     * Add the quiz area to an index of trigger areas. From then on
+     * {@link #update(Player, GameSession)} asks the index whether the player is in the
+     * area, which must be updated with the player's position first, and the area is put
+     * to sleep once the quiz is answered.
+     * @param volumes Index of trigger areas around the player
+     */
+    public void attach(TriggerVolumes volumes) {
+        if (quizArea == null) {
+            return;
+        }
+        this.volumes = volumes;
+        quizVolume = volumes.add(quizArea, false, volume -> {});
+    }
+
+    /**
+     * Hide the result of the quiz with a timer on a wheel once it has shown for
+     * {@link #RESULT_SECONDS}. Without one, the result stays on screen.
+     * @param timers Clock the result is hidden on, or null.
+     */
+    public void setTimers(TimerWheel timers) {
+        this.timers = timers;
+    }
+
+    /**
+     * Read the keys from the screen's actions, so the quiz only starts when it is the
+     * nearest thing in reach and takes <code>A-D</code> as answers while it is showing.
+     * @param actions Actions of the current frame.
+     */
+    public void setActions(InputActions actions) {
+        this.actions = actions;
+    }
+
+    /**
+     * Update the quiz event each tick. Handles:
      * <ul>
      * <li>Detecting when the player enters the quiz area</li>
      * <li>Starting the quiz when <code>E</code> is pressed</li>
      * <li>Processing answer keys <code>A-D</code></li>
-     * <li>Managing the post-answer result message timer</li>
      * </ul>
      * @param player The player character used for collision detection
-     * @param gameScreen The game screen used to trigger rewards/penalties --> freeze or spawn deans
+     * @param session The game used to trigger rewards/penalties --> freeze or spawn deans
      */
-    public void update(Player player, GameScreen gameScreen) {
+    public void update(Player player, GameSession session) {
         if (quizArea == null || answered) return;
 
-        Rectangle playerRect = new Rectangle(
-            player.getPosition().x,
-            player.getPosition().y,
-            16,
-            16
-        );
-
-        if (playerRect.overlaps(quizArea)) {
+        if (isPlayerInArea(player)) {
             discovered = true;
 
             // Press E to begin the questionnaire, freeze the player while answering
-            if (Gdx.input.isKeyJustPressed(Input.Keys.E)) {
+            if (!showQuiz && actions.interact(this, distanceTo(player))) {
                 showQuiz = true;
                 playerFrozen = true;
             }
 
             if (showQuiz) {
                 // Incorrect options spawn an extra dean
-                if (Gdx.input.isKeyJustPressed(Input.Keys.A)) {
-                    gameScreen.spawnSecondDean(); // FAIL
+                if (actions.isPressed(InputActions.Action.ANSWER_A)) {
+                    session.spawnSecondDean(); // FAIL
                     questionSuccess = false;
-                    endQuestionnaire();
-                } if (Gdx.input.isKeyJustPressed(Input.Keys.B)) {
-                    gameScreen.spawnSecondDean(); // FAIL
+                    endQuestionnaire(session);
+                } if (actions.isPressed(InputActions.Action.ANSWER_B)) {
+                    session.spawnSecondDean(); // FAIL
                     questionSuccess = false;
-                    endQuestionnaire();
+                    endQuestionnaire(session);
                 }
-                if (Gdx.input.isKeyJustPressed(Input.Keys.C)) { // Correct option freezes all deans
-                    gameScreen.freezeAllDeans();  // PASS
+                if (actions.isPressed(InputActions.Action.ANSWER_C)) { // Correct option freezes all deans
+                    session.freezeAllDeans();  // PASS
                     questionSuccess = true;
-                    endQuestionnaire();
+                    endQuestionnaire(session);
                 }
-                else if (Gdx.input.isKeyJustPressed(Input.Keys.D)) {
-                    gameScreen.spawnSecondDean(); // FAIL
+                else if (actions.isPressed(InputActions.Action.ANSWER_D)) {
+                    session.spawnSecondDean(); // FAIL
                     questionSuccess = false;
-                    endQuestionnaire();
+                    endQuestionnaire(session);
                 }
             }
         }
@@ -101,23 +137,73 @@ public class Questionnaire {
         if (answered) {
             playerFrozen = false;
         }
+    }
+
+    /**
+     * Hide the result of the quiz once it has shown for long enough.
+     * @param timer Timer that expired.
+     * @param subject Unused.
+     */
+    @Override
+    public void expired(int timer, Object subject) {
+        if (timer == resultTimer) {
+            resultTimer = TimerWheel.NO_TIMER;
+            showResult = false;
+        }
+    }
 
-        // decrement the result timer if its active and more than 0
-        if (resultTimer > 0) {
-            resultTimer -= Gdx.graphics.getDeltaTime();
+    /**
+     * Return whether the player is standing in the quiz area.
+     * @param player The player character used for collision detection
+     * @return True if the player overlaps the quiz area
+     */
+    private boolean isPlayerInArea(Player player) {
+        if (volumes != null) {
+            return volumes.isInside(quizVolume);
         }
+        playerRect.set(player.getPosition().x, player.getPosition().y, Player.SIZE, Player.SIZE);
+        return playerRect.overlaps(quizArea);
+    }
+
+    // From the middle of the player to the middle of the quiz area.
+    private float distanceTo(Player player) {
+        float dx = player.getPosition().x + Player.SIZE / 2f - (quizArea.x + quizArea.width / 2f);
+        float dy = player.getPosition().y + Player.SIZE / 2f - (quizArea.y + quizArea.height / 2f);
+        return (float) Math.sqrt(dx * dx + dy * dy);
     }
 
     /**
      * End the questionnaire and save the result. The questionnaire is answered
      * the player is unfrozen, and sets a short result message.
+     * @param session The game whose event bus is told the quiz was answered
      */
-    private void endQuestionnaire() {
+    private void endQuestionnaire(GameSession session) {
         showQuiz = false;
         answered = true;
         playerFrozen = false;
-        resultText = questionSuccess ? "CORRECT, freezing Deans Permanently" : "INCORRECT, more Deans";
-        resultTimer = 3f;
+        resultText = resultFor(questionSuccess);
+        showResult(RESULT_SECONDS);
+        GameEvents gameEvents = session.getGameEvents();
+        if (gameEvents != null) {
+            GameEvent event = gameEvents.obtain(GameEvent.Type.QUIZ_ANSWERED);
+            event.success = questionSuccess;
+            gameEvents.post(event);
+        }
+        if (volumes != null) {
+            volumes.sleep(quizVolume);
+        }
+    }
+
+    private void showResult(float seconds) {
+        showResult = seconds > 0f;
+        if (timers != null) {
+            timers.cancel(resultTimer);
+            resultTimer = showResult ? timers.schedule(seconds, this, null) : TimerWheel.NO_TIMER;
+        }
+    }
+
+    private static String resultFor(boolean success) {
+        return success ? "CORRECT, freezing Deans Permanently" : "INCORRECT, more Deans";
     }
 
     /**
@@ -150,11 +236,41 @@ public class Questionnaire {
             font.draw(batch, "[D] None of these", quizArea.x , quizArea.y - 80);
         }
 
-        if (resultTimer > 0) {
+        if (showResult) {
             font.draw(batch, resultText, quizArea.x , quizArea.y + 160);
         }
     }
 
+    /**
+     * Write how far through the quiz the player is, and the result message, to a snapshot.
+     * @param out Buffer to write to
+     */
+    public void writeState(ByteBuffer out) {
+        GameSnapshot.putBoolean(out, discovered);
+        GameSnapshot.putBoolean(out, answered);
+        GameSnapshot.putBoolean(out, showQuiz);
+        GameSnapshot.putBoolean(out, playerFrozen);
+        GameSnapshot.putBoolean(out, questionSuccess);
+        float resultLeft = timers != null ? timers.getRemaining(resultTimer) : RESULT_SECONDS;
+        out.putFloat(showResult ? resultLeft : 0f);
+    }
+
+    /**
+     * Read back state written by {@link #writeState(ByteBuffer)}.
+     * @param in Buffer to read from
+     */
+    public void readState(ByteBuffer in) {
+        discovered = GameSnapshot.getBoolean(in);
+        answered = GameSnapshot.getBoolean(in);
+        showQuiz = GameSnapshot.getBoolean(in);
+        playerFrozen = GameSnapshot.getBoolean(in);
+        questionSuccess = GameSnapshot.getBoolean(in);
+        showResult(in.getFloat());
+        if (answered) {
+            resultText = resultFor(questionSuccess);
+        }
+    }
+
     /**
      * Return whether the questionnaire has been answered.
      * @return True if the questionnaire is complete, false otherwise
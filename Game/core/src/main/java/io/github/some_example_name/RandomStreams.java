@@ -0,0 +1,148 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+
+import java.nio.ByteBuffer;
+
+/**
+ * NEW
+ *
+ * <code>RandomStreams</code> is where everything random in one world gets its numbers
+ * from. Each system asks for a stream by name, such as {@link #TELEPORT} or
+ * {@link #DIALOG}, and gets a generator of its own seeded from the world's seed and
+ * that name, so the numbers one system draws never change what another gets. Talking
+ * to a friend an extra time, for instance, leaves where the next teleport lands alone.
+ *
+ * <p>Nothing is shared between worlds, so any number of them can run on different
+ * threads without contending for a generator or changing each other's games. A run is
+ * played again from its seed alone, which every {@link InputRecording} keeps, and
+ * every stream's state goes into snapshots with {@link #writeState(ByteBuffer)}.</p>
+ *
+ * <p>Streams are {@link RandomXS128} generators. Seeds for streams, and for whole new
+ * worlds with {@link #split(long)}, are worked out with the SplitMix64 finaliser, so
+ * neighbouring seeds and similar names still give unrelated numbers.</p>
+ */
+public class RandomStreams {
+    /** Stream for anything random in the world with no stream of its own. */
+    public static final String WORLD = "world";
+    /** Stream that picks where the lab equipment teleports the player. */
+    public static final String TELEPORT = "teleport";
+    /** Stream that picks what the friend says. */
+    public static final String DIALOG = "dialog";
+
+    private final long seed;
+    private final Array<String> names = new Array<>(String.class);
+    private final Array<RandomXS128> streams = new Array<>(RandomXS128.class);
+
+    /**
+     * Constructor for <code>RandomStreams</code>.
+     * @param seed Seed of the world, which every stream's seed is worked out from.
+     */
+    public RandomStreams(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Spread a number out so that close inputs give unrelated outputs.
+     * @param z Any number.
+     * @return The SplitMix64 finaliser of it.
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Work out the seed of one of a run of worlds, spreading neighbouring numbers far apart.
+     * @param seed Seed of the whole run, such as a batch.
+     * @param index Number of the world in the run.
+     * @return Seed of the world.
+     */
+    public static long seedFor(long seed, long index) {
+        return mix(seed + (index + 1) * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Get the stream with a name, starting it the first time it is asked for. Systems
+     * should ask once, when they are made, so that every stream exists before a
+     * snapshot is read into the world.
+     * @param name Name of the stream, such as {@link #TELEPORT}.
+     * @return The stream's generator, the same one each time.
+     */
+    public RandomXS128 stream(String name) {
+        int hash = name.hashCode();
+        for (int i = 0; i < names.size; i++) {
+            if (names.get(i).hashCode() == hash) {
+                if (!names.get(i).equals(name)) {
+                    throw new IllegalArgumentException("Stream names " + name + " and " + names.get(i) + " clash");
+                }
+                return streams.get(i);
+            }
+        }
+        RandomXS128 stream = new RandomXS128(mix(seed ^ mix(hash)));
+        names.add(name);
+        streams.add(stream);
+        return stream;
+    }
+
+    /**
+     * Make the streams of another world, such as a session started from this one,
+     * whose numbers are unrelated to this world's.
+     * @param index Number of the new world among those split off.
+     * @return Streams of the new world.
+     */
+    public RandomStreams split(long index) {
+        return new RandomStreams(seedFor(seed, index));
+    }
+
+    /** @return Seed every stream's seed is worked out from. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** @return Number of streams started so far. */
+    public int getStreamCount() {
+        return streams.size;
+    }
+
+    /**
+     * Write the state of every stream to a snapshot, each under the hash of its name.
+     * Allocates nothing.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putShort((short) streams.size);
+        for (int i = 0; i < streams.size; i++) {
+            RandomXS128 stream = streams.get(i);
+            out.putInt(names.get(i).hashCode());
+            out.putLong(stream.getState(0)).putLong(stream.getState(1));
+        }
+    }
+
+    /**
+     * Read back state written by {@link #writeState(ByteBuffer)}. Streams this world has
+     * that the snapshot does not keep their state.
+     * @param in Buffer to read from.
+     * @throws IllegalStateException If the snapshot has a stream this world has not started.
+     */
+    public void readState(ByteBuffer in) {
+        int count = in.getShort();
+        for (int i = 0; i < count; i++) {
+            int hash = in.getInt();
+            long state0 = in.getLong();
+            long state1 = in.getLong();
+            RandomXS128 stream = null;
+            for (int j = 0; j < names.size && stream == null; j++) {
+                if (names.get(j).hashCode() == hash) {
+                    stream = streams.get(j);
+                }
+            }
+            if (stream == null) {
+                throw new IllegalStateException("The snapshot has a random stream this world has not started");
+            }
+            stream.setState(state0, state1);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>ReservationTable</code> records which agent will occupy a grid cell at a given
+ * time step, so cooperative pathfinding can plan around the other chasers.
+ *
+ * <p>Entries are stored in an open-addressing hash table keyed by a single
+ * <code>long</code> built from the time step and the cell index, with the owning agent
+ * in a parallel <code>int</code> array. No objects are created per reservation and
+ * {@link #clear()} keeps the allocated capacity for the next planning round.</p>
+ */
+public class ReservationTable {
+    /** Returned by {@link #getOwner(int, int)} when nobody has reserved the cell. */
+    public static final int NO_AGENT = -1;
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] owners;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructor for <code>ReservationTable</code> with room for a small number of
+     * reservations before it needs to grow.
+     */
+    public ReservationTable() {
+        this(256);
+    }
+
+    /**
+     * Constructor for <code>ReservationTable</code> with a starting capacity.
+     * @param expectedReservations Number of reservations expected per planning round.
+     */
+    public ReservationTable(int expectedReservations) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedReservations * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Reserve a cell at a time step for an agent. A later reservation of the same
+     * cell and time overwrites the owner.
+     *
+     * @param cell Cell index in the navigation grid.
+     * @param time Time step, counted from the start of the planning round.
+     * @param agent Id of the agent making the reservation.
+     */
+    public void reserve(int cell, int time, int agent) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        long key = key(cell, time);
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        owners[slot] = agent;
+    }
+
+    /**
+     * Return the agent holding a cell at a time step.
+     * @param cell Cell index in the navigation grid.
+     * @param time Time step, counted from the start of the planning round.
+     * @return Owning agent id, or {@link #NO_AGENT}.
+     */
+    public int getOwner(int cell, int time) {
+        int slot = slotOf(key(cell, time));
+        return keys[slot] == EMPTY ? NO_AGENT : owners[slot];
+    }
+
+    /**
+     * Return whether a cell is held by any agent other than the one asking.
+     * @param cell Cell index in the navigation grid.
+     * @param time Time step, counted from the start of the planning round.
+     * @param agent Id of the agent asking.
+     * @return True if a different agent has reserved the cell at that time.
+     */
+    public boolean isReservedByOther(int cell, int time, int agent) {
+        int owner = getOwner(cell, time);
+        return owner != NO_AGENT && owner != agent;
+    }
+
+    /**
+     * Return whether moving between two cells from <code>time</code> to
+     * <code>time + 1</code> would swap places with another agent doing the opposite
+     * move, which a cell-only check cannot see.
+     *
+     * @param from Cell the agent leaves.
+     * @param to Cell the agent enters.
+     * @param time Time step the move starts at.
+     * @param agent Id of the moving agent.
+     * @return True if the move would pass through another agent head on.
+     */
+    public boolean isSwapConflict(int from, int to, int time, int agent) {
+        int owner = getOwner(to, time);
+        return owner != NO_AGENT && owner != agent && getOwner(from, time + 1) == owner;
+    }
+
+    /** @return Number of reservations currently held. */
+    public int size() {
+        return size;
+    }
+
+    /** Remove every reservation, keeping the allocated capacity. */
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private static long key(int cell, int time) {
+        return ((long) time << 32) | (cell & 0xFFFFFFFFL);
+    }
+
+    private int slotOf(long key) {
+        // Fibonacci hashing spreads the neighbouring cells of one time step across the table.
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        owners = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldOwners = owners;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                owners[slot] = oldOwners[i];
+                size++;
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package io.github.some_example_name;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>RewindBuffer</code> keeps the last few seconds of a game as a ring of
+ * {@link GameSnapshot}s, so a catch or an event going wrong can be scrubbed back and
+ * forth through instead of replayed from the start.
+ *
+ * <p>Only the newest snapshot is kept whole. Every older one is stored as the bytes
+ * that changed between it and the next: the two are XORed, and runs of unchanged bytes
+ * are skipped. XOR undoes itself, so the same delta steps back one frame and forward
+ * again. Deltas go into one preallocated byte ring, and the oldest are dropped when
+ * either the frame or the byte limit is reached, so memory is fixed when the buffer is
+ * made and recording allocates nothing.</p>
+ *
+ * <p>Recording after scrubbing back drops the frames after the one scrubbed to, and
+ * play carries on from there.</p>
+ */
+public class RewindBuffer {
+    // Every snapshot is kept zeroed past its length, so snapshots of different sizes
+    // can be XORed over the longer of the two.
+    private byte[] newest = new byte[GameSnapshot.CAPACITY];
+    private byte[] incoming = new byte[GameSnapshot.CAPACITY];
+    private byte[] cursor = new byte[GameSnapshot.CAPACITY];
+    private int newestLength;
+    private int incomingLength;
+    private int cursorLength;
+    private boolean hasNewest;
+    // Worst case for one delta: alternating changed and unchanged bytes.
+    private final byte[] encoded = new byte[GameSnapshot.CAPACITY * 2 + 8];
+
+    private final byte[] data;
+    // Delta i turns frame i into frame i - 1, and back again.
+    private final int[] start;
+    private final int[] length;
+    private final int[] olderLength;
+    private final int[] newerLength;
+    private int oldest;
+    private int count;
+    private int writePosition;
+    private int bytesUsed;
+    // Frames stepped back from the newest.
+    private int position;
+
+    /**
+     * Make a rewind buffer, allocating all its memory up front.
+     * @param frames Most frames to keep, at least 1.
+     * @param bytes Most bytes of deltas to keep.
+     * @throws IllegalArgumentException If fewer than 1 frame is asked for.
+     */
+    public RewindBuffer(int frames, int bytes) {
+        if (frames < 1) {
+            throw new IllegalArgumentException("A rewind buffer needs at least 1 frame, not " + frames);
+        }
+        data = new byte[bytes];
+        start = new int[frames - 1];
+        length = new int[frames - 1];
+        olderLength = new int[frames - 1];
+        newerLength = new int[frames - 1];
+    }
+
+    /**
+     * Add a finished snapshot as the newest frame. If the buffer has been scrubbed back,
+     * the frames after the one scrubbed to are dropped first.
+     * @param snapshot Snapshot to add; only read.
+     */
+    public void record(GameSnapshot snapshot) {
+        if (position > 0) {
+            dropNewest(position);
+            byte[] swap = newest;
+            newest = cursor;
+            cursor = swap;
+            newestLength = cursorLength;
+            position = 0;
+        }
+        ByteBuffer frame = snapshot.getData();
+        int size = frame.limit();
+        frame.get(0, incoming, 0, size);
+        if (incomingLength > size) {
+            Arrays.fill(incoming, size, incomingLength, (byte) 0);
+        }
+        incomingLength = size;
+
+        if (hasNewest) {
+            storeDelta(encodeDelta(), newestLength, size);
+        }
+        byte[] swap = newest;
+        newest = incoming;
+        incoming = swap;
+        incomingLength = newestLength;
+        newestLength = size;
+        hasNewest = true;
+    }
+
+    /**
+     * Step one frame further back.
+     * @return False if already at the oldest frame kept.
+     */
+    public boolean stepBack() {
+        if (position == count) {
+            return false;
+        }
+        if (position == 0) {
+            System.arraycopy(newest, 0, cursor, 0, cursor.length);
+            cursorLength = newestLength;
+        }
+        int delta = deltaFromNewest(position);
+        applyDelta(delta);
+        cursorLength = olderLength[delta];
+        position++;
+        return true;
+    }
+
+    /**
+     * Step one frame forward again.
+     * @return False if already at the newest frame.
+     */
+    public boolean stepForward() {
+        if (position == 0) {
+            return false;
+        }
+        position--;
+        int delta = deltaFromNewest(position);
+        applyDelta(delta);
+        cursorLength = newerLength[delta];
+        return true;
+    }
+
+    /**
+     * Copy the frame scrubbed to into a snapshot, ready for {@link GameSnapshot#startReading()}.
+     * @param snapshot Snapshot to overwrite.
+     * @throws IllegalStateException If nothing has been recorded.
+     */
+    public void read(GameSnapshot snapshot) {
+        if (!hasNewest) {
+            throw new IllegalStateException("Nothing has been recorded");
+        }
+        ByteBuffer frame = snapshot.getData();
+        frame.clear();
+        if (position == 0) {
+            frame.put(newest, 0, newestLength);
+        } else {
+            frame.put(cursor, 0, cursorLength);
+        }
+        frame.flip();
+    }
+
+    /** Forget every frame. */
+    public void clear() {
+        Arrays.fill(newest, 0, newestLength, (byte) 0);
+        Arrays.fill(cursor, 0, cursorLength, (byte) 0);
+        newestLength = 0;
+        cursorLength = 0;
+        hasNewest = false;
+        dropNewest(count);
+        position = 0;
+    }
+
+    /** @return Number of frames that can be scrubbed through, including the newest. */
+    public int getFrameCount() {
+        return hasNewest ? count + 1 : 0;
+    }
+
+    /** @return Number of frames scrubbed back from the newest. */
+    public int getPosition() {
+        return position;
+    }
+
+    /** @return Bytes of deltas held, not counting the newest frame. */
+    public int getBytesUsed() {
+        return bytesUsed;
+    }
+
+    /** @return Most bytes of deltas that can be held. */
+    public int getCapacityBytes() {
+        return data.length;
+    }
+
+    // The changes from the newest frame to the incoming one, as pairs of an unchanged
+    // run and a changed run, each length written as a varint and followed by the
+    // changed bytes XORed.
+    private int encodeDelta() {
+        int end = Math.max(newestLength, incomingLength);
+        int out = 0;
+        int i = 0;
+        while (i < end) {
+            int skipped = i;
+            while (i < end && newest[i] == incoming[i]) {
+                i++;
+            }
+            if (i == end) {
+                break;
+            }
+            int changed = i;
+            // A single unchanged byte is cheaper to copy than to start a new pair for.
+            while (i < end && (newest[i] != incoming[i] || (i + 1 < end && newest[i + 1] != incoming[i + 1]))) {
+                i++;
+            }
+            out = putVarint(out, changed - skipped);
+            out = putVarint(out, i - changed);
+            for (int j = changed; j < i; j++) {
+                encoded[out++] = (byte) (newest[j] ^ incoming[j]);
+            }
+        }
+        return out;
+    }
+
+    private int putVarint(int out, int value) {
+        while (value >= 0x80) {
+            encoded[out++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        encoded[out++] = (byte) value;
+        return out;
+    }
+
+    private void applyDelta(int delta) {
+        int read = start[delta];
+        int end = read + length[delta];
+        int at = 0;
+        while (read < end) {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[read++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            at += value;
+            int changed = 0;
+            shift = 0;
+            do {
+                b = data[read++];
+                changed |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            for (int j = 0; j < changed; j++) {
+                cursor[at++] ^= data[read++];
+            }
+        }
+    }
+
+    private void storeDelta(int size, int older, int newer) {
+        if (start.length == 0 || size > data.length) {
+            dropNewest(count); // Cannot be kept, so nothing before it can be reached either.
+            return;
+        }
+        if (count == start.length) {
+            dropOldest();
+        }
+        int at = writePosition;
+        if (at + size > data.length) {
+            // Wrap to the front. Anything stored past here is older than everything at the front.
+            while (count > 0 && start[oldest] >= at) {
+                dropOldest();
+            }
+            at = 0;
+        }
+        while (count > 0 && (start[oldest] >= at ? start[oldest] < at + size : start[oldest] + length[oldest] > at)) {
+            dropOldest();
+        }
+        int delta = (oldest + count) % start.length;
+        System.arraycopy(encoded, 0, data, at, size);
+        start[delta] = at;
+        length[delta] = size;
+        olderLength[delta] = older;
+        newerLength[delta] = newer;
+        count++;
+        bytesUsed += size;
+        writePosition = at + size;
+    }
+
+    private int deltaFromNewest(int back) {
+        return (oldest + count - 1 - back) % start.length;
+    }
+
+    private void dropOldest() {
+        bytesUsed -= length[oldest];
+        oldest = (oldest + 1) % start.length;
+        count--;
+    }
+
+    private void dropNewest(int frames) {
+        for (int i = 0; i < frames; i++) {
+            int delta = deltaFromNewest(0);
+            bytesUsed -= length[delta];
+            count--;
+            writePosition = count > 0 ? start[deltaFromNewest(0)] + length[deltaFromNewest(0)] : 0;
+        }
+    }
+}
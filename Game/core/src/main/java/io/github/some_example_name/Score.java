@@ -0,0 +1,96 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * NEW
+ *
+ * <code>Score</code> holds the scoring rules shared by {@link GameSession} and
+ * {@link BatchRunner}, so a simulated run is scored exactly like a played one.
+ */
+public final class Score {
+    /** Length of a game on the default {@link GameTimer}, in seconds. */
+    public static final float GAME_LENGTH_SECONDS = 300f;
+    /** Points lost each time a chasing dean catches the player. */
+    public static final int DEAN_PENALTY = 5;
+    /** Points lost each time a patrolling dean catches the player. */
+    public static final int PATROL_PENALTY = 5;
+    /** Points lost each time the player drowns. */
+    public static final int DROWN_PENALTY = 10;
+
+    private Score() {
+    }
+
+    /**
+     * Turn the time left on the clock into points, read as mm:ss, so 3:24 left scores 324.
+     * @param timeLeft Seconds left on the timer.
+     * @return Points for the time left.
+     */
+    public static int timeScore(float timeLeft) {
+        int timeRemainingSeconds = (int) timeLeft;
+        int minutes = timeRemainingSeconds / 60;
+        int seconds = timeRemainingSeconds % 60;
+        return (minutes * 100) + seconds;
+    }
+
+    /**
+     * @param caughtByDean Times the chasing dean caught the player.
+     * @param drowned Times the player drowned.
+     * @param caughtByPatrol Times a patrolling dean caught the player.
+     * @return Total penalty to subtract from the time score.
+     */
+    public static int totalPenalty(int caughtByDean, int drowned, int caughtByPatrol) {
+        return caughtByDean * DEAN_PENALTY + drowned * DROWN_PENALTY + caughtByPatrol * PATROL_PENALTY;
+    }
+
+    /**
+     * @param timeLeft Seconds left on the timer.
+     * @param penalty Value of {@link #totalPenalty(int, int, int)}.
+     * @return Base score before achievements, never below 0.
+     */
+    public static int finalScore(float timeLeft, int penalty) {
+        return Math.max(0, timeScore(timeLeft) - penalty);
+    }
+
+    /**
+     * Add the achievements that only depend on how often the player was caught.
+     * @param earned Achievements earned so far, added to.
+     * @param caughtByDean Times the chasing dean caught the player.
+     * @param caughtByPatrol Times a patrolling dean caught the player.
+     */
+    public static void addCatchAchievements(Array<Achievement> earned, int caughtByDean, int caughtByPatrol) {
+        // Speedster --> Never caught by any Dean
+        if (caughtByDean == 0 && caughtByPatrol == 0) {
+            earned.add(new Achievement("Speedster", "Never caught by a Dean", 150));
+        }
+
+        // Class Clown -->  more than 3 times
+        if (caughtByDean + caughtByPatrol >= 3) {
+            earned.add(new Achievement("Class Clown", "Caught 3+ times", -50));
+        }
+    }
+
+    /**
+     * Add the achievement for running into a natural obstacle.
+     * @param earned Achievements earned so far, added to.
+     * @param hitObstacle True if the player drowned or hit a bush or tree.
+     */
+    public static void addObstacleAchievement(Array<Achievement> earned, boolean hitObstacle) {
+        // Natural Barrier Victim --> Natural Barrier Victim  Drowned or hit obstacles
+        if (hitObstacle) {
+            earned.add(new Achievement("Natural Barrier Victim", "Hit an natural obstacle", -20));
+        }
+    }
+
+    /**
+     * @param achievements Achievements earned.
+     * @return Sum of their bonus scores.
+     */
+    public static int achievementBonus(Array<Achievement> achievements) {
+        int total = 0;
+        for (int i = 0; i < achievements.size; i++) {
+            total += achievements.get(i).bonusScore;
+        }
+        return total;
+    }
+}
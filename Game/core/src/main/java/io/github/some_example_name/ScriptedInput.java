@@ -0,0 +1,56 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Input;
+
+/**
+ * NEW
+ *
+ * <code>ScriptedInput</code> is a keyboard that is pressed from code, for driving a
+ * {@link Simulation} without a window. Keys stay down until released, and count as
+ * just pressed until the end of the tick they went down on.
+ */
+public class ScriptedInput implements InputSource {
+    private final boolean[] pressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+    private final boolean[] justPressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+
+    /**
+     * Put a key down. Pressing a key that is already down does nothing.
+     * @param key Key code from {@link Input.Keys}.
+     */
+    public void press(int key) {
+        if (!pressed[key]) {
+            pressed[key] = true;
+            justPressed[key] = true;
+        }
+    }
+
+    /**
+     * Let a key up.
+     * @param key Key code from {@link Input.Keys}.
+     */
+    public void release(int key) {
+        pressed[key] = false;
+        justPressed[key] = false;
+    }
+
+    /** Let every key up. */
+    public void releaseAll() {
+        java.util.Arrays.fill(pressed, false);
+        java.util.Arrays.fill(justPressed, false);
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        return key >= 0 && key < pressed.length && pressed[key];
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        return key >= 0 && key < justPressed.length && justPressed[key];
+    }
+
+    @Override
+    public void endTick() {
+        java.util.Arrays.fill(justPressed, false);
+    }
+}
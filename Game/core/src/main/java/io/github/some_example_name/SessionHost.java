@@ -0,0 +1,297 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * NEW
+ *
+ * <code>SessionHost</code> keeps many independent games running side by side in one
+ * JVM, for checking tournament results, training bots or load testing. Each
+ * {@link Session} is a whole headless {@link GameSession}, with the map events, the
+ * quiz, the ticket, the bus and the game timer as well as the player and deans, its
+ * own input, its own random numbers and its own clock, and a {@link Controller} that
+ * decides what its player presses before every tick. A session finishes by itself
+ * once its game is won or its time runs out.
+ *
+ * <p>Every {@link #step(int)} moves each open session on by the same number of ticks,
+ * sharing the sessions out over a {@link ForkJoinPool} so idle threads steal them from
+ * busy ones. Sessions share nothing that changes, so a session plays the same game
+ * whichever thread ticks it and however many others are running.</p>
+ *
+ * <p>All sessions play on one map. Building a game walks the map's objects, which
+ * libGDX does not allow from several threads at once, so sessions are opened on the
+ * calling thread; once built, a game only looks cells up by index and reads the
+ * rectangles of its events, which is safe to share. Nothing here reads <code>Gdx.files</code>, <code>Gdx.input</code> or
+ * <code>Gdx.graphics</code>, so with a map loaded through
+ * {@link HeadlessMapLoader#inFolder(java.io.File)} no libGDX application is needed.</p>
+ */
+public class SessionHost implements Disposable {
+    /** Decides what a session's player does. Called on whichever thread ticks the session. */
+    public interface Controller {
+        /**
+         * Press and release the session's keys for the next tick.
+         * @param session Session about to tick.
+         * @return False to end the session instead of ticking it.
+         */
+        boolean control(Session session);
+    }
+
+    /** Random stream of each session's world that its controller's numbers come from. */
+    public static final String CONTROLLER_STREAM = "controller";
+
+    /** One game on the host. */
+    public static final class Session {
+        private final int id;
+        private final long seed;
+        private final ScriptedInput input = new ScriptedInput();
+        private final RandomXS128 random;
+        private final GameSession game;
+        private final Controller controller;
+        private boolean finished;
+        private RuntimeException failure;
+
+        private Session(int id, long seed, TiledMap map, Controller controller) {
+            this.id = id;
+            this.seed = seed;
+            this.game = new GameSession(map, input, seed, false);
+            // The controller has a stream of its own, so a bot asking for more or fewer
+            // numbers never changes anything else in its world.
+            this.random = game.getRandomStreams().stream(CONTROLLER_STREAM);
+            this.controller = controller;
+        }
+
+        private void play(int ticks) {
+            try {
+                for (int i = 0; i < ticks && !finished; i++) {
+                    if (!controller.control(this)) {
+                        finished = true;
+                        break;
+                    }
+                    game.tick(Simulation.DEFAULT_STEP);
+                    // Won at the bus or out of time.
+                    finished = game.getOutcome() != GameSession.Outcome.PLAYING;
+                }
+            } catch (RuntimeException e) {
+                // One broken game must not stop the rest.
+                failure = e;
+                finished = true;
+            }
+        }
+
+        /** @return Number the host gave the session, counting up from 0. */
+        public int getId() {
+            return id;
+        }
+
+        /** @return Seed the session's world and random numbers were made from. */
+        public long getSeed() {
+            return seed;
+        }
+
+        /** @return Keys of the session's player, for its controller to press. */
+        public ScriptedInput getInput() {
+            return input;
+        }
+
+        /** @return Random numbers for the session's controller, its world's {@link SessionHost#CONTROLLER_STREAM} stream. */
+        public RandomXS128 getRandom() {
+            return random;
+        }
+
+        /** @return The session's game, for its score and achievements. Only touch it between steps. */
+        public GameSession getGame() {
+            return game;
+        }
+
+        /** @return The session's world. Only touch it between steps. */
+        public Simulation getSimulation() {
+            return game.getSimulation();
+        }
+
+        /** @return Ticks the session has played. */
+        public long getTickCount() {
+            return game.getSimulation().getTickCount();
+        }
+
+        /** @return True once the game was won or ran out of time, or the session's controller ended it or it failed. */
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /** @return What stopped the session with an error, or null if nothing did. */
+        public RuntimeException getFailure() {
+            return failure;
+        }
+    }
+
+    private final TiledMap map;
+    private final ForkJoinPool pool;
+    private final Array<Session> sessions = new Array<>(Session.class);
+    private int nextId;
+
+    /**
+     * Constructor for <code>SessionHost</code>.
+     * @param map Map every session plays on. It is not disposed by the host.
+     * @param threads Number of threads ticking sessions, at least 1.
+     */
+    public SessionHost(TiledMap map, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        this.map = map;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Build a host for the game's map, loading no textures.
+     * @param files Finds the map and its tilesets, such as {@link HeadlessMapLoader#inFolder(java.io.File)}.
+     * @param threads Number of threads ticking sessions, at least 1.
+     * @return New host with no sessions.
+     */
+    public static SessionHost createHeadless(FileHandleResolver files, int threads) {
+        return new SessionHost(new HeadlessMapLoader(files).load(Simulation.MAP_PATH), threads);
+    }
+
+    /**
+     * Start a new game at the start of the map. Call between steps, on the thread that
+     * steps the host.
+     * @param seed Seed of the session's world and of its controller's random numbers.
+     * @param controller Decides what the session's player does.
+     * @return The new session.
+     */
+    public Session open(long seed, Controller controller) {
+        Session session = new Session(nextId++, seed, map, controller);
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * End a game and free it. Call between steps.
+     * @param session Session to close.
+     * @return True if the session was open on this host.
+     */
+    public boolean close(Session session) {
+        if (!sessions.removeValue(session, true)) {
+            return false;
+        }
+        session.finished = true;
+        session.game.dispose();
+        return true;
+    }
+
+    /**
+     * Close every finished session.
+     * @param closed Filled with the sessions closed, or null.
+     * @return Number of sessions closed.
+     */
+    public int closeFinished(Array<Session> closed) {
+        int count = 0;
+        for (int i = sessions.size - 1; i >= 0; i--) {
+            Session session = sessions.get(i);
+            if (session.finished) {
+                sessions.removeIndex(i);
+                session.game.dispose();
+                if (closed != null) {
+                    closed.add(session);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Move every open session that has not finished on by a number of ticks, in
+     * parallel, returning once all of them have.
+     * @param ticks Ticks each session plays, unless its controller ends it first.
+     */
+    public void step(int ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Ticks must not be negative");
+        }
+        if (ticks > 0 && sessions.size > 0) {
+            pool.invoke(new StepRange(sessions.items, 0, sessions.size, ticks));
+        }
+    }
+
+    /** @return Number of open sessions, finished or not. */
+    public int getSessionCount() {
+        return sessions.size;
+    }
+
+    /** @return Number of open sessions still playing. */
+    public int getPlayingCount() {
+        int playing = 0;
+        for (int i = 0; i < sessions.size; i++) {
+            if (!sessions.get(i).finished) {
+                playing++;
+            }
+        }
+        return playing;
+    }
+
+    /**
+     * @param index Position among the open sessions, in the order they were opened.
+     * @return The session.
+     */
+    public Session getSession(int index) {
+        return sessions.get(index);
+    }
+
+    /** @return Number of threads ticking sessions. */
+    public int getThreads() {
+        return pool.getParallelism();
+    }
+
+    /** @return The map every session plays on. */
+    public TiledMap getMap() {
+        return map;
+    }
+
+    /** Close every session and stop the threads. The map is left to its owner. */
+    @Override
+    public void dispose() {
+        pool.shutdown();
+        for (int i = 0; i < sessions.size; i++) {
+            sessions.get(i).finished = true;
+            sessions.get(i).game.dispose();
+        }
+        sessions.clear();
+    }
+
+    /** Plays a range of sessions, splitting it in half until each task is a single session. */
+    private static final class StepRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Session[] sessions;
+        private final int from;
+        private final int to;
+        private final int ticks;
+
+        StepRange(Session[] sessions, int from, int to, int ticks) {
+            this.sessions = sessions;
+            this.from = from;
+            this.to = to;
+            this.ticks = ticks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    sessions[from].play(ticks);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new StepRange(sessions, from, middle, ticks), new StepRange(sessions, middle, to, ticks));
+        }
+    }
+}
@@ -0,0 +1,709 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * NEW
+ *
+ * <code>Simulation</code> is the moving part of the game world: the player, the chasing
+ * and patrolling deans, their planning and status effects, and the checks for the
+ * player being caught. {@link GameScreen} runs one and draws it, but it can also run
+ * on its own for tests and analysis.
+ *
+ * <p>Everything the simulation depends on is handed to it. It reads the keyboard
+ * through an {@link InputSource}, time only through the step passed to
+ * {@link #tick(float)}, and random numbers from its own {@link RandomStreams} seeded
+ * in the constructor, so two simulations built with the same map, seed and input stay in
+ * step tick for tick. Built without textures, from a map loaded by
+ * {@link HeadlessMapLoader}, it needs no window or GPU at all. A run can be kept with
+ * {@link #startRecording(InputRecording)} and played again with an
+ * {@link InputReplayer}.</p>
+ */
+public class Simulation implements GameWorld, Disposable {
+    /** Notified when the player is caught, for scoring. */
+    public interface Listener {
+        /** The chasing dean caught the player. */
+        void caughtByDean();
+
+        /** A patrolling dean caught the player. */
+        void caughtByPatrol();
+    }
+
+    /** Map the game is played on, relative to the assets folder. */
+    public static final String MAP_PATH = "Tile Maps/Final Game Map - Maze.tmx";
+    /** Where the player starts, and is sent back to when caught. */
+    public static final float PLAYER_START_X = 560;
+    /** Where the player starts, and is sent back to when caught. */
+    public static final float PLAYER_START_Y = 180;
+    /** Length of one tick when the simulation is run with {@link #run(int)}. */
+    public static final float DEFAULT_STEP = 1f / FixedTimestep.DEFAULT_TICKS_PER_SECOND;
+
+    // How many tiles away the chasing dean can spot the player along a straight line.
+    private static final int DEAN_SIGHT_RANGE = 10;
+    // How many tiles around the last sighting the deans consider when searching.
+    private static final int SEARCH_RADIUS = 6;
+    private static final float CATCH_DISTANCE = 16f;
+
+    private final TiledMap tiledMap;
+    private final InputSource input;
+    private final RandomStreams randomStreams;
+    private final RandomXS128 random;
+    private final boolean withTextures;
+    private final TimerWheel timers = new TimerWheel();
+    private final StatusEffects statusEffects = new StatusEffects(timers);
+
+    private final Player player;
+    private final Dean dean;
+    private final Patrol_Dean patrolDean1;
+    private final Patrol_Dean patrolDean2;
+    private final Patrol_Dean patrolDean3;
+    private Patrol_Dean extraDean;
+    // Every moving entity, so each is drawn and disposed exactly once.
+    private final EntityRegistry entities = new EntityRegistry();
+    // The deans as entities, moved each tick by the chase and patrol systems.
+    private final Engine engine = new Engine();
+
+    private final NavigationGrid navigationGrid;
+    private final PursuitPlanner pursuitPlanner;
+    private final InfluenceMap influenceMap;
+    private int lastSeenCell = -1;
+    private final Vector2 searchTarget = new Vector2();
+
+    private Listener listener;
+    private InputRecording recording;
+    private final Vector2 lastPlayerPosition = new Vector2();
+    // The "Bounds" walls, gathered once, and the box tested against them on every move.
+    private final Array<Rectangle> walls = new Array<>(Rectangle.class);
+    private final Rectangle playerFutureRect = new Rectangle();
+    // Which tiles block the player and which block the chasing dean, worked out once
+    // from every tile layer so a move is not checked against each layer in turn.
+    private final BitSet blockedCells = new BitSet();
+    private final BitSet blockedForDeanCells = new BitSet();
+    private int blockedWidth;
+    private int blockedHeight;
+    private float tileWidth = NavigationGrid.TILE_SIZE;
+    private float tileHeight = NavigationGrid.TILE_SIZE;
+    private float playerSpeed = 1f;
+    private boolean playerFrozen;
+    private long tickCount;
+    private double elapsedSeconds;
+    private int timesCaughtByDean;
+    private int timesCaughtByPatrol;
+
+    /**
+     * Constructor for <code>Simulation</code>, spawning the player and deans at their
+     * starting positions. Planning runs on the calling thread, which keeps runs
+     * repeatable; the game turns on background planning itself.
+     *
+     * @param tiledMap Map to play on, with its collision layers and "Events" objects.
+     * @param input Keyboard to read the player's movement from.
+     * @param seed Seed of the random number generator.
+     * @param withTextures False to skip loading sprites, for running without a GPU.
+     */
+    public Simulation(TiledMap tiledMap, InputSource input, long seed, boolean withTextures) {
+        this.tiledMap = tiledMap;
+        this.input = input;
+        this.randomStreams = new RandomStreams(seed);
+        this.random = randomStreams.stream(RandomStreams.WORLD);
+        this.withTextures = withTextures;
+        findBlockedCells();
+
+        player = new Player(PLAYER_START_X, PLAYER_START_Y, withTextures);
+        dean = new Dean(300, 310, player, this, withTextures);
+        patrolDean1 = new Patrol_Dean(140, 190, 90, 260, this, withTextures);
+        patrolDean2 = new Patrol_Dean(170, 130, 90, 260, this, withTextures);
+        patrolDean3 = new Patrol_Dean(200, 100, 90, 260, this, withTextures);
+        // The player is moved by the simulation itself and the deans by their systems,
+        // so the registry only stores their positions and draws them.
+        entities.add(player, EntityRegistry.Layer.PLAYER, EntityRegistry.Phase.STORE_POSITION);
+        entities.add(dean, EntityRegistry.Layer.DEANS, EntityRegistry.Phase.STORE_POSITION);
+        entities.add(patrolDean1, EntityRegistry.Layer.DEANS, EntityRegistry.Phase.STORE_POSITION);
+        entities.add(patrolDean2, EntityRegistry.Layer.DEANS, EntityRegistry.Phase.STORE_POSITION);
+        entities.add(patrolDean3, EntityRegistry.Layer.DEANS, EntityRegistry.Phase.STORE_POSITION);
+        engine.addSystem(new ChaseSystem(this));
+        engine.addSystem(new PatrolSystem(this));
+        engine.addEntity(dean.getEntity());
+        engine.addEntity(patrolDean1.getEntity());
+        engine.addEntity(patrolDean2.getEntity());
+        engine.addEntity(patrolDean3.getEntity());
+
+        // Chasing deans plan their routes together so they don't block each other in the corridors.
+        navigationGrid = NavigationGrid.fromTiledMap(tiledMap);
+        pursuitPlanner = new PursuitPlanner(navigationGrid, CooperativePathfinder.DEFAULT_WINDOW);
+        pursuitPlanner.addChaser(dean);
+        influenceMap = new InfluenceMap(navigationGrid);
+        markWaterAsDanger();
+
+        MapLayer bounds = tiledMap.getLayers().get("Bounds");
+        if (bounds != null) {
+            for (RectangleMapObject wallObject : bounds.getObjects().getByType(RectangleMapObject.class)) {
+                walls.add(wallObject.getRectangle());
+            }
+        }
+    }
+
+    /**
+     * Build a simulation of the game's map that loads no textures at all. Needs only
+     * <code>Gdx.files</code>, so it runs under the headless backend.
+     *
+     * @param input Keyboard to read the player's movement from.
+     * @param seed Seed of the random number generator.
+     * @return New simulation at the start of a game.
+     */
+    public static Simulation createHeadless(InputSource input, long seed) {
+        return new Simulation(new HeadlessMapLoader().load(MAP_PATH), input, seed, false);
+    }
+
+    /**
+     * Set who is told when the player is caught.
+     * @param listener Listener to notify, or null for nobody.
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Set the player's speed before status effects, for boosts that come from map events.
+     * @param speed Pixels per tick at {@link FixedTimestep#DEFAULT_TICKS_PER_SECOND}.
+     */
+    public void setPlayerSpeed(float speed) {
+        if (recording != null && speed != playerSpeed) {
+            recording.recordCommand(InputRecording.SET_SPEED, speed);
+        }
+        this.playerSpeed = speed;
+    }
+
+    /**
+     * Stop the player from moving, for example while a quiz is open.
+     * @param frozen True to ignore the movement keys.
+     */
+    public void setPlayerFrozen(boolean frozen) {
+        if (recording != null && frozen != playerFrozen) {
+            recording.recordCommand(InputRecording.SET_FROZEN, frozen ? 1f : 0f);
+        }
+        this.playerFrozen = frozen;
+    }
+
+    /**
+     * Record every tick's keys, and every command sent to the world between ticks, from
+     * now on. The recording should be new, made with this simulation's seed, and
+     * started before the first tick.
+     * @param recording Recording to add to.
+     */
+    public void startRecording(InputRecording recording) {
+        this.recording = recording;
+        recording.recordCommand(InputRecording.SET_SPEED, playerSpeed);
+        recording.recordCommand(InputRecording.SET_FROZEN, playerFrozen ? 1f : 0f);
+        lastPlayerPosition.set(player.getPosition());
+    }
+
+    /**
+     * Stop adding to the recording, for when the world is put back to an earlier state
+     * the recording could not reproduce. What was recorded so far is kept.
+     */
+    public void stopRecording() {
+        recording = null;
+    }
+
+    /** @return The recording being made, or null if the run is not being recorded. */
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Advance the world by one tick: run the timers due, move the player, plan and move
+     * the deans, and check whether anyone caught the player.
+     * @param step Length of the tick in seconds.
+     */
+    public void tick(float step) {
+        input.beginTick(this);
+        // Run the timers due this tick first, so a teleport they set off is recorded below.
+        timers.advance(step);
+        if (recording != null) {
+            // Anything that moved the player since the last tick, such as a teleport, has to be replayed too.
+            if (!player.getPosition().equals(lastPlayerPosition)) {
+                recording.recordCommand(InputRecording.PLACE_PLAYER, player.getPosition().x, player.getPosition().y);
+            }
+            recording.recordTick(InputRecording.maskOf(input));
+        }
+
+        entities.runPhase(EntityRegistry.Phase.STORE_POSITION, step);
+
+        movePlayer();
+        // Plan the chasing deans' routes, then move all deans.
+        pursuitPlanner.update(updateInfluence());
+        engine.update(step);
+        // Extra dean (spawned as a penalty) behaves like a patrol dean.
+        if (extraDean != null && player.getPosition().dst(extraDean.getPosition()) < CATCH_DISTANCE) {
+            caughtByPatrol();
+        }
+
+        // Collision check for main chasing dean.
+        if (player.getPosition().dst(dean.getPosition()) < CATCH_DISTANCE) {
+            player.getPosition().set(PLAYER_START_X, PLAYER_START_Y);
+            timesCaughtByDean++;
+            dean.resetToStart(timesCaughtByDean); //send the dean back to his starting position or other side of the map to ensure he can't spawn camp the player
+            if (listener != null) listener.caughtByDean();
+        }
+
+        // Collision check for patrol deans.
+        if (player.getPosition().dst(patrolDean1.getPosition()) < CATCH_DISTANCE ||
+            player.getPosition().dst(patrolDean2.getPosition()) < CATCH_DISTANCE ||
+            player.getPosition().dst(patrolDean3.getPosition()) < CATCH_DISTANCE) {
+            caughtByPatrol();
+        }
+
+        input.endTick();
+        tickCount++;
+        elapsedSeconds += step;
+        lastPlayerPosition.set(player.getPosition());
+    }
+
+    /**
+     * Run a number of ticks of {@link #DEFAULT_STEP} back to back, as fast as possible.
+     * @param ticks Number of ticks to run.
+     */
+    public void run(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick(DEFAULT_STEP);
+        }
+    }
+
+    private void caughtByPatrol() {
+        player.getPosition().set(PLAYER_START_X, PLAYER_START_Y);
+        timesCaughtByPatrol++;
+        if (listener != null) listener.caughtByPatrol();
+    }
+
+    /** Move the player one tick's worth while the movement keys are held. */
+    private void movePlayer() {
+        if (playerFrozen) {
+            return;
+        }
+        float moveSpeed = playerSpeed * statusEffects.getTimeScale(StatusEffects.Group.PLAYER);
+
+        float newX = player.getPosition().x;
+        float newY = player.getPosition().y;
+
+        // independent key checks
+        if (input.isKeyPressed(Input.Keys.W)) {
+            newY += moveSpeed;
+            player.setDirection(Player.Direction.UP);
+        }
+        if (input.isKeyPressed(Input.Keys.S)) {
+            newY -= moveSpeed;
+            player.setDirection(Player.Direction.DOWN);
+        }
+        if (input.isKeyPressed(Input.Keys.A)) {
+            newX -= moveSpeed;
+            player.setDirection(Player.Direction.LEFT);
+        }
+        if (input.isKeyPressed(Input.Keys.D)) {
+            newX += moveSpeed;
+            player.setDirection(Player.Direction.RIGHT);
+        }
+
+        float oldX = player.getPosition().x;
+        float oldY = player.getPosition().y;
+        if (!isCellBlocked(newX, newY) && !isBounds(newX, newY)) {
+            player.getPosition().set(newX, newY);
+        } else if (!isCellBlocked(newX, oldY) && !isBounds(newX, oldY)) {
+            player.getPosition().set(newX, oldY);
+        } else if (!isCellBlocked(oldX, newY) && !isBounds(oldX, newY)) {
+            player.getPosition().set(oldX, newY);
+        }
+    }
+
+    /**
+     * Record what the deans know this tick in the influence map, and decide where the
+     * chasing deans should head. While the chasing dean can see the player it heads
+     * straight for them. Once the player is out of sight the deans search the most
+     * promising tile around the last sighting, moving on as they cover the area.
+     *
+     * @return World position the chasing deans should plan towards.
+     */
+    private Vector2 updateInfluence() {
+        int playerCell = navigationGrid.cellAt(player.getPosition().x, player.getPosition().y);
+        int deanCell = navigationGrid.cellAt(dean.getPosition().x, dean.getPosition().y);
+
+        influenceMap.deposit(InfluenceMap.Layer.PATROL_COVERAGE, deanCell, 1f);
+        influenceMap.deposit(InfluenceMap.Layer.PATROL_COVERAGE,
+            navigationGrid.cellAt(patrolDean1.getPosition().x, patrolDean1.getPosition().y), 1f);
+        influenceMap.deposit(InfluenceMap.Layer.PATROL_COVERAGE,
+            navigationGrid.cellAt(patrolDean2.getPosition().x, patrolDean2.getPosition().y), 1f);
+        influenceMap.deposit(InfluenceMap.Layer.PATROL_COVERAGE,
+            navigationGrid.cellAt(patrolDean3.getPosition().x, patrolDean3.getPosition().y), 1f);
+
+        boolean seen = playerCell >= 0 && deanCell >= 0
+            && navigationGrid.hasLineOfSight(deanCell, playerCell, DEAN_SIGHT_RANGE);
+        if (seen) {
+            influenceMap.deposit(InfluenceMap.Layer.LAST_SEEN, playerCell, 1f);
+            lastSeenCell = playerCell;
+        }
+        influenceMap.update();
+
+        if (seen || lastSeenCell < 0) {
+            return player.getPosition();
+        }
+        int searchCell = influenceMap.findMostPromising(lastSeenCell, SEARCH_RADIUS);
+        if (searchCell < 0) {
+            searchCell = lastSeenCell;
+        }
+        return searchTarget.set(navigationGrid.worldX(searchCell), navigationGrid.worldY(searchCell));
+    }
+
+    /** Deans never bother searching the water, since the player would drown there. */
+    private void markWaterAsDanger() {
+        MapLayer events = tiledMap.getLayers().get("Events");
+        if (events == null) return;
+        for (MapObject eventObject : events.getObjects()) {
+            String name = eventObject.getName();
+            if (eventObject instanceof RectangleMapObject && name != null && name.startsWith("Water")) {
+                Rectangle water = ((RectangleMapObject) eventObject).getRectangle();
+                for (float y = water.y; y < water.y + water.height; y += NavigationGrid.TILE_SIZE) {
+                    for (float x = water.x; x < water.x + water.width; x += NavigationGrid.TILE_SIZE) {
+                        influenceMap.deposit(InfluenceMap.Layer.DANGER, navigationGrid.cellAt(x, y), 1f);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Work out which tiles block the player and which block the chasing dean from every
+     * tile layer of the map. A tile blocks the player if it or its layer has a
+     * <code>collidable</code> property, and blocks the dean if its layer has a
+     * <code>collidable</code> or <code>door</code> property.
+     */
+    private void findBlockedCells() {
+        for (int i = 0; i < tiledMap.getLayers().getCount(); i++) {
+            if (tiledMap.getLayers().get(i) instanceof TiledMapTileLayer) {
+                TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(i);
+                if (blockedWidth == 0) {
+                    tileWidth = layer.getTileWidth();
+                    tileHeight = layer.getTileHeight();
+                }
+                blockedWidth = Math.max(blockedWidth, layer.getWidth());
+                blockedHeight = Math.max(blockedHeight, layer.getHeight());
+            }
+        }
+        for (int i = 0; i < tiledMap.getLayers().getCount(); i++) {
+            if (!(tiledMap.getLayers().get(i) instanceof TiledMapTileLayer)) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(i);
+            boolean layerCollidable = layer.getProperties().containsKey("collidable");
+            boolean layerBlocksDean = layerCollidable || layer.getProperties().containsKey("door");
+            for (int y = 0; y < layer.getHeight(); y++) {
+                for (int x = 0; x < layer.getWidth(); x++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                    if (cell == null || cell.getTile() == null) continue;
+                    if (layerCollidable || cell.getTile().getProperties().containsKey("collidable")) {
+                        blockedCells.set(y * blockedWidth + x);
+                    }
+                    if (layerBlocksDean) {
+                        blockedForDeanCells.set(y * blockedWidth + x);
+                    }
+                }
+            }
+        }
+    }
+
+    // Index of the tile under a position, or -1 if it is off the map.
+    private int blockedIndex(float x, float y) {
+        int tileX = (int) ((x + 8) / tileWidth);
+        int tileY = (int) ((y + 8) / tileHeight);
+        if (tileX < 0 || tileY < 0 || tileX >= blockedWidth || tileY >= blockedHeight) {
+            return -1;
+        }
+        return tileY * blockedWidth + tileX;
+    }
+
+    /**
+     * Returns if the cell at a given coordinate in the world allows the player or a
+     * patrol dean to move onto it. A cell blocks if its tile or its layer has a
+     * <code>collidable</code> property.
+     *
+     * @param x Horizontal position of cell in the world.
+     * @param y Vertical position of cell in the world.
+     * @return True if cell blocks entities to move onto it, False if entities can move onto it.
+     */
+    @Override
+    public boolean isCellBlocked(float x, float y) {
+        int index = blockedIndex(x, y);
+        return index >= 0 && blockedCells.get(index);
+    }
+
+    /**
+     * Return whether a cell blocks movement for the chasing dean. Unlike
+     * {@link #isCellBlocked(float, float)} this also treats any layer with a
+     * <code>door</code> property as blocked.
+     *
+     * @param x The horizontal position of cell in the world.
+     * @param y The vertical position of cell in the world.
+     * @return True if the cell blocks dean movement, false otherwise.
+     */
+    @Override
+    public boolean isCellBlockedForDean(float x, float y) {
+        int index = blockedIndex(x, y);
+        return index >= 0 && blockedForDeanCells.get(index);
+    }
+
+    /**
+     * Checks if the player's future position overlaps with the "Bounds" object layer of the Tiled map.
+     * @param x The future x-coordinate of the player.
+     * @param y The future y-coordinate of the player.
+     * @return {@code true} if a collision is detected (movement blocked), {@code false} otherwise.
+     */
+    public boolean isBounds(float x, float y) {
+        playerFutureRect.set(x, y, Player.SIZE, Player.SIZE);
+        Rectangle[] items = walls.items;
+        for (int i = 0; i < walls.size; i++) {
+            if (playerFutureRect.overlaps(items[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Freeze every chasing and patrolling dean for a while. The freeze is a
+     * {@link StatusEffects} effect, so it wears off by itself and stacks with any other
+     * effect on the deans, and deans spawned during it are frozen too.
+     *
+     * @param seconds How long the deans stay frozen, or {@link StatusEffects#PERMANENT}.
+     * @return Handle of the freeze on the chasing deans, for checking whether it is still active.
+     */
+    public int freezeAllDeans(float seconds) {
+        if (recording != null) {
+            recording.recordCommand(InputRecording.FREEZE_DEANS, seconds);
+        }
+        statusEffects.apply(StatusEffects.Group.PATROL_DEANS, StatusEffects.Effect.FREEZE, seconds);
+        return statusEffects.apply(StatusEffects.Group.CHASING_DEANS, StatusEffects.Effect.FREEZE, seconds);
+    }
+
+    /** End every freeze on the deans early, leaving any other effects in place. */
+    public void unfreezeDeans() {
+        if (recording != null) {
+            recording.recordCommand(InputRecording.UNFREEZE_DEANS);
+        }
+        statusEffects.removeAll(StatusEffects.Group.CHASING_DEANS, StatusEffects.Effect.FREEZE);
+        statusEffects.removeAll(StatusEffects.Group.PATROL_DEANS, StatusEffects.Effect.FREEZE);
+    }
+
+    /** Spawn a second (extra) patrolling dean in the top-right area as a penalty. */
+    public void spawnSecondDean() {
+        if (recording != null) {
+            recording.recordCommand(InputRecording.SPAWN_DEAN);
+        }
+        if (extraDean != null) {
+            removeExtraDean();
+        }
+        addExtraDean();
+    }
+
+    private void addExtraDean() {
+        extraDean = new Patrol_Dean(780, 800, 700, 800, this, withTextures);
+        entities.add(extraDean, EntityRegistry.Layer.DEANS, EntityRegistry.Phase.STORE_POSITION);
+        engine.addEntity(extraDean.getEntity());
+    }
+
+    private void removeExtraDean() {
+        entities.remove(extraDean);
+        engine.removeEntity(extraDean.getEntity());
+        extraDean.dispose();
+        extraDean = null;
+    }
+
+    /**
+     * Write the state of the world to a snapshot: every random stream, counters,
+     * player, deans and their planned routes, status effects, the influence map and
+     * the planner's schedule.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        randomStreams.writeState(out);
+        out.putLong(tickCount);
+        out.putDouble(elapsedSeconds);
+        out.putShort((short) timesCaughtByDean).putShort((short) timesCaughtByPatrol);
+        out.putFloat(playerSpeed);
+        GameSnapshot.putBoolean(out, playerFrozen);
+        out.putInt(lastSeenCell);
+        out.putFloat(searchTarget.x).putFloat(searchTarget.y);
+        player.writeState(out);
+        dean.writeState(out);
+        patrolDean1.writeState(out);
+        patrolDean2.writeState(out);
+        patrolDean3.writeState(out);
+        GameSnapshot.putBoolean(out, extraDean != null);
+        if (extraDean != null) {
+            extraDean.writeState(out);
+        }
+        statusEffects.writeState(out);
+        influenceMap.writeState(out);
+        pursuitPlanner.writeState(out);
+    }
+
+    /**
+     * Read back state written by {@link #writeState(ByteBuffer)}, deans' routes and
+     * memory included, so the world carries on exactly as it would have.
+     * @param in Buffer to read from.
+     */
+    public void readState(ByteBuffer in) {
+        randomStreams.readState(in);
+        tickCount = in.getLong();
+        elapsedSeconds = in.getDouble();
+        timesCaughtByDean = in.getShort();
+        timesCaughtByPatrol = in.getShort();
+        playerSpeed = in.getFloat();
+        playerFrozen = GameSnapshot.getBoolean(in);
+        lastSeenCell = in.getInt();
+        searchTarget.set(in.getFloat(), in.getFloat());
+        player.readState(in);
+        dean.readState(in, navigationGrid);
+        patrolDean1.readState(in);
+        patrolDean2.readState(in);
+        patrolDean3.readState(in);
+        if (GameSnapshot.getBoolean(in)) {
+            if (extraDean == null) {
+                addExtraDean();
+            }
+            extraDean.readState(in);
+        } else if (extraDean != null) {
+            // Rewound to before the penalty dean spawned.
+            removeExtraDean();
+        }
+        statusEffects.readState(in);
+        influenceMap.readState(in);
+        pursuitPlanner.readState(in);
+        lastPlayerPosition.set(player.getPosition());
+    }
+
+    /**
+     * Draw every dean, or the player, between the last two ticks.
+     * @param batch SpriteBatch to draw with, between begin and end.
+     * @param alpha Fraction of a tick since the last one.
+     * @param layer Which entities to draw.
+     */
+    public void render(SpriteBatch batch, float alpha, EntityRegistry.Layer layer) {
+        entities.render(batch, alpha, layer);
+    }
+
+    @Override
+    public StatusEffects getStatusEffects() {
+        return statusEffects;
+    }
+
+    /**
+     * Return the clock every timed effect in the game runs off. It is moved on at the
+     * start of every tick, so timers on it stop whenever the simulation does.
+     * @return Timer wheel for events to schedule their timers on.
+     */
+    public TimerWheel getTimers() {
+        return timers;
+    }
+
+    @Override
+    public RandomXS128 getRandom() {
+        return random;
+    }
+
+    @Override
+    public RandomStreams getRandomStreams() {
+        return randomStreams;
+    }
+
+    /** @return The player's character. */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /** @return The chasing dean. */
+    public Dean getDean() {
+        return dean;
+    }
+
+    /**
+     * @param index Which patrol, from 0 to 2.
+     * @return One of the three patrolling deans.
+     */
+    public Patrol_Dean getPatrolDean(int index) {
+        switch (index) {
+            case 0: return patrolDean1;
+            case 1: return patrolDean2;
+            case 2: return patrolDean3;
+            default: throw new IndexOutOfBoundsException("No patrol dean " + index);
+        }
+    }
+
+    /** @return The penalty dean from the quiz, or null if it has not spawned. */
+    public Patrol_Dean getExtraDean() {
+        return extraDean;
+    }
+
+    /** @return Every moving entity, with how many ran in each phase and layer. */
+    public EntityRegistry getEntities() {
+        return entities;
+    }
+
+    /** @return Engine the deans are moved in. */
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /** @return The map being played on. */
+    public TiledMap getTiledMap() {
+        return tiledMap;
+    }
+
+    /** @return The walkable grid the deans plan over. */
+    public NavigationGrid getNavigationGrid() {
+        return navigationGrid;
+    }
+
+    /** @return The planner steering the chasing deans. */
+    public PursuitPlanner getPursuitPlanner() {
+        return pursuitPlanner;
+    }
+
+    /** @return Number of ticks run so far. */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /** @return Simulated seconds run so far, the sum of every tick's step. */
+    public double getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    /** @return Number of times the chasing dean has caught the player. */
+    public int getTimesCaughtByDean() {
+        return timesCaughtByDean;
+    }
+
+    /** @return Number of times a patrolling dean has caught the player. */
+    public int getTimesCaughtByPatrol() {
+        return timesCaughtByPatrol;
+    }
+
+    /** Stop background planning and free any sprites. The map belongs to the caller. */
+    @Override
+    public void dispose() {
+        pursuitPlanner.dispose();
+        engine.removeAllEntities();
+        entities.dispose();
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+
+import java.io.PrintStream;
+
+/**
+ * NEW
+ *
+ * <code>SoakRunner</code> plays headless games with the {@link Autopilot} one after
+ * another for as long as it is told to, timing every tick into {@link SoakStats} and
+ * watching the heap, so slow ticks and leaks show up without anyone at the keyboard.
+ *
+ * <p>A game lasts until the autopilot has been through its whole route, or until the
+ * clock of a real game would have run out. The map is loaded once and reused by every
+ * game, as the game itself would keep it. Map events that need a screen are not
+ * simulated headless; the windowed {@link AutopilotGame} covers those.</p>
+ */
+public class SoakRunner {
+    private final long seed;
+    private final boolean allEvents;
+    private final TiledMap map;
+    private final SoakStats stats = new SoakStats();
+    private final int maxTicks = Math.round(Score.GAME_LENGTH_SECONDS / Simulation.DEFAULT_STEP);
+
+    private int gamesPlayed;
+    private int routesFinished;
+    private long waypointsReached;
+    private long waypointsSkipped;
+
+    /**
+     * Constructor for <code>SoakRunner</code>, loading the game's map.
+     * @param seed Seed the games' seeds are worked out from.
+     * @param allEvents True to visit every event before the bus in each game.
+     */
+    public SoakRunner(long seed, boolean allEvents) {
+        this.seed = seed;
+        this.allEvents = allEvents;
+        this.map = new HeadlessMapLoader().load(Simulation.MAP_PATH);
+    }
+
+    /**
+     * Play one more game on the calling thread.
+     * @return True if the autopilot got through its whole route before time ran out.
+     */
+    public boolean playGame() {
+        Autopilot autopilot = Autopilot.playGame(allEvents);
+        Simulation simulation = new Simulation(map, autopilot, BatchRunner.seedFor(seed, gamesPlayed), false);
+        Drown drown = new Drown(map, "Events", Simulation.PLAYER_START_X, Simulation.PLAYER_START_Y);
+
+        for (int tick = 0; tick < maxTicks && !autopilot.isRouteFinished(); tick++) {
+            long start = System.nanoTime();
+            simulation.tick(Simulation.DEFAULT_STEP);
+            drown.update(simulation.getPlayer());
+            stats.recordTime(System.nanoTime() - start);
+        }
+        simulation.dispose();
+
+        gamesPlayed++;
+        waypointsReached += autopilot.getReachedCount();
+        waypointsSkipped += autopilot.getSkippedCount();
+        if (autopilot.isRouteFinished()) {
+            routesFinished++;
+        }
+        return autopilot.isRouteFinished();
+    }
+
+    /**
+     * Play games until the time is up, printing a report line every so often and once at the end.
+     * @param wallSeconds Wall clock seconds to keep playing for.
+     * @param reportSeconds Wall clock seconds between reports.
+     * @param out Where to print the reports.
+     */
+    public void run(double wallSeconds, double reportSeconds, PrintStream out) {
+        long start = System.nanoTime();
+        double nextReport = reportSeconds;
+        double elapsed = 0;
+        stats.sampleHeap(0);
+        while (elapsed < wallSeconds) {
+            playGame();
+            elapsed = (System.nanoTime() - start) / 1e9;
+            stats.sampleHeap(elapsed);
+            if (elapsed >= nextReport) {
+                out.println(report(elapsed));
+                nextReport = elapsed + reportSeconds;
+            }
+        }
+        out.println(report(elapsed));
+    }
+
+    /**
+     * @param elapsedSeconds Wall clock seconds the run has taken so far.
+     * @return One line summing up the run so far.
+     */
+    public String report(double elapsedSeconds) {
+        return String.format("%.0f s: %d games (%d finished), %d waypoints reached, %d skipped; ticks %s",
+            elapsedSeconds, gamesPlayed, routesFinished, waypointsReached, waypointsSkipped, stats);
+    }
+
+    /** @return Tick times and heap readings so far. */
+    public SoakStats getStats() {
+        return stats;
+    }
+
+    /** @return Number of games played. */
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /** @return Number of games in which the autopilot got through its whole route. */
+    public int getRoutesFinished() {
+        return routesFinished;
+    }
+
+    /** @return Waypoints reached over every game. */
+    public long getWaypointsReached() {
+        return waypointsReached;
+    }
+
+    /** @return Waypoints skipped over every game. */
+    public long getWaypointsSkipped() {
+        return waypointsSkipped;
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.some_example_name;
+
+/**
+ * NEW
+ *
+ * <code>SoakStats</code> keeps the numbers a long unattended run reports: how long
+ * frames or ticks took, as percentiles, and whether the heap is growing.
+ *
+ * <p>It uses the same memory however long the run goes, so measuring a leak cannot
+ * cause one. Times go into a histogram of {@link #BUCKET_MICROS} microsecond buckets
+ * up to {@link #MAX_TRACKED_MILLIS}, with anything slower counted in the last bucket
+ * and kept exactly as the maximum. Heap samples are reduced to running sums for a
+ * least squares line, whose slope is the growth per hour; a single reading is too
+ * noisy to mean anything between garbage collections.</p>
+ */
+public class SoakStats {
+    /** Width of one histogram bucket, in microseconds. */
+    public static final int BUCKET_MICROS = 50;
+    /** Slowest time the histogram tells apart, in milliseconds. */
+    public static final int MAX_TRACKED_MILLIS = 250;
+
+    private final long[] buckets = new long[MAX_TRACKED_MILLIS * 1000 / BUCKET_MICROS + 1];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    private long heapSamples;
+    private double sumHours;
+    private double sumHeap;
+    private double sumHoursSquared;
+    private double sumHoursHeap;
+    private long firstHeap = -1;
+    private long lastHeap;
+    private long peakHeap;
+
+    /**
+     * Add one timed frame or tick.
+     * @param nanos How long it took, in nanoseconds.
+     */
+    public void recordTime(long nanos) {
+        long clamped = Math.max(0L, nanos);
+        int bucket = (int) Math.min(buckets.length - 1, clamped / 1000L / BUCKET_MICROS);
+        buckets[bucket]++;
+        count++;
+        totalNanos += clamped;
+        maxNanos = Math.max(maxNanos, clamped);
+    }
+
+    /** @return Number of times recorded. */
+    public long getCount() {
+        return count;
+    }
+
+    /** @return Mean time, in milliseconds. */
+    public double getMeanMillis() {
+        return count > 0 ? totalNanos / 1e6 / count : 0;
+    }
+
+    /** @return Slowest time, in milliseconds. */
+    public double getMaxMillis() {
+        return maxNanos / 1e6;
+    }
+
+    /**
+     * Read a percentile from the histogram, rounded up to the end of its bucket.
+     * @param percentile Between 0 and 100, such as 99 for the 99th percentile.
+     * @return Time in milliseconds that this share of the recorded times did not exceed.
+     */
+    public double getPercentileMillis(double percentile) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length - 1; i++) {
+            seen += buckets[i];
+            if (seen >= Math.max(1, rank)) {
+                return Math.min((i + 1) * BUCKET_MICROS / 1000.0, getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Add a reading of the heap.
+     * @param elapsedSeconds Wall clock seconds since the run started.
+     * @param usedBytes Bytes of heap in use.
+     */
+    public void sampleHeap(double elapsedSeconds, long usedBytes) {
+        double hours = elapsedSeconds / 3600.0;
+        heapSamples++;
+        sumHours += hours;
+        sumHeap += usedBytes;
+        sumHoursSquared += hours * hours;
+        sumHoursHeap += hours * usedBytes;
+        if (firstHeap < 0) firstHeap = usedBytes;
+        lastHeap = usedBytes;
+        peakHeap = Math.max(peakHeap, usedBytes);
+    }
+
+    /**
+     * Add a reading of this JVM's heap.
+     * @param elapsedSeconds Wall clock seconds since the run started.
+     */
+    public void sampleHeap(double elapsedSeconds) {
+        Runtime runtime = Runtime.getRuntime();
+        sampleHeap(elapsedSeconds, runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    /** @return Number of heap readings. */
+    public long getHeapSamples() {
+        return heapSamples;
+    }
+
+    /** @return Bytes of heap in use at the last reading. */
+    public long getLastHeap() {
+        return lastHeap;
+    }
+
+    /** @return Most bytes of heap in use at any reading. */
+    public long getPeakHeap() {
+        return peakHeap;
+    }
+
+    /** @return Trend of the heap readings in bytes per hour, or 0 with fewer than two readings over time. */
+    public double getHeapGrowthPerHour() {
+        double denominator = heapSamples * sumHoursSquared - sumHours * sumHours;
+        if (heapSamples < 2 || denominator <= 0) return 0;
+        return (heapSamples * sumHoursHeap - sumHours * sumHeap) / denominator;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d samples: mean %.3f ms, p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms; "
+                + "heap %.1f MB (first %.1f MB, peak %.1f MB), trend %+.2f MB/h",
+            count, getMeanMillis(), getPercentileMillis(50), getPercentileMillis(95), getPercentileMillis(99),
+            getPercentileMillis(99.9), getMaxMillis(), lastHeap / 1048576.0, Math.max(0, firstHeap) / 1048576.0,
+            peakHeap / 1048576.0, getHeapGrowthPerHour() / 1048576.0);
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>SpeedEffectComponent</code> changes the player's speed for a while after the
+ * entity is triggered.
+ */
+public class SpeedEffectComponent implements Component, Pool.Poolable {
+    /** Factor the player's speed is multiplied by while the effect lasts. */
+    public float multiplier = 1f;
+    /** How long the effect lasts once triggered, in seconds. */
+    public float duration;
+    /** Timer ending the effect, or {@link TimerWheel#NO_TIMER} while it is not running. */
+    public int timer;
+
+    @Override
+    public void reset() {
+        multiplier = 1f;
+        duration = 0;
+        timer = TimerWheel.NO_TIMER;
+    }
+}
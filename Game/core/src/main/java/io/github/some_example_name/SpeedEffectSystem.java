@@ -0,0 +1,68 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * NEW
+ *
+ * <code>SpeedEffectSystem</code> starts an entity's {@link SpeedEffectComponent}
+ * when it is triggered, with a timer on a {@link TimerWheel} to end it, and works out
+ * the player's speed from every effect still running.
+ */
+public class SpeedEffectSystem extends IteratingSystem implements TimerWheel.Listener {
+    private final ComponentMapper<TriggerComponent> triggers = ComponentMapper.getFor(TriggerComponent.class);
+    private final ComponentMapper<SpeedEffectComponent> effects = ComponentMapper.getFor(SpeedEffectComponent.class);
+
+    private final TimerWheel timers;
+
+    /**
+     * Constructor for <code>SpeedEffectSystem</code>.
+     * @param timers Clock the effects run out on.
+     */
+    public SpeedEffectSystem(TimerWheel timers) {
+        super(Family.all(TriggerComponent.class, SpeedEffectComponent.class).get(), TriggerSystem.PRIORITY + 1);
+        this.timers = timers;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (triggers.get(entity).fired) {
+            // Triggering again while the effect runs starts it over.
+            SpeedEffectComponent effect = effects.get(entity);
+            timers.cancel(effect.timer);
+            effect.timer = timers.schedule(effect.duration, this, effect);
+        }
+    }
+
+    @Override
+    public void expired(int timer, Object subject) {
+        SpeedEffectComponent effect = (SpeedEffectComponent) subject;
+        if (effect.timer == timer) {
+            effect.timer = TimerWheel.NO_TIMER;
+        }
+    }
+
+    /**
+     * Return the factor the player's speed is multiplied by. A slowing effect
+     * outweighs any boost, so falling in the bush slows the player even while
+     * the locker boost lasts; otherwise the biggest boost applies.
+     * @return Speed multiplier, 1 when no effect is running.
+     */
+    public float getSpeedMultiplier() {
+        float slowest = 1f;
+        float fastest = 1f;
+        ImmutableArray<Entity> entities = getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            SpeedEffectComponent effect = effects.get(entities.get(i));
+            if (effect.timer != TimerWheel.NO_TIMER) {
+                slowest = Math.min(slowest, effect.multiplier);
+                fastest = Math.max(fastest, effect.multiplier);
+            }
+        }
+        return slowest < 1f ? slowest : fastest;
+    }
+}
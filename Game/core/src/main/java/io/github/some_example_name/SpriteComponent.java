@@ -0,0 +1,26 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>SpriteComponent</code> is the size an entity is drawn at and whether it is
+ * drawn at all. The picture itself comes from {@link MapEventAssets}, so entities
+ * carry no textures and run headless.
+ */
+public class SpriteComponent implements Component, Pool.Poolable {
+    /** Drawn size, in pixels, which the trigger area is sized by too. */
+    public float width;
+    public float height;
+    /** Whether the sprite is drawn at all. */
+    public boolean visible = true;
+
+    @Override
+    public void reset() {
+        width = 0;
+        height = 0;
+        visible = true;
+    }
+}
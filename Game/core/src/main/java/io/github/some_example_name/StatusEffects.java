@@ -0,0 +1,341 @@
+package io.github.some_example_name;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>StatusEffects</code> keeps every timed effect on the game's moving entities in
+ * one place, so events no longer have to walk the deans and overwrite their speeds.
+ *
+ * <p>Entities belong to a {@link Group}, and each group has a time scale that its
+ * entities multiply their movement by. The scale is the group's base scale times the
+ * factor of every {@link Effect} currently applied to it, so a slow and a haste stack
+ * instead of one overwriting the other, and removing an effect only undoes that one
+ * effect. Timed effects are timers on a {@link TimerWheel} and expire on their own
+ * when it reaches them, so effects that are still running cost nothing per tick.</p>
+ *
+ * <p>Effects live in flat arrays and each group's scale is only worked out again after
+ * an effect on it starts or ends, so reading a scale every frame is cheap.</p>
+ */
+public class StatusEffects {
+    /** Groups of entities that share a time scale. */
+    public enum Group {
+        /** The player's character. */
+        PLAYER,
+        /** Deans that chase the player. */
+        CHASING_DEANS,
+        /** Deans that walk a fixed patrol. */
+        PATROL_DEANS
+    }
+
+    /** Effects that can be applied to a group, with the factor they scale its time by. */
+    public enum Effect {
+        /** Stops the group moving. */
+        FREEZE(0f),
+        /** Halves the group's speed. */
+        SLOW(0.5f),
+        /** Doubles the group's speed. */
+        HASTE(2f);
+
+        private final float factor;
+
+        Effect(float factor) {
+            this.factor = factor;
+        }
+
+        /** @return Factor the group's time scale is multiplied by while the effect is active. */
+        public float getFactor() {
+            return factor;
+        }
+    }
+
+    /** Duration of an effect that lasts until it is removed. */
+    public static final float PERMANENT = Float.POSITIVE_INFINITY;
+
+    /** Handle that never refers to an effect. */
+    public static final int NO_EFFECT = 0;
+
+    private static final Effect[] EFFECTS = Effect.values();
+
+    private final int groupCount = Group.values().length;
+    private final float[] baseScale = new float[groupCount];
+    private final float[] scale = new float[groupCount];
+    private final boolean[] scaleDirty = new boolean[groupCount];
+
+    // Active effects, packed at the front of the arrays.
+    private int[] handles = new int[8];
+    private byte[] groups = new byte[8];
+    private byte[] effects = new byte[8];
+    // Timer ending each effect, or NO_TIMER for a permanent one.
+    private int[] timers = new int[8];
+    private int count;
+    private int nextHandle = 1;
+
+    private final TimerWheel wheel;
+    private final boolean ownsWheel;
+    private final TimerWheel.Listener expiry = (timer, subject) -> expire(timer);
+
+    /**
+     * Constructor for <code>StatusEffects</code>, with every group at normal speed and
+     * a clock of its own, moved on by {@link #update(float)}.
+     */
+    public StatusEffects() {
+        this(new TimerWheel(), true);
+    }
+
+    /**
+     * Constructor for <code>StatusEffects</code>, with every group at normal speed.
+     * @param wheel Clock effects expire on, which whoever owns it moves on.
+     */
+    public StatusEffects(TimerWheel wheel) {
+        this(wheel, false);
+    }
+
+    private StatusEffects(TimerWheel wheel, boolean ownsWheel) {
+        this.wheel = wheel;
+        this.ownsWheel = ownsWheel;
+        Arrays.fill(baseScale, 1f);
+        Arrays.fill(scale, 1f);
+    }
+
+    /**
+     * Start an effect on a group. Effects of the same kind stack, so two slows on a
+     * group quarter its speed.
+     *
+     * @param group Group to affect.
+     * @param effect Effect to apply.
+     * @param seconds How long the effect lasts, or {@link #PERMANENT}.
+     * @return Handle for removing or checking the effect later.
+     */
+    public int apply(Group group, Effect effect, float seconds) {
+        if (!(seconds > 0f)) {
+            throw new IllegalArgumentException("Effect duration must be positive");
+        }
+        if (count == handles.length) {
+            grow();
+        }
+        int handle = nextHandle++;
+        handles[count] = handle;
+        groups[count] = (byte) group.ordinal();
+        effects[count] = (byte) effect.ordinal();
+        timers[count] = seconds == PERMANENT ? TimerWheel.NO_TIMER : wheel.schedule(seconds, expiry, null);
+        count++;
+        scaleDirty[group.ordinal()] = true;
+        return handle;
+    }
+
+    /**
+     * End an effect early.
+     * @param handle Handle returned by {@link #apply(Group, Effect, float)}.
+     * @return True if the effect was still active.
+     */
+    public boolean remove(int handle) {
+        int slot = slotOf(handle);
+        if (slot < 0) return false;
+        removeSlot(slot);
+        return true;
+    }
+
+    /**
+     * End every effect of one kind on a group.
+     * @param group Group to clear.
+     * @param effect Effect to remove.
+     * @return Number of effects removed.
+     */
+    public int removeAll(Group group, Effect effect) {
+        int removed = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            if (groups[i] == group.ordinal() && effects[i] == effect.ordinal()) {
+                removeSlot(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @param handle Handle returned by {@link #apply(Group, Effect, float)}.
+     * @return True if the effect has neither expired nor been removed.
+     */
+    public boolean isActive(int handle) {
+        return slotOf(handle) >= 0;
+    }
+
+    /**
+     * @param handle Handle returned by {@link #apply(Group, Effect, float)}.
+     * @return Seconds left on the effect, {@link #PERMANENT} if it never expires, or 0 if it has ended.
+     */
+    public float getRemaining(int handle) {
+        int slot = slotOf(handle);
+        if (slot < 0) return 0f;
+        return timers[slot] == TimerWheel.NO_TIMER ? PERMANENT : wheel.getRemaining(timers[slot]);
+    }
+
+    /**
+     * @param group Group to inspect.
+     * @param effect Effect to count.
+     * @return Number of active effects of that kind on the group.
+     */
+    public int count(Group group, Effect effect) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            if (groups[i] == group.ordinal() && effects[i] == effect.ordinal()) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /** @return Number of active effects on all groups. */
+    public int getActiveCount() {
+        return count;
+    }
+
+    /**
+     * Move this object's own clock on, dropping the effects that run out. Effects on a
+     * shared {@link TimerWheel} expire as its owner moves it on instead.
+     * @param delta Seconds since the last update.
+     * @throws IllegalStateException If the effects were made with a shared wheel.
+     */
+    public void update(float delta) {
+        if (!ownsWheel) {
+            throw new IllegalStateException("Effects on a shared wheel expire as it is moved on");
+        }
+        wheel.advance(delta);
+    }
+
+    /**
+     * Return how fast a group's time runs: its base scale times the factor of every
+     * active effect on it.
+     * @param group Group to read.
+     * @return Factor the group's entities multiply their movement by; 0 while frozen.
+     */
+    public float getTimeScale(Group group) {
+        int g = group.ordinal();
+        if (scaleDirty[g]) {
+            float value = baseScale[g];
+            for (int i = 0; i < count; i++) {
+                if (groups[i] == g) {
+                    value *= EFFECTS[effects[i]].factor;
+                }
+            }
+            scale[g] = value;
+            scaleDirty[g] = false;
+        }
+        return scale[g];
+    }
+
+    /**
+     * Set a group's time scale before effects are applied, for example to slow the
+     * whole game down for a difficulty setting.
+     * @param group Group to change.
+     * @param timeScale New base scale, at least 0.
+     */
+    public void setBaseTimeScale(Group group, float timeScale) {
+        if (timeScale < 0f) {
+            throw new IllegalArgumentException("Time scale cannot be negative");
+        }
+        baseScale[group.ordinal()] = timeScale;
+        scaleDirty[group.ordinal()] = true;
+    }
+
+    /**
+     * @param group Group to read.
+     * @return The group's time scale without any effects.
+     */
+    public float getBaseTimeScale(Group group) {
+        return baseScale[group.ordinal()];
+    }
+
+    /**
+     * Write every group's base scale and every active effect to a snapshot. Handles
+     * are kept, so ones given out before the snapshot still work after it is read.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        for (int g = 0; g < groupCount; g++) {
+            out.putFloat(baseScale[g]);
+        }
+        out.putInt(nextHandle);
+        out.putShort((short) count);
+        for (int i = 0; i < count; i++) {
+            out.putInt(handles[i]);
+            out.put(groups[i]);
+            out.put(effects[i]);
+            out.putFloat(getRemaining(handles[i]));
+        }
+    }
+
+    /**
+     * Replace every effect with the ones written by {@link #writeState(ByteBuffer)}.
+     * @param in Buffer to read from.
+     */
+    public void readState(ByteBuffer in) {
+        for (int g = 0; g < groupCount; g++) {
+            baseScale[g] = in.getFloat();
+        }
+        nextHandle = in.getInt();
+        clear();
+        int saved = in.getShort();
+        for (int i = 0; i < saved; i++) {
+            if (count == handles.length) {
+                grow();
+            }
+            handles[count] = in.getInt();
+            groups[count] = in.get();
+            effects[count] = in.get();
+            float seconds = in.getFloat();
+            timers[count] = seconds == PERMANENT ? TimerWheel.NO_TIMER : wheel.schedule(seconds, expiry, null);
+            count++;
+        }
+        Arrays.fill(scaleDirty, true);
+    }
+
+    /** End every effect on every group. Base scales are kept. */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            wheel.cancel(timers[i]);
+        }
+        count = 0;
+        Arrays.fill(scaleDirty, true);
+    }
+
+    private int slotOf(int handle) {
+        if (handle == NO_EFFECT) return -1;
+        for (int i = 0; i < count; i++) {
+            if (handles[i] == handle) return i;
+        }
+        return -1;
+    }
+
+    private void expire(int timer) {
+        for (int i = 0; i < count; i++) {
+            if (timers[i] == timer) {
+                timers[i] = TimerWheel.NO_TIMER; // already gone from the wheel
+                removeSlot(i);
+                return;
+            }
+        }
+    }
+
+    private void removeSlot(int slot) {
+        wheel.cancel(timers[slot]);
+        scaleDirty[groups[slot]] = true;
+        count--;
+        // Keep the order stable so stacked effects always multiply in the same order.
+        System.arraycopy(handles, slot + 1, handles, slot, count - slot);
+        System.arraycopy(groups, slot + 1, groups, slot, count - slot);
+        System.arraycopy(effects, slot + 1, effects, slot, count - slot);
+        System.arraycopy(timers, slot + 1, timers, slot, count - slot);
+    }
+
+    private void grow() {
+        int size = handles.length * 2;
+        handles = Arrays.copyOf(handles, size);
+        groups = Arrays.copyOf(groups, size);
+        effects = Arrays.copyOf(effects, size);
+        timers = Arrays.copyOf(timers, size);
+    }
+}
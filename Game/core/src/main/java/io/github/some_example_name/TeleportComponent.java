@@ -0,0 +1,32 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>TeleportComponent</code> counts down once the entity is triggered, then moves
+ * the player to one of a set of safe places picked at random.
+ */
+public class TeleportComponent implements Component, Pool.Poolable {
+    /** Seconds between the trigger and the teleport. */
+    public float delay;
+    /** Places the player can land, as x, y pairs. */
+    public float[] destinations;
+    /** Steps of the countdown finished since the trigger, or -1 before it. */
+    public int stage = -1;
+    /** Timer ending the current step of the countdown, or {@link TimerWheel#NO_TIMER}. */
+    public int timer;
+    /** Whether the player has been teleported. */
+    public boolean happened;
+
+    @Override
+    public void reset() {
+        delay = 0;
+        destinations = null;
+        stage = -1;
+        timer = TimerWheel.NO_TIMER;
+        happened = false;
+    }
+}
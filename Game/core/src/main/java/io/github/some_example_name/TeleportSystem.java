@@ -0,0 +1,116 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * NEW
+ *
+ * <code>TeleportSystem</code> counts down from when an entity with a
+ * {@link TeleportComponent} is triggered, then moves the player to one of its
+ * destinations. Each step of the countdown is a timer on a {@link TimerWheel}, which
+ * sets the entity's message to the next number when it expires.
+ */
+public class TeleportSystem extends IteratingSystem implements TimerWheel.Listener {
+    /** Seconds each number of the countdown shows for. */
+    public static final float COUNT_SECONDS = 0.8f;
+    // The countdown shown for each count, so showing it allocates nothing.
+    private static final String[] COUNT_TEXT = {"Teleporting...", "1..", "2..", "3.."};
+
+    private final ComponentMapper<TriggerComponent> triggers = ComponentMapper.getFor(TriggerComponent.class);
+    private final ComponentMapper<TeleportComponent> teleports = ComponentMapper.getFor(TeleportComponent.class);
+    private final ComponentMapper<MessageComponent> messages = ComponentMapper.getFor(MessageComponent.class);
+
+    private final Player player;
+    private final RandomXS128 random;
+    private final TimerWheel timers;
+    private GameEvents gameEvents;
+    private boolean replaying;
+
+    /**
+     * Constructor for <code>TeleportSystem</code>.
+     * @param player Player who is teleported.
+     * @param random Seeded generator to pick destinations with, such as the world's
+     *               {@link RandomStreams#TELEPORT} stream.
+     * @param timers Clock the countdown runs on.
+     */
+    public TeleportSystem(Player player, RandomXS128 random, TimerWheel timers) {
+        super(Family.all(TriggerComponent.class, TeleportComponent.class).get(), TriggerSystem.PRIORITY + 1);
+        this.player = player;
+        this.random = random;
+        this.timers = timers;
+    }
+
+    /**
+     * Post a {@link GameEvent.Type#TELEPORT_HAPPENED} whenever the player is teleported.
+     * @param gameEvents Bus to post on, or null to post nothing.
+     */
+    public void setGameEvents(GameEvents gameEvents) {
+        this.gameEvents = gameEvents;
+    }
+
+    /**
+     * Leave moving the player to a replay, which places them where the recorded game's
+     * teleport did. The destination is still picked, so the generator stays in step.
+     * @param replaying True while a recorded game is played back.
+     */
+    public void setReplaying(boolean replaying) {
+        this.replaying = replaying;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TeleportComponent teleport = teleports.get(entity);
+        if (triggers.get(entity).fired && teleport.stage < 0) {
+            teleport.stage = 0;
+            startStep(entity, teleport);
+        }
+    }
+
+    @Override
+    public void expired(int timer, Object subject) {
+        Entity entity = (Entity) subject;
+        TeleportComponent teleport = teleports.get(entity);
+        if (teleport == null || teleport.timer != timer) {
+            return;
+        }
+        teleport.timer = TimerWheel.NO_TIMER;
+        teleport.stage++;
+        if (teleport.stage * COUNT_SECONDS < teleport.delay - 1e-4f) {
+            startStep(entity, teleport);
+            return;
+        }
+
+        int spots = teleport.destinations.length / 2;
+        int index = random.nextInt(spots);
+        if (!replaying) {
+            player.getPosition().set(teleport.destinations[index * 2], teleport.destinations[index * 2 + 1]);
+        }
+        teleport.happened = true;
+        if (gameEvents != null) {
+            gameEvents.post(GameEvent.Type.TELEPORT_HAPPENED);
+        }
+        MessageComponent message = messages.get(entity);
+        if (message != null) {
+            message.text = "Byeeeee....";
+        }
+    }
+
+    /**
+     * Show the number for the countdown's current step and time the step, which is cut
+     * short if the teleport is due before it ends.
+     * @param entity Entity counting down.
+     * @param teleport Its teleport.
+     */
+    private void startStep(Entity entity, TeleportComponent teleport) {
+        MessageComponent message = messages.get(entity);
+        if (message != null) {
+            message.text = COUNT_TEXT[Math.max(0, Math.min(3 - teleport.stage, 3))];
+        }
+        float left = teleport.delay - teleport.stage * COUNT_SECONDS;
+        teleport.timer = timers.schedule(Math.max(Math.min(COUNT_SECONDS, left), timers.getStepSeconds()), this, entity);
+    }
+}
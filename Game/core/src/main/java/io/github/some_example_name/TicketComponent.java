@@ -0,0 +1,26 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>TicketComponent</code> makes an entity something the player finds by walking
+ * up to it and picks up with the interact key, like the bus ticket.
+ */
+public class TicketComponent implements Component, Pool.Poolable {
+    /** Whether the player has been close enough to see it. */
+    public boolean discovered;
+    /** Whether the player has picked it up. */
+    public boolean collected;
+    /** Whether the player is close enough to pick it up this tick. */
+    public boolean inReach;
+
+    @Override
+    public void reset() {
+        discovered = false;
+        collected = false;
+        inReach = false;
+    }
+}
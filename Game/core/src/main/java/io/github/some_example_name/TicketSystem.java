@@ -0,0 +1,73 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * NEW
+ *
+ * <code>TicketSystem</code> lets the player find and pick up entities with a
+ * {@link TicketComponent}. A ticket is seen once the player comes within reach of it,
+ * and picked up if they press interact while it is the nearest thing in reach.
+ */
+public class TicketSystem extends IteratingSystem {
+    /** Priority of the system, alongside the effects of triggers. */
+    public static final int PRIORITY = TriggerSystem.PRIORITY + 1;
+
+    private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<TicketComponent> tickets = ComponentMapper.getFor(TicketComponent.class);
+
+    private final Player player;
+    private final float reach;
+    private GameEvents gameEvents;
+    private InputActions actions = InputActions.GDX;
+
+    /**
+     * Constructor for <code>TicketSystem</code>.
+     * @param player Player who finds the tickets.
+     * @param reach How close the player has to be to a ticket to see it and pick it up.
+     */
+    public TicketSystem(Player player, float reach) {
+        super(Family.all(PositionComponent.class, TicketComponent.class).get(), PRIORITY);
+        this.player = player;
+        this.reach = reach;
+    }
+
+    /**
+     * Post a {@link GameEvent.Type#TICKET_COLLECTED} whenever a ticket is picked up.
+     * @param gameEvents Bus to post on, or null to post nothing.
+     */
+    public void setGameEvents(GameEvents gameEvents) {
+        this.gameEvents = gameEvents;
+    }
+
+    /**
+     * Read the interact key from a screen's actions rather than straight from the keyboard.
+     * @param actions Actions of the current frame.
+     */
+    public void setActions(InputActions actions) {
+        this.actions = actions;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TicketComponent ticket = tickets.get(entity);
+        if (ticket.collected) {
+            return;
+        }
+        float distance = player.getPosition().dst(positions.get(entity).position);
+        ticket.inReach = distance < reach;
+        if (ticket.inReach) {
+            ticket.discovered = true;
+            if (actions.interact(entity, distance)) {
+                ticket.collected = true;
+                ticket.inReach = false;
+                if (gameEvents != null) {
+                    gameEvents.post(GameEvent.Type.TICKET_COLLECTED);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>TimeEffectComponent</code> adds time to, or takes time off, the game timer
+ * when the entity is triggered.
+ */
+public class TimeEffectComponent implements Component, Pool.Poolable {
+    /** Seconds added to the timer, negative to take time off. */
+    public float seconds;
+
+    @Override
+    public void reset() {
+        seconds = 0;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * NEW
+ *
+ * <code>TimeEffectSystem</code> changes the game timer by an entity's
+ * {@link TimeEffectComponent} when the entity is triggered.
+ */
+public class TimeEffectSystem extends IteratingSystem {
+    private final ComponentMapper<TriggerComponent> triggers = ComponentMapper.getFor(TriggerComponent.class);
+    private final ComponentMapper<TimeEffectComponent> effects = ComponentMapper.getFor(TimeEffectComponent.class);
+
+    private final GameTimer timer;
+
+    /**
+     * Constructor for <code>TimeEffectSystem</code>.
+     * @param timer Game timer time is added to and taken from.
+     */
+    public TimeEffectSystem(GameTimer timer) {
+        super(Family.all(TriggerComponent.class, TimeEffectComponent.class).get(), TriggerSystem.PRIORITY + 1);
+        this.timer = timer;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (triggers.get(entity).fired) {
+            timer.addTime(effects.get(entity).seconds);
+        }
+    }
+}
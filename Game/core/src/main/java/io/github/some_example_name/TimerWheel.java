@@ -0,0 +1,309 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>TimerWheel</code> runs every timed effect in the game off one clock, so events
+ * register when they want to be told time is up instead of counting down a float of
+ * their own every frame.
+ *
+ * <p>The wheel is advanced by the simulation's ticks, which makes timers stop whenever
+ * the simulation does, such as while paused, and expire on exactly the same tick when
+ * a game is replayed. A timer that has not expired costs nothing per tick.</p>
+ *
+ * <p>Timers are kept in a hierarchical wheel of {@value #LEVELS} levels of
+ * {@value #SLOTS} slots. The first level holds timers due within {@value #SLOTS} ticks,
+ * one slot per tick, and each level after it covers {@value #SLOTS} times as long with
+ * coarser slots. When the first level comes round, the next level's current slot is
+ * spread out over the level below, so scheduling and cancelling take constant time
+ * and a tick only touches the timers that are due. Timers live in flat, pooled arrays
+ * and are handed out as int handles, so scheduling one allocates nothing once the
+ * pool has grown to the number of timers running at once.</p>
+ */
+public class TimerWheel {
+    /** Told when a timer it was scheduled with expires. */
+    public interface Listener {
+        /**
+         * Called once, on the tick the timer expires. The timer is no longer active, and
+         * others can be scheduled or cancelled from here.
+         * @param timer Handle the timer was scheduled as.
+         * @param subject Object passed when it was scheduled.
+         */
+        void expired(int timer, Object subject);
+    }
+
+    /** Handle that never refers to a timer. */
+    public static final int NO_TIMER = 0;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+    // Timers further off than this wait in the last level and are spread out again later.
+    private static final long RANGE = 1L << (SLOT_BITS * LEVELS);
+    private static final int INDEX_BITS = 16;
+    private static final int MAX_TIMERS = 1 << INDEX_BITS;
+
+    private final float stepSeconds;
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private final int[] tails = new int[LEVELS * SLOTS];
+
+    // Timer i is active while handles[i] is not NO_TIMER; free timers are chained through next.
+    private int[] handles = new int[16];
+    private int[] generations = new int[16];
+    private long[] due = new long[16];
+    private int[] next = new int[16];
+    private int[] previous = new int[16];
+    private int[] buckets = new int[16];
+    private Listener[] listeners = new Listener[16];
+    private Object[] subjects = new Object[16];
+    private int free = -1;
+    private int used;
+    private int active;
+
+    private long now;
+    private double carried;
+
+    /** Constructor for <code>TimerWheel</code>, ticking at {@link Simulation#DEFAULT_STEP}. */
+    public TimerWheel() {
+        this(Simulation.DEFAULT_STEP);
+    }
+
+    /**
+     * Constructor for <code>TimerWheel</code>.
+     * @param stepSeconds Length of one tick, in seconds.
+     */
+    public TimerWheel(float stepSeconds) {
+        if (!(stepSeconds > 0f)) {
+            throw new IllegalArgumentException("Tick length must be positive");
+        }
+        this.stepSeconds = stepSeconds;
+        Arrays.fill(heads, -1);
+        Arrays.fill(tails, -1);
+    }
+
+    /**
+     * Schedule a timer for a number of seconds from now, rounded up to whole ticks.
+     * @param seconds How long until the timer expires, more than 0.
+     * @param listener Told when it expires.
+     * @param subject Passed back to the listener, such as the component the timer belongs to.
+     * @return Handle for cancelling or checking the timer.
+     * @throws IllegalArgumentException If the time is not positive and finite.
+     */
+    public int schedule(float seconds, Listener listener, Object subject) {
+        if (!(seconds > 0f) || seconds == Float.POSITIVE_INFINITY) {
+            throw new IllegalArgumentException("Timer length must be positive and finite, not " + seconds);
+        }
+        // Allow for float error, so 1 second is exactly 60 ticks and not 61.
+        return scheduleTicks(Math.max(1, (int) Math.ceil(seconds / stepSeconds - 1e-3)), listener, subject);
+    }
+
+    /**
+     * Schedule a timer for a number of ticks from now.
+     * @param ticks How many ticks until the timer expires, at least 1.
+     * @param listener Told when it expires.
+     * @param subject Passed back to the listener.
+     * @return Handle for cancelling or checking the timer.
+     * @throws IllegalStateException If {@value #MAX_TIMERS} timers are already running.
+     */
+    public int scheduleTicks(int ticks, Listener listener, Object subject) {
+        if (ticks < 1) {
+            throw new IllegalArgumentException("Timer length must be at least 1 tick, not " + ticks);
+        }
+        int timer = obtain();
+        due[timer] = now + ticks;
+        listeners[timer] = listener;
+        subjects[timer] = subject;
+        insert(timer);
+        return handles[timer];
+    }
+
+    /**
+     * Stop a timer before it expires. Its listener is not told.
+     * @param timer Handle returned when it was scheduled.
+     * @return True if the timer was still active.
+     */
+    public boolean cancel(int timer) {
+        int index = indexOf(timer);
+        if (index < 0) return false;
+        unlink(index);
+        release(index);
+        return true;
+    }
+
+    /**
+     * @param timer Handle returned when it was scheduled.
+     * @return True if the timer has neither expired nor been cancelled.
+     */
+    public boolean isActive(int timer) {
+        return indexOf(timer) >= 0;
+    }
+
+    /**
+     * @param timer Handle returned when it was scheduled.
+     * @return Ticks left before the timer expires, or 0 if it is not active.
+     */
+    public int getRemainingTicks(int timer) {
+        int index = indexOf(timer);
+        return index < 0 ? 0 : (int) (due[index] - now);
+    }
+
+    /**
+     * @param timer Handle returned when it was scheduled.
+     * @return Seconds left before the timer expires, or 0 if it is not active.
+     */
+    public float getRemaining(int timer) {
+        return getRemainingTicks(timer) * stepSeconds;
+    }
+
+    /**
+     * Move the clock on by a length of time, running every tick it covers. Time left
+     * over from a part of a tick is carried to the next call.
+     * @param seconds Time passed.
+     */
+    public void advance(float seconds) {
+        carried += seconds;
+        // Allow for float error, so a step of exactly one tick always runs it.
+        long ticks = (long) Math.floor(carried / stepSeconds + 1e-3);
+        carried = Math.max(0.0, carried - ticks * (double) stepSeconds);
+        for (long i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /** Move the clock on by one tick, telling the listener of every timer that expires on it. */
+    public void tick() {
+        now++;
+        // Spread each level's current slot over the level below whenever the level below comes round.
+        for (int level = 1; level < LEVELS && (now & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++) {
+            int bucket = level * SLOTS + (int) ((now >>> (SLOT_BITS * level)) & (SLOTS - 1));
+            int index = heads[bucket];
+            heads[bucket] = -1;
+            tails[bucket] = -1;
+            while (index >= 0) {
+                int following = next[index];
+                insert(index);
+                index = following;
+            }
+        }
+        int bucket = (int) (now & (SLOTS - 1));
+        while (heads[bucket] >= 0) {
+            int index = heads[bucket];
+            unlink(index);
+            int timer = handles[index];
+            Listener listener = listeners[index];
+            Object subject = subjects[index];
+            release(index);
+            listener.expired(timer, subject);
+        }
+    }
+
+    /** @return Ticks the clock has run. */
+    public long getTickCount() {
+        return now;
+    }
+
+    /** @return Length of one tick, in seconds. */
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /** @return Number of timers that have neither expired nor been cancelled. */
+    public int getActiveCount() {
+        return active;
+    }
+
+    /** Cancel every timer. The clock keeps its time. */
+    public void clear() {
+        for (int index = 0; index < used; index++) {
+            if (handles[index] != NO_TIMER) {
+                release(index);
+            }
+        }
+        Arrays.fill(heads, -1);
+        Arrays.fill(tails, -1);
+    }
+
+    private void insert(int index) {
+        long delta = due[index] - now;
+        long when = delta < RANGE ? due[index] : now + RANGE - 1;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int bucket = level * SLOTS + (int) ((when >>> (SLOT_BITS * level)) & (SLOTS - 1));
+        // Added at the back, so timers due on the same tick expire in the order they were scheduled.
+        buckets[index] = bucket;
+        next[index] = -1;
+        previous[index] = tails[bucket];
+        if (tails[bucket] >= 0) {
+            next[tails[bucket]] = index;
+        } else {
+            heads[bucket] = index;
+        }
+        tails[bucket] = index;
+    }
+
+    private void unlink(int index) {
+        int bucket = buckets[index];
+        if (previous[index] >= 0) {
+            next[previous[index]] = next[index];
+        } else {
+            heads[bucket] = next[index];
+        }
+        if (next[index] >= 0) {
+            previous[next[index]] = previous[index];
+        } else {
+            tails[bucket] = previous[index];
+        }
+    }
+
+    private int obtain() {
+        int index;
+        if (free >= 0) {
+            index = free;
+            free = next[index];
+        } else {
+            if (used == handles.length) {
+                grow();
+            }
+            index = used++;
+        }
+        // Each reuse of a slot gets a new handle, so handles of expired timers stay dead.
+        int generation = generations[index] % (Integer.MAX_VALUE >>> INDEX_BITS) + 1;
+        generations[index] = generation;
+        handles[index] = generation << INDEX_BITS | index;
+        active++;
+        return index;
+    }
+
+    private void release(int index) {
+        handles[index] = NO_TIMER;
+        listeners[index] = null;
+        subjects[index] = null;
+        next[index] = free;
+        free = index;
+        active--;
+    }
+
+    private int indexOf(int timer) {
+        int index = timer & (MAX_TIMERS - 1);
+        return timer != NO_TIMER && index < used && handles[index] == timer ? index : -1;
+    }
+
+    private void grow() {
+        if (handles.length == MAX_TIMERS) {
+            throw new IllegalStateException("More than " + MAX_TIMERS + " timers are running");
+        }
+        int size = handles.length * 2;
+        handles = Arrays.copyOf(handles, size);
+        generations = Arrays.copyOf(generations, size);
+        due = Arrays.copyOf(due, size);
+        next = Arrays.copyOf(next, size);
+        previous = Arrays.copyOf(previous, size);
+        buckets = Arrays.copyOf(buckets, size);
+        listeners = Arrays.copyOf(listeners, size);
+        subjects = Arrays.copyOf(subjects, size);
+    }
+}
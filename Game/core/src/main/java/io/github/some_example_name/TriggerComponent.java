@@ -0,0 +1,45 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * NEW
+ *
+ * <code>TriggerComponent</code> sets an entity off when the player reaches it: either
+ * by walking into its {@link #bounds}, or by pressing E within {@link #range} of it.
+ *
+ * <p>{@link TriggerSystem} sets {@link #fired} for the one update the trigger goes
+ * off in, and the effect systems that run after it react to that.</p>
+ */
+public class TriggerComponent implements Component, Pool.Poolable {
+    /** Area the player walks into, for triggers that are not interacted with. */
+    public final Rectangle bounds = new Rectangle();
+    /** Whether the trigger needs E pressed within {@link #range} instead of a touch. */
+    public boolean interact;
+    /** Distance from the entity's position the player must be within to interact. */
+    public float range;
+    /** Whether the trigger can only go off once. */
+    public boolean once = true;
+    /** Whether the entity's sprite stops being drawn once the trigger has gone off. */
+    public boolean hideWhenTriggered;
+    /** Whether the trigger has ever gone off. */
+    public boolean triggered;
+    /** Whether the trigger went off in the current update. */
+    public boolean fired;
+    /** Handle of the trigger's volume in {@link TriggerVolumes}, or -1 before it has one. */
+    public int volume = -1;
+
+    @Override
+    public void reset() {
+        bounds.set(0, 0, 0, 0);
+        interact = false;
+        range = 0;
+        once = true;
+        hideWhenTriggered = false;
+        triggered = false;
+        fired = false;
+        volume = -1;
+    }
+}
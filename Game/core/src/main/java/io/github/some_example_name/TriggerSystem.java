@@ -0,0 +1,172 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * EXTENDED
+ *
+ * <code>TriggerSystem</code> checks entities with a {@link TriggerComponent} against
+ * the player, and marks the ones that go off this update as
+ * {@link TriggerComponent#fired fired}. It runs before the effect systems, which
+ * only read that flag.
+ *
+ * <p>Every trigger is added to a {@link TriggerVolumes} index when its entity joins
+ * the engine: a touch trigger as its bounds, and an interact trigger as the square
+ * around it that its range fits in. Each update moves the player's box through the
+ * index, so only triggers around the player are looked at, and one shot triggers are
+ * put to sleep once they have gone off.</p>
+ */
+public class TriggerSystem extends EntitySystem implements EntityListener, TriggerVolumes.Listener {
+    /** Priority of the system; effect systems run after it. */
+    public static final int PRIORITY = 0;
+
+    private static final Family FAMILY = Family.all(PositionComponent.class, TriggerComponent.class).get();
+
+    private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<TriggerComponent> triggers = ComponentMapper.getFor(TriggerComponent.class);
+    private final ComponentMapper<SpriteComponent> sprites = ComponentMapper.getFor(SpriteComponent.class);
+    private final ComponentMapper<EventComponent> events = ComponentMapper.getFor(EventComponent.class);
+
+    private final Player player;
+    private final TriggerVolumes volumes;
+    // Entity of each volume, by handle, and the triggers that went off last update.
+    private final Array<Entity> volumeEntities = new Array<>();
+    private final Array<TriggerComponent> fired = new Array<>();
+    private final Rectangle area = new Rectangle();
+    private GameEvents gameEvents;
+    private InputActions actions = InputActions.GDX;
+
+    /**
+     * Constructor for <code>TriggerSystem</code>.
+     * @param player Player who sets the triggers off.
+     * @param volumes Index the triggers are added to, and the player moved through.
+     */
+    public TriggerSystem(Player player, TriggerVolumes volumes) {
+        super(PRIORITY);
+        this.player = player;
+        this.volumes = volumes;
+    }
+
+    /**
+     * Post a {@link GameEvent.Type#MAP_EVENT} the first time each event's trigger goes off.
+     * @param gameEvents Bus to post on, or null to post nothing.
+     */
+    public void setGameEvents(GameEvents gameEvents) {
+        this.gameEvents = gameEvents;
+    }
+
+    /**
+     * NEW
+     *
+     * Read the interact key from the screen's actions, so an interact trigger only
+     * goes off when it is the nearest thing in reach.
+     * @param actions Actions of the current frame.
+     */
+    public void setActions(InputActions actions) {
+        this.actions = actions;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(FAMILY, this);
+        for (Entity entity : engine.getEntitiesFor(FAMILY)) {
+            entityAdded(entity);
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        TriggerComponent trigger = triggers.get(entity);
+        if (trigger.interact) {
+            Vector2 position = positions.get(entity).position;
+            area.set(position.x - trigger.range, position.y - trigger.range, trigger.range * 2, trigger.range * 2);
+        } else {
+            area.set(trigger.bounds);
+        }
+        // Interact triggers sleep themselves once used, as standing in range is not enough.
+        trigger.volume = volumes.add(area, trigger.once && !trigger.interact, this);
+        volumeEntities.add(entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        TriggerComponent trigger = triggers.get(entity);
+        if (trigger.volume >= 0) {
+            volumes.sleep(trigger.volume);
+            volumeEntities.set(trigger.volume, null);
+        }
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int i = 0; i < fired.size; i++) {
+            fired.get(i).fired = false;
+        }
+        fired.clear();
+        Vector2 position = player.getPosition();
+        volumes.update(position.x, position.y, Player.SIZE, Player.SIZE);
+    }
+
+    @Override
+    public void enter(int volume) {
+        Entity entity = volumeEntities.get(volume);
+        if (entity == null) {
+            return;
+        }
+        if (triggers.get(entity).interact) {
+            stay(volume);
+        } else {
+            fire(entity);
+        }
+    }
+
+    @Override
+    public void stay(int volume) {
+        Entity entity = volumeEntities.get(volume);
+        if (entity == null) {
+            return;
+        }
+        TriggerComponent trigger = triggers.get(entity);
+        if (!trigger.interact) {
+            return;
+        }
+        float distance = player.getPosition().dst(positions.get(entity).position);
+        if (distance < trigger.range && actions.interact(trigger, distance)) {
+            fire(entity);
+            if (trigger.once) {
+                volumes.sleep(volume);
+            }
+        }
+    }
+
+    private void fire(Entity entity) {
+        TriggerComponent trigger = triggers.get(entity);
+        boolean first = !trigger.triggered;
+        trigger.fired = true;
+        trigger.triggered = true;
+        fired.add(trigger);
+        EventComponent event = events.get(entity);
+        if (first && gameEvents != null && event != null) {
+            GameEvent posted = gameEvents.obtain(GameEvent.Type.MAP_EVENT);
+            posted.definition = event.definition;
+            gameEvents.post(posted);
+        }
+        SpriteComponent sprite = sprites.get(entity);
+        if (trigger.hideWhenTriggered && sprite != null) {
+            sprite.visible = false;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * NEW
+ *
+ * <code>TriggerVolumes</code> indexes the areas events are triggered in, so finding
+ * the ones the player is standing in only looks at the player's surroundings instead
+ * of every event on the map.
+ *
+ * <p>Each volume is a rectangle added to every {@link #CELL_SIZE} pixel grid cell it
+ * covers. {@link #update(float, float, float, float)} checks the volumes in the cells
+ * under the player against the player's box, and tells each volume's {@link Listener}
+ * when the player enters, stays in and leaves it. A volume that is put to sleep, as
+ * one shot volumes are after they are entered, is taken out of its cells and costs
+ * nothing from then on.</p>
+ */
+public class TriggerVolumes {
+    /** Width and height of a grid cell, in pixels. */
+    public static final int CELL_SIZE = 64;
+
+    /** Told when the player enters, stays in or leaves a volume. */
+    public interface Listener {
+        /**
+         * Called on the update the player's box starts overlapping the volume.
+         * @param volume Handle of the volume.
+         */
+        void enter(int volume);
+
+        /**
+         * Called on every later update the player's box still overlaps the volume.
+         * @param volume Handle of the volume.
+         */
+        default void stay(int volume) {}
+
+        /**
+         * Called on the update the player's box stops overlapping the volume. Not
+         * called for volumes put to sleep while the player is in them.
+         * @param volume Handle of the volume.
+         */
+        default void exit(int volume) {}
+    }
+
+    private final LongMap<IntArray> cells = new LongMap<>();
+    private final Array<Rectangle> areas = new Array<>();
+    private final Array<Listener> listeners = new Array<>();
+    private final Rectangle box = new Rectangle();
+    private boolean[] oneShot = new boolean[16];
+    private boolean[] asleep = new boolean[16];
+    private boolean[] inside = new boolean[16];
+    private int[] seen = new int[16];
+    private int stamp;
+
+    // Volumes the player is in, and a copy of them for calling back while it changes.
+    private final IntArray occupied = new IntArray();
+    private final IntArray calling = new IntArray();
+    private final IntArray entered = new IntArray();
+
+    /**
+     * Add a volume to the index.
+     * @param area Area the player triggers the volume in. Copied, so later changes to it are ignored.
+     * @param oneShot True to put the volume to sleep as soon as it is entered.
+     * @param listener Told when the player enters, stays in or leaves the volume.
+     * @return Handle of the volume.
+     */
+    public int add(Rectangle area, boolean oneShot, Listener listener) {
+        int volume = areas.size;
+        areas.add(new Rectangle(area));
+        listeners.add(listener);
+        if (volume == inside.length) {
+            int capacity = volume * 2;
+            this.oneShot = Arrays.copyOf(this.oneShot, capacity);
+            asleep = Arrays.copyOf(asleep, capacity);
+            inside = Arrays.copyOf(inside, capacity);
+            seen = Arrays.copyOf(seen, capacity);
+        }
+        this.oneShot[volume] = oneShot;
+        asleep[volume] = false;
+        inside[volume] = false;
+        seen[volume] = 0;
+
+        Rectangle stored = areas.get(volume);
+        for (int cy = cell(stored.y); cy <= cell(stored.y + stored.height); cy++) {
+            for (int cx = cell(stored.x); cx <= cell(stored.x + stored.width); cx++) {
+                long key = key(cx, cy);
+                IntArray cell = cells.get(key);
+                if (cell == null) {
+                    cell = new IntArray(4);
+                    cells.put(key, cell);
+                }
+                cell.add(volume);
+            }
+        }
+        return volume;
+    }
+
+    /**
+     * Check the volumes around the player's box, and call back the ones entered, stayed
+     * in and left since the last update. Leaving is reported first, then entering,
+     * then staying.
+     * @param x Horizontal position of the player's box.
+     * @param y Vertical position of the player's box.
+     * @param width Width of the player's box.
+     * @param height Height of the player's box.
+     */
+    public void update(float x, float y, float width, float height) {
+        box.set(x, y, width, height);
+        stamp++;
+        entered.clear();
+        for (int cy = cell(y); cy <= cell(y + height); cy++) {
+            for (int cx = cell(x); cx <= cell(x + width); cx++) {
+                IntArray cell = cells.get(key(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    int volume = cell.get(i);
+                    if (seen[volume] == stamp) {
+                        continue; // Spans more than one of the player's cells.
+                    }
+                    seen[volume] = stamp;
+                    if (areas.get(volume).overlaps(box) && !inside[volume]) {
+                        entered.add(volume);
+                    }
+                }
+            }
+        }
+
+        // Anything occupied that was not seen overlapping this time has been left.
+        calling.clear();
+        calling.addAll(occupied);
+        for (int i = 0; i < calling.size; i++) {
+            int volume = calling.get(i);
+            if (seen[volume] != stamp || !areas.get(volume).overlaps(box)) {
+                inside[volume] = false;
+                occupied.removeValue(volume);
+                listeners.get(volume).exit(volume);
+            }
+        }
+
+        for (int i = 0; i < entered.size; i++) {
+            int volume = entered.get(i);
+            if (asleep[volume]) {
+                continue; // Put to sleep by an earlier callback.
+            }
+            inside[volume] = true;
+            occupied.add(volume);
+            if (oneShot[volume]) {
+                sleep(volume);
+            }
+            listeners.get(volume).enter(volume);
+        }
+
+        calling.clear();
+        calling.addAll(occupied);
+        for (int i = 0; i < calling.size; i++) {
+            int volume = calling.get(i);
+            if (inside[volume] && !entered.contains(volume)) {
+                listeners.get(volume).stay(volume);
+            }
+        }
+    }
+
+    /**
+     * Put a volume to sleep, taking it out of the index so it is never called back again.
+     * @param volume Handle of the volume.
+     */
+    public void sleep(int volume) {
+        if (asleep[volume]) {
+            return;
+        }
+        asleep[volume] = true;
+        if (inside[volume]) {
+            inside[volume] = false;
+            occupied.removeValue(volume);
+        }
+        Rectangle area = areas.get(volume);
+        for (int cy = cell(area.y); cy <= cell(area.y + area.height); cy++) {
+            for (int cx = cell(area.x); cx <= cell(area.x + area.width); cx++) {
+                IntArray cell = cells.get(key(cx, cy));
+                if (cell != null) {
+                    cell.removeValue(volume);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wake a volume put to sleep, putting it back in the index. The player counts as
+     * outside it until the next update.
+     * @param volume Handle of the volume.
+     */
+    public void wake(int volume) {
+        if (!asleep[volume]) {
+            return;
+        }
+        asleep[volume] = false;
+        Rectangle area = areas.get(volume);
+        for (int cy = cell(area.y); cy <= cell(area.y + area.height); cy++) {
+            for (int cx = cell(area.x); cx <= cell(area.x + area.width); cx++) {
+                cells.get(key(cx, cy)).add(volume);
+            }
+        }
+    }
+
+    /**
+     * Return whether a volume has been put to sleep.
+     * @param volume Handle of the volume.
+     * @return True if the volume is no longer in the index.
+     */
+    public boolean isAsleep(int volume) {
+        return asleep[volume];
+    }
+
+    /**
+     * Return whether the player was in a volume at the last update.
+     * @param volume Handle of the volume.
+     * @return True if the player's box overlapped the awake volume.
+     */
+    public boolean isInside(int volume) {
+        return inside[volume];
+    }
+
+    /**
+     * Write which volumes are asleep and which the player is in to a snapshot.
+     * @param out Buffer to write to.
+     */
+    public void writeState(ByteBuffer out) {
+        out.putShort((short) areas.size);
+        for (int volume = 0; volume < areas.size; volume++) {
+            out.put((byte) ((asleep[volume] ? 1 : 0) | (inside[volume] ? 2 : 0)));
+        }
+    }
+
+    /**
+     * Read back state written by {@link #writeState(ByteBuffer)}, waking volumes that
+     * were awake then. The same volumes must have been added in the same order as when
+     * it was written.
+     * @param in Buffer to read from.
+     * @throws IllegalArgumentException If the snapshot has a different number of volumes.
+     */
+    public void readState(ByteBuffer in) {
+        int saved = in.getShort();
+        if (saved != areas.size) {
+            throw new IllegalArgumentException("Snapshot has " + saved + " trigger volumes, not " + areas.size);
+        }
+        occupied.clear();
+        for (int volume = 0; volume < saved; volume++) {
+            int flags = in.get();
+            inside[volume] = false;
+            if ((flags & 1) != 0) {
+                sleep(volume);
+                continue;
+            }
+            wake(volume);
+            if ((flags & 2) != 0) {
+                inside[volume] = true;
+                occupied.add(volume);
+            }
+        }
+    }
+
+    /** @return Number of volumes added, awake or asleep. */
+    public int size() {
+        return areas.size;
+    }
+
+    /**
+     * Return how many volumes are indexed in the cell holding a point, for checking
+     * how crowded the player's surroundings are.
+     * @param x Horizontal position of the point.
+     * @param y Vertical position of the point.
+     * @return Number of awake volumes touching the cell.
+     */
+    public int countNear(float x, float y) {
+        IntArray cell = cells.get(key(cell(x), cell(y)));
+        return cell == null ? 0 : cell.size;
+    }
+
+    /** Remove every volume. Handles given out before are no longer valid. */
+    public void clear() {
+        cells.clear();
+        areas.clear();
+        listeners.clear();
+        occupied.clear();
+    }
+
+    private static int cell(float position) {
+        return (int) Math.floor(position / CELL_SIZE);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
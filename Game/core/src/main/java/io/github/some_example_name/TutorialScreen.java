@@ -71,10 +71,10 @@ public class TutorialScreen implements Screen {
         batch.end();
 
         //once space bar is pressed load the maze game
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (game.getMenuInput().isKeyJustPressed(Input.Keys.SPACE)) {
             // MODIFIED: Changed transition to NameScreen instead of GameScreen
             game.setScreen(new NameScreen(game));
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        } else if (game.getMenuInput().isKeyJustPressed(Input.Keys.ESCAPE)) {
             Gdx.app.exit(); //user can go back to the start menu if they choose
         }
     }
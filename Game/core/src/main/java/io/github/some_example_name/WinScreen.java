@@ -93,13 +93,13 @@ public class WinScreen implements Screen {
         font.draw(batch, "Press Esc to QUIT", 100, 70);
 		batch.end();
 
-		if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+		if (game.getMenuInput().isKeyJustPressed(Input.Keys.SPACE)) {
 		    game.setScreen(new LeaderboardScreen(game));
 		}
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
+        if (game.getMenuInput().isKeyJustPressed(Input.Keys.ENTER)) {
             game.setScreen(new MenuScreen(game));
         }
-        else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        else if (game.getMenuInput().isKeyJustPressed(Input.Keys.ESCAPE)) {
             Gdx.app.exit();
         }
 	}
@@ -0,0 +1,163 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.GL20;
+import org.mockito.Mockito;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AllocationProbe measures how many bytes a piece of gameplay allocates once warmed up,
+ * in a JVM of its own. Mockito's inline mocks instrument every class mocked anywhere in
+ * the test run, such as Player, and the instrumentation itself allocates, so the
+ * measurement cannot share the JVM the tests run in.
+ *
+ * <p>Every run is measured and the worst is reported, so something that only allocates
+ * now and then still shows up.</p>
+ *
+ * <p>The JVM compiles with C1 only. C1 never removes an allocation by escape analysis,
+ * so the code has to allocate nothing rather than rely on the JIT. C2 is left out
+ * because queueing a method for it resolves every string constant in that class on the
+ * calling thread, which adds a few strings to whichever run a compile lands in.</p>
+ */
+public class AllocationProbe {
+    /** Steps run before measuring, so everything has been compiled. */
+    public static final int WARM_UP = 6000;
+    /** Steps in each measured run. */
+    public static final int MEASURED = 2000;
+    /** Measured runs, one after another. */
+    public static final int RUNS = 4;
+    // Length of a frame at 60 frames a second.
+    private static final float FRAME = 1f / 60f;
+
+    /**
+     * Run a scenario in a new JVM and return what it allocated.
+     * @param scenario "simulation", "events" or "frame".
+     * @return Most bytes allocated in any one of the {@link #RUNS} runs of {@link #MEASURED}
+     *         warm ticks or frames.
+     * @throws IOException If the JVM cannot be started or fails.
+     * @throws InterruptedException If interrupted while waiting for it.
+     */
+    public static long measure(String scenario) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-XX:TieredStopAtLevel=1", "-cp", System.getProperty("java.class.path"),
+            AllocationProbe.class.getName(), scenario).redirectErrorStream(true).start();
+        StringBuilder output = new StringBuilder();
+        long allocated = -1;
+        int runs = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append('\n');
+                if (line.startsWith("allocated ")) {
+                    allocated = Math.max(allocated, Long.parseLong(line.substring("allocated ".length())));
+                    runs++;
+                }
+            }
+        }
+        if (process.waitFor() != 0 || runs < RUNS) {
+            throw new IOException("Allocation probe failed:\n" + output);
+        }
+        return allocated;
+    }
+
+    public static void main(String[] args) {
+        // The same headless set up as TestHelper.
+        Gdx.gl = Mockito.mock(GL20.class);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        HeadlessLauncher.main(new String[0]);
+        Gdx.input = Mockito.mock(Input.class);
+        Runnable step;
+        switch (args[0]) {
+            case "simulation": {
+                ScriptedInput input = new ScriptedInput();
+                Simulation simulation = Simulation.createHeadless(input, 12L);
+                simulation.spawnSecondDean();
+                int[] keys = {Input.Keys.W, Input.Keys.D, Input.Keys.S, Input.Keys.A};
+                int[] tick = {0};
+                step = () -> {
+                    // Walks a square, changing direction every two seconds.
+                    for (int key : keys) {
+                        input.release(key);
+                    }
+                    input.press(keys[tick[0]++ / 120 % keys.length]);
+                    simulation.tick(Simulation.DEFAULT_STEP);
+                };
+                break;
+            }
+            case "events": {
+                Player player = new Player(100, 400, false);
+                MapEvents events = new MapEvents(player, null, new RandomStreams(5));
+                events.spawnAll();
+                int[] frame = {0};
+                step = () -> {
+                    player.getPosition().set(100 + frame[0]++ % 200, 400);
+                    events.update(0.016f);
+                };
+                break;
+            }
+            case "frame": {
+                // The game's side of GameScreen.render(): the session's ticks with every
+                // event and the quiz, its snapshot and the rewind frame.
+                // A whole game first, so that every event, the quiz and the end of the game
+                // have all run once before the measured game warms up.
+                GameScreen practice = screenWithoutGraphics(5L);
+                while (practice.getSession().getOutcome() == GameSession.Outcome.PLAYING) {
+                    practice.tickWorld(FRAME);
+                }
+                GameScreen screen = screenWithoutGraphics(5L);
+                step = () -> {
+                    if (screen.getSession().getOutcome() != GameSession.Outcome.PLAYING) {
+                        throw new IllegalStateException("The game ended before the measuring did");
+                    }
+                    screen.tickWorld(FRAME);
+                };
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown scenario " + args[0]);
+        }
+
+        for (int i = 0; i < WARM_UP; i++) {
+            step.run();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().getId();
+        for (int run = 0; run < RUNS; run++) {
+            long before = threads.getThreadAllocatedBytes(id);
+            for (int i = 0; i < MEASURED; i++) {
+                step.run();
+            }
+            System.out.println("allocated " + (threads.getThreadAllocatedBytes(id) - before));
+        }
+        System.exit(0);
+    }
+
+    // A GameScreen that runs its frames without drawing them. The autopilot goes round
+    // every event twice and picks up the ticket but never boards the bus, so the game
+    // lasts until time runs out.
+    private static GameScreen screenWithoutGraphics(long seed) {
+        Autopilot autopilot = new Autopilot();
+        for (int lap = 0; lap < 2; lap++) {
+            for (EventDefinition event : EventDefinition.ALL) {
+                autopilot.addWaypoint(event.getSpawnX(), event.getSpawnY(), Input.Keys.E);
+            }
+            autopilot.addMapWaypoint("Questionnaire", Input.Keys.E, Input.Keys.C);
+            autopilot.addMapWaypoint("Materials", Input.Keys.E);
+            autopilot.addMapWaypoint("Water1");
+        }
+        autopilot.addMapWaypoint("BusTicket", Input.Keys.E);
+        GameSession session = GameSession.createHeadless(autopilot, seed);
+        // Planned and recorded as GameScreen plays a new game.
+        session.getSimulation().getPursuitPlanner().setBackgroundPlanning(true);
+        session.getSimulation().getPursuitPlanner().setLockstep(true);
+        session.getSimulation().startRecording(new InputRecording(seed, 0, InputRecording.FLAG_BACKGROUND_PLANNING));
+        return new GameScreen(null, session);
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Autopilot class.
+ * Tests the bot player driving a headless simulation: walking the route to the bus,
+ * pressing keys on arrival, finding its way back after being moved, getting as close
+ * as it can to places behind walls, and giving up on waypoints that take too long.
+ * Automated: playGame(), addWaypoint(), attach(), update(), beginTick()
+ * Manual testing required: AutopilotGame driving the windowed game through every screen
+ */
+@DisplayName("Autopilot Tests")
+public class AutopilotTest extends TestHelper {
+
+    private static final int GAME_TICKS = Math.round(Score.GAME_LENGTH_SECONDS / Simulation.DEFAULT_STEP);
+
+    //Test #1: with the deans out of the way the autopilot picks up the ticket and reaches the bus
+    @Test
+    @DisplayName("Autopilot walks to the ticket and then the bus")
+    public void testPlaysToTheBus() {
+        Autopilot autopilot = Autopilot.playGame(false);
+        Simulation simulation = Simulation.createHeadless(autopilot, 3L);
+        simulation.freezeAllDeans(Score.GAME_LENGTH_SECONDS);
+        Rectangle ticket = eventArea(simulation, "BusTicket");
+        Rectangle bus = eventArea(simulation, "Bus");
+
+        boolean pickedUpTicket = false;
+        boolean boardedBus = false;
+        for (int tick = 0; tick < GAME_TICKS && !autopilot.isRouteFinished(); tick++) {
+            simulation.tick(Simulation.DEFAULT_STEP);
+            Vector2 position = simulation.getPlayer().getPosition();
+            if (autopilot.isKeyPressed(Input.Keys.E)) {
+                pickedUpTicket |= position.dst(ticket.x, ticket.y) < 16;
+                boardedBus |= pickedUpTicket && bus.overlaps(new Rectangle(position.x, position.y, 16, 16));
+            }
+        }
+
+        assertTrue(autopilot.isRouteFinished(), "Route should be finished within a game");
+        assertEquals(2, autopilot.getWaypointCount());
+        assertEquals(2, autopilot.getReachedCount());
+        assertEquals(0, autopilot.getSkippedCount());
+        assertTrue(pickedUpTicket, "E should be pressed next to the ticket");
+        assertTrue(boardedBus, "E should be pressed inside the bus area after the ticket");
+        simulation.dispose();
+    }
+
+    //Test #2: each interact key is pressed once on arrival, letting go in between
+    @Test
+    @DisplayName("Interact keys are pressed once each on arrival")
+    public void testInteractKeys() {
+        Autopilot autopilot = new Autopilot();
+        autopilot.addWaypoint(Simulation.PLAYER_START_X, Simulation.PLAYER_START_Y - 32, Input.Keys.E, Input.Keys.C);
+        IntArray pressed = new IntArray();
+        // Watch the keys between the autopilot choosing them and the world reading them.
+        InputSource watcher = new InputSource() {
+            @Override
+            public void beginTick(Simulation simulation) {
+                autopilot.beginTick(simulation);
+                if (autopilot.isKeyJustPressed(Input.Keys.E)) pressed.add(Input.Keys.E);
+                if (autopilot.isKeyJustPressed(Input.Keys.C)) {
+                    pressed.add(Input.Keys.C);
+                    assertFalse(autopilot.isKeyPressed(Input.Keys.E), "E should be let go before C");
+                }
+            }
+
+            @Override
+            public boolean isKeyPressed(int key) {
+                return autopilot.isKeyPressed(key);
+            }
+
+            @Override
+            public boolean isKeyJustPressed(int key) {
+                return autopilot.isKeyJustPressed(key);
+            }
+
+            @Override
+            public void endTick() {
+                autopilot.endTick();
+            }
+        };
+        Simulation simulation = Simulation.createHeadless(watcher, 5L);
+        simulation.freezeAllDeans(Score.GAME_LENGTH_SECONDS);
+
+        for (int tick = 0; tick < 600 && !autopilot.isRouteFinished(); tick++) {
+            simulation.tick(Simulation.DEFAULT_STEP);
+        }
+
+        assertEquals(2, pressed.size);
+        assertEquals(Input.Keys.E, pressed.get(0));
+        assertEquals(Input.Keys.C, pressed.get(1));
+        assertEquals(1, autopilot.getReachedCount());
+        assertEquals(Simulation.PLAYER_START_Y - 32, simulation.getPlayer().getPosition().y, NavigationGrid.TILE_SIZE);
+        simulation.dispose();
+    }
+
+    //Test #3: moving the player mid-route, as a catch does, makes the autopilot plan again from there
+    @Test
+    @DisplayName("Autopilot finds its way after the player is moved")
+    public void testReplansAfterMove() {
+        Autopilot autopilot = new Autopilot();
+        autopilot.addWaypoint(Simulation.PLAYER_START_X, Simulation.PLAYER_START_Y + 48);
+        Simulation simulation = Simulation.createHeadless(autopilot, 9L);
+        simulation.freezeAllDeans(Score.GAME_LENGTH_SECONDS);
+
+        simulation.run(5);
+        simulation.getPlayer().getPosition().set(300, 120);
+        simulation.run(GAME_TICKS / 4);
+
+        assertTrue(autopilot.isRouteFinished(), "Waypoint should still be reached");
+        assertEquals(1, autopilot.getReachedCount());
+        simulation.dispose();
+    }
+
+    //Test #4: a waypoint outside the walls counts once the player is as close as it can get
+    @Test
+    @DisplayName("Unreachable waypoints are approached as closely as possible")
+    public void testApproachesUnreachable() {
+        Autopilot autopilot = new Autopilot();
+        autopilot.addWaypoint(-500, 180, Input.Keys.E);
+        Simulation simulation = Simulation.createHeadless(autopilot, 11L);
+        simulation.freezeAllDeans(Score.GAME_LENGTH_SECONDS);
+
+        simulation.run(GAME_TICKS / 2);
+
+        assertTrue(autopilot.isRouteFinished());
+        assertEquals(1, autopilot.getReachedCount());
+        assertTrue(simulation.getPlayer().getPosition().x < 2 * NavigationGrid.TILE_SIZE,
+            "Player should end up against the left edge of the map");
+        simulation.dispose();
+    }
+
+    //Test #5: a waypoint that takes longer than the timeout is skipped and the route goes on
+    @Test
+    @DisplayName("Waypoints that take too long are skipped")
+    public void testSkipsAfterTimeout() {
+        Autopilot autopilot = new Autopilot();
+        autopilot.addWaypoint(Simulation.PLAYER_START_X, Simulation.PLAYER_START_Y + 64);
+        autopilot.addWaypoint(Simulation.PLAYER_START_X, Simulation.PLAYER_START_Y);
+        Simulation simulation = Simulation.createHeadless(autopilot, 13L);
+        simulation.freezeAllDeans(Score.GAME_LENGTH_SECONDS);
+        simulation.setPlayerFrozen(true);
+
+        simulation.run(Math.round(Autopilot.WAYPOINT_TIMEOUT / Simulation.DEFAULT_STEP) + 60);
+
+        assertEquals(1, autopilot.getSkippedCount());
+        assertEquals(1, autopilot.getReachedCount(), "The player is already at the second waypoint");
+        assertTrue(autopilot.isRouteFinished());
+        simulation.dispose();
+    }
+
+    private static Rectangle eventArea(Simulation simulation, String name) {
+        return ((RectangleMapObject) simulation.getTiledMap().getLayers().get("Events").getObjects().get(name)).getRectangle();
+    }
+}
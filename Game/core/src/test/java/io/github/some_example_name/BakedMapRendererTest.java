@@ -0,0 +1,162 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for BakedMapRenderer class.
+ * Tests the map being cut into chunks, runs of static layers being baked once and only
+ * the chunks on screen being drawn, and chunks being baked again only when they change.
+ * Automated: setView(), render(), setCell(), markDirty(), markAllDirty(), isStatic(),
+ * and layers being shown or hidden
+ * Manual testing required: the baked map looking the same as the live one in game
+ */
+@DisplayName("BakedMapRenderer Tests")
+public class BakedMapRendererTest extends TestHelper {
+    private TiledMap map;
+    private StaticTiledMapTile grass;
+
+    @BeforeEach
+    public void setUpMap() {
+        // Buffers, shaders and frame buffers made against a mocked GL need to look made.
+        Gdx.gl = Gdx.gl20 = mock(GL20.class, invocation -> {
+            String method = invocation.getMethod().getName();
+            if (method.equals("glCheckFramebufferStatus")) {
+                return GL20.GL_FRAMEBUFFER_COMPLETE;
+            }
+            if (method.equals("glGetShaderiv") || method.equals("glGetProgramiv")) {
+                int name = invocation.getArgument(1);
+                ((IntBuffer) invocation.getArgument(2)).put(0, name == GL20.GL_COMPILE_STATUS || name == GL20.GL_LINK_STATUS ? 1 : 0);
+                return null;
+            }
+            if ((method.startsWith("glGen") || method.startsWith("glCreate")) && invocation.getMethod().getReturnType() == int.class) {
+                return 1;
+            }
+            return RETURNS_DEFAULTS.answer(invocation);
+        });
+
+        grass = new StaticTiledMapTile(new TextureRegion(mock(Texture.class), 0, 0, 16, 16));
+        map = new TiledMap();
+        map.getLayers().add(filledLayer(grass));
+        map.getLayers().add(filledLayer(grass));
+        map.getLayers().add(new MapLayer()); // events, which draw nothing
+        Array<StaticTiledMapTile> frames = new Array<>();
+        frames.add(grass);
+        frames.add(grass);
+        TiledMapTileLayer water = new TiledMapTileLayer(40, 40, 16, 16);
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(new AnimatedTiledMapTile(0.5f, frames));
+        water.setCell(3, 3, cell);
+        map.getLayers().add(water);
+        map.getLayers().add(filledLayer(grass));
+    }
+
+    private static TiledMapTileLayer filledLayer(StaticTiledMapTile tile) {
+        TiledMapTileLayer layer = new TiledMapTileLayer(40, 40, 16, 16);
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 40; x++) {
+                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+                cell.setTile(tile);
+                layer.setCell(x, y, cell);
+            }
+        }
+        return layer;
+    }
+
+    // A 160 by 160 view of the bottom left of the map, over four chunks of 8 tiles.
+    private static OrthographicCamera camera() {
+        OrthographicCamera camera = new OrthographicCamera(320, 320);
+        camera.zoom = 0.5f;
+        camera.position.set(160, 160, 0);
+        camera.update();
+        return camera;
+    }
+
+    //Test #1: static layers next to each other are baked together, and only the chunks on screen are looked at
+    @Test
+    @DisplayName("Map is cut into chunks and runs of layers")
+    public void testChunksAndPasses() {
+        BakedMapRenderer renderer = new BakedMapRenderer(map, 8);
+        assertEquals(5, renderer.getChunkColumns());
+        assertEquals(5, renderer.getChunkRows());
+        assertEquals(2, renderer.getChunkedPassCount(), "The animated layer should split the static ones");
+        assertEquals(1, renderer.getLivePassCount());
+        assertTrue(BakedMapRenderer.isStatic(map.getLayers().get(2)), "Object layers draw nothing, so need not split runs");
+        assertFalse(BakedMapRenderer.isStatic(map.getLayers().get(3)));
+
+        renderer.setView(camera());
+        assertEquals(4, renderer.getVisibleChunkCount());
+        OrthographicCamera far = camera();
+        far.position.set(5000, 5000, 0);
+        far.update();
+        renderer.setView(far);
+        assertEquals(0, renderer.getVisibleChunkCount(), "Nothing off the map should be drawn");
+        renderer.dispose();
+    }
+
+    //Test #2: chunks are baked the first time they are on screen, and only drawn after that
+    @Test
+    @DisplayName("Chunks are baked once and drawn as single quads")
+    public void testBakedOnce() {
+        BakedMapRenderer renderer = new BakedMapRenderer(map, 8);
+        renderer.setView(camera());
+        renderer.render();
+        assertEquals(8, renderer.getBuildCount(), "Four chunks on screen in each of two baked runs");
+        assertEquals(8, renderer.getDrawnChunkCount());
+        assertTrue(renderer.isDirty(4, 4), "Chunks never on screen should not be baked yet");
+        assertFalse(renderer.isDirty(1, 1));
+
+        for (int frame = 0; frame < 10; frame++) {
+            renderer.render();
+        }
+        assertEquals(8, renderer.getBuildCount(), "Nothing changed, so nothing should be baked again");
+        assertEquals(88, renderer.getDrawnChunkCount(), "Each frame should be one quad per chunk on screen");
+        renderer.dispose();
+    }
+
+    //Test #3: changing a cell bakes its chunk again, showing or hiding a layer bakes its whole run
+    @Test
+    @DisplayName("Only changed chunks are baked again")
+    public void testChangesBakedAgain() {
+        BakedMapRenderer renderer = new BakedMapRenderer(map, 8);
+        renderer.setView(camera());
+        renderer.render();
+
+        renderer.setCell((TiledMapTileLayer) map.getLayers().get(0), 12, 3, null);
+        assertNull(((TiledMapTileLayer) map.getLayers().get(0)).getCell(12, 3));
+        assertTrue(renderer.isDirty(1, 0));
+        assertFalse(renderer.isDirty(0, 0));
+        renderer.render();
+        assertEquals(9, renderer.getBuildCount(), "Only the chunk with the cell in its run should be baked");
+
+        renderer.markDirty(map.getLayers().get(3), 3, 3);
+        renderer.render();
+        assertEquals(9, renderer.getBuildCount(), "Layers drawn live are never baked");
+
+        map.getLayers().get(4).setVisible(false);
+        renderer.render();
+        assertEquals(13, renderer.getBuildCount(), "Hiding a layer should bake its run's chunks on screen");
+
+        renderer.markAllDirty();
+        renderer.render();
+        assertEquals(21, renderer.getBuildCount());
+        renderer.dispose();
+    }
+}
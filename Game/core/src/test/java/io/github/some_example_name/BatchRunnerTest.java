@@ -0,0 +1,101 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BatchRunner class.
+ * Tests playing whole headless games in parallel and streaming their results, and
+ * bots that board the bus being scored with their achievements.
+ * Automated: run(), runOne(), setBot(), seedFor(), Result.toLine(), Summary
+ * Manual testing required: the batch launcher writing a results file
+ */
+@DisplayName("BatchRunner Tests")
+public class BatchRunnerTest extends TestHelper {
+
+    //Test #1: every run is written once, after the header
+    @Test
+    @DisplayName("Batch writes one line per run")
+    public void testBatchWritesEveryRun() throws IOException {
+        BatchRunner runner = new BatchRunner(6, 3f, 11L);
+        runner.setThreads(3);
+        StringWriter out = new StringWriter();
+        BatchRunner.Summary summary = runner.run(out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(BatchRunner.HEADER, lines[0]);
+        assertEquals(7, lines.length);
+        Set<Integer> runs = new HashSet<>();
+        for (int i = 1; i < lines.length; i++) {
+            String[] columns = lines[i].split(",", -1);
+            assertEquals(12, columns.length, "Each line should have every column");
+            runs.add(Integer.parseInt(columns[0]));
+            assertEquals("PLAYING", columns[2], "A wandering player never reaches the bus");
+            // 3 seconds played leaves 4:57 on the clock before penalties.
+            assertEquals(297, Integer.parseInt(columns[3]));
+            assertTrue(Integer.parseInt(columns[4]) <= 457);
+        }
+        assertEquals(Set.of(0, 1, 2, 3, 4, 5), runs);
+        assertEquals(6, summary.runs);
+        assertTrue(summary.getRunsPerSecond() > 0);
+    }
+
+    //Test #2: a run's result does not depend on the thread that played it
+    @Test
+    @DisplayName("Runs are repeatable across threads")
+    public void testRunsRepeatable() throws IOException {
+        BatchRunner parallel = new BatchRunner(4, 2f, 5L);
+        parallel.setThreads(4);
+        StringWriter out = new StringWriter();
+        parallel.run(out);
+        Map<Integer, String> byRun = new HashMap<>();
+        String[] lines = out.toString().split("\n");
+        for (int i = 1; i < lines.length; i++) {
+            byRun.put(Integer.parseInt(lines[i].substring(0, lines[i].indexOf(','))), lines[i]);
+        }
+
+        BatchRunner serial = new BatchRunner(4, 2f, 5L);
+        for (int run = 0; run < 4; run++) {
+            assertEquals(byRun.get(run), serial.runOne(run).toLine());
+        }
+    }
+
+    //Test #3: run seeds differ and invalid settings are refused
+    @Test
+    @DisplayName("Seeds differ per run and settings are checked")
+    public void testSeedsAndArguments() {
+        assertNotEquals(BatchRunner.seedFor(1L, 0), BatchRunner.seedFor(1L, 1));
+        assertNotEquals(BatchRunner.seedFor(1L, 0), BatchRunner.seedFor(2L, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(-1, 1f, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(1, Score.GAME_LENGTH_SECONDS + 1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(1, 1f, 0L).setThreads(0));
+    }
+
+    //Test #4: a bot that boards the bus is scored like the win screen, with the game's events and achievements
+    @Test
+    @DisplayName("Runs play the whole game")
+    public void testWholeGame() {
+        BatchRunner bus = new BatchRunner(1, Score.GAME_LENGTH_SECONDS, 21L);
+        bus.setBot(BatchRunner.Bot.BUS);
+        BatchRunner.Result won = bus.runOne(0);
+        assertEquals(GameSession.Outcome.WON, won.outcome);
+        assertTrue(won.timeLeft > 0 && won.timeLeft < Score.GAME_LENGTH_SECONDS);
+        assertEquals(Math.max(0, won.score + Score.achievementBonus(won.achievements)), won.totalScore);
+        assertTrue(won.eventsFound >= 1, "The ticket should be found on the way");
+
+        BatchRunner allEvents = new BatchRunner(1, Score.GAME_LENGTH_SECONDS, 21L);
+        allEvents.setBot(BatchRunner.Bot.ALL_EVENTS);
+        BatchRunner.Result explored = allEvents.runOne(0);
+        assertTrue(explored.eventsFound > won.eventsFound, "Visiting every event should find more of them");
+        assertTrue(explored.achievements.size > 0);
+    }
+}
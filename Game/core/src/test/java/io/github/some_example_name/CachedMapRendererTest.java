@@ -0,0 +1,185 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for CachedMapRenderer class.
+ * Tests tiles being laid out exactly as the libGDX renderer lays them out, each chunk
+ * being uploaded once, and the cache staying in step with the number of tiles as
+ * chunks are built again.
+ * Automated: tileCorners(), render(), setCell(), markAllDirty(), getCapacity() and getUsed()
+ * Manual testing required: the cached map looking the same as the live one in game
+ */
+@DisplayName("CachedMapRenderer Tests")
+public class CachedMapRendererTest extends TestHelper {
+    private Texture texture;
+    private StaticTiledMapTile grass;
+
+    @BeforeEach
+    public void setUpGl() {
+        // Buffers, shaders and frame buffers made against a mocked GL need to look made.
+        Gdx.gl = Gdx.gl20 = mock(GL20.class, invocation -> {
+            String method = invocation.getMethod().getName();
+            if (method.equals("glGetShaderiv") || method.equals("glGetProgramiv")) {
+                int name = invocation.getArgument(1);
+                ((IntBuffer) invocation.getArgument(2)).put(0, name == GL20.GL_COMPILE_STATUS || name == GL20.GL_LINK_STATUS ? 1 : 0);
+                return null;
+            }
+            if ((method.startsWith("glGen") || method.startsWith("glCreate")) && invocation.getMethod().getReturnType() == int.class) {
+                return 1;
+            }
+            return RETURNS_DEFAULTS.answer(invocation);
+        });
+        texture = mock(Texture.class);
+        when(texture.getWidth()).thenReturn(64);
+        when(texture.getHeight()).thenReturn(64);
+        grass = new StaticTiledMapTile(new TextureRegion(texture, 16, 32, 16, 16));
+    }
+
+    private static TiledMapTileLayer filledLayer(StaticTiledMapTile tile) {
+        TiledMapTileLayer layer = new TiledMapTileLayer(40, 40, 16, 16);
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 40; x++) {
+                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+                cell.setTile(tile);
+                layer.setCell(x, y, cell);
+            }
+        }
+        return layer;
+    }
+
+    // Two static layers, an animated one drawn live, then another static layer.
+    private TiledMap map() {
+        TiledMap map = new TiledMap();
+        map.getLayers().add(filledLayer(grass));
+        map.getLayers().add(filledLayer(grass));
+        Array<StaticTiledMapTile> frames = new Array<>();
+        frames.add(grass);
+        frames.add(grass);
+        TiledMapTileLayer water = new TiledMapTileLayer(40, 40, 16, 16);
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(new AnimatedTiledMapTile(0.5f, frames));
+        water.setCell(3, 3, cell);
+        map.getLayers().add(water);
+        map.getLayers().add(filledLayer(grass));
+        return map;
+    }
+
+    // A 160 by 160 view of the bottom left of the map, over four chunks of 8 tiles.
+    private static OrthographicCamera camera() {
+        OrthographicCamera camera = new OrthographicCamera(320, 320);
+        camera.zoom = 0.5f;
+        camera.position.set(160, 160, 0);
+        camera.update();
+        return camera;
+    }
+
+    //Test #1: every flip and turn of a tile gives the same corners the libGDX renderer draws
+    @Test
+    @DisplayName("Tiles are laid out as the libGDX renderer lays them out")
+    public void testSameCornersAsLibgdx() {
+        for (int flips = 0; flips < 4; flips++) {
+            for (int rotation = 0; rotation < 4; rotation++) {
+                TiledMap map = new TiledMap();
+                TiledMapTileLayer layer = new TiledMapTileLayer(4, 4, 16, 16);
+                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+                cell.setTile(grass);
+                cell.setFlipHorizontally((flips & 1) != 0);
+                cell.setFlipVertically((flips & 2) != 0);
+                cell.setRotation(rotation);
+                layer.setCell(2, 1, cell);
+                layer.setOpacity(0.5f);
+                map.getLayers().add(layer);
+
+                Batch batch = mock(Batch.class);
+                when(batch.getColor()).thenReturn(new Color(Color.WHITE));
+                float[][] drawn = new float[1][];
+                doAnswer(invocation -> {
+                    float[] vertices = invocation.getArgument(1);
+                    drawn[0] = Arrays.copyOf(vertices, 20);
+                    return null;
+                }).when(batch).draw(any(Texture.class), any(float[].class), anyInt(), anyInt());
+                OrthogonalTiledMapRenderer libgdx = new OrthogonalTiledMapRenderer(map, batch);
+                libgdx.setView(new OrthographicCamera(64, 64));
+                libgdx.getViewBounds().set(0, 0, 64, 64);
+                libgdx.render();
+
+                float[] corners = new float[20];
+                CachedMapRenderer.tileCorners(cell, 32, 16, Color.toFloatBits(1f, 1f, 1f, 0.5f), corners);
+                assertArrayEquals(drawn[0], corners, 0f, "Flips " + flips + ", turned " + rotation);
+            }
+        }
+    }
+
+    //Test #2: each chunk on screen is uploaded once, and the cache is sized by the map's tiles
+    @Test
+    @DisplayName("Chunks are uploaded once")
+    public void testUploadedOnce() {
+        CachedMapRenderer renderer = new CachedMapRenderer(map(), 8);
+        renderer.setView(camera());
+        assertEquals(0, renderer.getCapacity(), "Nothing should be made before the first frame");
+        renderer.render();
+        assertEquals(8, renderer.getBuildCount(), "Four chunks on screen in each of two static runs");
+        assertEquals(6000, renderer.getCapacity(), "Room for the 4800 static tiles and a quarter more");
+        assertEquals(4 * 64 * 3, renderer.getUsed(), "Only the tiles of chunks on screen are uploaded");
+
+        for (int frame = 0; frame < 10; frame++) {
+            renderer.render();
+        }
+        assertEquals(8, renderer.getBuildCount(), "Nothing changed, so nothing should be uploaded again");
+        assertEquals(88, renderer.getDrawnChunkCount());
+        assertEquals(768, renderer.getUsed());
+        renderer.dispose();
+    }
+
+    //Test #3: changed chunks go on the end of the cache, which is made again with only what is in use once full
+    @Test
+    @DisplayName("Cache stays in step with the tiles in use")
+    public void testChangesAndRemake() {
+        TiledMap map = map();
+        CachedMapRenderer renderer = new CachedMapRenderer(map, 8);
+        renderer.setView(camera());
+        renderer.render();
+
+        renderer.setCell((TiledMapTileLayer) map.getLayers().get(0), 12, 3, null);
+        renderer.render();
+        assertEquals(9, renderer.getBuildCount(), "Only the chunk with the cell in its run should be uploaded");
+        assertEquals(768 + 127, renderer.getUsed());
+
+        for (int round = 0; round < 10; round++) {
+            renderer.markAllDirty();
+            renderer.render();
+            assertTrue(renderer.getUsed() <= renderer.getCapacity());
+        }
+        assertEquals(4799 + 1199, renderer.getCapacity(), "Made again with room for the map's 4799 tiles and a quarter more");
+        assertTrue(renderer.getUsed() < renderer.getCapacity() - 767, "Chunks built again should have been dropped when it was made again");
+
+        map.getLayers().get(1).setVisible(false);
+        int used = renderer.getUsed();
+        renderer.render();
+        assertEquals(used + 4 * 64 - 1, renderer.getUsed(), "Only the layer still shown should be uploaded again");
+        renderer.dispose();
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ChaseSystem class.
+ * Tests chasers heading for the player, sliding along walls, following a planned path,
+ * and being slowed by the chasing deans' time scale.
+ * Automated: processEntity(), chase(), step(), clearPath()
+ */
+@DisplayName("ChaseSystem Tests")
+public class ChaseSystemTest {
+
+    //Test #1: every chaser in the engine moves its speed towards the player each update
+    @Test
+    @DisplayName("Chasers head for the player")
+    public void testHeadsForPlayer() {
+        GameWorld world = mock(GameWorld.class);
+        Player player = mock(Player.class);
+        when(player.getPosition()).thenReturn(new Vector2(200, 100));
+        Engine engine = new Engine();
+        engine.addSystem(new ChaseSystem(world));
+        Vector2 first = addChaser(engine, player, 100, 100, 1f);
+        Vector2 second = addChaser(engine, player, 200, 0, 2f);
+
+        engine.update(1f);
+
+        // Free to move, each goes the straight step and then slides the same again along x.
+        assertEquals(102f, first.x, 1e-4f);
+        assertEquals(100f, first.y, 1e-4f);
+        assertEquals(200f, second.x, 1e-4f);
+        assertEquals(2f, second.y, 1e-4f);
+    }
+
+    //Test #2: a blocked straight move slides along whichever axis is free
+    @Test
+    @DisplayName("Blocked chasers slide along the wall")
+    public void testSlidesAlongWall() {
+        GameWorld world = mock(GameWorld.class);
+        when(world.isCellBlockedForDean(anyFloat(), anyFloat())).thenReturn(true);
+        when(world.isCellBlockedForDean(eq(100f), anyFloat())).thenReturn(false);
+        Player player = mock(Player.class);
+        when(player.getPosition()).thenReturn(new Vector2(103, 104));
+        Engine engine = new Engine();
+        engine.addSystem(new ChaseSystem(world));
+        Vector2 position = addChaser(engine, player, 100, 100, 5f);
+
+        engine.update(1f);
+
+        assertEquals(new Vector2(100, 104), position, "Only the free vertical move should be taken");
+    }
+
+    //Test #3: a chaser with a path walks it cell by cell instead of heading straight for the player
+    @Test
+    @DisplayName("Planned paths are followed")
+    public void testFollowsPath() {
+        GameWorld world = mock(GameWorld.class);
+        Player player = mock(Player.class);
+        when(player.getPosition()).thenReturn(new Vector2(0, 500));
+        NavigationGrid grid = new NavigationGrid(4, 4, new boolean[16]);
+        MotionComponent motion = new MotionComponent();
+        motion.speed = NavigationGrid.TILE_SIZE;
+        ChaseComponent chase = new ChaseComponent();
+        chase.target = player;
+        chase.grid = grid;
+        chase.path.addAll(grid.index(0, 0), grid.index(1, 0), grid.index(2, 0));
+        Vector2 position = new Vector2(grid.worldX(grid.index(0, 0)), grid.worldY(grid.index(0, 0)));
+
+        ChaseSystem.chase(position, motion, chase, world, new Vector2());
+        assertEquals(grid.worldX(grid.index(1, 0)), position.x, 1e-4f);
+        ChaseSystem.chase(position, motion, chase, world, new Vector2());
+        assertEquals(grid.worldX(grid.index(2, 0)), position.x, 1e-4f);
+        assertEquals(chase.path.size, chase.pathIndex, "The path should be walked to its end");
+
+        ChaseSystem.clearPath(chase);
+        assertEquals(0, chase.path.size);
+        assertEquals(0, chase.pathIndex);
+    }
+
+    //Test #4: the chasing deans' time scale slows and freezes the step without touching the speed
+    @Test
+    @DisplayName("Step follows the chasing deans' time scale")
+    public void testStepScaled() {
+        StatusEffects effects = new StatusEffects();
+        GameWorld world = mock(GameWorld.class);
+        when(world.getStatusEffects()).thenReturn(effects);
+        MotionComponent motion = new MotionComponent();
+        motion.speed = 2f;
+
+        assertEquals(2f, ChaseSystem.step(motion, world));
+        effects.apply(StatusEffects.Group.CHASING_DEANS, StatusEffects.Effect.FREEZE, StatusEffects.PERMANENT);
+        assertEquals(0f, ChaseSystem.step(motion, world));
+        assertEquals(2f, motion.speed);
+    }
+
+    private static Vector2 addChaser(Engine engine, Player player, float x, float y, float speed) {
+        PositionComponent position = new PositionComponent();
+        position.position.set(x, y);
+        MotionComponent motion = new MotionComponent();
+        motion.speed = speed;
+        ChaseComponent chase = new ChaseComponent();
+        chase.target = player;
+        engine.addEntity(new Entity().add(position).add(motion).add(chase));
+        return position.position;
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for CooperativePathfinder class.
+ * Tests single agent routing around walls, window limits, unreachable goals and
+ * multi-agent planning through the shared reservation table.
+ * Automated: plan(), planAll(), distanceToGoal(), setNavMesh(), window and grid changes
+ */
+@DisplayName("Cooperative Pathfinder Tests")
+public class CooperativePathfinderTest {
+
+    /**
+     * Build a grid from rows of text, top row first, where '#' is a wall.
+     */
+    private NavigationGrid gridOf(String... rows) {
+        int width = rows[0].length();
+        int height = rows.length;
+        boolean[] blocked = new boolean[width * height];
+        for (int row = 0; row < height; row++) {
+            int y = height - 1 - row;
+            for (int x = 0; x < width; x++) {
+                blocked[y * width + x] = rows[row].charAt(x) == '#';
+            }
+        }
+        return new NavigationGrid(width, height, blocked);
+    }
+
+    private void assertPathWalkable(NavigationGrid grid, IntArray path) {
+        for (int i = 0; i < path.size; i++) {
+            assertFalse(grid.isBlocked(path.get(i)), "Path should never enter a wall");
+            if (i > 0) {
+                int steps = Math.abs(grid.cellX(path.get(i)) - grid.cellX(path.get(i - 1)))
+                    + Math.abs(grid.cellY(path.get(i)) - grid.cellY(path.get(i - 1)));
+                assertTrue(steps <= 1, "Path should only move one cell per step");
+            }
+        }
+    }
+
+    private int cellAtStep(IntArray path, int step) {
+        return path.get(Math.min(step, path.size - 1));
+    }
+
+    //Test #1: open grid gives a shortest path
+    @Test
+    @DisplayName("Open grid path is shortest")
+    public void testOpenGridPath() {
+        NavigationGrid grid = gridOf(
+            ".....",
+            ".....",
+            ".....");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 16);
+        IntArray path = new IntArray();
+
+        assertTrue(pathfinder.plan(0, grid.index(0, 0), grid.index(4, 2), path));
+        assertEquals(7, path.size, "6 moves plus the start cell");
+        assertEquals(grid.index(0, 0), path.first());
+        assertEquals(grid.index(4, 2), path.peek());
+        assertPathWalkable(grid, path);
+    }
+
+    //Test #2: path goes around a wall through the only gap
+    @Test
+    @DisplayName("Path routes through the gap in a wall")
+    public void testRoutesAroundWall() {
+        NavigationGrid grid = gridOf(
+            "..#..",
+            "..#..",
+            ".....",
+            "..#..");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 16);
+        IntArray path = new IntArray();
+
+        assertTrue(pathfinder.plan(0, grid.index(0, 3), grid.index(4, 3), path));
+        assertTrue(path.contains(grid.index(2, 1)), "Only the gap at (2, 1) crosses the wall");
+        assertEquals(grid.index(4, 3), path.peek());
+        assertPathWalkable(grid, path);
+    }
+
+    //Test #3: search stops at the window length
+    @Test
+    @DisplayName("Path length is bounded by the window")
+    public void testWindowBoundsPath() {
+        NavigationGrid grid = gridOf("....................");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 5);
+        IntArray path = new IntArray();
+
+        assertTrue(pathfinder.plan(0, grid.index(0, 0), grid.index(19, 0), path));
+        assertEquals(6, path.size, "Window of 5 steps plus the start cell");
+        assertEquals(grid.index(5, 0), path.peek(), "Agent should make full progress inside the window");
+    }
+
+    //Test #4: unreachable goal keeps the agent in place
+    @Test
+    @DisplayName("Unreachable goal returns only the start cell")
+    public void testUnreachableGoal() {
+        NavigationGrid grid = gridOf(
+            "..#..",
+            "..#..");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 8);
+        IntArray path = new IntArray();
+
+        assertFalse(pathfinder.plan(0, grid.index(0, 0), grid.index(4, 0), path));
+        assertEquals(1, path.size);
+        assertEquals(grid.index(0, 0), path.first());
+        assertEquals(Integer.MAX_VALUE, pathfinder.distanceToGoal(grid.index(0, 0), grid.index(4, 0)));
+    }
+
+    //Test #5: second agent never shares a cell with the first at the same time
+    @Test
+    @DisplayName("Agents following each other do not share cells")
+    public void testAgentsDoNotCollide() {
+        NavigationGrid grid = gridOf(
+            "##########",
+            "..........",
+            "##########");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 12);
+        IntArray[] paths = {new IntArray(), new IntArray()};
+
+        int[] starts = {grid.index(1, 1), grid.index(0, 1)};
+        int[] goals = {grid.index(9, 1), grid.index(9, 1)};
+        pathfinder.planAll(starts, goals, paths, 2);
+
+        for (int step = 0; step <= 12; step++) {
+            assertNotEquals(cellAtStep(paths[0], step), cellAtStep(paths[1], step),
+                "Agents should never occupy the same cell at step " + step);
+        }
+        assertPathWalkable(grid, paths[0]);
+        assertPathWalkable(grid, paths[1]);
+    }
+
+    //Test #6: agents meeting head on use the passing bay instead of swapping
+    @Test
+    @DisplayName("Agents meeting head on use the side bay")
+    public void testHeadOnUsesPassingBay() {
+        NavigationGrid grid = gridOf(
+            "######.##",
+            ".........",
+            "#########");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 16);
+        IntArray[] paths = {new IntArray(), new IntArray()};
+
+        int[] starts = {grid.index(0, 1), grid.index(8, 1)};
+        int[] goals = {grid.index(8, 1), grid.index(0, 1)};
+        pathfinder.planAll(starts, goals, paths, 2);
+
+        assertEquals(grid.index(8, 1), paths[0].peek());
+        assertEquals(grid.index(0, 1), paths[1].peek());
+        assertTrue(paths[1].contains(grid.index(6, 2)), "Lower priority agent should step into the bay");
+        for (int step = 0; step < 16; step++) {
+            assertNotEquals(cellAtStep(paths[0], step), cellAtStep(paths[1], step));
+            boolean swapped = cellAtStep(paths[0], step) == cellAtStep(paths[1], step + 1)
+                && cellAtStep(paths[1], step) == cellAtStep(paths[0], step + 1);
+            assertFalse(swapped, "Agents should never pass through each other");
+        }
+    }
+
+    //Test #7: planAll starts each round with a clean table
+    @Test
+    @DisplayName("planAll clears reservations from the previous round")
+    public void testPlanAllClearsReservations() {
+        NavigationGrid grid = gridOf(".....");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 4);
+        IntArray[] paths = {new IntArray()};
+
+        pathfinder.planAll(new int[]{0}, new int[]{4}, paths, 1);
+        int firstRound = pathfinder.getReservations().size();
+        pathfinder.planAll(new int[]{0}, new int[]{4}, paths, 1);
+
+        assertEquals(firstRound, pathfinder.getReservations().size());
+        assertEquals(0, pathfinder.getReservations().getOwner(0, 0));
+    }
+
+    //Test #8: invalid window sizes are rejected
+    @Test
+    @DisplayName("Window must be in range")
+    public void testWindowValidation() {
+        NavigationGrid grid = gridOf("...");
+        assertThrows(IllegalArgumentException.class, () -> new CooperativePathfinder(grid, 0));
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 4);
+        assertThrows(IllegalArgumentException.class,
+            () -> pathfinder.setWindow(CooperativePathfinder.MAX_WINDOW + 1));
+        pathfinder.setWindow(8);
+        assertEquals(8, pathfinder.getWindow());
+    }
+
+    //Test #9: new grid snapshot invalidates cached distances
+    @Test
+    @DisplayName("setGrid replans around new walls")
+    public void testSetGridInvalidatesDistances() {
+        NavigationGrid open = gridOf(
+            "...",
+            "...");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(open, 8);
+        assertEquals(2, pathfinder.distanceToGoal(open.index(0, 0), open.index(2, 0)));
+
+        pathfinder.setGrid(open.withCell(1, 0, true));
+        assertEquals(4, pathfinder.distanceToGoal(open.index(0, 0), open.index(2, 0)));
+    }
+
+    //Test #10: expanded node counter reflects the search
+    @Test
+    @DisplayName("Expanded nodes are counted")
+    public void testExpandedNodesCounted() {
+        NavigationGrid grid = gridOf(".....");
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 8);
+        pathfinder.plan(0, 0, 4, new IntArray());
+        assertTrue(pathfinder.getLastExpandedNodes() >= 5);
+    }
+
+    //Test #11: with a mesh the search steers by the rectangles and still reaches the goal
+    @Test
+    @DisplayName("Plans with a nav mesh reach the goal")
+    public void testPlansWithNavMesh() {
+        NavigationGrid grid = gridOf(
+            "..#......",
+            "..#..#...",
+            ".....#...",
+            "..#..#...");
+        NavMesh mesh = new NavMesh(grid);
+        CooperativePathfinder pathfinder = new CooperativePathfinder(grid, 32);
+        pathfinder.setNavMesh(mesh);
+        IntArray path = new IntArray();
+
+        assertTrue(pathfinder.plan(0, grid.index(0, 0), grid.index(8, 0), path));
+        assertEquals(grid.index(8, 0), path.peek());
+        assertPathWalkable(grid, path);
+        assertTrue(path.size - 1 >= pathfinder.distanceToGoal(grid.index(0, 0), grid.index(8, 0)));
+
+        mesh.setCellBlocked(5, 3, true);
+        pathfinder.setGrid(mesh.getGrid());
+        assertFalse(pathfinder.plan(0, grid.index(0, 0), grid.index(8, 0), path), "The only gap is shut");
+        assertEquals(1, path.size);
+    }
+}
@@ -0,0 +1,263 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for DStarLitePlanner class.
+ * Tests shortest paths, unreachable targets and incremental repairs when the target,
+ * agent or map changes, checked against a fresh breadth-first search.
+ * Automated: replan(), extractPath(), setAgent(), setTarget(), setCellBlocked(), expansion counters
+ */
+@DisplayName("D* Lite Planner Tests")
+public class DStarLitePlannerTest {
+
+    /**
+     * Build a grid from rows of text, top row first, where '#' is a wall.
+     */
+    private NavigationGrid gridOf(String... rows) {
+        int width = rows[0].length();
+        int height = rows.length;
+        boolean[] blocked = new boolean[width * height];
+        for (int row = 0; row < height; row++) {
+            int y = height - 1 - row;
+            for (int x = 0; x < width; x++) {
+                blocked[y * width + x] = rows[row].charAt(x) == '#';
+            }
+        }
+        return new NavigationGrid(width, height, blocked);
+    }
+
+    /** Distance from a fresh search, used as the expected answer. */
+    private int freshDistance(NavigationGrid grid, int agent, int target) {
+        return new CooperativePathfinder(grid, 1).distanceToGoal(agent, target);
+    }
+
+    //Test #1: open grid gives the shortest distance and path
+    @Test
+    @DisplayName("Open grid path is shortest")
+    public void testOpenGridPath() {
+        NavigationGrid grid = gridOf(
+            ".....",
+            ".....",
+            ".....");
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        planner.setAgent(grid.index(0, 0));
+        planner.setTarget(grid.index(4, 2));
+
+        assertTrue(planner.replan());
+        assertEquals(6, planner.getDistance());
+
+        IntArray path = new IntArray();
+        assertTrue(planner.extractPath(path, 64));
+        assertEquals(7, path.size, "6 moves plus the agent's cell");
+        assertEquals(grid.index(0, 0), path.first());
+        assertEquals(grid.index(4, 2), path.peek());
+    }
+
+    //Test #2: path goes around a wall through the only gap
+    @Test
+    @DisplayName("Path routes through the gap in a wall")
+    public void testRoutesAroundWall() {
+        NavigationGrid grid = gridOf(
+            "..#..",
+            "..#..",
+            ".....",
+            "..#..");
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        planner.setAgent(grid.index(0, 3));
+        planner.setTarget(grid.index(4, 3));
+        IntArray path = new IntArray();
+
+        assertTrue(planner.replan());
+        assertTrue(planner.extractPath(path, 64));
+        assertTrue(path.contains(grid.index(2, 1)), "Only the gap at (2, 1) crosses the wall");
+        for (int i = 0; i < path.size; i++) {
+            assertFalse(grid.isBlocked(path.get(i)), "Path should never enter a wall");
+            if (i > 0) {
+                int steps = Math.abs(grid.cellX(path.get(i)) - grid.cellX(path.get(i - 1)))
+                    + Math.abs(grid.cellY(path.get(i)) - grid.cellY(path.get(i - 1)));
+                assertEquals(1, steps, "Path should move one cell per step");
+            }
+        }
+    }
+
+    //Test #3: an unreachable target leaves only the agent's cell
+    @Test
+    @DisplayName("Unreachable target returns false")
+    public void testUnreachableTarget() {
+        NavigationGrid grid = gridOf(
+            "..#..",
+            "..#..");
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        planner.setAgent(grid.index(0, 0));
+        planner.setTarget(grid.index(4, 0));
+        IntArray path = new IntArray();
+
+        assertFalse(planner.replan());
+        assertFalse(planner.extractPath(path, 64));
+        assertEquals(1, path.size);
+        assertEquals(grid.index(0, 0), path.first());
+        assertEquals(Integer.MAX_VALUE, planner.getDistance());
+    }
+
+    //Test #4: nothing is planned before the agent and target are set
+    @Test
+    @DisplayName("Replan needs an agent and target")
+    public void testReplanNeedsEnds() {
+        DStarLitePlanner planner = new DStarLitePlanner(gridOf("...."));
+        assertFalse(planner.replan());
+        assertEquals(0, planner.getReplanCount());
+    }
+
+    //Test #5: a target move is repaired with far less work than the first search
+    @Test
+    @DisplayName("Target moving one cell repairs the old search")
+    public void testTargetMoveIsIncremental() {
+        NavigationGrid grid = new NavigationGrid(30, 30, new boolean[900]);
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        planner.setAgent(grid.index(0, 0));
+        planner.setTarget(grid.index(25, 25));
+        assertTrue(planner.replan());
+        int firstExpanded = planner.getLastExpandedNodes();
+
+        planner.setTarget(grid.index(26, 25));
+        assertTrue(planner.replan());
+
+        assertEquals(51, planner.getDistance());
+        assertTrue(planner.getLastExpandedNodes() * 10 < firstExpanded,
+            "Repair should expand a small fraction of the first search");
+        assertTrue(planner.getLastReexpandedNodes() <= planner.getLastExpandedNodes());
+    }
+
+    //Test #6: moving the agent repairs the search and still gives the right distance
+    @Test
+    @DisplayName("Agent moving along the path stays correct")
+    public void testAgentMove() {
+        NavigationGrid grid = gridOf(
+            "......",
+            ".####.",
+            "......");
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        planner.setAgent(grid.index(0, 0));
+        planner.setTarget(grid.index(5, 2));
+        assertTrue(planner.replan());
+        assertEquals(7, planner.getDistance());
+
+        planner.setAgent(grid.index(1, 0));
+        assertTrue(planner.replan());
+        assertEquals(6, planner.getDistance());
+        assertEquals(grid.index(1, 0), planner.getAgent());
+        assertEquals(grid.index(5, 2), planner.getTarget());
+    }
+
+    //Test #7: blocking a cell on the route forces a detour, unblocking restores it
+    @Test
+    @DisplayName("Blocking and unblocking cells reroutes")
+    public void testCellChanges() {
+        NavigationGrid grid = gridOf(
+            ".....",
+            ".###.",
+            ".....");
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        planner.setAgent(grid.index(0, 1));
+        planner.setTarget(grid.index(4, 1));
+        assertTrue(planner.replan());
+        assertEquals(6, planner.getDistance());
+
+        planner.setCellBlocked(2, 0, true);
+        assertTrue(planner.replan());
+        assertEquals(6, planner.getDistance(), "Top row is still open");
+
+        planner.setCellBlocked(2, 2, true);
+        assertFalse(planner.replan(), "Both rows are now cut");
+
+        planner.setCellBlocked(2, 0, false);
+        assertTrue(planner.replan());
+        assertEquals(6, planner.getDistance(), "Bottom row opened again");
+        assertFalse(planner.getGrid().isBlocked(2, 0));
+        assertTrue(grid.isBlocked(1, 1), "The grid passed in is never changed");
+    }
+
+    //Test #8: counters add up across replans
+    @Test
+    @DisplayName("Expansion counters are tracked")
+    public void testCounters() {
+        NavigationGrid grid = new NavigationGrid(10, 10, new boolean[100]);
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        planner.setAgent(grid.index(0, 0));
+        planner.setTarget(grid.index(9, 9));
+        planner.replan();
+        int first = planner.getLastExpandedNodes();
+        assertTrue(first > 0);
+        assertEquals(0, planner.getLastReexpandedNodes(), "Nothing to re-expand on the first search");
+
+        planner.replan();
+        assertEquals(0, planner.getLastExpandedNodes(), "Nothing changed so nothing is expanded");
+
+        planner.setAgent(grid.index(0, 1));
+        planner.replan();
+        assertEquals(3, planner.getReplanCount());
+        assertTrue(planner.getLastReexpandedNodes() > 0, "Moving the root re-expands the old tree");
+        assertEquals(first + planner.getLastExpandedNodes(), planner.getTotalExpandedNodes());
+    }
+
+    //Test #9: long routes are cut to the requested number of moves
+    @Test
+    @DisplayName("Path is cut at maxSteps")
+    public void testPathCutAtMaxSteps() {
+        NavigationGrid grid = new NavigationGrid(10, 1, new boolean[10]);
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        planner.setAgent(0);
+        planner.setTarget(9);
+        planner.replan();
+        IntArray path = new IntArray();
+
+        assertFalse(planner.extractPath(path, 3));
+        assertEquals(4, path.size);
+        assertEquals(0, path.first());
+        assertEquals(3, path.peek());
+    }
+
+    //Test #10: a long run of random changes always matches a fresh search
+    @Test
+    @DisplayName("Random changes match a fresh search")
+    public void testRandomChangesMatchFreshSearch() {
+        Random random = new Random(42);
+        NavigationGrid grid = new NavigationGrid(12, 12, new boolean[144]);
+        DStarLitePlanner planner = new DStarLitePlanner(grid);
+        int agent = grid.index(0, 0);
+        int target = grid.index(11, 11);
+        planner.setAgent(agent);
+        planner.setTarget(target);
+
+        for (int round = 0; round < 300; round++) {
+            switch (random.nextInt(3)) {
+                case 0:
+                    target = random.nextInt(grid.getCellCount());
+                    planner.setTarget(target);
+                    break;
+                case 1:
+                    agent = random.nextInt(grid.getCellCount());
+                    planner.setAgent(agent);
+                    break;
+                default:
+                    int cell = random.nextInt(grid.getCellCount());
+                    planner.setCellBlocked(grid.cellX(cell), grid.cellY(cell), random.nextInt(3) == 0);
+                    break;
+            }
+
+            boolean reachable = planner.replan();
+            NavigationGrid current = planner.getGrid();
+            int expected = current.isBlocked(agent) || current.isBlocked(target) ? Integer.MAX_VALUE
+                : freshDistance(current, agent, target);
+            assertEquals(expected, planner.getDistance(), "Round " + round);
+            assertEquals(expected != Integer.MAX_VALUE, reachable, "Round " + round);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.some_example_name;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -230,4 +231,90 @@ public class DeanTest extends TestHelper {
         assertEquals(690, dean.getPosition().x, 0.01f);
         assertEquals(560, dean.getPosition().y, 0.01f);
     }
+
+    //Test #16: dean walks along a planned path instead of straight at the player
+    @Test
+    @DisplayName("Dean follows a planned path")
+    public void testFollowsPath() {
+        Player mockPlayer = mock(Player.class);
+        when(mockPlayer.getPosition()).thenReturn(new Vector2(0, 200));
+        GameScreen mockScreen = mock(GameScreen.class);
+        when(mockScreen.isCellBlockedForDean(anyFloat(), anyFloat())).thenReturn(false);
+
+        NavigationGrid grid = new NavigationGrid(10, 10, new boolean[100]);
+        Dean dean = new Dean(16, 16, mockPlayer, mockScreen);
+        dean.setSpeed(4f);
+
+        IntArray path = new IntArray(new int[]{grid.index(1, 1), grid.index(2, 1), grid.index(3, 1)});
+        dean.setPath(path, grid);
+        for (int i = 0; i < 8; i++) {
+            dean.update(0.016f);
+        }
+
+        assertEquals(48f, dean.getPosition().x, 0.01f, "Dean should walk right along the path");
+        assertEquals(16f, dean.getPosition().y, 0.01f, "Dean should ignore the player while on a path");
+        assertFalse(dean.hasPath());
+    }
+
+    //Test #17: repeated path cells make the dean wait
+    @Test
+    @DisplayName("Dean waits on repeated path cells")
+    public void testWaitsOnRepeatedCell() {
+        Player mockPlayer = mock(Player.class);
+        GameScreen mockScreen = mock(GameScreen.class);
+        NavigationGrid grid = new NavigationGrid(10, 10, new boolean[100]);
+        Dean dean = new Dean(16, 16, mockPlayer, mockScreen);
+        dean.setSpeed(4f);
+
+        dean.setPath(new IntArray(new int[]{grid.index(1, 1), grid.index(1, 1), grid.index(2, 1)}), grid);
+        for (int i = 0; i < 3; i++) {
+            dean.update(0.016f);
+        }
+
+        assertEquals(16f, dean.getPosition().x, 0.01f, "Dean should still be waiting");
+        assertTrue(dean.hasPath());
+    }
+
+    //Test #18: clearPath and resetToStart drop the planned path
+    @Test
+    @DisplayName("Path is dropped on clear and reset")
+    public void testPathCleared() {
+        Player mockPlayer = mock(Player.class);
+        GameScreen mockScreen = mock(GameScreen.class);
+        NavigationGrid grid = new NavigationGrid(10, 10, new boolean[100]);
+        Dean dean = new Dean(16, 16, mockPlayer, mockScreen);
+        IntArray path = new IntArray(new int[]{grid.index(1, 1), grid.index(1, 2), grid.index(1, 3)});
+
+        dean.setPath(path, grid);
+        assertTrue(dean.hasPath());
+        dean.clearPath();
+        assertFalse(dean.hasPath());
+
+        dean.setPath(path, grid);
+        dean.resetToStart(2);
+        assertFalse(dean.hasPath());
+    }
+
+    //Test #19: chasing deans' time scale scales the step without changing the speed
+    @Test
+    @DisplayName("Status effects scale dean movement")
+    public void testStatusEffectsScaleStep() {
+        Player mockPlayer = mock(Player.class);
+        when(mockPlayer.getPosition()).thenReturn(new Vector2(200, 100));
+        GameScreen mockScreen = mock(GameScreen.class);
+        StatusEffects effects = new StatusEffects();
+        when(mockScreen.getStatusEffects()).thenReturn(effects);
+        Dean dean = new Dean(100, 100, mockPlayer, mockScreen);
+
+        int freeze = effects.apply(StatusEffects.Group.CHASING_DEANS, StatusEffects.Effect.FREEZE, 1f);
+        dean.update(0.016f);
+        assertEquals(100f, dean.getPosition().x, 0.01f, "Frozen dean should not move");
+        assertEquals(0.7f, dean.getSpeed(), 0.01f, "Freezing should not touch the speed");
+
+        effects.remove(freeze);
+        effects.apply(StatusEffects.Group.CHASING_DEANS, StatusEffects.Effect.HASTE, 1f);
+        assertEquals(1.4f, dean.getStep(), 0.01f);
+        effects.apply(StatusEffects.Group.PATROL_DEANS, StatusEffects.Effect.FREEZE, 1f);
+        assertEquals(1.4f, dean.getStep(), 0.01f, "Patrol effects should not reach chasing deans");
+    }
 }
@@ -1,191 +1,131 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
- * Test suite for Decrease_Time class.
- * Tests tree obstacle creation, collision detection, time penalty application, and message display timing.
- * Test coverage: [Run JaCoCo to determine]%
- *
- * Automated: Constructor, hitTree state, collision logic, timer mechanics, penalty amount
- * Manual testing required: render(), dispose() - require LibGDX rendering context
- *
- * Coverage gap: Message display rendering and texture cropping only testable visually
+ * Test suite for the tree decrease time event, spawned from {@link EventDefinition#TREE}.
+ * Tests the player hitting the tree by walking into it, exactly 30 seconds being taken
+ * off the timer and only once, the tree's bounds, and its message.
+ * Automated: MapEvents.spawn(), update() and the tree's position, trigger, time effect and message
+ * Manual testing required: the tree and its message drawn in game
  */
-@DisplayName("Decrease Time Event Tests")
+@DisplayName("Decrease_Time Event Tests")
 public class Decrease_TimeTest extends TestHelper {
 
-    //Test #1: instance created successfully at position
-    @Test
-    @DisplayName("Instance created successfully")
-    public void testInstanceCreation() {
-        Decrease_Time dt = new Decrease_Time(100, 200);
-        assertNotNull(dt);
-    }
+    private static final float FRAME = 0.016f;
 
-    //Test #2: tree not hit initially on creation
-    @Test
-    @DisplayName("Tree not hit initially")
-    public void testTreeNotHitInitially() {
-        Decrease_Time dt = new Decrease_Time(100, 200);
-        assertFalse(dt.hitTree());
-    }
+    private GameTimer timer;
 
-    //Test #3: multiple tree instances are independent
-    @Test
-    @DisplayName("Multiple instances independent")
-    public void testMultipleInstances() {
-        Decrease_Time dt1 = new Decrease_Time(100, 100);
-        Decrease_Time dt2 = new Decrease_Time(200, 200);
-
-        assertNotSame(dt1, dt2);
-        assertFalse(dt1.hitTree());
-        assertFalse(dt2.hitTree());
+    @BeforeEach
+    public void setUpInput() {
+        Gdx.input = mock(Input.class);
+        timer = mock(GameTimer.class);
     }
 
-    //Test #4: various spawn positions accepted
+    //Test #1: trees can be spawned anywhere, and none has been hit yet
     @Test
-    @DisplayName("Handles various spawn positions")
-    public void testVariousPositions() {
-        assertDoesNotThrow(() -> new Decrease_Time(0, 0));
-        assertDoesNotThrow(() -> new Decrease_Time(500, 500));
-        assertDoesNotThrow(() -> new Decrease_Time(-10, -10));
+    @DisplayName("Various spawn positions accepted and not hit initially")
+    public void testSpawnPositions() {
+        MapEvents events = new MapEvents(new Player(1000, 1000), timer, null);
+        float[][] spots = {{0, 0}, {100, 200}, {-50, 75}, {640, 480}};
+        for (float[] spot : spots) {
+            Entity tree = events.spawn(EventDefinition.TREE, spot[0], spot[1]);
+            assertEquals(new Vector2(spot[0], spot[1]), tree.getComponent(PositionComponent.class).position);
+            assertFalse(tree.getComponent(TriggerComponent.class).triggered);
+        }
+        assertEquals(spots.length, events.countSpawned(EventCategory.NEGATIVE));
+        events.dispose();
     }
 
-    //Test #5: player collision triggers tree hit and time penalty
-    @Test
-    @DisplayName("Player collision triggers tree hit")
-    public void testPlayerCollisionTriggersHit() {
-        Decrease_Time tree = new Decrease_Time(100, 200);
-        Player player = new Player(100, 200);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        assertFalse(tree.hitTree());
-
-        tree.update(player, mockTimer, 0.016f);
-
-        assertTrue(tree.hitTree(), "Tree should be marked as hit");
-        verify(mockTimer, times(1)).addTime(-30f);
-    }
-
-    //Test #6: distant player does not trigger collision
+    //Test #2: a player away from the tree takes no time off
     @Test
     @DisplayName("Player far from tree - no collision")
     public void testPlayerFarFromTree() {
-        Decrease_Time tree = new Decrease_Time(100, 200);
-        Player player = new Player(500, 500);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        tree.update(player, mockTimer, 0.016f);
-
-        assertFalse(tree.hitTree(), "Tree should not be hit");
-        verify(mockTimer, never()).addTime(anyFloat());
-    }
-
-    //Test #7: tree can only be hit once
-    @Test
-    @DisplayName("Tree can only be hit once")
-    public void testTreeOnlyHitOnce() throws Exception {
-        Decrease_Time tree = new Decrease_Time(100, 200);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        java.lang.reflect.Field hitField = Decrease_Time.class.getDeclaredField("hitTree");
-        hitField.setAccessible(true);
-        hitField.set(tree, true);
+        MapEvents events = new MapEvents(new Player(500, 500), timer, null);
+        events.spawn(EventDefinition.TREE, 100, 200);
 
-        java.lang.reflect.Field searchedField = Decrease_Time.class.getDeclaredField("searched");
-        searchedField.setAccessible(true);
-        searchedField.set(tree, true);
+        events.update(FRAME);
 
-        Player player = new Player(100, 200);
-
-        tree.update(player, mockTimer, 0.016f);
-
-        assertTrue(tree.hitTree(), "Tree should remain hit");
-        verify(mockTimer, never()).addTime(anyFloat());
+        assertFalse(events.isTriggered(EventDefinition.TREE));
+        verify(timer, never()).addTime(anyFloat());
+        events.dispose();
     }
 
-    //Test #8: message timer shows for 5 seconds
+    //Test #3: the player's hitbox reaching into the tree's doubled bounds hits it, for exactly -30 seconds
     @Test
-    @DisplayName("Message timer shows for correct duration")
-    public void testMessageDuration() throws Exception {
-        Decrease_Time tree = new Decrease_Time(100, 200);
-        Player player = new Player(500, 500);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        java.lang.reflect.Field showMessageField = Decrease_Time.class.getDeclaredField("showMessage");
-        showMessageField.setAccessible(true);
-        showMessageField.set(tree, true);
-
-        java.lang.reflect.Field messageTimerField = Decrease_Time.class.getDeclaredField("messageTimer");
-        messageTimerField.setAccessible(true);
-
-        tree.update(player, mockTimer, 1.0f);
-
-        float timer = messageTimerField.getFloat(tree);
-        assertEquals(1.0f, timer, 0.1f, "Message timer should increment");
-
-        tree.update(player, mockTimer, 5.0f);
-
-        boolean stillShowing = showMessageField.getBoolean(tree);
-        assertFalse(stillShowing, "Message should hide after 5 seconds");
-    }
-
-    //Test #9: player hitbox collision detection works
-    @Test
-    @DisplayName("Player hitbox collision detection works")
+    @DisplayName("Player hitbox collision takes exactly 30 seconds off")
     public void testHitboxCollision() {
-        Decrease_Time tree = new Decrease_Time(100, 200);
-        Player player = new Player(110, 210);
-        GameTimer mockTimer = mock(GameTimer.class);
+        // The tree is 56 units across at double scale, so its far corner still counts.
+        MapEvents events = new MapEvents(new Player(155, 255), timer, null);
+        events.spawn(EventDefinition.TREE, 100, 200);
 
-        tree.update(player, mockTimer, 0.016f);
+        events.update(FRAME);
 
-        assertTrue(tree.hitTree(), "Collision should be detected");
-        verify(mockTimer, times(1)).addTime(-30f);
+        assertTrue(events.isTriggered(EventDefinition.TREE), "Collision should be detected");
+        verify(timer, times(1)).addTime(-30f);
+        verifyNoMoreInteractions(timer);
+        events.dispose();
     }
 
-    //Test #10: tree position matches constructor values
+    //Test #4: hitting one tree leaves another alone
     @Test
-    @DisplayName("Position at tree creation matches constructor")
-    public void testTreePosition() throws Exception {
-        Decrease_Time tree = new Decrease_Time(150, 250);
-
-        java.lang.reflect.Field posField = Decrease_Time.class.getDeclaredField("position");
-        posField.setAccessible(true);
-        Vector2 pos = (Vector2) posField.get(tree);
-
-        assertEquals(150, pos.x, "X position should match constructor");
-        assertEquals(250, pos.y, "Y position should match constructor");
+    @DisplayName("Multiple trees independent")
+    public void testMultipleTrees() {
+        MapEvents events = new MapEvents(new Player(100, 100), timer, null);
+        Entity near = events.spawn(EventDefinition.TREE, 100, 100);
+        Entity far = events.spawn(EventDefinition.TREE, 400, 400);
+
+        events.update(FRAME);
+
+        assertTrue(near.getComponent(TriggerComponent.class).triggered);
+        assertFalse(far.getComponent(TriggerComponent.class).triggered);
+        verify(timer, times(1)).addTime(-30f);
+        events.dispose();
     }
 
-    //Test #11: collision bounds exist and are initialized
+    //Test #5: walking into the tree again takes no more time off
     @Test
-    @DisplayName("Bounds size matches texture region with scale")
-    public void testBoundsSize() throws Exception {
-        Decrease_Time tree = new Decrease_Time(100, 200);
-
-        java.lang.reflect.Field boundsField = Decrease_Time.class.getDeclaredField("bounds");
-        boundsField.setAccessible(true);
-
-        assertNotNull(boundsField.get(tree), "Bounds should exist");
+    @DisplayName("Tree can only be hit once")
+    public void testTreeOnlyOnce() {
+        Player player = new Player(100, 200);
+        MapEvents events = new MapEvents(player, timer, null);
+        events.spawn(EventDefinition.TREE, 100, 200);
+        events.update(FRAME);
+
+        player.getPosition().set(500, 500);
+        events.update(FRAME);
+        player.getPosition().set(100, 200);
+        events.update(FRAME);
+
+        verify(timer, times(1)).addTime(-30f);
+        assertEquals(1, events.countTriggered(EventCategory.NEGATIVE));
+        events.dispose();
     }
 
-    //Test #12: time penalty is exactly -30 seconds
+    //Test #6: the tree's message shows when hit and hides after 5 seconds
     @Test
-    @DisplayName("Time decrease amount is correct")
-    public void testTimeDecreaseAmount() {
-        Decrease_Time tree = new Decrease_Time(100, 200);
-        Player player = new Player(100, 200);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        tree.update(player, mockTimer, 0.016f);
-
-        verify(mockTimer, times(1)).addTime(-30f);
+    @DisplayName("Message shows for 5 seconds")
+    public void testMessageDuration() {
+        MapEvents events = new MapEvents(new Player(100, 200), timer, null);
+        Entity tree = events.spawn(EventDefinition.TREE, 100, 200);
+        MessageComponent message = tree.getComponent(MessageComponent.class);
+
+        events.update(FRAME);
+        assertTrue(message.showing);
+        assertEquals(EventDefinition.TREE.message, message.text);
+        events.update(1f);
+        assertTrue(message.showing, "Message should still show after 1 second");
+        events.update(4f);
+        assertFalse(message.showing, "Message should hide after 5 seconds");
+        events.dispose();
     }
 }
@@ -0,0 +1,57 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.math.RandomXS128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for DialogSystem class.
+ * Tests a line being picked on each trigger and hidden once the player walks away.
+ * Automated: processEntity()
+ * Manual testing required: dialog text drawn by MapEvents.render()
+ */
+@DisplayName("DialogSystem Tests")
+public class DialogSystemTest extends TestHelper {
+
+    private static final String[] LINES = {"One", "Two", "Three"};
+
+    //Test #1: a line is picked when triggered and hidden out of range
+    @Test
+    @DisplayName("Line picked on trigger and hidden out of range")
+    public void testDialog() {
+        Player player = new Player(0, 0);
+        PooledEngine engine = new PooledEngine();
+        engine.addSystem(new DialogSystem(player, new RandomXS128(9)));
+        engine.addSystem(new MessageSystem(new TimerWheel()));
+        Entity entity = engine.createEntity();
+        entity.add(engine.createComponent(PositionComponent.class));
+        TriggerComponent trigger = engine.createComponent(TriggerComponent.class);
+        DialogComponent dialog = engine.createComponent(DialogComponent.class);
+        dialog.lines = LINES;
+        dialog.hideRange = 60f;
+        MessageComponent message = engine.createComponent(MessageComponent.class);
+        message.duration = MessageComponent.UNTIL_HIDDEN;
+        entity.add(trigger);
+        entity.add(dialog);
+        entity.add(message);
+        engine.addEntity(entity);
+
+        trigger.fired = true;
+        engine.update(0.016f);
+        trigger.fired = false;
+        assertTrue(message.showing);
+        assertTrue(java.util.Arrays.asList(LINES).contains(message.text));
+
+        player.getPosition().set(60, 0);
+        engine.update(0.016f);
+        assertTrue(message.showing, "Line should stay up at exactly the hide range");
+
+        player.getPosition().set(61, 0);
+        engine.update(0.016f);
+        assertFalse(message.showing, "Line should hide past the hide range");
+    }
+}
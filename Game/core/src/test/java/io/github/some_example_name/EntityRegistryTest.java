@@ -0,0 +1,136 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for EntityRegistry class.
+ * Tests running each entity once per phase and layer, in order, while entities are
+ * added and removed part way through.
+ * Automated: add(), remove(), runPhase(), render(), getCount(), getPasses(), contains(), dispose()
+ * Manual testing required: deans and player drawn by GameScreen
+ */
+@DisplayName("EntityRegistry Tests")
+public class EntityRegistryTest {
+
+    private static class Recorder implements EntityRegistry.Member {
+        final String name;
+        final List<String> log;
+        int disposed;
+
+        Recorder(String name, List<String> log) {
+            this.name = name;
+            this.log = log;
+        }
+
+        @Override
+        public void storePreviousPosition() {
+            log.add(name + ".store");
+        }
+
+        @Override
+        public void update(float step) {
+            log.add(name + ".update");
+        }
+
+        @Override
+        public void render(SpriteBatch batch, float alpha) {
+            log.add(name + ".render");
+        }
+
+        @Override
+        public void dispose() {
+            disposed++;
+        }
+    }
+
+    //Test #1: entities run only in their own phases and layers, in the order they were added
+    @Test
+    @DisplayName("Phases and layers run their own entities in order")
+    public void testPhasesAndLayers() {
+        List<String> log = new ArrayList<>();
+        EntityRegistry registry = new EntityRegistry();
+        registry.add(new Recorder("player", log), EntityRegistry.Layer.PLAYER, EntityRegistry.Phase.STORE_POSITION);
+        registry.add(new Recorder("dean", log), EntityRegistry.Layer.DEANS,
+            EntityRegistry.Phase.STORE_POSITION, EntityRegistry.Phase.UPDATE);
+
+        registry.runPhase(EntityRegistry.Phase.STORE_POSITION, 0.016f);
+        registry.runPhase(EntityRegistry.Phase.UPDATE, 0.016f);
+        registry.render(null, 0f, EntityRegistry.Layer.DEANS);
+        registry.render(null, 0f, EntityRegistry.Layer.PLAYER);
+
+        assertEquals(List.of("player.store", "dean.store", "dean.update", "dean.render", "player.render"), log);
+        assertEquals(2, registry.getCount(EntityRegistry.Phase.STORE_POSITION));
+        assertEquals(1, registry.getCount(EntityRegistry.Phase.UPDATE));
+        assertEquals(1, registry.getCount(EntityRegistry.Layer.DEANS));
+        assertEquals(0, registry.getCount(EntityRegistry.Layer.NONE));
+        assertEquals(1, registry.getPasses(EntityRegistry.Phase.UPDATE));
+    }
+
+    //Test #2: the same entity cannot be added twice
+    @Test
+    @DisplayName("Entities cannot be registered twice")
+    public void testNoDuplicates() {
+        EntityRegistry registry = new EntityRegistry();
+        Recorder dean = new Recorder("dean", new ArrayList<>());
+        registry.add(dean, EntityRegistry.Layer.DEANS, EntityRegistry.Phase.UPDATE);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.add(dean, EntityRegistry.Layer.DEANS, EntityRegistry.Phase.UPDATE));
+        assertEquals(1, registry.size());
+    }
+
+    //Test #3: entities added during a pass wait for the next one, removed ones stop at once
+    @Test
+    @DisplayName("Adding and removing during a pass is safe")
+    public void testChangesDuringPass() {
+        List<String> log = new ArrayList<>();
+        EntityRegistry registry = new EntityRegistry();
+        Recorder late = new Recorder("late", log);
+        Recorder victim = new Recorder("victim", log);
+        registry.add(new Recorder("spawner", log) {
+            @Override
+            public void update(float step) {
+                super.update(step);
+                if (!registry.contains(late)) {
+                    registry.add(late, EntityRegistry.Layer.NONE, EntityRegistry.Phase.UPDATE);
+                    registry.remove(victim);
+                }
+            }
+        }, EntityRegistry.Layer.NONE, EntityRegistry.Phase.UPDATE);
+        registry.add(victim, EntityRegistry.Layer.NONE, EntityRegistry.Phase.UPDATE);
+
+        registry.runPhase(EntityRegistry.Phase.UPDATE, 0.016f);
+        assertEquals(List.of("spawner.update"), log);
+        assertEquals(1, registry.getCount(EntityRegistry.Phase.UPDATE));
+
+        log.clear();
+        registry.runPhase(EntityRegistry.Phase.UPDATE, 0.016f);
+        assertEquals(List.of("spawner.update", "late.update"), log);
+        assertFalse(registry.contains(victim));
+        assertEquals(0, victim.disposed, "Removing should leave disposing to the caller");
+    }
+
+    //Test #4: disposing frees every entity exactly once
+    @Test
+    @DisplayName("Dispose frees each entity once")
+    public void testDispose() {
+        EntityRegistry registry = new EntityRegistry();
+        Recorder a = new Recorder("a", new ArrayList<>());
+        Recorder b = new Recorder("b", new ArrayList<>());
+        registry.add(a, EntityRegistry.Layer.DEANS);
+        registry.add(b, EntityRegistry.Layer.PLAYER, EntityRegistry.Phase.STORE_POSITION);
+
+        registry.dispose();
+
+        assertEquals(1, a.disposed);
+        assertEquals(1, b.disposed);
+        assertEquals(0, registry.size());
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for EventChecklist class.
+ * Tests the HUD checklists and achievement checks kept up to date from gameplay events.
+ * Automated: addMapEvents(), onEvent(), getCount(), getTotal(), isComplete(), hasHappened(),
+ * hasHitObstacle(), getLine()
+ * Manual testing required: checklists drawn in the top left of the game screen
+ */
+@DisplayName("EventChecklist Tests")
+public class EventChecklistTest extends TestHelper {
+
+    @AfterEach
+    public void releaseKeys() {
+        // Later suites read Gdx.input without replacing it, so leave no key held down.
+        Gdx.input = mock(Input.class);
+    }
+
+    private static EventChecklist mainMapChecklist(GameEvents events) {
+        MapEvents mapEvents = new MapEvents(new Player(0, 0), mock(GameTimer.class), new RandomStreams(1));
+        mapEvents.spawnAll();
+        EventChecklist checklist = new EventChecklist();
+        checklist.addMapEvents(mapEvents);
+        events.subscribeAll(checklist);
+        mapEvents.dispose();
+        return checklist;
+    }
+
+    //Test #1: totals include the map events and the events outside the map
+    @Test
+    @DisplayName("Totals cover map events and other events")
+    public void testTotals() {
+        EventChecklist checklist = mainMapChecklist(new GameEvents());
+
+        assertEquals(3, checklist.getTotal(EventCategory.POSITIVE));
+        assertEquals(5, checklist.getTotal(EventCategory.NEGATIVE));
+        assertEquals(3, checklist.getTotal(EventCategory.HIDDEN));
+        assertEquals("Positive Events Encountered = 0/3", checklist.getLine(EventCategory.POSITIVE));
+        assertEquals("Negative Events Encountered = 0/5", checklist.getLine(EventCategory.NEGATIVE));
+        assertEquals("Hidden Events Encountered = 0/3", checklist.getLine(EventCategory.HIDDEN));
+    }
+
+    //Test #2: an event only ticks off once however often it happens
+    @Test
+    @DisplayName("Repeated events count once")
+    public void testCountsFirstTimeOnly() {
+        GameEvents events = new GameEvents();
+        EventChecklist checklist = mainMapChecklist(events);
+
+        events.post(GameEvent.Type.CAUGHT_BY_DEAN);
+        events.post(GameEvent.Type.CAUGHT_BY_DEAN);
+        events.post(GameEvent.Type.CAUGHT_BY_PATROL);
+
+        assertEquals(2, checklist.getCount(EventCategory.NEGATIVE));
+        assertEquals("Negative Events Encountered = 2/5", checklist.getLine(EventCategory.NEGATIVE));
+        assertTrue(checklist.hasHappened(GameEvent.Type.CAUGHT_BY_DEAN));
+        assertFalse(checklist.hasHitObstacle(), "Catches are not obstacles");
+    }
+
+    //Test #3: a checklist is complete once every event on it has happened
+    @Test
+    @DisplayName("Checklist completes when every event has happened")
+    public void testCompletion() {
+        GameEvents events = new GameEvents();
+        EventChecklist checklist = mainMapChecklist(events);
+
+        events.post(GameEvent.Type.TICKET_COLLECTED);
+        events.post(GameEvent.Type.QUIZ_ANSWERED);
+        assertFalse(checklist.isComplete(EventCategory.HIDDEN));
+
+        GameEvent teleporter = events.obtain(GameEvent.Type.MAP_EVENT);
+        teleporter.definition = EventDefinition.LAB_EQUIPMENT;
+        events.post(teleporter);
+
+        assertTrue(checklist.isComplete(EventCategory.HIDDEN));
+        assertEquals("Hidden Events Encountered = 3/3", checklist.getLine(EventCategory.HIDDEN));
+        assertFalse(checklist.isComplete(EventCategory.POSITIVE));
+    }
+
+    //Test #4: drowning or a negative map event counts as hitting an obstacle
+    @Test
+    @DisplayName("Drowning and negative map events are obstacles")
+    public void testObstacles() {
+        GameEvents events = new GameEvents();
+        EventChecklist drowned = mainMapChecklist(events);
+        events.post(GameEvent.Type.DROWNED);
+        assertTrue(drowned.hasHitObstacle());
+
+        GameEvents other = new GameEvents();
+        EventChecklist bush = mainMapChecklist(other);
+        GameEvent event = other.obtain(GameEvent.Type.MAP_EVENT);
+        event.definition = EventDefinition.BUSH;
+        other.post(event);
+        assertTrue(bush.hasHitObstacle());
+        assertEquals(1, bush.getCount(EventCategory.NEGATIVE));
+    }
+
+    //Test #5: map events triggered in the world reach the checklist through the bus
+    @Test
+    @DisplayName("Triggered map events are posted to the checklist")
+    public void testMapEventsPost() {
+        Input input = mock(Input.class);
+        Gdx.input = input;
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        GameEvents events = new GameEvents();
+        EventChecklist checklist = new EventChecklist();
+        events.subscribeAll(checklist);
+        Player player = new Player(120, 220);
+        MapEvents mapEvents = new MapEvents(player, mock(GameTimer.class), null);
+        mapEvents.setGameEvents(events);
+        mapEvents.spawn(EventDefinition.LOCKER, 100, 200);
+        checklist.addMapEvents(mapEvents);
+
+        mapEvents.update(0.016f);
+        mapEvents.update(0.016f);
+
+        assertEquals(1, checklist.getCount(EventCategory.POSITIVE), "Searching the locker should be posted once");
+        assertEquals(2, checklist.getTotal(EventCategory.POSITIVE));
+        mapEvents.dispose();
+    }
+}
@@ -1,204 +1,132 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
- * Test suite for Extra_Time class.
- * Tests NPC creation, collision detection, time bonus application, and message display timing.
- * Test coverage:73%
- * Automated: Constructor, collision logic, timer mechanics, bonus amount verification
- * Coverage justification: message rendering and NPC disappearance only testable visually
+ * Test suite for the extra time event, spawned from {@link EventDefinition#EXTRA_TIME}.
+ * Tests the person giving extra time being placed off their spawn point, exactly 30
+ * seconds being added once when the player reaches them, them leaving afterwards, and
+ * their message.
+ * Automated: MapEvents.spawn(), update() and the person's position, trigger, sprite, time effect and message
+ * Manual testing required: the person and their message drawn in game
  */
-@DisplayName("Extra Time Tests")
+@DisplayName("Extra_Time Event Tests")
 public class Extra_TimeTest extends TestHelper {
 
-    //Test #1: instance created successfully at position
-    @Test
-    @DisplayName("Instance created successfully")
-    public void testInstanceCreation() {
-        Extra_Time et = new Extra_Time(100, 200);
-        assertNotNull(et);
-    }
-
-    //Test #2: time not gained initially
-    @Test
-    @DisplayName("Initial state correct")
-    public void testInitialState() {
-        Extra_Time et = new Extra_Time(100, 200);
-        assertFalse(et.gainedTime());
-    }
-
-    //Test #3: multiple instances are independent
-    @Test
-    @DisplayName("Multiple instances independent")
-    public void testMultipleInstances() {
-        Extra_Time et1 = new Extra_Time(100, 100);
-        Extra_Time et2 = new Extra_Time(200, 200);
+    private static final float FRAME = 0.016f;
 
-        assertNotSame(et1, et2);
-        assertFalse(et1.gainedTime());
-        assertFalse(et2.gainedTime());
-    }
+    private GameTimer timer;
 
-    //Test #4: various position parameters accepted
-    @Test
-    @DisplayName("Position parameters accepted")
-    public void testPositionParameters() {
-        assertDoesNotThrow(() -> new Extra_Time(0, 0));
-        assertDoesNotThrow(() -> new Extra_Time(500, 500));
-        assertDoesNotThrow(() -> new Extra_Time(100, 200));
+    @BeforeEach
+    public void setUpInput() {
+        Gdx.input = mock(Input.class);
+        timer = mock(GameTimer.class);
     }
 
-    //Test #5: player collision triggers time bonus
+    //Test #1: the person stands 20 right and 10 up from where they are spawned, with bounds to match
     @Test
-    @DisplayName("Player collision triggers time gain")
-    public void testPlayerCollisionTriggersTimeGain() {
-        Extra_Time clock = new Extra_Time(100, 200);
-        Player player = new Player(120, 210);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        assertFalse(clock.gainedTime());
-
-        clock.update(player, mockTimer, 0.016f);
-
-        assertTrue(clock.gainedTime(), "Time should be marked as gained");
-        verify(mockTimer, times(1)).addTime(30f);
+    @DisplayName("Position and bounds offset from the spawn point")
+    public void testPositionAndBounds() {
+        MapEvents events = new MapEvents(new Player(1000, 1000), timer, null);
+        Entity clock = events.spawn(EventDefinition.EXTRA_TIME, 150, 250);
+
+        assertEquals(new Vector2(170, 260), clock.getComponent(PositionComponent.class).position);
+        assertEquals(new Rectangle(170, 260, 19, 25), clock.getComponent(TriggerComponent.class).bounds);
+        assertFalse(clock.getComponent(TriggerComponent.class).triggered, "Time should not be gained initially");
+        assertTrue(clock.getComponent(SpriteComponent.class).visible);
+        events.dispose();
     }
 
-    //Test #6: distant player does not trigger collision
+    //Test #2: a player away from the person gains no time
     @Test
     @DisplayName("Player far from clock - no collision")
     public void testPlayerFarFromClock() {
-        Extra_Time clock = new Extra_Time(100, 200);
-        Player player = new Player(500, 500);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        clock.update(player, mockTimer, 0.016f);
-
-        assertFalse(clock.gainedTime(), "Time should not be gained");
-        verify(mockTimer, never()).addTime(anyFloat());
-    }
-
-    //Test #7: time can only be gained once
-    @Test
-    @DisplayName("Time can only be gained once")
-    public void testTimeOnlyGainedOnce() throws Exception {
-        Extra_Time clock = new Extra_Time(100, 200);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        java.lang.reflect.Field gainedField = Extra_Time.class.getDeclaredField("gainedTime");
-        gainedField.setAccessible(true);
-        gainedField.set(clock, true);
-
-        java.lang.reflect.Field searchedField = Extra_Time.class.getDeclaredField("searched");
-        searchedField.setAccessible(true);
-        searchedField.set(clock, true);
+        MapEvents events = new MapEvents(new Player(500, 500), timer, null);
+        events.spawn(EventDefinition.EXTRA_TIME, 100, 200);
 
-        Player player = new Player(120, 210);
-
-        clock.update(player, mockTimer, 0.016f);
-
-        assertTrue(clock.gainedTime(), "Time should remain gained");
-        verify(mockTimer, never()).addTime(anyFloat());
-    }
-
-    //Test #8: message displays for 5 seconds
-    @Test
-    @DisplayName("Message timer shows for correct duration")
-    public void testMessageDuration() throws Exception {
-        Extra_Time clock = new Extra_Time(100, 200);
-        Player player = new Player(500, 500);
-        GameTimer mockTimer = mock(GameTimer.class);
+        events.update(FRAME);
 
-        java.lang.reflect.Field showMessageField = Extra_Time.class.getDeclaredField("showMessage");
-        showMessageField.setAccessible(true);
-        showMessageField.set(clock, true);
-
-        java.lang.reflect.Field messageTimerField = Extra_Time.class.getDeclaredField("messageTimer");
-        messageTimerField.setAccessible(true);
-
-        clock.update(player, mockTimer, 1.0f);
-
-        float timer = messageTimerField.getFloat(clock);
-        assertEquals(1.0f, timer, 0.1f, "Message timer should increment");
-
-        clock.update(player, mockTimer, 5.0f);
-
-        boolean stillShowing = showMessageField.getBoolean(clock);
-        assertFalse(stillShowing, "Message should hide after 5 seconds");
+        assertFalse(events.isTriggered(EventDefinition.EXTRA_TIME));
+        verify(timer, never()).addTime(anyFloat());
+        events.dispose();
     }
 
-    //Test #9: player hitbox collision works
+    //Test #3: reaching the person with the edge of the hitbox adds exactly 30 seconds
     @Test
-    @DisplayName("Player hitbox collision detection works")
+    @DisplayName("Player hitbox collision adds exactly 30 seconds")
     public void testHitboxCollision() {
-        Extra_Time clock = new Extra_Time(100, 200);
-        Player player = new Player(130, 220);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        clock.update(player, mockTimer, 0.016f);
+        MapEvents events = new MapEvents(new Player(130, 220), timer, null);
+        events.spawn(EventDefinition.EXTRA_TIME, 100, 200);
 
-        assertTrue(clock.gainedTime(), "Collision should be detected");
-        verify(mockTimer, times(1)).addTime(30f);
-    }
-
-    //Test #10: position has offset from constructor parameters
-    @Test
-    @DisplayName("Position at creation matches constructor with offset")
-    public void testClockPosition() throws Exception {
-        Extra_Time clock = new Extra_Time(150, 250);
+        events.update(FRAME);
 
-        java.lang.reflect.Field posField = Extra_Time.class.getDeclaredField("position");
-        posField.setAccessible(true);
-        Vector2 pos = (Vector2) posField.get(clock);
-
-        assertEquals(170, pos.x, "X position should be +20 from constructor");
-        assertEquals(260, pos.y, "Y position should be +10 from constructor");
+        assertTrue(events.isTriggered(EventDefinition.EXTRA_TIME), "Collision should be detected");
+        verify(timer, times(1)).addTime(30f);
+        verifyNoMoreInteractions(timer);
+        events.dispose();
     }
 
-    //Test #11: collision bounds exist and initialized
+    //Test #4: collecting from one person leaves another alone
     @Test
-    @DisplayName("Bounds size matches texture")
-    public void testBoundsSize() throws Exception {
-        Extra_Time clock = new Extra_Time(100, 200);
+    @DisplayName("Multiple instances independent")
+    public void testMultipleInstances() {
+        MapEvents events = new MapEvents(new Player(120, 110), timer, null);
+        Entity near = events.spawn(EventDefinition.EXTRA_TIME, 100, 100);
+        Entity far = events.spawn(EventDefinition.EXTRA_TIME, 400, 400);
 
-        java.lang.reflect.Field boundsField = Extra_Time.class.getDeclaredField("bounds");
-        boundsField.setAccessible(true);
+        events.update(FRAME);
 
-        assertNotNull(boundsField.get(clock), "Bounds should exist");
+        assertTrue(near.getComponent(TriggerComponent.class).triggered);
+        assertFalse(far.getComponent(TriggerComponent.class).triggered);
+        assertTrue(far.getComponent(SpriteComponent.class).visible);
+        events.dispose();
     }
 
-    //Test #12: time bonus is exactly +30 seconds
+    //Test #5: time is only added once, and the person leaves once they have given it
     @Test
-    @DisplayName("Time increase amount is correct")
-    public void testTimeIncreaseAmount() {
-        Extra_Time clock = new Extra_Time(100, 200);
+    @DisplayName("Time only gained once and the person disappears")
+    public void testTimeOnlyGainedOnce() {
         Player player = new Player(120, 210);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        clock.update(player, mockTimer, 0.016f);
-
-        verify(mockTimer, times(1)).addTime(30f);
+        MapEvents events = new MapEvents(player, timer, null);
+        Entity clock = events.spawn(EventDefinition.EXTRA_TIME, 100, 200);
+        events.update(FRAME);
+        assertFalse(clock.getComponent(SpriteComponent.class).visible, "Should disappear after collection");
+
+        player.getPosition().set(500, 500);
+        events.update(FRAME);
+        player.getPosition().set(120, 210);
+        events.update(FRAME);
+
+        verify(timer, times(1)).addTime(30f);
+        assertFalse(clock.getComponent(SpriteComponent.class).visible);
+        events.dispose();
     }
 
-    //Test #13: NPC disappears after collection
+    //Test #6: the message shows when time is gained and hides after 5 seconds
     @Test
-    @DisplayName("NPC disappears after collection")
-    public void testNPCDisappearsAfterCollection() throws Exception {
-        Extra_Time clock = new Extra_Time(100, 200);
-        Player player = new Player(120, 210);
-        GameTimer mockTimer = mock(GameTimer.class);
-
-        clock.update(player, mockTimer, 0.016f);
-
-        java.lang.reflect.Field searchedField = Extra_Time.class.getDeclaredField("searched");
-        searchedField.setAccessible(true);
-
-        assertTrue(searchedField.getBoolean(clock), "NPC should be marked as searched");
+    @DisplayName("Message shows for 5 seconds")
+    public void testMessageDuration() {
+        MapEvents events = new MapEvents(new Player(120, 210), timer, null);
+        Entity clock = events.spawn(EventDefinition.EXTRA_TIME, 100, 200);
+        MessageComponent message = clock.getComponent(MessageComponent.class);
+
+        events.update(FRAME);
+        assertTrue(message.showing, "Message should show even though the person has gone");
+        assertEquals(EventDefinition.EXTRA_TIME.message, message.text);
+        events.update(1f);
+        assertTrue(message.showing, "Message should still show after 1 second");
+        events.update(4f);
+        assertFalse(message.showing, "Message should hide after 5 seconds");
+        events.dispose();
     }
 }
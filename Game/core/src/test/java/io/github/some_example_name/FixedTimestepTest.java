@@ -0,0 +1,96 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for FixedTimestep class.
+ * Tests turning frame times into whole ticks, keeping the remainder as the
+ * interpolation alpha, capping catch-up after long frames, and interpolation.
+ * Automated: advance(), getAlpha(), setTicksPerSecond(), reset(), interpolate()
+ */
+@DisplayName("Fixed Timestep Tests")
+public class FixedTimestepTest {
+
+    //Test #1: the same span of time runs the same ticks at any frame rate
+    @Test
+    @DisplayName("Tick count does not depend on frame rate")
+    public void testFrameRateIndependent() {
+        FixedTimestep at60 = new FixedTimestep();
+        FixedTimestep at144 = new FixedTimestep();
+        FixedTimestep at30 = new FixedTimestep();
+
+        int ticks60 = 0, ticks144 = 0, ticks30 = 0;
+        for (int i = 0; i < 60; i++) ticks60 += at60.advance(1f / 60f);
+        for (int i = 0; i < 144; i++) ticks144 += at144.advance(1f / 144f);
+        for (int i = 0; i < 30; i++) ticks30 += at30.advance(1f / 30f);
+
+        assertEquals(60, ticks60, 1);
+        assertEquals(60, ticks144, 1);
+        assertEquals(60, ticks30, 1);
+    }
+
+    //Test #2: leftover time becomes the interpolation alpha
+    @Test
+    @DisplayName("Remainder becomes alpha")
+    public void testAlpha() {
+        FixedTimestep timestep = new FixedTimestep(10f, 5);
+        assertEquals(0, timestep.advance(0.05f));
+        assertEquals(0.5f, timestep.getAlpha(), 0.001f);
+        assertEquals(1, timestep.advance(0.075f));
+        assertEquals(0.25f, timestep.getAlpha(), 0.001f);
+        assertEquals(1, timestep.getTickCount());
+    }
+
+    //Test #3: a long frame only catches up to the cap and drops the rest
+    @Test
+    @DisplayName("Catch-up is capped")
+    public void testCatchUpCapped() {
+        FixedTimestep timestep = new FixedTimestep(60f, 5);
+        assertEquals(5, timestep.advance(2f));
+        assertEquals(0f, timestep.getAlpha(), 0.001f);
+        assertEquals(1, timestep.advance(1f / 60f + 0.0001f));
+    }
+
+    //Test #4: invalid frame times are ignored and rates validated
+    @Test
+    @DisplayName("Invalid input is rejected")
+    public void testValidation() {
+        FixedTimestep timestep = new FixedTimestep();
+        assertEquals(0, timestep.advance(-1f));
+        assertEquals(0, timestep.advance(Float.NaN));
+        assertEquals(0, timestep.advance(Float.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> timestep.setTicksPerSecond(0f));
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(60f, 0));
+    }
+
+    //Test #5: lowering the tick rate lengthens the step
+    @Test
+    @DisplayName("Tick rate can change")
+    public void testChangeRate() {
+        FixedTimestep timestep = new FixedTimestep();
+        timestep.setTicksPerSecond(30f);
+        assertEquals(1f / 30f, timestep.getStepSeconds(), 0.0001f);
+        assertEquals(1, timestep.advance(0.05f));
+
+        timestep.reset();
+        assertEquals(0, timestep.getTickCount());
+        assertEquals(0f, timestep.getAlpha(), 0.0001f);
+    }
+
+    //Test #6: interpolation lerps short moves and snaps long ones
+    @Test
+    @DisplayName("Interpolation snaps long moves")
+    public void testInterpolate() {
+        Vector2 out = new Vector2();
+        FixedTimestep.interpolate(new Vector2(0, 0), new Vector2(4, 2), 0.25f, 32f, out);
+        assertEquals(1f, out.x, 0.0001f);
+        assertEquals(0.5f, out.y, 0.0001f);
+
+        FixedTimestep.interpolate(new Vector2(0, 0), new Vector2(100, 0), 0.25f, 32f, out);
+        assertEquals(100f, out.x, 0.0001f);
+    }
+}
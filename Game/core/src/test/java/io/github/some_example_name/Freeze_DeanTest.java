@@ -29,7 +29,7 @@ public class Freeze_DeanTest extends TestHelper {
     private MapObjects mapObjects;
     private RectangleMapObject materialsObject;
     private Player mockPlayer;
-    private GameScreen mockGameScreen;
+    private GameSession mockSession;
 
     @BeforeEach
     public void setUp() {
@@ -46,7 +46,7 @@ public class Freeze_DeanTest extends TestHelper {
         when(mockLayer.getObjects()).thenReturn(mapObjects);
 
         mockPlayer = mock(Player.class);
-        mockGameScreen = mock(GameScreen.class);
+        mockSession = mock(GameSession.class);
     }
 
     //Test #1: constructor finds Materials object in map
@@ -93,7 +93,7 @@ public class Freeze_DeanTest extends TestHelper {
         when(mockPlayer.getPosition()).thenReturn(new Vector2(100, 100));
 
         assertDoesNotThrow(() -> {
-            freezeDean.update(mockPlayer, mockGameScreen);
+            freezeDean.update(mockPlayer, mockSession);
         }, "Update should handle null materials area without crashing");
     }
 
@@ -115,7 +115,7 @@ public class Freeze_DeanTest extends TestHelper {
         Vector2 playerPosition = new Vector2(108, 108);
         when(mockPlayer.getPosition()).thenReturn(playerPosition);
 
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
         assertFalse(freezeDean.isUsed(),
             "Event should not activate without E key press");
@@ -129,9 +129,9 @@ public class Freeze_DeanTest extends TestHelper {
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(10, 10));
 
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).freezeAllDeans(anyFloat());
         assertFalse(freezeDean.isUsed());
     }
 
@@ -143,9 +143,9 @@ public class Freeze_DeanTest extends TestHelper {
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(110, 110));
 
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).freezeAllDeans(anyFloat());
         assertFalse(freezeDean.isUsed());
     }
 
@@ -161,10 +161,10 @@ public class Freeze_DeanTest extends TestHelper {
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(110, 110));
 
-        freezeDean.update(mockPlayer, mockGameScreen);
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
+        freezeDean.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).freezeAllDeans(anyFloat());
         assertTrue(freezeDean.isUsed());
     }
 
@@ -178,8 +178,8 @@ public class Freeze_DeanTest extends TestHelper {
         Freeze_Dean freezeDean = new Freeze_Dean(mockMap, "Events");
         when(mockPlayer.getPosition()).thenReturn(new Vector2(110, 110));
 
-        assertDoesNotThrow(() -> freezeDean.update(mockPlayer, mockGameScreen));
-        verify(mockGameScreen, never()).freezeAllDeans();
+        assertDoesNotThrow(() -> freezeDean.update(mockPlayer, mockSession));
+        verify(mockSession, never()).freezeAllDeans(anyFloat());
     }
 
     //Test #11: player overlap boundary detection
@@ -189,12 +189,12 @@ public class Freeze_DeanTest extends TestHelper {
         Freeze_Dean freezeDean = new Freeze_Dean(mockMap, "Events");
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(100, 100));
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(99, 99));
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).freezeAllDeans(anyFloat());
     }
 
     //Test #12: E key activates freeze event
@@ -210,9 +210,9 @@ public class Freeze_DeanTest extends TestHelper {
 
         when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
 
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, times(1)).freezeAllDeans();
+        verify(mockSession, times(1)).freezeAllDeans(Freeze_Dean.FREEZE_DURATION);
         assertTrue(freezeDean.isUsed(), "Freeze should be marked as used");
     }
 
@@ -229,9 +229,9 @@ public class Freeze_DeanTest extends TestHelper {
 
         when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
 
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).freezeAllDeans(anyFloat());
         assertFalse(freezeDean.isUsed());
     }
 
@@ -246,12 +246,12 @@ public class Freeze_DeanTest extends TestHelper {
         when(mockPlayer.getPosition()).thenReturn(new Vector2(110, 110));
 
         when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
-        freezeDean.update(mockPlayer, mockGameScreen);
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
+        freezeDean.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, times(1)).freezeAllDeans();
+        verify(mockSession, times(1)).freezeAllDeans(Freeze_Dean.FREEZE_DURATION);
         assertTrue(freezeDean.isUsed());
     }
 
@@ -267,9 +267,34 @@ public class Freeze_DeanTest extends TestHelper {
         when(mockPlayer.getPosition()).thenReturn(new Vector2(500, 500));
         when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
 
-        freezeDean.update(mockPlayer, mockGameScreen);
+        freezeDean.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).freezeAllDeans(anyFloat());
         assertFalse(freezeDean.isUsed());
     }
+
+    //Test #16: once attached, the area is found through the trigger volumes and sleeps after use
+    @Test
+    @DisplayName("Attached event reads the trigger volumes and sleeps after use")
+    void testAttachedToTriggerVolumes() {
+        Input mockInput = mock(Input.class);
+        Gdx.input = mockInput;
+        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        when(mockPlayer.getPosition()).thenReturn(new Vector2(110, 110));
+
+        Freeze_Dean freezeDean = new Freeze_Dean(mockMap, "Events");
+        TriggerVolumes volumes = new TriggerVolumes();
+        freezeDean.attach(volumes);
+        assertEquals(1, volumes.size());
+
+        freezeDean.update(mockPlayer, mockSession);
+        assertFalse(freezeDean.isUsed(), "Player is not in the area until the volumes are updated");
+
+        volumes.update(110, 110, Player.SIZE, Player.SIZE);
+        freezeDean.update(mockPlayer, mockSession);
+
+        assertTrue(freezeDean.isUsed());
+        assertTrue(volumes.isAsleep(0), "Used materials should no longer be checked");
+        verify(mockSession, times(1)).freezeAllDeans(Freeze_Dean.FREEZE_DURATION);
+    }
 }
@@ -0,0 +1,83 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GameEvents class.
+ * Tests posting gameplay events to the listeners for their type and reusing pooled events.
+ * Automated: subscribe(), subscribeAll(), unsubscribe(), obtain(), post(), getFreeEvents()
+ */
+@DisplayName("GameEvents Tests")
+public class GameEventsTest {
+
+    //Test #1: listeners only hear the types they subscribed to
+    @Test
+    @DisplayName("Events go to the listeners for their type")
+    public void testDispatchByType() {
+        GameEvents events = new GameEvents();
+        List<GameEvent.Type> dean = new ArrayList<>();
+        List<GameEvent.Type> all = new ArrayList<>();
+        events.subscribe(GameEvent.Type.CAUGHT_BY_DEAN, event -> dean.add(event.type));
+        events.subscribeAll(event -> all.add(event.type));
+
+        events.post(GameEvent.Type.CAUGHT_BY_DEAN);
+        events.post(GameEvent.Type.DROWNED);
+
+        assertEquals(List.of(GameEvent.Type.CAUGHT_BY_DEAN), dean);
+        assertEquals(List.of(GameEvent.Type.CAUGHT_BY_DEAN, GameEvent.Type.DROWNED), all);
+    }
+
+    //Test #2: posted events go back to the pool and come out cleared
+    @Test
+    @DisplayName("Posted events are pooled and reused")
+    public void testPooledEvents() {
+        GameEvents events = new GameEvents();
+        GameEvent first = events.obtain(GameEvent.Type.MAP_EVENT);
+        first.definition = EventDefinition.LOCKER;
+        first.success = true;
+        events.post(first);
+        assertEquals(1, events.getFreeEvents());
+
+        GameEvent second = events.obtain(GameEvent.Type.QUIZ_ANSWERED);
+        assertSame(first, second, "The freed event should be reused");
+        assertNull(second.definition);
+        assertFalse(second.success);
+        assertEquals(GameEvent.Type.QUIZ_ANSWERED, second.type);
+    }
+
+    //Test #3: an unsubscribed listener hears nothing more
+    @Test
+    @DisplayName("Unsubscribed listeners stop hearing events")
+    public void testUnsubscribe() {
+        GameEvents events = new GameEvents();
+        int[] heard = new int[1];
+        GameEvents.Listener listener = event -> heard[0]++;
+        events.subscribeAll(listener);
+
+        events.post(GameEvent.Type.FREEZE_USED);
+        events.unsubscribe(listener);
+        events.post(GameEvent.Type.FREEZE_USED);
+
+        assertEquals(1, heard[0]);
+    }
+
+    //Test #4: events know which checklist they belong on
+    @Test
+    @DisplayName("Event types map to their checklist")
+    public void testCategories() {
+        GameEvents events = new GameEvents();
+        GameEvent event = events.obtain(GameEvent.Type.TICKET_COLLECTED);
+        assertEquals(EventCategory.HIDDEN, event.getCategory());
+
+        event.type = GameEvent.Type.MAP_EVENT;
+        event.definition = EventDefinition.BUSH;
+        assertEquals(EventCategory.NEGATIVE, event.getCategory(), "Map events take their definition's checklist");
+        assertEquals(EventCategory.NONE, GameEvent.Type.TELEPORT_HAPPENED.getCategory());
+    }
+}
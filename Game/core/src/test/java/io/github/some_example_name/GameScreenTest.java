@@ -1,19 +1,26 @@
 package io.github.some_example_name;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import java.io.InputStream;
 import java.lang.reflect.Field;
 
 /**
  * Test suite for GameScreen class.
- * Tests the only testable calculation method: calculateTotalPenalty().
+ * Tests the penalty calculation, calculateTotalPenalty(), that a game suspended
+ * when the window closes is kept, that a frame allocates nothing once warm, and that
+ * the map is built again on resume.
  * Test coverage: <5%
- * Automated: calculateTotalPenalty() - penalty scoring logic only
+ * Automated: calculateTotalPenalty() - penalty scoring logic, pause() and hide() through MyGame,
+ * tickWorld() allocations, resume()
  * Coverage justification: GameScreen is primarily a UI, as GameScreen has been tested manually with ID GS
  */
 @DisplayName("GameScreen Penalty Calculation Tests")
-public class GameScreenTest {
+public class GameScreenTest extends TestHelper {
 
     private static final sun.misc.Unsafe unsafe;
     static {
@@ -30,10 +37,16 @@ public class GameScreenTest {
         return (GameScreen) unsafe.allocateInstance(GameScreen.class);
     }
 
+    // The counters live in the screen's session, made without its constructor too.
     private void setField(GameScreen screen, String fieldName, int value) throws Exception {
-        Field field = GameScreen.class.getDeclaredField(fieldName);
+        Field sessionField = GameScreen.class.getDeclaredField("session");
+        sessionField.setAccessible(true);
+        if (sessionField.get(screen) == null) {
+            sessionField.set(screen, unsafe.allocateInstance(GameSession.class));
+        }
+        Field field = GameSession.class.getDeclaredField(fieldName);
         field.setAccessible(true);
-        field.set(screen, value);
+        field.set(sessionField.get(screen), value);
     }
 
     //Test #1: no penalties returns zero
@@ -231,4 +244,61 @@ public class GameScreenTest {
         assertEquals(25, penalty,
             "Realistic scenario: 2 dean + 1 drown + 1 patrol = 25 points");
     }
+
+    //Test #13: closing the window pauses then hides the screen, and the game suspended by the pause is kept
+    @Test
+    @DisplayName("Closing the window keeps the suspended game")
+    void testCloseKeepsSuspendedGame() throws Exception {
+        FileHandle suspended = Gdx.files.local(GameScreen.SNAPSHOT_PATH);
+        suspended.delete();
+        GameSession session = GameSession.createHeadless(new ScriptedInput(), 3L);
+        MyGame game = new MyGame();
+        try {
+            game.setScreen(new GameScreen(game, session));
+            session.run(60);
+
+            // What the desktop backend does when the window is closed.
+            game.pause();
+            game.dispose();
+
+            assertTrue(suspended.exists(), "The game should still be there to carry on");
+            try (InputStream in = suspended.read()) {
+                assertTrue(GameSnapshot.read(in).size() > 0);
+            }
+        } finally {
+            suspended.delete();
+            session.dispose();
+        }
+    }
+
+    //Test #14: once the rewind ring is full, the game's side of a frame, recorded for rewinding, allocates nothing
+    @Test
+    @DisplayName("Frames and their recording allocate nothing once warm")
+    public void testFrameAllocatesNothing() throws Exception {
+        long allocated = AllocationProbe.measure("frame");
+        assertEquals(0, allocated, "A run of " + AllocationProbe.MEASURED + " frames allocated " + allocated + " bytes");
+    }
+
+    //Test #15: coming back from the background builds the chunks of both chunked renderers again
+    @Test
+    @DisplayName("Resuming rebuilds the baked and the cached map")
+    void testResumeRebuildsChunks() {
+        GameSession session = GameSession.createHeadless(new ScriptedInput(), 4L);
+        try {
+            GameScreen screen = new GameScreen(null, session);
+            screen.resume(); // no renderer at all
+
+            CachedMapRenderer cached = mock(CachedMapRenderer.class);
+            screen.mapRenderer = cached;
+            screen.resume();
+            verify(cached).markAllDirty();
+
+            BakedMapRenderer baked = mock(BakedMapRenderer.class);
+            screen.mapRenderer = baked;
+            screen.resume();
+            verify(baked).markAllDirty();
+        } finally {
+            session.dispose();
+        }
+    }
 }
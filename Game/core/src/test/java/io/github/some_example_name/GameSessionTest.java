@@ -0,0 +1,227 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GameSession class.
+ * Tests a whole game running headless in fixed ticks: the autopilot picking up the
+ * ticket and boarding the bus, the clock running out, events and the timer moving on
+ * with the tick rather than the frame, a game rewound to a snapshot playing on the same,
+ * and a replay ending the same as the game it recorded.
+ * Automated: createHeadless(), tick(), run(), getOutcome(), writeState(), rewindState(),
+ * calculateTotalScore(), a recorded game played back by its recording alone, two
+ * games on the same seed going the same way and the speed of whole headless games
+ * Manual testing required: the same game drawn and played on GameScreen
+ */
+@DisplayName("GameSession Tests")
+public class GameSessionTest extends TestHelper {
+
+    //Test #1: the autopilot picks the ticket up and boards the bus with nothing but ticks
+    @Test
+    @DisplayName("A whole game is won headless")
+    public void testWonHeadless() {
+        Gdx.gl = Gdx.gl20 = null;
+        GameSession session = GameSession.createHeadless(Autopilot.playGame(false), 3L);
+        session.run(60 * 120);
+
+        assertEquals(GameSession.Outcome.WON, session.getOutcome());
+        assertTrue(session.getBusTicket().isCollected());
+        assertTrue(session.getChecklist().hasHappened(GameEvent.Type.TICKET_COLLECTED));
+        assertTrue(session.getTimer().getTimeLeft() < Score.GAME_LENGTH_SECONDS);
+        assertTrue(session.calculateFinalScore() > 0, "Time was left on the clock");
+
+        long ticks = session.getSimulation().getTickCount();
+        session.run(100);
+        assertEquals(ticks, session.getSimulation().getTickCount(), "Nothing should move once the game is over");
+        session.dispose();
+    }
+
+    //Test #2: the clock runs out on the tick, not the frame
+    @Test
+    @DisplayName("Time runs out after the length of a game in ticks")
+    public void testTimeUp() {
+        GameSession session = GameSession.createHeadless(null, 5L);
+        int ticksInGame = Math.round(Score.GAME_LENGTH_SECONDS / Simulation.DEFAULT_STEP);
+        session.run(ticksInGame - 10);
+        assertEquals(GameSession.Outcome.PLAYING, session.getOutcome());
+        // Thousands of steps added up in floats drift by a tick or two.
+        assertEquals(10 * Simulation.DEFAULT_STEP, session.getTimer().getTimeLeft(), 3 * Simulation.DEFAULT_STEP);
+
+        session.run(20);
+        assertEquals(GameSession.Outcome.TIME_UP, session.getOutcome());
+        assertEquals(0f, session.getTimer().getTimeLeft());
+        assertTrue(session.getSimulation().getTickCount() < ticksInGame + 5, "Ticks should stop once time is up");
+        session.dispose();
+    }
+
+    //Test #3: the ticket is seen and picked up on the tick the player reaches it
+    @Test
+    @DisplayName("Ticket is picked up on the tick")
+    public void testTicketOnTick() {
+        ScriptedInput input = new ScriptedInput();
+        GameSession session = GameSession.createHeadless(input, 9L);
+        BusTicket ticket = session.getBusTicket();
+        session.getPlayer().getPosition().set(ticket.getPosition());
+        session.tick(Simulation.DEFAULT_STEP);
+        assertTrue(session.canPickUpTicket());
+        assertFalse(ticket.isCollected());
+
+        input.press(Input.Keys.E);
+        session.tick(Simulation.DEFAULT_STEP);
+        assertTrue(ticket.isCollected());
+        assertFalse(session.canPickUpTicket());
+        assertTrue(session.getChecklist().hasHappened(GameEvent.Type.TICKET_COLLECTED));
+        assertEquals(Score.GAME_LENGTH_SECONDS - 2 * Simulation.DEFAULT_STEP, session.getTimer().getTimeLeft(), 1e-4f);
+        session.dispose();
+    }
+
+    //Test #4: rewinding to a snapshot and playing on gives the same game again
+    @Test
+    @DisplayName("Rewound game plays on the same")
+    public void testRewindPlaysTheSame() {
+        // Held keys, since a bot's own progress is not part of the game.
+        ScriptedInput input = new ScriptedInput();
+        input.press(Input.Keys.D);
+        GameSession session = GameSession.createHeadless(input, 11L);
+        session.run(600);
+        ByteBuffer saved = ByteBuffer.allocate(GameSnapshot.CAPACITY);
+        session.writeState(saved);
+        saved.flip();
+
+        session.run(900);
+        Vector2 position = new Vector2(session.getPlayer().getPosition());
+        float timeLeft = session.getTimer().getTimeLeft();
+        int penalty = session.calculateTotalPenalty();
+        String positive = session.getChecklist().getLine(EventCategory.POSITIVE);
+
+        session.rewindState(saved);
+        assertEquals(GameSession.Outcome.PLAYING, session.getOutcome());
+        session.run(900);
+        assertEquals(position, session.getPlayer().getPosition());
+        assertEquals(timeLeft, session.getTimer().getTimeLeft());
+        assertEquals(penalty, session.calculateTotalPenalty());
+        assertEquals(positive, session.getChecklist().getLine(EventCategory.POSITIVE));
+        session.dispose();
+    }
+
+    //Test #5: a resumed game carries on from the snapshot, on a session of its own
+    @Test
+    @DisplayName("Resumed game carries on from the snapshot")
+    public void testResume() {
+        ScriptedInput input = new ScriptedInput();
+        GameSession session = GameSession.createHeadless(input, 13L);
+        input.press(Input.Keys.W);
+        session.run(120);
+        ByteBuffer saved = ByteBuffer.allocate(GameSnapshot.CAPACITY);
+        session.writeState(saved);
+        saved.flip();
+
+        GameSession resumed = new GameSession(new HeadlessMapLoader().load(Simulation.MAP_PATH), saved, false);
+        assertFalse(saved.hasRemaining(), "The whole snapshot should be read");
+        assertEquals(session.getPlayer().getPosition(), resumed.getPlayer().getPosition());
+        assertEquals(session.getTimer().getTimeLeft(), resumed.getTimer().getTimeLeft());
+        assertEquals(session.getSimulation().getTickCount(), resumed.getSimulation().getTickCount());
+        session.dispose();
+        resumed.dispose();
+    }
+
+    //Test #6: achievements add to the score, which never goes below 0
+    @Test
+    @DisplayName("Total score adds the achievements")
+    public void testTotalScore() {
+        GameSession session = GameSession.createHeadless(null, 17L);
+        Array<Achievement> achievements = session.calculateAchievements();
+        assertEquals(session.calculateFinalScore() + Score.achievementBonus(achievements),
+            session.calculateTotalScore(achievements));
+
+        achievements.add(new Achievement("Worst", "Lost everything", -100000));
+        assertEquals(0, session.calculateTotalScore(achievements));
+        session.dispose();
+    }
+
+    //Test #7: a whole game with every event, the quiz and teleports, replays to the same end
+    @Test
+    @DisplayName("Replayed game ends the same as the recorded one")
+    public void testReplayWholeGame() throws IOException {
+        int mapHash = InputRecording.hashMap(Gdx.files.internal(Simulation.MAP_PATH));
+        GameSession live = GameSession.createHeadless(Autopilot.playGame(true), 21L);
+        InputRecording recording = new InputRecording(21L, mapHash, 0);
+        live.getSimulation().startRecording(recording);
+        live.run(60 * 300);
+        assertTrue(live.getChecklist().hasHappened(GameEvent.Type.TICKET_COLLECTED));
+        assertTrue(live.getQuestionnaire().isAnswered(), "The autopilot should have answered the quiz");
+
+        GameSession replay = new GameSession(new HeadlessMapLoader().load(Simulation.MAP_PATH),
+            InputRecording.fromBytes(recording.toBytes()), false);
+        replay.run(60 * 300);
+        assertEquals(live.getOutcome(), replay.getOutcome());
+        assertEquals(live.getSimulation().getTickCount(), replay.getSimulation().getTickCount());
+        assertEquals(live.getPlayer().getPosition(), replay.getPlayer().getPosition());
+        assertEquals(live.getTimer().getTimeLeft(), replay.getTimer().getTimeLeft());
+        assertEquals(live.getTimesDrowned(), replay.getTimesDrowned());
+        assertEquals(live.getTimesCaughtByDean(), replay.getTimesCaughtByDean());
+        assertEquals(live.getQuestionnaire().isAnswered(), replay.getQuestionnaire().isAnswered());
+        for (EventCategory category : new EventCategory[] {EventCategory.POSITIVE, EventCategory.NEGATIVE, EventCategory.HIDDEN}) {
+            assertEquals(live.getChecklist().getLine(category), replay.getChecklist().getLine(category));
+        }
+        assertEquals(live.calculateTotalScore(live.calculateAchievements()),
+            replay.calculateTotalScore(replay.calculateAchievements()));
+        live.dispose();
+        replay.dispose();
+    }
+
+    //Test #8: the events, quiz, freeze pickup, NPCs and teleports all run on the seed, so a seed plays one way
+    @Test
+    @DisplayName("Same seed plays the same whole game")
+    public void testSameSeedSameGame() {
+        GameSession first = GameSession.createHeadless(Autopilot.playGame(true), 23L);
+        GameSession second = GameSession.createHeadless(Autopilot.playGame(true), 23L);
+        for (int tick = 0; tick < 60 * 300; tick++) {
+            first.tick(Simulation.DEFAULT_STEP);
+            second.tick(Simulation.DEFAULT_STEP);
+            assertEquals(first.getPlayer().getPosition(), second.getPlayer().getPosition(), "Tick " + tick);
+        }
+        assertEquals(first.getOutcome(), second.getOutcome());
+        assertEquals(first.getTimesDrowned(), second.getTimesDrowned());
+        assertEquals(first.getChecklist().getLine(EventCategory.HIDDEN), second.getChecklist().getLine(EventCategory.HIDDEN));
+        first.dispose();
+        second.dispose();
+    }
+
+    //Test #9: whole games, with every event in the tick, still run far faster than real time
+    @Test
+    @DisplayName("Whole headless games are fast")
+    public void testThroughput() {
+        int ticksInGame = Math.round(Score.GAME_LENGTH_SECONDS / Simulation.DEFAULT_STEP);
+        GameSession warmUp = GameSession.createHeadless(Autopilot.playGame(true), 25L);
+        warmUp.run(ticksInGame); // so the ticks timed are compiled
+        warmUp.dispose();
+
+        // Games going round every event, so the quiz, teleports, NPCs and pickups all run.
+        // Only the ticks are timed, not loading the map or setting the games up.
+        TiledMap map = new HeadlessMapLoader().load(Simulation.MAP_PATH);
+        long ticks = 0;
+        long nanos = 0;
+        for (long seed = 26L; seed < 30L; seed++) {
+            GameSession session = new GameSession(map, Autopilot.playGame(true), seed, false);
+            long start = System.nanoTime();
+            session.run(ticksInGame);
+            nanos += System.nanoTime() - start;
+            ticks += session.getSimulation().getTickCount();
+            session.dispose();
+        }
+        double millis = nanos / 1e6;
+        assertTrue(millis < ticks * 1000.0 / 60.0, "Should run faster than real time, but " + ticks + " ticks took " + millis + " ms");
+    }
+}
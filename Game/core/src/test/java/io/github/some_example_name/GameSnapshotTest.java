@@ -0,0 +1,234 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for GameSnapshot class.
+ * Tests writing the game's state to a snapshot and reading it back: the simulation,
+ * the deans' routes and planning, the map events and their trigger areas, the
+ * checklists, and refusing snapshots of another version.
+ * Automated: startWriting(), finishWriting(), startReading(), write(), read(), and the
+ * writeState() and readState() of Simulation, InfluenceMap, PursuitPlanner, MapEvents,
+ * TriggerVolumes and EventChecklist
+ * Manual testing required: GameScreen suspended on pause and continued from the menu
+ */
+@DisplayName("GameSnapshot Tests")
+public class GameSnapshotTest extends TestHelper {
+
+    @AfterEach
+    public void releaseKeys() {
+        Gdx.input = mock(Input.class);
+    }
+
+    //Test #1: a snapshot survives being saved and loaded, and other data is refused
+    @Test
+    @DisplayName("Snapshots are saved, loaded and checked")
+    public void testSaveAndLoad() throws IOException {
+        GameSnapshot snapshot = new GameSnapshot();
+        snapshot.startWriting().putInt(1234);
+        snapshot.finishWriting();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        snapshot.write(bytes);
+        assertEquals(snapshot.size(), bytes.size());
+        GameSnapshot loaded = GameSnapshot.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(1234, loaded.startReading().getInt());
+
+        byte[] wrong = bytes.toByteArray();
+        wrong[5]++; // version
+        GameSnapshot newer = GameSnapshot.read(new ByteArrayInputStream(wrong));
+        assertThrows(IllegalArgumentException.class, newer::startReading);
+        GameSnapshot junk = GameSnapshot.read(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, junk::startReading);
+    }
+
+    //Test #2: a simulation read from a snapshot carries on from the same state
+    @Test
+    @DisplayName("Simulation state is read back exactly")
+    public void testSimulationRoundTrip() {
+        ScriptedInput input = new ScriptedInput();
+        Simulation original = Simulation.createHeadless(input, 17L);
+        input.press(Input.Keys.W);
+        original.run(90);
+        original.spawnSecondDean();
+        int freeze = original.freezeAllDeans(10f);
+        original.run(30);
+
+        GameSnapshot snapshot = new GameSnapshot();
+        original.writeState(snapshot.startWriting());
+        snapshot.finishWriting();
+
+        Simulation resumed = Simulation.createHeadless(new ScriptedInput(), 99L);
+        resumed.readState(snapshot.startReading());
+
+        assertEquals(original.getPlayer().getPosition(), resumed.getPlayer().getPosition());
+        assertEquals(Player.Direction.UP, resumed.getPlayer().getDirection());
+        assertEquals(original.getDean().getPosition(), resumed.getDean().getPosition());
+        assertEquals(original.getPatrolDean(2).getPosition(), resumed.getPatrolDean(2).getPosition());
+        assertNotNull(resumed.getExtraDean(), "Penalty dean should come back");
+        assertEquals(original.getExtraDean().getPosition(), resumed.getExtraDean().getPosition());
+        assertEquals(original.getTickCount(), resumed.getTickCount());
+        assertEquals(original.getElapsedSeconds(), resumed.getElapsedSeconds());
+        assertTrue(resumed.getStatusEffects().isActive(freeze), "Freeze handles should still work");
+        assertEquals(original.getStatusEffects().getRemaining(freeze), resumed.getStatusEffects().getRemaining(freeze));
+        assertEquals(original.getRandom().nextLong(), resumed.getRandom().nextLong(), "Random numbers should carry on");
+        original.dispose();
+        resumed.dispose();
+    }
+
+    //Test #3: map events come back with their flags and timers, without being spawned afresh
+    @Test
+    @DisplayName("Map events and trigger areas are read back")
+    public void testMapEventsRoundTrip() {
+        Input input = mock(Input.class);
+        Gdx.input = input;
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        Player player = new Player(EventDefinition.LOCKER.getSpawnX() + 10, EventDefinition.LOCKER.getSpawnY() + 10);
+        MapEvents original = new MapEvents(player, mock(GameTimer.class), new RandomStreams(3));
+        original.spawnAll();
+        original.update(0.016f);
+        original.update(0.5f);
+        assertTrue(original.isTriggered(EventDefinition.LOCKER));
+
+        GameSnapshot snapshot = new GameSnapshot();
+        ByteBuffer out = snapshot.startWriting();
+        original.writeState(out);
+        original.getTriggerVolumes().writeState(out);
+        snapshot.finishWriting();
+
+        MapEvents resumed = new MapEvents(player, mock(GameTimer.class), new RandomStreams(3));
+        ByteBuffer in = snapshot.startReading();
+        resumed.readState(in);
+        resumed.getTriggerVolumes().readState(in);
+
+        assertEquals(EventDefinition.ALL.length, resumed.countSpawned(EventCategory.POSITIVE)
+            + resumed.countSpawned(EventCategory.NEGATIVE) + resumed.countSpawned(EventCategory.HIDDEN)
+            + resumed.countSpawned(EventCategory.NONE));
+        assertTrue(resumed.isTriggered(EventDefinition.LOCKER));
+        assertEquals(1, resumed.countTriggered(EventCategory.POSITIVE));
+        assertEquals(original.getPlayerSpeed(), resumed.getPlayerSpeed(), "The boost should still be running");
+        for (int volume = 0; volume < original.getTriggerVolumes().size(); volume++) {
+            assertEquals(original.getTriggerVolumes().isAsleep(volume), resumed.getTriggerVolumes().isAsleep(volume));
+            assertEquals(original.getTriggerVolumes().isInside(volume), resumed.getTriggerVolumes().isInside(volume));
+        }
+        assertThrows(IllegalStateException.class, () -> resumed.readState(snapshot.startReading()),
+            "Events should only be read into an empty world");
+        original.dispose();
+        resumed.dispose();
+    }
+
+    //Test #4: the checklists work their counts and lines out again from what happened
+    @Test
+    @DisplayName("Checklists are read back")
+    public void testChecklistRoundTrip() {
+        GameEvents events = new GameEvents();
+        EventChecklist original = new EventChecklist();
+        events.subscribeAll(original);
+        events.post(GameEvent.Type.DROWNED);
+        events.post(GameEvent.Type.TICKET_COLLECTED);
+        GameEvent bush = events.obtain(GameEvent.Type.MAP_EVENT);
+        bush.definition = EventDefinition.BUSH;
+        events.post(bush);
+
+        GameSnapshot snapshot = new GameSnapshot();
+        original.writeState(snapshot.startWriting());
+        snapshot.finishWriting();
+        EventChecklist resumed = new EventChecklist();
+        resumed.readState(snapshot.startReading());
+
+        for (EventCategory category : new EventCategory[] {EventCategory.POSITIVE, EventCategory.NEGATIVE, EventCategory.HIDDEN}) {
+            assertEquals(original.getLine(category), resumed.getLine(category));
+        }
+        assertTrue(resumed.hasHitObstacle());
+        assertTrue(resumed.hasHappened(GameEvent.Type.TICKET_COLLECTED));
+        assertEquals(2, resumed.getCount(EventCategory.NEGATIVE));
+    }
+
+    //Test #5: the deans' routes, their memory and the planner's schedule come back, so they chase on exactly as before
+    @Test
+    @DisplayName("Deans plan on exactly as before")
+    public void testPlanningRoundTrip() {
+        for (boolean background : new boolean[] {false, true}) {
+            ScriptedInput input = new ScriptedInput();
+            Simulation original = Simulation.createHeadless(input, 31L);
+            original.getPursuitPlanner().setBackgroundPlanning(background);
+            original.getPursuitPlanner().setLockstep(true);
+            input.press(Input.Keys.W);
+            original.run(90);
+            input.release(Input.Keys.W);
+            for (int i = 0; i < 600 && !original.getDean().hasPath(); i++) {
+                original.tick(Simulation.DEFAULT_STEP);
+            }
+            assertTrue(original.getDean().hasPath(), "The dean should be following a route");
+
+            GameSnapshot snapshot = new GameSnapshot();
+            original.writeState(snapshot.startWriting());
+            snapshot.finishWriting();
+            Simulation resumed = Simulation.createHeadless(input, 99L);
+            resumed.getPursuitPlanner().setBackgroundPlanning(background);
+            resumed.getPursuitPlanner().setLockstep(true);
+            resumed.readState(snapshot.startReading());
+            assertTrue(resumed.getDean().hasPath(), "The route should come back rather than be planned again");
+
+            byte[] played = playOn(original, 600);
+            assertArrayEquals(played, playOn(resumed, 600), "A resumed world should play on the same, background " + background);
+            original.readState(snapshot.startReading());
+            assertArrayEquals(played, playOn(original, 600), "A rewound world should play on the same, background " + background);
+            original.dispose();
+            resumed.dispose();
+        }
+    }
+
+    // Every dean position along the way, then the whole world at the end.
+    private static byte[] playOn(Simulation simulation, int ticks) {
+        ByteBuffer out = ByteBuffer.allocate(ticks * 8 + GameSnapshot.CAPACITY);
+        for (int i = 0; i < ticks; i++) {
+            simulation.tick(Simulation.DEFAULT_STEP);
+            out.putFloat(simulation.getDean().getPosition().x).putFloat(simulation.getDean().getPosition().y);
+        }
+        simulation.writeState(out);
+        byte[] bytes = new byte[out.position()];
+        out.flip();
+        out.get(bytes);
+        return bytes;
+    }
+
+    //Test #6: taking a snapshot of the world is quick and small
+    @Test
+    @DisplayName("Snapshots are small and quick to take")
+    public void testSnapshotCost() {
+        Simulation simulation = Simulation.createHeadless(new ScriptedInput(), 5L);
+        MapEvents events = new MapEvents(simulation.getPlayer(), mock(GameTimer.class), simulation.getRandomStreams());
+        events.spawnAll();
+        GameSnapshot snapshot = new GameSnapshot();
+
+        int rounds = 20000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            ByteBuffer out = snapshot.startWriting();
+            events.writeState(out);
+            simulation.writeState(out);
+            events.getTriggerVolumes().writeState(out);
+            snapshot.finishWriting();
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / rounds;
+
+        int memory = InfluenceMap.Layer.values().length * simulation.getNavigationGrid().getCellCount() * 4;
+        assertTrue(snapshot.size() - memory < 512, "Snapshot should be a few hundred bytes besides the deans' memory, not " + snapshot.size());
+        assertTrue(micros < 100, "Snapshot should take microseconds, not " + micros);
+        simulation.dispose();
+        events.dispose();
+    }
+}
@@ -7,8 +7,9 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * Test suite for GameTimer class.
  *
- * <p><strong>TESTING LIMITATION:</strong> GameTimer cannot be instantiated in
- * headless JUnit environment due to constructor dependencies:</p>
+ * <p><strong>TESTING LIMITATION:</strong> GameTimer cannot be instantiated with a
+ * label in headless JUnit environment due to constructor dependencies, so only the
+ * timer made with GameTimer(float), which has no label or sound, is run:</p>
  * <ul>
  * <li>Skin (LibGDX Scene2D UI)</li>
  * <li>Table (LibGDX Scene2D UI)</li>
@@ -110,4 +111,17 @@ public class GameTimerTest extends TestHelper {
             float.class
         ), "Constructor with (Skin, Table, float) should exist");
     }
+
+    @Test
+    @DisplayName("Timer made without a label counts down headless")
+    public void testHeadlessTimer() {
+        GameTimer timer = new GameTimer(90f);
+        assertNull(timer.getTimerLabel(), "A headless timer should have no label");
+        timer.decrementTimer(1.5f);
+        assertEquals(88.5f, timer.getTimeLeft(), 0.0001f);
+        assertEquals("01 : 28", timer.toString());
+        timer.addTime(-100f);
+        assertEquals(0f, timer.getTimeLeft(), "Time should stop at 0");
+        assertDoesNotThrow(timer::onTimeUp, "Time running out without a sound should do nothing");
+    }
 }
@@ -0,0 +1,184 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for InfluenceMap class.
+ * Tests deposits, fading and spreading from raised cells only, values fading away
+ * long after their fade has been folded back in, and picking the most promising tile to search.
+ * Automated: deposit(), update(), score(), findMostPromising(), configure(), clear()
+ */
+@DisplayName("Influence Map Tests")
+public class InfluenceMapTest {
+
+    private NavigationGrid openGrid() {
+        return new NavigationGrid(20, 20, new boolean[400]);
+    }
+
+    //Test #1: deposits keep the highest value and ignore walls
+    @Test
+    @DisplayName("Deposits keep the highest value")
+    public void testDeposit() {
+        boolean[] blocked = new boolean[400];
+        blocked[0] = true;
+        InfluenceMap map = new InfluenceMap(new NavigationGrid(20, 20, blocked));
+
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, 21, 0.5f);
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, 21, 0.3f);
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, 0, 1f);
+
+        assertEquals(0.5f, map.get(InfluenceMap.Layer.LAST_SEEN, 21));
+        assertEquals(0f, map.get(InfluenceMap.Layer.LAST_SEEN, 0), "Walls hold no influence");
+        assertEquals(0f, map.get(InfluenceMap.Layer.PATROL_COVERAGE, 21), "Layers are separate");
+        assertEquals(1, map.getActiveCellCount(InfluenceMap.Layer.LAST_SEEN));
+    }
+
+    //Test #2: values fade and spread one cell per tick
+    @Test
+    @DisplayName("Values fade and spread each tick")
+    public void testFadeAndSpread() {
+        NavigationGrid grid = openGrid();
+        InfluenceMap map = new InfluenceMap(grid);
+        map.configure(InfluenceMap.Layer.LAST_SEEN, 0.5f, 0.5f, 1f);
+        int centre = grid.index(10, 10);
+
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, centre, 1f);
+        map.update();
+
+        assertEquals(0.5f, map.get(InfluenceMap.Layer.LAST_SEEN, centre), 1e-6f);
+        assertEquals(0.25f, map.get(InfluenceMap.Layer.LAST_SEEN, grid.index(11, 10)), 1e-6f);
+        assertEquals(0f, map.get(InfluenceMap.Layer.LAST_SEEN, grid.index(12, 10)), "Only one cell per tick");
+        assertEquals(4, map.getActiveCellCount(InfluenceMap.Layer.LAST_SEEN), "Only the raised neighbours spread next");
+
+        map.update();
+        assertEquals(0.25f, map.get(InfluenceMap.Layer.LAST_SEEN, centre), 1e-6f);
+        assertEquals(0.0625f, map.get(InfluenceMap.Layer.LAST_SEEN, grid.index(12, 10)), 1e-6f);
+        assertEquals(0.125f, map.get(InfluenceMap.Layer.LAST_SEEN, grid.index(11, 10)), 1e-6f, "Neighbours fade with the cell that raised them");
+    }
+
+    //Test #3: influence does not leak through walls
+    @Test
+    @DisplayName("Influence does not pass through walls")
+    public void testWallsStopSpread() {
+        boolean[] blocked = new boolean[400];
+        for (int y = 0; y < 20; y++) {
+            blocked[y * 20 + 10] = true;
+        }
+        NavigationGrid grid = new NavigationGrid(20, 20, blocked);
+        InfluenceMap map = new InfluenceMap(grid);
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, grid.index(9, 10), 1f);
+
+        for (int i = 0; i < 10; i++) {
+            map.update();
+        }
+        assertTrue(map.get(InfluenceMap.Layer.LAST_SEEN, grid.index(8, 10)) > 0f);
+        assertEquals(0f, map.get(InfluenceMap.Layer.LAST_SEEN, grid.index(11, 10)));
+    }
+
+    //Test #4: faded cells stop being updated
+    @Test
+    @DisplayName("Faded cells leave the active list")
+    public void testFadedCellsRetire() {
+        InfluenceMap map = new InfluenceMap(openGrid());
+        map.configure(InfluenceMap.Layer.PATROL_COVERAGE, 0.5f, 0.5f, -1f);
+        map.deposit(InfluenceMap.Layer.PATROL_COVERAGE, 50, 1f);
+
+        for (int i = 0; i < 20; i++) {
+            map.update();
+        }
+        assertEquals(0, map.getActiveCellCount(InfluenceMap.Layer.PATROL_COVERAGE));
+        assertEquals(0f, map.get(InfluenceMap.Layer.PATROL_COVERAGE, 50));
+    }
+
+    //Test #5: a layer that never fades settles and stops costing time, but keeps its values
+    @Test
+    @DisplayName("Non-fading layer settles")
+    public void testStaticLayerSettles() {
+        NavigationGrid grid = openGrid();
+        InfluenceMap map = new InfluenceMap(grid);
+        int water = grid.index(5, 5);
+        map.deposit(InfluenceMap.Layer.DANGER, water, 1f);
+
+        for (int i = 0; i < 20; i++) {
+            map.update();
+        }
+        assertEquals(0, map.getActiveCellCount(InfluenceMap.Layer.DANGER));
+        assertEquals(1f, map.get(InfluenceMap.Layer.DANGER, water));
+        assertEquals(0.5f, map.get(InfluenceMap.Layer.DANGER, grid.index(6, 5)), 1e-6f);
+    }
+
+    //Test #6: the best tile prefers recent sightings over covered or dangerous ground
+    @Test
+    @DisplayName("Most promising tile weighs the layers")
+    public void testFindMostPromising() {
+        NavigationGrid grid = openGrid();
+        InfluenceMap map = new InfluenceMap(grid);
+        map.configure(InfluenceMap.Layer.LAST_SEEN, 1f, 0f, 1f);
+        map.configure(InfluenceMap.Layer.PATROL_COVERAGE, 1f, 0f, -1f);
+        map.configure(InfluenceMap.Layer.DANGER, 1f, 0f, -1f);
+        int centre = grid.index(10, 10);
+        int covered = grid.index(11, 10);
+        int dangerous = grid.index(9, 10);
+        int open = grid.index(10, 13);
+
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, covered, 0.9f);
+        map.deposit(InfluenceMap.Layer.PATROL_COVERAGE, covered, 1f);
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, dangerous, 0.9f);
+        map.deposit(InfluenceMap.Layer.DANGER, dangerous, 1f);
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, open, 0.5f);
+
+        assertEquals(open, map.findMostPromising(centre, 5));
+        assertEquals(-1, map.findMostPromising(centre, 2), "Nothing worth searching that close");
+        assertEquals(-1, map.findMostPromising(-1, 5));
+    }
+
+    //Test #7: clearing resets every layer
+    @Test
+    @DisplayName("Clear resets all layers")
+    public void testClear() {
+        InfluenceMap map = new InfluenceMap(openGrid());
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, 10, 1f);
+        map.deposit(InfluenceMap.Layer.DANGER, 20, 1f);
+        map.clear();
+
+        assertEquals(0f, map.get(InfluenceMap.Layer.LAST_SEEN, 10));
+        assertEquals(0f, map.get(InfluenceMap.Layer.DANGER, 20));
+        assertEquals(0, map.getActiveCellCount(InfluenceMap.Layer.LAST_SEEN));
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, 10, 1f);
+        assertEquals(1, map.getActiveCellCount(InfluenceMap.Layer.LAST_SEEN));
+    }
+
+    //Test #8: invalid settings are rejected
+    @Test
+    @DisplayName("Invalid layer settings are rejected")
+    public void testConfigureValidation() {
+        InfluenceMap map = new InfluenceMap(openGrid());
+        assertThrows(IllegalArgumentException.class,
+            () -> map.configure(InfluenceMap.Layer.LAST_SEEN, 1.5f, 0.5f, 1f));
+        assertThrows(IllegalArgumentException.class,
+            () -> map.configure(InfluenceMap.Layer.LAST_SEEN, 0.5f, 1f, 1f));
+    }
+
+    //Test #9: a layer keeps fading correctly across the points where its fade is folded back into the cells
+    @Test
+    @DisplayName("Values fade smoothly over many ticks")
+    public void testLongFade() {
+        NavigationGrid grid = openGrid();
+        InfluenceMap map = new InfluenceMap(grid);
+        map.configure(InfluenceMap.Layer.LAST_SEEN, 0.99f, 0f, 1f);
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, 42, 1f);
+
+        float expected = 1f;
+        for (int i = 0; i < 400; i++) {
+            map.update();
+            expected *= 0.99f;
+            float value = map.get(InfluenceMap.Layer.LAST_SEEN, 42);
+            assertEquals(expected < InfluenceMap.MIN_VALUE ? 0f : expected, value, 1e-4f, "Tick " + (i + 1));
+        }
+        map.deposit(InfluenceMap.Layer.LAST_SEEN, 42, 0.5f);
+        assertEquals(0.5f, map.get(InfluenceMap.Layer.LAST_SEEN, 42), 1e-6f, "A faded cell can be raised again");
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for InputActions class.
+ * Tests key events gathered into frames, contexts letting through only their actions,
+ * the interact press going to the nearest thing in reach, a bot's keys laid over the
+ * keyboard, and the simulation moving from the same frames.
+ * Automated: keyDown(), keyUp(), update(), isHeld(), isPressed(), isReleased(),
+ * setContext(), interact(), setOverlay(), releaseAll(), isKeyPressed(), GDX
+ * Manual testing required: GameScreen registering it for key events, and scrubbing
+ * with the arrow keys while paused
+ */
+@DisplayName("InputActions Tests")
+public class InputActionsTest extends TestHelper {
+
+    @AfterEach
+    public void releaseKeys() {
+        Gdx.input = mock(Input.class);
+    }
+
+    //Test #1: events between frames make up the next frame, and a quick tap is never lost
+    @Test
+    @DisplayName("Key events are gathered into frames")
+    public void testFrames() {
+        InputActions actions = new InputActions();
+        actions.keyDown(Input.Keys.W);
+        assertFalse(actions.isHeld(InputActions.Action.UP), "Nothing changes until the next frame");
+
+        actions.update();
+        assertTrue(actions.isHeld(InputActions.Action.UP));
+        assertTrue(actions.isPressed(InputActions.Action.UP));
+        actions.update();
+        assertTrue(actions.isHeld(InputActions.Action.UP));
+        assertFalse(actions.isPressed(InputActions.Action.UP), "Pressed only lasts one frame");
+
+        actions.keyUp(Input.Keys.W);
+        actions.keyDown(Input.Keys.E);
+        actions.keyUp(Input.Keys.E);
+        actions.update();
+        assertFalse(actions.isHeld(InputActions.Action.UP));
+        assertTrue(actions.isReleased(InputActions.Action.UP));
+        assertTrue(actions.isPressed(InputActions.Action.INTERACT), "A tap between frames should still count");
+        assertFalse(actions.isHeld(InputActions.Action.INTERACT));
+        assertFalse(actions.keyDown(Input.Keys.Z), "Keys without an action are left for others");
+    }
+
+    //Test #2: each context only lets through its own actions, so the quiz takes A to D for itself
+    @Test
+    @DisplayName("Contexts route keys to their own actions")
+    public void testContexts() {
+        InputActions actions = new InputActions();
+        actions.keyDown(Input.Keys.A);
+        actions.update();
+        assertTrue(actions.isHeld(InputActions.Action.LEFT));
+        assertFalse(actions.isPressed(InputActions.Action.ANSWER_A), "A is movement while playing");
+
+        actions.keyUp(Input.Keys.A);
+        actions.keyDown(Input.Keys.A);
+        actions.setContext(InputActions.Context.QUIZ);
+        actions.update();
+        assertTrue(actions.isPressed(InputActions.Action.ANSWER_A));
+        assertFalse(actions.isHeld(InputActions.Action.LEFT), "The quiz should take A as an answer");
+        assertFalse(actions.isKeyPressed(Input.Keys.W));
+
+        actions.keyDown(Input.Keys.W);
+        actions.keyDown(Input.Keys.LEFT);
+        actions.setContext(InputActions.Context.PAUSED);
+        actions.update();
+        assertTrue(actions.isHeld(InputActions.Action.SCRUB_BACK));
+        assertFalse(actions.isHeld(InputActions.Action.UP), "Nothing moves while paused");
+
+        actions.setContext(InputActions.Context.PLAY);
+        actions.update();
+        assertTrue(actions.isHeld(InputActions.Action.UP), "Keys held through a pause count once it ends");
+        actions.releaseAll();
+        actions.update();
+        assertFalse(actions.isHeld(InputActions.Action.UP));
+    }
+
+    //Test #3: only the nearest thing in reach gets the interact press, once
+    @Test
+    @DisplayName("Interact goes to the nearest thing in reach")
+    public void testInteractFocus() {
+        InputActions actions = new InputActions();
+        Object locker = "locker";
+        Object npc = "npc";
+        actions.update();
+        actions.interact(locker, 20f);
+        actions.interact(npc, 5f);
+
+        actions.keyDown(Input.Keys.E);
+        actions.update();
+        assertSame(npc, actions.getFocus());
+        assertFalse(actions.interact(locker, 20f), "The locker is further away");
+        assertTrue(actions.interact(npc, 5f));
+        assertFalse(actions.interact(npc, 5f), "The press is used up");
+
+        // Arriving at something and pressing on the same frame still works.
+        actions.keyUp(Input.Keys.E);
+        actions.update();
+        actions.keyDown(Input.Keys.E);
+        actions.update();
+        assertNull(actions.getFocus());
+        assertTrue(actions.interact(locker, 10f));
+        assertFalse(actions.interact(npc, 5f));
+    }
+
+    //Test #4: a bot's keys drive the frames like the keyboard, and the simulation moves from them
+    @Test
+    @DisplayName("Overlaid keys drive the simulation")
+    public void testOverlayDrivesSimulation() {
+        InputActions actions = new InputActions();
+        ScriptedInput bot = new ScriptedInput();
+        actions.setOverlay(bot);
+        Simulation simulation = Simulation.createHeadless(actions, 7L);
+        Vector2 start = new Vector2(simulation.getPlayer().getPosition());
+
+        bot.press(Input.Keys.W);
+        actions.update();
+        assertTrue(actions.isPressed(InputActions.Action.UP));
+        simulation.run(10);
+        assertEquals(start.y + 10f, simulation.getPlayer().getPosition().y, 0.001f);
+
+        bot.release(Input.Keys.W);
+        actions.keyDown(Input.Keys.D);
+        actions.update();
+        simulation.run(10);
+        assertEquals(start.x + 10f, simulation.getPlayer().getPosition().x, 0.001f);
+        simulation.dispose();
+    }
+
+    //Test #5: the shared actions read the keyboard directly, for parts of the game used without a screen
+    @Test
+    @DisplayName("GDX reads the keyboard directly")
+    public void testDirect() {
+        Input input = mock(Input.class);
+        Gdx.input = input;
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        when(input.isKeyPressed(Input.Keys.LEFT)).thenReturn(true);
+
+        assertTrue(InputActions.GDX.interact("far", 100f));
+        assertTrue(InputActions.GDX.interact("near", 1f), "Without a screen, everything gets the press");
+        assertTrue(InputActions.GDX.isHeld(InputActions.Action.SCRUB_BACK));
+        assertFalse(InputActions.GDX.isPressed(InputActions.Action.ANSWER_A));
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for InputRecording class.
+ * Tests merging ticks into runs, commands, and the binary form.
+ * Automated: recordTick(), recordCommand(), maskOf(), write(), read(), toBytes(), fromBytes()
+ */
+@DisplayName("InputRecording Tests")
+public class InputRecordingTest {
+
+    //Test #1: ticks with the same keys are merged into runs
+    @Test
+    @DisplayName("Identical ticks are merged into runs")
+    public void testRuns() {
+        InputRecording recording = new InputRecording(1L, 2, 0);
+        for (int i = 0; i < 100; i++) recording.recordTick(1);
+        for (int i = 0; i < 5; i++) recording.recordTick(0);
+        recording.recordTick(1);
+
+        assertEquals(106, recording.getTickCount());
+        assertEquals(3, recording.getRunCount());
+        assertEquals(100, recording.getRunLength(0));
+        assertEquals(1, recording.getRunMask(0));
+        assertEquals(5, recording.getRunLength(1));
+        assertEquals(0, recording.getRunMask(1));
+    }
+
+    //Test #2: a recording survives being written and read back
+    @Test
+    @DisplayName("Binary form round trips")
+    public void testRoundTrip() throws IOException {
+        InputRecording recording = new InputRecording(-42L, 0xCAFE, InputRecording.FLAG_BACKGROUND_PLANNING);
+        recording.recordCommand(InputRecording.SET_SPEED, 1f);
+        for (int i = 0; i < 1000; i++) recording.recordTick(i < 600 ? 0b1001 : 0b100);
+        recording.recordCommand(InputRecording.PLACE_PLAYER, 123.5f, 456.25f);
+        recording.recordCommand(InputRecording.FREEZE_DEANS, StatusEffects.PERMANENT);
+        recording.recordTick(0);
+
+        InputRecording copy = InputRecording.fromBytes(recording.toBytes());
+        assertEquals(-42L, copy.getSeed());
+        assertEquals(0xCAFE, copy.getMapHash());
+        assertEquals(InputRecording.FLAG_BACKGROUND_PLANNING, copy.getFlags());
+        assertEquals(1001, copy.getTickCount());
+        assertEquals(3, copy.getRunCount());
+        assertEquals(0b100, copy.getRunMask(1));
+        assertEquals(3, copy.getCommandCount());
+
+        float[] arguments = new float[2];
+        assertEquals(InputRecording.PLACE_PLAYER, copy.getCommandType(1));
+        assertEquals(1000, copy.getCommandTick(1));
+        copy.getCommandArguments(1, arguments);
+        assertEquals(123.5f, arguments[0]);
+        assertEquals(456.25f, arguments[1]);
+        copy.getCommandArguments(2, arguments);
+        assertEquals(StatusEffects.PERMANENT, arguments[0]);
+    }
+
+    //Test #3: bad data and bad commands are refused
+    @Test
+    @DisplayName("Invalid data is rejected")
+    public void testInvalid() {
+        assertThrows(IOException.class, () -> InputRecording.fromBytes(new byte[] {1, 2, 3, 4, 5}));
+        byte[] bytes = new InputRecording(0L, 0, 0).toBytes();
+        bytes[4] = 99; // version
+        assertThrows(IOException.class, () -> InputRecording.fromBytes(bytes));
+        InputRecording recording = new InputRecording(0L, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> recording.recordCommand(99));
+        assertThrows(IllegalArgumentException.class, () -> recording.recordCommand(InputRecording.PLACE_PLAYER, 1f));
+    }
+
+    //Test #4: the mask has a bit for each recorded key
+    @Test
+    @DisplayName("Mask reflects held keys")
+    public void testMaskOf() {
+        ScriptedInput input = new ScriptedInput();
+        assertEquals(0, InputRecording.maskOf(input));
+        input.press(Input.Keys.W);
+        input.press(Input.Keys.P);
+        input.press(Input.Keys.Q); // not recorded
+        assertEquals(0b100001, InputRecording.maskOf(input));
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.RandomXS128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for InputReplayer class.
+ * Tests that a recorded headless run plays back exactly, from the recording's bytes.
+ * Automated: replayHeadless(), beginTick(), endTick(), isKeyPressed(), isKeyJustPressed(), checkMap()
+ * Manual testing required: watching the last game from the menu
+ */
+@DisplayName("InputReplayer Tests")
+public class InputReplayerTest extends TestHelper {
+    private static final int[][] DIRECTIONS = {{Input.Keys.W}, {Input.Keys.A}, {Input.Keys.S}, {Input.Keys.D}, {}};
+
+    //Test #1: a replay ends where the recorded run ended
+    @Test
+    @DisplayName("Replay reproduces a recorded run")
+    public void testReplayMatches() throws IOException {
+        assertReplayMatches(false);
+    }
+
+    //Test #2: lockstep background planning replays just as exactly
+    @Test
+    @DisplayName("Replay reproduces a run planned in the background")
+    public void testReplayMatchesBackgroundPlanning() throws IOException {
+        assertReplayMatches(true);
+    }
+
+    //Test #3: keys count as just pressed on the first tick only
+    @Test
+    @DisplayName("Replayed keys are just pressed once")
+    public void testJustPressed() {
+        InputRecording recording = new InputRecording(0L, 0, 0);
+        recording.recordTick(0);
+        recording.recordTick(1);
+        recording.recordTick(1);
+        InputReplayer replayer = new InputReplayer(recording);
+
+        assertFalse(replayer.isKeyPressed(Input.Keys.W));
+        replayer.endTick();
+        assertTrue(replayer.isKeyPressed(Input.Keys.W));
+        assertTrue(replayer.isKeyJustPressed(Input.Keys.W));
+        replayer.endTick();
+        assertTrue(replayer.isKeyPressed(Input.Keys.W));
+        assertFalse(replayer.isKeyJustPressed(Input.Keys.W));
+        replayer.endTick();
+        assertTrue(replayer.isFinished());
+        assertFalse(replayer.isKeyPressed(Input.Keys.W));
+    }
+
+    //Test #4: a recording made on another map is refused
+    @Test
+    @DisplayName("Replay refuses a different map")
+    public void testWrongMap() {
+        InputRecording recording = new InputRecording(0L, 1234, 0);
+        assertThrows(IllegalArgumentException.class, () -> InputReplayer.replayHeadless(recording, 4321));
+    }
+
+    private void assertReplayMatches(boolean background) throws IOException {
+        int mapHash = InputRecording.hashMap(Gdx.files.internal(Simulation.MAP_PATH));
+        ScriptedInput input = new ScriptedInput();
+        Simulation live = Simulation.createHeadless(input, 99L);
+        live.getPursuitPlanner().setBackgroundPlanning(background);
+        live.getPursuitPlanner().setLockstep(true);
+        InputRecording recording = new InputRecording(99L, mapHash,
+            background ? InputRecording.FLAG_BACKGROUND_PLANNING : 0);
+        live.startRecording(recording);
+
+        RandomXS128 wander = new RandomXS128(5L);
+        for (int tick = 0; tick < 3000; tick++) {
+            if (tick % 45 == 0) {
+                input.releaseAll();
+                for (int key : DIRECTIONS[wander.nextInt(DIRECTIONS.length)]) input.press(key);
+            }
+            // Commands the screen would send between ticks.
+            if (tick == 400) live.setPlayerSpeed(2f);
+            if (tick == 900) live.freezeAllDeans(Freeze_Dean.FREEZE_DURATION);
+            if (tick == 1500) live.getPlayer().getPosition().set(560, 600); // teleport
+            if (tick == 1800) live.spawnSecondDean();
+            if (tick == 2000) live.setPlayerSpeed(0.5f);
+            live.tick(Simulation.DEFAULT_STEP);
+        }
+        live.dispose();
+
+        byte[] bytes = recording.toBytes();
+        // A few bytes per second of play: 3000 ticks is 50 seconds.
+        assertTrue(bytes.length < 50 * 8, "Recording should be compact, was " + bytes.length + " bytes");
+
+        Simulation replay = InputReplayer.replayHeadless(InputRecording.fromBytes(bytes), mapHash);
+        assertEquals(live.getTickCount(), replay.getTickCount());
+        assertEquals(live.getPlayer().getPosition(), replay.getPlayer().getPosition());
+        assertEquals(live.getDean().getPosition(), replay.getDean().getPosition());
+        assertEquals(live.getPatrolDean(1).getPosition(), replay.getPatrolDean(1).getPosition());
+        assertNotNull(replay.getExtraDean());
+        assertEquals(live.getExtraDean().getPosition(), replay.getExtraDean().getPosition());
+        assertEquals(live.getTimesCaughtByDean(), replay.getTimesCaughtByDean());
+        assertEquals(live.getTimesCaughtByPatrol(), replay.getTimesCaughtByPatrol());
+        replay.dispose();
+    }
+}
@@ -1,284 +1,173 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
- * Test suite for Locker class.
- * Tests locker creation, E key activation, speed boost mechanics, and distance-based interaction.
- * Test coverage:75%
- * Automated: Constructor, E key activation within 50 units, boost timer mechanics, message display
- * Coverage Justification: Visual rendering and texture display only testable through gameplay
+ * Test suite for the locker event, spawned from {@link EventDefinition#LOCKER}.
+ * Tests the locker being searched with E within 50 units, the speed boost it gives
+ * running for 10 seconds, lockers being independent of each other, and its message.
+ * Automated: MapEvents.spawn(), update(), getPlayerSpeed() and the locker's trigger and message
+ * Manual testing required: the locker and its message drawn in game
  */
 @DisplayName("Locker Event Tests")
 public class LockerTest extends TestHelper {
 
-    //Test #1: instance created successfully
-    @Test
-    @DisplayName("Instance created successfully")
-    public void testInstanceCreation() {
-        Locker locker = new Locker(100, 200);
-        assertNotNull(locker);
-    }
+    private static final float FRAME = 0.016f;
 
-    //Test #2: boost not active initially
-    @Test
-    @DisplayName("Boost not active initially")
-    public void testBoostNotActiveInitially() {
-        Locker locker = new Locker(100, 200);
-        assertFalse(locker.isBoostActive());
-    }
+    private Input input;
+    private GameTimer timer;
 
-    //Test #3: locker not searched initially
-    @Test
-    @DisplayName("Locker not searched initially")
-    public void testLockerNotSearchedInitially() {
-        Locker locker = new Locker(100, 200);
-        assertFalse(locker.lockerSearched());
+    @BeforeEach
+    public void setUpInput() {
+        input = mock(Input.class);
+        Gdx.input = input;
+        timer = mock(GameTimer.class);
     }
 
-    //Test #4: distant player does not activate locker
+    //Test #1: a new locker is neither searched nor boosting
     @Test
-    @DisplayName("Player far from locker - no activation")
-    public void testPlayerFarFromLocker() {
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(500, 500);
-
-        locker.update(player, 0.016f);
+    @DisplayName("Locker not searched and no boost initially")
+    public void testInitialState() {
+        MapEvents events = new MapEvents(new Player(100, 200), timer, null);
+        Entity locker = events.spawn(EventDefinition.LOCKER, 100, 200);
 
-        assertFalse(locker.lockerSearched());
-        assertFalse(locker.isBoostActive());
+        assertFalse(locker.getComponent(TriggerComponent.class).triggered);
+        assertFalse(events.isTriggered(EventDefinition.LOCKER));
+        assertEquals(1f, events.getPlayerSpeed());
+        events.dispose();
     }
 
-    //Test #5: multiple locker instances are independent
-    @Test
-    @DisplayName("Multiple lockers independent")
-    public void testMultipleLockers() {
-        Locker l1 = new Locker(100, 100);
-        Locker l2 = new Locker(200, 200);
-
-        assertNotSame(l1, l2);
-        assertFalse(l1.isBoostActive());
-        assertFalse(l2.isBoostActive());
-    }
-
-    //Test #6: boost timer decrements over time
-    @Test
-    @DisplayName("Boost timer decrements over time")
-    public void testBoostTimerDecrement() throws Exception {
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(500, 500);
-
-        java.lang.reflect.Field timerField = Locker.class.getDeclaredField("speedBoostTimer");
-        timerField.setAccessible(true);
-        timerField.set(locker, 10f);
-
-        assertTrue(locker.isBoostActive());
-
-        locker.update(player, 1.0f);
-        assertTrue(locker.isBoostActive());
-
-        locker.update(player, 10.0f);
-        assertFalse(locker.isBoostActive());
-    }
-
-    //Test #7: cannot search locker twice
-    @Test
-    @DisplayName("Cannot search locker twice")
-    public void testCannotSearchTwice() throws Exception {
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(120, 220);
-
-        java.lang.reflect.Field searchedField = Locker.class.getDeclaredField("searched");
-        searchedField.setAccessible(true);
-        searchedField.set(locker, true);
-
-        java.lang.reflect.Field lockerSearchedField = Locker.class.getDeclaredField("lockerSearched");
-        lockerSearchedField.setAccessible(true);
-        lockerSearchedField.set(locker, true);
-
-        assertTrue(locker.lockerSearched());
-
-        locker.update(player, 0.016f);
-        assertTrue(locker.lockerSearched());
-    }
-
-    //Test #8: E key activates locker within 50 units
-    @Test
-    @DisplayName("E key activates locker when player is within 50 units")
-    public void testEKeyActivatesWithinRange() {
-        Input mockInput = mock(Input.class);
-        Gdx.input = mockInput;
-
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(120, 220);
-
-        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
-
-        locker.update(player, 0.016f);
-
-        assertTrue(locker.lockerSearched(), "Locker should be searched");
-        assertTrue(locker.isBoostActive(), "Boost should be active");
-    }
-
-    //Test #9: E key ignored beyond 50 units
+    //Test #2: E does nothing when the player is far from the locker
     @Test
     @DisplayName("E key does nothing when player is beyond 50 units")
     public void testEKeyIgnoredOutsideRange() {
-        Input mockInput = mock(Input.class);
-        Gdx.input = mockInput;
-
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(200, 300);
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(200, 300), timer, null);
+        events.spawn(EventDefinition.LOCKER, 100, 200);
 
-        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        events.update(FRAME);
 
-        locker.update(player, 0.016f);
-
-        assertFalse(locker.lockerSearched(), "Locker should not activate outside range");
-        assertFalse(locker.isBoostActive());
+        assertFalse(events.isTriggered(EventDefinition.LOCKER), "Locker should not activate outside range");
+        assertEquals(1f, events.getPlayerSpeed());
+        events.dispose();
     }
 
-    //Test #10: no activation without E key press
+    //Test #3: standing in range without pressing E searches nothing
     @Test
     @DisplayName("Player within range but no E key - no activation")
     public void testNoActivationWithoutEKey() {
-        Input mockInput = mock(Input.class);
-        Gdx.input = mockInput;
-
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(120, 220);
-
-        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
-
-        locker.update(player, 0.016f);
-
-        assertFalse(locker.lockerSearched(), "Should not activate without E key");
-        assertFalse(locker.isBoostActive());
-    }
-
-    //Test #11: exact 50 unit boundary test
-    @Test
-    @DisplayName("Exact 50 unit boundary test")
-    public void testExactBoundary() {
-        Input mockInput = mock(Input.class);
-        Gdx.input = mockInput;
-
-        Locker locker = new Locker(0, 0);
-        Player player = new Player(30, 40);
-
-        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(120, 220), timer, null);
+        events.spawn(EventDefinition.LOCKER, 100, 200);
 
-        locker.update(player, 0.016f);
+        for (int i = 0; i < 10; i++) {
+            events.update(FRAME);
+        }
 
-        assertFalse(locker.lockerSearched(), "Should not activate at exact 50 units");
+        assertFalse(events.isTriggered(EventDefinition.LOCKER), "Should not activate without E key");
+        assertEquals(1f, events.getPlayerSpeed());
+        events.dispose();
     }
 
-    //Test #12: just inside 50 unit range activates
+    //Test #4: the player standing on the locker searches it
     @Test
-    @DisplayName("Just inside 50 unit range activates")
-    public void testJustInsideRange() {
-        Input mockInput = mock(Input.class);
-        Gdx.input = mockInput;
-
-        Locker locker = new Locker(0, 0);
-        Player player = new Player(30, 39);
-
-        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+    @DisplayName("Player at exact locker position activates with E key")
+    public void testPlayerAtExactPosition() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(100, 200), timer, null);
+        events.spawn(EventDefinition.LOCKER, 100, 200);
 
-        locker.update(player, 0.016f);
+        events.update(FRAME);
 
-        assertTrue(locker.lockerSearched(), "Should activate just inside 50 units");
-        assertTrue(locker.isBoostActive());
+        assertTrue(events.isTriggered(EventDefinition.LOCKER), "Should activate at exact position");
+        assertEquals(2f, events.getPlayerSpeed());
+        events.dispose();
     }
 
-    //Test #13: message timer increments correctly
+    //Test #5: searching one locker leaves another alone
     @Test
-    @DisplayName("Message timer increments correctly")
-    public void testMessageTimerIncrement() throws Exception {
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(500, 500);
-
-        java.lang.reflect.Field messageField = Locker.class.getDeclaredField("showMessage");
-        messageField.setAccessible(true);
-        messageField.set(locker, true);
-
-        java.lang.reflect.Field timerField = Locker.class.getDeclaredField("messageTimer");
-        timerField.setAccessible(true);
-        timerField.set(locker, 0f);
-
-        locker.update(player, 1.0f);
-
-        float timer = timerField.getFloat(locker);
-        assertEquals(1.0f, timer, 0.1f, "Message timer should increment to 1.0");
+    @DisplayName("Multiple lockers independent")
+    public void testMultipleLockers() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(100, 100), timer, null);
+        Entity near = events.spawn(EventDefinition.LOCKER, 100, 100);
+        Entity far = events.spawn(EventDefinition.LOCKER, 400, 400);
 
-        locker.update(player, 5.0f);
+        events.update(FRAME);
 
-        boolean stillShowing = messageField.getBoolean(locker);
-        assertFalse(stillShowing, "Message should hide after 5 seconds");
+        assertTrue(near.getComponent(TriggerComponent.class).triggered);
+        assertFalse(far.getComponent(TriggerComponent.class).triggered, "Only the locker in reach should be searched");
+        assertEquals(1, events.countTriggered(EventCategory.POSITIVE));
+        events.dispose();
     }
 
-    //Test #14: speed boost expires after 10 seconds
+    //Test #6: the boost counts down from 10 seconds while the player walks away
     @Test
-    @DisplayName("Speed boost expires after 10 seconds")
-    public void testBoostExpiration() throws Exception {
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(500, 500);
-
-        java.lang.reflect.Field timerField = Locker.class.getDeclaredField("speedBoostTimer");
-        timerField.setAccessible(true);
-        timerField.set(locker, 10f);
-
-        assertTrue(locker.isBoostActive());
-
-        for (int i = 0; i < 11; i++) {
-            locker.update(player, 1.0f);
-        }
+    @DisplayName("Boost timer decrements over time")
+    public void testBoostTimerDecrement() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        Player player = new Player(100, 200);
+        MapEvents events = new MapEvents(player, timer, null);
+        events.spawn(EventDefinition.LOCKER, 100, 200);
+        events.update(FRAME);
 
-        assertFalse(locker.isBoostActive(), "Boost should expire after 10 seconds");
+        player.getPosition().set(500, 500);
+        events.update(1f);
+        assertEquals(2f, events.getPlayerSpeed(), "Boost should still be active after 1 second");
+        events.update(8.9f);
+        assertEquals(2f, events.getPlayerSpeed(), "Boost should still be active just before 10 seconds");
+        events.update(0.2f);
+        assertEquals(1f, events.getPlayerSpeed(), "Boost should have expired");
+        events.dispose();
     }
 
-    //Test #15: E key only works once per locker
+    //Test #7: pressing E again while boosted does not search the locker again or lengthen the boost
     @Test
     @DisplayName("E key only works once per locker")
     public void testEKeyOnlyWorksOnce() {
-        Input mockInput = mock(Input.class);
-        Gdx.input = mockInput;
-
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(120, 220);
-
-        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
-
-        locker.update(player, 0.016f);
-        assertTrue(locker.lockerSearched());
-
-        locker.update(player, 0.016f);
-        locker.update(player, 0.016f);
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(120, 220), timer, null);
+        Entity locker = events.spawn(EventDefinition.LOCKER, 100, 200);
+        MessageComponent message = locker.getComponent(MessageComponent.class);
+
+        events.update(FRAME);
+        assertTrue(events.isTriggered(EventDefinition.LOCKER));
+        for (int i = 0; i < 10; i++) {
+            events.update(1f);
+        }
 
-        assertTrue(locker.lockerSearched());
+        assertTrue(events.isTriggered(EventDefinition.LOCKER), "Locker should stay searched");
+        assertEquals(1f, events.getPlayerSpeed(), "Pressing E again should not lengthen or restart the boost");
+        assertFalse(message.showing, "The message should not be shown again");
+        events.dispose();
     }
 
-    //Test #16: player at exact locker position activates
+    //Test #8: the locker's message shows when searched and hides after 5 seconds
     @Test
-    @DisplayName("Player at exact locker position activates with E key")
-    public void testPlayerAtExactPosition() {
-        Input mockInput = mock(Input.class);
-        Gdx.input = mockInput;
-
-        Locker locker = new Locker(100, 200);
-        Player player = new Player(100, 200);
-
-        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+    @DisplayName("Message shows for 5 seconds")
+    public void testMessageDuration() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(100, 200), timer, null);
+        Entity locker = events.spawn(EventDefinition.LOCKER, 100, 200);
+        MessageComponent message = locker.getComponent(MessageComponent.class);
+        assertFalse(message.showing);
 
-        locker.update(player, 0.016f);
+        events.update(FRAME);
+        assertTrue(message.showing);
+        assertEquals(EventDefinition.LOCKER.message, message.text);
 
-        assertTrue(locker.lockerSearched(), "Should activate at exact position");
-        assertTrue(locker.isBoostActive());
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
+        events.update(1f);
+        assertTrue(message.showing, "Message should still show after 1 second");
+        events.update(4f);
+        assertFalse(message.showing, "Message should hide after 5 seconds");
+        events.dispose();
     }
 }
@@ -0,0 +1,53 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MapEventAssets class.
+ * Tests every event definition being drawn with the part of its texture it is sized
+ * by, and textures being loaded once however many events share them.
+ * Automated: getRegion(), getFont() and dispose()
+ * Manual testing required: events looking right on screen
+ */
+@DisplayName("MapEventAssets Tests")
+public class MapEventAssetsTest extends TestHelper {
+
+    //Test #1: each region is the one the definition sizes its event by
+    @Test
+    @DisplayName("Regions match each definition's size")
+    public void testRegionsMatchDefinitions() {
+        MapEventAssets assets = new MapEventAssets();
+        for (EventDefinition definition : EventDefinition.ALL) {
+            TextureRegion region = assets.getRegion(definition);
+            assertNotNull(region, definition.getName() + " should have a picture");
+            assertEquals(definition.regionWidth, region.getRegionWidth(), definition.getName());
+            assertEquals(definition.regionHeight, region.getRegionHeight(), definition.getName());
+            assertTrue(definition.regionX + definition.regionWidth <= region.getTexture().getWidth()
+                && definition.regionY + definition.regionHeight <= region.getTexture().getHeight(),
+                definition.getName() + " should fit inside its texture");
+        }
+        assertNotNull(assets.getFont());
+        assertDoesNotThrow(assets::dispose);
+    }
+
+    //Test #2: events drawn from the same file share one texture
+    @Test
+    @DisplayName("Textures are loaded once per file")
+    public void testTexturesShared() {
+        MapEventAssets assets = new MapEventAssets();
+        assertSame(assets.getRegion(EventDefinition.LOCKER).getTexture(),
+            assets.getRegion(EventDefinition.LAB_EQUIPMENT).getTexture());
+        assertSame(assets.getRegion(EventDefinition.BUSH).getTexture(),
+            assets.getRegion(EventDefinition.TREE).getTexture());
+        assertNotSame(assets.getRegion(EventDefinition.LOCKER).getTexture(),
+            assets.getRegion(EventDefinition.FRIEND).getTexture());
+        MapEventAssets locker = new MapEventAssets(EventDefinition.LOCKER);
+        assertNull(locker.getRegion(EventDefinition.FRIEND), "Only the definitions asked for should be loaded");
+        locker.dispose();
+        assets.dispose();
+    }
+}
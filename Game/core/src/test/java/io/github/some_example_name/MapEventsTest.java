@@ -0,0 +1,322 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for MapEvents class.
+ * Tests each map event spawned from its definition: the locker boost, the bush slow down,
+ * the tree and extra time changing the timer, the lab equipment teleport and the friend's
+ * dialog, along with the counts used by the HUD checklists and achievements.
+ * Automated: spawnAll(), spawn(), update(), getPlayerSpeed(), isTriggered(), countTriggered(),
+ * countSpawned(), allTriggered(), that updates allocate nothing once warm, and that
+ * events spawn without a GPU
+ * Manual testing required: render() - event sprites and messages only testable visually
+ */
+@DisplayName("MapEvents Tests")
+public class MapEventsTest extends TestHelper {
+
+    private static final float FRAME = 0.016f;
+
+    private Input input;
+    private GameTimer timer;
+
+    @BeforeEach
+    public void setUpInput() {
+        input = mock(Input.class);
+        Gdx.input = input;
+        timer = mock(GameTimer.class);
+    }
+
+    //Test #1: every event on the main map is spawned and counted on its checklist
+    @Test
+    @DisplayName("Main map events are spawned and counted")
+    public void testSpawnAll() {
+        MapEvents events = new MapEvents(new Player(0, 0), timer, new RandomStreams(1));
+        events.spawnAll();
+
+        assertEquals(EventDefinition.ALL.length, events.getEngine().getEntities().size());
+        assertEquals(2, events.countSpawned(EventCategory.POSITIVE));
+        assertEquals(2, events.countSpawned(EventCategory.NEGATIVE));
+        assertEquals(1, events.countSpawned(EventCategory.HIDDEN));
+        assertEquals(0, events.countTriggered(EventCategory.POSITIVE));
+        assertFalse(events.allTriggered(EventCategory.NEGATIVE));
+        assertEquals(1f, events.getPlayerSpeed(), "No speed effect should run at the start");
+        events.dispose();
+    }
+
+    //Test #2: E within 50 units searches the locker and doubles the player's speed
+    @Test
+    @DisplayName("E key searches the locker within 50 units")
+    public void testLockerInRange() {
+        Player player = new Player(120, 220);
+        MapEvents events = new MapEvents(player, timer, null);
+        events.spawn(EventDefinition.LOCKER, 100, 200);
+
+        events.update(FRAME);
+        assertFalse(events.isTriggered(EventDefinition.LOCKER), "Should not activate without E key");
+
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        events.update(FRAME);
+
+        assertTrue(events.isTriggered(EventDefinition.LOCKER), "Locker should be searched");
+        assertEquals(2f, events.getPlayerSpeed(), "Boost should be active");
+        assertEquals(1, events.countTriggered(EventCategory.POSITIVE));
+        events.dispose();
+    }
+
+    //Test #3: the locker's range is strictly less than 50 units
+    @Test
+    @DisplayName("Exact 50 unit boundary does not search the locker")
+    public void testLockerBoundary() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+
+        MapEvents atEdge = new MapEvents(new Player(30, 40), timer, null);
+        atEdge.spawn(EventDefinition.LOCKER, 0, 0);
+        atEdge.update(FRAME);
+        assertFalse(atEdge.isTriggered(EventDefinition.LOCKER), "Should not activate at exact 50 units");
+        atEdge.dispose();
+
+        MapEvents inside = new MapEvents(new Player(30, 39), timer, null);
+        inside.spawn(EventDefinition.LOCKER, 0, 0);
+        inside.update(FRAME);
+        assertTrue(inside.isTriggered(EventDefinition.LOCKER), "Should activate just inside 50 units");
+        inside.dispose();
+    }
+
+    //Test #4: the locker boost wears off after 10 seconds and cannot be had again
+    @Test
+    @DisplayName("Locker boost expires after 10 seconds and only works once")
+    public void testLockerBoostExpires() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(100, 200), timer, null);
+        events.spawn(EventDefinition.LOCKER, 100, 200);
+
+        events.update(FRAME);
+        for (int i = 0; i < 9; i++) {
+            events.update(1f);
+        }
+        assertEquals(2f, events.getPlayerSpeed(), "Boost should still be active");
+
+        events.update(1f);
+        assertEquals(1f, events.getPlayerSpeed(), "Boost should expire after 10 seconds");
+
+        events.update(FRAME);
+        assertEquals(1f, events.getPlayerSpeed(), "Locker should not boost a second time");
+        events.dispose();
+    }
+
+    //Test #5: walking into the bush halves the player's speed for 20 seconds
+    @Test
+    @DisplayName("Bush slows the player for 20 seconds")
+    public void testBush() {
+        Player player = new Player(500, 500);
+        MapEvents events = new MapEvents(player, timer, null);
+        events.spawn(EventDefinition.BUSH, 100, 200);
+
+        events.update(FRAME);
+        assertFalse(events.isTriggered(EventDefinition.BUSH), "Distant player should not fall in");
+
+        player.getPosition().set(110, 210);
+        events.update(FRAME);
+        assertTrue(events.isTriggered(EventDefinition.BUSH));
+        assertEquals(0.5f, events.getPlayerSpeed());
+
+        events.update(19f);
+        assertEquals(0.5f, events.getPlayerSpeed());
+        events.update(1f);
+        assertEquals(1f, events.getPlayerSpeed(), "Slow down should expire after 20 seconds");
+        events.dispose();
+    }
+
+    //Test #6: the bush slows the player even while the locker boost is running
+    @Test
+    @DisplayName("Bush slow down outweighs the locker boost")
+    public void testBushOutweighsLocker() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(100, 200), timer, null);
+        events.spawn(EventDefinition.LOCKER, 100, 200);
+        events.spawn(EventDefinition.BUSH, 100, 200);
+
+        events.update(FRAME);
+
+        assertTrue(events.isTriggered(EventDefinition.LOCKER));
+        assertTrue(events.isTriggered(EventDefinition.BUSH));
+        assertEquals(0.5f, events.getPlayerSpeed());
+        events.dispose();
+    }
+
+    //Test #7: hitting the tree takes 30 seconds off the timer, once
+    @Test
+    @DisplayName("Tree takes 30 seconds off the timer once")
+    public void testTree() {
+        Player player = new Player(100, 200);
+        MapEvents events = new MapEvents(player, timer, null);
+        events.spawn(EventDefinition.TREE, 100, 200);
+
+        events.update(FRAME);
+        events.update(FRAME);
+
+        assertTrue(events.isTriggered(EventDefinition.TREE));
+        verify(timer, times(1)).addTime(-30f);
+        events.dispose();
+    }
+
+    //Test #8: the tree's trigger area is its cropped texture region at double scale
+    @Test
+    @DisplayName("Tree bounds match the texture region with scale")
+    public void testTreeBounds() {
+        MapEvents events = new MapEvents(new Player(500, 500), timer, null);
+        Entity tree = events.spawn(EventDefinition.TREE, 100, 200);
+
+        TriggerComponent trigger = tree.getComponent(TriggerComponent.class);
+        assertEquals(100, trigger.bounds.x);
+        assertEquals(200, trigger.bounds.y);
+        assertEquals(56, trigger.bounds.width);
+        assertEquals(56, trigger.bounds.height);
+        events.dispose();
+    }
+
+    //Test #9: extra time is placed off its spawn point, adds 30 seconds and disappears
+    @Test
+    @DisplayName("Extra time adds 30 seconds and disappears")
+    public void testExtraTime() {
+        Player player = new Player(500, 500);
+        MapEvents events = new MapEvents(player, timer, null);
+        Entity clock = events.spawn(EventDefinition.EXTRA_TIME, 100, 200);
+        assertEquals(new Vector2(120, 210), clock.getComponent(PositionComponent.class).position,
+            "Should be moved slightly right and up from the spawn point");
+
+        events.update(FRAME);
+        verify(timer, never()).addTime(anyFloat());
+
+        player.getPosition().set(120, 210);
+        events.update(FRAME);
+        events.update(FRAME);
+
+        verify(timer, times(1)).addTime(30f);
+        assertFalse(clock.getComponent(SpriteComponent.class).visible, "Should disappear after collection");
+        events.dispose();
+    }
+
+    //Test #10: messages show when an event goes off and hide after 5 seconds
+    @Test
+    @DisplayName("Event message shows for 5 seconds")
+    public void testMessageDuration() {
+        MapEvents events = new MapEvents(new Player(100, 200), timer, null);
+        Entity bush = events.spawn(EventDefinition.BUSH, 100, 200);
+        MessageComponent message = bush.getComponent(MessageComponent.class);
+
+        events.update(FRAME);
+        assertTrue(message.showing);
+        events.update(4f);
+        assertTrue(message.showing);
+        events.update(1f);
+        assertFalse(message.showing, "Message should hide after 5 seconds");
+        events.dispose();
+    }
+
+    //Test #11: the lab equipment counts down, then teleports the player to a safe spot once
+    @Test
+    @DisplayName("Lab equipment teleports the player after the countdown")
+    public void testLabEquipment() {
+        Player player = new Player(100, 200);
+        MapEvents events = new MapEvents(player, timer, new RandomStreams(7));
+        Entity lab = events.spawn(EventDefinition.LAB_EQUIPMENT, 100, 200);
+        MessageComponent message = lab.getComponent(MessageComponent.class);
+
+        events.update(FRAME);
+        assertEquals("3..", message.text);
+        assertEquals(new Vector2(100, 200), player.getPosition(), "Player should not move before the countdown ends");
+
+        events.update(3.6f);
+        Vector2 landed = new Vector2(player.getPosition());
+        assertTrue(isSafeSpot(landed), "Player should land on a safe spot, not " + landed);
+        assertEquals(1, events.countTriggered(EventCategory.HIDDEN));
+        assertTrue(events.allTriggered(EventCategory.HIDDEN));
+
+        // Standing on the equipment again does not start another countdown.
+        player.getPosition().set(100, 200);
+        events.update(5f);
+        assertEquals(new Vector2(100, 200), player.getPosition(), "Teleport should only happen once");
+        events.dispose();
+    }
+
+    //Test #12: the friend says a line when talked to, and stops when the player walks off
+    @Test
+    @DisplayName("Friend talks within range and goes quiet out of range")
+    public void testFriendDialog() {
+        Player player = new Player(560, 600);
+        MapEvents events = new MapEvents(player, timer, new RandomStreams(3));
+        Entity friend = events.spawn(EventDefinition.FRIEND, 560, 600);
+        MessageComponent message = friend.getComponent(MessageComponent.class);
+
+        events.update(FRAME);
+        assertFalse(message.showing, "Should not talk without E key");
+
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        events.update(FRAME);
+        assertTrue(message.showing);
+        assertTrue(Arrays.asList(EventDefinition.FRIEND.dialogLines).contains(message.text));
+        assertEquals(0, events.countTriggered(EventCategory.POSITIVE), "Friend is not a counted event");
+
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
+        events.update(30f);
+        assertTrue(message.showing, "Line should stay up while the player is near");
+
+        player.getPosition().set(560, 661);
+        events.update(FRAME);
+        assertFalse(message.showing, "Line should hide out of range");
+
+        player.getPosition().set(560, 600);
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        events.update(FRAME);
+        assertTrue(message.showing, "Friend can be talked to again");
+        events.dispose();
+    }
+
+    //Test #13: once warm, updating the events as the player walks around allocates nothing
+    @Test
+    @DisplayName("Updates allocate nothing once warm")
+    public void testNoAllocation() throws Exception {
+        long allocated = AllocationProbe.measure("events");
+        assertEquals(0, allocated, "A run of " + AllocationProbe.MEASURED + " updates allocated " + allocated + " bytes");
+    }
+
+    //Test #14: events are sized from their definitions, so spawning them needs no GPU at all
+    @Test
+    @DisplayName("Events spawn without a GPU")
+    public void testSpawnHeadless() {
+        Gdx.gl = Gdx.gl20 = null;
+        MapEvents events = new MapEvents(new Player(0, 0, false), timer, null);
+        events.spawnAll();
+        Entity locker = events.spawn(EventDefinition.LOCKER, 0, 0);
+        SpriteComponent sprite = locker.getComponent(SpriteComponent.class);
+        assertEquals(17, sprite.width, "Sized as locker.png is");
+        assertEquals(33, sprite.height);
+        assertThrows(IllegalArgumentException.class,
+            () -> events.spawn(new EventDefinition("Unsized", EventCategory.NONE, "locker.png", 0, 0), 0, 0),
+            "A definition with no region cannot be sized");
+        events.dispose();
+    }
+
+    private static boolean isSafeSpot(Vector2 position) {
+        float[] spots = EventDefinition.SAFE_SPOTS;
+        for (int i = 0; i < spots.length; i += 2) {
+            if (position.epsilonEquals(spots[i], spots[i + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
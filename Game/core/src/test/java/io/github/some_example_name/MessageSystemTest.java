@@ -0,0 +1,77 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MessageSystem class.
+ * Tests messages showing when triggered, hiding after their duration, and restarting.
+ * Automated: processEntity(), expired()
+ * Manual testing required: message text drawn by MapEvents.render()
+ */
+@DisplayName("MessageSystem Tests")
+public class MessageSystemTest {
+    private final TimerWheel timers = new TimerWheel();
+
+    // Messages are hidden on the wheel, so it is moved on with the engine.
+    private void update(PooledEngine engine, float seconds) {
+        engine.update(seconds);
+        timers.advance(seconds);
+    }
+
+    //Test #1: a message shows on its trigger and hides after its duration
+    @Test
+    @DisplayName("Message hides after its duration")
+    public void testDuration() {
+        PooledEngine engine = new PooledEngine();
+        engine.addSystem(new MessageSystem(timers));
+        Entity entity = engine.createEntity();
+        TriggerComponent trigger = engine.createComponent(TriggerComponent.class);
+        MessageComponent message = engine.createComponent(MessageComponent.class);
+        message.duration = 5f;
+        entity.add(trigger);
+        entity.add(message);
+        engine.addEntity(entity);
+
+        update(engine, 1f);
+        assertFalse(message.showing, "Message should wait for its trigger");
+
+        trigger.fired = true;
+        update(engine, 1f);
+        trigger.fired = false;
+        assertTrue(message.showing);
+        assertEquals(4f, timers.getRemaining(message.timer), 1e-4f);
+
+        update(engine, 3.5f);
+        assertTrue(message.showing);
+        update(engine, 1f);
+        assertFalse(message.showing, "Message should hide after 5 seconds");
+
+        trigger.fired = true;
+        update(engine, 0.1f);
+        assertTrue(message.showing, "Firing again should show the message again");
+        assertEquals(4.9f, timers.getRemaining(message.timer), 1e-4f);
+    }
+
+    //Test #2: pooled messages come back cleared
+    @Test
+    @DisplayName("Reset clears a pooled message")
+    public void testReset() {
+        MessageComponent message = new MessageComponent();
+        message.text = "Hello";
+        message.showing = true;
+        message.timer = 2;
+        message.duration = MessageComponent.UNTIL_HIDDEN;
+
+        message.reset();
+
+        assertNull(message.text);
+        assertFalse(message.showing);
+        assertEquals(TimerWheel.NO_TIMER, message.timer);
+        assertEquals(0, message.duration);
+    }
+}
@@ -3,6 +3,8 @@ package io.github.some_example_name;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import org.mockito.MockedConstruction;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -11,7 +13,8 @@ import static org.mockito.ArgumentMatchers.any;
 
 /**
  * Test suite for MyGame class.
- * Tests player name management, full name formatting, null/whitespace handling, and screen creation.
+ * Tests player name management, full name formatting, null/whitespace handling, screen creation,
+ * and the keys the menus read.
  * Test coverage:100%
  * Fully automated
  */
@@ -92,4 +95,32 @@ public class MyGameTest extends TestHelper{
             verify(game, times(1)).setScreen(any(MenuScreen.class));
         }
     }
+
+    //Test #9
+    @Test
+    @DisplayName("Menus read the real keyboard until given other keys")
+    void testMenuInput() {
+        assertSame(InputSource.GDX, game.getMenuInput());
+        ScriptedInput keys = new ScriptedInput();
+        game.setMenuInput(keys);
+        assertSame(keys, game.getMenuInput());
+    }
+
+    //Test #10
+    @Test
+    @DisplayName("The autopilot's menus read the real keyboard as well as the bot")
+    void testAutopilotMenuInput() {
+        Input keyboard = mock(Input.class);
+        when(keyboard.isKeyJustPressed(Input.Keys.ESCAPE)).thenReturn(true);
+        Input previous = Gdx.input;
+        Gdx.input = keyboard;
+        try {
+            InputSource menus = new AutopilotGame(false).getMenuInput();
+            assertNotSame(InputSource.GDX, menus);
+            assertTrue(menus.isKeyJustPressed(Input.Keys.ESCAPE), "Real keys still reach the menus");
+            assertFalse(menus.isKeyJustPressed(Input.Keys.SPACE));
+        } finally {
+            Gdx.input = previous;
+        }
+    }
 }
@@ -1,161 +1,141 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
- * Test suite for NPC class.
- * Tests NPC creation, position management, update logic, and interaction triggers.
- * Test coverage:63%
- * Automated: Constructor, position access, bounds initialization, update safety, state management
- * Uses TestableNPC subclass to mock input or range checks
- * Coverage justification: Dialog selection logic, detect E key, and rendering only testable visually
+ * Test suite for the friend NPC, spawned from {@link EventDefinition#FRIEND}.
+ * Tests the friend's position and bounds, a line being picked from the seeded stream
+ * when the player presses E within 50 units, the line staying up until the player is
+ * more than 60 units away, and the friend never being counted as an event.
+ * Automated: MapEvents.spawn(), update(), dispose() and the friend's position, trigger and message
+ * Manual testing required: the friend and their lines drawn in game
  */
-@DisplayName("NPC High-Coverage Tests")
+@DisplayName("NPC Tests")
 public class NPCTest extends TestHelper {
 
-    private Player createPlayer(float x, float y) {
-        return new Player(x, y);
-    }
-
-    //Test #1: NPC instance created successfully
-    @Test
-    @DisplayName("NPC instance is created")
-    void testCreation() {
-        NPC npc = new NPC(100, 200);
-        assertNotNull(npc);
-    }
+    private static final float FRAME = 0.016f;
 
-    //Test #2: initial position matches constructor parameters
-    @Test
-    @DisplayName("Initial position is correct")
-    void testInitialPosition() {
-        NPC npc = new NPC(150, 250);
+    private Input input;
+    private GameTimer timer;
 
-        assertEquals(150, npc.getPosition().x);
-        assertEquals(250, npc.getPosition().y);
+    @BeforeEach
+    public void setUpInput() {
+        input = mock(Input.class);
+        Gdx.input = input;
+        timer = mock(GameTimer.class);
     }
 
-    //Test #3: collision bounds initialized correctly
+    //Test #1: the friend stands where spawned, at the origin and at negative coordinates too
     @Test
-    @DisplayName("Bounds are initialised correctly")
-    void testBoundsInitialised() {
-        NPC npc = new NPC(100, 200);
-
-        assertNotNull(npc.getBounds());
-        assertTrue(npc.getBounds().width > 0);
-        assertTrue(npc.getBounds().height > 0);
-    }
-
-    //Test #4: position vector is mutable
-    @Test
-    @DisplayName("Position object is mutable")
-    void testPositionMutable() {
-        NPC npc = new NPC(0, 0);
-
-        Vector2 pos = npc.getPosition();
-        pos.set(300, 400);
-
-        assertEquals(300, npc.getPosition().x);
-        assertEquals(400, npc.getPosition().y);
-    }
-
-    //Test #5: getPosition returns same instance
-    @Test
-    @DisplayName("getPosition returns same instance")
-    void testPositionInstance() {
-        NPC npc = new NPC(10, 10);
-
-        assertSame(npc.getPosition(), npc.getPosition());
-    }
-
-    //Test #6: update runs safely without interaction
-    @Test
-    @DisplayName("Update runs safely when no interaction occurs")
-    void testUpdateSafePath() {
-        NPC npc = new NPC(100, 100);
-        Player player = createPlayer(1000, 1000);
-
-        assertDoesNotThrow(() -> npc.update(player));
-    }
-
-    //Test #7: interaction triggered when conditions met
-    @Test
-    @DisplayName("Interaction triggers when player in range and key pressed")
-    void testInteractionTriggered() {
-        TestableNPC npc = new TestableNPC(100, 100);
-        Player player = createPlayer(100, 100);
-
-        npc.setInRange(true);
-        npc.setKeyPressed(true);
-        npc.setForcedDialog("HELLO");
-
-        assertDoesNotThrow(() -> npc.update(player));
+    @DisplayName("Position matches the spawn point")
+    public void testPosition() {
+        MapEvents events = new MapEvents(new Player(1000, 1000), timer, null);
+        float[][] spots = {{150, 250}, {0, 0}, {-50, -100}};
+        for (float[] spot : spots) {
+            Entity friend = events.spawn(EventDefinition.FRIEND, spot[0], spot[1]);
+            Vector2 position = friend.getComponent(PositionComponent.class).position;
+            assertEquals(new Vector2(spot[0], spot[1]), position);
+            assertSame(position, friend.getComponent(PositionComponent.class).position);
+        }
+        events.dispose();
     }
 
-    //Test #8: dialog hides when player moves away
+    //Test #2: the friend's bounds are the size of their picture
     @Test
-    @DisplayName("Dialog hides when player moves out of range")
-    void testDialogHideLogic() {
-        TestableNPC npc = new TestableNPC(100, 100);
-        Player player = createPlayer(100, 100);
-
-        npc.setInRange(true);
-        npc.setKeyPressed(true);
-        npc.update(player);
-
-        npc.setInRange(false);
-        npc.setOutOfRange(true);
+    @DisplayName("Bounds are initialised correctly")
+    public void testBounds() {
+        MapEvents events = new MapEvents(new Player(1000, 1000), timer, null);
+        Entity friend = events.spawn(EventDefinition.FRIEND, 100, 200);
 
-        assertDoesNotThrow(() -> npc.update(player));
+        assertEquals(new Rectangle(100, 200, 19, 25), friend.getComponent(TriggerComponent.class).bounds);
+        events.dispose();
     }
 
-    //Test #9: multiple updates maintain valid state
+    //Test #3: with nobody talking to them the friend stays quiet, however many updates
     @Test
-    @DisplayName("Multiple updates maintain valid state")
-    void testMultipleUpdates() {
-        TestableNPC npc = new TestableNPC(200, 200);
-        Player player = createPlayer(0, 0);
-
-        npc.setInRange(false);
-        npc.setKeyPressed(false);
+    @DisplayName("Multiple updates without interaction stay quiet")
+    public void testQuietWithoutInteraction() {
+        Player player = new Player(100, 100);
+        MapEvents events = new MapEvents(player, timer, null);
+        Entity friend = events.spawn(EventDefinition.FRIEND, 100, 100);
+        MessageComponent message = friend.getComponent(MessageComponent.class);
 
         for (int i = 0; i < 10; i++) {
-            npc.update(player);
+            events.update(FRAME);
+        }
+        player.getPosition().set(1000, 1000);
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        for (int i = 0; i < 10; i++) {
+            events.update(FRAME);
         }
 
-        assertNotNull(npc.getPosition());
-        assertNotNull(npc.getBounds());
+        assertFalse(message.showing, "Should not talk without E in range");
+        assertEquals(0, events.countTriggered(EventCategory.POSITIVE));
+        events.dispose();
     }
 
-    //Test #10: NPC supports origin position
+    //Test #4: the friend picks their line from the seeded stream, so the same seed says the same
     @Test
-    @DisplayName("NPC supports origin position")
-    void testOriginPosition() {
-        NPC npc = new NPC(0, 0);
+    @DisplayName("Interaction picks a line from the seed")
+    public void testInteractionTriggered() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        String[] said = new String[2];
+        for (int run = 0; run < 2; run++) {
+            MapEvents events = new MapEvents(new Player(100, 100), timer, new RandomStreams(41));
+            Entity friend = events.spawn(EventDefinition.FRIEND, 100, 100);
+            events.update(FRAME);
+            MessageComponent message = friend.getComponent(MessageComponent.class);
+            assertTrue(message.showing);
+            said[run] = message.text;
+            events.dispose();
+        }
 
-        assertEquals(0, npc.getPosition().x);
-        assertEquals(0, npc.getPosition().y);
+        assertTrue(Arrays.asList(EventDefinition.FRIEND.dialogLines).contains(said[0]));
+        assertEquals(said[0], said[1], "The same seed should pick the same line");
     }
 
-    //Test #11: NPC supports negative coordinates
+    //Test #5: the line stays up until the player is more than 60 units away
     @Test
-    @DisplayName("NPC supports negative coordinates")
-    void testNegativeCoordinates() {
-        NPC npc = new NPC(-50, -100);
-
-        assertEquals(-50, npc.getPosition().x);
-        assertEquals(-100, npc.getPosition().y);
+    @DisplayName("Dialog hides when player moves out of range")
+    public void testDialogHideLogic() {
+        Player player = new Player(100, 100);
+        MapEvents events = new MapEvents(player, timer, null);
+        Entity friend = events.spawn(EventDefinition.FRIEND, 100, 100);
+        MessageComponent message = friend.getComponent(MessageComponent.class);
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        events.update(FRAME);
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
+
+        player.getPosition().set(155, 100);
+        events.update(FRAME);
+        assertTrue(message.showing, "Line should stay up between 50 and 60 units");
+
+        player.getPosition().set(161, 100);
+        events.update(FRAME);
+        assertFalse(message.showing, "Line should hide beyond 60 units");
+        events.dispose();
     }
 
-    //Test #12: dispose executes safely
+    //Test #6: disposing of the events with the friend in them is safe, talking or not
     @Test
     @DisplayName("Dispose executes safely")
-    void testDispose() {
-        NPC npc = new NPC(100, 100);
-        assertDoesNotThrow(npc::dispose);
+    public void testDispose() {
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        MapEvents events = new MapEvents(new Player(100, 100), timer, null);
+        events.spawn(EventDefinition.FRIEND, 100, 100);
+        events.update(FRAME);
+        assertDoesNotThrow(events::dispose);
     }
 }
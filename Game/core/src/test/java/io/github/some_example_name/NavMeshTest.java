@@ -0,0 +1,258 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for NavMesh class.
+ * Tests the rectangle decomposition, portal links, which cells are connected, distances
+ * to a goal over the rectangles and local rebuilds when cells change.
+ * Automated: decomposition, getNeighbours(), isConnected(), searchFrom(), distanceToGoal(),
+ * setCellBlocked()
+ */
+@DisplayName("Nav Mesh Tests")
+public class NavMeshTest {
+
+    /**
+     * Build a grid from rows of text, top row first, where '#' is a wall.
+     */
+    private NavigationGrid gridOf(String... rows) {
+        int width = rows[0].length();
+        int height = rows.length;
+        boolean[] blocked = new boolean[width * height];
+        for (int row = 0; row < height; row++) {
+            int y = height - 1 - row;
+            for (int x = 0; x < width; x++) {
+                blocked[y * width + x] = rows[row].charAt(x) == '#';
+            }
+        }
+        return new NavigationGrid(width, height, blocked);
+    }
+
+    /** Every walkable cell is in exactly one rectangle, and every rectangle lies on walkable cells. */
+    private void assertCoversGrid(NavMesh mesh) {
+        NavigationGrid grid = mesh.getGrid();
+        int[] rect = new int[4];
+        int covered = 0;
+        for (int cell = 0; cell < grid.getCellCount(); cell++) {
+            int region = mesh.regionOf(cell);
+            assertEquals(grid.isBlocked(cell), region < 0, "Cell " + cell);
+            if (region < 0) continue;
+            covered++;
+            mesh.getRect(region, rect);
+            int x = grid.cellX(cell);
+            int y = grid.cellY(cell);
+            assertTrue(x >= rect[0] && x < rect[0] + rect[2] && y >= rect[1] && y < rect[1] + rect[3],
+                "Cell " + cell + " lies in its rectangle");
+        }
+        int area = 0;
+        for (int cell = 0; cell < grid.getCellCount(); cell++) {
+            int region = mesh.regionOf(cell);
+            if (region < 0) continue;
+            mesh.getRect(region, rect);
+            if (grid.cellX(cell) == rect[0] && grid.cellY(cell) == rect[1]) {
+                area += rect[2] * rect[3];
+            }
+        }
+        assertEquals(covered, area, "Rectangles do not overlap");
+    }
+
+    //Test #1: an open grid becomes a single rectangle
+    @Test
+    @DisplayName("Open grid is one rectangle")
+    public void testOpenGridIsOneRegion() {
+        NavMesh mesh = new NavMesh(new NavigationGrid(20, 15, new boolean[300]));
+        assertEquals(1, mesh.getRegionCount());
+        assertCoversGrid(mesh);
+    }
+
+    //Test #2: walls split the grid into linked rectangles
+    @Test
+    @DisplayName("Walls split the grid into linked rectangles")
+    public void testWallsSplitRegions() {
+        NavMesh mesh = new NavMesh(gridOf(
+            "....#....",
+            "....#....",
+            ".........",
+            "....#...."));
+        assertCoversGrid(mesh);
+        assertTrue(mesh.getRegionCount() > 1);
+
+        NavigationGrid grid = mesh.getGrid();
+        int left = mesh.regionOf(grid.index(0, 3));
+        int right = mesh.regionOf(grid.index(8, 3));
+        assertNotEquals(left, right);
+        assertTrue(mesh.isConnected(grid.index(0, 3), grid.index(8, 3)));
+        for (int i = 0; i < mesh.getNeighbours(left).size; i++) {
+            int other = mesh.getNeighbours(left).get(i);
+            assertTrue(mesh.getNeighbours(other).contains(left), "Links go both ways");
+        }
+    }
+
+    //Test #3: linked rectangles touch along an edge, and unlinked ones never do
+    @Test
+    @DisplayName("Portals are shared edges")
+    public void testPortalsAreSharedEdges() {
+        NavMesh mesh = new NavMesh(gridOf(
+            "....#....",
+            "....#....",
+            ".........",
+            "....#...."));
+        NavigationGrid grid = mesh.getGrid();
+        int[] a = new int[4];
+        int[] b = new int[4];
+        for (int cell = 0; cell < grid.getCellCount(); cell++) {
+            int region = mesh.regionOf(cell);
+            for (int other = 0; other < grid.getCellCount() && region >= 0; other++) {
+                int otherRegion = mesh.regionOf(other);
+                if (otherRegion < 0 || otherRegion == region) continue;
+                mesh.getRect(region, a);
+                mesh.getRect(otherRegion, b);
+                boolean sideBySide = (a[0] + a[2] == b[0] || b[0] + b[2] == a[0])
+                    && a[1] < b[1] + b[3] && b[1] < a[1] + a[3];
+                boolean stacked = (a[1] + a[3] == b[1] || b[1] + b[3] == a[1])
+                    && a[0] < b[0] + b[2] && b[0] < a[0] + a[2];
+                assertEquals(sideBySide || stacked, mesh.getNeighbours(region).contains(otherRegion),
+                    "Regions " + region + " and " + otherRegion);
+            }
+        }
+    }
+
+    //Test #4: walled off cells are reported unreachable
+    @Test
+    @DisplayName("Separated areas are not connected")
+    public void testUnreachable() {
+        NavigationGrid grid = gridOf(
+            "..#..",
+            "..#..");
+        NavMesh mesh = new NavMesh(grid);
+
+        assertFalse(mesh.isConnected(grid.index(0, 0), grid.index(4, 0)));
+        assertFalse(mesh.isConnected(grid.index(2, 0), grid.index(0, 0)), "Walls are never connected");
+    }
+
+    //Test #5: blocking and unblocking a cell rebuilds the mesh around it
+    @Test
+    @DisplayName("Cell changes rebuild the mesh locally")
+    public void testSetCellBlocked() {
+        NavigationGrid grid = gridOf(
+            ".....",
+            ".....",
+            "..#..",
+            ".....",
+            ".....");
+        NavMesh mesh = new NavMesh(grid);
+        int start = grid.index(0, 2);
+        int goal = grid.index(4, 2);
+
+        for (int y = 0; y < 5; y++) {
+            if (y != 2) mesh.setCellBlocked(2, y, true);
+        }
+        assertCoversGrid(mesh);
+        assertFalse(mesh.isConnected(start, goal), "Column 2 is now a wall");
+
+        mesh.setCellBlocked(2, 2, false);
+        assertCoversGrid(mesh);
+        assertTrue(mesh.isConnected(start, goal), "Opening the middle cell joins the halves");
+        assertTrue(grid.isBlocked(2, 2), "The grid passed in is never changed");
+    }
+
+    //Test #6: random edits keep the mesh valid and in agreement with the grid
+    @Test
+    @DisplayName("Random edits keep the mesh valid")
+    public void testRandomEdits() {
+        Random random = new Random(7);
+        NavMesh mesh = new NavMesh(new NavigationGrid(16, 16, new boolean[256]));
+
+        for (int round = 0; round < 150; round++) {
+            mesh.setCellBlocked(random.nextInt(16), random.nextInt(16), random.nextInt(3) > 0);
+            assertCoversGrid(mesh);
+
+            NavigationGrid grid = mesh.getGrid();
+            int start = random.nextInt(256);
+            int goal = random.nextInt(256);
+            boolean reachable = !grid.isBlocked(start) && !grid.isBlocked(goal)
+                && new CooperativePathfinder(grid, 1).distanceToGoal(start, goal) != Integer.MAX_VALUE;
+            assertEquals(reachable, mesh.isConnected(start, goal), "Round " + round);
+        }
+    }
+
+    //Test #7: distances follow the rectangles and never undercut the real walk
+    @Test
+    @DisplayName("Distances to the goal come from the rectangles")
+    public void testDistanceToGoal() {
+        NavigationGrid grid = gridOf(
+            "....#....",
+            "....#....",
+            ".........",
+            "....#....");
+        NavMesh mesh = new NavMesh(grid);
+        CooperativePathfinder cells = new CooperativePathfinder(grid, 1);
+        int goal = grid.index(8, 3);
+
+        mesh.searchFrom(goal);
+        assertTrue(mesh.getLastExpandedRegions() <= mesh.getRegionCount());
+        for (int cell = 0; cell < grid.getCellCount(); cell++) {
+            int walk = cells.distanceToGoal(cell, goal);
+            if (grid.isBlocked(cell)) {
+                assertEquals(Integer.MAX_VALUE, mesh.distanceToGoal(cell), "Walls are unreachable");
+            } else if (mesh.regionOf(cell) == mesh.regionOf(goal)) {
+                assertEquals(walk, mesh.distanceToGoal(cell), "Exact inside the goal's rectangle");
+            } else {
+                assertTrue(mesh.distanceToGoal(cell) >= walk, "Cell " + cell + " follows a real route");
+            }
+        }
+        assertEquals(12, mesh.distanceToGoal(grid.index(0, 3)), "Through the gap at (4, 1)");
+    }
+
+    //Test #8: a repeated goal reuses its search until the mesh changes
+    @Test
+    @DisplayName("Searches are reused until the mesh changes")
+    public void testSearchReused() {
+        NavigationGrid grid = gridOf(
+            "..#..",
+            ".....");
+        NavMesh mesh = new NavMesh(grid);
+        int start = grid.index(0, 1);
+        int goal = grid.index(4, 1);
+
+        mesh.searchFrom(goal);
+        assertTrue(mesh.getLastExpandedRegions() > 0);
+        mesh.searchFrom(goal);
+        assertEquals(0, mesh.getLastExpandedRegions(), "Same goal, nothing to search");
+        assertEquals(6, mesh.distanceToGoal(start));
+
+        mesh.setCellBlocked(2, 0, true);
+        mesh.searchFrom(goal);
+        assertTrue(mesh.getLastExpandedRegions() > 0, "The mesh changed, so the goal is searched again");
+        assertEquals(Integer.MAX_VALUE, mesh.distanceToGoal(start));
+    }
+
+    //Test #9: random grids never give a distance to an unreachable goal
+    @Test
+    @DisplayName("Distances are finite exactly when the goal is reachable")
+    public void testRandomDistances() {
+        Random random = new Random(11);
+        NavMesh mesh = new NavMesh(new NavigationGrid(16, 16, new boolean[256]));
+
+        for (int round = 0; round < 100; round++) {
+            mesh.setCellBlocked(random.nextInt(16), random.nextInt(16), random.nextInt(3) > 0);
+            NavigationGrid grid = mesh.getGrid();
+            CooperativePathfinder cells = new CooperativePathfinder(grid, 1);
+            int goal = random.nextInt(256);
+            if (grid.isBlocked(goal)) continue;
+
+            mesh.searchFrom(goal);
+            for (int cell = 0; cell < grid.getCellCount(); cell++) {
+                int walk = cells.distanceToGoal(cell, goal);
+                int estimate = mesh.distanceToGoal(cell);
+                assertEquals(walk == Integer.MAX_VALUE, estimate == Integer.MAX_VALUE, "Round " + round);
+                assertTrue(estimate >= walk, "Round " + round + ", cell " + cell);
+            }
+        }
+    }
+}
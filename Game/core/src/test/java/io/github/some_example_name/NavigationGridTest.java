@@ -0,0 +1,130 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for NavigationGrid class.
+ * Tests cell indexing, bounds handling, world/cell conversion and copy-on-write changes.
+ * Automated: all methods except fromTiledMap(), which needs a loaded TMX map and is covered by playing the game
+ */
+@DisplayName("Navigation Grid Tests")
+public class NavigationGridTest {
+
+    private NavigationGrid createGrid() {
+        boolean[] blocked = new boolean[4 * 3];
+        blocked[1 * 4 + 2] = true; // (2, 1)
+        return new NavigationGrid(4, 3, blocked);
+    }
+
+    //Test #1: dimensions are stored
+    @Test
+    @DisplayName("Grid reports its size")
+    public void testDimensions() {
+        NavigationGrid grid = createGrid();
+        assertEquals(4, grid.getWidth());
+        assertEquals(3, grid.getHeight());
+        assertEquals(12, grid.getCellCount());
+    }
+
+    //Test #2: blocked cells are reported by coordinates and index
+    @Test
+    @DisplayName("Blocked cells are reported")
+    public void testBlockedCells() {
+        NavigationGrid grid = createGrid();
+        assertTrue(grid.isBlocked(2, 1));
+        assertTrue(grid.isBlocked(grid.index(2, 1)));
+        assertFalse(grid.isBlocked(1, 1));
+    }
+
+    //Test #3: cells outside the grid are blocked
+    @Test
+    @DisplayName("Out of bounds cells are blocked")
+    public void testOutOfBoundsBlocked() {
+        NavigationGrid grid = createGrid();
+        assertTrue(grid.isBlocked(-1, 0));
+        assertTrue(grid.isBlocked(4, 0));
+        assertTrue(grid.isBlocked(0, 3));
+        assertTrue(grid.isBlocked(-1));
+        assertTrue(grid.isBlocked(12));
+    }
+
+    //Test #4: index and coordinates convert both ways
+    @Test
+    @DisplayName("Index round trips to coordinates")
+    public void testIndexRoundTrip() {
+        NavigationGrid grid = createGrid();
+        int index = grid.index(3, 2);
+        assertEquals(3, grid.cellX(index));
+        assertEquals(2, grid.cellY(index));
+    }
+
+    //Test #5: world position maps to the cell used by collision checks
+    @Test
+    @DisplayName("World position maps to the centred cell")
+    public void testCellAt() {
+        NavigationGrid grid = createGrid();
+        assertEquals(grid.index(1, 1), grid.cellAt(16, 16));
+        assertEquals(grid.index(1, 1), grid.cellAt(23, 23));
+        assertEquals(grid.index(2, 2), grid.cellAt(24, 24));
+        assertEquals(-1, grid.cellAt(500, 500));
+    }
+
+    //Test #6: cell anchor converts back to world coordinates
+    @Test
+    @DisplayName("Cell anchors are tile aligned")
+    public void testWorldAnchor() {
+        NavigationGrid grid = createGrid();
+        int index = grid.index(3, 2);
+        assertEquals(48f, grid.worldX(index));
+        assertEquals(32f, grid.worldY(index));
+        assertEquals(index, grid.cellAt(grid.worldX(index), grid.worldY(index)));
+    }
+
+    //Test #7: withCell returns a changed copy and leaves the original alone
+    @Test
+    @DisplayName("withCell does not modify the original")
+    public void testWithCellCopies() {
+        NavigationGrid grid = createGrid();
+        NavigationGrid changed = grid.withCell(0, 0, true);
+
+        assertTrue(changed.isBlocked(0, 0));
+        assertFalse(grid.isBlocked(0, 0));
+        assertTrue(changed.isBlocked(2, 1));
+    }
+
+    //Test #8: constructor copies the input array
+    @Test
+    @DisplayName("Constructor copies the blocked array")
+    public void testConstructorCopies() {
+        boolean[] blocked = new boolean[4];
+        NavigationGrid grid = new NavigationGrid(2, 2, blocked);
+        blocked[0] = true;
+        assertFalse(grid.isBlocked(0, 0));
+    }
+
+    //Test #9: mismatched array size is rejected
+    @Test
+    @DisplayName("Wrong array size is rejected")
+    public void testWrongSizeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new NavigationGrid(3, 3, new boolean[4]));
+    }
+
+    //Test #10: walls and range both block line of sight
+    @Test
+    @DisplayName("Line of sight is blocked by walls and range")
+    public void testLineOfSight() {
+        boolean[] blocked = new boolean[100];
+        blocked[5 * 10 + 5] = true;
+        NavigationGrid grid = new NavigationGrid(10, 10, blocked);
+
+        assertTrue(grid.hasLineOfSight(grid.index(0, 0), grid.index(9, 0), 10), "Clear row");
+        assertTrue(grid.hasLineOfSight(grid.index(2, 3), grid.index(2, 3), 0), "A cell sees itself");
+        assertFalse(grid.hasLineOfSight(grid.index(2, 5), grid.index(8, 5), 10), "Wall at (5, 5) in the way");
+        assertFalse(grid.hasLineOfSight(grid.index(8, 5), grid.index(2, 5), 10), "Blocked both ways");
+        assertFalse(grid.hasLineOfSight(grid.index(0, 0), grid.index(9, 0), 5), "Out of range");
+        assertFalse(grid.hasLineOfSight(grid.index(0, 0), grid.index(5, 5), 10), "Target is a wall");
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for PathWorker class.
+ * Tests that jobs run off the calling thread, come back in order, and that failures
+ * and disposal are reported, that only so many jobs can be out at once, and that
+ * disposing waits for a job still running.
+ * Automated: submit(), pollCompleted(), dispose(), CAPACITY
+ */
+@DisplayName("Path Worker Tests")
+public class PathWorkerTest {
+
+    /** Job that records which thread ran it. */
+    private static class RecordingJob implements Runnable {
+        private final int id;
+        private Thread ranOn;
+
+        RecordingJob(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public void run() {
+            ranOn = Thread.currentThread();
+        }
+    }
+
+    private PathWorker<RecordingJob> worker;
+
+    @BeforeEach
+    public void setUp() {
+        worker = new PathWorker<>("test-worker");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        worker.dispose();
+    }
+
+    private RecordingJob awaitCompleted() throws InterruptedException {
+        for (int i = 0; i < 400; i++) {
+            RecordingJob job = worker.pollCompleted();
+            if (job != null) return job;
+            Thread.sleep(5);
+        }
+        return null;
+    }
+
+    //Test #1: jobs run on the worker thread, not the caller
+    @Test
+    @DisplayName("Jobs run on the worker thread")
+    public void testRunsOffThread() throws InterruptedException {
+        RecordingJob job = new RecordingJob(1);
+        worker.submit(job);
+
+        assertSame(job, awaitCompleted());
+        assertNotNull(job.ranOn);
+        assertNotSame(Thread.currentThread(), job.ranOn);
+        assertEquals("test-worker", job.ranOn.getName());
+        assertTrue(job.ranOn.isDaemon());
+    }
+
+    //Test #2: nothing is returned before anything is submitted
+    @Test
+    @DisplayName("Polling an idle worker returns null")
+    public void testPollEmpty() {
+        assertNull(worker.pollCompleted());
+    }
+
+    //Test #3: jobs come back in the order they were submitted
+    @Test
+    @DisplayName("Jobs complete in submission order")
+    public void testOrder() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            worker.submit(new RecordingJob(i));
+        }
+        for (int i = 0; i < 5; i++) {
+            RecordingJob job = awaitCompleted();
+            assertNotNull(job);
+            assertEquals(i, job.id);
+        }
+    }
+
+    //Test #4: a job that throws is reported on the polling thread
+    @Test
+    @DisplayName("Failures are reported when polling")
+    public void testFailureReported() throws InterruptedException {
+        PathWorker<Runnable> failing = new PathWorker<>("failing-worker");
+        try {
+            failing.submit(() -> { throw new IllegalArgumentException("bad job"); });
+            IllegalStateException thrown = null;
+            for (int i = 0; i < 400 && thrown == null; i++) {
+                try {
+                    failing.pollCompleted();
+                    Thread.sleep(5);
+                } catch (IllegalStateException e) {
+                    thrown = e;
+                }
+            }
+            assertNotNull(thrown);
+            assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+        } finally {
+            failing.dispose();
+        }
+    }
+
+    //Test #5: a disposed worker refuses new jobs
+    @Test
+    @DisplayName("Disposed worker rejects jobs")
+    public void testDispose() {
+        worker.dispose();
+        assertFalse(worker.isRunning());
+        assertThrows(IllegalStateException.class, () -> worker.submit(new RecordingJob(1)));
+    }
+
+    //Test #6: no more than CAPACITY jobs can be out, and polling one back frees its slot
+    @Test
+    @DisplayName("Jobs out are limited to the capacity")
+    public void testCapacity() throws InterruptedException {
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < PathWorker.CAPACITY; i++) {
+                worker.submit(new RecordingJob(i));
+            }
+            assertThrows(IllegalStateException.class, () -> worker.submit(new RecordingJob(-1)));
+            for (int i = 0; i < PathWorker.CAPACITY; i++) {
+                RecordingJob job = awaitCompleted();
+                assertNotNull(job);
+                assertEquals(i, job.id);
+            }
+        }
+        assertNull(worker.pollCompleted());
+    }
+
+    //Test #7: dispose returns only once a job still running has finished, however long it takes
+    @Test
+    @DisplayName("Dispose waits for the job in progress")
+    public void testDisposeWaitsForJob() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        PathWorker<Runnable> slow = new PathWorker<>("slow-worker");
+        slow.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(1500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.set(true);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        slow.dispose();
+        assertTrue(finished.get(), "The job should have finished before dispose returned");
+    }
+}
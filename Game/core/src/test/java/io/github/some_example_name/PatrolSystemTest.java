@@ -0,0 +1,87 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for PatrolSystem class.
+ * Tests patrols walking up and down, turning back at the ends and at blocked tiles,
+ * and being frozen by the patrol deans' time scale.
+ * Automated: processEntity(), patrol(), step()
+ */
+@DisplayName("PatrolSystem Tests")
+public class PatrolSystemTest {
+
+    //Test #1: every patrol in the engine walks its speed each update, turning back at the top
+    @Test
+    @DisplayName("Patrols bounce between their ends")
+    public void testBounces() {
+        GameWorld world = mock(GameWorld.class);
+        Engine engine = new Engine();
+        engine.addSystem(new PatrolSystem(world));
+        Entity patrol = addPatrol(engine, 100, 195, 100, 200, 3f);
+        PositionComponent position = patrol.getComponent(PositionComponent.class);
+        PatrolComponent ends = patrol.getComponent(PatrolComponent.class);
+
+        engine.update(1f);
+        assertEquals(198f, position.position.y);
+        engine.update(1f);
+        assertEquals(200f, position.position.y, "Should stop at the top");
+        assertEquals(-1, ends.direction);
+        engine.update(1f);
+        assertEquals(197f, position.position.y);
+    }
+
+    //Test #2: a blocked step is not taken, and the patrol turns back
+    @Test
+    @DisplayName("Blocked patrols turn back")
+    public void testTurnsBackWhenBlocked() {
+        GameWorld world = mock(GameWorld.class);
+        when(world.isCellBlocked(anyFloat(), eq(153f))).thenReturn(true);
+        Engine engine = new Engine();
+        engine.addSystem(new PatrolSystem(world));
+        Entity patrol = addPatrol(engine, 100, 150, 100, 200, 3f);
+
+        engine.update(1f);
+        assertEquals(150f, patrol.getComponent(PositionComponent.class).position.y);
+        assertEquals(-1, patrol.getComponent(PatrolComponent.class).direction);
+        engine.update(1f);
+        assertEquals(147f, patrol.getComponent(PositionComponent.class).position.y);
+    }
+
+    //Test #3: freezing the patrol deans stops the step without touching the speed
+    @Test
+    @DisplayName("Step follows the patrol deans' time scale")
+    public void testStepScaled() {
+        StatusEffects effects = new StatusEffects();
+        GameWorld world = mock(GameWorld.class);
+        when(world.getStatusEffects()).thenReturn(effects);
+        MotionComponent motion = new MotionComponent();
+        motion.speed = 3f;
+
+        assertEquals(3f, PatrolSystem.step(motion, world));
+        effects.apply(StatusEffects.Group.CHASING_DEANS, StatusEffects.Effect.FREEZE, StatusEffects.PERMANENT);
+        assertEquals(3f, PatrolSystem.step(motion, world), "Freezing the chasers should leave the patrols alone");
+        effects.apply(StatusEffects.Group.PATROL_DEANS, StatusEffects.Effect.FREEZE, StatusEffects.PERMANENT);
+        assertEquals(0f, PatrolSystem.step(motion, world));
+        assertEquals(3f, motion.speed);
+    }
+
+    private static Entity addPatrol(Engine engine, float x, float y, float minY, float maxY, float speed) {
+        PositionComponent position = new PositionComponent();
+        position.position.set(x, y);
+        MotionComponent motion = new MotionComponent();
+        motion.speed = speed;
+        PatrolComponent patrol = new PatrolComponent();
+        patrol.minY = minY;
+        patrol.maxY = maxY;
+        Entity entity = new Entity().add(position).add(motion).add(patrol);
+        engine.addEntity(entity);
+        return entity;
+    }
+}
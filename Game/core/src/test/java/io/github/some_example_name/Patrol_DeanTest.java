@@ -75,18 +75,14 @@ public class Patrol_DeanTest extends TestHelper {
     //Test #6: patrol boundaries stored correctly
     @Test
     @DisplayName("Patrol boundaries stored correctly")
-    public void testPatrolBoundaries() throws Exception {
+    public void testPatrolBoundaries() {
         GameScreen mockScreen = mock(GameScreen.class);
         Patrol_Dean pd = new Patrol_Dean(200, 300, 100, 500, mockScreen);
 
-        var minField = Patrol_Dean.class.getDeclaredField("minY");
-        minField.setAccessible(true);
+        PatrolComponent patrol = pd.getEntity().getComponent(PatrolComponent.class);
 
-        var maxField = Patrol_Dean.class.getDeclaredField("maxY");
-        maxField.setAccessible(true);
-
-        assertEquals(100f, minField.getFloat(pd));
-        assertEquals(500f, maxField.getFloat(pd));
+        assertEquals(100f, patrol.minY);
+        assertEquals(500f, patrol.maxY);
     }
 
     //Test #7: moves when path not blocked
@@ -188,4 +184,24 @@ public class Patrol_DeanTest extends TestHelper {
 
         assertDoesNotThrow(pd::dispose);
     }
+
+    //Test #14: patrol deans' time scale scales the step
+    @Test
+    @DisplayName("Status effects scale patrol movement")
+    public void testStatusEffectsScaleStep() {
+        GameScreen mockScreen = mock(GameScreen.class);
+        StatusEffects effects = new StatusEffects();
+        when(mockScreen.getStatusEffects()).thenReturn(effects);
+        Patrol_Dean pd = new Patrol_Dean(100, 200, 100, 400, mockScreen);
+
+        effects.apply(StatusEffects.Group.PATROL_DEANS, StatusEffects.Effect.FREEZE, 1f);
+        pd.update(0.016f);
+        assertEquals(200f, pd.getPosition().y, 0.01f, "Frozen patrol dean should not move");
+
+        effects.clear();
+        effects.apply(StatusEffects.Group.PATROL_DEANS, StatusEffects.Effect.SLOW, 1f);
+        pd.update(0.016f);
+        assertEquals(201.5f, pd.getPosition().y, 0.01f);
+        assertEquals(3f, pd.getSpeed(), 0.01f);
+    }
 }
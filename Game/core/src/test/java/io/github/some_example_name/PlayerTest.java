@@ -165,4 +165,21 @@ public class PlayerTest extends TestHelper {
         assertNotNull(Player.Direction.LEFT);
         assertNotNull(Player.Direction.RIGHT);
     }
+
+    //Test #14: render position is interpolated between ticks and snaps on teleports
+    @Test
+    @DisplayName("Render position interpolates between ticks")
+    public void testRenderPositionInterpolates() {
+        Player player = new Player(100, 100);
+
+        player.storePreviousPosition();
+        player.getPosition().add(2, 0);
+        assertEquals(101f, player.getRenderPosition(0.5f).x, 0.001f);
+        assertEquals(102f, player.getRenderPosition(1f).x, 0.001f);
+
+        player.storePreviousPosition();
+        player.getPosition().set(560, 180);
+        assertEquals(560f, player.getRenderPosition(0.1f).x, 0.001f,
+            "Teleports should not slide across the map");
+    }
 }
@@ -0,0 +1,209 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for PursuitPlanner class.
+ * Tests chaser registration, replanning cadence and handing paths to the deans.
+ * Automated: addChaser(), removeChaser(), update(), setReplanInterval()
+ * Manual testing required: deans visibly routing around each other in the maze
+ */
+@DisplayName("Pursuit Planner Tests")
+public class PursuitPlannerTest extends TestHelper {
+
+    private NavigationGrid grid;
+    private Player mockPlayer;
+    private GameScreen mockScreen;
+
+    @BeforeEach
+    public void setUp() {
+        grid = new NavigationGrid(20, 20, new boolean[400]);
+        mockPlayer = mock(Player.class);
+        mockScreen = mock(GameScreen.class);
+    }
+
+    //Test #1: chasers are only added once
+    @Test
+    @DisplayName("Chasers are registered once")
+    public void testAddChaser() {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        Dean dean = new Dean(16, 16, mockPlayer, mockScreen);
+
+        planner.addChaser(dean);
+        planner.addChaser(dean);
+
+        assertEquals(1, planner.getChaserCount());
+    }
+
+    //Test #2: first update plans a path for each chaser
+    @Test
+    @DisplayName("First update gives each dean a path")
+    public void testFirstUpdatePlans() {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        Dean dean1 = new Dean(16, 16, mockPlayer, mockScreen);
+        Dean dean2 = new Dean(16, 32, mockPlayer, mockScreen);
+        planner.addChaser(dean1);
+        planner.addChaser(dean2);
+
+        assertTrue(planner.update(new Vector2(160, 160)));
+        assertTrue(dean1.hasPath());
+        assertTrue(dean2.hasPath());
+    }
+
+    //Test #3: no replanning while the target stays on its cell
+    @Test
+    @DisplayName("Plans are reused until the interval passes")
+    public void testReplanInterval() {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        planner.setReplanInterval(3);
+        planner.addChaser(new Dean(16, 16, mockPlayer, mockScreen));
+        Vector2 target = new Vector2(160, 160);
+
+        assertTrue(planner.update(target));
+        assertFalse(planner.update(target));
+        assertFalse(planner.update(target));
+        assertTrue(planner.update(target));
+    }
+
+    //Test #4: target changing cell triggers an immediate replan
+    @Test
+    @DisplayName("Target moving cell replans straight away")
+    public void testTargetMoveReplans() {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        planner.setReplanInterval(100);
+        planner.addChaser(new Dean(16, 16, mockPlayer, mockScreen));
+
+        assertTrue(planner.update(new Vector2(160, 160)));
+        assertFalse(planner.update(new Vector2(161, 160)));
+        assertTrue(planner.update(new Vector2(192, 160)));
+    }
+
+    //Test #5: removed chasers lose their path
+    @Test
+    @DisplayName("Removing a chaser clears its path")
+    public void testRemoveChaser() {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        Dean dean = new Dean(16, 16, mockPlayer, mockScreen);
+        planner.addChaser(dean);
+        planner.update(new Vector2(160, 160));
+
+        planner.removeChaser(dean);
+
+        assertEquals(0, planner.getChaserCount());
+        assertFalse(dean.hasPath());
+    }
+
+    //Test #6: nothing is planned without chasers
+    @Test
+    @DisplayName("Update without chasers does nothing")
+    public void testNoChasers() {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        assertFalse(planner.update(new Vector2(160, 160)));
+    }
+
+    //Test #7: the first chaser is planned incrementally
+    @Test
+    @DisplayName("Lead chaser uses the incremental planner")
+    public void testLeadPlannerUsed() {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        planner.addChaser(new Dean(16, 16, mockPlayer, mockScreen));
+
+        planner.update(new Vector2(160, 160));
+        int firstExpanded = planner.getLeadPlanner().getLastExpandedNodes();
+        planner.update(new Vector2(176, 160));
+
+        assertEquals(2, planner.getLeadPlanner().getReplanCount());
+        assertTrue(planner.getLeadPlanner().getLastExpandedNodes() < firstExpanded,
+            "Moving the target one cell should not redo the whole search");
+    }
+
+    //Test #8: blocking a cell reaches both planners and forces a replan
+    @Test
+    @DisplayName("Blocking a cell forces a replan")
+    public void testSetCellBlocked() {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        planner.setReplanInterval(100);
+        planner.addChaser(new Dean(16, 16, mockPlayer, mockScreen));
+        planner.update(new Vector2(160, 160));
+        assertFalse(planner.update(new Vector2(160, 160)));
+
+        planner.setCellBlocked(5, 5, true);
+
+        assertTrue(planner.update(new Vector2(160, 160)));
+        assertTrue(planner.getPathfinder().getGrid().isBlocked(5, 5));
+        assertTrue(planner.getLeadPlanner().getGrid().isBlocked(5, 5));
+    }
+
+    //Test #9: background rounds are handed out on a later tick
+    @Test
+    @DisplayName("Background planning delivers paths later")
+    public void testBackgroundPlanning() throws InterruptedException {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        planner.setBackgroundPlanning(true);
+        Dean dean = new Dean(16, 16, mockPlayer, mockScreen);
+        planner.addChaser(dean);
+        try {
+            assertFalse(planner.update(new Vector2(160, 160)), "Nothing is ready on the tick the round starts");
+            assertTrue(planner.isRoundInFlight());
+            assertFalse(dean.hasPath(), "Dean keeps its old (empty) path meanwhile");
+
+            boolean delivered = false;
+            for (int tick = 0; tick < 200 && !delivered; tick++) {
+                Thread.sleep(5);
+                delivered = planner.update(new Vector2(160, 160));
+            }
+            assertTrue(delivered);
+            assertTrue(dean.hasPath());
+        } finally {
+            planner.dispose();
+        }
+        assertFalse(planner.isBackgroundPlanning());
+    }
+
+    //Test #10: a round planned before the chasers changed is thrown away
+    @Test
+    @DisplayName("Stale background rounds are dropped")
+    public void testStaleRoundDropped() throws InterruptedException {
+        PursuitPlanner planner = new PursuitPlanner(grid, 8);
+        planner.setBackgroundPlanning(true);
+        Dean dean1 = new Dean(16, 16, mockPlayer, mockScreen);
+        Dean dean2 = new Dean(16, 32, mockPlayer, mockScreen);
+        planner.addChaser(dean1);
+        try {
+            planner.update(new Vector2(160, 160));
+            planner.addChaser(dean2);
+            Thread.sleep(50);
+
+            assertFalse(planner.update(new Vector2(160, 160)), "Round for one chaser is not handed to two");
+            assertFalse(dean1.hasPath());
+            assertTrue(planner.isRoundInFlight(), "A fresh round starts straight away");
+        } finally {
+            planner.dispose();
+        }
+    }
+
+    //Test #11: an unreachable target is ruled out by the mesh without searching
+    @Test
+    @DisplayName("Unreachable target skips the search")
+    public void testUnreachableTargetSkipsSearch() {
+        boolean[] blocked = new boolean[400];
+        for (int y = 0; y < 20; y++) {
+            blocked[y * 20 + 10] = true;
+        }
+        PursuitPlanner planner = new PursuitPlanner(new NavigationGrid(20, 20, blocked), 8);
+        Dean dean = new Dean(16, 16, mockPlayer, mockScreen);
+        planner.addChaser(dean);
+
+        assertTrue(planner.update(new Vector2(240, 160)));
+        assertFalse(dean.hasPath(), "Dean falls back to heading straight for the player");
+        assertEquals(0, planner.getLeadPlanner().getReplanCount());
+        assertFalse(planner.getNavMesh().isConnected(planner.getNavMesh().getGrid().index(1, 1),
+            planner.getNavMesh().getGrid().index(15, 10)));
+    }
+}
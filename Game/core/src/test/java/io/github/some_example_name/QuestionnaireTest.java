@@ -28,7 +28,7 @@ public class QuestionnaireTest extends TestHelper {
     private TiledMap mockMap;
     private TiledMapTileLayer mockLayer;
     private Player mockPlayer;
-    private GameScreen mockGameScreen;
+    private GameSession mockSession;
 
     @BeforeEach
     public void setUp() {
@@ -46,7 +46,7 @@ public class QuestionnaireTest extends TestHelper {
 
         mockPlayer = mock(Player.class);
         when(mockPlayer.getPosition()).thenReturn(new Vector2(100, 100));
-        mockGameScreen = mock(GameScreen.class);
+        mockSession = mock(GameSession.class);
     }
 
     //Test #1: constructor finds Questionnaire object
@@ -104,7 +104,7 @@ public class QuestionnaireTest extends TestHelper {
         when(mockLayer.getObjects()).thenReturn(emptyObjects);
         Questionnaire quiz = new Questionnaire(mockMap, "Events");
 
-        assertDoesNotThrow(() -> quiz.update(mockPlayer, mockGameScreen));
+        assertDoesNotThrow(() -> quiz.update(mockPlayer, mockSession));
     }
 
     //Test #7: player hitbox is 16x16
@@ -112,7 +112,7 @@ public class QuestionnaireTest extends TestHelper {
     @DisplayName("Player hitbox uses correct size")
     public void testPlayerHitboxSize() {
         Questionnaire quiz = new Questionnaire(mockMap, "Events");
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
         assertFalse(quiz.isAnswered());
     }
 
@@ -123,7 +123,7 @@ public class QuestionnaireTest extends TestHelper {
         Questionnaire quiz = new Questionnaire(mockMap, "Events");
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(100, 100));
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         assertFalse(quiz.isPlayerFrozen());
         assertFalse(quiz.isAnswered());
@@ -136,7 +136,7 @@ public class QuestionnaireTest extends TestHelper {
         Questionnaire quiz = new Questionnaire(mockMap, "Events");
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(420, 520));
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         assertFalse(quiz.isPlayerFrozen());
         assertFalse(quiz.isAnswered());
@@ -154,11 +154,11 @@ public class QuestionnaireTest extends TestHelper {
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(420, 520));
 
-        quiz.update(mockPlayer, mockGameScreen);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
+        quiz.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).spawnSecondDean();
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).spawnSecondDean();
+        verify(mockSession, never()).freezeAllDeans();
     }
 
     //Test #11: player frozen state managed by quiz
@@ -176,10 +176,10 @@ public class QuestionnaireTest extends TestHelper {
         Questionnaire quiz = new Questionnaire(mockMap, "Events");
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(400, 500));
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(399, 499));
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         assertFalse(quiz.isAnswered());
     }
@@ -202,10 +202,10 @@ public class QuestionnaireTest extends TestHelper {
         assertTrue(quiz.isAnswered());
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(420, 520));
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).spawnSecondDean();
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).spawnSecondDean();
+        verify(mockSession, never()).freezeAllDeans();
     }
 
     //Test #14: wrong answer state tracked
@@ -226,26 +226,40 @@ public class QuestionnaireTest extends TestHelper {
         assertTrue(quiz.isAnswered());
 
         when(mockPlayer.getPosition()).thenReturn(new Vector2(420, 520));
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, never()).spawnSecondDean();
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, never()).spawnSecondDean();
+        verify(mockSession, never()).freezeAllDeans();
     }
 
-    //Test #15: result timer initialized at zero
+    //Test #15: no result timer runs until the quiz is answered, then it hides the result on the wheel
     @Test
-    @DisplayName("Result timer initialized correctly")
+    @DisplayName("Result timer hides the result on the wheel")
     void testResultTimerInitialization() throws Exception {
+        Input mockInput = mock(Input.class);
+        Gdx.input = mockInput;
         Questionnaire quiz = new Questionnaire(mockMap, "Events");
+        TimerWheel timers = new TimerWheel();
+        quiz.setTimers(timers);
 
         java.lang.reflect.Field timerField = Questionnaire.class.getDeclaredField("resultTimer");
         timerField.setAccessible(true);
+        java.lang.reflect.Field showField = Questionnaire.class.getDeclaredField("showResult");
+        showField.setAccessible(true);
+        assertEquals(TimerWheel.NO_TIMER, timerField.getInt(quiz), "No timer should run before answering");
 
-        float initialTimer = timerField.getFloat(quiz);
-        assertEquals(0f, initialTimer, "Timer should start at 0");
-
-        timerField.set(quiz, 3.0f);
-        assertEquals(3.0f, timerField.getFloat(quiz), "Timer should be settable");
+        when(mockPlayer.getPosition()).thenReturn(new Vector2(420, 520));
+        when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(true);
+        quiz.update(mockPlayer, mockSession);
+        assertTrue(showField.getBoolean(quiz));
+        assertEquals(Questionnaire.RESULT_SECONDS, timers.getRemaining(timerField.getInt(quiz)), 1e-4f);
+
+        timers.advance(Questionnaire.RESULT_SECONDS - 0.1f);
+        assertTrue(showField.getBoolean(quiz), "Result should still show");
+        timers.advance(0.1f);
+        assertFalse(showField.getBoolean(quiz), "Result should hide after 3 seconds");
+        Gdx.input = mock(Input.class);
     }
 
     //Test #16: player frozen during active quiz
@@ -308,7 +322,7 @@ public class QuestionnaireTest extends TestHelper {
         when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(false);
 
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         assertTrue(quiz.isPlayerFrozen(), "Player should be frozen when quiz starts");
         assertFalse(quiz.isAnswered(), "Quiz should not be answered yet");
@@ -329,14 +343,14 @@ public class QuestionnaireTest extends TestHelper {
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.A)).thenReturn(true);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, times(1)).spawnSecondDean();
-        verify(mockGameScreen, never()).freezeAllDeans();
+        verify(mockSession, times(1)).spawnSecondDean();
+        verify(mockSession, never()).freezeAllDeans();
         assertTrue(quiz.isAnswered(), "Quiz should be marked as answered");
     }
 
@@ -355,14 +369,14 @@ public class QuestionnaireTest extends TestHelper {
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(true);
         when(mockInput.isKeyJustPressed(Input.Keys.A)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, times(1)).spawnSecondDean();
+        verify(mockSession, times(1)).spawnSecondDean();
         assertTrue(quiz.isAnswered());
     }
 
@@ -381,17 +395,17 @@ public class QuestionnaireTest extends TestHelper {
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(true);
         when(mockInput.isKeyJustPressed(Input.Keys.A)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, times(1)).freezeAllDeans();
-        verify(mockGameScreen, never()).spawnSecondDean();
+        verify(mockSession, times(1)).freezeAllDeans();
+        verify(mockSession, never()).spawnSecondDean();
         assertTrue(quiz.isAnswered());
     }
 
@@ -410,16 +424,16 @@ public class QuestionnaireTest extends TestHelper {
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         when(mockInput.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(true);
         when(mockInput.isKeyJustPressed(Input.Keys.A)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
-        verify(mockGameScreen, times(1)).spawnSecondDean();
+        verify(mockSession, times(1)).spawnSecondDean();
         assertTrue(quiz.isAnswered());
     }
 
@@ -438,7 +452,7 @@ public class QuestionnaireTest extends TestHelper {
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.C)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         assertTrue(quiz.isPlayerFrozen(), "Player should be frozen during quiz");
 
@@ -447,7 +461,7 @@ public class QuestionnaireTest extends TestHelper {
         when(mockInput.isKeyJustPressed(Input.Keys.A)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.B)).thenReturn(false);
         when(mockInput.isKeyJustPressed(Input.Keys.D)).thenReturn(false);
-        quiz.update(mockPlayer, mockGameScreen);
+        quiz.update(mockPlayer, mockSession);
 
         assertFalse(quiz.isPlayerFrozen(), "Player should be unfrozen after answering");
         assertTrue(quiz.isAnswered());
@@ -0,0 +1,104 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.RandomXS128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for RandomStreams class.
+ * Tests named streams being repeatable and independent of each other, every stream
+ * going into snapshots, splitting off new worlds, and the map events drawing from
+ * the world's streams.
+ * Automated: stream(), writeState(), readState(), split(), seedFor(), mix(), and
+ * MapEvents taking its streams from the simulation
+ */
+@DisplayName("RandomStreams Tests")
+public class RandomStreamsTest extends TestHelper {
+
+    //Test #1: a stream gives the same numbers for the same seed, whatever other streams are drawn from
+    @Test
+    @DisplayName("Named streams are repeatable and independent")
+    public void testStreamsIndependent() {
+        RandomStreams busy = new RandomStreams(42L);
+        RandomStreams quiet = new RandomStreams(42L);
+        RandomXS128 dialog = busy.stream(RandomStreams.DIALOG);
+        for (int i = 0; i < 50; i++) {
+            dialog.nextInt(); // talking to the friend a lot
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(quiet.stream(RandomStreams.TELEPORT).nextLong(), busy.stream(RandomStreams.TELEPORT).nextLong(),
+                "Drawing from one stream should not move another");
+        }
+
+        assertSame(dialog, busy.stream(RandomStreams.DIALOG), "A name should always give the same stream");
+        assertNotEquals(new RandomStreams(42L).stream(RandomStreams.WORLD).nextLong(),
+            new RandomStreams(42L).stream(RandomStreams.TELEPORT).nextLong(), "Different names should give different numbers");
+        assertNotEquals(new RandomStreams(42L).stream(RandomStreams.WORLD).nextLong(),
+            new RandomStreams(43L).stream(RandomStreams.WORLD).nextLong(), "Neighbouring seeds should give different numbers");
+    }
+
+    //Test #2: every stream is put back from a snapshot, and unknown ones are refused
+    @Test
+    @DisplayName("Streams are kept in snapshots")
+    public void testSnapshot() {
+        RandomStreams streams = new RandomStreams(7L);
+        streams.stream(RandomStreams.WORLD).nextLong();
+        streams.stream(RandomStreams.TELEPORT).nextInt(5);
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        streams.writeState(buffer);
+        long world = streams.stream(RandomStreams.WORLD).nextLong();
+        long teleport = streams.stream(RandomStreams.TELEPORT).nextLong();
+
+        buffer.flip();
+        streams.readState(buffer);
+        assertEquals(world, streams.stream(RandomStreams.WORLD).nextLong());
+        assertEquals(teleport, streams.stream(RandomStreams.TELEPORT).nextLong());
+
+        RandomStreams other = new RandomStreams(1L);
+        other.stream(RandomStreams.WORLD);
+        buffer.rewind();
+        assertThrows(IllegalStateException.class, () -> other.readState(buffer),
+            "A stream the world has not started cannot be read into it");
+    }
+
+    //Test #3: new worlds split off are unrelated to each other, and match the batch seeds
+    @Test
+    @DisplayName("Worlds split off have seeds of their own")
+    public void testSplit() {
+        RandomStreams batch = new RandomStreams(11L);
+        assertEquals(BatchRunner.seedFor(11L, 3), batch.split(3).getSeed());
+        assertEquals(batch.split(3).stream(RandomStreams.WORLD).nextLong(), batch.split(3).stream(RandomStreams.WORLD).nextLong());
+        assertNotEquals(batch.split(3).getSeed(), batch.split(4).getSeed());
+        assertNotEquals(RandomStreams.mix(1L), RandomStreams.mix(2L));
+    }
+
+    //Test #4: map events draw from the simulation's streams, so the world's snapshot keeps them too
+    @Test
+    @DisplayName("Map events use the world's streams")
+    public void testMapEventsStreams() {
+        Simulation original = Simulation.createHeadless(new ScriptedInput(), 5L);
+        MapEvents events = new MapEvents(original.getPlayer(), mock(GameTimer.class), original.getRandomStreams());
+        assertEquals(3, original.getRandomStreams().getStreamCount(), "World, teleport and dialog");
+        original.getRandomStreams().stream(RandomStreams.TELEPORT).nextInt(4);
+
+        GameSnapshot snapshot = new GameSnapshot();
+        original.writeState(snapshot.startWriting());
+        snapshot.finishWriting();
+        long next = original.getRandomStreams().stream(RandomStreams.TELEPORT).nextLong();
+
+        Simulation resumed = Simulation.createHeadless(new ScriptedInput(), 99L);
+        MapEvents resumedEvents = new MapEvents(resumed.getPlayer(), mock(GameTimer.class), resumed.getRandomStreams());
+        resumed.readState(snapshot.startReading());
+        assertEquals(next, resumed.getRandomStreams().stream(RandomStreams.TELEPORT).nextLong(),
+            "Teleports should carry on where they were");
+        events.dispose();
+        resumedEvents.dispose();
+        original.dispose();
+        resumed.dispose();
+    }
+}
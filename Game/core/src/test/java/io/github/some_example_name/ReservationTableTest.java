@@ -0,0 +1,103 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReservationTable class.
+ * Tests reserving cells over time, ownership lookups, swap conflicts, growth and clearing.
+ * Automated: all public methods
+ */
+@DisplayName("Reservation Table Tests")
+public class ReservationTableTest {
+
+    //Test #1: empty table has no owners
+    @Test
+    @DisplayName("New table is empty")
+    public void testEmptyTable() {
+        ReservationTable table = new ReservationTable();
+        assertEquals(0, table.size());
+        assertEquals(ReservationTable.NO_AGENT, table.getOwner(5, 0));
+    }
+
+    //Test #2: reserved cell reports its owner at that time only
+    @Test
+    @DisplayName("Reservation is tied to cell and time")
+    public void testReserveAndLookup() {
+        ReservationTable table = new ReservationTable();
+        table.reserve(10, 3, 1);
+
+        assertEquals(1, table.getOwner(10, 3));
+        assertEquals(ReservationTable.NO_AGENT, table.getOwner(10, 4));
+        assertEquals(ReservationTable.NO_AGENT, table.getOwner(11, 3));
+    }
+
+    //Test #3: own reservations do not block the same agent
+    @Test
+    @DisplayName("Own reservation is not a conflict")
+    public void testReservedByOther() {
+        ReservationTable table = new ReservationTable();
+        table.reserve(10, 3, 1);
+
+        assertFalse(table.isReservedByOther(10, 3, 1));
+        assertTrue(table.isReservedByOther(10, 3, 2));
+        assertFalse(table.isReservedByOther(10, 2, 2));
+    }
+
+    //Test #4: head on swaps are detected
+    @Test
+    @DisplayName("Swapping places with another agent is a conflict")
+    public void testSwapConflict() {
+        ReservationTable table = new ReservationTable();
+        // Agent 0 moves from cell 2 to cell 1 between time 0 and 1.
+        table.reserve(2, 0, 0);
+        table.reserve(1, 1, 0);
+
+        assertTrue(table.isSwapConflict(1, 2, 0, 1));
+        assertFalse(table.isSwapConflict(1, 2, 0, 0));
+        assertFalse(table.isSwapConflict(1, 3, 0, 1));
+    }
+
+    //Test #5: table grows past its starting capacity
+    @Test
+    @DisplayName("Table grows and keeps all reservations")
+    public void testGrowth() {
+        ReservationTable table = new ReservationTable(4);
+        for (int i = 0; i < 1000; i++) {
+            table.reserve(i, i % 7, i % 3);
+        }
+
+        assertEquals(1000, table.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 3, table.getOwner(i, i % 7));
+        }
+    }
+
+    //Test #6: reserving the same slot twice replaces the owner
+    @Test
+    @DisplayName("Re-reserving replaces the owner")
+    public void testOverwrite() {
+        ReservationTable table = new ReservationTable();
+        table.reserve(4, 4, 1);
+        table.reserve(4, 4, 2);
+
+        assertEquals(1, table.size());
+        assertEquals(2, table.getOwner(4, 4));
+    }
+
+    //Test #7: clear removes everything
+    @Test
+    @DisplayName("Clear removes all reservations")
+    public void testClear() {
+        ReservationTable table = new ReservationTable();
+        table.reserve(1, 1, 1);
+        table.reserve(2, 2, 2);
+        table.clear();
+
+        assertEquals(0, table.size());
+        assertEquals(ReservationTable.NO_AGENT, table.getOwner(1, 1));
+        assertEquals(ReservationTable.NO_AGENT, table.getOwner(2, 2));
+    }
+}
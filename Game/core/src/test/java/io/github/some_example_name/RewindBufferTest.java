@@ -0,0 +1,191 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for RewindBuffer class.
+ * Tests scrubbing back and forward through recorded snapshots, the frame and byte
+ * limits, and carrying on from a frame scrubbed to.
+ * Automated: record(), stepBack(), stepForward(), read(), clear(), getFrameCount(),
+ * getBytesUsed(), and MapEvents.rewindState()
+ * Manual testing required: scrubbing with the arrow keys while GameScreen is paused
+ */
+@DisplayName("RewindBuffer Tests")
+public class RewindBufferTest extends TestHelper {
+
+    @AfterEach
+    public void releaseKeys() {
+        Gdx.input = mock(Input.class);
+    }
+
+    private static byte[] bytesOf(GameSnapshot snapshot) {
+        ByteBuffer data = snapshot.getData();
+        return Arrays.copyOf(data.array(), data.limit());
+    }
+
+    private static void take(Simulation simulation, GameSnapshot snapshot) {
+        simulation.writeState(snapshot.startWriting());
+        snapshot.finishWriting();
+    }
+
+    //Test #1: every recorded frame comes back exactly, going back and forward again
+    @Test
+    @DisplayName("Scrubbing gives back each frame exactly")
+    public void testScrubbing() {
+        ScriptedInput input = new ScriptedInput();
+        Simulation simulation = Simulation.createHeadless(input, 8L);
+        RewindBuffer rewind = new RewindBuffer(600, 64 * 1024);
+        GameSnapshot snapshot = new GameSnapshot();
+        List<byte[]> frames = new ArrayList<>();
+        input.press(Input.Keys.D);
+        for (int tick = 0; tick < 120; tick++) {
+            if (tick == 60) {
+                simulation.spawnSecondDean(); // the snapshot grows part way through
+            }
+            simulation.tick(Simulation.DEFAULT_STEP);
+            take(simulation, snapshot);
+            rewind.record(snapshot);
+            frames.add(bytesOf(snapshot));
+        }
+
+        assertEquals(120, rewind.getFrameCount());
+        for (int back = 1; back < 120; back++) {
+            assertTrue(rewind.stepBack());
+            rewind.read(snapshot);
+            assertArrayEquals(frames.get(119 - back), bytesOf(snapshot), "Frame " + back + " back");
+        }
+        assertFalse(rewind.stepBack(), "Nothing is older than the first frame");
+        while (rewind.stepForward()) {
+            rewind.read(snapshot);
+            assertArrayEquals(frames.get(119 - rewind.getPosition()), bytesOf(snapshot));
+        }
+        assertEquals(0, rewind.getPosition());
+        assertTrue(rewind.getBytesUsed() < 119 * frames.get(0).length / 2,
+            "Deltas should be far smaller than whole frames, not " + rewind.getBytesUsed());
+        simulation.dispose();
+    }
+
+    //Test #2: the oldest frames are dropped to stay within both limits, wrapping the ring many times
+    @Test
+    @DisplayName("Frames and bytes stay within their limits")
+    public void testLimits() {
+        ScriptedInput input = new ScriptedInput();
+        Simulation simulation = Simulation.createHeadless(input, 9L);
+        RewindBuffer rewind = new RewindBuffer(50, 1500);
+        GameSnapshot snapshot = new GameSnapshot();
+        List<byte[]> frames = new ArrayList<>();
+        for (int tick = 0; tick < 500; tick++) {
+            input.press(tick % 90 < 45 ? Input.Keys.W : Input.Keys.S);
+            input.release(tick % 90 < 45 ? Input.Keys.S : Input.Keys.W);
+            simulation.tick(Simulation.DEFAULT_STEP);
+            take(simulation, snapshot);
+            rewind.record(snapshot);
+            frames.add(bytesOf(snapshot));
+            assertTrue(rewind.getFrameCount() <= 50);
+            assertTrue(rewind.getBytesUsed() <= rewind.getCapacityBytes());
+        }
+
+        int kept = rewind.getFrameCount();
+        assertTrue(kept > 1, "Some history should fit");
+        for (int back = 1; back < kept; back++) {
+            assertTrue(rewind.stepBack());
+            rewind.read(snapshot);
+            assertArrayEquals(frames.get(499 - back), bytesOf(snapshot), "Frame " + back + " back");
+        }
+        assertFalse(rewind.stepBack());
+
+        rewind.clear();
+        assertEquals(0, rewind.getFrameCount());
+        assertEquals(0, rewind.getBytesUsed());
+        assertThrows(IllegalStateException.class, () -> rewind.read(snapshot));
+        simulation.dispose();
+    }
+
+    //Test #3: play carries on from a frame scrubbed to, and the frames after it are dropped
+    @Test
+    @DisplayName("Recording after scrubbing back carries on from there")
+    public void testCarryOn() {
+        ScriptedInput input = new ScriptedInput();
+        Simulation simulation = Simulation.createHeadless(input, 10L);
+        RewindBuffer rewind = new RewindBuffer(600, 64 * 1024);
+        GameSnapshot snapshot = new GameSnapshot();
+        input.press(Input.Keys.W);
+        for (int tick = 0; tick < 60; tick++) {
+            if (tick == 40) {
+                simulation.spawnSecondDean();
+            }
+            simulation.tick(Simulation.DEFAULT_STEP);
+            take(simulation, snapshot);
+            rewind.record(snapshot);
+        }
+
+        for (int back = 0; back < 30; back++) {
+            rewind.stepBack();
+        }
+        rewind.read(snapshot);
+        simulation.readState(snapshot.startReading());
+        assertNull(simulation.getExtraDean(), "Rewound to before the penalty dean spawned");
+        assertEquals(30, simulation.getTickCount());
+
+        simulation.tick(Simulation.DEFAULT_STEP);
+        take(simulation, snapshot);
+        byte[] carried = bytesOf(snapshot);
+        rewind.record(snapshot);
+        assertEquals(0, rewind.getPosition());
+        assertEquals(31, rewind.getFrameCount(), "Frames after the one scrubbed to should be dropped");
+        rewind.read(snapshot);
+        assertArrayEquals(carried, bytesOf(snapshot));
+        rewind.stepBack();
+        rewind.read(snapshot);
+        simulation.readState(snapshot.startReading());
+        assertEquals(30, simulation.getTickCount(), "One back is the frame scrubbed to");
+        simulation.dispose();
+    }
+
+    //Test #4: map events are put back in place, including trigger areas that had gone to sleep
+    @Test
+    @DisplayName("Map events are rewound in place")
+    public void testMapEventsRewound() {
+        Input keys = mock(Input.class);
+        Gdx.input = keys;
+        Player player = new Player(EventDefinition.BUSH.getSpawnX() + 200, EventDefinition.BUSH.getSpawnY() + 200);
+        MapEvents events = new MapEvents(player, mock(GameTimer.class), new RandomStreams(4));
+        events.spawnAll();
+        events.update(0.016f);
+        GameSnapshot before = new GameSnapshot();
+        ByteBuffer out = before.startWriting();
+        events.writeState(out);
+        events.getTriggerVolumes().writeState(out);
+        before.finishWriting();
+
+        player.getPosition().set(EventDefinition.BUSH.getSpawnX() + 4, EventDefinition.BUSH.getSpawnY() + 4);
+        events.update(0.016f);
+        assertTrue(events.isTriggered(EventDefinition.BUSH));
+
+        ByteBuffer in = before.startReading();
+        events.rewindState(in);
+        events.getTriggerVolumes().readState(in);
+        assertFalse(events.isTriggered(EventDefinition.BUSH));
+        assertEquals(1f, events.getPlayerSpeed(), "The slow down should be undone");
+        assertEquals(EventDefinition.ALL.length, events.getEngine().getEntities().size(), "Nothing is spawned");
+
+        player.getPosition().set(EventDefinition.BUSH.getSpawnX() + 200, EventDefinition.BUSH.getSpawnY() + 200);
+        events.update(0.016f);
+        player.getPosition().set(EventDefinition.BUSH.getSpawnX() + 4, EventDefinition.BUSH.getSpawnY() + 4);
+        events.update(0.016f);
+        assertTrue(events.isTriggered(EventDefinition.BUSH), "The bush should go off again");
+        events.dispose();
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Score class.
+ * Tests the scoring rules shared by the game screen and the batch runner.
+ * Automated: timeScore(), totalPenalty(), finalScore(), addCatchAchievements(), addObstacleAchievement(), achievementBonus()
+ */
+@DisplayName("Score Tests")
+public class ScoreTest {
+
+    //Test #1: time left is read as mm:ss
+    @Test
+    @DisplayName("Time left scores as minutes and seconds")
+    public void testTimeScore() {
+        assertEquals(324, Score.timeScore(204.9f), "3:24 left should score 324");
+        assertEquals(500, Score.timeScore(Score.GAME_LENGTH_SECONDS));
+        assertEquals(0, Score.timeScore(0f));
+    }
+
+    //Test #2: penalties add up and the score never goes below zero
+    @Test
+    @DisplayName("Penalties are subtracted and the score is clamped")
+    public void testPenaltiesAndClamp() {
+        int penalty = Score.totalPenalty(2, 1, 3);
+        assertEquals(2 * 5 + 10 + 3 * 5, penalty);
+        assertEquals(324 - penalty, Score.finalScore(204f, penalty));
+        assertEquals(0, Score.finalScore(10f, penalty), "Score should not go below zero");
+    }
+
+    //Test #3: catch and obstacle achievements
+    @Test
+    @DisplayName("Catch and obstacle achievements are added")
+    public void testAchievements() {
+        Array<Achievement> clean = new Array<>();
+        Score.addCatchAchievements(clean, 0, 0);
+        Score.addObstacleAchievement(clean, false);
+        assertEquals(1, clean.size);
+        assertEquals("Speedster", clean.get(0).name);
+        assertEquals(150, Score.achievementBonus(clean));
+
+        Array<Achievement> clumsy = new Array<>();
+        Score.addCatchAchievements(clumsy, 2, 1);
+        Score.addObstacleAchievement(clumsy, true);
+        assertEquals(2, clumsy.size);
+        assertEquals("Class Clown", clumsy.get(0).name);
+        assertEquals("Natural Barrier Victim", clumsy.get(1).name);
+        assertEquals(-70, Score.achievementBonus(clumsy));
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ScriptedInput class.
+ * Tests held keys, just-pressed keys lasting one tick, and releasing keys.
+ * Automated: press(), release(), releaseAll(), endTick()
+ */
+@DisplayName("Scripted Input Tests")
+public class ScriptedInputTest {
+
+    //Test #1: a pressed key is held and just pressed for one tick
+    @Test
+    @DisplayName("Just pressed lasts one tick")
+    public void testJustPressed() {
+        ScriptedInput input = new ScriptedInput();
+        input.press(Input.Keys.E);
+        assertTrue(input.isKeyPressed(Input.Keys.E));
+        assertTrue(input.isKeyJustPressed(Input.Keys.E));
+
+        input.endTick();
+        assertTrue(input.isKeyPressed(Input.Keys.E));
+        assertFalse(input.isKeyJustPressed(Input.Keys.E));
+
+        input.press(Input.Keys.E);
+        assertFalse(input.isKeyJustPressed(Input.Keys.E), "Holding a key should not press it again");
+    }
+
+    //Test #2: releasing keys lets them up
+    @Test
+    @DisplayName("Keys can be released")
+    public void testRelease() {
+        ScriptedInput input = new ScriptedInput();
+        input.press(Input.Keys.W);
+        input.press(Input.Keys.D);
+        input.release(Input.Keys.W);
+        assertFalse(input.isKeyPressed(Input.Keys.W));
+        assertTrue(input.isKeyPressed(Input.Keys.D));
+
+        input.releaseAll();
+        assertFalse(input.isKeyPressed(Input.Keys.D));
+        assertFalse(input.isKeyPressed(-1));
+        assertFalse(input.isKeyJustPressed(Input.Keys.MAX_KEYCODE + 1));
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SessionHost class.
+ * Tests many sessions stepping in parallel exactly as they would alone, sessions
+ * ending or failing without stopping the rest, each session being a whole game that
+ * ends when its time runs out, and hosting without a libGDX application.
+ * Automated: createHeadless(), open(), step(), close(), closeFinished(), getPlayingCount(),
+ * dispose(), and HeadlessMapLoader.inFolder()
+ * Manual testing required: the batch sessions launcher's throughput on a many core machine
+ */
+@DisplayName("SessionHost Tests")
+public class SessionHostTest extends TestHelper {
+    private static final int[] KEYS = {Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D};
+
+    // Turns every 20 ticks, in a direction from the session's own numbers.
+    private static final SessionHost.Controller WANDER = session -> {
+        if (session.getTickCount() % 20 == 0) {
+            session.getInput().releaseAll();
+            session.getInput().press(KEYS[session.getRandom().nextInt(KEYS.length)]);
+        }
+        return true;
+    };
+
+    private static byte[] stateOf(Simulation simulation) {
+        GameSnapshot snapshot = new GameSnapshot();
+        simulation.writeState(snapshot.startWriting());
+        snapshot.finishWriting();
+        ByteBuffer data = snapshot.getData();
+        return Arrays.copyOf(data.array(), data.limit());
+    }
+
+    // The folder the test resources are in on disk, found from the map on the classpath,
+    // so it does not matter which folder the tests are run from.
+    private static File resourcesFolder() {
+        try {
+            return new File(SessionHostTest.class.getResource("/" + Simulation.MAP_PATH).toURI()).getParentFile().getParentFile();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Cannot find the test resources", e);
+        }
+    }
+
+    //Test #1: sessions stepped side by side on several threads play exactly as they would alone
+    @Test
+    @DisplayName("Sessions play the same on any thread")
+    public void testSessionsRepeatable() {
+        SessionHost host = SessionHost.createHeadless(new InternalFileHandleResolver(), 4);
+        for (int i = 0; i < 12; i++) {
+            host.open(BatchRunner.seedFor(3L, i), WANDER);
+        }
+        for (int step = 0; step < 5; step++) {
+            host.step(60);
+        }
+        assertEquals(12, host.getPlayingCount());
+
+        // The same game again, alone on this thread.
+        SessionHost alone = new SessionHost(host.getMap(), 1);
+        SessionHost.Session session = alone.open(BatchRunner.seedFor(3L, 7), WANDER);
+        alone.step(300);
+        assertEquals(300, host.getSession(7).getTickCount());
+        assertArrayEquals(stateOf(session.getSimulation()), stateOf(host.getSession(7).getSimulation()),
+            "A session should not depend on the thread or the other sessions");
+        assertFalse(Arrays.equals(stateOf(host.getSession(6).getSimulation()), stateOf(host.getSession(7).getSimulation())),
+            "Sessions with different seeds should play different games");
+        alone.dispose();
+        host.dispose();
+    }
+
+    //Test #2: a session that ends or breaks stops on its own, and is closed without the others
+    @Test
+    @DisplayName("Sessions end and fail on their own")
+    public void testSessionsEndAndFail() {
+        SessionHost host = SessionHost.createHeadless(new InternalFileHandleResolver(), 2);
+        SessionHost.Session shortGame = host.open(1L, session -> session.getTickCount() < 30);
+        SessionHost.Session broken = host.open(2L, session -> {
+            if (session.getTickCount() == 10) {
+                throw new IllegalStateException("bot crashed");
+            }
+            return true;
+        });
+        SessionHost.Session longGame = host.open(3L, WANDER);
+
+        host.step(100);
+        assertEquals(30, shortGame.getTickCount());
+        assertTrue(shortGame.isFinished());
+        assertEquals(10, broken.getTickCount());
+        assertEquals("bot crashed", broken.getFailure().getMessage());
+        assertEquals(100, longGame.getTickCount(), "Other sessions should carry on");
+        assertEquals(1, host.getPlayingCount());
+
+        Array<SessionHost.Session> closed = new Array<>();
+        assertEquals(2, host.closeFinished(closed));
+        assertTrue(closed.contains(shortGame, true) && closed.contains(broken, true));
+        assertEquals(1, host.getSessionCount());
+        assertTrue(host.close(longGame));
+        assertFalse(host.close(longGame), "Sessions should only close once");
+        host.step(10);
+        assertEquals(100, longGame.getTickCount(), "Closed sessions should not tick");
+        host.dispose();
+    }
+
+    //Test #3: the host needs no libGDX application, and holds hundreds of games at once
+    @Test
+    @DisplayName("Hundreds of sessions run without libGDX")
+    public void testManySessionsWithoutGdx() {
+        Files files = Gdx.files;
+        Input input = Gdx.input;
+        Gdx.files = null;
+        Gdx.input = null;
+        try {
+            SessionHost host = SessionHost.createHeadless(HeadlessMapLoader.inFolder(resourcesFolder()), 4);
+            for (int i = 0; i < 200; i++) {
+                host.open(BatchRunner.seedFor(9L, i), WANDER);
+            }
+            host.step(60);
+            for (int i = 0; i < host.getSessionCount(); i++) {
+                assertEquals(60, host.getSession(i).getTickCount());
+                assertNull(host.getSession(i).getFailure());
+            }
+            TiledMap map = host.getMap();
+            host.dispose();
+            assertEquals(0, host.getSessionCount());
+            map.dispose();
+        } finally {
+            Gdx.files = files;
+            Gdx.input = input;
+        }
+    }
+
+    //Test #4: each session is a whole game, which finishes by itself when its time runs out
+    @Test
+    @DisplayName("Sessions end with their game")
+    public void testSessionsEndWithGame() {
+        SessionHost host = SessionHost.createHeadless(new InternalFileHandleResolver(), 2);
+        SessionHost.Session session = host.open(5L, WANDER);
+        int ticksInGame = Math.round(Score.GAME_LENGTH_SECONDS / Simulation.DEFAULT_STEP);
+        host.step(ticksInGame + 100);
+
+        assertTrue(session.isFinished());
+        assertNull(session.getFailure());
+        assertEquals(GameSession.Outcome.TIME_UP, session.getGame().getOutcome());
+        assertEquals(0f, session.getGame().getTimer().getTimeLeft());
+        assertTrue(session.getTickCount() < ticksInGame + 5, "A finished game should not tick on");
+        assertTrue(session.getGame().getMapEvents().countSpawned(EventCategory.POSITIVE) > 0, "The game's events should be spawned");
+        host.dispose();
+    }
+}
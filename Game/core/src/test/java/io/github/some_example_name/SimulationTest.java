@@ -0,0 +1,227 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Simulation class.
+ * Tests running the game world headless from a map loaded without textures: scripted
+ * movement, repeatable runs from a seed, freezes, catches, and tick throughput.
+ * Automated: createHeadless(), tick(), run(), freezeAllDeans(), spawnSecondDean(), getEntities(), HeadlessMapLoader,
+ * isCellBlocked() and isCellBlockedForDean() against every layer of the map,
+ * and that ticks allocate nothing once warm
+ * Manual testing required: the same simulation drawn by GameScreen
+ */
+@DisplayName("Simulation Tests")
+public class SimulationTest extends TestHelper {
+
+    //Test #1: the headless map loads no textures but collides like the real one
+    @Test
+    @DisplayName("Headless map matches the textured map")
+    public void testHeadlessMapMatches() {
+        TiledMap headless = new HeadlessMapLoader().load(Simulation.MAP_PATH);
+        TiledMap textured = new TmxMapLoader().load(Simulation.MAP_PATH);
+
+        NavigationGrid headlessGrid = NavigationGrid.fromTiledMap(headless);
+        NavigationGrid texturedGrid = NavigationGrid.fromTiledMap(textured);
+        assertEquals(texturedGrid.getCellCount(), headlessGrid.getCellCount());
+        for (int cell = 0; cell < texturedGrid.getCellCount(); cell++) {
+            assertEquals(texturedGrid.isBlocked(cell), headlessGrid.isBlocked(cell), "Cell " + cell);
+        }
+
+        Simulation withMap = new Simulation(headless, new ScriptedInput(), 1L, false);
+        Simulation withTextures = new Simulation(textured, new ScriptedInput(), 1L, false);
+        for (float y = 0; y < 960; y += 7) {
+            for (float x = 0; x < 960; x += 7) {
+                assertEquals(withTextures.isCellBlocked(x, y), withMap.isCellBlocked(x, y));
+                assertEquals(withTextures.isBounds(x, y), withMap.isBounds(x, y));
+            }
+        }
+        assertNull(withMap.getPlayer().currentFrame.getTexture(), "Headless player should have no texture");
+        textured.dispose();
+    }
+
+    //Test #2: scripted keys move the player one pixel per tick
+    @Test
+    @DisplayName("Scripted input moves the player")
+    public void testScriptedMovement() {
+        ScriptedInput input = new ScriptedInput();
+        Simulation simulation = Simulation.createHeadless(input, 7L);
+        Vector2 start = new Vector2(simulation.getPlayer().getPosition());
+
+        input.press(Input.Keys.W);
+        simulation.run(10);
+        assertEquals(start.y + 10f, simulation.getPlayer().getPosition().y, 0.001f);
+        assertEquals(10, simulation.getTickCount());
+        assertEquals(10 * Simulation.DEFAULT_STEP, simulation.getElapsedSeconds(), 1e-6);
+
+        simulation.setPlayerFrozen(true);
+        simulation.run(5);
+        assertEquals(start.y + 10f, simulation.getPlayer().getPosition().y, 0.001f);
+    }
+
+    //Test #3: the same seed and input give the same run
+    @Test
+    @DisplayName("Runs are repeatable")
+    public void testDeterministic() {
+        Simulation first = scriptedRun(42L);
+        Simulation second = scriptedRun(42L);
+
+        assertEquals(first.getDean().getPosition(), second.getDean().getPosition());
+        assertEquals(first.getPlayer().getPosition(), second.getPlayer().getPosition());
+        assertEquals(first.getPatrolDean(0).getPosition(), second.getPatrolDean(0).getPosition());
+        assertEquals(first.getTimesCaughtByPatrol(), second.getTimesCaughtByPatrol());
+        assertEquals(first.getRandom().nextLong(), second.getRandom().nextLong());
+    }
+
+    private Simulation scriptedRun(long seed) {
+        ScriptedInput input = new ScriptedInput();
+        Simulation simulation = Simulation.createHeadless(input, seed);
+        int[] keys = {Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D};
+        for (int i = 0; i < 40; i++) {
+            input.releaseAll();
+            input.press(keys[simulation.getRandom().nextInt(keys.length)]);
+            simulation.run(30);
+        }
+        return simulation;
+    }
+
+    //Test #4: a freeze stops every dean until it wears off
+    @Test
+    @DisplayName("Freezes stop the deans for their duration")
+    public void testFreeze() {
+        Simulation simulation = Simulation.createHeadless(new ScriptedInput(), 3L);
+        simulation.spawnSecondDean();
+        simulation.freezeAllDeans(0.5f);
+        Vector2 dean = new Vector2(simulation.getDean().getPosition());
+        Vector2 patrol = new Vector2(simulation.getPatrolDean(0).getPosition());
+        Vector2 extra = new Vector2(simulation.getExtraDean().getPosition());
+
+        simulation.run(29);
+        assertEquals(dean, simulation.getDean().getPosition());
+        assertEquals(patrol, simulation.getPatrolDean(0).getPosition());
+        assertEquals(extra, simulation.getExtraDean().getPosition());
+
+        simulation.run(5);
+        assertNotEquals(patrol, simulation.getPatrolDean(0).getPosition(), "Patrols should move again");
+    }
+
+    //Test #5: catches send the player back and notify the listener
+    @Test
+    @DisplayName("Catches are counted and reported")
+    public void testCatch() {
+        Simulation simulation = Simulation.createHeadless(new ScriptedInput(), 5L);
+        int[] reported = new int[2];
+        simulation.setListener(new Simulation.Listener() {
+            @Override
+            public void caughtByDean() {
+                reported[0]++;
+            }
+
+            @Override
+            public void caughtByPatrol() {
+                reported[1]++;
+            }
+        });
+
+        simulation.getPlayer().getPosition().set(simulation.getPatrolDean(0).getPosition());
+        simulation.tick(Simulation.DEFAULT_STEP);
+        assertEquals(1, simulation.getTimesCaughtByPatrol());
+        assertEquals(1, reported[1]);
+        assertEquals(Simulation.PLAYER_START_X, simulation.getPlayer().getPosition().x, 0.001f);
+
+        simulation.getPlayer().getPosition().set(simulation.getDean().getPosition());
+        simulation.tick(Simulation.DEFAULT_STEP);
+        assertEquals(1, simulation.getTimesCaughtByDean());
+        assertEquals(1, reported[0]);
+    }
+
+    //Test #6: a headless world runs far faster than real time
+    @Test
+    @DisplayName("Headless ticks are fast")
+    public void testThroughput() {
+        Simulation simulation = Simulation.createHeadless(new ScriptedInput(), 9L);
+        simulation.run(20000); // warm up, so the ticks timed are compiled
+
+        int ticks = 20000;
+        long start = System.nanoTime();
+        simulation.run(ticks);
+        double millis = (System.nanoTime() - start) / 1e6;
+        assertTrue(millis < ticks * 1000.0 / 60.0, "Should run faster than real time, but " + ticks + " ticks took " + millis + " ms");
+    }
+
+    //Test #7: each tick runs every entity once, with the deans moved by their systems, including a dean spawned part way through
+    @Test
+    @DisplayName("Every entity runs once per tick")
+    public void testEntitiesRunOnce() {
+        Simulation simulation = Simulation.createHeadless(new ScriptedInput(), 10L);
+        EntityRegistry entities = simulation.getEntities();
+        Engine engine = simulation.getEngine();
+        ImmutableArray<Entity> chasers = engine.getEntitiesFor(Family.all(ChaseComponent.class).get());
+        ImmutableArray<Entity> patrols = engine.getEntitiesFor(Family.all(PatrolComponent.class).get());
+
+        simulation.tick(Simulation.DEFAULT_STEP);
+        assertEquals(5, entities.getCount(EntityRegistry.Phase.STORE_POSITION), "Player and four deans");
+        assertEquals(1, entities.getPasses(EntityRegistry.Phase.STORE_POSITION));
+        assertEquals(0, entities.getCount(EntityRegistry.Phase.UPDATE), "The deans are moved by their systems");
+        assertEquals(1, chasers.size());
+        assertEquals(3, patrols.size());
+
+        simulation.spawnSecondDean();
+        simulation.spawnSecondDean();
+        simulation.tick(Simulation.DEFAULT_STEP);
+        assertEquals(6, entities.size(), "Spawning again should replace the extra dean");
+        assertEquals(4, patrols.size());
+        assertTrue(entities.contains(simulation.getExtraDean()));
+        assertTrue(patrols.contains(simulation.getExtraDean().getEntity(), true));
+        simulation.dispose();
+        assertEquals(0, entities.size());
+        assertEquals(0, engine.getEntities().size());
+    }
+
+    //Test #8: once warm, ticking the world allocates nothing, so there is nothing for the GC to pause for
+    @Test
+    @DisplayName("Ticks allocate nothing once warm")
+    public void testNoAllocation() throws Exception {
+        long allocated = AllocationProbe.measure("simulation");
+        assertEquals(0, allocated, "A run of " + AllocationProbe.MEASURED + " ticks allocated " + allocated + " bytes");
+    }
+
+    //Test #9: the blocked tiles worked out when the map loads match walking every layer of it
+    @Test
+    @DisplayName("Blocked tiles match the map's layers")
+    public void testBlockedCellsMatchLayers() {
+        TiledMap map = new HeadlessMapLoader().load(Simulation.MAP_PATH);
+        Simulation simulation = new Simulation(map, new ScriptedInput(), 1L, false);
+        int blocked = 0;
+        for (float y = -40; y < 1000; y += 3) {
+            for (float x = -40; x < 1000; x += 3) {
+                boolean player = false;
+                boolean dean = false;
+                for (int i = 0; i < map.getLayers().getCount(); i++) {
+                    if (!(map.getLayers().get(i) instanceof TiledMapTileLayer)) continue;
+                    TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(i);
+                    TiledMapTileLayer.Cell cell = layer.getCell((int) ((x + 8) / 16), (int) ((y + 8) / 16));
+                    if (cell == null || cell.getTile() == null) continue;
+                    player |= cell.getTile().getProperties().containsKey("collidable") || layer.getProperties().containsKey("collidable");
+                    dean |= layer.getProperties().containsKey("collidable") || layer.getProperties().containsKey("door");
+                }
+                assertEquals(player, simulation.isCellBlocked(x, y), "Player at " + x + ", " + y);
+                assertEquals(dean, simulation.isCellBlockedForDean(x, y), "Dean at " + x + ", " + y);
+                if (player) blocked++;
+            }
+        }
+        assertTrue(blocked > 0, "The maze should have walls");
+    }
+}
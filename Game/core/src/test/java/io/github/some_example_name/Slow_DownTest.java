@@ -1,198 +1,150 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
- * Test suite for Slow_Down class.
- * Tests bush obstacle creation, collision detection, speed debuff mechanics, and message timing.
- * Test coverage:75%
- * Coverage justification: Bush texture rendering and cropped region only testable visually
- * Note: Applies -200f speed debuff for 20 seconds on collision (negative event)
+ * Test suite for the bush slow down event, spawned from {@link EventDefinition#BUSH}.
+ * Tests the player falling into the bush by walking into it, the slow down running for
+ * 20 seconds, the bush only catching the player once, and its message.
+ * Automated: MapEvents.spawn(), update(), getPlayerSpeed() and the bush's position, trigger and message
+ * Manual testing required: the bush and its message drawn in game
  */
-
-@DisplayName("Slow Down Tests")
+@DisplayName("Slow_Down Event Tests")
 public class Slow_DownTest extends TestHelper {
 
-    //Test #1: instance created successfully
-    @Test
-    @DisplayName("Instance created successfully")
-    public void testInstanceCreation() {
-        Slow_Down sd = new Slow_Down(100, 200);
-        assertNotNull(sd);
-    }
+    private static final float FRAME = 0.016f;
 
-    //Test #2: debuff not active initially
-    @Test
-    @DisplayName("Initial boost state inactive")
-    public void testInitialBoostState() {
-        Slow_Down sd = new Slow_Down(100, 200);
-        assertFalse(sd.isBoostActive());
-    }
+    private GameTimer timer;
 
-    //Test #3: bush not fallen into initially
-    @Test
-    @DisplayName("Bush fall state false initially")
-    public void testBushFallInitially() {
-        Slow_Down sd = new Slow_Down(100, 200);
-        assertFalse(sd.bushFall());
-    }
-
-    //Test #4: multiple bush instances are independent
-    @Test
-    @DisplayName("Multiple instances work")
-    public void testMultipleInstances() {
-        Slow_Down sd1 = new Slow_Down(100, 100);
-        Slow_Down sd2 = new Slow_Down(300, 300);
-
-        assertNotSame(sd1, sd2);
-        assertFalse(sd1.isBoostActive());
-        assertFalse(sd2.isBoostActive());
+    @BeforeEach
+    public void setUpInput() {
+        Gdx.input = mock(Input.class);
+        timer = mock(GameTimer.class);
     }
 
-    //Test #5: player collision triggers bush fall and debuff
+    //Test #1: the bush is where it was spawned, and nobody has fallen in yet
     @Test
-    @DisplayName("Player collision triggers bush fall")
-    public void testPlayerCollisionTriggersFall() {
-        Slow_Down bush = new Slow_Down(100, 200);
-        Player player = new Player(100, 200);
-
-        assertFalse(bush.bushFall());
-        assertFalse(bush.isBoostActive());
-
-        bush.update(player, 0.016f);
-
-        assertTrue(bush.bushFall(), "Bush should be marked as fallen");
-        assertTrue(bush.isBoostActive(), "Speed debuff should be active");
+    @DisplayName("Bush spawned where asked and not fallen into initially")
+    public void testInitialState() {
+        MapEvents events = new MapEvents(new Player(500, 500), timer, null);
+        Entity bush = events.spawn(EventDefinition.BUSH, 150, 250);
+
+        assertEquals(new Vector2(150, 250), bush.getComponent(PositionComponent.class).position);
+        assertFalse(bush.getComponent(TriggerComponent.class).triggered);
+        assertFalse(events.isTriggered(EventDefinition.BUSH));
+        assertEquals(1f, events.getPlayerSpeed());
+        events.dispose();
     }
 
-    //Test #6: distant player does not trigger collision
+    //Test #2: a player away from the bush is not slowed
     @Test
     @DisplayName("Player far from bush - no collision")
     public void testPlayerFarFromBush() {
-        Slow_Down bush = new Slow_Down(100, 200);
-        Player player = new Player(500, 500);
+        MapEvents events = new MapEvents(new Player(500, 500), timer, null);
+        events.spawn(EventDefinition.BUSH, 100, 200);
 
-        bush.update(player, 0.016f);
+        events.update(FRAME);
 
-        assertFalse(bush.bushFall(), "Bush should not be fallen");
-        assertFalse(bush.isBoostActive(), "Boost should not be active");
+        assertFalse(events.isTriggered(EventDefinition.BUSH));
+        assertEquals(1f, events.getPlayerSpeed());
+        events.dispose();
     }
 
-    //Test #7: debuff timer decrements over time
+    //Test #3: the player's hitbox only has to overlap the edge of the bush
     @Test
-    @DisplayName("Speed debuff timer decrements over time")
-    public void testDebuffTimerDecrement() throws Exception {
-        Slow_Down bush = new Slow_Down(100, 200);
-        Player player = new Player(500, 500);
-
-        java.lang.reflect.Field timerField = Slow_Down.class.getDeclaredField("speedBoostTimer");
-        timerField.setAccessible(true);
-        timerField.set(bush, 20f);
-
-        assertTrue(bush.isBoostActive());
-
-        bush.update(player, 1.0f);
-        assertTrue(bush.isBoostActive());
-
-        bush.update(player, 20.0f);
-        assertFalse(bush.isBoostActive());
-    }
-
-    //Test #8: bush can only be fallen into once
-    @Test
-    @DisplayName("Bush can only be fallen into once")
-    public void testBushOnlyFallOnce() throws Exception {
-        Slow_Down bush = new Slow_Down(100, 200);
-
-        java.lang.reflect.Field searchedField = Slow_Down.class.getDeclaredField("searched");
-        searchedField.setAccessible(true);
-        searchedField.set(bush, true);
-
-        java.lang.reflect.Field fallenField = Slow_Down.class.getDeclaredField("fallen");
-        fallenField.setAccessible(true);
-        fallenField.set(bush, true);
-
-        Player player = new Player(100, 200);
+    @DisplayName("Player hitbox collision detection works")
+    public void testHitboxCollision() {
+        // The bush is 32 by 30, so the player's box reaches it from just below and left.
+        MapEvents events = new MapEvents(new Player(100 - Player.SIZE + 1, 200 - Player.SIZE + 1), timer, null);
+        events.spawn(EventDefinition.BUSH, 100, 200);
 
-        bush.update(player, 0.016f);
+        events.update(FRAME);
 
-        assertTrue(bush.bushFall());
+        assertTrue(events.isTriggered(EventDefinition.BUSH), "Collision should be detected");
+        assertEquals(0.5f, events.getPlayerSpeed());
+        events.dispose();
     }
 
-    //Test #9: message displays for 5 seconds
+    //Test #4: falling into one bush leaves another alone
     @Test
-    @DisplayName("Message timer shows for correct duration")
-    public void testMessageDuration() throws Exception {
-        Slow_Down bush = new Slow_Down(100, 200);
-        Player player = new Player(500, 500);
-
-        java.lang.reflect.Field showMessageField = Slow_Down.class.getDeclaredField("showMessage");
-        showMessageField.setAccessible(true);
-        showMessageField.set(bush, true);
+    @DisplayName("Multiple bushes independent")
+    public void testMultipleBushes() {
+        MapEvents events = new MapEvents(new Player(100, 100), timer, null);
+        Entity near = events.spawn(EventDefinition.BUSH, 100, 100);
+        Entity far = events.spawn(EventDefinition.BUSH, 400, 400);
 
-        java.lang.reflect.Field messageTimerField = Slow_Down.class.getDeclaredField("messageTimer");
-        messageTimerField.setAccessible(true);
+        events.update(FRAME);
 
-        bush.update(player, 1.0f);
-
-        float timer = messageTimerField.getFloat(bush);
-        assertEquals(1.0f, timer, 0.1f, "Message timer should increment");
-
-        bush.update(player, 5.0f);
-
-        boolean stillShowing = showMessageField.getBoolean(bush);
-        assertFalse(stillShowing, "Message should hide after 5 seconds");
+        assertTrue(near.getComponent(TriggerComponent.class).triggered);
+        assertFalse(far.getComponent(TriggerComponent.class).triggered);
+        events.dispose();
     }
 
-    //Test #10: debuff expires after 20 seconds
+    //Test #5: the slow down counts down from 20 seconds
     @Test
-    @DisplayName("Speed debuff expires after 20 seconds")
-    public void testDebuffExpiration() throws Exception {
-        Slow_Down bush = new Slow_Down(100, 200);
-        Player player = new Player(500, 500);
-
-        java.lang.reflect.Field timerField = Slow_Down.class.getDeclaredField("speedBoostTimer");
-        timerField.setAccessible(true);
-        timerField.set(bush, 20f);
-
-        assertTrue(bush.isBoostActive());
-
-        for (int i = 0; i < 21; i++) {
-            bush.update(player, 1.0f);
-        }
-
-        assertFalse(bush.isBoostActive(), "Debuff should expire after 20 seconds");
+    @DisplayName("Slow down timer decrements and expires after 20 seconds")
+    public void testSlowDownExpires() {
+        Player player = new Player(110, 210);
+        MapEvents events = new MapEvents(player, timer, null);
+        events.spawn(EventDefinition.BUSH, 100, 200);
+        events.update(FRAME);
+        player.getPosition().set(500, 500);
+
+        events.update(1f);
+        assertEquals(0.5f, events.getPlayerSpeed(), "Slow down should still be active after 1 second");
+        events.update(18.9f);
+        assertEquals(0.5f, events.getPlayerSpeed(), "Slow down should still be active just before 20 seconds");
+        events.update(0.2f);
+        assertEquals(1f, events.getPlayerSpeed(), "Slow down should have expired");
+        events.dispose();
     }
 
-    //Test #11: player hitbox collision detection works
+    //Test #6: walking back into the bush does not slow the player again
     @Test
-    @DisplayName("Player hitbox collision detection works")
-    public void testHitboxCollision() {
-        Slow_Down bush = new Slow_Down(100, 200);
-
+    @DisplayName("Bush can only be fallen into once")
+    public void testBushOnlyOnce() {
         Player player = new Player(110, 210);
-
-        bush.update(player, 0.016f);
-
-        assertTrue(bush.bushFall(), "Collision should be detected");
-        assertTrue(bush.isBoostActive());
+        MapEvents events = new MapEvents(player, timer, null);
+        Entity bush = events.spawn(EventDefinition.BUSH, 100, 200);
+        events.update(FRAME);
+        events.update(21f);
+        assertEquals(1f, events.getPlayerSpeed());
+
+        player.getPosition().set(500, 500);
+        events.update(FRAME);
+        player.getPosition().set(110, 210);
+        events.update(FRAME);
+
+        assertTrue(bush.getComponent(TriggerComponent.class).triggered);
+        assertEquals(1f, events.getPlayerSpeed(), "Bush should not slow the player a second time");
+        assertEquals(1, events.countTriggered(EventCategory.NEGATIVE));
+        events.dispose();
     }
 
-    //Test #12: position matches constructor parameters
+    //Test #7: the bush's message shows when the player falls in and hides after 5 seconds
     @Test
-    @DisplayName("Position at bush creation matches constructor")
-    public void testBushPosition() throws Exception {
-        Slow_Down bush = new Slow_Down(150, 250);
-
-        java.lang.reflect.Field posField = Slow_Down.class.getDeclaredField("position");
-        posField.setAccessible(true);
-        Vector2 pos = (Vector2) posField.get(bush);
-
-        assertEquals(150, pos.x, "X position should match constructor");
-        assertEquals(250, pos.y, "Y position should match constructor");
+    @DisplayName("Message shows for 5 seconds")
+    public void testMessageDuration() {
+        MapEvents events = new MapEvents(new Player(110, 210), timer, null);
+        Entity bush = events.spawn(EventDefinition.BUSH, 100, 200);
+        MessageComponent message = bush.getComponent(MessageComponent.class);
+
+        events.update(FRAME);
+        assertTrue(message.showing);
+        assertEquals(EventDefinition.BUSH.message, message.text);
+        events.update(1f);
+        assertTrue(message.showing, "Message should still show after 1 second");
+        events.update(4f);
+        assertFalse(message.showing, "Message should hide after 5 seconds");
+        events.dispose();
     }
 }
@@ -0,0 +1,52 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SoakRunner class.
+ * Tests playing headless autopilot games back to back and reporting on them.
+ * Automated: playGame(), run(), report()
+ * Manual testing required: SoakLauncher left running for hours
+ */
+@DisplayName("SoakRunner Tests")
+public class SoakRunnerTest extends TestHelper {
+
+    //Test #1: a game times every tick and counts the autopilot's waypoints
+    @Test
+    @DisplayName("Games are timed tick by tick")
+    public void testPlayGame() {
+        SoakRunner runner = new SoakRunner(21L, false);
+        runner.playGame();
+
+        assertEquals(1, runner.getGamesPlayed());
+        assertTrue(runner.getStats().getCount() > 0, "Every tick should be timed");
+        assertEquals(2, runner.getWaypointsReached() + runner.getWaypointsSkipped(),
+            "Ticket and bus should each be reached or skipped");
+        assertTrue(runner.getStats().getMaxMillis() >= runner.getStats().getPercentileMillis(50));
+    }
+
+    //Test #2: a run keeps playing until its time is up and reports at the end
+    @Test
+    @DisplayName("Run plays until time is up and reports")
+    public void testRunReports() {
+        SoakRunner runner = new SoakRunner(22L, false);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+
+        runner.run(0.001, 3600, out);
+
+        String report = bytes.toString(StandardCharsets.UTF_8);
+        assertTrue(runner.getGamesPlayed() >= 1);
+        assertTrue(runner.getStats().getHeapSamples() >= 2, "Heap should be read at the start and after each game");
+        assertEquals(1, report.trim().split("\n").length, "Only the final report is due");
+        assertTrue(report.contains(runner.getGamesPlayed() + " games"), report);
+        assertTrue(report.contains("p99"), report);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SoakStats class.
+ * Tests the frame time percentiles and heap trend reported by long unattended runs.
+ * Automated: recordTime(), getPercentileMillis(), getMaxMillis(), getMeanMillis(), sampleHeap(), getHeapGrowthPerHour()
+ */
+@DisplayName("SoakStats Tests")
+public class SoakStatsTest {
+
+    //Test #1: percentiles come from the histogram, rounded up to a bucket
+    @Test
+    @DisplayName("Percentiles and maximum of recorded times")
+    public void testPercentiles() {
+        SoakStats stats = new SoakStats();
+        assertEquals(0, stats.getPercentileMillis(99), "No times should read as zero");
+
+        // 1 ms to 100 ms, one of each.
+        for (int millis = 1; millis <= 100; millis++) {
+            stats.recordTime(millis * 1_000_000L);
+        }
+        assertEquals(100, stats.getCount());
+        assertEquals(50.5, stats.getMeanMillis(), 1e-9);
+        assertEquals(50, stats.getPercentileMillis(50), SoakStats.BUCKET_MICROS / 1000.0);
+        assertEquals(99, stats.getPercentileMillis(99), SoakStats.BUCKET_MICROS / 1000.0);
+        assertEquals(100, stats.getPercentileMillis(100), 1e-9);
+        assertEquals(100, stats.getMaxMillis(), 1e-9);
+    }
+
+    //Test #2: times past the histogram still count and keep their exact maximum
+    @Test
+    @DisplayName("Very slow times are kept as the maximum")
+    public void testSlowTimes() {
+        SoakStats stats = new SoakStats();
+        for (int i = 0; i < 99; i++) {
+            stats.recordTime(2_000_000L);
+        }
+        stats.recordTime(2_000_000_000L);
+
+        assertEquals(2, stats.getPercentileMillis(99), SoakStats.BUCKET_MICROS / 1000.0);
+        assertEquals(2000, stats.getPercentileMillis(100), 1e-9);
+        assertEquals(2000, stats.getMaxMillis(), 1e-9);
+    }
+
+    //Test #3: the heap trend is the slope through noisy readings
+    @Test
+    @DisplayName("Heap growth per hour is the trend of the readings")
+    public void testHeapTrend() {
+        SoakStats flat = new SoakStats();
+        flat.sampleHeap(0, 100_000_000L);
+        assertEquals(0, flat.getHeapGrowthPerHour(), "One reading has no trend");
+        for (int minute = 1; minute <= 120; minute++) {
+            // Garbage collections make the heap saw up and down around the same level.
+            flat.sampleHeap(minute * 60, 100_000_000L + (minute % 2 == 0 ? 20_000_000L : -20_000_000L));
+        }
+        assertEquals(0, flat.getHeapGrowthPerHour(), 1_000_000, "Sawing heap should not look like a leak");
+
+        SoakStats leaking = new SoakStats();
+        for (int minute = 0; minute <= 120; minute++) {
+            leaking.sampleHeap(minute * 60, 100_000_000L + minute * 100_000L + (minute % 2 == 0 ? 20_000_000L : 0));
+        }
+        assertEquals(6_000_000, leaking.getHeapGrowthPerHour(), 100_000, "Should grow by 6 MB an hour");
+        assertEquals(121, leaking.getHeapSamples());
+        assertTrue(leaking.getPeakHeap() >= leaking.getLastHeap());
+    }
+}
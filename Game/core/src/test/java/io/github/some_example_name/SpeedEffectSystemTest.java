@@ -0,0 +1,86 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SpeedEffectSystem class.
+ * Tests speed effects starting when triggered, running out, and combining into one multiplier.
+ * Automated: processEntity(), expired(), getSpeedMultiplier()
+ */
+@DisplayName("SpeedEffectSystem Tests")
+public class SpeedEffectSystemTest {
+    private final TimerWheel timers = new TimerWheel();
+
+    // Effects run out on the wheel, so it is moved on with the engine.
+    private void update(PooledEngine engine, float seconds) {
+        engine.update(seconds);
+        timers.advance(seconds);
+    }
+
+    //Test #1: an effect starts when fired and runs out after its duration
+    @Test
+    @DisplayName("Effect runs for its duration once triggered")
+    public void testEffectDuration() {
+        PooledEngine engine = new PooledEngine();
+        SpeedEffectSystem system = new SpeedEffectSystem(timers);
+        engine.addSystem(system);
+        TriggerComponent trigger = addEffect(engine, 2f, 10f);
+
+        update(engine, 1f);
+        assertEquals(1f, system.getSpeedMultiplier(), "Effect should wait for its trigger");
+
+        trigger.fired = true;
+        update(engine, 1f);
+        trigger.fired = false;
+        assertEquals(2f, system.getSpeedMultiplier());
+
+        update(engine, 8.5f);
+        assertEquals(2f, system.getSpeedMultiplier());
+        update(engine, 0.5f);
+        assertEquals(1f, system.getSpeedMultiplier(), "Effect should run out after 10 seconds");
+    }
+
+    //Test #2: slowing effects win over boosts, and the biggest boost applies otherwise
+    @Test
+    @DisplayName("Slow downs outweigh boosts")
+    public void testCombining() {
+        PooledEngine engine = new PooledEngine();
+        SpeedEffectSystem system = new SpeedEffectSystem(timers);
+        engine.addSystem(system);
+        TriggerComponent boost = addEffect(engine, 2f, 10f);
+        TriggerComponent bigBoost = addEffect(engine, 3f, 10f);
+        TriggerComponent slow = addEffect(engine, 0.5f, 5f);
+
+        boost.fired = true;
+        bigBoost.fired = true;
+        update(engine, 0.1f);
+        assertEquals(3f, system.getSpeedMultiplier());
+
+        boost.fired = false;
+        bigBoost.fired = false;
+        slow.fired = true;
+        update(engine, 0.1f);
+        assertEquals(0.5f, system.getSpeedMultiplier());
+
+        slow.fired = false;
+        update(engine, 5f);
+        assertEquals(3f, system.getSpeedMultiplier(), "Boost should apply again once the slow down ends");
+    }
+
+    private static TriggerComponent addEffect(PooledEngine engine, float multiplier, float seconds) {
+        Entity entity = engine.createEntity();
+        TriggerComponent trigger = engine.createComponent(TriggerComponent.class);
+        SpeedEffectComponent effect = engine.createComponent(SpeedEffectComponent.class);
+        effect.multiplier = multiplier;
+        effect.duration = seconds;
+        entity.add(trigger);
+        entity.add(effect);
+        engine.addEntity(entity);
+        return trigger;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for StatusEffects class.
+ * Tests stacking effects into a group's time scale, timed expiry, removing one effect
+ * without undoing the others, and keeping groups apart.
+ * Automated: apply(), remove(), removeAll(), update(), getTimeScale(), setBaseTimeScale(), clear()
+ */
+@DisplayName("Status Effects Tests")
+public class StatusEffectsTest {
+
+    //Test #1: groups start at normal speed
+    @Test
+    @DisplayName("Groups start at normal speed")
+    public void testDefaults() {
+        StatusEffects effects = new StatusEffects();
+        for (StatusEffects.Group group : StatusEffects.Group.values()) {
+            assertEquals(1f, effects.getTimeScale(group), 0.0001f);
+        }
+        assertEquals(0, effects.getActiveCount());
+    }
+
+    //Test #2: effects stack multiplicatively
+    @Test
+    @DisplayName("Effects stack")
+    public void testStacking() {
+        StatusEffects effects = new StatusEffects();
+        StatusEffects.Group group = StatusEffects.Group.CHASING_DEANS;
+
+        effects.apply(group, StatusEffects.Effect.SLOW, 5f);
+        assertEquals(0.5f, effects.getTimeScale(group), 0.0001f);
+        effects.apply(group, StatusEffects.Effect.SLOW, 5f);
+        assertEquals(0.25f, effects.getTimeScale(group), 0.0001f);
+        effects.apply(group, StatusEffects.Effect.HASTE, 5f);
+        assertEquals(0.5f, effects.getTimeScale(group), 0.0001f);
+        assertEquals(2, effects.count(group, StatusEffects.Effect.SLOW));
+    }
+
+    //Test #3: removing a freeze restores the other effects rather than a fixed speed
+    @Test
+    @DisplayName("Removing a freeze keeps other effects")
+    public void testRemoveKeepsOthers() {
+        StatusEffects effects = new StatusEffects();
+        StatusEffects.Group group = StatusEffects.Group.PATROL_DEANS;
+
+        effects.apply(group, StatusEffects.Effect.SLOW, StatusEffects.PERMANENT);
+        int freeze = effects.apply(group, StatusEffects.Effect.FREEZE, StatusEffects.PERMANENT);
+        assertEquals(0f, effects.getTimeScale(group), 0.0001f);
+
+        assertTrue(effects.remove(freeze));
+        assertFalse(effects.remove(freeze), "Handles should only remove once");
+        assertFalse(effects.isActive(freeze));
+        assertEquals(0.5f, effects.getTimeScale(group), 0.0001f);
+    }
+
+    //Test #4: timed effects expire on their own
+    @Test
+    @DisplayName("Timed effects expire")
+    public void testExpiry() {
+        StatusEffects effects = new StatusEffects();
+        StatusEffects.Group group = StatusEffects.Group.CHASING_DEANS;
+        int shortFreeze = effects.apply(group, StatusEffects.Effect.FREEZE, 1f);
+        int longSlow = effects.apply(group, StatusEffects.Effect.SLOW, 3f);
+        int forever = effects.apply(group, StatusEffects.Effect.HASTE, StatusEffects.PERMANENT);
+
+        effects.update(0.5f);
+        assertTrue(effects.isActive(shortFreeze));
+        assertEquals(0.5f, effects.getRemaining(shortFreeze), 0.0001f);
+
+        effects.update(0.5f);
+        assertFalse(effects.isActive(shortFreeze));
+        assertEquals(1f, effects.getTimeScale(group), 0.0001f, "Slow and haste should cancel out");
+
+        effects.update(2f);
+        assertFalse(effects.isActive(longSlow));
+        assertTrue(effects.isActive(forever));
+        assertEquals(StatusEffects.PERMANENT, effects.getRemaining(forever));
+        assertEquals(2f, effects.getTimeScale(group), 0.0001f);
+    }
+
+    //Test #5: effects only touch their own group
+    @Test
+    @DisplayName("Groups are independent")
+    public void testGroupsIndependent() {
+        StatusEffects effects = new StatusEffects();
+        effects.apply(StatusEffects.Group.CHASING_DEANS, StatusEffects.Effect.FREEZE, 10f);
+        effects.apply(StatusEffects.Group.PATROL_DEANS, StatusEffects.Effect.FREEZE, 10f);
+
+        assertEquals(1f, effects.getTimeScale(StatusEffects.Group.PLAYER), 0.0001f);
+        assertEquals(1, effects.removeAll(StatusEffects.Group.CHASING_DEANS, StatusEffects.Effect.FREEZE));
+        assertEquals(1f, effects.getTimeScale(StatusEffects.Group.CHASING_DEANS), 0.0001f);
+        assertEquals(0f, effects.getTimeScale(StatusEffects.Group.PATROL_DEANS), 0.0001f);
+    }
+
+    //Test #6: base scale multiplies with effects and survives clear
+    @Test
+    @DisplayName("Base time scale combines with effects")
+    public void testBaseScale() {
+        StatusEffects effects = new StatusEffects();
+        StatusEffects.Group group = StatusEffects.Group.PLAYER;
+        effects.setBaseTimeScale(group, 0.8f);
+        effects.apply(group, StatusEffects.Effect.HASTE, 1f);
+        assertEquals(1.6f, effects.getTimeScale(group), 0.0001f);
+
+        effects.clear();
+        assertEquals(0, effects.getActiveCount());
+        assertEquals(0.8f, effects.getTimeScale(group), 0.0001f);
+        assertThrows(IllegalArgumentException.class, () -> effects.setBaseTimeScale(group, -1f));
+    }
+
+    //Test #7: invalid durations are rejected and the store grows past its first block
+    @Test
+    @DisplayName("Durations are validated and storage grows")
+    public void testValidationAndGrowth() {
+        StatusEffects effects = new StatusEffects();
+        assertThrows(IllegalArgumentException.class,
+            () -> effects.apply(StatusEffects.Group.PLAYER, StatusEffects.Effect.SLOW, 0f));
+        assertThrows(IllegalArgumentException.class,
+            () -> effects.apply(StatusEffects.Group.PLAYER, StatusEffects.Effect.SLOW, Float.NaN));
+        assertFalse(effects.isActive(StatusEffects.NO_EFFECT));
+
+        for (int i = 0; i < 20; i++) {
+            effects.apply(StatusEffects.Group.PLAYER, StatusEffects.Effect.HASTE, i + 1f);
+        }
+        assertEquals(20, effects.getActiveCount());
+        effects.update(10.5f);
+        assertEquals(10, effects.getActiveCount());
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for TeleportSystem class.
+ * Tests the countdown text, the teleport landing on a destination, and the seeded choice.
+ * Automated: processEntity(), expired()
+ */
+@DisplayName("TeleportSystem Tests")
+public class TeleportSystemTest extends TestHelper {
+
+    private static final float[] DESTINATIONS = {10, 20, 30, 40, 50, 60};
+
+    private final TimerWheel timers = new TimerWheel();
+
+    // The countdown runs on the wheel, so it is moved on with the engine.
+    private void update(PooledEngine engine, float seconds) {
+        engine.update(seconds);
+        timers.advance(seconds);
+    }
+
+    //Test #1: the countdown is shown, then the player lands on a destination
+    @Test
+    @DisplayName("Countdown then teleport to a destination")
+    public void testCountdown() {
+        Player player = new Player(100, 200);
+        PooledEngine engine = new PooledEngine();
+        engine.addSystem(new TeleportSystem(player, new RandomXS128(5), timers));
+        Entity entity = addTeleport(engine);
+        TriggerComponent trigger = entity.getComponent(TriggerComponent.class);
+        MessageComponent message = entity.getComponent(MessageComponent.class);
+
+        update(engine, 1f);
+        assertNull(message.text, "Countdown should wait for its trigger");
+
+        trigger.fired = true;
+        update(engine, 0.5f);
+        trigger.fired = false;
+        assertEquals("3..", message.text);
+        update(engine, 0.5f);
+        assertEquals("2..", message.text);
+        update(engine, 0.8f);
+        assertEquals("1..", message.text);
+        update(engine, 0.8f);
+        assertEquals("Teleporting...", message.text);
+        assertEquals(new Vector2(100, 200), player.getPosition());
+
+        update(engine, 1f);
+        assertEquals("Byeeeee....", message.text);
+        assertTrue(entity.getComponent(TeleportComponent.class).happened);
+        Vector2 landed = player.getPosition();
+        boolean onDestination = false;
+        for (int i = 0; i < DESTINATIONS.length; i += 2) {
+            onDestination |= landed.epsilonEquals(DESTINATIONS[i], DESTINATIONS[i + 1]);
+        }
+        assertTrue(onDestination, "Player should land on a destination, not " + landed);
+    }
+
+    //Test #2: the same seed picks the same destination
+    @Test
+    @DisplayName("Seeded destination is repeatable")
+    public void testSeeded() {
+        Vector2 first = teleportWithSeed(42L);
+        Vector2 second = teleportWithSeed(42L);
+        assertEquals(first, second);
+    }
+
+    private Vector2 teleportWithSeed(long seed) {
+        Player player = new Player(100, 200);
+        PooledEngine engine = new PooledEngine();
+        engine.addSystem(new TeleportSystem(player, new RandomXS128(seed), timers));
+        addTeleport(engine).getComponent(TriggerComponent.class).fired = true;
+        update(engine, 5f);
+        return new Vector2(player.getPosition());
+    }
+
+    private static Entity addTeleport(PooledEngine engine) {
+        Entity entity = engine.createEntity();
+        TeleportComponent teleport = engine.createComponent(TeleportComponent.class);
+        teleport.delay = 3.6f;
+        teleport.destinations = DESTINATIONS;
+        entity.add(engine.createComponent(TriggerComponent.class));
+        entity.add(teleport);
+        entity.add(engine.createComponent(MessageComponent.class));
+        engine.addEntity(entity);
+        return entity;
+    }
+}
@@ -1,173 +1,158 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Graphics;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
- * Test suite for Teleport class.
- * Tests teleport event creation, countdown mechanics, random position selection, and usage of one item
- * Test coverage:62%
- * Coverage justification: Countdown visual display and texture rendering only testable visually
+ * Test suite for the lab equipment teleport, spawned from {@link EventDefinition#LAB_EQUIPMENT}.
+ * Tests the countdown starting when the player walks onto the equipment, counting down
+ * over 3.6 seconds, the player landing on one of the safe spots, and the teleport only
+ * happening once.
+ * Automated: MapEvents.spawn(), update() and the equipment's trigger, teleport and message
+ * Manual testing required: the countdown drawn above the equipment in game
  */
 @DisplayName("Teleport Tests")
 public class TeleportTest extends TestHelper {
 
-    //Test #1: instance created with GameScreen reference
-    @Test
-    @DisplayName("Instance created with GameScreen")
-    public void testInstanceCreation() {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Teleport tp = new Teleport(100, 200, mockScreen);
-        assertNotNull(tp);
-    }
+    private static final float FRAME = 0.016f;
 
-    //Test #2: teleport not happened initially
-    @Test
-    @DisplayName("Teleport not happened initially")
-    public void testTeleportNotHappenedInitially() {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Teleport tp = new Teleport(100, 200, mockScreen);
-        assertFalse(tp.teleportHappened());
-    }
+    private GameTimer timer;
 
-    //Test #3: multiple teleport instances can exist
-    @Test
-    @DisplayName("Multiple teleports can exist")
-    public void testMultipleTeleports() {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Teleport tp1 = new Teleport(100, 100, mockScreen);
-        Teleport tp2 = new Teleport(300, 300, mockScreen);
-
-        assertNotSame(tp1, tp2);
-        assertFalse(tp1.teleportHappened());
-        assertFalse(tp2.teleportHappened());
+    @BeforeEach
+    public void setUpInput() {
+        Gdx.input = mock(Input.class);
+        timer = mock(GameTimer.class);
     }
 
-    //Test #4: player collision starts countdown
+    //Test #1: several pieces of equipment can be spawned, and none has teleported anyone yet
     @Test
-    @DisplayName("Player collision triggers teleport countdown")
-    public void testPlayerCollisionStartsCountdown() {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Graphics mockGraphics = mock(Graphics.class);
-        Gdx.graphics = mockGraphics;
-
-        Teleport tp = new Teleport(100, 200, mockScreen);
-        Player player = new Player(100, 200);
-
-        when(mockGraphics.getDeltaTime()).thenReturn(0.016f);
-
-        tp.update(player, 0.016f);
-
-        assertFalse(tp.teleportHappened());
-    }
-
-    //Test #5: teleport happens after 3.6s countdown
-    @Test
-    @DisplayName("Teleport happens after countdown completes")
-    public void testTeleportAfterCountdown() throws Exception {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Graphics mockGraphics = mock(Graphics.class);
-        Gdx.graphics = mockGraphics;
-
-        Teleport tp = new Teleport(100, 200, mockScreen);
-        Player player = new Player(100, 200);
-
-        when(mockGraphics.getDeltaTime()).thenReturn(1.0f);
-
-        java.lang.reflect.Field countdownField = Teleport.class.getDeclaredField("countdownTimer");
-        countdownField.setAccessible(true);
-        countdownField.set(tp, 3.5f);
-
-        tp.update(player, 1.0f);
-
-        Vector2 pos = player.getPosition();
-        assertNotNull(pos);
+    @DisplayName("Teleport not happened initially")
+    public void testNotHappenedInitially() {
+        MapEvents events = new MapEvents(new Player(1000, 1000), timer, null);
+        Entity first = events.spawn(EventDefinition.LAB_EQUIPMENT, 100, 100);
+        Entity second = events.spawn(EventDefinition.LAB_EQUIPMENT, 300, 300);
+
+        assertNotSame(first, second);
+        assertFalse(first.getComponent(TeleportComponent.class).happened);
+        assertFalse(second.getComponent(TeleportComponent.class).happened);
+        assertEquals(0, events.countTriggered(EventCategory.HIDDEN));
+        events.dispose();
     }
 
-    //Test #6: distant player does not activate teleport
+    //Test #2: a player away from the equipment starts no countdown
     @Test
     @DisplayName("Player far from teleport no activation")
     public void testPlayerFarAway() {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Teleport tp = new Teleport(100, 200, mockScreen);
         Player player = new Player(500, 500);
+        MapEvents events = new MapEvents(player, timer, null);
+        Entity lab = events.spawn(EventDefinition.LAB_EQUIPMENT, 100, 200);
 
-        tp.update(player, 0.016f);
+        events.update(5f);
 
-        assertFalse(tp.teleportHappened());
+        assertEquals(-1, lab.getComponent(TeleportComponent.class).stage, "No countdown should start");
+        assertNull(lab.getComponent(MessageComponent.class).text);
+        assertEquals(new Vector2(500, 500), player.getPosition());
+        events.dispose();
     }
 
-    //Test #7: teleport only happens once
+    //Test #3: walking onto the equipment starts the countdown without moving the player
     @Test
-    @DisplayName("Teleport only happens once")
-    public void testTeleportOnlyOnce() throws Exception {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Graphics mockGraphics = mock(Graphics.class);
-        Gdx.graphics = mockGraphics;
-
-        Teleport tp = new Teleport(100, 200, mockScreen);
+    @DisplayName("Player collision triggers teleport countdown")
+    public void testCollisionStartsCountdown() {
         Player player = new Player(100, 200);
+        MapEvents events = new MapEvents(player, timer, null);
+        Entity lab = events.spawn(EventDefinition.LAB_EQUIPMENT, 100, 200);
 
-        when(mockGraphics.getDeltaTime()).thenReturn(1.0f);
+        events.update(FRAME);
 
-        java.lang.reflect.Field happenedField = Teleport.class.getDeclaredField("teleportHappened");
-        happenedField.setAccessible(true);
-        happenedField.set(tp, true);
-
-        //Vector2 initialPos = new Vector2(player.getPosition()); unnecessary
-
-        tp.update(player, 1.0f);
-
-        assertTrue(tp.teleportHappened());
+        assertEquals(0, lab.getComponent(TeleportComponent.class).stage);
+        assertTrue(lab.getComponent(MessageComponent.class).showing);
+        assertFalse(lab.getComponent(TeleportComponent.class).happened);
+        assertEquals(new Vector2(100, 200), player.getPosition());
+        events.dispose();
     }
 
-    //Test #8: countdown timer increments correctly
+    //Test #4: the countdown moves on every 0.8 seconds and the teleport follows at 3.6 seconds
     @Test
-    @DisplayName("Countdown timer increments correctly")
-    public void testCountdownIncrement() throws Exception {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Graphics mockGraphics = mock(Graphics.class);
-        Gdx.graphics = mockGraphics;
-
-        Teleport tp = new Teleport(100, 200, mockScreen);
+    @DisplayName("Countdown counts down, then teleports")
+    public void testCountdownThenTeleport() {
         Player player = new Player(100, 200);
-
-        when(mockGraphics.getDeltaTime()).thenReturn(1.0f);
-
-        java.lang.reflect.Field showField = Teleport.class.getDeclaredField("showMessage");
-        showField.setAccessible(true);
-        showField.set(tp, true);
-
-        java.lang.reflect.Field countdownField = Teleport.class.getDeclaredField("countdownTimer");
-        countdownField.setAccessible(true);
-
-        float initialCountdown = countdownField.getFloat(tp);
-
-        tp.update(player, 1.0f);
-
-        float newCountdown = countdownField.getFloat(tp);
-        assertTrue(newCountdown >= initialCountdown, "Countdown should increment");
+        MapEvents events = new MapEvents(player, timer, null);
+        Entity lab = events.spawn(EventDefinition.LAB_EQUIPMENT, 100, 200);
+        MessageComponent message = lab.getComponent(MessageComponent.class);
+
+        events.update(FRAME);
+        assertEquals("3..", message.text);
+        events.update(0.8f);
+        assertEquals("2..", message.text);
+        events.update(0.8f);
+        assertEquals("1..", message.text);
+        events.update(0.8f);
+        assertEquals("Teleporting...", message.text);
+        assertEquals(new Vector2(100, 200), player.getPosition(), "Player should not move before 3.6 seconds");
+
+        events.update(1.2f);
+        assertTrue(lab.getComponent(TeleportComponent.class).happened);
+        assertEquals("Byeeeee....", message.text);
+        assertTrue(isSafeSpot(player.getPosition()), "Player should land on a safe spot, not " + player.getPosition());
+        events.dispose();
     }
 
-    //Test #9: random safe position is valid
+    //Test #5: standing on the equipment again after a teleport does nothing
     @Test
-    @DisplayName("Random safe position selected")
-    public void testRandomSafePosition() throws Exception {
-        GameScreen mockScreen = mock(GameScreen.class);
-        Teleport tp = new Teleport(100, 200, mockScreen);
-
-        java.lang.reflect.Method method = Teleport.class.getDeclaredMethod("getRandomSafePosition");
-        method.setAccessible(true);
+    @DisplayName("Teleport only happens once")
+    public void testTeleportOnlyOnce() {
+        Player player = new Player(100, 200);
+        MapEvents events = new MapEvents(player, timer, new RandomStreams(7));
+        Entity lab = events.spawn(EventDefinition.LAB_EQUIPMENT, 100, 200);
+        events.update(FRAME);
+        events.update(4f);
+        assertTrue(lab.getComponent(TeleportComponent.class).happened);
+
+        player.getPosition().set(100, 200);
+        events.update(FRAME);
+        events.update(5f);
+
+        assertEquals(new Vector2(100, 200), player.getPosition(), "Teleport should only happen once");
+        assertEquals(1, events.countTriggered(EventCategory.HIDDEN));
+        events.dispose();
+    }
 
-        Vector2 pos = (Vector2) method.invoke(tp);
+    //Test #6: every destination the equipment can pick is a safe spot on the map
+    @Test
+    @DisplayName("Random safe position is valid")
+    public void testSafePositions() {
+        float[] spots = EventDefinition.SAFE_SPOTS;
+        assertEquals(0, spots.length % 2, "Safe spots should be x, y pairs");
+        for (int i = 0; i < spots.length; i++) {
+            assertTrue(spots[i] >= 0, "Safe spots should be on the map");
+        }
+        for (long seed = 0; seed < 20; seed++) {
+            Player player = new Player(100, 200);
+            MapEvents events = new MapEvents(player, timer, new RandomStreams(seed));
+            events.spawn(EventDefinition.LAB_EQUIPMENT, 100, 200);
+            events.update(FRAME);
+            events.update(4f);
+            assertTrue(isSafeSpot(player.getPosition()), "Seed " + seed + " landed on " + player.getPosition());
+            events.dispose();
+        }
+    }
 
-        assertNotNull(pos);
-        assertTrue(pos.x >= 0 && pos.y >= 0);
+    private static boolean isSafeSpot(Vector2 position) {
+        float[] spots = EventDefinition.SAFE_SPOTS;
+        for (int i = 0; i < spots.length; i += 2) {
+            if (position.epsilonEquals(spots[i], spots[i + 1])) {
+                return true;
+            }
+        }
+        return false;
     }
 }
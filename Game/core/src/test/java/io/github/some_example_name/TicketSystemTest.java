@@ -0,0 +1,99 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for TicketSystem class.
+ * Tests tickets being seen within reach, picked up with the interact press, and the
+ * pickup being posted once.
+ * Automated: processEntity(), setActions(), setGameEvents()
+ */
+@DisplayName("TicketSystem Tests")
+public class TicketSystemTest {
+    private final InputActions actions = new InputActions();
+    private final GameEvents gameEvents = new GameEvents();
+    private final Player player = new Player(500, 500, false);
+
+    //Test #1: a ticket out of reach stays hidden, and is seen once the player comes within reach
+    @Test
+    @DisplayName("Ticket is seen within reach")
+    public void testSeenWithinReach() {
+        Engine engine = engineWithSystem();
+        BusTicket ticket = new BusTicket(100, 100, false);
+        engine.addEntity(ticket.getEntity());
+        TicketComponent state = ticket.getEntity().getComponent(TicketComponent.class);
+
+        engine.update(1f);
+        assertFalse(state.discovered);
+        assertFalse(ticket.isInReach());
+
+        player.getPosition().set(110, 110);
+        engine.update(1f);
+        assertTrue(state.discovered);
+        assertTrue(ticket.isInReach());
+        assertFalse(ticket.isCollected(), "Seeing the ticket should not pick it up");
+
+        player.getPosition().set(500, 500);
+        engine.update(1f);
+        assertTrue(state.discovered, "A ticket stays seen once found");
+        assertFalse(ticket.isInReach());
+    }
+
+    //Test #2: pressing interact in reach picks the ticket up and posts it once
+    @Test
+    @DisplayName("Interact picks the ticket up")
+    public void testPickedUp() {
+        Engine engine = engineWithSystem();
+        BusTicket ticket = new BusTicket(100, 100, false);
+        engine.addEntity(ticket.getEntity());
+        int[] posted = new int[1];
+        gameEvents.subscribe(GameEvent.Type.TICKET_COLLECTED, event -> posted[0]++);
+        player.getPosition().set(100, 100);
+
+        actions.update();
+        engine.update(1f);
+        actions.keyDown(Input.Keys.E);
+        actions.update();
+        engine.update(1f);
+        assertTrue(ticket.isCollected());
+        assertFalse(ticket.isInReach());
+
+        actions.keyUp(Input.Keys.E);
+        actions.update();
+        engine.update(1f);
+        assertEquals(1, posted[0], "The pickup should be posted once");
+        assertFalse(ticket.isInReach(), "A held ticket is no longer in reach");
+    }
+
+    //Test #3: an interact press out of reach picks nothing up
+    @Test
+    @DisplayName("Interact out of reach does nothing")
+    public void testOutOfReach() {
+        Engine engine = engineWithSystem();
+        BusTicket ticket = new BusTicket(100, 100, false);
+        engine.addEntity(ticket.getEntity());
+        player.getPosition().set(100 + GameSession.TICKET_REACH, 100);
+
+        actions.keyDown(Input.Keys.E);
+        actions.update();
+        engine.update(1f);
+
+        assertFalse(ticket.isCollected());
+        assertFalse(ticket.isInReach());
+    }
+
+    private Engine engineWithSystem() {
+        TicketSystem system = new TicketSystem(player, GameSession.TICKET_REACH);
+        system.setActions(actions);
+        system.setGameEvents(gameEvents);
+        Engine engine = new Engine();
+        engine.addSystem(system);
+        return engine;
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.RandomXS128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for TimerWheel class.
+ * Tests timers expiring on exactly their tick at every level of the wheel, cancelling,
+ * handles going stale once a timer is done, moving the clock on in seconds, and the
+ * simulation's effects stopping with its clock.
+ * Automated: schedule(), scheduleTicks(), cancel(), isActive(), getRemaining(), advance(),
+ * tick(), clear(), and StatusEffects on a shared wheel
+ */
+@DisplayName("TimerWheel Tests")
+public class TimerWheelTest extends TestHelper {
+
+    //Test #1: timers due on the same tick expire in the order they were scheduled
+    @Test
+    @DisplayName("Timers expire on their tick, in order")
+    public void testExpiryOrder() {
+        TimerWheel timers = new TimerWheel();
+        List<String> expired = new ArrayList<>();
+        TimerWheel.Listener listener = (timer, subject) -> expired.add(timers.getTickCount() + " " + subject);
+        timers.scheduleTicks(3, listener, "b");
+        timers.scheduleTicks(1, listener, "a");
+        timers.scheduleTicks(3, listener, "c");
+
+        timers.tick();
+        assertEquals(List.of("1 a"), expired);
+        timers.tick();
+        assertEquals(1, expired.size(), "Nothing is due on tick 2");
+        timers.tick();
+        assertEquals(List.of("1 a", "3 b", "3 c"), expired);
+        assertEquals(0, timers.getActiveCount());
+    }
+
+    //Test #2: timers far enough off to sit in every level of the wheel, and past its end, expire on time
+    @Test
+    @DisplayName("Long timers expire on exactly their tick")
+    public void testLevels() {
+        TimerWheel timers = new TimerWheel();
+        RandomXS128 random = new RandomXS128(7);
+        List<Long> late = new ArrayList<>();
+        TimerWheel.Listener listener = (timer, subject) -> {
+            long due = ((long[]) subject)[0];
+            if (due != timers.getTickCount()) {
+                late.add(due);
+            }
+        };
+        int[] lengths = {1, 63, 64, 65, 4095, 4096, 4097, 262143, 262144, 262145, 16777215, 16777216, 16777300};
+        for (int length : lengths) {
+            timers.scheduleTicks(length, listener, new long[] {length});
+        }
+        for (int i = 0; i < 500; i++) {
+            // Scheduled part way through, so their slots do not line up with the wheel.
+            for (int skip = random.nextInt(50); skip > 0; skip--) {
+                timers.tick();
+            }
+            int length = 1 + random.nextInt(300000);
+            timers.scheduleTicks(length, listener, new long[] {timers.getTickCount() + length});
+        }
+
+        while (timers.getActiveCount() > 0) {
+            timers.tick();
+        }
+        assertEquals(List.of(), late, "Every timer should expire on its own tick");
+        assertEquals(16777300, timers.getTickCount());
+    }
+
+    //Test #3: cancelled and expired timers are gone, and their handles do not come back
+    @Test
+    @DisplayName("Cancelled timers do not expire and handles go stale")
+    public void testCancel() {
+        TimerWheel timers = new TimerWheel();
+        int[] calls = {0};
+        TimerWheel.Listener listener = (timer, subject) -> calls[0]++;
+        int cancelled = timers.scheduleTicks(5, listener, null);
+        int kept = timers.scheduleTicks(5, listener, null);
+
+        assertTrue(timers.cancel(cancelled));
+        assertFalse(timers.cancel(cancelled), "Timers should only cancel once");
+        assertFalse(timers.isActive(cancelled));
+        int reused = timers.scheduleTicks(2, listener, null);
+        assertNotEquals(cancelled, reused, "A reused timer should get a new handle");
+        assertFalse(timers.isActive(cancelled));
+        assertFalse(timers.isActive(TimerWheel.NO_TIMER));
+
+        for (int i = 0; i < 5; i++) {
+            timers.tick();
+        }
+        assertEquals(2, calls[0]);
+        assertFalse(timers.isActive(kept));
+        assertEquals(0f, timers.getRemaining(kept));
+
+        timers.scheduleTicks(1, listener, null);
+        timers.clear();
+        timers.tick();
+        assertEquals(2, calls[0], "Cleared timers should not expire");
+    }
+
+    //Test #4: the clock is moved on in seconds, carrying parts of a tick over
+    @Test
+    @DisplayName("Seconds are rounded to ticks and carried over")
+    public void testSeconds() {
+        TimerWheel timers = new TimerWheel(0.1f);
+        int timer = timers.schedule(1f, (t, subject) -> {}, null);
+        assertEquals(10, timers.getRemainingTicks(timer), "1 second should be exactly 10 ticks");
+
+        timers.advance(0.25f);
+        assertEquals(2, timers.getTickCount());
+        timers.advance(0.05f);
+        assertEquals(3, timers.getTickCount(), "Parts of a tick should add up");
+        assertEquals(0.7f, timers.getRemaining(timer), 1e-5f);
+        timers.advance(0.7f);
+        assertFalse(timers.isActive(timer));
+
+        assertEquals(1, timers.getRemainingTicks(timers.schedule(0.01f, (t, subject) -> {}, null)),
+            "Less than a tick should round up to one");
+        assertThrows(IllegalArgumentException.class, () -> timers.schedule(0f, (t, subject) -> {}, null));
+        assertThrows(IllegalArgumentException.class, () -> timers.schedule(StatusEffects.PERMANENT, (t, subject) -> {}, null));
+    }
+
+    //Test #5: a listener can start and cancel timers while the wheel is telling it one expired
+    @Test
+    @DisplayName("Timers can be rescheduled from a listener")
+    public void testRescheduleFromListener() {
+        TimerWheel timers = new TimerWheel();
+        int[] repeats = {0};
+        int[] other = new int[1];
+        TimerWheel.Listener listener = new TimerWheel.Listener() {
+            @Override
+            public void expired(int timer, Object subject) {
+                repeats[0]++;
+                timers.cancel(other[0]);
+                if (repeats[0] < 4) {
+                    timers.scheduleTicks(30, this, null);
+                }
+            }
+        };
+        timers.scheduleTicks(30, listener, null);
+        other[0] = timers.scheduleTicks(30, (timer, subject) -> fail("Cancelled on the same tick"), null);
+
+        for (int i = 0; i < 200; i++) {
+            timers.tick();
+        }
+        assertEquals(4, repeats[0]);
+        assertEquals(0, timers.getActiveCount());
+    }
+
+    //Test #6: the simulation's effects run on its clock, so they stop whenever it does
+    @Test
+    @DisplayName("Effects stop with the simulation's clock")
+    public void testSimulationClock() {
+        Simulation simulation = Simulation.createHeadless(new ScriptedInput(), 3L);
+        int freeze = simulation.freezeAllDeans(1f);
+        TimerWheel timers = simulation.getTimers();
+        assertTrue(timers.getActiveCount() >= 2, "Both freezes should be timers on the wheel");
+
+        simulation.run(59);
+        assertTrue(simulation.getStatusEffects().isActive(freeze));
+        // Nothing moves the wheel while the simulation is not ticked, such as while paused.
+        assertEquals(1f / 60f, simulation.getStatusEffects().getRemaining(freeze), 1e-5f);
+        simulation.run(1);
+        assertFalse(simulation.getStatusEffects().isActive(freeze), "The freeze should end on its 60th tick");
+        assertThrows(IllegalStateException.class, () -> simulation.getStatusEffects().update(1f),
+            "Effects on a shared wheel should only be moved on by its owner");
+        simulation.dispose();
+    }
+}
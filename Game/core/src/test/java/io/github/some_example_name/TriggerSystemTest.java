@@ -0,0 +1,88 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for TriggerSystem class.
+ * Tests touch and interact triggers going off, firing for a single update, only going
+ * off again when allowed to, and being added to and taken out of the trigger volumes.
+ * Automated: update(), entityAdded(), entityRemoved(), enter(), stay()
+ */
+@DisplayName("TriggerSystem Tests")
+public class TriggerSystemTest extends TestHelper {
+
+    //Test #1: a touch trigger fires for one update, then stays triggered
+    @Test
+    @DisplayName("Touch trigger fires once when the player overlaps it")
+    public void testTouchTrigger() {
+        Player player = new Player(500, 500);
+        PooledEngine engine = new PooledEngine();
+        TriggerVolumes volumes = new TriggerVolumes();
+        engine.addSystem(new TriggerSystem(player, volumes));
+        TriggerComponent trigger = engine.createComponent(TriggerComponent.class);
+        trigger.bounds.set(100, 200, 32, 32);
+        addTrigger(engine, trigger, 100, 200);
+
+        engine.update(0.016f);
+        assertFalse(trigger.fired);
+
+        player.getPosition().set(120, 220);
+        engine.update(0.016f);
+        assertTrue(trigger.fired);
+        assertTrue(trigger.triggered);
+
+        engine.update(0.016f);
+        assertFalse(trigger.fired, "Should only fire on the update it went off");
+        assertTrue(trigger.triggered);
+        assertTrue(volumes.isAsleep(trigger.volume), "Fired one shot trigger should sleep");
+    }
+
+    //Test #2: a repeatable interact trigger fires on every E press within range
+    @Test
+    @DisplayName("Repeatable interact trigger fires on each E press in range")
+    public void testRepeatableInteract() {
+        Input input = mock(Input.class);
+        Gdx.input = input;
+        Player player = new Player(100, 230);
+        PooledEngine engine = new PooledEngine();
+        TriggerVolumes volumes = new TriggerVolumes();
+        engine.addSystem(new TriggerSystem(player, volumes));
+        TriggerComponent trigger = engine.createComponent(TriggerComponent.class);
+        trigger.interact = true;
+        trigger.range = 50f;
+        trigger.once = false;
+        Entity entity = addTrigger(engine, trigger, 100, 200);
+
+        when(input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+        engine.update(0.016f);
+        assertTrue(trigger.fired);
+        engine.update(0.016f);
+        assertTrue(trigger.fired, "Should fire again while allowed to repeat");
+
+        player.getPosition().set(100, 300);
+        engine.update(0.016f);
+        assertFalse(trigger.fired, "Should not fire out of range");
+
+        int volume = trigger.volume;
+        engine.removeEntity(entity);
+        assertTrue(volumes.isAsleep(volume), "Removed entity's trigger should leave the index");
+    }
+
+    private static Entity addTrigger(PooledEngine engine, TriggerComponent trigger, float x, float y) {
+        Entity entity = engine.createEntity();
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.position.set(x, y);
+        entity.add(position);
+        entity.add(trigger);
+        engine.addEntity(entity);
+        return entity;
+    }
+}
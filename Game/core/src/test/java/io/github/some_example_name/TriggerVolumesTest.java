@@ -0,0 +1,155 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for TriggerVolumes class.
+ * Tests enter, stay and exit callbacks as the player's box moves, one shot volumes
+ * sleeping, and only the volumes around the player being looked at.
+ * Automated: add(), update(), sleep(), wake(), isInside(), isAsleep(), countNear(), clear()
+ */
+@DisplayName("TriggerVolumes Tests")
+public class TriggerVolumesTest {
+
+    /** Writes each callback down as a letter and the volume's handle, such as "e0". */
+    private static final class Recorder implements TriggerVolumes.Listener {
+        final StringBuilder calls = new StringBuilder();
+
+        @Override
+        public void enter(int volume) {
+            calls.append('e').append(volume).append(' ');
+        }
+
+        @Override
+        public void stay(int volume) {
+            calls.append('s').append(volume).append(' ');
+        }
+
+        @Override
+        public void exit(int volume) {
+            calls.append('x').append(volume).append(' ');
+        }
+
+        String take() {
+            String text = calls.toString().trim();
+            calls.setLength(0);
+            return text;
+        }
+    }
+
+    //Test #1: walking into, through and out of a volume calls enter, stay and exit in turn
+    @Test
+    @DisplayName("Enter, stay and exit follow the player")
+    public void testEnterStayExit() {
+        TriggerVolumes volumes = new TriggerVolumes();
+        Recorder recorder = new Recorder();
+        int water = volumes.add(new Rectangle(100, 100, 100, 20), false, recorder);
+
+        volumes.update(50, 105, 16, 16);
+        assertEquals("", recorder.take());
+
+        volumes.update(90, 105, 16, 16);
+        assertEquals("e0", recorder.take());
+        assertTrue(volumes.isInside(water));
+
+        // Crossing into the next grid cell is still inside the same volume.
+        volumes.update(130, 105, 16, 16);
+        assertEquals("s0", recorder.take());
+
+        volumes.update(130, 200, 16, 16);
+        assertEquals("x0", recorder.take());
+        assertFalse(volumes.isInside(water));
+
+        volumes.update(130, 105, 16, 16);
+        assertEquals("e0", recorder.take(), "Volume should be entered again");
+    }
+
+    //Test #2: one shot volumes fire once and then sleep, and any volume can be put to sleep
+    @Test
+    @DisplayName("One shot volumes sleep after being entered")
+    public void testSleeping() {
+        TriggerVolumes volumes = new TriggerVolumes();
+        Recorder recorder = new Recorder();
+        int bush = volumes.add(new Rectangle(0, 0, 32, 32), true, recorder);
+        int quiz = volumes.add(new Rectangle(0, 0, 32, 32), false, recorder);
+
+        volumes.update(8, 8, 16, 16);
+        assertEquals("e0 e1", recorder.take());
+        assertTrue(volumes.isAsleep(bush));
+        assertFalse(volumes.isInside(bush));
+        assertEquals(1, volumes.countNear(8, 8), "Sleeping volume should leave the grid");
+
+        volumes.update(8, 8, 16, 16);
+        assertEquals("s1", recorder.take());
+
+        volumes.sleep(quiz);
+        volumes.update(100, 100, 16, 16);
+        volumes.update(8, 8, 16, 16);
+        assertEquals("", recorder.take(), "Sleeping volumes are never called back, not even on exit");
+        assertEquals(0, volumes.countNear(8, 8));
+    }
+
+    //Test #3: distant volumes are never looked at, however many there are
+    @Test
+    @DisplayName("Only volumes around the player are checked")
+    public void testOnlyNearbyChecked() {
+        TriggerVolumes volumes = new TriggerVolumes();
+        IntArray checked = new IntArray();
+        // A listener that fails if a far volume is ever called back.
+        TriggerVolumes.Listener far = volume -> fail("Far volume " + volume + " should not be entered");
+        for (int i = 0; i < 1000; i++) {
+            volumes.add(new Rectangle(1000 + (i % 40) * 40, 1000 + (i / 40) * 40, 16, 16), false, far);
+        }
+        int near = volumes.add(new Rectangle(0, 0, 16, 16), false, checked::add);
+
+        volumes.update(4, 4, 16, 16);
+
+        assertEquals(1, checked.size);
+        assertEquals(near, checked.get(0));
+        assertEquals(1, volumes.countNear(4, 4), "Player's cell should only hold the nearby volume");
+        assertEquals(1001, volumes.size());
+
+        volumes.clear();
+        assertEquals(0, volumes.size());
+        assertEquals(0, volumes.countNear(4, 4));
+    }
+
+    //Test #4: volumes with negative coordinates are indexed in their own cells
+    @Test
+    @DisplayName("Negative coordinates are indexed")
+    public void testNegativeCoordinates() {
+        TriggerVolumes volumes = new TriggerVolumes();
+        Recorder recorder = new Recorder();
+        volumes.add(new Rectangle(-100, -100, 20, 20), false, recorder);
+
+        volumes.update(10, 10, 16, 16);
+        assertEquals("", recorder.take());
+        volumes.update(-95, -95, 16, 16);
+        assertEquals("e0", recorder.take());
+    }
+
+    //Test #5: a sleeping volume can be woken and is entered again
+    @Test
+    @DisplayName("Woken volumes are back in the index")
+    public void testWaking() {
+        TriggerVolumes volumes = new TriggerVolumes();
+        Recorder recorder = new Recorder();
+        int bush = volumes.add(new Rectangle(0, 0, 32, 32), true, recorder);
+        volumes.update(8, 8, 16, 16);
+        assertEquals("e0", recorder.take());
+        volumes.update(100, 100, 16, 16);
+
+        volumes.wake(bush);
+        volumes.wake(bush);
+        assertFalse(volumes.isAsleep(bush));
+        assertEquals(1, volumes.countNear(8, 8), "Waking twice should only index it once");
+        volumes.update(8, 8, 16, 16);
+        assertEquals("e0", recorder.take());
+        assertTrue(volumes.isAsleep(bush), "Still a one shot volume");
+    }
+}
@@ -2,9 +2,17 @@ package io.github.some_example_name.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import io.github.some_example_name.AutopilotGame;
+import io.github.some_example_name.GameScreen;
 import io.github.some_example_name.Main;
 
-/** Launches the desktop (LWJGL3) application. */
+/**
+ * Launches the desktop (LWJGL3) application. Run with <code>--autopilot</code> to let
+ * the autopilot play the game unattended, or <code>--autopilot-bus</code> for it to
+ * head straight for the bus instead of visiting every event. Add <code>--live-map</code>
+ * to draw every map tile each frame instead of baking the static layers, or
+ * <code>--cached-map</code> to keep the static tiles in a sprite cache instead.
+ */
 public class Lwjgl3Launcher {
 
     /**
@@ -13,11 +21,26 @@ public class Lwjgl3Launcher {
      */
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(args);
     }
 
-    /** Constructor for application.*/
-    private static Lwjgl3Application createApplication() {
+    /**
+     * Constructor for application.
+     * @param args Arguments for app, choosing the autopilot and how the map is drawn if asked for.
+     */
+    private static Lwjgl3Application createApplication(String[] args) {
+        for (String arg : args) {
+            if (arg.equals("--live-map")) {
+                GameScreen.setMapRendering(GameScreen.MapRendering.LIVE);
+            } else if (arg.equals("--cached-map")) {
+                GameScreen.setMapRendering(GameScreen.MapRendering.CACHED);
+            }
+        }
+        for (String arg : args) {
+            if (arg.equals("--autopilot") || arg.equals("--autopilot-bus")) {
+                return new Lwjgl3Application(new AutopilotGame(arg.equals("--autopilot")), getDefaultConfiguration());
+            }
+        }
         return new Lwjgl3Application(new Main(), getDefaultConfiguration());
     }
 